@@ -31,6 +31,7 @@ import com.dnanexus.exceptions.DXAPIException;
 import com.dnanexus.exceptions.DXHTTPException;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.google.common.util.concurrent.ListenableFuture;
 
 /**
  * Utility class containing low-level wrappers for invoking DNAnexus API methods.
@@ -99,9 +100,7 @@ class_method_template = '''
      *             the response (includes HTTP protocol errors).
      */
     public static <T> T {method_name}(Object inputObject, Class<T> outputClass) {{
-        return DXJSON.safeTreeToValue(
-                new DXHTTPRequest().request("{route}", mapper.valueToTree(inputObject), {retry_strategy}),
-                outputClass);
+        return new DXHTTPRequest().request("{route}", inputObject, outputClass, {retry_strategy});
     }}
     /**
      * Invokes the {method_name} method with the specified input using the specified environment, deserializing to an object of the specified class.{wiki_link}
@@ -120,9 +119,56 @@ class_method_template = '''
      *             the response (includes HTTP protocol errors).
      */
     public static <T> T {method_name}(Object inputObject, Class<T> outputClass, DXEnvironment env) {{
-        return DXJSON.safeTreeToValue(
-                new DXHTTPRequest(env).request("{route}", mapper.valueToTree(inputObject), {retry_strategy}),
-                outputClass);
+        return new DXHTTPRequest(env).request("{route}", inputObject, outputClass, {retry_strategy});
+    }}
+
+    /**
+     * Invokes the {method_name} method with an empty input without blocking, deserializing to an object of the specified class.{wiki_link}
+     *
+     * @param outputClass class to deserialize the server reponse to
+     *
+     * @return future that completes with the server response parsed from JSON; the future fails
+     *         with {{@link DXAPIException}} or {{@link DXHTTPException}} if the request fails
+     */
+    public static <T> ListenableFuture<T> {method_name}Async(Class<T> outputClass) {{
+        return {method_name}Async(mapper.createObjectNode(), outputClass);
+    }}
+    /**
+     * Invokes the {method_name} method with an empty input using the specified environment without blocking, deserializing to an object of the specified class.{wiki_link}
+     *
+     * @param outputClass class to deserialize the server reponse to
+     * @param env environment object specifying the auth token and remote server and protocol
+     *
+     * @return future that completes with the server response parsed from JSON; the future fails
+     *         with {{@link DXAPIException}} or {{@link DXHTTPException}} if the request fails
+     */
+    public static <T> ListenableFuture<T> {method_name}Async(Class<T> outputClass, DXEnvironment env) {{
+        return {method_name}Async(mapper.createObjectNode(), outputClass, env);
+    }}
+    /**
+     * Invokes the {method_name} method with the specified input without blocking, deserializing to an object of the specified class.{wiki_link}
+     *
+     * @param inputObject input object (to be JSON serialized to an input hash)
+     * @param outputClass class to deserialize the server reponse to
+     *
+     * @return future that completes with the server response parsed from JSON; the future fails
+     *         with {{@link DXAPIException}} or {{@link DXHTTPException}} if the request fails
+     */
+    public static <T> ListenableFuture<T> {method_name}Async(Object inputObject, Class<T> outputClass) {{
+        return new DXHTTPRequest().requestAsync("{route}", inputObject, outputClass, {retry_strategy});
+    }}
+    /**
+     * Invokes the {method_name} method with the specified input using the specified environment without blocking, deserializing to an object of the specified class.{wiki_link}
+     *
+     * @param inputObject input object (to be JSON serialized to an input hash)
+     * @param outputClass class to deserialize the server reponse to
+     * @param env environment object specifying the auth token and remote server and protocol
+     *
+     * @return future that completes with the server response parsed from JSON; the future fails
+     *         with {{@link DXAPIException}} or {{@link DXHTTPException}} if the request fails
+     */
+    public static <T> ListenableFuture<T> {method_name}Async(Object inputObject, Class<T> outputClass, DXEnvironment env) {{
+        return new DXHTTPRequest(env).requestAsync("{route}", inputObject, outputClass, {retry_strategy});
     }}
 
     /**
@@ -241,9 +287,8 @@ object_method_template = '''
      *             the response (includes HTTP protocol errors).
      */
     public static <T> T {method_name}(String objectId, Object inputObject, Class<T> outputClass) {{
-        return DXJSON.safeTreeToValue(
-                new DXHTTPRequest().request("/" + objectId + "/" + "{method_route}",
-                        mapper.valueToTree(inputObject), {retry_strategy}), outputClass);
+        return new DXHTTPRequest().request("/" + objectId + "/" + "{method_route}",
+                inputObject, outputClass, {retry_strategy});
     }}
     /**
      * Invokes the {method_name} method with an empty input using the given environment, deserializing to an object of the specified class.{wiki_link}
@@ -282,9 +327,63 @@ object_method_template = '''
      *             the response (includes HTTP protocol errors).
      */
     public static <T> T {method_name}(String objectId, Object inputObject, Class<T> outputClass, DXEnvironment env) {{
-        return DXJSON.safeTreeToValue(
-            new DXHTTPRequest(env).request("/" + objectId + "/" + "{method_route}",
-                    mapper.valueToTree(inputObject), {retry_strategy}), outputClass);
+        return new DXHTTPRequest(env).request("/" + objectId + "/" + "{method_route}",
+                inputObject, outputClass, {retry_strategy});
+    }}
+
+    /**
+     * Invokes the {method_name} method with an empty input without blocking, deserializing to an object of the specified class.{wiki_link}
+     *
+     * @param objectId ID of the object to operate on
+     * @param outputClass class to deserialize the server reponse to
+     *
+     * @return future that completes with the response object; the future fails with
+     *         {{@link DXAPIException}} or {{@link DXHTTPException}} if the request fails
+     */
+    public static <T> ListenableFuture<T> {method_name}Async(String objectId, Class<T> outputClass) {{
+        return {method_name}Async(objectId, mapper.createObjectNode(), outputClass);
+    }}
+    /**
+     * Invokes the {method_name} method with the given input without blocking, deserializing to an object of the specified class.{wiki_link}
+     *
+     * @param objectId ID of the object to operate on
+     * @param inputObject input object (to be JSON serialized to an input hash)
+     * @param outputClass class to deserialize the server reponse to
+     *
+     * @return future that completes with the response object; the future fails with
+     *         {{@link DXAPIException}} or {{@link DXHTTPException}} if the request fails
+     */
+    public static <T> ListenableFuture<T> {method_name}Async(String objectId, Object inputObject, Class<T> outputClass) {{
+        return new DXHTTPRequest().requestAsync("/" + objectId + "/" + "{method_route}",
+                inputObject, outputClass, {retry_strategy});
+    }}
+    /**
+     * Invokes the {method_name} method with an empty input using the given environment without blocking, deserializing to an object of the specified class.{wiki_link}
+     *
+     * @param objectId ID of the object to operate on
+     * @param outputClass class to deserialize the server reponse to
+     * @param env environment object specifying the auth token and remote server and protocol
+     *
+     * @return future that completes with the response object; the future fails with
+     *         {{@link DXAPIException}} or {{@link DXHTTPException}} if the request fails
+     */
+    public static <T> ListenableFuture<T> {method_name}Async(String objectId, Class<T> outputClass, DXEnvironment env) {{
+        return {method_name}Async(objectId, mapper.createObjectNode(), outputClass, env);
+    }}
+    /**
+     * Invokes the {method_name} method with the given input using the given environment without blocking, deserializing to an object of the specified class.{wiki_link}
+     *
+     * @param objectId ID of the object to operate on
+     * @param inputObject input object (to be JSON serialized to an input hash)
+     * @param outputClass class to deserialize the server reponse to
+     * @param env environment object specifying the auth token and remote server and protocol
+     *
+     * @return future that completes with the response object; the future fails with
+     *         {{@link DXAPIException}} or {{@link DXHTTPException}} if the request fails
+     */
+    public static <T> ListenableFuture<T> {method_name}Async(String objectId, Object inputObject, Class<T> outputClass, DXEnvironment env) {{
+        return new DXHTTPRequest(env).requestAsync("/" + objectId + "/" + "{method_route}",
+                inputObject, outputClass, {retry_strategy});
     }}
 
     /**
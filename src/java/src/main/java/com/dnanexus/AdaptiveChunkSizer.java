@@ -0,0 +1,148 @@
+// Copyright (C) 2013-2016 DNAnexus, Inc.
+//
+// This file is part of dx-toolkit (DNAnexus platform client libraries).
+//
+// Licensed under the Apache License, Version 2.0 (the "License"); you may
+// not use this file except in compliance with the License. You may obtain a
+// copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+// WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+// License for the specific language governing permissions and limitations
+// under the License.
+package com.dnanexus;
+
+import java.util.concurrent.TimeUnit;
+
+import com.google.common.base.Preconditions;
+import com.google.common.base.Ticker;
+
+/**
+ * Chooses the chunk size and the number of concurrent requests of a transfer from the throughput
+ * and latency observed so far, as recorded in a {@link TransferStats}.
+ *
+ * <p>
+ * Each request pays the time to first byte before any data arrives, so chunks are sized to take
+ * {@link #TARGET_LATENCY_MULTIPLE} times that long to transfer at the observed per-connection
+ * throughput (a multiple of the connection's bandwidth-delay product). Chunk sizes are powers of
+ * two, so that transfers draw on few {@link BufferPool}s, and start from {@link #MIN_CHUNK_SIZE}.
+ * </p>
+ *
+ * <p>
+ * The parallelism starts at 1 and is adjusted once per round of requests (as many requests as the
+ * current parallelism): it doubles as long as the aggregate throughput of a round improves by more
+ * than {@link #SIGNIFICANT_CHANGE}, and is decreased by one when the aggregate throughput drops by
+ * more than that, i.e. when more connections no longer help.
+ * </p>
+ *
+ * <p>
+ * Its decisions are recorded in the same {@code TransferStats}. This class is thread-safe.
+ * </p>
+ */
+class AdaptiveChunkSizer implements ParallelRangeInputStream.ChunkSchedule {
+
+    static final int MIN_CHUNK_SIZE = 64 * 1024;
+    static final int TARGET_LATENCY_MULTIPLE = 8;
+    static final double SIGNIFICANT_CHANGE = 0.1;
+
+    private final TransferStats stats;
+    private final int maxChunkSize;
+    private final int maxParallelism;
+    private final Ticker ticker;
+
+    private int chunkSize;
+    private int parallelism = 1;
+    // Number of requests in the stats when the decisions were last updated
+    private long numRequestsSeen;
+    // Start of the current round of requests, and the throughput of the previous one
+    private long roundStartNanos;
+    private long roundStartBytes;
+    private long roundStartRequests;
+    private double previousRoundThroughput;
+
+    /**
+     * Creates a sizer.
+     *
+     * @param stats statistics of the transfer, which are updated as requests complete
+     * @param maxChunkSize largest chunk size to choose
+     * @param maxParallelism largest number of concurrent requests to choose
+     * @param ticker source of the time used to measure aggregate throughput
+     */
+    AdaptiveChunkSizer(TransferStats stats, int maxChunkSize, int maxParallelism, Ticker ticker) {
+        Preconditions.checkArgument(maxChunkSize > 0, "maxChunkSize must be positive");
+        Preconditions.checkArgument(maxParallelism > 0, "maxParallelism must be positive");
+        this.stats = Preconditions.checkNotNull(stats);
+        this.maxChunkSize = maxChunkSize;
+        this.maxParallelism = maxParallelism;
+        this.ticker = Preconditions.checkNotNull(ticker);
+        this.chunkSize = Math.min(MIN_CHUNK_SIZE, maxChunkSize);
+        this.roundStartNanos = ticker.read();
+        this.roundStartBytes = stats.getBytesTransferred();
+        this.roundStartRequests = stats.getNumRequests();
+        this.numRequestsSeen = roundStartRequests;
+        stats.recordDecision(chunkSize, parallelism);
+    }
+
+    @Override
+    public synchronized int getChunkSize(int chunkNumber) {
+        update();
+        return chunkSize;
+    }
+
+    /**
+     * Returns the largest number of concurrent requests this sizer may choose.
+     *
+     * @return maximum parallelism
+     */
+    int getMaxParallelism() {
+        return maxParallelism;
+    }
+
+    /**
+     * Returns the number of requests that should currently be in flight.
+     *
+     * @return parallelism
+     */
+    synchronized int getParallelism() {
+        update();
+        return parallelism;
+    }
+
+    /**
+     * Revises the decisions if requests have completed since they were last made.
+     */
+    private void update() {
+        long numRequests = stats.getNumRequests();
+        if (numRequests == numRequestsSeen) {
+            return;
+        }
+        numRequestsSeen = numRequests;
+
+        double throughput = stats.getConnectionThroughput();
+        double latencySeconds = stats.getTimeToFirstByteMillis() / 1000;
+        if (throughput > 0 && latencySeconds > 0) {
+            double target = Math.min(TARGET_LATENCY_MULTIPLE * throughput * latencySeconds, maxChunkSize);
+            chunkSize = Math.max(Integer.highestOneBit((int) target), Math.min(MIN_CHUNK_SIZE, maxChunkSize));
+        }
+
+        if (numRequests - roundStartRequests >= parallelism) {
+            long now = ticker.read();
+            long bytes = stats.getBytesTransferred();
+            double roundThroughput = (bytes - roundStartBytes) * (double) TimeUnit.SECONDS.toNanos(1)
+                    / Math.max(now - roundStartNanos, 1);
+            if (roundThroughput > previousRoundThroughput * (1 + SIGNIFICANT_CHANGE)) {
+                parallelism = Math.min(parallelism * 2, maxParallelism);
+            } else if (roundThroughput < previousRoundThroughput * (1 - SIGNIFICANT_CHANGE)) {
+                parallelism = Math.max(parallelism - 1, 1);
+            }
+            previousRoundThroughput = roundThroughput;
+            roundStartNanos = now;
+            roundStartBytes = bytes;
+            roundStartRequests = numRequests;
+        }
+        stats.recordDecision(chunkSize, parallelism);
+    }
+}
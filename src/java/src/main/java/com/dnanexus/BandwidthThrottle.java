@@ -0,0 +1,157 @@
+// Copyright (C) 2013-2016 DNAnexus, Inc.
+//
+// This file is part of dx-toolkit (DNAnexus platform client libraries).
+//
+// Licensed under the Apache License, Version 2.0 (the "License"); you may
+// not use this file except in compliance with the License. You may obtain a
+// copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+// WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+// License for the specific language governing permissions and limitations
+// under the License.
+package com.dnanexus;
+
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.List;
+
+import org.apache.http.HttpEntity;
+import org.apache.http.entity.HttpEntityWrapper;
+
+import com.google.common.base.Preconditions;
+import com.google.common.collect.ImmutableList;
+import com.google.common.util.concurrent.RateLimiter;
+
+/**
+ * Limits the rate at which a transfer sends or receives bytes, according to any number of token
+ * buckets (e.g. one shared by all the transfers made through an environment and one of the
+ * transfer's own). Each bucket is a {@link RateLimiter} whose permits are bytes.
+ *
+ * <p>
+ * Bytes are accounted for in the slices in which they are read or written (up to
+ * {@link #SLICE_SIZE} at a time), not one by one, so throttling costs one {@code acquire} per
+ * bucket per slice. A {@code RateLimiter} charges the wait for a slice to the next caller, so the
+ * rate averages out exactly over time however large the slices are; a bucket also lets up to a
+ * second's worth of bytes through at once after being idle.
+ * </p>
+ */
+final class BandwidthThrottle {
+
+    /**
+     * Throttle that doesn't limit the rate at all.
+     */
+    static final BandwidthThrottle UNLIMITED = new BandwidthThrottle(ImmutableList.<RateLimiter>of());
+
+    /**
+     * Largest number of bytes written at once through a throttled entity.
+     */
+    static final int SLICE_SIZE = 64 * 1024;
+
+    /**
+     * Returns a rate limiter whose permits are bytes, for the specified rate.
+     *
+     * @param bytesPerSecond maximum rate, or 0 for no limit
+     *
+     * @return rate limiter, or null if there is no limit
+     */
+    static RateLimiter newRateLimiter(long bytesPerSecond) {
+        Preconditions.checkArgument(bytesPerSecond >= 0, "bytesPerSecond may not be negative");
+        return bytesPerSecond == 0 ? null : RateLimiter.create(bytesPerSecond);
+    }
+
+    /**
+     * Returns a throttle that limits the rate according to all the specified limiters.
+     *
+     * @param limiters rate limiters whose permits are bytes; null ones are ignored
+     *
+     * @return throttle
+     */
+    static BandwidthThrottle of(RateLimiter... limiters) {
+        ImmutableList.Builder<RateLimiter> nonNull = ImmutableList.builder();
+        for (RateLimiter limiter : limiters) {
+            if (limiter != null) {
+                nonNull.add(limiter);
+            }
+        }
+        ImmutableList<RateLimiter> list = nonNull.build();
+        return list.isEmpty() ? UNLIMITED : new BandwidthThrottle(list);
+    }
+
+    private final List<RateLimiter> limiters;
+
+    private BandwidthThrottle(List<RateLimiter> limiters) {
+        this.limiters = limiters;
+    }
+
+    /**
+     * Accounts for bytes that have been (or are about to be) transferred, waiting if necessary so
+     * that no bucket's rate is exceeded.
+     *
+     * @param numBytes number of bytes transferred
+     */
+    void acquire(int numBytes) {
+        if (numBytes <= 0) {
+            return;
+        }
+        for (RateLimiter limiter : limiters) {
+            limiter.acquire(numBytes);
+        }
+    }
+
+    /**
+     * Returns whether this throttle limits the rate at all.
+     *
+     * @return false if the throttle is {@link #UNLIMITED}
+     */
+    boolean isLimited() {
+        return !limiters.isEmpty();
+    }
+
+    /**
+     * Returns an entity that writes the content of the specified one at the rate allowed by this
+     * throttle.
+     *
+     * @param entity entity to throttle
+     *
+     * @return throttled entity, or {@code entity} itself if this throttle is unlimited
+     */
+    HttpEntity throttle(HttpEntity entity) {
+        if (!isLimited()) {
+            return entity;
+        }
+        return new HttpEntityWrapper(entity) {
+            @Override
+            public void writeTo(OutputStream outstream) throws IOException {
+                wrappedEntity.writeTo(new FilterOutputStream(outstream) {
+                    @Override
+                    public void write(byte[] b, int off, int len) throws IOException {
+                        while (len > 0) {
+                            int numBytes = Math.min(len, SLICE_SIZE);
+                            acquire(numBytes);
+                            out.write(b, off, numBytes);
+                            off += numBytes;
+                            len -= numBytes;
+                        }
+                    }
+
+                    @Override
+                    public void write(int b) throws IOException {
+                        acquire(1);
+                        out.write(b);
+                    }
+
+                    @Override
+                    public void close() throws IOException {
+                        // The connection's stream is closed by the client, not by the entity
+                        flush();
+                    }
+                });
+            }
+        };
+    }
+}
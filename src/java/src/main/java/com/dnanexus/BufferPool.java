@@ -0,0 +1,155 @@
+// Copyright (C) 2013-2016 DNAnexus, Inc.
+//
+// This file is part of dx-toolkit (DNAnexus platform client libraries).
+//
+// Licensed under the Apache License, Version 2.0 (the "License"); you may
+// not use this file except in compliance with the License. You may obtain a
+// copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+// WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+// License for the specific language governing permissions and limitations
+// under the License.
+
+package com.dnanexus;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.base.Preconditions;
+
+/**
+ * A pool of reusable fixed-size byte arrays, used for the part and chunk buffers of file transfers
+ * so that transferring a file does not allocate a new buffer for every part.
+ *
+ * <p>
+ * Buffers are obtained with {@link #acquire()} and handed back with {@link #release(byte[])}.
+ * A buffer that is never released is simply garbage collected. Pooled buffer sizes are rounded up
+ * to powers of two (of at least {@value #MIN_POOLED_BUFFER_SIZE} bytes), so that the many part and
+ * chunk sizes used by transfers share a few pools, and buffers larger than
+ * {@value #MAX_POOLED_BUFFER_SIZE} bytes are not pooled at all. Each pool retains only a limited
+ * number of free buffers (about {@value #MAX_RETAINED_BYTES} bytes' worth, and at least
+ * {@value #MIN_RETAINED_BUFFERS}), and all pools together retain at most
+ * {@value #MAX_TOTAL_RETAINED_BYTES} bytes, so idle pools do not hold on to much memory. Buffers
+ * are not cleared when they are reused.
+ * </p>
+ *
+ * <p>
+ * This class is thread-safe; there is one shared pool per pooled buffer size.
+ * </p>
+ */
+final class BufferPool {
+
+    @VisibleForTesting
+    static final int MIN_POOLED_BUFFER_SIZE = 4 * 1024;
+    @VisibleForTesting
+    static final int MAX_POOLED_BUFFER_SIZE = 64 * 1024 * 1024;
+    @VisibleForTesting
+    static final int MAX_RETAINED_BYTES = 64 * 1024 * 1024;
+    @VisibleForTesting
+    static final long MAX_TOTAL_RETAINED_BYTES = 256L * 1024 * 1024;
+    @VisibleForTesting
+    static final int MIN_RETAINED_BUFFERS = 2;
+    private static final int MAX_RETAINED_BUFFERS = 64;
+
+    private static final ConcurrentMap<Integer, BufferPool> POOLS = new ConcurrentHashMap<Integer, BufferPool>();
+    // Bytes held by the free buffers of all pools
+    private static final AtomicLong totalRetainedBytes = new AtomicLong();
+
+    /**
+     * Returns the pool to use for buffers of at least the specified size. For sizes up to
+     * {@link #MAX_POOLED_BUFFER_SIZE}, this is the shared pool of the next power of two; for larger
+     * sizes, it is a pool of buffers of exactly that size which retains none of them.
+     *
+     * @param minBufferSize minimum size in bytes of the pool's buffers
+     *
+     * @return buffer pool, whose buffers are {@link #getBufferSize()} bytes long
+     */
+    static BufferPool forSize(int minBufferSize) {
+        Preconditions.checkArgument(minBufferSize > 0, "bufferSize must be positive");
+        if (minBufferSize > MAX_POOLED_BUFFER_SIZE) {
+            return new BufferPool(minBufferSize, 0);
+        }
+        int bufferSize = Math.max(MIN_POOLED_BUFFER_SIZE, Integer.highestOneBit(minBufferSize - 1) << 1);
+        BufferPool pool = POOLS.get(bufferSize);
+        if (pool == null) {
+            int maxRetained = Math.max(MIN_RETAINED_BUFFERS, Math.min(MAX_RETAINED_BUFFERS, MAX_RETAINED_BYTES
+                    / bufferSize));
+            BufferPool newPool = new BufferPool(bufferSize, maxRetained);
+            pool = POOLS.putIfAbsent(bufferSize, newPool);
+            if (pool == null) {
+                pool = newPool;
+            }
+        }
+        return pool;
+    }
+
+    @VisibleForTesting
+    static long getTotalRetainedBytes() {
+        return totalRetainedBytes.get();
+    }
+
+    private final int bufferSize;
+    // Null if the pool retains no buffers
+    private final BlockingQueue<byte[]> free;
+
+    private BufferPool(int bufferSize, int maxRetained) {
+        this.bufferSize = bufferSize;
+        this.free = maxRetained > 0 ? new ArrayBlockingQueue<byte[]>(maxRetained) : null;
+    }
+
+    /**
+     * Returns a free buffer from the pool, or a newly allocated one if there are none.
+     *
+     * @return buffer of {@link #getBufferSize()} bytes, with arbitrary contents
+     */
+    byte[] acquire() {
+        byte[] buffer = free == null ? null : free.poll();
+        if (buffer == null) {
+            return new byte[bufferSize];
+        }
+        totalRetainedBytes.addAndGet(-bufferSize);
+        return buffer;
+    }
+
+    /**
+     * Returns the size of the pool's buffers, which may be larger than the size the pool was
+     * requested for.
+     *
+     * @return buffer size in bytes
+     */
+    int getBufferSize() {
+        return bufferSize;
+    }
+
+    /**
+     * Returns a buffer to the pool. The caller must not use the buffer afterwards. Buffers of the
+     * wrong size, and buffers beyond what the pool (or all pools together) retain, are dropped.
+     *
+     * @param buffer buffer previously obtained from {@link #acquire()}, or null
+     */
+    void release(byte[] buffer) {
+        if (buffer == null || buffer.length != bufferSize || free == null) {
+            return;
+        }
+        if (totalRetainedBytes.addAndGet(bufferSize) > MAX_TOTAL_RETAINED_BYTES) {
+            totalRetainedBytes.addAndGet(-bufferSize);
+            return;
+        }
+        if (!free.offer(buffer)) {
+            totalRetainedBytes.addAndGet(-bufferSize);
+        }
+    }
+
+    @VisibleForTesting
+    int getNumFree() {
+        return free == null ? 0 : free.size();
+    }
+}
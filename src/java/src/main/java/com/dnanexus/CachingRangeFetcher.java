@@ -0,0 +1,213 @@
+// Copyright (C) 2013-2016 DNAnexus, Inc.
+//
+// This file is part of dx-toolkit (DNAnexus platform client libraries).
+//
+// Licensed under the Apache License, Version 2.0 (the "License"); you may
+// not use this file except in compliance with the License. You may obtain a
+// copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+// WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+// License for the specific language governing permissions and limitations
+// under the License.
+package com.dnanexus;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+
+import com.google.common.base.Preconditions;
+import com.google.common.base.Supplier;
+
+/**
+ * Serves byte ranges of a closed file from a {@link DXFileCache}, fetching the blocks that are not
+ * cached from another fetcher and storing them in the cache.
+ *
+ * <p>
+ * Missing blocks that lie entirely within a requested range are fetched together, with one request
+ * per run of adjacent blocks, straight into the caller's buffer or channel (from which they are
+ * then cached, so channels passed to {@link #transferTo} must also be readable); a block that is
+ * only partly requested is fetched whole into a pooled buffer, so that it can be cached. The
+ * upstream fetcher is only obtained once a block has to be fetched, so reading a fully cached file
+ * makes no requests at all. Failures to write to the cache are reported but do not fail the
+ * download.
+ * </p>
+ */
+class CachingRangeFetcher implements ChannelRangeFetcher {
+
+    private final DXFileCache cache;
+    private final String fileId;
+    private final long size;
+    private final Supplier<? extends ChannelRangeFetcher> upstream;
+
+    /**
+     * Creates a fetcher for the specified file.
+     *
+     * @param cache cache in which blocks are looked up and stored
+     * @param fileId ID of the (closed) file
+     * @param size size of the file
+     * @param upstream supplier of the fetcher for blocks that are not cached, which is called at
+     *        most once (and must be memoizing if it is called from several threads)
+     */
+    CachingRangeFetcher(DXFileCache cache, String fileId, long size, Supplier<? extends ChannelRangeFetcher> upstream) {
+        Preconditions.checkArgument(size >= 0, "size may not be negative");
+        this.cache = Preconditions.checkNotNull(cache);
+        this.fileId = Preconditions.checkNotNull(fileId);
+        this.size = size;
+        this.upstream = Preconditions.checkNotNull(upstream);
+    }
+
+    @Override
+    public void fetch(long start, long end, byte[] buffer, int offset) throws IOException {
+        checkRange(start, end);
+        Preconditions.checkArgument(offset >= 0 && end - start <= buffer.length - offset,
+                "Range does not fit in the buffer");
+        // Run of missing blocks that lie entirely within the range, not fetched yet
+        long runStart = -1;
+        long runEnd = -1;
+        for (long blockStart = blockStart(start); blockStart < end; blockStart += DXFileCache.BLOCK_SIZE) {
+            int blockLength = blockLength(blockStart);
+            long from = Math.max(start, blockStart);
+            long to = Math.min(end, blockStart + blockLength);
+            int bufferOffset = offset + (int) (from - start);
+            if (cache.read(fileId, blockStart, blockLength, (int) (from - blockStart), buffer, bufferOffset,
+                    (int) (to - from))) {
+                fetchRun(runStart, runEnd, start, buffer, offset);
+                runStart = -1;
+                continue;
+            }
+            if (from == blockStart && to == blockStart + blockLength) {
+                if (runStart == -1) {
+                    runStart = blockStart;
+                }
+                runEnd = to;
+                continue;
+            }
+            fetchRun(runStart, runEnd, start, buffer, offset);
+            runStart = -1;
+            BufferPool pool = BufferPool.forSize(DXFileCache.BLOCK_SIZE);
+            byte[] block = pool.acquire();
+            try {
+                fetchBlock(blockStart, blockLength, block);
+                System.arraycopy(block, (int) (from - blockStart), buffer, bufferOffset, (int) (to - from));
+            } finally {
+                pool.release(block);
+            }
+        }
+        fetchRun(runStart, runEnd, start, buffer, offset);
+    }
+
+    @Override
+    public void transferTo(long start, long end, FileChannel channel, ByteBuffer buffer) throws IOException {
+        checkRange(start, end);
+        BufferPool pool = BufferPool.forSize(DXFileCache.BLOCK_SIZE);
+        byte[] block = null;
+        try {
+            // Run of missing blocks that lie entirely within the range, not transferred yet
+            long runStart = -1;
+            long runEnd = -1;
+            for (long blockStart = blockStart(start); blockStart < end; blockStart += DXFileCache.BLOCK_SIZE) {
+                int blockLength = blockLength(blockStart);
+                long from = Math.max(start, blockStart);
+                long to = Math.min(end, blockStart + blockLength);
+                if (cache.transferTo(fileId, blockStart, blockLength, (int) (from - blockStart), (int) (to - from),
+                        channel, from)) {
+                    transferRun(runStart, runEnd, channel, buffer);
+                    runStart = -1;
+                    continue;
+                }
+                if (from == blockStart && to == blockStart + blockLength) {
+                    if (runStart == -1) {
+                        runStart = blockStart;
+                    }
+                    runEnd = to;
+                    continue;
+                }
+                transferRun(runStart, runEnd, channel, buffer);
+                runStart = -1;
+                if (block == null) {
+                    block = pool.acquire();
+                }
+                fetchBlock(blockStart, blockLength, block);
+                ByteBuffer data = ByteBuffer.wrap(block, (int) (from - blockStart), (int) (to - from));
+                long position = from;
+                while (data.hasRemaining()) {
+                    position += channel.write(data, position);
+                }
+            }
+            transferRun(runStart, runEnd, channel, buffer);
+        } finally {
+            if (block != null) {
+                pool.release(block);
+            }
+        }
+    }
+
+    private void checkRange(long start, long end) {
+        Preconditions.checkArgument(start <= end, "The start byte cannot be larger than the end byte");
+        Preconditions.checkArgument(start >= 0 && end <= size, "The range must lie within the file");
+    }
+
+    private static long blockStart(long position) {
+        return position - position % DXFileCache.BLOCK_SIZE;
+    }
+
+    private int blockLength(long blockStart) {
+        return (int) Math.min(DXFileCache.BLOCK_SIZE, size - blockStart);
+    }
+
+    /**
+     * Fetches a run of whole blocks straight into the caller's buffer and caches them.
+     */
+    private void fetchRun(long runStart, long runEnd, long start, byte[] buffer, int offset) throws IOException {
+        if (runStart == -1) {
+            return;
+        }
+        int runOffset = offset + (int) (runStart - start);
+        upstream.get().fetch(runStart, runEnd, buffer, runOffset);
+        for (long blockStart = runStart; blockStart < runEnd; blockStart += DXFileCache.BLOCK_SIZE) {
+            store(blockStart, buffer, runOffset + (int) (blockStart - runStart), blockLength(blockStart));
+        }
+    }
+
+    /**
+     * Transfers a run of whole blocks straight to the channel, then caches them from it.
+     */
+    private void transferRun(long runStart, long runEnd, FileChannel channel, ByteBuffer buffer) throws IOException {
+        if (runStart == -1) {
+            return;
+        }
+        upstream.get().transferTo(runStart, runEnd, channel, buffer);
+        for (long blockStart = runStart; blockStart < runEnd; blockStart += DXFileCache.BLOCK_SIZE) {
+            try {
+                cache.write(fileId, blockStart, channel, blockStart, blockLength(blockStart));
+            } catch (IOException e) {
+                reportStoreFailure(blockStart, e);
+            }
+        }
+    }
+
+    /**
+     * Fetches a whole block into the specified array and caches it.
+     */
+    private void fetchBlock(long blockStart, int blockLength, byte[] block) throws IOException {
+        upstream.get().fetch(blockStart, blockStart + blockLength, block, 0);
+        store(blockStart, block, 0, blockLength);
+    }
+
+    private void store(long blockStart, byte[] b, int off, int len) {
+        try {
+            cache.write(fileId, blockStart, b, off, len);
+        } catch (IOException e) {
+            reportStoreFailure(blockStart, e);
+        }
+    }
+
+    private void reportStoreFailure(long blockStart, IOException e) {
+        System.err.println("Error writing block " + blockStart + " of " + fileId + " to the cache in "
+                + cache.getDirectory() + " (" + e.getMessage() + ")");
+    }
+}
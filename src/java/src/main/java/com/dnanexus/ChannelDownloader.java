@@ -0,0 +1,173 @@
+// Copyright (C) 2013-2016 DNAnexus, Inc.
+//
+// This file is part of dx-toolkit (DNAnexus platform client libraries).
+//
+// Licensed under the Apache License, Version 2.0 (the "License"); you may
+// not use this file except in compliance with the License. You may obtain a
+// copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+// WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+// License for the specific language governing permissions and limitations
+// under the License.
+
+package com.dnanexus;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import com.dnanexus.ParallelRangeInputStream.ChunkSchedule;
+import com.google.common.base.Preconditions;
+import com.google.common.base.Supplier;
+
+/**
+ * Downloads a byte range of a file into a {@link FileChannel}, fetching up to {@code parallelism}
+ * chunks concurrently and writing each one at its own position as it arrives.
+ *
+ * <p>
+ * Because every chunk is written straight to its place in the file, chunks may complete in any
+ * order and nothing is reassembled in memory: each worker only holds a small copy buffer, however
+ * large the file is.
+ * </p>
+ */
+class ChannelDownloader {
+
+    /**
+     * Size of the buffer each worker copies data through.
+     */
+    static final int BUFFER_SIZE = 256 * 1024;
+
+    private final ChannelRangeFetcher fetcher;
+    private final FileChannel channel;
+    private final long start;
+    private final long end;
+    private final ChunkSchedule schedule;
+
+    // Start and number of the next chunk to be claimed by a worker
+    private long nextStart;
+    private int nextChunkNumber;
+    private final AtomicBoolean failed = new AtomicBoolean();
+
+    /**
+     * Creates a downloader for the specified range.
+     *
+     * @param fetcher source of the file's bytes
+     * @param channel destination; byte {@code i} of the file is written at position {@code i}
+     * @param start first byte of the range (inclusive)
+     * @param end end of the range (exclusive)
+     * @param chunkSize size of each ranged request
+     */
+    ChannelDownloader(ChannelRangeFetcher fetcher, FileChannel channel, long start, long end, int chunkSize) {
+        this(fetcher, channel, start, end, ParallelRangeInputStream.fixedChunkSize(chunkSize));
+    }
+
+    /**
+     * Creates a downloader for the specified range, with chunk sizes following the specified
+     * schedule (e.g. an {@link AdaptiveChunkSizer}).
+     *
+     * @param fetcher source of the file's bytes
+     * @param channel destination; byte {@code i} of the file is written at position {@code i}
+     * @param start first byte of the range (inclusive)
+     * @param end end of the range (exclusive)
+     * @param schedule sizes of the ranged requests
+     */
+    ChannelDownloader(ChannelRangeFetcher fetcher, FileChannel channel, long start, long end, ChunkSchedule schedule) {
+        Preconditions.checkArgument(start <= end, "The start byte cannot be larger than the end byte");
+        this.fetcher = Preconditions.checkNotNull(fetcher);
+        this.channel = Preconditions.checkNotNull(channel);
+        this.start = start;
+        this.end = end;
+        this.schedule = Preconditions.checkNotNull(schedule);
+        this.nextStart = start;
+    }
+
+    /**
+     * Downloads the range, returning when all of it has been written.
+     *
+     * @param parallelism maximum number of concurrent ranged requests
+     *
+     * @throws IOException the first error encountered by any worker
+     */
+    void download(int parallelism) throws IOException {
+        download(parallelism, null);
+    }
+
+    /**
+     * Downloads the range on the workers of a {@link TransferScheduler}, returning when all of it
+     * has been written.
+     *
+     * @param parallelism maximum number of concurrent ranged requests
+     * @param transfer transfer to run the requests on, which is closed when the download is done,
+     *        or null to use threads of the downloader's own
+     *
+     * @throws IOException the first error encountered by any worker
+     */
+    void download(int parallelism, TransferScheduler.Transfer transfer) throws IOException {
+        Preconditions.checkArgument(parallelism > 0, "parallelism must be positive");
+        int firstChunkSize = schedule.getChunkSize(0);
+        long numChunks = (end - start + firstChunkSize - 1) / firstChunkSize;
+        int numWorkers = (int) Math.min(parallelism, numChunks);
+        if (numWorkers == 0) {
+            if (transfer != null) {
+                transfer.close();
+            }
+            return;
+        }
+        TransferWorkers.run(numWorkers, "dxjava-download-%d", transfer, BUFFER_SIZE,
+                new Supplier<TransferWorkers.Worker>() {
+                    @Override
+                    public TransferWorkers.Worker get() {
+                        final ByteBuffer buffer = ByteBuffer.allocateDirect(BUFFER_SIZE);
+                        return new TransferWorkers.Worker() {
+                            @Override
+                            public boolean transferNext() throws IOException {
+                                return downloadNextChunk(buffer);
+                            }
+                        };
+                    }
+                });
+    }
+
+    /**
+     * Claims the next chunk of the range.
+     *
+     * @return start and end of the chunk, or null if the whole range has been claimed
+     */
+    private synchronized long[] claimChunk() {
+        if (nextStart >= end) {
+            return null;
+        }
+        int chunkSize = schedule.getChunkSize(nextChunkNumber++);
+        Preconditions.checkState(chunkSize > 0, "Chunk sizes must be positive");
+        long[] chunk = {nextStart, Math.min(end, nextStart + chunkSize)};
+        nextStart = chunk[1];
+        return chunk;
+    }
+
+    /**
+     * Claims and downloads the next chunk, unless there is none left or some worker has failed.
+     *
+     * @return false if no chunk was downloaded
+     */
+    private boolean downloadNextChunk(ByteBuffer buffer) throws IOException {
+        if (failed.get()) {
+            return false;
+        }
+        long[] chunk = claimChunk();
+        if (chunk == null) {
+            return false;
+        }
+        try {
+            fetcher.transferTo(chunk[0], chunk[1], channel, buffer);
+        } catch (IOException | RuntimeException e) {
+            failed.set(true);
+            throw e;
+        }
+        return true;
+    }
+}
@@ -0,0 +1,40 @@
+// Copyright (C) 2013-2016 DNAnexus, Inc.
+//
+// This file is part of dx-toolkit (DNAnexus platform client libraries).
+//
+// Licensed under the Apache License, Version 2.0 (the "License"); you may
+// not use this file except in compliance with the License. You may obtain a
+// copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+// WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+// License for the specific language governing permissions and limitations
+// under the License.
+package com.dnanexus;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+
+/**
+ * A {@link RangeFetcher} that can also write ranges straight to a file, used by
+ * {@link DXFile#downloadToPath}.
+ */
+interface ChannelRangeFetcher extends RangeFetcher {
+
+    /**
+     * Fetches the specified byte range and writes it to the same position in the specified channel.
+     *
+     * @param start first byte of the range (inclusive)
+     * @param end end of the range (exclusive)
+     * @param channel channel to write the data to, at positions {@code start} to {@code end - 1}
+     * @param buffer buffer through which the data may be copied
+     *
+     * @throws IOException if the range cannot be fetched or written
+     */
+    void transferTo(long start, long end, FileChannel channel, ByteBuffer buffer) throws IOException;
+
+}
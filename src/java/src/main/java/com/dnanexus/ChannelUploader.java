@@ -0,0 +1,282 @@
+// Copyright (C) 2013-2016 DNAnexus, Inc.
+//
+// This file is part of dx-toolkit (DNAnexus platform client libraries).
+//
+// Licensed under the Apache License, Version 2.0 (the "License"); you may
+// not use this file except in compliance with the License. You may obtain a
+// copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+// WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+// License for the specific language governing permissions and limitations
+// under the License.
+
+package com.dnanexus;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.security.MessageDigest;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.apache.commons.codec.binary.Hex;
+import org.apache.commons.codec.digest.DigestUtils;
+import org.apache.http.HttpEntity;
+import org.apache.http.entity.AbstractHttpEntity;
+
+import com.google.common.base.Preconditions;
+import com.google.common.base.Supplier;
+
+/**
+ * Uploads the contents of a {@link FileChannel} as the parts of a file, up to {@code parallelism}
+ * parts at a time.
+ *
+ * <p>
+ * Parts are never copied into memory as a whole: the MD5 of each part is computed by reading its
+ * slice of the channel through a small buffer, and the part is then sent by an entity that reads
+ * the slice again as the request is written. Each part in flight holds only its copy buffer.
+ * </p>
+ */
+class ChannelUploader {
+
+    /**
+     * Size of the buffers parts are read through.
+     */
+    static final int BUFFER_SIZE = 256 * 1024;
+
+    /**
+     * Destination for the parts of the file.
+     */
+    interface SliceUploader {
+        /**
+         * Uploads one part of the file.
+         *
+         * @param index part index (starting at 1)
+         * @param data entity producing the contents of the part; repeatable, so it can be resent
+         * @param size size of the part in bytes
+         * @param md5 MD5 of the part, as a hex string
+         *
+         * @throws IOException if the part cannot be uploaded
+         */
+        void uploadPart(int index, HttpEntity data, long size, String md5) throws IOException;
+    }
+
+    /**
+     * Entity that streams a slice of a file from its channel, using positional reads (so several
+     * entities can share one channel).
+     */
+    static class SliceEntity extends AbstractHttpEntity {
+        private final FileChannel channel;
+        private final long position;
+        private final long length;
+
+        SliceEntity(FileChannel channel, long position, long length) {
+            this.channel = channel;
+            this.position = position;
+            this.length = length;
+        }
+
+        @Override
+        public InputStream getContent() throws IOException {
+            return Channels.newInputStream(new SliceChannel(channel, position, length));
+        }
+
+        @Override
+        public long getContentLength() {
+            return length;
+        }
+
+        @Override
+        public boolean isRepeatable() {
+            return true;
+        }
+
+        @Override
+        public boolean isStreaming() {
+            return false;
+        }
+
+        @Override
+        public void writeTo(OutputStream outstream) throws IOException {
+            byte[] buffer = new byte[(int) Math.min(BUFFER_SIZE, Math.max(length, 1))];
+            ByteBuffer wrapped = ByteBuffer.wrap(buffer);
+            long offset = 0;
+            while (offset < length) {
+                wrapped.clear();
+                wrapped.limit((int) Math.min(buffer.length, length - offset));
+                int n = channel.read(wrapped, position + offset);
+                if (n == -1) {
+                    throw new EOFException("File ended while uploading; was it truncated?");
+                }
+                outstream.write(buffer, 0, n);
+                offset += n;
+            }
+        }
+    }
+
+    /**
+     * Read-only view of a slice of a file channel, for {@link SliceEntity#getContent()}.
+     */
+    private static class SliceChannel implements ReadableByteChannel {
+        private final FileChannel channel;
+        private long position;
+        private final long end;
+        private boolean open = true;
+
+        private SliceChannel(FileChannel channel, long position, long length) {
+            this.channel = channel;
+            this.position = position;
+            this.end = position + length;
+        }
+
+        @Override
+        public void close() {
+            open = false;
+        }
+
+        @Override
+        public boolean isOpen() {
+            return open;
+        }
+
+        @Override
+        public int read(ByteBuffer dst) throws IOException {
+            if (position >= end) {
+                return -1;
+            }
+            int limit = dst.limit();
+            dst.limit((int) Math.min(limit, dst.position() + (end - position)));
+            try {
+                int n = channel.read(dst, position);
+                if (n > 0) {
+                    position += n;
+                }
+                return n;
+            } finally {
+                dst.limit(limit);
+            }
+        }
+    }
+
+    private final FileChannel channel;
+    private final long size;
+    private final long partSize;
+    private final SliceUploader uploader;
+
+    // Index (0-based) of the next part to be claimed by a worker
+    private final AtomicInteger nextPart = new AtomicInteger();
+    private final AtomicBoolean failed = new AtomicBoolean();
+
+    /**
+     * Creates an uploader for the first {@code size} bytes of the specified channel.
+     *
+     * @param channel source of the data
+     * @param size number of bytes to upload
+     * @param partSize size of each part (except the last)
+     * @param uploader destination of the parts
+     */
+    ChannelUploader(FileChannel channel, long size, long partSize, SliceUploader uploader) {
+        Preconditions.checkArgument(size >= 0, "size may not be negative");
+        Preconditions.checkArgument(partSize > 0, "partSize must be positive");
+        this.channel = Preconditions.checkNotNull(channel);
+        this.size = size;
+        this.partSize = partSize;
+        this.uploader = Preconditions.checkNotNull(uploader);
+    }
+
+    /**
+     * Computes the MD5 of a slice of a channel, as a hex string.
+     */
+    static String md5Hex(FileChannel channel, long position, long length, ByteBuffer buffer) throws IOException {
+        MessageDigest digest = DigestUtils.getMd5Digest();
+        long offset = 0;
+        while (offset < length) {
+            buffer.clear();
+            buffer.limit((int) Math.min(buffer.capacity(), length - offset));
+            int n = channel.read(buffer, position + offset);
+            if (n == -1) {
+                throw new EOFException("File ended while uploading; was it truncated?");
+            }
+            buffer.flip();
+            digest.update(buffer);
+            offset += n;
+        }
+        return Hex.encodeHexString(digest.digest());
+    }
+
+    /**
+     * Uploads all the parts, returning when all of them have been uploaded. A zero-length channel
+     * is uploaded as a single empty part.
+     *
+     * @param parallelism maximum number of parts uploaded at once
+     *
+     * @throws IOException the first error encountered by any worker
+     */
+    void upload(int parallelism) throws IOException {
+        upload(parallelism, null);
+    }
+
+    /**
+     * Uploads all the parts on the workers of a {@link TransferScheduler}, returning when all of
+     * them have been uploaded.
+     *
+     * @param parallelism maximum number of parts uploaded at once
+     * @param transfer transfer to run the uploads on, which is closed when the upload is done, or
+     *        null to use threads of the uploader's own
+     *
+     * @throws IOException the first error encountered by any worker
+     */
+    void upload(int parallelism, TransferScheduler.Transfer transfer) throws IOException {
+        Preconditions.checkArgument(parallelism > 0, "parallelism must be positive");
+        long numParts = Math.max(1, (size + partSize - 1) / partSize);
+        Preconditions.checkArgument(numParts <= Integer.MAX_VALUE, "Too many parts");
+        final int lastPart = (int) numParts;
+        TransferWorkers.run((int) Math.min(parallelism, numParts), "dxjava-upload-%d", transfer, BUFFER_SIZE,
+                new Supplier<TransferWorkers.Worker>() {
+                    @Override
+                    public TransferWorkers.Worker get() {
+                        final ByteBuffer buffer = ByteBuffer.allocateDirect(BUFFER_SIZE);
+                        return new TransferWorkers.Worker() {
+                            @Override
+                            public boolean transferNext() throws IOException {
+                                return uploadNextPart(lastPart, buffer);
+                            }
+                        };
+                    }
+                });
+    }
+
+    /**
+     * Claims and uploads the next part, unless there is none left or some worker has failed.
+     *
+     * @return false if no part was uploaded
+     */
+    private boolean uploadNextPart(int numParts, ByteBuffer buffer) throws IOException {
+        if (failed.get()) {
+            return false;
+        }
+        int part = nextPart.getAndIncrement();
+        if (part >= numParts) {
+            return false;
+        }
+        try {
+            long position = part * partSize;
+            long length = Math.min(partSize, size - position);
+            String md5 = md5Hex(channel, position, length, buffer);
+            uploader.uploadPart(part + 1, new SliceEntity(channel, position, length), length, md5);
+        } catch (IOException | RuntimeException e) {
+            failed.set(true);
+            throw e;
+        }
+        return true;
+    }
+}
@@ -11,6 +11,7 @@ import com.dnanexus.exceptions.DXAPIException;
 import com.dnanexus.exceptions.DXHTTPException;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.google.common.util.concurrent.ListenableFuture;
 
 /**
  * Utility class containing low-level wrappers for invoking DNAnexus API methods.
@@ -63,9 +64,8 @@ public final class DXAPI {
      *             the response (includes HTTP protocol errors).
      */
     public static <T> T analysisAddTags(String objectId, Object inputObject, Class<T> outputClass) {
-        return DXJSON.safeTreeToValue(
-                new DXHTTPRequest().request("/" + objectId + "/" + "addTags",
-                        mapper.valueToTree(inputObject), RetryStrategy.SAFE_TO_RETRY), outputClass);
+        return new DXHTTPRequest().request("/" + objectId + "/" + "addTags",
+                inputObject, outputClass, RetryStrategy.SAFE_TO_RETRY);
     }
     /**
      * Invokes the analysisAddTags method with an empty input using the given environment, deserializing to an object of the specified class.
@@ -108,9 +108,71 @@ public final class DXAPI {
      *             the response (includes HTTP protocol errors).
      */
     public static <T> T analysisAddTags(String objectId, Object inputObject, Class<T> outputClass, DXEnvironment env) {
-        return DXJSON.safeTreeToValue(
-            new DXHTTPRequest(env).request("/" + objectId + "/" + "addTags",
-                    mapper.valueToTree(inputObject), RetryStrategy.SAFE_TO_RETRY), outputClass);
+        return new DXHTTPRequest(env).request("/" + objectId + "/" + "addTags",
+                inputObject, outputClass, RetryStrategy.SAFE_TO_RETRY);
+    }
+
+    /**
+     * Invokes the analysisAddTags method with an empty input without blocking, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Workflows-and-Analyses#API-method%3A-%2Fanalysis-xxxx%2FaddTags">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param outputClass class to deserialize the server reponse to
+     *
+     * @return future that completes with the response object; the future fails with
+     *         {@link DXAPIException} or {@link DXHTTPException} if the request fails
+     */
+    public static <T> ListenableFuture<T> analysisAddTagsAsync(String objectId, Class<T> outputClass) {
+        return analysisAddTagsAsync(objectId, mapper.createObjectNode(), outputClass);
+    }
+    /**
+     * Invokes the analysisAddTags method with the given input without blocking, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Workflows-and-Analyses#API-method%3A-%2Fanalysis-xxxx%2FaddTags">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param inputObject input object (to be JSON serialized to an input hash)
+     * @param outputClass class to deserialize the server reponse to
+     *
+     * @return future that completes with the response object; the future fails with
+     *         {@link DXAPIException} or {@link DXHTTPException} if the request fails
+     */
+    public static <T> ListenableFuture<T> analysisAddTagsAsync(String objectId, Object inputObject, Class<T> outputClass) {
+        return new DXHTTPRequest().requestAsync("/" + objectId + "/" + "addTags",
+                inputObject, outputClass, RetryStrategy.SAFE_TO_RETRY);
+    }
+    /**
+     * Invokes the analysisAddTags method with an empty input using the given environment without blocking, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Workflows-and-Analyses#API-method%3A-%2Fanalysis-xxxx%2FaddTags">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param outputClass class to deserialize the server reponse to
+     * @param env environment object specifying the auth token and remote server and protocol
+     *
+     * @return future that completes with the response object; the future fails with
+     *         {@link DXAPIException} or {@link DXHTTPException} if the request fails
+     */
+    public static <T> ListenableFuture<T> analysisAddTagsAsync(String objectId, Class<T> outputClass, DXEnvironment env) {
+        return analysisAddTagsAsync(objectId, mapper.createObjectNode(), outputClass, env);
+    }
+    /**
+     * Invokes the analysisAddTags method with the given input using the given environment without blocking, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Workflows-and-Analyses#API-method%3A-%2Fanalysis-xxxx%2FaddTags">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param inputObject input object (to be JSON serialized to an input hash)
+     * @param outputClass class to deserialize the server reponse to
+     * @param env environment object specifying the auth token and remote server and protocol
+     *
+     * @return future that completes with the response object; the future fails with
+     *         {@link DXAPIException} or {@link DXHTTPException} if the request fails
+     */
+    public static <T> ListenableFuture<T> analysisAddTagsAsync(String objectId, Object inputObject, Class<T> outputClass, DXEnvironment env) {
+        return new DXHTTPRequest(env).requestAsync("/" + objectId + "/" + "addTags",
+                inputObject, outputClass, RetryStrategy.SAFE_TO_RETRY);
     }
 
     /**
@@ -247,9 +309,8 @@ public final class DXAPI {
      *             the response (includes HTTP protocol errors).
      */
     public static <T> T analysisDescribe(String objectId, Object inputObject, Class<T> outputClass) {
-        return DXJSON.safeTreeToValue(
-                new DXHTTPRequest().request("/" + objectId + "/" + "describe",
-                        mapper.valueToTree(inputObject), RetryStrategy.SAFE_TO_RETRY), outputClass);
+        return new DXHTTPRequest().request("/" + objectId + "/" + "describe",
+                inputObject, outputClass, RetryStrategy.SAFE_TO_RETRY);
     }
     /**
      * Invokes the analysisDescribe method with an empty input using the given environment, deserializing to an object of the specified class.
@@ -292,9 +353,71 @@ public final class DXAPI {
      *             the response (includes HTTP protocol errors).
      */
     public static <T> T analysisDescribe(String objectId, Object inputObject, Class<T> outputClass, DXEnvironment env) {
-        return DXJSON.safeTreeToValue(
-            new DXHTTPRequest(env).request("/" + objectId + "/" + "describe",
-                    mapper.valueToTree(inputObject), RetryStrategy.SAFE_TO_RETRY), outputClass);
+        return new DXHTTPRequest(env).request("/" + objectId + "/" + "describe",
+                inputObject, outputClass, RetryStrategy.SAFE_TO_RETRY);
+    }
+
+    /**
+     * Invokes the analysisDescribe method with an empty input without blocking, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Workflows-and-Analyses#API-method%3A-%2Fanalysis-xxxx%2Fdescribe">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param outputClass class to deserialize the server reponse to
+     *
+     * @return future that completes with the response object; the future fails with
+     *         {@link DXAPIException} or {@link DXHTTPException} if the request fails
+     */
+    public static <T> ListenableFuture<T> analysisDescribeAsync(String objectId, Class<T> outputClass) {
+        return analysisDescribeAsync(objectId, mapper.createObjectNode(), outputClass);
+    }
+    /**
+     * Invokes the analysisDescribe method with the given input without blocking, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Workflows-and-Analyses#API-method%3A-%2Fanalysis-xxxx%2Fdescribe">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param inputObject input object (to be JSON serialized to an input hash)
+     * @param outputClass class to deserialize the server reponse to
+     *
+     * @return future that completes with the response object; the future fails with
+     *         {@link DXAPIException} or {@link DXHTTPException} if the request fails
+     */
+    public static <T> ListenableFuture<T> analysisDescribeAsync(String objectId, Object inputObject, Class<T> outputClass) {
+        return new DXHTTPRequest().requestAsync("/" + objectId + "/" + "describe",
+                inputObject, outputClass, RetryStrategy.SAFE_TO_RETRY);
+    }
+    /**
+     * Invokes the analysisDescribe method with an empty input using the given environment without blocking, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Workflows-and-Analyses#API-method%3A-%2Fanalysis-xxxx%2Fdescribe">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param outputClass class to deserialize the server reponse to
+     * @param env environment object specifying the auth token and remote server and protocol
+     *
+     * @return future that completes with the response object; the future fails with
+     *         {@link DXAPIException} or {@link DXHTTPException} if the request fails
+     */
+    public static <T> ListenableFuture<T> analysisDescribeAsync(String objectId, Class<T> outputClass, DXEnvironment env) {
+        return analysisDescribeAsync(objectId, mapper.createObjectNode(), outputClass, env);
+    }
+    /**
+     * Invokes the analysisDescribe method with the given input using the given environment without blocking, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Workflows-and-Analyses#API-method%3A-%2Fanalysis-xxxx%2Fdescribe">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param inputObject input object (to be JSON serialized to an input hash)
+     * @param outputClass class to deserialize the server reponse to
+     * @param env environment object specifying the auth token and remote server and protocol
+     *
+     * @return future that completes with the response object; the future fails with
+     *         {@link DXAPIException} or {@link DXHTTPException} if the request fails
+     */
+    public static <T> ListenableFuture<T> analysisDescribeAsync(String objectId, Object inputObject, Class<T> outputClass, DXEnvironment env) {
+        return new DXHTTPRequest(env).requestAsync("/" + objectId + "/" + "describe",
+                inputObject, outputClass, RetryStrategy.SAFE_TO_RETRY);
     }
 
     /**
@@ -431,9 +554,8 @@ public final class DXAPI {
      *             the response (includes HTTP protocol errors).
      */
     public static <T> T analysisRemoveTags(String objectId, Object inputObject, Class<T> outputClass) {
-        return DXJSON.safeTreeToValue(
-                new DXHTTPRequest().request("/" + objectId + "/" + "removeTags",
-                        mapper.valueToTree(inputObject), RetryStrategy.SAFE_TO_RETRY), outputClass);
+        return new DXHTTPRequest().request("/" + objectId + "/" + "removeTags",
+                inputObject, outputClass, RetryStrategy.SAFE_TO_RETRY);
     }
     /**
      * Invokes the analysisRemoveTags method with an empty input using the given environment, deserializing to an object of the specified class.
@@ -476,9 +598,71 @@ public final class DXAPI {
      *             the response (includes HTTP protocol errors).
      */
     public static <T> T analysisRemoveTags(String objectId, Object inputObject, Class<T> outputClass, DXEnvironment env) {
-        return DXJSON.safeTreeToValue(
-            new DXHTTPRequest(env).request("/" + objectId + "/" + "removeTags",
-                    mapper.valueToTree(inputObject), RetryStrategy.SAFE_TO_RETRY), outputClass);
+        return new DXHTTPRequest(env).request("/" + objectId + "/" + "removeTags",
+                inputObject, outputClass, RetryStrategy.SAFE_TO_RETRY);
+    }
+
+    /**
+     * Invokes the analysisRemoveTags method with an empty input without blocking, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Workflows-and-Analyses#API-method%3A-%2Fanalysis-xxxx%2FremoveTags">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param outputClass class to deserialize the server reponse to
+     *
+     * @return future that completes with the response object; the future fails with
+     *         {@link DXAPIException} or {@link DXHTTPException} if the request fails
+     */
+    public static <T> ListenableFuture<T> analysisRemoveTagsAsync(String objectId, Class<T> outputClass) {
+        return analysisRemoveTagsAsync(objectId, mapper.createObjectNode(), outputClass);
+    }
+    /**
+     * Invokes the analysisRemoveTags method with the given input without blocking, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Workflows-and-Analyses#API-method%3A-%2Fanalysis-xxxx%2FremoveTags">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param inputObject input object (to be JSON serialized to an input hash)
+     * @param outputClass class to deserialize the server reponse to
+     *
+     * @return future that completes with the response object; the future fails with
+     *         {@link DXAPIException} or {@link DXHTTPException} if the request fails
+     */
+    public static <T> ListenableFuture<T> analysisRemoveTagsAsync(String objectId, Object inputObject, Class<T> outputClass) {
+        return new DXHTTPRequest().requestAsync("/" + objectId + "/" + "removeTags",
+                inputObject, outputClass, RetryStrategy.SAFE_TO_RETRY);
+    }
+    /**
+     * Invokes the analysisRemoveTags method with an empty input using the given environment without blocking, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Workflows-and-Analyses#API-method%3A-%2Fanalysis-xxxx%2FremoveTags">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param outputClass class to deserialize the server reponse to
+     * @param env environment object specifying the auth token and remote server and protocol
+     *
+     * @return future that completes with the response object; the future fails with
+     *         {@link DXAPIException} or {@link DXHTTPException} if the request fails
+     */
+    public static <T> ListenableFuture<T> analysisRemoveTagsAsync(String objectId, Class<T> outputClass, DXEnvironment env) {
+        return analysisRemoveTagsAsync(objectId, mapper.createObjectNode(), outputClass, env);
+    }
+    /**
+     * Invokes the analysisRemoveTags method with the given input using the given environment without blocking, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Workflows-and-Analyses#API-method%3A-%2Fanalysis-xxxx%2FremoveTags">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param inputObject input object (to be JSON serialized to an input hash)
+     * @param outputClass class to deserialize the server reponse to
+     * @param env environment object specifying the auth token and remote server and protocol
+     *
+     * @return future that completes with the response object; the future fails with
+     *         {@link DXAPIException} or {@link DXHTTPException} if the request fails
+     */
+    public static <T> ListenableFuture<T> analysisRemoveTagsAsync(String objectId, Object inputObject, Class<T> outputClass, DXEnvironment env) {
+        return new DXHTTPRequest(env).requestAsync("/" + objectId + "/" + "removeTags",
+                inputObject, outputClass, RetryStrategy.SAFE_TO_RETRY);
     }
 
     /**
@@ -615,9 +799,8 @@ public final class DXAPI {
      *             the response (includes HTTP protocol errors).
      */
     public static <T> T analysisSetProperties(String objectId, Object inputObject, Class<T> outputClass) {
-        return DXJSON.safeTreeToValue(
-                new DXHTTPRequest().request("/" + objectId + "/" + "setProperties",
-                        mapper.valueToTree(inputObject), RetryStrategy.SAFE_TO_RETRY), outputClass);
+        return new DXHTTPRequest().request("/" + objectId + "/" + "setProperties",
+                inputObject, outputClass, RetryStrategy.SAFE_TO_RETRY);
     }
     /**
      * Invokes the analysisSetProperties method with an empty input using the given environment, deserializing to an object of the specified class.
@@ -660,9 +843,71 @@ public final class DXAPI {
      *             the response (includes HTTP protocol errors).
      */
     public static <T> T analysisSetProperties(String objectId, Object inputObject, Class<T> outputClass, DXEnvironment env) {
-        return DXJSON.safeTreeToValue(
-            new DXHTTPRequest(env).request("/" + objectId + "/" + "setProperties",
-                    mapper.valueToTree(inputObject), RetryStrategy.SAFE_TO_RETRY), outputClass);
+        return new DXHTTPRequest(env).request("/" + objectId + "/" + "setProperties",
+                inputObject, outputClass, RetryStrategy.SAFE_TO_RETRY);
+    }
+
+    /**
+     * Invokes the analysisSetProperties method with an empty input without blocking, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Workflows-and-Analyses#API-method%3A-%2Fanalysis-xxxx%2FsetProperties">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param outputClass class to deserialize the server reponse to
+     *
+     * @return future that completes with the response object; the future fails with
+     *         {@link DXAPIException} or {@link DXHTTPException} if the request fails
+     */
+    public static <T> ListenableFuture<T> analysisSetPropertiesAsync(String objectId, Class<T> outputClass) {
+        return analysisSetPropertiesAsync(objectId, mapper.createObjectNode(), outputClass);
+    }
+    /**
+     * Invokes the analysisSetProperties method with the given input without blocking, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Workflows-and-Analyses#API-method%3A-%2Fanalysis-xxxx%2FsetProperties">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param inputObject input object (to be JSON serialized to an input hash)
+     * @param outputClass class to deserialize the server reponse to
+     *
+     * @return future that completes with the response object; the future fails with
+     *         {@link DXAPIException} or {@link DXHTTPException} if the request fails
+     */
+    public static <T> ListenableFuture<T> analysisSetPropertiesAsync(String objectId, Object inputObject, Class<T> outputClass) {
+        return new DXHTTPRequest().requestAsync("/" + objectId + "/" + "setProperties",
+                inputObject, outputClass, RetryStrategy.SAFE_TO_RETRY);
+    }
+    /**
+     * Invokes the analysisSetProperties method with an empty input using the given environment without blocking, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Workflows-and-Analyses#API-method%3A-%2Fanalysis-xxxx%2FsetProperties">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param outputClass class to deserialize the server reponse to
+     * @param env environment object specifying the auth token and remote server and protocol
+     *
+     * @return future that completes with the response object; the future fails with
+     *         {@link DXAPIException} or {@link DXHTTPException} if the request fails
+     */
+    public static <T> ListenableFuture<T> analysisSetPropertiesAsync(String objectId, Class<T> outputClass, DXEnvironment env) {
+        return analysisSetPropertiesAsync(objectId, mapper.createObjectNode(), outputClass, env);
+    }
+    /**
+     * Invokes the analysisSetProperties method with the given input using the given environment without blocking, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Workflows-and-Analyses#API-method%3A-%2Fanalysis-xxxx%2FsetProperties">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param inputObject input object (to be JSON serialized to an input hash)
+     * @param outputClass class to deserialize the server reponse to
+     * @param env environment object specifying the auth token and remote server and protocol
+     *
+     * @return future that completes with the response object; the future fails with
+     *         {@link DXAPIException} or {@link DXHTTPException} if the request fails
+     */
+    public static <T> ListenableFuture<T> analysisSetPropertiesAsync(String objectId, Object inputObject, Class<T> outputClass, DXEnvironment env) {
+        return new DXHTTPRequest(env).requestAsync("/" + objectId + "/" + "setProperties",
+                inputObject, outputClass, RetryStrategy.SAFE_TO_RETRY);
     }
 
     /**
@@ -799,9 +1044,8 @@ public final class DXAPI {
      *             the response (includes HTTP protocol errors).
      */
     public static <T> T analysisTerminate(String objectId, Object inputObject, Class<T> outputClass) {
-        return DXJSON.safeTreeToValue(
-                new DXHTTPRequest().request("/" + objectId + "/" + "terminate",
-                        mapper.valueToTree(inputObject), RetryStrategy.SAFE_TO_RETRY), outputClass);
+        return new DXHTTPRequest().request("/" + objectId + "/" + "terminate",
+                inputObject, outputClass, RetryStrategy.SAFE_TO_RETRY);
     }
     /**
      * Invokes the analysisTerminate method with an empty input using the given environment, deserializing to an object of the specified class.
@@ -844,9 +1088,71 @@ public final class DXAPI {
      *             the response (includes HTTP protocol errors).
      */
     public static <T> T analysisTerminate(String objectId, Object inputObject, Class<T> outputClass, DXEnvironment env) {
-        return DXJSON.safeTreeToValue(
-            new DXHTTPRequest(env).request("/" + objectId + "/" + "terminate",
-                    mapper.valueToTree(inputObject), RetryStrategy.SAFE_TO_RETRY), outputClass);
+        return new DXHTTPRequest(env).request("/" + objectId + "/" + "terminate",
+                inputObject, outputClass, RetryStrategy.SAFE_TO_RETRY);
+    }
+
+    /**
+     * Invokes the analysisTerminate method with an empty input without blocking, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Workflows-and-Analyses#API-method%3A-%2Fanalysis-xxxx%2Fterminate">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param outputClass class to deserialize the server reponse to
+     *
+     * @return future that completes with the response object; the future fails with
+     *         {@link DXAPIException} or {@link DXHTTPException} if the request fails
+     */
+    public static <T> ListenableFuture<T> analysisTerminateAsync(String objectId, Class<T> outputClass) {
+        return analysisTerminateAsync(objectId, mapper.createObjectNode(), outputClass);
+    }
+    /**
+     * Invokes the analysisTerminate method with the given input without blocking, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Workflows-and-Analyses#API-method%3A-%2Fanalysis-xxxx%2Fterminate">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param inputObject input object (to be JSON serialized to an input hash)
+     * @param outputClass class to deserialize the server reponse to
+     *
+     * @return future that completes with the response object; the future fails with
+     *         {@link DXAPIException} or {@link DXHTTPException} if the request fails
+     */
+    public static <T> ListenableFuture<T> analysisTerminateAsync(String objectId, Object inputObject, Class<T> outputClass) {
+        return new DXHTTPRequest().requestAsync("/" + objectId + "/" + "terminate",
+                inputObject, outputClass, RetryStrategy.SAFE_TO_RETRY);
+    }
+    /**
+     * Invokes the analysisTerminate method with an empty input using the given environment without blocking, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Workflows-and-Analyses#API-method%3A-%2Fanalysis-xxxx%2Fterminate">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param outputClass class to deserialize the server reponse to
+     * @param env environment object specifying the auth token and remote server and protocol
+     *
+     * @return future that completes with the response object; the future fails with
+     *         {@link DXAPIException} or {@link DXHTTPException} if the request fails
+     */
+    public static <T> ListenableFuture<T> analysisTerminateAsync(String objectId, Class<T> outputClass, DXEnvironment env) {
+        return analysisTerminateAsync(objectId, mapper.createObjectNode(), outputClass, env);
+    }
+    /**
+     * Invokes the analysisTerminate method with the given input using the given environment without blocking, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Workflows-and-Analyses#API-method%3A-%2Fanalysis-xxxx%2Fterminate">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param inputObject input object (to be JSON serialized to an input hash)
+     * @param outputClass class to deserialize the server reponse to
+     * @param env environment object specifying the auth token and remote server and protocol
+     *
+     * @return future that completes with the response object; the future fails with
+     *         {@link DXAPIException} or {@link DXHTTPException} if the request fails
+     */
+    public static <T> ListenableFuture<T> analysisTerminateAsync(String objectId, Object inputObject, Class<T> outputClass, DXEnvironment env) {
+        return new DXHTTPRequest(env).requestAsync("/" + objectId + "/" + "terminate",
+                inputObject, outputClass, RetryStrategy.SAFE_TO_RETRY);
     }
 
     /**
@@ -983,9 +1289,8 @@ public final class DXAPI {
      *             the response (includes HTTP protocol errors).
      */
     public static <T> T appAddAuthorizedUsers(String objectId, Object inputObject, Class<T> outputClass) {
-        return DXJSON.safeTreeToValue(
-                new DXHTTPRequest().request("/" + objectId + "/" + "addAuthorizedUsers",
-                        mapper.valueToTree(inputObject), RetryStrategy.SAFE_TO_RETRY), outputClass);
+        return new DXHTTPRequest().request("/" + objectId + "/" + "addAuthorizedUsers",
+                inputObject, outputClass, RetryStrategy.SAFE_TO_RETRY);
     }
     /**
      * Invokes the appAddAuthorizedUsers method with an empty input using the given environment, deserializing to an object of the specified class.
@@ -1028,9 +1333,71 @@ public final class DXAPI {
      *             the response (includes HTTP protocol errors).
      */
     public static <T> T appAddAuthorizedUsers(String objectId, Object inputObject, Class<T> outputClass, DXEnvironment env) {
-        return DXJSON.safeTreeToValue(
-            new DXHTTPRequest(env).request("/" + objectId + "/" + "addAuthorizedUsers",
-                    mapper.valueToTree(inputObject), RetryStrategy.SAFE_TO_RETRY), outputClass);
+        return new DXHTTPRequest(env).request("/" + objectId + "/" + "addAuthorizedUsers",
+                inputObject, outputClass, RetryStrategy.SAFE_TO_RETRY);
+    }
+
+    /**
+     * Invokes the appAddAuthorizedUsers method with an empty input without blocking, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Apps#API-method:-/app-xxxx%5B/yyyy%5D/addAuthorizedUsers">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param outputClass class to deserialize the server reponse to
+     *
+     * @return future that completes with the response object; the future fails with
+     *         {@link DXAPIException} or {@link DXHTTPException} if the request fails
+     */
+    public static <T> ListenableFuture<T> appAddAuthorizedUsersAsync(String objectId, Class<T> outputClass) {
+        return appAddAuthorizedUsersAsync(objectId, mapper.createObjectNode(), outputClass);
+    }
+    /**
+     * Invokes the appAddAuthorizedUsers method with the given input without blocking, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Apps#API-method:-/app-xxxx%5B/yyyy%5D/addAuthorizedUsers">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param inputObject input object (to be JSON serialized to an input hash)
+     * @param outputClass class to deserialize the server reponse to
+     *
+     * @return future that completes with the response object; the future fails with
+     *         {@link DXAPIException} or {@link DXHTTPException} if the request fails
+     */
+    public static <T> ListenableFuture<T> appAddAuthorizedUsersAsync(String objectId, Object inputObject, Class<T> outputClass) {
+        return new DXHTTPRequest().requestAsync("/" + objectId + "/" + "addAuthorizedUsers",
+                inputObject, outputClass, RetryStrategy.SAFE_TO_RETRY);
+    }
+    /**
+     * Invokes the appAddAuthorizedUsers method with an empty input using the given environment without blocking, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Apps#API-method:-/app-xxxx%5B/yyyy%5D/addAuthorizedUsers">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param outputClass class to deserialize the server reponse to
+     * @param env environment object specifying the auth token and remote server and protocol
+     *
+     * @return future that completes with the response object; the future fails with
+     *         {@link DXAPIException} or {@link DXHTTPException} if the request fails
+     */
+    public static <T> ListenableFuture<T> appAddAuthorizedUsersAsync(String objectId, Class<T> outputClass, DXEnvironment env) {
+        return appAddAuthorizedUsersAsync(objectId, mapper.createObjectNode(), outputClass, env);
+    }
+    /**
+     * Invokes the appAddAuthorizedUsers method with the given input using the given environment without blocking, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Apps#API-method:-/app-xxxx%5B/yyyy%5D/addAuthorizedUsers">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param inputObject input object (to be JSON serialized to an input hash)
+     * @param outputClass class to deserialize the server reponse to
+     * @param env environment object specifying the auth token and remote server and protocol
+     *
+     * @return future that completes with the response object; the future fails with
+     *         {@link DXAPIException} or {@link DXHTTPException} if the request fails
+     */
+    public static <T> ListenableFuture<T> appAddAuthorizedUsersAsync(String objectId, Object inputObject, Class<T> outputClass, DXEnvironment env) {
+        return new DXHTTPRequest(env).requestAsync("/" + objectId + "/" + "addAuthorizedUsers",
+                inputObject, outputClass, RetryStrategy.SAFE_TO_RETRY);
     }
 
     /**
@@ -1167,9 +1534,8 @@ public final class DXAPI {
      *             the response (includes HTTP protocol errors).
      */
     public static <T> T appAddCategories(String objectId, Object inputObject, Class<T> outputClass) {
-        return DXJSON.safeTreeToValue(
-                new DXHTTPRequest().request("/" + objectId + "/" + "addCategories",
-                        mapper.valueToTree(inputObject), RetryStrategy.SAFE_TO_RETRY), outputClass);
+        return new DXHTTPRequest().request("/" + objectId + "/" + "addCategories",
+                inputObject, outputClass, RetryStrategy.SAFE_TO_RETRY);
     }
     /**
      * Invokes the appAddCategories method with an empty input using the given environment, deserializing to an object of the specified class.
@@ -1212,24 +1578,86 @@ public final class DXAPI {
      *             the response (includes HTTP protocol errors).
      */
     public static <T> T appAddCategories(String objectId, Object inputObject, Class<T> outputClass, DXEnvironment env) {
-        return DXJSON.safeTreeToValue(
-            new DXHTTPRequest(env).request("/" + objectId + "/" + "addCategories",
-                    mapper.valueToTree(inputObject), RetryStrategy.SAFE_TO_RETRY), outputClass);
+        return new DXHTTPRequest(env).request("/" + objectId + "/" + "addCategories",
+                inputObject, outputClass, RetryStrategy.SAFE_TO_RETRY);
     }
 
     /**
-     * Invokes the appAddCategories method.
+     * Invokes the appAddCategories method with an empty input without blocking, deserializing to an object of the specified class.
      *
      * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Apps#API-method:-/app-xxxx%5B/yyyy%5D/addCategories">API specification</a>.
      *
      * @param objectId ID of the object to operate on
+     * @param outputClass class to deserialize the server reponse to
      *
-     * @return Server response parsed from JSON
+     * @return future that completes with the response object; the future fails with
+     *         {@link DXAPIException} or {@link DXHTTPException} if the request fails
+     */
+    public static <T> ListenableFuture<T> appAddCategoriesAsync(String objectId, Class<T> outputClass) {
+        return appAddCategoriesAsync(objectId, mapper.createObjectNode(), outputClass);
+    }
+    /**
+     * Invokes the appAddCategories method with the given input without blocking, deserializing to an object of the specified class.
      *
-     * @throws DXAPIException
-     *             If the server returns a complete response with an HTTP status
-     *             code other than 200 (OK).
-     * @throws DXHTTPException
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Apps#API-method:-/app-xxxx%5B/yyyy%5D/addCategories">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param inputObject input object (to be JSON serialized to an input hash)
+     * @param outputClass class to deserialize the server reponse to
+     *
+     * @return future that completes with the response object; the future fails with
+     *         {@link DXAPIException} or {@link DXHTTPException} if the request fails
+     */
+    public static <T> ListenableFuture<T> appAddCategoriesAsync(String objectId, Object inputObject, Class<T> outputClass) {
+        return new DXHTTPRequest().requestAsync("/" + objectId + "/" + "addCategories",
+                inputObject, outputClass, RetryStrategy.SAFE_TO_RETRY);
+    }
+    /**
+     * Invokes the appAddCategories method with an empty input using the given environment without blocking, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Apps#API-method:-/app-xxxx%5B/yyyy%5D/addCategories">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param outputClass class to deserialize the server reponse to
+     * @param env environment object specifying the auth token and remote server and protocol
+     *
+     * @return future that completes with the response object; the future fails with
+     *         {@link DXAPIException} or {@link DXHTTPException} if the request fails
+     */
+    public static <T> ListenableFuture<T> appAddCategoriesAsync(String objectId, Class<T> outputClass, DXEnvironment env) {
+        return appAddCategoriesAsync(objectId, mapper.createObjectNode(), outputClass, env);
+    }
+    /**
+     * Invokes the appAddCategories method with the given input using the given environment without blocking, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Apps#API-method:-/app-xxxx%5B/yyyy%5D/addCategories">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param inputObject input object (to be JSON serialized to an input hash)
+     * @param outputClass class to deserialize the server reponse to
+     * @param env environment object specifying the auth token and remote server and protocol
+     *
+     * @return future that completes with the response object; the future fails with
+     *         {@link DXAPIException} or {@link DXHTTPException} if the request fails
+     */
+    public static <T> ListenableFuture<T> appAddCategoriesAsync(String objectId, Object inputObject, Class<T> outputClass, DXEnvironment env) {
+        return new DXHTTPRequest(env).requestAsync("/" + objectId + "/" + "addCategories",
+                inputObject, outputClass, RetryStrategy.SAFE_TO_RETRY);
+    }
+
+    /**
+     * Invokes the appAddCategories method.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Apps#API-method:-/app-xxxx%5B/yyyy%5D/addCategories">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     *
+     * @return Server response parsed from JSON
+     *
+     * @throws DXAPIException
+     *             If the server returns a complete response with an HTTP status
+     *             code other than 200 (OK).
+     * @throws DXHTTPException
      *             If an error occurs while making the HTTP request or obtaining
      *             the response (includes HTTP protocol errors).
      *
@@ -1351,9 +1779,8 @@ public final class DXAPI {
      *             the response (includes HTTP protocol errors).
      */
     public static <T> T appAddDevelopers(String objectId, Object inputObject, Class<T> outputClass) {
-        return DXJSON.safeTreeToValue(
-                new DXHTTPRequest().request("/" + objectId + "/" + "addDevelopers",
-                        mapper.valueToTree(inputObject), RetryStrategy.SAFE_TO_RETRY), outputClass);
+        return new DXHTTPRequest().request("/" + objectId + "/" + "addDevelopers",
+                inputObject, outputClass, RetryStrategy.SAFE_TO_RETRY);
     }
     /**
      * Invokes the appAddDevelopers method with an empty input using the given environment, deserializing to an object of the specified class.
@@ -1396,9 +1823,71 @@ public final class DXAPI {
      *             the response (includes HTTP protocol errors).
      */
     public static <T> T appAddDevelopers(String objectId, Object inputObject, Class<T> outputClass, DXEnvironment env) {
-        return DXJSON.safeTreeToValue(
-            new DXHTTPRequest(env).request("/" + objectId + "/" + "addDevelopers",
-                    mapper.valueToTree(inputObject), RetryStrategy.SAFE_TO_RETRY), outputClass);
+        return new DXHTTPRequest(env).request("/" + objectId + "/" + "addDevelopers",
+                inputObject, outputClass, RetryStrategy.SAFE_TO_RETRY);
+    }
+
+    /**
+     * Invokes the appAddDevelopers method with an empty input without blocking, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Apps#API-method:-/app-xxxx%5B/yyyy%5D/addDevelopers">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param outputClass class to deserialize the server reponse to
+     *
+     * @return future that completes with the response object; the future fails with
+     *         {@link DXAPIException} or {@link DXHTTPException} if the request fails
+     */
+    public static <T> ListenableFuture<T> appAddDevelopersAsync(String objectId, Class<T> outputClass) {
+        return appAddDevelopersAsync(objectId, mapper.createObjectNode(), outputClass);
+    }
+    /**
+     * Invokes the appAddDevelopers method with the given input without blocking, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Apps#API-method:-/app-xxxx%5B/yyyy%5D/addDevelopers">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param inputObject input object (to be JSON serialized to an input hash)
+     * @param outputClass class to deserialize the server reponse to
+     *
+     * @return future that completes with the response object; the future fails with
+     *         {@link DXAPIException} or {@link DXHTTPException} if the request fails
+     */
+    public static <T> ListenableFuture<T> appAddDevelopersAsync(String objectId, Object inputObject, Class<T> outputClass) {
+        return new DXHTTPRequest().requestAsync("/" + objectId + "/" + "addDevelopers",
+                inputObject, outputClass, RetryStrategy.SAFE_TO_RETRY);
+    }
+    /**
+     * Invokes the appAddDevelopers method with an empty input using the given environment without blocking, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Apps#API-method:-/app-xxxx%5B/yyyy%5D/addDevelopers">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param outputClass class to deserialize the server reponse to
+     * @param env environment object specifying the auth token and remote server and protocol
+     *
+     * @return future that completes with the response object; the future fails with
+     *         {@link DXAPIException} or {@link DXHTTPException} if the request fails
+     */
+    public static <T> ListenableFuture<T> appAddDevelopersAsync(String objectId, Class<T> outputClass, DXEnvironment env) {
+        return appAddDevelopersAsync(objectId, mapper.createObjectNode(), outputClass, env);
+    }
+    /**
+     * Invokes the appAddDevelopers method with the given input using the given environment without blocking, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Apps#API-method:-/app-xxxx%5B/yyyy%5D/addDevelopers">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param inputObject input object (to be JSON serialized to an input hash)
+     * @param outputClass class to deserialize the server reponse to
+     * @param env environment object specifying the auth token and remote server and protocol
+     *
+     * @return future that completes with the response object; the future fails with
+     *         {@link DXAPIException} or {@link DXHTTPException} if the request fails
+     */
+    public static <T> ListenableFuture<T> appAddDevelopersAsync(String objectId, Object inputObject, Class<T> outputClass, DXEnvironment env) {
+        return new DXHTTPRequest(env).requestAsync("/" + objectId + "/" + "addDevelopers",
+                inputObject, outputClass, RetryStrategy.SAFE_TO_RETRY);
     }
 
     /**
@@ -1535,9 +2024,8 @@ public final class DXAPI {
      *             the response (includes HTTP protocol errors).
      */
     public static <T> T appAddTags(String objectId, Object inputObject, Class<T> outputClass) {
-        return DXJSON.safeTreeToValue(
-                new DXHTTPRequest().request("/" + objectId + "/" + "addTags",
-                        mapper.valueToTree(inputObject), RetryStrategy.SAFE_TO_RETRY), outputClass);
+        return new DXHTTPRequest().request("/" + objectId + "/" + "addTags",
+                inputObject, outputClass, RetryStrategy.SAFE_TO_RETRY);
     }
     /**
      * Invokes the appAddTags method with an empty input using the given environment, deserializing to an object of the specified class.
@@ -1580,9 +2068,71 @@ public final class DXAPI {
      *             the response (includes HTTP protocol errors).
      */
     public static <T> T appAddTags(String objectId, Object inputObject, Class<T> outputClass, DXEnvironment env) {
-        return DXJSON.safeTreeToValue(
-            new DXHTTPRequest(env).request("/" + objectId + "/" + "addTags",
-                    mapper.valueToTree(inputObject), RetryStrategy.SAFE_TO_RETRY), outputClass);
+        return new DXHTTPRequest(env).request("/" + objectId + "/" + "addTags",
+                inputObject, outputClass, RetryStrategy.SAFE_TO_RETRY);
+    }
+
+    /**
+     * Invokes the appAddTags method with an empty input without blocking, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Apps#API-method:-/app-xxxx%5B/yyyy%5D/addTags">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param outputClass class to deserialize the server reponse to
+     *
+     * @return future that completes with the response object; the future fails with
+     *         {@link DXAPIException} or {@link DXHTTPException} if the request fails
+     */
+    public static <T> ListenableFuture<T> appAddTagsAsync(String objectId, Class<T> outputClass) {
+        return appAddTagsAsync(objectId, mapper.createObjectNode(), outputClass);
+    }
+    /**
+     * Invokes the appAddTags method with the given input without blocking, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Apps#API-method:-/app-xxxx%5B/yyyy%5D/addTags">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param inputObject input object (to be JSON serialized to an input hash)
+     * @param outputClass class to deserialize the server reponse to
+     *
+     * @return future that completes with the response object; the future fails with
+     *         {@link DXAPIException} or {@link DXHTTPException} if the request fails
+     */
+    public static <T> ListenableFuture<T> appAddTagsAsync(String objectId, Object inputObject, Class<T> outputClass) {
+        return new DXHTTPRequest().requestAsync("/" + objectId + "/" + "addTags",
+                inputObject, outputClass, RetryStrategy.SAFE_TO_RETRY);
+    }
+    /**
+     * Invokes the appAddTags method with an empty input using the given environment without blocking, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Apps#API-method:-/app-xxxx%5B/yyyy%5D/addTags">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param outputClass class to deserialize the server reponse to
+     * @param env environment object specifying the auth token and remote server and protocol
+     *
+     * @return future that completes with the response object; the future fails with
+     *         {@link DXAPIException} or {@link DXHTTPException} if the request fails
+     */
+    public static <T> ListenableFuture<T> appAddTagsAsync(String objectId, Class<T> outputClass, DXEnvironment env) {
+        return appAddTagsAsync(objectId, mapper.createObjectNode(), outputClass, env);
+    }
+    /**
+     * Invokes the appAddTags method with the given input using the given environment without blocking, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Apps#API-method:-/app-xxxx%5B/yyyy%5D/addTags">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param inputObject input object (to be JSON serialized to an input hash)
+     * @param outputClass class to deserialize the server reponse to
+     * @param env environment object specifying the auth token and remote server and protocol
+     *
+     * @return future that completes with the response object; the future fails with
+     *         {@link DXAPIException} or {@link DXHTTPException} if the request fails
+     */
+    public static <T> ListenableFuture<T> appAddTagsAsync(String objectId, Object inputObject, Class<T> outputClass, DXEnvironment env) {
+        return new DXHTTPRequest(env).requestAsync("/" + objectId + "/" + "addTags",
+                inputObject, outputClass, RetryStrategy.SAFE_TO_RETRY);
     }
 
     /**
@@ -1719,9 +2269,8 @@ public final class DXAPI {
      *             the response (includes HTTP protocol errors).
      */
     public static <T> T appDelete(String objectId, Object inputObject, Class<T> outputClass) {
-        return DXJSON.safeTreeToValue(
-                new DXHTTPRequest().request("/" + objectId + "/" + "delete",
-                        mapper.valueToTree(inputObject), RetryStrategy.SAFE_TO_RETRY), outputClass);
+        return new DXHTTPRequest().request("/" + objectId + "/" + "delete",
+                inputObject, outputClass, RetryStrategy.SAFE_TO_RETRY);
     }
     /**
      * Invokes the appDelete method with an empty input using the given environment, deserializing to an object of the specified class.
@@ -1764,9 +2313,71 @@ public final class DXAPI {
      *             the response (includes HTTP protocol errors).
      */
     public static <T> T appDelete(String objectId, Object inputObject, Class<T> outputClass, DXEnvironment env) {
-        return DXJSON.safeTreeToValue(
-            new DXHTTPRequest(env).request("/" + objectId + "/" + "delete",
-                    mapper.valueToTree(inputObject), RetryStrategy.SAFE_TO_RETRY), outputClass);
+        return new DXHTTPRequest(env).request("/" + objectId + "/" + "delete",
+                inputObject, outputClass, RetryStrategy.SAFE_TO_RETRY);
+    }
+
+    /**
+     * Invokes the appDelete method with an empty input without blocking, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Apps#API-method:-/app-xxxx%5B/yyyy%5D/delete">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param outputClass class to deserialize the server reponse to
+     *
+     * @return future that completes with the response object; the future fails with
+     *         {@link DXAPIException} or {@link DXHTTPException} if the request fails
+     */
+    public static <T> ListenableFuture<T> appDeleteAsync(String objectId, Class<T> outputClass) {
+        return appDeleteAsync(objectId, mapper.createObjectNode(), outputClass);
+    }
+    /**
+     * Invokes the appDelete method with the given input without blocking, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Apps#API-method:-/app-xxxx%5B/yyyy%5D/delete">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param inputObject input object (to be JSON serialized to an input hash)
+     * @param outputClass class to deserialize the server reponse to
+     *
+     * @return future that completes with the response object; the future fails with
+     *         {@link DXAPIException} or {@link DXHTTPException} if the request fails
+     */
+    public static <T> ListenableFuture<T> appDeleteAsync(String objectId, Object inputObject, Class<T> outputClass) {
+        return new DXHTTPRequest().requestAsync("/" + objectId + "/" + "delete",
+                inputObject, outputClass, RetryStrategy.SAFE_TO_RETRY);
+    }
+    /**
+     * Invokes the appDelete method with an empty input using the given environment without blocking, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Apps#API-method:-/app-xxxx%5B/yyyy%5D/delete">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param outputClass class to deserialize the server reponse to
+     * @param env environment object specifying the auth token and remote server and protocol
+     *
+     * @return future that completes with the response object; the future fails with
+     *         {@link DXAPIException} or {@link DXHTTPException} if the request fails
+     */
+    public static <T> ListenableFuture<T> appDeleteAsync(String objectId, Class<T> outputClass, DXEnvironment env) {
+        return appDeleteAsync(objectId, mapper.createObjectNode(), outputClass, env);
+    }
+    /**
+     * Invokes the appDelete method with the given input using the given environment without blocking, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Apps#API-method:-/app-xxxx%5B/yyyy%5D/delete">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param inputObject input object (to be JSON serialized to an input hash)
+     * @param outputClass class to deserialize the server reponse to
+     * @param env environment object specifying the auth token and remote server and protocol
+     *
+     * @return future that completes with the response object; the future fails with
+     *         {@link DXAPIException} or {@link DXHTTPException} if the request fails
+     */
+    public static <T> ListenableFuture<T> appDeleteAsync(String objectId, Object inputObject, Class<T> outputClass, DXEnvironment env) {
+        return new DXHTTPRequest(env).requestAsync("/" + objectId + "/" + "delete",
+                inputObject, outputClass, RetryStrategy.SAFE_TO_RETRY);
     }
 
     /**
@@ -1903,9 +2514,8 @@ public final class DXAPI {
      *             the response (includes HTTP protocol errors).
      */
     public static <T> T appDescribe(String objectId, Object inputObject, Class<T> outputClass) {
-        return DXJSON.safeTreeToValue(
-                new DXHTTPRequest().request("/" + objectId + "/" + "describe",
-                        mapper.valueToTree(inputObject), RetryStrategy.SAFE_TO_RETRY), outputClass);
+        return new DXHTTPRequest().request("/" + objectId + "/" + "describe",
+                inputObject, outputClass, RetryStrategy.SAFE_TO_RETRY);
     }
     /**
      * Invokes the appDescribe method with an empty input using the given environment, deserializing to an object of the specified class.
@@ -1948,9 +2558,71 @@ public final class DXAPI {
      *             the response (includes HTTP protocol errors).
      */
     public static <T> T appDescribe(String objectId, Object inputObject, Class<T> outputClass, DXEnvironment env) {
-        return DXJSON.safeTreeToValue(
-            new DXHTTPRequest(env).request("/" + objectId + "/" + "describe",
-                    mapper.valueToTree(inputObject), RetryStrategy.SAFE_TO_RETRY), outputClass);
+        return new DXHTTPRequest(env).request("/" + objectId + "/" + "describe",
+                inputObject, outputClass, RetryStrategy.SAFE_TO_RETRY);
+    }
+
+    /**
+     * Invokes the appDescribe method with an empty input without blocking, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Apps#API-method:-/app-xxxx%5B/yyyy%5D/describe">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param outputClass class to deserialize the server reponse to
+     *
+     * @return future that completes with the response object; the future fails with
+     *         {@link DXAPIException} or {@link DXHTTPException} if the request fails
+     */
+    public static <T> ListenableFuture<T> appDescribeAsync(String objectId, Class<T> outputClass) {
+        return appDescribeAsync(objectId, mapper.createObjectNode(), outputClass);
+    }
+    /**
+     * Invokes the appDescribe method with the given input without blocking, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Apps#API-method:-/app-xxxx%5B/yyyy%5D/describe">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param inputObject input object (to be JSON serialized to an input hash)
+     * @param outputClass class to deserialize the server reponse to
+     *
+     * @return future that completes with the response object; the future fails with
+     *         {@link DXAPIException} or {@link DXHTTPException} if the request fails
+     */
+    public static <T> ListenableFuture<T> appDescribeAsync(String objectId, Object inputObject, Class<T> outputClass) {
+        return new DXHTTPRequest().requestAsync("/" + objectId + "/" + "describe",
+                inputObject, outputClass, RetryStrategy.SAFE_TO_RETRY);
+    }
+    /**
+     * Invokes the appDescribe method with an empty input using the given environment without blocking, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Apps#API-method:-/app-xxxx%5B/yyyy%5D/describe">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param outputClass class to deserialize the server reponse to
+     * @param env environment object specifying the auth token and remote server and protocol
+     *
+     * @return future that completes with the response object; the future fails with
+     *         {@link DXAPIException} or {@link DXHTTPException} if the request fails
+     */
+    public static <T> ListenableFuture<T> appDescribeAsync(String objectId, Class<T> outputClass, DXEnvironment env) {
+        return appDescribeAsync(objectId, mapper.createObjectNode(), outputClass, env);
+    }
+    /**
+     * Invokes the appDescribe method with the given input using the given environment without blocking, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Apps#API-method:-/app-xxxx%5B/yyyy%5D/describe">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param inputObject input object (to be JSON serialized to an input hash)
+     * @param outputClass class to deserialize the server reponse to
+     * @param env environment object specifying the auth token and remote server and protocol
+     *
+     * @return future that completes with the response object; the future fails with
+     *         {@link DXAPIException} or {@link DXHTTPException} if the request fails
+     */
+    public static <T> ListenableFuture<T> appDescribeAsync(String objectId, Object inputObject, Class<T> outputClass, DXEnvironment env) {
+        return new DXHTTPRequest(env).requestAsync("/" + objectId + "/" + "describe",
+                inputObject, outputClass, RetryStrategy.SAFE_TO_RETRY);
     }
 
     /**
@@ -2087,9 +2759,8 @@ public final class DXAPI {
      *             the response (includes HTTP protocol errors).
      */
     public static <T> T appGet(String objectId, Object inputObject, Class<T> outputClass) {
-        return DXJSON.safeTreeToValue(
-                new DXHTTPRequest().request("/" + objectId + "/" + "get",
-                        mapper.valueToTree(inputObject), RetryStrategy.SAFE_TO_RETRY), outputClass);
+        return new DXHTTPRequest().request("/" + objectId + "/" + "get",
+                inputObject, outputClass, RetryStrategy.SAFE_TO_RETRY);
     }
     /**
      * Invokes the appGet method with an empty input using the given environment, deserializing to an object of the specified class.
@@ -2132,9 +2803,71 @@ public final class DXAPI {
      *             the response (includes HTTP protocol errors).
      */
     public static <T> T appGet(String objectId, Object inputObject, Class<T> outputClass, DXEnvironment env) {
-        return DXJSON.safeTreeToValue(
-            new DXHTTPRequest(env).request("/" + objectId + "/" + "get",
-                    mapper.valueToTree(inputObject), RetryStrategy.SAFE_TO_RETRY), outputClass);
+        return new DXHTTPRequest(env).request("/" + objectId + "/" + "get",
+                inputObject, outputClass, RetryStrategy.SAFE_TO_RETRY);
+    }
+
+    /**
+     * Invokes the appGet method with an empty input without blocking, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Apps#API-method:-/app-xxxx%5B/yyyy%5D/get">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param outputClass class to deserialize the server reponse to
+     *
+     * @return future that completes with the response object; the future fails with
+     *         {@link DXAPIException} or {@link DXHTTPException} if the request fails
+     */
+    public static <T> ListenableFuture<T> appGetAsync(String objectId, Class<T> outputClass) {
+        return appGetAsync(objectId, mapper.createObjectNode(), outputClass);
+    }
+    /**
+     * Invokes the appGet method with the given input without blocking, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Apps#API-method:-/app-xxxx%5B/yyyy%5D/get">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param inputObject input object (to be JSON serialized to an input hash)
+     * @param outputClass class to deserialize the server reponse to
+     *
+     * @return future that completes with the response object; the future fails with
+     *         {@link DXAPIException} or {@link DXHTTPException} if the request fails
+     */
+    public static <T> ListenableFuture<T> appGetAsync(String objectId, Object inputObject, Class<T> outputClass) {
+        return new DXHTTPRequest().requestAsync("/" + objectId + "/" + "get",
+                inputObject, outputClass, RetryStrategy.SAFE_TO_RETRY);
+    }
+    /**
+     * Invokes the appGet method with an empty input using the given environment without blocking, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Apps#API-method:-/app-xxxx%5B/yyyy%5D/get">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param outputClass class to deserialize the server reponse to
+     * @param env environment object specifying the auth token and remote server and protocol
+     *
+     * @return future that completes with the response object; the future fails with
+     *         {@link DXAPIException} or {@link DXHTTPException} if the request fails
+     */
+    public static <T> ListenableFuture<T> appGetAsync(String objectId, Class<T> outputClass, DXEnvironment env) {
+        return appGetAsync(objectId, mapper.createObjectNode(), outputClass, env);
+    }
+    /**
+     * Invokes the appGet method with the given input using the given environment without blocking, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Apps#API-method:-/app-xxxx%5B/yyyy%5D/get">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param inputObject input object (to be JSON serialized to an input hash)
+     * @param outputClass class to deserialize the server reponse to
+     * @param env environment object specifying the auth token and remote server and protocol
+     *
+     * @return future that completes with the response object; the future fails with
+     *         {@link DXAPIException} or {@link DXHTTPException} if the request fails
+     */
+    public static <T> ListenableFuture<T> appGetAsync(String objectId, Object inputObject, Class<T> outputClass, DXEnvironment env) {
+        return new DXHTTPRequest(env).requestAsync("/" + objectId + "/" + "get",
+                inputObject, outputClass, RetryStrategy.SAFE_TO_RETRY);
     }
 
     /**
@@ -2271,9 +3004,8 @@ public final class DXAPI {
      *             the response (includes HTTP protocol errors).
      */
     public static <T> T appInstall(String objectId, Object inputObject, Class<T> outputClass) {
-        return DXJSON.safeTreeToValue(
-                new DXHTTPRequest().request("/" + objectId + "/" + "install",
-                        mapper.valueToTree(inputObject), RetryStrategy.SAFE_TO_RETRY), outputClass);
+        return new DXHTTPRequest().request("/" + objectId + "/" + "install",
+                inputObject, outputClass, RetryStrategy.SAFE_TO_RETRY);
     }
     /**
      * Invokes the appInstall method with an empty input using the given environment, deserializing to an object of the specified class.
@@ -2316,22 +3048,84 @@ public final class DXAPI {
      *             the response (includes HTTP protocol errors).
      */
     public static <T> T appInstall(String objectId, Object inputObject, Class<T> outputClass, DXEnvironment env) {
-        return DXJSON.safeTreeToValue(
-            new DXHTTPRequest(env).request("/" + objectId + "/" + "install",
-                    mapper.valueToTree(inputObject), RetryStrategy.SAFE_TO_RETRY), outputClass);
+        return new DXHTTPRequest(env).request("/" + objectId + "/" + "install",
+                inputObject, outputClass, RetryStrategy.SAFE_TO_RETRY);
     }
 
     /**
-     * Invokes the appInstall method.
+     * Invokes the appInstall method with an empty input without blocking, deserializing to an object of the specified class.
      *
      * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Apps#API-method:-/app-xxxx%5B/yyyy%5D/install">API specification</a>.
      *
      * @param objectId ID of the object to operate on
+     * @param outputClass class to deserialize the server reponse to
      *
-     * @return Server response parsed from JSON
+     * @return future that completes with the response object; the future fails with
+     *         {@link DXAPIException} or {@link DXHTTPException} if the request fails
+     */
+    public static <T> ListenableFuture<T> appInstallAsync(String objectId, Class<T> outputClass) {
+        return appInstallAsync(objectId, mapper.createObjectNode(), outputClass);
+    }
+    /**
+     * Invokes the appInstall method with the given input without blocking, deserializing to an object of the specified class.
      *
-     * @throws DXAPIException
-     *             If the server returns a complete response with an HTTP status
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Apps#API-method:-/app-xxxx%5B/yyyy%5D/install">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param inputObject input object (to be JSON serialized to an input hash)
+     * @param outputClass class to deserialize the server reponse to
+     *
+     * @return future that completes with the response object; the future fails with
+     *         {@link DXAPIException} or {@link DXHTTPException} if the request fails
+     */
+    public static <T> ListenableFuture<T> appInstallAsync(String objectId, Object inputObject, Class<T> outputClass) {
+        return new DXHTTPRequest().requestAsync("/" + objectId + "/" + "install",
+                inputObject, outputClass, RetryStrategy.SAFE_TO_RETRY);
+    }
+    /**
+     * Invokes the appInstall method with an empty input using the given environment without blocking, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Apps#API-method:-/app-xxxx%5B/yyyy%5D/install">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param outputClass class to deserialize the server reponse to
+     * @param env environment object specifying the auth token and remote server and protocol
+     *
+     * @return future that completes with the response object; the future fails with
+     *         {@link DXAPIException} or {@link DXHTTPException} if the request fails
+     */
+    public static <T> ListenableFuture<T> appInstallAsync(String objectId, Class<T> outputClass, DXEnvironment env) {
+        return appInstallAsync(objectId, mapper.createObjectNode(), outputClass, env);
+    }
+    /**
+     * Invokes the appInstall method with the given input using the given environment without blocking, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Apps#API-method:-/app-xxxx%5B/yyyy%5D/install">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param inputObject input object (to be JSON serialized to an input hash)
+     * @param outputClass class to deserialize the server reponse to
+     * @param env environment object specifying the auth token and remote server and protocol
+     *
+     * @return future that completes with the response object; the future fails with
+     *         {@link DXAPIException} or {@link DXHTTPException} if the request fails
+     */
+    public static <T> ListenableFuture<T> appInstallAsync(String objectId, Object inputObject, Class<T> outputClass, DXEnvironment env) {
+        return new DXHTTPRequest(env).requestAsync("/" + objectId + "/" + "install",
+                inputObject, outputClass, RetryStrategy.SAFE_TO_RETRY);
+    }
+
+    /**
+     * Invokes the appInstall method.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Apps#API-method:-/app-xxxx%5B/yyyy%5D/install">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     *
+     * @return Server response parsed from JSON
+     *
+     * @throws DXAPIException
+     *             If the server returns a complete response with an HTTP status
      *             code other than 200 (OK).
      * @throws DXHTTPException
      *             If an error occurs while making the HTTP request or obtaining
@@ -2455,9 +3249,8 @@ public final class DXAPI {
      *             the response (includes HTTP protocol errors).
      */
     public static <T> T appListAuthorizedUsers(String objectId, Object inputObject, Class<T> outputClass) {
-        return DXJSON.safeTreeToValue(
-                new DXHTTPRequest().request("/" + objectId + "/" + "listAuthorizedUsers",
-                        mapper.valueToTree(inputObject), RetryStrategy.SAFE_TO_RETRY), outputClass);
+        return new DXHTTPRequest().request("/" + objectId + "/" + "listAuthorizedUsers",
+                inputObject, outputClass, RetryStrategy.SAFE_TO_RETRY);
     }
     /**
      * Invokes the appListAuthorizedUsers method with an empty input using the given environment, deserializing to an object of the specified class.
@@ -2500,9 +3293,71 @@ public final class DXAPI {
      *             the response (includes HTTP protocol errors).
      */
     public static <T> T appListAuthorizedUsers(String objectId, Object inputObject, Class<T> outputClass, DXEnvironment env) {
-        return DXJSON.safeTreeToValue(
-            new DXHTTPRequest(env).request("/" + objectId + "/" + "listAuthorizedUsers",
-                    mapper.valueToTree(inputObject), RetryStrategy.SAFE_TO_RETRY), outputClass);
+        return new DXHTTPRequest(env).request("/" + objectId + "/" + "listAuthorizedUsers",
+                inputObject, outputClass, RetryStrategy.SAFE_TO_RETRY);
+    }
+
+    /**
+     * Invokes the appListAuthorizedUsers method with an empty input without blocking, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Apps#API-method:-/app-xxxx%5B/yyyy%5D/listAuthorizedUsers">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param outputClass class to deserialize the server reponse to
+     *
+     * @return future that completes with the response object; the future fails with
+     *         {@link DXAPIException} or {@link DXHTTPException} if the request fails
+     */
+    public static <T> ListenableFuture<T> appListAuthorizedUsersAsync(String objectId, Class<T> outputClass) {
+        return appListAuthorizedUsersAsync(objectId, mapper.createObjectNode(), outputClass);
+    }
+    /**
+     * Invokes the appListAuthorizedUsers method with the given input without blocking, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Apps#API-method:-/app-xxxx%5B/yyyy%5D/listAuthorizedUsers">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param inputObject input object (to be JSON serialized to an input hash)
+     * @param outputClass class to deserialize the server reponse to
+     *
+     * @return future that completes with the response object; the future fails with
+     *         {@link DXAPIException} or {@link DXHTTPException} if the request fails
+     */
+    public static <T> ListenableFuture<T> appListAuthorizedUsersAsync(String objectId, Object inputObject, Class<T> outputClass) {
+        return new DXHTTPRequest().requestAsync("/" + objectId + "/" + "listAuthorizedUsers",
+                inputObject, outputClass, RetryStrategy.SAFE_TO_RETRY);
+    }
+    /**
+     * Invokes the appListAuthorizedUsers method with an empty input using the given environment without blocking, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Apps#API-method:-/app-xxxx%5B/yyyy%5D/listAuthorizedUsers">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param outputClass class to deserialize the server reponse to
+     * @param env environment object specifying the auth token and remote server and protocol
+     *
+     * @return future that completes with the response object; the future fails with
+     *         {@link DXAPIException} or {@link DXHTTPException} if the request fails
+     */
+    public static <T> ListenableFuture<T> appListAuthorizedUsersAsync(String objectId, Class<T> outputClass, DXEnvironment env) {
+        return appListAuthorizedUsersAsync(objectId, mapper.createObjectNode(), outputClass, env);
+    }
+    /**
+     * Invokes the appListAuthorizedUsers method with the given input using the given environment without blocking, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Apps#API-method:-/app-xxxx%5B/yyyy%5D/listAuthorizedUsers">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param inputObject input object (to be JSON serialized to an input hash)
+     * @param outputClass class to deserialize the server reponse to
+     * @param env environment object specifying the auth token and remote server and protocol
+     *
+     * @return future that completes with the response object; the future fails with
+     *         {@link DXAPIException} or {@link DXHTTPException} if the request fails
+     */
+    public static <T> ListenableFuture<T> appListAuthorizedUsersAsync(String objectId, Object inputObject, Class<T> outputClass, DXEnvironment env) {
+        return new DXHTTPRequest(env).requestAsync("/" + objectId + "/" + "listAuthorizedUsers",
+                inputObject, outputClass, RetryStrategy.SAFE_TO_RETRY);
     }
 
     /**
@@ -2639,9 +3494,8 @@ public final class DXAPI {
      *             the response (includes HTTP protocol errors).
      */
     public static <T> T appListCategories(String objectId, Object inputObject, Class<T> outputClass) {
-        return DXJSON.safeTreeToValue(
-                new DXHTTPRequest().request("/" + objectId + "/" + "listCategories",
-                        mapper.valueToTree(inputObject), RetryStrategy.SAFE_TO_RETRY), outputClass);
+        return new DXHTTPRequest().request("/" + objectId + "/" + "listCategories",
+                inputObject, outputClass, RetryStrategy.SAFE_TO_RETRY);
     }
     /**
      * Invokes the appListCategories method with an empty input using the given environment, deserializing to an object of the specified class.
@@ -2684,9 +3538,71 @@ public final class DXAPI {
      *             the response (includes HTTP protocol errors).
      */
     public static <T> T appListCategories(String objectId, Object inputObject, Class<T> outputClass, DXEnvironment env) {
-        return DXJSON.safeTreeToValue(
-            new DXHTTPRequest(env).request("/" + objectId + "/" + "listCategories",
-                    mapper.valueToTree(inputObject), RetryStrategy.SAFE_TO_RETRY), outputClass);
+        return new DXHTTPRequest(env).request("/" + objectId + "/" + "listCategories",
+                inputObject, outputClass, RetryStrategy.SAFE_TO_RETRY);
+    }
+
+    /**
+     * Invokes the appListCategories method with an empty input without blocking, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Apps#API-method:-/app-xxxx%5B/yyyy%5D/listCategories">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param outputClass class to deserialize the server reponse to
+     *
+     * @return future that completes with the response object; the future fails with
+     *         {@link DXAPIException} or {@link DXHTTPException} if the request fails
+     */
+    public static <T> ListenableFuture<T> appListCategoriesAsync(String objectId, Class<T> outputClass) {
+        return appListCategoriesAsync(objectId, mapper.createObjectNode(), outputClass);
+    }
+    /**
+     * Invokes the appListCategories method with the given input without blocking, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Apps#API-method:-/app-xxxx%5B/yyyy%5D/listCategories">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param inputObject input object (to be JSON serialized to an input hash)
+     * @param outputClass class to deserialize the server reponse to
+     *
+     * @return future that completes with the response object; the future fails with
+     *         {@link DXAPIException} or {@link DXHTTPException} if the request fails
+     */
+    public static <T> ListenableFuture<T> appListCategoriesAsync(String objectId, Object inputObject, Class<T> outputClass) {
+        return new DXHTTPRequest().requestAsync("/" + objectId + "/" + "listCategories",
+                inputObject, outputClass, RetryStrategy.SAFE_TO_RETRY);
+    }
+    /**
+     * Invokes the appListCategories method with an empty input using the given environment without blocking, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Apps#API-method:-/app-xxxx%5B/yyyy%5D/listCategories">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param outputClass class to deserialize the server reponse to
+     * @param env environment object specifying the auth token and remote server and protocol
+     *
+     * @return future that completes with the response object; the future fails with
+     *         {@link DXAPIException} or {@link DXHTTPException} if the request fails
+     */
+    public static <T> ListenableFuture<T> appListCategoriesAsync(String objectId, Class<T> outputClass, DXEnvironment env) {
+        return appListCategoriesAsync(objectId, mapper.createObjectNode(), outputClass, env);
+    }
+    /**
+     * Invokes the appListCategories method with the given input using the given environment without blocking, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Apps#API-method:-/app-xxxx%5B/yyyy%5D/listCategories">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param inputObject input object (to be JSON serialized to an input hash)
+     * @param outputClass class to deserialize the server reponse to
+     * @param env environment object specifying the auth token and remote server and protocol
+     *
+     * @return future that completes with the response object; the future fails with
+     *         {@link DXAPIException} or {@link DXHTTPException} if the request fails
+     */
+    public static <T> ListenableFuture<T> appListCategoriesAsync(String objectId, Object inputObject, Class<T> outputClass, DXEnvironment env) {
+        return new DXHTTPRequest(env).requestAsync("/" + objectId + "/" + "listCategories",
+                inputObject, outputClass, RetryStrategy.SAFE_TO_RETRY);
     }
 
     /**
@@ -2823,9 +3739,8 @@ public final class DXAPI {
      *             the response (includes HTTP protocol errors).
      */
     public static <T> T appListDevelopers(String objectId, Object inputObject, Class<T> outputClass) {
-        return DXJSON.safeTreeToValue(
-                new DXHTTPRequest().request("/" + objectId + "/" + "listDevelopers",
-                        mapper.valueToTree(inputObject), RetryStrategy.SAFE_TO_RETRY), outputClass);
+        return new DXHTTPRequest().request("/" + objectId + "/" + "listDevelopers",
+                inputObject, outputClass, RetryStrategy.SAFE_TO_RETRY);
     }
     /**
      * Invokes the appListDevelopers method with an empty input using the given environment, deserializing to an object of the specified class.
@@ -2868,9 +3783,71 @@ public final class DXAPI {
      *             the response (includes HTTP protocol errors).
      */
     public static <T> T appListDevelopers(String objectId, Object inputObject, Class<T> outputClass, DXEnvironment env) {
-        return DXJSON.safeTreeToValue(
-            new DXHTTPRequest(env).request("/" + objectId + "/" + "listDevelopers",
-                    mapper.valueToTree(inputObject), RetryStrategy.SAFE_TO_RETRY), outputClass);
+        return new DXHTTPRequest(env).request("/" + objectId + "/" + "listDevelopers",
+                inputObject, outputClass, RetryStrategy.SAFE_TO_RETRY);
+    }
+
+    /**
+     * Invokes the appListDevelopers method with an empty input without blocking, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Apps#API-method:-/app-xxxx%5B/yyyy%5D/listDevelopers">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param outputClass class to deserialize the server reponse to
+     *
+     * @return future that completes with the response object; the future fails with
+     *         {@link DXAPIException} or {@link DXHTTPException} if the request fails
+     */
+    public static <T> ListenableFuture<T> appListDevelopersAsync(String objectId, Class<T> outputClass) {
+        return appListDevelopersAsync(objectId, mapper.createObjectNode(), outputClass);
+    }
+    /**
+     * Invokes the appListDevelopers method with the given input without blocking, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Apps#API-method:-/app-xxxx%5B/yyyy%5D/listDevelopers">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param inputObject input object (to be JSON serialized to an input hash)
+     * @param outputClass class to deserialize the server reponse to
+     *
+     * @return future that completes with the response object; the future fails with
+     *         {@link DXAPIException} or {@link DXHTTPException} if the request fails
+     */
+    public static <T> ListenableFuture<T> appListDevelopersAsync(String objectId, Object inputObject, Class<T> outputClass) {
+        return new DXHTTPRequest().requestAsync("/" + objectId + "/" + "listDevelopers",
+                inputObject, outputClass, RetryStrategy.SAFE_TO_RETRY);
+    }
+    /**
+     * Invokes the appListDevelopers method with an empty input using the given environment without blocking, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Apps#API-method:-/app-xxxx%5B/yyyy%5D/listDevelopers">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param outputClass class to deserialize the server reponse to
+     * @param env environment object specifying the auth token and remote server and protocol
+     *
+     * @return future that completes with the response object; the future fails with
+     *         {@link DXAPIException} or {@link DXHTTPException} if the request fails
+     */
+    public static <T> ListenableFuture<T> appListDevelopersAsync(String objectId, Class<T> outputClass, DXEnvironment env) {
+        return appListDevelopersAsync(objectId, mapper.createObjectNode(), outputClass, env);
+    }
+    /**
+     * Invokes the appListDevelopers method with the given input using the given environment without blocking, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Apps#API-method:-/app-xxxx%5B/yyyy%5D/listDevelopers">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param inputObject input object (to be JSON serialized to an input hash)
+     * @param outputClass class to deserialize the server reponse to
+     * @param env environment object specifying the auth token and remote server and protocol
+     *
+     * @return future that completes with the response object; the future fails with
+     *         {@link DXAPIException} or {@link DXHTTPException} if the request fails
+     */
+    public static <T> ListenableFuture<T> appListDevelopersAsync(String objectId, Object inputObject, Class<T> outputClass, DXEnvironment env) {
+        return new DXHTTPRequest(env).requestAsync("/" + objectId + "/" + "listDevelopers",
+                inputObject, outputClass, RetryStrategy.SAFE_TO_RETRY);
     }
 
     /**
@@ -3007,9 +3984,8 @@ public final class DXAPI {
      *             the response (includes HTTP protocol errors).
      */
     public static <T> T appPublish(String objectId, Object inputObject, Class<T> outputClass) {
-        return DXJSON.safeTreeToValue(
-                new DXHTTPRequest().request("/" + objectId + "/" + "publish",
-                        mapper.valueToTree(inputObject), RetryStrategy.SAFE_TO_RETRY), outputClass);
+        return new DXHTTPRequest().request("/" + objectId + "/" + "publish",
+                inputObject, outputClass, RetryStrategy.SAFE_TO_RETRY);
     }
     /**
      * Invokes the appPublish method with an empty input using the given environment, deserializing to an object of the specified class.
@@ -3052,9 +4028,71 @@ public final class DXAPI {
      *             the response (includes HTTP protocol errors).
      */
     public static <T> T appPublish(String objectId, Object inputObject, Class<T> outputClass, DXEnvironment env) {
-        return DXJSON.safeTreeToValue(
-            new DXHTTPRequest(env).request("/" + objectId + "/" + "publish",
-                    mapper.valueToTree(inputObject), RetryStrategy.SAFE_TO_RETRY), outputClass);
+        return new DXHTTPRequest(env).request("/" + objectId + "/" + "publish",
+                inputObject, outputClass, RetryStrategy.SAFE_TO_RETRY);
+    }
+
+    /**
+     * Invokes the appPublish method with an empty input without blocking, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Apps#API-method:-/app-xxxx%5B/yyyy%5D/publish">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param outputClass class to deserialize the server reponse to
+     *
+     * @return future that completes with the response object; the future fails with
+     *         {@link DXAPIException} or {@link DXHTTPException} if the request fails
+     */
+    public static <T> ListenableFuture<T> appPublishAsync(String objectId, Class<T> outputClass) {
+        return appPublishAsync(objectId, mapper.createObjectNode(), outputClass);
+    }
+    /**
+     * Invokes the appPublish method with the given input without blocking, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Apps#API-method:-/app-xxxx%5B/yyyy%5D/publish">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param inputObject input object (to be JSON serialized to an input hash)
+     * @param outputClass class to deserialize the server reponse to
+     *
+     * @return future that completes with the response object; the future fails with
+     *         {@link DXAPIException} or {@link DXHTTPException} if the request fails
+     */
+    public static <T> ListenableFuture<T> appPublishAsync(String objectId, Object inputObject, Class<T> outputClass) {
+        return new DXHTTPRequest().requestAsync("/" + objectId + "/" + "publish",
+                inputObject, outputClass, RetryStrategy.SAFE_TO_RETRY);
+    }
+    /**
+     * Invokes the appPublish method with an empty input using the given environment without blocking, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Apps#API-method:-/app-xxxx%5B/yyyy%5D/publish">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param outputClass class to deserialize the server reponse to
+     * @param env environment object specifying the auth token and remote server and protocol
+     *
+     * @return future that completes with the response object; the future fails with
+     *         {@link DXAPIException} or {@link DXHTTPException} if the request fails
+     */
+    public static <T> ListenableFuture<T> appPublishAsync(String objectId, Class<T> outputClass, DXEnvironment env) {
+        return appPublishAsync(objectId, mapper.createObjectNode(), outputClass, env);
+    }
+    /**
+     * Invokes the appPublish method with the given input using the given environment without blocking, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Apps#API-method:-/app-xxxx%5B/yyyy%5D/publish">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param inputObject input object (to be JSON serialized to an input hash)
+     * @param outputClass class to deserialize the server reponse to
+     * @param env environment object specifying the auth token and remote server and protocol
+     *
+     * @return future that completes with the response object; the future fails with
+     *         {@link DXAPIException} or {@link DXHTTPException} if the request fails
+     */
+    public static <T> ListenableFuture<T> appPublishAsync(String objectId, Object inputObject, Class<T> outputClass, DXEnvironment env) {
+        return new DXHTTPRequest(env).requestAsync("/" + objectId + "/" + "publish",
+                inputObject, outputClass, RetryStrategy.SAFE_TO_RETRY);
     }
 
     /**
@@ -3191,9 +4229,8 @@ public final class DXAPI {
      *             the response (includes HTTP protocol errors).
      */
     public static <T> T appRemoveAuthorizedUsers(String objectId, Object inputObject, Class<T> outputClass) {
-        return DXJSON.safeTreeToValue(
-                new DXHTTPRequest().request("/" + objectId + "/" + "removeAuthorizedUsers",
-                        mapper.valueToTree(inputObject), RetryStrategy.SAFE_TO_RETRY), outputClass);
+        return new DXHTTPRequest().request("/" + objectId + "/" + "removeAuthorizedUsers",
+                inputObject, outputClass, RetryStrategy.SAFE_TO_RETRY);
     }
     /**
      * Invokes the appRemoveAuthorizedUsers method with an empty input using the given environment, deserializing to an object of the specified class.
@@ -3236,9 +4273,71 @@ public final class DXAPI {
      *             the response (includes HTTP protocol errors).
      */
     public static <T> T appRemoveAuthorizedUsers(String objectId, Object inputObject, Class<T> outputClass, DXEnvironment env) {
-        return DXJSON.safeTreeToValue(
-            new DXHTTPRequest(env).request("/" + objectId + "/" + "removeAuthorizedUsers",
-                    mapper.valueToTree(inputObject), RetryStrategy.SAFE_TO_RETRY), outputClass);
+        return new DXHTTPRequest(env).request("/" + objectId + "/" + "removeAuthorizedUsers",
+                inputObject, outputClass, RetryStrategy.SAFE_TO_RETRY);
+    }
+
+    /**
+     * Invokes the appRemoveAuthorizedUsers method with an empty input without blocking, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Apps#API-method:-/app-xxxx%5B/yyyy%5D/removeAuthorizedUsers">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param outputClass class to deserialize the server reponse to
+     *
+     * @return future that completes with the response object; the future fails with
+     *         {@link DXAPIException} or {@link DXHTTPException} if the request fails
+     */
+    public static <T> ListenableFuture<T> appRemoveAuthorizedUsersAsync(String objectId, Class<T> outputClass) {
+        return appRemoveAuthorizedUsersAsync(objectId, mapper.createObjectNode(), outputClass);
+    }
+    /**
+     * Invokes the appRemoveAuthorizedUsers method with the given input without blocking, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Apps#API-method:-/app-xxxx%5B/yyyy%5D/removeAuthorizedUsers">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param inputObject input object (to be JSON serialized to an input hash)
+     * @param outputClass class to deserialize the server reponse to
+     *
+     * @return future that completes with the response object; the future fails with
+     *         {@link DXAPIException} or {@link DXHTTPException} if the request fails
+     */
+    public static <T> ListenableFuture<T> appRemoveAuthorizedUsersAsync(String objectId, Object inputObject, Class<T> outputClass) {
+        return new DXHTTPRequest().requestAsync("/" + objectId + "/" + "removeAuthorizedUsers",
+                inputObject, outputClass, RetryStrategy.SAFE_TO_RETRY);
+    }
+    /**
+     * Invokes the appRemoveAuthorizedUsers method with an empty input using the given environment without blocking, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Apps#API-method:-/app-xxxx%5B/yyyy%5D/removeAuthorizedUsers">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param outputClass class to deserialize the server reponse to
+     * @param env environment object specifying the auth token and remote server and protocol
+     *
+     * @return future that completes with the response object; the future fails with
+     *         {@link DXAPIException} or {@link DXHTTPException} if the request fails
+     */
+    public static <T> ListenableFuture<T> appRemoveAuthorizedUsersAsync(String objectId, Class<T> outputClass, DXEnvironment env) {
+        return appRemoveAuthorizedUsersAsync(objectId, mapper.createObjectNode(), outputClass, env);
+    }
+    /**
+     * Invokes the appRemoveAuthorizedUsers method with the given input using the given environment without blocking, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Apps#API-method:-/app-xxxx%5B/yyyy%5D/removeAuthorizedUsers">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param inputObject input object (to be JSON serialized to an input hash)
+     * @param outputClass class to deserialize the server reponse to
+     * @param env environment object specifying the auth token and remote server and protocol
+     *
+     * @return future that completes with the response object; the future fails with
+     *         {@link DXAPIException} or {@link DXHTTPException} if the request fails
+     */
+    public static <T> ListenableFuture<T> appRemoveAuthorizedUsersAsync(String objectId, Object inputObject, Class<T> outputClass, DXEnvironment env) {
+        return new DXHTTPRequest(env).requestAsync("/" + objectId + "/" + "removeAuthorizedUsers",
+                inputObject, outputClass, RetryStrategy.SAFE_TO_RETRY);
     }
 
     /**
@@ -3375,9 +4474,8 @@ public final class DXAPI {
      *             the response (includes HTTP protocol errors).
      */
     public static <T> T appRemoveCategories(String objectId, Object inputObject, Class<T> outputClass) {
-        return DXJSON.safeTreeToValue(
-                new DXHTTPRequest().request("/" + objectId + "/" + "removeCategories",
-                        mapper.valueToTree(inputObject), RetryStrategy.SAFE_TO_RETRY), outputClass);
+        return new DXHTTPRequest().request("/" + objectId + "/" + "removeCategories",
+                inputObject, outputClass, RetryStrategy.SAFE_TO_RETRY);
     }
     /**
      * Invokes the appRemoveCategories method with an empty input using the given environment, deserializing to an object of the specified class.
@@ -3420,24 +4518,86 @@ public final class DXAPI {
      *             the response (includes HTTP protocol errors).
      */
     public static <T> T appRemoveCategories(String objectId, Object inputObject, Class<T> outputClass, DXEnvironment env) {
-        return DXJSON.safeTreeToValue(
-            new DXHTTPRequest(env).request("/" + objectId + "/" + "removeCategories",
-                    mapper.valueToTree(inputObject), RetryStrategy.SAFE_TO_RETRY), outputClass);
+        return new DXHTTPRequest(env).request("/" + objectId + "/" + "removeCategories",
+                inputObject, outputClass, RetryStrategy.SAFE_TO_RETRY);
     }
 
     /**
-     * Invokes the appRemoveCategories method.
+     * Invokes the appRemoveCategories method with an empty input without blocking, deserializing to an object of the specified class.
      *
      * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Apps#API-method:-/app-xxxx%5B/yyyy%5D/removeCategories">API specification</a>.
      *
      * @param objectId ID of the object to operate on
+     * @param outputClass class to deserialize the server reponse to
      *
-     * @return Server response parsed from JSON
+     * @return future that completes with the response object; the future fails with
+     *         {@link DXAPIException} or {@link DXHTTPException} if the request fails
+     */
+    public static <T> ListenableFuture<T> appRemoveCategoriesAsync(String objectId, Class<T> outputClass) {
+        return appRemoveCategoriesAsync(objectId, mapper.createObjectNode(), outputClass);
+    }
+    /**
+     * Invokes the appRemoveCategories method with the given input without blocking, deserializing to an object of the specified class.
      *
-     * @throws DXAPIException
-     *             If the server returns a complete response with an HTTP status
-     *             code other than 200 (OK).
-     * @throws DXHTTPException
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Apps#API-method:-/app-xxxx%5B/yyyy%5D/removeCategories">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param inputObject input object (to be JSON serialized to an input hash)
+     * @param outputClass class to deserialize the server reponse to
+     *
+     * @return future that completes with the response object; the future fails with
+     *         {@link DXAPIException} or {@link DXHTTPException} if the request fails
+     */
+    public static <T> ListenableFuture<T> appRemoveCategoriesAsync(String objectId, Object inputObject, Class<T> outputClass) {
+        return new DXHTTPRequest().requestAsync("/" + objectId + "/" + "removeCategories",
+                inputObject, outputClass, RetryStrategy.SAFE_TO_RETRY);
+    }
+    /**
+     * Invokes the appRemoveCategories method with an empty input using the given environment without blocking, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Apps#API-method:-/app-xxxx%5B/yyyy%5D/removeCategories">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param outputClass class to deserialize the server reponse to
+     * @param env environment object specifying the auth token and remote server and protocol
+     *
+     * @return future that completes with the response object; the future fails with
+     *         {@link DXAPIException} or {@link DXHTTPException} if the request fails
+     */
+    public static <T> ListenableFuture<T> appRemoveCategoriesAsync(String objectId, Class<T> outputClass, DXEnvironment env) {
+        return appRemoveCategoriesAsync(objectId, mapper.createObjectNode(), outputClass, env);
+    }
+    /**
+     * Invokes the appRemoveCategories method with the given input using the given environment without blocking, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Apps#API-method:-/app-xxxx%5B/yyyy%5D/removeCategories">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param inputObject input object (to be JSON serialized to an input hash)
+     * @param outputClass class to deserialize the server reponse to
+     * @param env environment object specifying the auth token and remote server and protocol
+     *
+     * @return future that completes with the response object; the future fails with
+     *         {@link DXAPIException} or {@link DXHTTPException} if the request fails
+     */
+    public static <T> ListenableFuture<T> appRemoveCategoriesAsync(String objectId, Object inputObject, Class<T> outputClass, DXEnvironment env) {
+        return new DXHTTPRequest(env).requestAsync("/" + objectId + "/" + "removeCategories",
+                inputObject, outputClass, RetryStrategy.SAFE_TO_RETRY);
+    }
+
+    /**
+     * Invokes the appRemoveCategories method.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Apps#API-method:-/app-xxxx%5B/yyyy%5D/removeCategories">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     *
+     * @return Server response parsed from JSON
+     *
+     * @throws DXAPIException
+     *             If the server returns a complete response with an HTTP status
+     *             code other than 200 (OK).
+     * @throws DXHTTPException
      *             If an error occurs while making the HTTP request or obtaining
      *             the response (includes HTTP protocol errors).
      *
@@ -3559,9 +4719,8 @@ public final class DXAPI {
      *             the response (includes HTTP protocol errors).
      */
     public static <T> T appRemoveDevelopers(String objectId, Object inputObject, Class<T> outputClass) {
-        return DXJSON.safeTreeToValue(
-                new DXHTTPRequest().request("/" + objectId + "/" + "removeDevelopers",
-                        mapper.valueToTree(inputObject), RetryStrategy.SAFE_TO_RETRY), outputClass);
+        return new DXHTTPRequest().request("/" + objectId + "/" + "removeDevelopers",
+                inputObject, outputClass, RetryStrategy.SAFE_TO_RETRY);
     }
     /**
      * Invokes the appRemoveDevelopers method with an empty input using the given environment, deserializing to an object of the specified class.
@@ -3604,9 +4763,71 @@ public final class DXAPI {
      *             the response (includes HTTP protocol errors).
      */
     public static <T> T appRemoveDevelopers(String objectId, Object inputObject, Class<T> outputClass, DXEnvironment env) {
-        return DXJSON.safeTreeToValue(
-            new DXHTTPRequest(env).request("/" + objectId + "/" + "removeDevelopers",
-                    mapper.valueToTree(inputObject), RetryStrategy.SAFE_TO_RETRY), outputClass);
+        return new DXHTTPRequest(env).request("/" + objectId + "/" + "removeDevelopers",
+                inputObject, outputClass, RetryStrategy.SAFE_TO_RETRY);
+    }
+
+    /**
+     * Invokes the appRemoveDevelopers method with an empty input without blocking, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Apps#API-method:-/app-xxxx%5B/yyyy%5D/removeDevelopers">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param outputClass class to deserialize the server reponse to
+     *
+     * @return future that completes with the response object; the future fails with
+     *         {@link DXAPIException} or {@link DXHTTPException} if the request fails
+     */
+    public static <T> ListenableFuture<T> appRemoveDevelopersAsync(String objectId, Class<T> outputClass) {
+        return appRemoveDevelopersAsync(objectId, mapper.createObjectNode(), outputClass);
+    }
+    /**
+     * Invokes the appRemoveDevelopers method with the given input without blocking, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Apps#API-method:-/app-xxxx%5B/yyyy%5D/removeDevelopers">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param inputObject input object (to be JSON serialized to an input hash)
+     * @param outputClass class to deserialize the server reponse to
+     *
+     * @return future that completes with the response object; the future fails with
+     *         {@link DXAPIException} or {@link DXHTTPException} if the request fails
+     */
+    public static <T> ListenableFuture<T> appRemoveDevelopersAsync(String objectId, Object inputObject, Class<T> outputClass) {
+        return new DXHTTPRequest().requestAsync("/" + objectId + "/" + "removeDevelopers",
+                inputObject, outputClass, RetryStrategy.SAFE_TO_RETRY);
+    }
+    /**
+     * Invokes the appRemoveDevelopers method with an empty input using the given environment without blocking, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Apps#API-method:-/app-xxxx%5B/yyyy%5D/removeDevelopers">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param outputClass class to deserialize the server reponse to
+     * @param env environment object specifying the auth token and remote server and protocol
+     *
+     * @return future that completes with the response object; the future fails with
+     *         {@link DXAPIException} or {@link DXHTTPException} if the request fails
+     */
+    public static <T> ListenableFuture<T> appRemoveDevelopersAsync(String objectId, Class<T> outputClass, DXEnvironment env) {
+        return appRemoveDevelopersAsync(objectId, mapper.createObjectNode(), outputClass, env);
+    }
+    /**
+     * Invokes the appRemoveDevelopers method with the given input using the given environment without blocking, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Apps#API-method:-/app-xxxx%5B/yyyy%5D/removeDevelopers">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param inputObject input object (to be JSON serialized to an input hash)
+     * @param outputClass class to deserialize the server reponse to
+     * @param env environment object specifying the auth token and remote server and protocol
+     *
+     * @return future that completes with the response object; the future fails with
+     *         {@link DXAPIException} or {@link DXHTTPException} if the request fails
+     */
+    public static <T> ListenableFuture<T> appRemoveDevelopersAsync(String objectId, Object inputObject, Class<T> outputClass, DXEnvironment env) {
+        return new DXHTTPRequest(env).requestAsync("/" + objectId + "/" + "removeDevelopers",
+                inputObject, outputClass, RetryStrategy.SAFE_TO_RETRY);
     }
 
     /**
@@ -3743,9 +4964,8 @@ public final class DXAPI {
      *             the response (includes HTTP protocol errors).
      */
     public static <T> T appRemoveTags(String objectId, Object inputObject, Class<T> outputClass) {
-        return DXJSON.safeTreeToValue(
-                new DXHTTPRequest().request("/" + objectId + "/" + "removeTags",
-                        mapper.valueToTree(inputObject), RetryStrategy.SAFE_TO_RETRY), outputClass);
+        return new DXHTTPRequest().request("/" + objectId + "/" + "removeTags",
+                inputObject, outputClass, RetryStrategy.SAFE_TO_RETRY);
     }
     /**
      * Invokes the appRemoveTags method with an empty input using the given environment, deserializing to an object of the specified class.
@@ -3788,9 +5008,71 @@ public final class DXAPI {
      *             the response (includes HTTP protocol errors).
      */
     public static <T> T appRemoveTags(String objectId, Object inputObject, Class<T> outputClass, DXEnvironment env) {
-        return DXJSON.safeTreeToValue(
-            new DXHTTPRequest(env).request("/" + objectId + "/" + "removeTags",
-                    mapper.valueToTree(inputObject), RetryStrategy.SAFE_TO_RETRY), outputClass);
+        return new DXHTTPRequest(env).request("/" + objectId + "/" + "removeTags",
+                inputObject, outputClass, RetryStrategy.SAFE_TO_RETRY);
+    }
+
+    /**
+     * Invokes the appRemoveTags method with an empty input without blocking, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Apps#API-method:-/app-xxxx%5B/yyyy%5D/removeTags">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param outputClass class to deserialize the server reponse to
+     *
+     * @return future that completes with the response object; the future fails with
+     *         {@link DXAPIException} or {@link DXHTTPException} if the request fails
+     */
+    public static <T> ListenableFuture<T> appRemoveTagsAsync(String objectId, Class<T> outputClass) {
+        return appRemoveTagsAsync(objectId, mapper.createObjectNode(), outputClass);
+    }
+    /**
+     * Invokes the appRemoveTags method with the given input without blocking, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Apps#API-method:-/app-xxxx%5B/yyyy%5D/removeTags">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param inputObject input object (to be JSON serialized to an input hash)
+     * @param outputClass class to deserialize the server reponse to
+     *
+     * @return future that completes with the response object; the future fails with
+     *         {@link DXAPIException} or {@link DXHTTPException} if the request fails
+     */
+    public static <T> ListenableFuture<T> appRemoveTagsAsync(String objectId, Object inputObject, Class<T> outputClass) {
+        return new DXHTTPRequest().requestAsync("/" + objectId + "/" + "removeTags",
+                inputObject, outputClass, RetryStrategy.SAFE_TO_RETRY);
+    }
+    /**
+     * Invokes the appRemoveTags method with an empty input using the given environment without blocking, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Apps#API-method:-/app-xxxx%5B/yyyy%5D/removeTags">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param outputClass class to deserialize the server reponse to
+     * @param env environment object specifying the auth token and remote server and protocol
+     *
+     * @return future that completes with the response object; the future fails with
+     *         {@link DXAPIException} or {@link DXHTTPException} if the request fails
+     */
+    public static <T> ListenableFuture<T> appRemoveTagsAsync(String objectId, Class<T> outputClass, DXEnvironment env) {
+        return appRemoveTagsAsync(objectId, mapper.createObjectNode(), outputClass, env);
+    }
+    /**
+     * Invokes the appRemoveTags method with the given input using the given environment without blocking, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Apps#API-method:-/app-xxxx%5B/yyyy%5D/removeTags">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param inputObject input object (to be JSON serialized to an input hash)
+     * @param outputClass class to deserialize the server reponse to
+     * @param env environment object specifying the auth token and remote server and protocol
+     *
+     * @return future that completes with the response object; the future fails with
+     *         {@link DXAPIException} or {@link DXHTTPException} if the request fails
+     */
+    public static <T> ListenableFuture<T> appRemoveTagsAsync(String objectId, Object inputObject, Class<T> outputClass, DXEnvironment env) {
+        return new DXHTTPRequest(env).requestAsync("/" + objectId + "/" + "removeTags",
+                inputObject, outputClass, RetryStrategy.SAFE_TO_RETRY);
     }
 
     /**
@@ -3927,9 +5209,8 @@ public final class DXAPI {
      *             the response (includes HTTP protocol errors).
      */
     public static <T> T appRun(String objectId, Object inputObject, Class<T> outputClass) {
-        return DXJSON.safeTreeToValue(
-                new DXHTTPRequest().request("/" + objectId + "/" + "run",
-                        mapper.valueToTree(inputObject), RetryStrategy.UNSAFE_TO_RETRY), outputClass);
+        return new DXHTTPRequest().request("/" + objectId + "/" + "run",
+                inputObject, outputClass, RetryStrategy.UNSAFE_TO_RETRY);
     }
     /**
      * Invokes the appRun method with an empty input using the given environment, deserializing to an object of the specified class.
@@ -3972,9 +5253,71 @@ public final class DXAPI {
      *             the response (includes HTTP protocol errors).
      */
     public static <T> T appRun(String objectId, Object inputObject, Class<T> outputClass, DXEnvironment env) {
-        return DXJSON.safeTreeToValue(
-            new DXHTTPRequest(env).request("/" + objectId + "/" + "run",
-                    mapper.valueToTree(inputObject), RetryStrategy.UNSAFE_TO_RETRY), outputClass);
+        return new DXHTTPRequest(env).request("/" + objectId + "/" + "run",
+                inputObject, outputClass, RetryStrategy.UNSAFE_TO_RETRY);
+    }
+
+    /**
+     * Invokes the appRun method with an empty input without blocking, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Apps#API-method:-/app-xxxx%5B/yyyy%5D/run">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param outputClass class to deserialize the server reponse to
+     *
+     * @return future that completes with the response object; the future fails with
+     *         {@link DXAPIException} or {@link DXHTTPException} if the request fails
+     */
+    public static <T> ListenableFuture<T> appRunAsync(String objectId, Class<T> outputClass) {
+        return appRunAsync(objectId, mapper.createObjectNode(), outputClass);
+    }
+    /**
+     * Invokes the appRun method with the given input without blocking, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Apps#API-method:-/app-xxxx%5B/yyyy%5D/run">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param inputObject input object (to be JSON serialized to an input hash)
+     * @param outputClass class to deserialize the server reponse to
+     *
+     * @return future that completes with the response object; the future fails with
+     *         {@link DXAPIException} or {@link DXHTTPException} if the request fails
+     */
+    public static <T> ListenableFuture<T> appRunAsync(String objectId, Object inputObject, Class<T> outputClass) {
+        return new DXHTTPRequest().requestAsync("/" + objectId + "/" + "run",
+                inputObject, outputClass, RetryStrategy.UNSAFE_TO_RETRY);
+    }
+    /**
+     * Invokes the appRun method with an empty input using the given environment without blocking, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Apps#API-method:-/app-xxxx%5B/yyyy%5D/run">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param outputClass class to deserialize the server reponse to
+     * @param env environment object specifying the auth token and remote server and protocol
+     *
+     * @return future that completes with the response object; the future fails with
+     *         {@link DXAPIException} or {@link DXHTTPException} if the request fails
+     */
+    public static <T> ListenableFuture<T> appRunAsync(String objectId, Class<T> outputClass, DXEnvironment env) {
+        return appRunAsync(objectId, mapper.createObjectNode(), outputClass, env);
+    }
+    /**
+     * Invokes the appRun method with the given input using the given environment without blocking, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Apps#API-method:-/app-xxxx%5B/yyyy%5D/run">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param inputObject input object (to be JSON serialized to an input hash)
+     * @param outputClass class to deserialize the server reponse to
+     * @param env environment object specifying the auth token and remote server and protocol
+     *
+     * @return future that completes with the response object; the future fails with
+     *         {@link DXAPIException} or {@link DXHTTPException} if the request fails
+     */
+    public static <T> ListenableFuture<T> appRunAsync(String objectId, Object inputObject, Class<T> outputClass, DXEnvironment env) {
+        return new DXHTTPRequest(env).requestAsync("/" + objectId + "/" + "run",
+                inputObject, outputClass, RetryStrategy.UNSAFE_TO_RETRY);
     }
 
     /**
@@ -4111,9 +5454,8 @@ public final class DXAPI {
      *             the response (includes HTTP protocol errors).
      */
     public static <T> T appUninstall(String objectId, Object inputObject, Class<T> outputClass) {
-        return DXJSON.safeTreeToValue(
-                new DXHTTPRequest().request("/" + objectId + "/" + "uninstall",
-                        mapper.valueToTree(inputObject), RetryStrategy.SAFE_TO_RETRY), outputClass);
+        return new DXHTTPRequest().request("/" + objectId + "/" + "uninstall",
+                inputObject, outputClass, RetryStrategy.SAFE_TO_RETRY);
     }
     /**
      * Invokes the appUninstall method with an empty input using the given environment, deserializing to an object of the specified class.
@@ -4156,9 +5498,71 @@ public final class DXAPI {
      *             the response (includes HTTP protocol errors).
      */
     public static <T> T appUninstall(String objectId, Object inputObject, Class<T> outputClass, DXEnvironment env) {
-        return DXJSON.safeTreeToValue(
-            new DXHTTPRequest(env).request("/" + objectId + "/" + "uninstall",
-                    mapper.valueToTree(inputObject), RetryStrategy.SAFE_TO_RETRY), outputClass);
+        return new DXHTTPRequest(env).request("/" + objectId + "/" + "uninstall",
+                inputObject, outputClass, RetryStrategy.SAFE_TO_RETRY);
+    }
+
+    /**
+     * Invokes the appUninstall method with an empty input without blocking, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Apps#API-method:-/app-xxxx%5B/yyyy%5D/uninstall">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param outputClass class to deserialize the server reponse to
+     *
+     * @return future that completes with the response object; the future fails with
+     *         {@link DXAPIException} or {@link DXHTTPException} if the request fails
+     */
+    public static <T> ListenableFuture<T> appUninstallAsync(String objectId, Class<T> outputClass) {
+        return appUninstallAsync(objectId, mapper.createObjectNode(), outputClass);
+    }
+    /**
+     * Invokes the appUninstall method with the given input without blocking, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Apps#API-method:-/app-xxxx%5B/yyyy%5D/uninstall">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param inputObject input object (to be JSON serialized to an input hash)
+     * @param outputClass class to deserialize the server reponse to
+     *
+     * @return future that completes with the response object; the future fails with
+     *         {@link DXAPIException} or {@link DXHTTPException} if the request fails
+     */
+    public static <T> ListenableFuture<T> appUninstallAsync(String objectId, Object inputObject, Class<T> outputClass) {
+        return new DXHTTPRequest().requestAsync("/" + objectId + "/" + "uninstall",
+                inputObject, outputClass, RetryStrategy.SAFE_TO_RETRY);
+    }
+    /**
+     * Invokes the appUninstall method with an empty input using the given environment without blocking, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Apps#API-method:-/app-xxxx%5B/yyyy%5D/uninstall">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param outputClass class to deserialize the server reponse to
+     * @param env environment object specifying the auth token and remote server and protocol
+     *
+     * @return future that completes with the response object; the future fails with
+     *         {@link DXAPIException} or {@link DXHTTPException} if the request fails
+     */
+    public static <T> ListenableFuture<T> appUninstallAsync(String objectId, Class<T> outputClass, DXEnvironment env) {
+        return appUninstallAsync(objectId, mapper.createObjectNode(), outputClass, env);
+    }
+    /**
+     * Invokes the appUninstall method with the given input using the given environment without blocking, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Apps#API-method:-/app-xxxx%5B/yyyy%5D/uninstall">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param inputObject input object (to be JSON serialized to an input hash)
+     * @param outputClass class to deserialize the server reponse to
+     * @param env environment object specifying the auth token and remote server and protocol
+     *
+     * @return future that completes with the response object; the future fails with
+     *         {@link DXAPIException} or {@link DXHTTPException} if the request fails
+     */
+    public static <T> ListenableFuture<T> appUninstallAsync(String objectId, Object inputObject, Class<T> outputClass, DXEnvironment env) {
+        return new DXHTTPRequest(env).requestAsync("/" + objectId + "/" + "uninstall",
+                inputObject, outputClass, RetryStrategy.SAFE_TO_RETRY);
     }
 
     /**
@@ -4295,9 +5699,8 @@ public final class DXAPI {
      *             the response (includes HTTP protocol errors).
      */
     public static <T> T appUpdate(String objectId, Object inputObject, Class<T> outputClass) {
-        return DXJSON.safeTreeToValue(
-                new DXHTTPRequest().request("/" + objectId + "/" + "update",
-                        mapper.valueToTree(inputObject), RetryStrategy.SAFE_TO_RETRY), outputClass);
+        return new DXHTTPRequest().request("/" + objectId + "/" + "update",
+                inputObject, outputClass, RetryStrategy.SAFE_TO_RETRY);
     }
     /**
      * Invokes the appUpdate method with an empty input using the given environment, deserializing to an object of the specified class.
@@ -4340,9 +5743,71 @@ public final class DXAPI {
      *             the response (includes HTTP protocol errors).
      */
     public static <T> T appUpdate(String objectId, Object inputObject, Class<T> outputClass, DXEnvironment env) {
-        return DXJSON.safeTreeToValue(
-            new DXHTTPRequest(env).request("/" + objectId + "/" + "update",
-                    mapper.valueToTree(inputObject), RetryStrategy.SAFE_TO_RETRY), outputClass);
+        return new DXHTTPRequest(env).request("/" + objectId + "/" + "update",
+                inputObject, outputClass, RetryStrategy.SAFE_TO_RETRY);
+    }
+
+    /**
+     * Invokes the appUpdate method with an empty input without blocking, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Apps#API-method:-/app-xxxx%5B/yyyy%5D/update">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param outputClass class to deserialize the server reponse to
+     *
+     * @return future that completes with the response object; the future fails with
+     *         {@link DXAPIException} or {@link DXHTTPException} if the request fails
+     */
+    public static <T> ListenableFuture<T> appUpdateAsync(String objectId, Class<T> outputClass) {
+        return appUpdateAsync(objectId, mapper.createObjectNode(), outputClass);
+    }
+    /**
+     * Invokes the appUpdate method with the given input without blocking, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Apps#API-method:-/app-xxxx%5B/yyyy%5D/update">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param inputObject input object (to be JSON serialized to an input hash)
+     * @param outputClass class to deserialize the server reponse to
+     *
+     * @return future that completes with the response object; the future fails with
+     *         {@link DXAPIException} or {@link DXHTTPException} if the request fails
+     */
+    public static <T> ListenableFuture<T> appUpdateAsync(String objectId, Object inputObject, Class<T> outputClass) {
+        return new DXHTTPRequest().requestAsync("/" + objectId + "/" + "update",
+                inputObject, outputClass, RetryStrategy.SAFE_TO_RETRY);
+    }
+    /**
+     * Invokes the appUpdate method with an empty input using the given environment without blocking, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Apps#API-method:-/app-xxxx%5B/yyyy%5D/update">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param outputClass class to deserialize the server reponse to
+     * @param env environment object specifying the auth token and remote server and protocol
+     *
+     * @return future that completes with the response object; the future fails with
+     *         {@link DXAPIException} or {@link DXHTTPException} if the request fails
+     */
+    public static <T> ListenableFuture<T> appUpdateAsync(String objectId, Class<T> outputClass, DXEnvironment env) {
+        return appUpdateAsync(objectId, mapper.createObjectNode(), outputClass, env);
+    }
+    /**
+     * Invokes the appUpdate method with the given input using the given environment without blocking, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Apps#API-method:-/app-xxxx%5B/yyyy%5D/update">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param inputObject input object (to be JSON serialized to an input hash)
+     * @param outputClass class to deserialize the server reponse to
+     * @param env environment object specifying the auth token and remote server and protocol
+     *
+     * @return future that completes with the response object; the future fails with
+     *         {@link DXAPIException} or {@link DXHTTPException} if the request fails
+     */
+    public static <T> ListenableFuture<T> appUpdateAsync(String objectId, Object inputObject, Class<T> outputClass, DXEnvironment env) {
+        return new DXHTTPRequest(env).requestAsync("/" + objectId + "/" + "update",
+                inputObject, outputClass, RetryStrategy.SAFE_TO_RETRY);
     }
 
     /**
@@ -4497,9 +5962,7 @@ public final class DXAPI {
      *             the response (includes HTTP protocol errors).
      */
     public static <T> T appNew(Object inputObject, Class<T> outputClass) {
-        return DXJSON.safeTreeToValue(
-                new DXHTTPRequest().request("/app/new", mapper.valueToTree(inputObject), RetryStrategy.UNSAFE_TO_RETRY),
-                outputClass);
+        return new DXHTTPRequest().request("/app/new", inputObject, outputClass, RetryStrategy.UNSAFE_TO_RETRY);
     }
     /**
      * Invokes the appNew method with the specified input using the specified environment, deserializing to an object of the specified class.
@@ -4520,23 +5983,78 @@ public final class DXAPI {
      *             the response (includes HTTP protocol errors).
      */
     public static <T> T appNew(Object inputObject, Class<T> outputClass, DXEnvironment env) {
-        return DXJSON.safeTreeToValue(
-                new DXHTTPRequest(env).request("/app/new", mapper.valueToTree(inputObject), RetryStrategy.UNSAFE_TO_RETRY),
-                outputClass);
+        return new DXHTTPRequest(env).request("/app/new", inputObject, outputClass, RetryStrategy.UNSAFE_TO_RETRY);
     }
 
     /**
-     * Invokes the appNew method.
+     * Invokes the appNew method with an empty input without blocking, deserializing to an object of the specified class.
      *
      * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Apps#API-method:-/app/new">API specification</a>.
      *
-     * @return Server response parsed from JSON
+     * @param outputClass class to deserialize the server reponse to
      *
-     * @throws DXAPIException
-     *             If the server returns a complete response with an HTTP status
-     *             code other than 200 (OK).
-     * @throws DXHTTPException
-     *             If an error occurs while making the HTTP request or obtaining
+     * @return future that completes with the server response parsed from JSON; the future fails
+     *         with {@link DXAPIException} or {@link DXHTTPException} if the request fails
+     */
+    public static <T> ListenableFuture<T> appNewAsync(Class<T> outputClass) {
+        return appNewAsync(mapper.createObjectNode(), outputClass);
+    }
+    /**
+     * Invokes the appNew method with an empty input using the specified environment without blocking, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Apps#API-method:-/app/new">API specification</a>.
+     *
+     * @param outputClass class to deserialize the server reponse to
+     * @param env environment object specifying the auth token and remote server and protocol
+     *
+     * @return future that completes with the server response parsed from JSON; the future fails
+     *         with {@link DXAPIException} or {@link DXHTTPException} if the request fails
+     */
+    public static <T> ListenableFuture<T> appNewAsync(Class<T> outputClass, DXEnvironment env) {
+        return appNewAsync(mapper.createObjectNode(), outputClass, env);
+    }
+    /**
+     * Invokes the appNew method with the specified input without blocking, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Apps#API-method:-/app/new">API specification</a>.
+     *
+     * @param inputObject input object (to be JSON serialized to an input hash)
+     * @param outputClass class to deserialize the server reponse to
+     *
+     * @return future that completes with the server response parsed from JSON; the future fails
+     *         with {@link DXAPIException} or {@link DXHTTPException} if the request fails
+     */
+    public static <T> ListenableFuture<T> appNewAsync(Object inputObject, Class<T> outputClass) {
+        return new DXHTTPRequest().requestAsync("/app/new", inputObject, outputClass, RetryStrategy.UNSAFE_TO_RETRY);
+    }
+    /**
+     * Invokes the appNew method with the specified input using the specified environment without blocking, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Apps#API-method:-/app/new">API specification</a>.
+     *
+     * @param inputObject input object (to be JSON serialized to an input hash)
+     * @param outputClass class to deserialize the server reponse to
+     * @param env environment object specifying the auth token and remote server and protocol
+     *
+     * @return future that completes with the server response parsed from JSON; the future fails
+     *         with {@link DXAPIException} or {@link DXHTTPException} if the request fails
+     */
+    public static <T> ListenableFuture<T> appNewAsync(Object inputObject, Class<T> outputClass, DXEnvironment env) {
+        return new DXHTTPRequest(env).requestAsync("/app/new", inputObject, outputClass, RetryStrategy.UNSAFE_TO_RETRY);
+    }
+
+    /**
+     * Invokes the appNew method.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Apps#API-method:-/app/new">API specification</a>.
+     *
+     * @return Server response parsed from JSON
+     *
+     * @throws DXAPIException
+     *             If the server returns a complete response with an HTTP status
+     *             code other than 200 (OK).
+     * @throws DXHTTPException
+     *             If an error occurs while making the HTTP request or obtaining
      *             the response (includes HTTP protocol errors).
      *
      * @deprecated Use {@link #appNew(Class)} instead and supply your own class to deserialize to.
@@ -4652,9 +6170,8 @@ public final class DXAPI {
      *             the response (includes HTTP protocol errors).
      */
     public static <T> T appletAddTags(String objectId, Object inputObject, Class<T> outputClass) {
-        return DXJSON.safeTreeToValue(
-                new DXHTTPRequest().request("/" + objectId + "/" + "addTags",
-                        mapper.valueToTree(inputObject), RetryStrategy.SAFE_TO_RETRY), outputClass);
+        return new DXHTTPRequest().request("/" + objectId + "/" + "addTags",
+                inputObject, outputClass, RetryStrategy.SAFE_TO_RETRY);
     }
     /**
      * Invokes the appletAddTags method with an empty input using the given environment, deserializing to an object of the specified class.
@@ -4697,9 +6214,71 @@ public final class DXAPI {
      *             the response (includes HTTP protocol errors).
      */
     public static <T> T appletAddTags(String objectId, Object inputObject, Class<T> outputClass, DXEnvironment env) {
-        return DXJSON.safeTreeToValue(
-            new DXHTTPRequest(env).request("/" + objectId + "/" + "addTags",
-                    mapper.valueToTree(inputObject), RetryStrategy.SAFE_TO_RETRY), outputClass);
+        return new DXHTTPRequest(env).request("/" + objectId + "/" + "addTags",
+                inputObject, outputClass, RetryStrategy.SAFE_TO_RETRY);
+    }
+
+    /**
+     * Invokes the appletAddTags method with an empty input without blocking, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Tags#API-method%3A-%2Fclass-xxxx%2FaddTags">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param outputClass class to deserialize the server reponse to
+     *
+     * @return future that completes with the response object; the future fails with
+     *         {@link DXAPIException} or {@link DXHTTPException} if the request fails
+     */
+    public static <T> ListenableFuture<T> appletAddTagsAsync(String objectId, Class<T> outputClass) {
+        return appletAddTagsAsync(objectId, mapper.createObjectNode(), outputClass);
+    }
+    /**
+     * Invokes the appletAddTags method with the given input without blocking, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Tags#API-method%3A-%2Fclass-xxxx%2FaddTags">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param inputObject input object (to be JSON serialized to an input hash)
+     * @param outputClass class to deserialize the server reponse to
+     *
+     * @return future that completes with the response object; the future fails with
+     *         {@link DXAPIException} or {@link DXHTTPException} if the request fails
+     */
+    public static <T> ListenableFuture<T> appletAddTagsAsync(String objectId, Object inputObject, Class<T> outputClass) {
+        return new DXHTTPRequest().requestAsync("/" + objectId + "/" + "addTags",
+                inputObject, outputClass, RetryStrategy.SAFE_TO_RETRY);
+    }
+    /**
+     * Invokes the appletAddTags method with an empty input using the given environment without blocking, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Tags#API-method%3A-%2Fclass-xxxx%2FaddTags">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param outputClass class to deserialize the server reponse to
+     * @param env environment object specifying the auth token and remote server and protocol
+     *
+     * @return future that completes with the response object; the future fails with
+     *         {@link DXAPIException} or {@link DXHTTPException} if the request fails
+     */
+    public static <T> ListenableFuture<T> appletAddTagsAsync(String objectId, Class<T> outputClass, DXEnvironment env) {
+        return appletAddTagsAsync(objectId, mapper.createObjectNode(), outputClass, env);
+    }
+    /**
+     * Invokes the appletAddTags method with the given input using the given environment without blocking, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Tags#API-method%3A-%2Fclass-xxxx%2FaddTags">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param inputObject input object (to be JSON serialized to an input hash)
+     * @param outputClass class to deserialize the server reponse to
+     * @param env environment object specifying the auth token and remote server and protocol
+     *
+     * @return future that completes with the response object; the future fails with
+     *         {@link DXAPIException} or {@link DXHTTPException} if the request fails
+     */
+    public static <T> ListenableFuture<T> appletAddTagsAsync(String objectId, Object inputObject, Class<T> outputClass, DXEnvironment env) {
+        return new DXHTTPRequest(env).requestAsync("/" + objectId + "/" + "addTags",
+                inputObject, outputClass, RetryStrategy.SAFE_TO_RETRY);
     }
 
     /**
@@ -4836,9 +6415,8 @@ public final class DXAPI {
      *             the response (includes HTTP protocol errors).
      */
     public static <T> T appletDescribe(String objectId, Object inputObject, Class<T> outputClass) {
-        return DXJSON.safeTreeToValue(
-                new DXHTTPRequest().request("/" + objectId + "/" + "describe",
-                        mapper.valueToTree(inputObject), RetryStrategy.SAFE_TO_RETRY), outputClass);
+        return new DXHTTPRequest().request("/" + objectId + "/" + "describe",
+                inputObject, outputClass, RetryStrategy.SAFE_TO_RETRY);
     }
     /**
      * Invokes the appletDescribe method with an empty input using the given environment, deserializing to an object of the specified class.
@@ -4881,9 +6459,71 @@ public final class DXAPI {
      *             the response (includes HTTP protocol errors).
      */
     public static <T> T appletDescribe(String objectId, Object inputObject, Class<T> outputClass, DXEnvironment env) {
-        return DXJSON.safeTreeToValue(
-            new DXHTTPRequest(env).request("/" + objectId + "/" + "describe",
-                    mapper.valueToTree(inputObject), RetryStrategy.SAFE_TO_RETRY), outputClass);
+        return new DXHTTPRequest(env).request("/" + objectId + "/" + "describe",
+                inputObject, outputClass, RetryStrategy.SAFE_TO_RETRY);
+    }
+
+    /**
+     * Invokes the appletDescribe method with an empty input without blocking, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Applets-and-Entry-Points#API-method%3A-%2Fapplet-xxxx%2Fdescribe">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param outputClass class to deserialize the server reponse to
+     *
+     * @return future that completes with the response object; the future fails with
+     *         {@link DXAPIException} or {@link DXHTTPException} if the request fails
+     */
+    public static <T> ListenableFuture<T> appletDescribeAsync(String objectId, Class<T> outputClass) {
+        return appletDescribeAsync(objectId, mapper.createObjectNode(), outputClass);
+    }
+    /**
+     * Invokes the appletDescribe method with the given input without blocking, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Applets-and-Entry-Points#API-method%3A-%2Fapplet-xxxx%2Fdescribe">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param inputObject input object (to be JSON serialized to an input hash)
+     * @param outputClass class to deserialize the server reponse to
+     *
+     * @return future that completes with the response object; the future fails with
+     *         {@link DXAPIException} or {@link DXHTTPException} if the request fails
+     */
+    public static <T> ListenableFuture<T> appletDescribeAsync(String objectId, Object inputObject, Class<T> outputClass) {
+        return new DXHTTPRequest().requestAsync("/" + objectId + "/" + "describe",
+                inputObject, outputClass, RetryStrategy.SAFE_TO_RETRY);
+    }
+    /**
+     * Invokes the appletDescribe method with an empty input using the given environment without blocking, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Applets-and-Entry-Points#API-method%3A-%2Fapplet-xxxx%2Fdescribe">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param outputClass class to deserialize the server reponse to
+     * @param env environment object specifying the auth token and remote server and protocol
+     *
+     * @return future that completes with the response object; the future fails with
+     *         {@link DXAPIException} or {@link DXHTTPException} if the request fails
+     */
+    public static <T> ListenableFuture<T> appletDescribeAsync(String objectId, Class<T> outputClass, DXEnvironment env) {
+        return appletDescribeAsync(objectId, mapper.createObjectNode(), outputClass, env);
+    }
+    /**
+     * Invokes the appletDescribe method with the given input using the given environment without blocking, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Applets-and-Entry-Points#API-method%3A-%2Fapplet-xxxx%2Fdescribe">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param inputObject input object (to be JSON serialized to an input hash)
+     * @param outputClass class to deserialize the server reponse to
+     * @param env environment object specifying the auth token and remote server and protocol
+     *
+     * @return future that completes with the response object; the future fails with
+     *         {@link DXAPIException} or {@link DXHTTPException} if the request fails
+     */
+    public static <T> ListenableFuture<T> appletDescribeAsync(String objectId, Object inputObject, Class<T> outputClass, DXEnvironment env) {
+        return new DXHTTPRequest(env).requestAsync("/" + objectId + "/" + "describe",
+                inputObject, outputClass, RetryStrategy.SAFE_TO_RETRY);
     }
 
     /**
@@ -5020,9 +6660,8 @@ public final class DXAPI {
      *             the response (includes HTTP protocol errors).
      */
     public static <T> T appletGet(String objectId, Object inputObject, Class<T> outputClass) {
-        return DXJSON.safeTreeToValue(
-                new DXHTTPRequest().request("/" + objectId + "/" + "get",
-                        mapper.valueToTree(inputObject), RetryStrategy.SAFE_TO_RETRY), outputClass);
+        return new DXHTTPRequest().request("/" + objectId + "/" + "get",
+                inputObject, outputClass, RetryStrategy.SAFE_TO_RETRY);
     }
     /**
      * Invokes the appletGet method with an empty input using the given environment, deserializing to an object of the specified class.
@@ -5065,9 +6704,71 @@ public final class DXAPI {
      *             the response (includes HTTP protocol errors).
      */
     public static <T> T appletGet(String objectId, Object inputObject, Class<T> outputClass, DXEnvironment env) {
-        return DXJSON.safeTreeToValue(
-            new DXHTTPRequest(env).request("/" + objectId + "/" + "get",
-                    mapper.valueToTree(inputObject), RetryStrategy.SAFE_TO_RETRY), outputClass);
+        return new DXHTTPRequest(env).request("/" + objectId + "/" + "get",
+                inputObject, outputClass, RetryStrategy.SAFE_TO_RETRY);
+    }
+
+    /**
+     * Invokes the appletGet method with an empty input without blocking, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Applets-and-Entry-Points#API-method%3A-%2Fapplet-xxxx%2Fget">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param outputClass class to deserialize the server reponse to
+     *
+     * @return future that completes with the response object; the future fails with
+     *         {@link DXAPIException} or {@link DXHTTPException} if the request fails
+     */
+    public static <T> ListenableFuture<T> appletGetAsync(String objectId, Class<T> outputClass) {
+        return appletGetAsync(objectId, mapper.createObjectNode(), outputClass);
+    }
+    /**
+     * Invokes the appletGet method with the given input without blocking, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Applets-and-Entry-Points#API-method%3A-%2Fapplet-xxxx%2Fget">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param inputObject input object (to be JSON serialized to an input hash)
+     * @param outputClass class to deserialize the server reponse to
+     *
+     * @return future that completes with the response object; the future fails with
+     *         {@link DXAPIException} or {@link DXHTTPException} if the request fails
+     */
+    public static <T> ListenableFuture<T> appletGetAsync(String objectId, Object inputObject, Class<T> outputClass) {
+        return new DXHTTPRequest().requestAsync("/" + objectId + "/" + "get",
+                inputObject, outputClass, RetryStrategy.SAFE_TO_RETRY);
+    }
+    /**
+     * Invokes the appletGet method with an empty input using the given environment without blocking, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Applets-and-Entry-Points#API-method%3A-%2Fapplet-xxxx%2Fget">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param outputClass class to deserialize the server reponse to
+     * @param env environment object specifying the auth token and remote server and protocol
+     *
+     * @return future that completes with the response object; the future fails with
+     *         {@link DXAPIException} or {@link DXHTTPException} if the request fails
+     */
+    public static <T> ListenableFuture<T> appletGetAsync(String objectId, Class<T> outputClass, DXEnvironment env) {
+        return appletGetAsync(objectId, mapper.createObjectNode(), outputClass, env);
+    }
+    /**
+     * Invokes the appletGet method with the given input using the given environment without blocking, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Applets-and-Entry-Points#API-method%3A-%2Fapplet-xxxx%2Fget">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param inputObject input object (to be JSON serialized to an input hash)
+     * @param outputClass class to deserialize the server reponse to
+     * @param env environment object specifying the auth token and remote server and protocol
+     *
+     * @return future that completes with the response object; the future fails with
+     *         {@link DXAPIException} or {@link DXHTTPException} if the request fails
+     */
+    public static <T> ListenableFuture<T> appletGetAsync(String objectId, Object inputObject, Class<T> outputClass, DXEnvironment env) {
+        return new DXHTTPRequest(env).requestAsync("/" + objectId + "/" + "get",
+                inputObject, outputClass, RetryStrategy.SAFE_TO_RETRY);
     }
 
     /**
@@ -5204,9 +6905,8 @@ public final class DXAPI {
      *             the response (includes HTTP protocol errors).
      */
     public static <T> T appletGetDetails(String objectId, Object inputObject, Class<T> outputClass) {
-        return DXJSON.safeTreeToValue(
-                new DXHTTPRequest().request("/" + objectId + "/" + "getDetails",
-                        mapper.valueToTree(inputObject), RetryStrategy.SAFE_TO_RETRY), outputClass);
+        return new DXHTTPRequest().request("/" + objectId + "/" + "getDetails",
+                inputObject, outputClass, RetryStrategy.SAFE_TO_RETRY);
     }
     /**
      * Invokes the appletGetDetails method with an empty input using the given environment, deserializing to an object of the specified class.
@@ -5249,9 +6949,71 @@ public final class DXAPI {
      *             the response (includes HTTP protocol errors).
      */
     public static <T> T appletGetDetails(String objectId, Object inputObject, Class<T> outputClass, DXEnvironment env) {
-        return DXJSON.safeTreeToValue(
-            new DXHTTPRequest(env).request("/" + objectId + "/" + "getDetails",
-                    mapper.valueToTree(inputObject), RetryStrategy.SAFE_TO_RETRY), outputClass);
+        return new DXHTTPRequest(env).request("/" + objectId + "/" + "getDetails",
+                inputObject, outputClass, RetryStrategy.SAFE_TO_RETRY);
+    }
+
+    /**
+     * Invokes the appletGetDetails method with an empty input without blocking, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Details-and-Links#API-method%3A-%2Fclass-xxxx%2FgetDetails">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param outputClass class to deserialize the server reponse to
+     *
+     * @return future that completes with the response object; the future fails with
+     *         {@link DXAPIException} or {@link DXHTTPException} if the request fails
+     */
+    public static <T> ListenableFuture<T> appletGetDetailsAsync(String objectId, Class<T> outputClass) {
+        return appletGetDetailsAsync(objectId, mapper.createObjectNode(), outputClass);
+    }
+    /**
+     * Invokes the appletGetDetails method with the given input without blocking, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Details-and-Links#API-method%3A-%2Fclass-xxxx%2FgetDetails">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param inputObject input object (to be JSON serialized to an input hash)
+     * @param outputClass class to deserialize the server reponse to
+     *
+     * @return future that completes with the response object; the future fails with
+     *         {@link DXAPIException} or {@link DXHTTPException} if the request fails
+     */
+    public static <T> ListenableFuture<T> appletGetDetailsAsync(String objectId, Object inputObject, Class<T> outputClass) {
+        return new DXHTTPRequest().requestAsync("/" + objectId + "/" + "getDetails",
+                inputObject, outputClass, RetryStrategy.SAFE_TO_RETRY);
+    }
+    /**
+     * Invokes the appletGetDetails method with an empty input using the given environment without blocking, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Details-and-Links#API-method%3A-%2Fclass-xxxx%2FgetDetails">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param outputClass class to deserialize the server reponse to
+     * @param env environment object specifying the auth token and remote server and protocol
+     *
+     * @return future that completes with the response object; the future fails with
+     *         {@link DXAPIException} or {@link DXHTTPException} if the request fails
+     */
+    public static <T> ListenableFuture<T> appletGetDetailsAsync(String objectId, Class<T> outputClass, DXEnvironment env) {
+        return appletGetDetailsAsync(objectId, mapper.createObjectNode(), outputClass, env);
+    }
+    /**
+     * Invokes the appletGetDetails method with the given input using the given environment without blocking, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Details-and-Links#API-method%3A-%2Fclass-xxxx%2FgetDetails">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param inputObject input object (to be JSON serialized to an input hash)
+     * @param outputClass class to deserialize the server reponse to
+     * @param env environment object specifying the auth token and remote server and protocol
+     *
+     * @return future that completes with the response object; the future fails with
+     *         {@link DXAPIException} or {@link DXHTTPException} if the request fails
+     */
+    public static <T> ListenableFuture<T> appletGetDetailsAsync(String objectId, Object inputObject, Class<T> outputClass, DXEnvironment env) {
+        return new DXHTTPRequest(env).requestAsync("/" + objectId + "/" + "getDetails",
+                inputObject, outputClass, RetryStrategy.SAFE_TO_RETRY);
     }
 
     /**
@@ -5388,9 +7150,8 @@ public final class DXAPI {
      *             the response (includes HTTP protocol errors).
      */
     public static <T> T appletListProjects(String objectId, Object inputObject, Class<T> outputClass) {
-        return DXJSON.safeTreeToValue(
-                new DXHTTPRequest().request("/" + objectId + "/" + "listProjects",
-                        mapper.valueToTree(inputObject), RetryStrategy.SAFE_TO_RETRY), outputClass);
+        return new DXHTTPRequest().request("/" + objectId + "/" + "listProjects",
+                inputObject, outputClass, RetryStrategy.SAFE_TO_RETRY);
     }
     /**
      * Invokes the appletListProjects method with an empty input using the given environment, deserializing to an object of the specified class.
@@ -5433,9 +7194,71 @@ public final class DXAPI {
      *             the response (includes HTTP protocol errors).
      */
     public static <T> T appletListProjects(String objectId, Object inputObject, Class<T> outputClass, DXEnvironment env) {
-        return DXJSON.safeTreeToValue(
-            new DXHTTPRequest(env).request("/" + objectId + "/" + "listProjects",
-                    mapper.valueToTree(inputObject), RetryStrategy.SAFE_TO_RETRY), outputClass);
+        return new DXHTTPRequest(env).request("/" + objectId + "/" + "listProjects",
+                inputObject, outputClass, RetryStrategy.SAFE_TO_RETRY);
+    }
+
+    /**
+     * Invokes the appletListProjects method with an empty input without blocking, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Cloning#API-method%3A-%2Fclass-xxxx%2FlistProjects">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param outputClass class to deserialize the server reponse to
+     *
+     * @return future that completes with the response object; the future fails with
+     *         {@link DXAPIException} or {@link DXHTTPException} if the request fails
+     */
+    public static <T> ListenableFuture<T> appletListProjectsAsync(String objectId, Class<T> outputClass) {
+        return appletListProjectsAsync(objectId, mapper.createObjectNode(), outputClass);
+    }
+    /**
+     * Invokes the appletListProjects method with the given input without blocking, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Cloning#API-method%3A-%2Fclass-xxxx%2FlistProjects">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param inputObject input object (to be JSON serialized to an input hash)
+     * @param outputClass class to deserialize the server reponse to
+     *
+     * @return future that completes with the response object; the future fails with
+     *         {@link DXAPIException} or {@link DXHTTPException} if the request fails
+     */
+    public static <T> ListenableFuture<T> appletListProjectsAsync(String objectId, Object inputObject, Class<T> outputClass) {
+        return new DXHTTPRequest().requestAsync("/" + objectId + "/" + "listProjects",
+                inputObject, outputClass, RetryStrategy.SAFE_TO_RETRY);
+    }
+    /**
+     * Invokes the appletListProjects method with an empty input using the given environment without blocking, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Cloning#API-method%3A-%2Fclass-xxxx%2FlistProjects">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param outputClass class to deserialize the server reponse to
+     * @param env environment object specifying the auth token and remote server and protocol
+     *
+     * @return future that completes with the response object; the future fails with
+     *         {@link DXAPIException} or {@link DXHTTPException} if the request fails
+     */
+    public static <T> ListenableFuture<T> appletListProjectsAsync(String objectId, Class<T> outputClass, DXEnvironment env) {
+        return appletListProjectsAsync(objectId, mapper.createObjectNode(), outputClass, env);
+    }
+    /**
+     * Invokes the appletListProjects method with the given input using the given environment without blocking, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Cloning#API-method%3A-%2Fclass-xxxx%2FlistProjects">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param inputObject input object (to be JSON serialized to an input hash)
+     * @param outputClass class to deserialize the server reponse to
+     * @param env environment object specifying the auth token and remote server and protocol
+     *
+     * @return future that completes with the response object; the future fails with
+     *         {@link DXAPIException} or {@link DXHTTPException} if the request fails
+     */
+    public static <T> ListenableFuture<T> appletListProjectsAsync(String objectId, Object inputObject, Class<T> outputClass, DXEnvironment env) {
+        return new DXHTTPRequest(env).requestAsync("/" + objectId + "/" + "listProjects",
+                inputObject, outputClass, RetryStrategy.SAFE_TO_RETRY);
     }
 
     /**
@@ -5572,9 +7395,8 @@ public final class DXAPI {
      *             the response (includes HTTP protocol errors).
      */
     public static <T> T appletRemoveTags(String objectId, Object inputObject, Class<T> outputClass) {
-        return DXJSON.safeTreeToValue(
-                new DXHTTPRequest().request("/" + objectId + "/" + "removeTags",
-                        mapper.valueToTree(inputObject), RetryStrategy.SAFE_TO_RETRY), outputClass);
+        return new DXHTTPRequest().request("/" + objectId + "/" + "removeTags",
+                inputObject, outputClass, RetryStrategy.SAFE_TO_RETRY);
     }
     /**
      * Invokes the appletRemoveTags method with an empty input using the given environment, deserializing to an object of the specified class.
@@ -5617,22 +7439,84 @@ public final class DXAPI {
      *             the response (includes HTTP protocol errors).
      */
     public static <T> T appletRemoveTags(String objectId, Object inputObject, Class<T> outputClass, DXEnvironment env) {
-        return DXJSON.safeTreeToValue(
-            new DXHTTPRequest(env).request("/" + objectId + "/" + "removeTags",
-                    mapper.valueToTree(inputObject), RetryStrategy.SAFE_TO_RETRY), outputClass);
+        return new DXHTTPRequest(env).request("/" + objectId + "/" + "removeTags",
+                inputObject, outputClass, RetryStrategy.SAFE_TO_RETRY);
     }
 
     /**
-     * Invokes the appletRemoveTags method.
+     * Invokes the appletRemoveTags method with an empty input without blocking, deserializing to an object of the specified class.
      *
      * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Tags#API-method%3A-%2Fclass-xxxx%2FremoveTags">API specification</a>.
      *
      * @param objectId ID of the object to operate on
+     * @param outputClass class to deserialize the server reponse to
      *
-     * @return Server response parsed from JSON
+     * @return future that completes with the response object; the future fails with
+     *         {@link DXAPIException} or {@link DXHTTPException} if the request fails
+     */
+    public static <T> ListenableFuture<T> appletRemoveTagsAsync(String objectId, Class<T> outputClass) {
+        return appletRemoveTagsAsync(objectId, mapper.createObjectNode(), outputClass);
+    }
+    /**
+     * Invokes the appletRemoveTags method with the given input without blocking, deserializing to an object of the specified class.
      *
-     * @throws DXAPIException
-     *             If the server returns a complete response with an HTTP status
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Tags#API-method%3A-%2Fclass-xxxx%2FremoveTags">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param inputObject input object (to be JSON serialized to an input hash)
+     * @param outputClass class to deserialize the server reponse to
+     *
+     * @return future that completes with the response object; the future fails with
+     *         {@link DXAPIException} or {@link DXHTTPException} if the request fails
+     */
+    public static <T> ListenableFuture<T> appletRemoveTagsAsync(String objectId, Object inputObject, Class<T> outputClass) {
+        return new DXHTTPRequest().requestAsync("/" + objectId + "/" + "removeTags",
+                inputObject, outputClass, RetryStrategy.SAFE_TO_RETRY);
+    }
+    /**
+     * Invokes the appletRemoveTags method with an empty input using the given environment without blocking, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Tags#API-method%3A-%2Fclass-xxxx%2FremoveTags">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param outputClass class to deserialize the server reponse to
+     * @param env environment object specifying the auth token and remote server and protocol
+     *
+     * @return future that completes with the response object; the future fails with
+     *         {@link DXAPIException} or {@link DXHTTPException} if the request fails
+     */
+    public static <T> ListenableFuture<T> appletRemoveTagsAsync(String objectId, Class<T> outputClass, DXEnvironment env) {
+        return appletRemoveTagsAsync(objectId, mapper.createObjectNode(), outputClass, env);
+    }
+    /**
+     * Invokes the appletRemoveTags method with the given input using the given environment without blocking, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Tags#API-method%3A-%2Fclass-xxxx%2FremoveTags">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param inputObject input object (to be JSON serialized to an input hash)
+     * @param outputClass class to deserialize the server reponse to
+     * @param env environment object specifying the auth token and remote server and protocol
+     *
+     * @return future that completes with the response object; the future fails with
+     *         {@link DXAPIException} or {@link DXHTTPException} if the request fails
+     */
+    public static <T> ListenableFuture<T> appletRemoveTagsAsync(String objectId, Object inputObject, Class<T> outputClass, DXEnvironment env) {
+        return new DXHTTPRequest(env).requestAsync("/" + objectId + "/" + "removeTags",
+                inputObject, outputClass, RetryStrategy.SAFE_TO_RETRY);
+    }
+
+    /**
+     * Invokes the appletRemoveTags method.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Tags#API-method%3A-%2Fclass-xxxx%2FremoveTags">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     *
+     * @return Server response parsed from JSON
+     *
+     * @throws DXAPIException
+     *             If the server returns a complete response with an HTTP status
      *             code other than 200 (OK).
      * @throws DXHTTPException
      *             If an error occurs while making the HTTP request or obtaining
@@ -5756,9 +7640,8 @@ public final class DXAPI {
      *             the response (includes HTTP protocol errors).
      */
     public static <T> T appletRename(String objectId, Object inputObject, Class<T> outputClass) {
-        return DXJSON.safeTreeToValue(
-                new DXHTTPRequest().request("/" + objectId + "/" + "rename",
-                        mapper.valueToTree(inputObject), RetryStrategy.SAFE_TO_RETRY), outputClass);
+        return new DXHTTPRequest().request("/" + objectId + "/" + "rename",
+                inputObject, outputClass, RetryStrategy.SAFE_TO_RETRY);
     }
     /**
      * Invokes the appletRename method with an empty input using the given environment, deserializing to an object of the specified class.
@@ -5801,9 +7684,71 @@ public final class DXAPI {
      *             the response (includes HTTP protocol errors).
      */
     public static <T> T appletRename(String objectId, Object inputObject, Class<T> outputClass, DXEnvironment env) {
-        return DXJSON.safeTreeToValue(
-            new DXHTTPRequest(env).request("/" + objectId + "/" + "rename",
-                    mapper.valueToTree(inputObject), RetryStrategy.SAFE_TO_RETRY), outputClass);
+        return new DXHTTPRequest(env).request("/" + objectId + "/" + "rename",
+                inputObject, outputClass, RetryStrategy.SAFE_TO_RETRY);
+    }
+
+    /**
+     * Invokes the appletRename method with an empty input without blocking, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Name#API-method%3A-%2Fclass-xxxx%2Frename">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param outputClass class to deserialize the server reponse to
+     *
+     * @return future that completes with the response object; the future fails with
+     *         {@link DXAPIException} or {@link DXHTTPException} if the request fails
+     */
+    public static <T> ListenableFuture<T> appletRenameAsync(String objectId, Class<T> outputClass) {
+        return appletRenameAsync(objectId, mapper.createObjectNode(), outputClass);
+    }
+    /**
+     * Invokes the appletRename method with the given input without blocking, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Name#API-method%3A-%2Fclass-xxxx%2Frename">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param inputObject input object (to be JSON serialized to an input hash)
+     * @param outputClass class to deserialize the server reponse to
+     *
+     * @return future that completes with the response object; the future fails with
+     *         {@link DXAPIException} or {@link DXHTTPException} if the request fails
+     */
+    public static <T> ListenableFuture<T> appletRenameAsync(String objectId, Object inputObject, Class<T> outputClass) {
+        return new DXHTTPRequest().requestAsync("/" + objectId + "/" + "rename",
+                inputObject, outputClass, RetryStrategy.SAFE_TO_RETRY);
+    }
+    /**
+     * Invokes the appletRename method with an empty input using the given environment without blocking, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Name#API-method%3A-%2Fclass-xxxx%2Frename">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param outputClass class to deserialize the server reponse to
+     * @param env environment object specifying the auth token and remote server and protocol
+     *
+     * @return future that completes with the response object; the future fails with
+     *         {@link DXAPIException} or {@link DXHTTPException} if the request fails
+     */
+    public static <T> ListenableFuture<T> appletRenameAsync(String objectId, Class<T> outputClass, DXEnvironment env) {
+        return appletRenameAsync(objectId, mapper.createObjectNode(), outputClass, env);
+    }
+    /**
+     * Invokes the appletRename method with the given input using the given environment without blocking, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Name#API-method%3A-%2Fclass-xxxx%2Frename">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param inputObject input object (to be JSON serialized to an input hash)
+     * @param outputClass class to deserialize the server reponse to
+     * @param env environment object specifying the auth token and remote server and protocol
+     *
+     * @return future that completes with the response object; the future fails with
+     *         {@link DXAPIException} or {@link DXHTTPException} if the request fails
+     */
+    public static <T> ListenableFuture<T> appletRenameAsync(String objectId, Object inputObject, Class<T> outputClass, DXEnvironment env) {
+        return new DXHTTPRequest(env).requestAsync("/" + objectId + "/" + "rename",
+                inputObject, outputClass, RetryStrategy.SAFE_TO_RETRY);
     }
 
     /**
@@ -5940,9 +7885,8 @@ public final class DXAPI {
      *             the response (includes HTTP protocol errors).
      */
     public static <T> T appletRun(String objectId, Object inputObject, Class<T> outputClass) {
-        return DXJSON.safeTreeToValue(
-                new DXHTTPRequest().request("/" + objectId + "/" + "run",
-                        mapper.valueToTree(inputObject), RetryStrategy.UNSAFE_TO_RETRY), outputClass);
+        return new DXHTTPRequest().request("/" + objectId + "/" + "run",
+                inputObject, outputClass, RetryStrategy.UNSAFE_TO_RETRY);
     }
     /**
      * Invokes the appletRun method with an empty input using the given environment, deserializing to an object of the specified class.
@@ -5985,9 +7929,71 @@ public final class DXAPI {
      *             the response (includes HTTP protocol errors).
      */
     public static <T> T appletRun(String objectId, Object inputObject, Class<T> outputClass, DXEnvironment env) {
-        return DXJSON.safeTreeToValue(
-            new DXHTTPRequest(env).request("/" + objectId + "/" + "run",
-                    mapper.valueToTree(inputObject), RetryStrategy.UNSAFE_TO_RETRY), outputClass);
+        return new DXHTTPRequest(env).request("/" + objectId + "/" + "run",
+                inputObject, outputClass, RetryStrategy.UNSAFE_TO_RETRY);
+    }
+
+    /**
+     * Invokes the appletRun method with an empty input without blocking, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Applets-and-Entry-Points#API-method%3A-%2Fapplet-xxxx%2Frun">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param outputClass class to deserialize the server reponse to
+     *
+     * @return future that completes with the response object; the future fails with
+     *         {@link DXAPIException} or {@link DXHTTPException} if the request fails
+     */
+    public static <T> ListenableFuture<T> appletRunAsync(String objectId, Class<T> outputClass) {
+        return appletRunAsync(objectId, mapper.createObjectNode(), outputClass);
+    }
+    /**
+     * Invokes the appletRun method with the given input without blocking, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Applets-and-Entry-Points#API-method%3A-%2Fapplet-xxxx%2Frun">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param inputObject input object (to be JSON serialized to an input hash)
+     * @param outputClass class to deserialize the server reponse to
+     *
+     * @return future that completes with the response object; the future fails with
+     *         {@link DXAPIException} or {@link DXHTTPException} if the request fails
+     */
+    public static <T> ListenableFuture<T> appletRunAsync(String objectId, Object inputObject, Class<T> outputClass) {
+        return new DXHTTPRequest().requestAsync("/" + objectId + "/" + "run",
+                inputObject, outputClass, RetryStrategy.UNSAFE_TO_RETRY);
+    }
+    /**
+     * Invokes the appletRun method with an empty input using the given environment without blocking, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Applets-and-Entry-Points#API-method%3A-%2Fapplet-xxxx%2Frun">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param outputClass class to deserialize the server reponse to
+     * @param env environment object specifying the auth token and remote server and protocol
+     *
+     * @return future that completes with the response object; the future fails with
+     *         {@link DXAPIException} or {@link DXHTTPException} if the request fails
+     */
+    public static <T> ListenableFuture<T> appletRunAsync(String objectId, Class<T> outputClass, DXEnvironment env) {
+        return appletRunAsync(objectId, mapper.createObjectNode(), outputClass, env);
+    }
+    /**
+     * Invokes the appletRun method with the given input using the given environment without blocking, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Applets-and-Entry-Points#API-method%3A-%2Fapplet-xxxx%2Frun">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param inputObject input object (to be JSON serialized to an input hash)
+     * @param outputClass class to deserialize the server reponse to
+     * @param env environment object specifying the auth token and remote server and protocol
+     *
+     * @return future that completes with the response object; the future fails with
+     *         {@link DXAPIException} or {@link DXHTTPException} if the request fails
+     */
+    public static <T> ListenableFuture<T> appletRunAsync(String objectId, Object inputObject, Class<T> outputClass, DXEnvironment env) {
+        return new DXHTTPRequest(env).requestAsync("/" + objectId + "/" + "run",
+                inputObject, outputClass, RetryStrategy.UNSAFE_TO_RETRY);
     }
 
     /**
@@ -6124,9 +8130,8 @@ public final class DXAPI {
      *             the response (includes HTTP protocol errors).
      */
     public static <T> T appletSetProperties(String objectId, Object inputObject, Class<T> outputClass) {
-        return DXJSON.safeTreeToValue(
-                new DXHTTPRequest().request("/" + objectId + "/" + "setProperties",
-                        mapper.valueToTree(inputObject), RetryStrategy.SAFE_TO_RETRY), outputClass);
+        return new DXHTTPRequest().request("/" + objectId + "/" + "setProperties",
+                inputObject, outputClass, RetryStrategy.SAFE_TO_RETRY);
     }
     /**
      * Invokes the appletSetProperties method with an empty input using the given environment, deserializing to an object of the specified class.
@@ -6169,9 +8174,71 @@ public final class DXAPI {
      *             the response (includes HTTP protocol errors).
      */
     public static <T> T appletSetProperties(String objectId, Object inputObject, Class<T> outputClass, DXEnvironment env) {
-        return DXJSON.safeTreeToValue(
-            new DXHTTPRequest(env).request("/" + objectId + "/" + "setProperties",
-                    mapper.valueToTree(inputObject), RetryStrategy.SAFE_TO_RETRY), outputClass);
+        return new DXHTTPRequest(env).request("/" + objectId + "/" + "setProperties",
+                inputObject, outputClass, RetryStrategy.SAFE_TO_RETRY);
+    }
+
+    /**
+     * Invokes the appletSetProperties method with an empty input without blocking, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Properties#API-method%3A-%2Fclass-xxxx%2FsetProperties">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param outputClass class to deserialize the server reponse to
+     *
+     * @return future that completes with the response object; the future fails with
+     *         {@link DXAPIException} or {@link DXHTTPException} if the request fails
+     */
+    public static <T> ListenableFuture<T> appletSetPropertiesAsync(String objectId, Class<T> outputClass) {
+        return appletSetPropertiesAsync(objectId, mapper.createObjectNode(), outputClass);
+    }
+    /**
+     * Invokes the appletSetProperties method with the given input without blocking, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Properties#API-method%3A-%2Fclass-xxxx%2FsetProperties">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param inputObject input object (to be JSON serialized to an input hash)
+     * @param outputClass class to deserialize the server reponse to
+     *
+     * @return future that completes with the response object; the future fails with
+     *         {@link DXAPIException} or {@link DXHTTPException} if the request fails
+     */
+    public static <T> ListenableFuture<T> appletSetPropertiesAsync(String objectId, Object inputObject, Class<T> outputClass) {
+        return new DXHTTPRequest().requestAsync("/" + objectId + "/" + "setProperties",
+                inputObject, outputClass, RetryStrategy.SAFE_TO_RETRY);
+    }
+    /**
+     * Invokes the appletSetProperties method with an empty input using the given environment without blocking, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Properties#API-method%3A-%2Fclass-xxxx%2FsetProperties">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param outputClass class to deserialize the server reponse to
+     * @param env environment object specifying the auth token and remote server and protocol
+     *
+     * @return future that completes with the response object; the future fails with
+     *         {@link DXAPIException} or {@link DXHTTPException} if the request fails
+     */
+    public static <T> ListenableFuture<T> appletSetPropertiesAsync(String objectId, Class<T> outputClass, DXEnvironment env) {
+        return appletSetPropertiesAsync(objectId, mapper.createObjectNode(), outputClass, env);
+    }
+    /**
+     * Invokes the appletSetProperties method with the given input using the given environment without blocking, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Properties#API-method%3A-%2Fclass-xxxx%2FsetProperties">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param inputObject input object (to be JSON serialized to an input hash)
+     * @param outputClass class to deserialize the server reponse to
+     * @param env environment object specifying the auth token and remote server and protocol
+     *
+     * @return future that completes with the response object; the future fails with
+     *         {@link DXAPIException} or {@link DXHTTPException} if the request fails
+     */
+    public static <T> ListenableFuture<T> appletSetPropertiesAsync(String objectId, Object inputObject, Class<T> outputClass, DXEnvironment env) {
+        return new DXHTTPRequest(env).requestAsync("/" + objectId + "/" + "setProperties",
+                inputObject, outputClass, RetryStrategy.SAFE_TO_RETRY);
     }
 
     /**
@@ -6326,9 +8393,7 @@ public final class DXAPI {
      *             the response (includes HTTP protocol errors).
      */
     public static <T> T appletNew(Object inputObject, Class<T> outputClass) {
-        return DXJSON.safeTreeToValue(
-                new DXHTTPRequest().request("/applet/new", mapper.valueToTree(inputObject), RetryStrategy.UNSAFE_TO_RETRY),
-                outputClass);
+        return new DXHTTPRequest().request("/applet/new", inputObject, outputClass, RetryStrategy.UNSAFE_TO_RETRY);
     }
     /**
      * Invokes the appletNew method with the specified input using the specified environment, deserializing to an object of the specified class.
@@ -6349,9 +8414,64 @@ public final class DXAPI {
      *             the response (includes HTTP protocol errors).
      */
     public static <T> T appletNew(Object inputObject, Class<T> outputClass, DXEnvironment env) {
-        return DXJSON.safeTreeToValue(
-                new DXHTTPRequest(env).request("/applet/new", mapper.valueToTree(inputObject), RetryStrategy.UNSAFE_TO_RETRY),
-                outputClass);
+        return new DXHTTPRequest(env).request("/applet/new", inputObject, outputClass, RetryStrategy.UNSAFE_TO_RETRY);
+    }
+
+    /**
+     * Invokes the appletNew method with an empty input without blocking, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Applets-and-Entry-Points#API-method%3A-%2Fapplet%2Fnew">API specification</a>.
+     *
+     * @param outputClass class to deserialize the server reponse to
+     *
+     * @return future that completes with the server response parsed from JSON; the future fails
+     *         with {@link DXAPIException} or {@link DXHTTPException} if the request fails
+     */
+    public static <T> ListenableFuture<T> appletNewAsync(Class<T> outputClass) {
+        return appletNewAsync(mapper.createObjectNode(), outputClass);
+    }
+    /**
+     * Invokes the appletNew method with an empty input using the specified environment without blocking, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Applets-and-Entry-Points#API-method%3A-%2Fapplet%2Fnew">API specification</a>.
+     *
+     * @param outputClass class to deserialize the server reponse to
+     * @param env environment object specifying the auth token and remote server and protocol
+     *
+     * @return future that completes with the server response parsed from JSON; the future fails
+     *         with {@link DXAPIException} or {@link DXHTTPException} if the request fails
+     */
+    public static <T> ListenableFuture<T> appletNewAsync(Class<T> outputClass, DXEnvironment env) {
+        return appletNewAsync(mapper.createObjectNode(), outputClass, env);
+    }
+    /**
+     * Invokes the appletNew method with the specified input without blocking, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Applets-and-Entry-Points#API-method%3A-%2Fapplet%2Fnew">API specification</a>.
+     *
+     * @param inputObject input object (to be JSON serialized to an input hash)
+     * @param outputClass class to deserialize the server reponse to
+     *
+     * @return future that completes with the server response parsed from JSON; the future fails
+     *         with {@link DXAPIException} or {@link DXHTTPException} if the request fails
+     */
+    public static <T> ListenableFuture<T> appletNewAsync(Object inputObject, Class<T> outputClass) {
+        return new DXHTTPRequest().requestAsync("/applet/new", inputObject, outputClass, RetryStrategy.UNSAFE_TO_RETRY);
+    }
+    /**
+     * Invokes the appletNew method with the specified input using the specified environment without blocking, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Applets-and-Entry-Points#API-method%3A-%2Fapplet%2Fnew">API specification</a>.
+     *
+     * @param inputObject input object (to be JSON serialized to an input hash)
+     * @param outputClass class to deserialize the server reponse to
+     * @param env environment object specifying the auth token and remote server and protocol
+     *
+     * @return future that completes with the server response parsed from JSON; the future fails
+     *         with {@link DXAPIException} or {@link DXHTTPException} if the request fails
+     */
+    public static <T> ListenableFuture<T> appletNewAsync(Object inputObject, Class<T> outputClass, DXEnvironment env) {
+        return new DXHTTPRequest(env).requestAsync("/applet/new", inputObject, outputClass, RetryStrategy.UNSAFE_TO_RETRY);
     }
 
     /**
@@ -6481,9 +8601,8 @@ public final class DXAPI {
      *             the response (includes HTTP protocol errors).
      */
     public static <T> T containerClone(String objectId, Object inputObject, Class<T> outputClass) {
-        return DXJSON.safeTreeToValue(
-                new DXHTTPRequest().request("/" + objectId + "/" + "clone",
-                        mapper.valueToTree(inputObject), RetryStrategy.UNSAFE_TO_RETRY), outputClass);
+        return new DXHTTPRequest().request("/" + objectId + "/" + "clone",
+                inputObject, outputClass, RetryStrategy.UNSAFE_TO_RETRY);
     }
     /**
      * Invokes the containerClone method with an empty input using the given environment, deserializing to an object of the specified class.
@@ -6526,9 +8645,71 @@ public final class DXAPI {
      *             the response (includes HTTP protocol errors).
      */
     public static <T> T containerClone(String objectId, Object inputObject, Class<T> outputClass, DXEnvironment env) {
-        return DXJSON.safeTreeToValue(
-            new DXHTTPRequest(env).request("/" + objectId + "/" + "clone",
-                    mapper.valueToTree(inputObject), RetryStrategy.UNSAFE_TO_RETRY), outputClass);
+        return new DXHTTPRequest(env).request("/" + objectId + "/" + "clone",
+                inputObject, outputClass, RetryStrategy.UNSAFE_TO_RETRY);
+    }
+
+    /**
+     * Invokes the containerClone method with an empty input without blocking, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Cloning#API-method%3A-%2Fclass-xxxx%2Fclone">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param outputClass class to deserialize the server reponse to
+     *
+     * @return future that completes with the response object; the future fails with
+     *         {@link DXAPIException} or {@link DXHTTPException} if the request fails
+     */
+    public static <T> ListenableFuture<T> containerCloneAsync(String objectId, Class<T> outputClass) {
+        return containerCloneAsync(objectId, mapper.createObjectNode(), outputClass);
+    }
+    /**
+     * Invokes the containerClone method with the given input without blocking, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Cloning#API-method%3A-%2Fclass-xxxx%2Fclone">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param inputObject input object (to be JSON serialized to an input hash)
+     * @param outputClass class to deserialize the server reponse to
+     *
+     * @return future that completes with the response object; the future fails with
+     *         {@link DXAPIException} or {@link DXHTTPException} if the request fails
+     */
+    public static <T> ListenableFuture<T> containerCloneAsync(String objectId, Object inputObject, Class<T> outputClass) {
+        return new DXHTTPRequest().requestAsync("/" + objectId + "/" + "clone",
+                inputObject, outputClass, RetryStrategy.UNSAFE_TO_RETRY);
+    }
+    /**
+     * Invokes the containerClone method with an empty input using the given environment without blocking, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Cloning#API-method%3A-%2Fclass-xxxx%2Fclone">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param outputClass class to deserialize the server reponse to
+     * @param env environment object specifying the auth token and remote server and protocol
+     *
+     * @return future that completes with the response object; the future fails with
+     *         {@link DXAPIException} or {@link DXHTTPException} if the request fails
+     */
+    public static <T> ListenableFuture<T> containerCloneAsync(String objectId, Class<T> outputClass, DXEnvironment env) {
+        return containerCloneAsync(objectId, mapper.createObjectNode(), outputClass, env);
+    }
+    /**
+     * Invokes the containerClone method with the given input using the given environment without blocking, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Cloning#API-method%3A-%2Fclass-xxxx%2Fclone">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param inputObject input object (to be JSON serialized to an input hash)
+     * @param outputClass class to deserialize the server reponse to
+     * @param env environment object specifying the auth token and remote server and protocol
+     *
+     * @return future that completes with the response object; the future fails with
+     *         {@link DXAPIException} or {@link DXHTTPException} if the request fails
+     */
+    public static <T> ListenableFuture<T> containerCloneAsync(String objectId, Object inputObject, Class<T> outputClass, DXEnvironment env) {
+        return new DXHTTPRequest(env).requestAsync("/" + objectId + "/" + "clone",
+                inputObject, outputClass, RetryStrategy.UNSAFE_TO_RETRY);
     }
 
     /**
@@ -6665,9 +8846,8 @@ public final class DXAPI {
      *             the response (includes HTTP protocol errors).
      */
     public static <T> T containerDescribe(String objectId, Object inputObject, Class<T> outputClass) {
-        return DXJSON.safeTreeToValue(
-                new DXHTTPRequest().request("/" + objectId + "/" + "describe",
-                        mapper.valueToTree(inputObject), RetryStrategy.SAFE_TO_RETRY), outputClass);
+        return new DXHTTPRequest().request("/" + objectId + "/" + "describe",
+                inputObject, outputClass, RetryStrategy.SAFE_TO_RETRY);
     }
     /**
      * Invokes the containerDescribe method with an empty input using the given environment, deserializing to an object of the specified class.
@@ -6710,28 +8890,90 @@ public final class DXAPI {
      *             the response (includes HTTP protocol errors).
      */
     public static <T> T containerDescribe(String objectId, Object inputObject, Class<T> outputClass, DXEnvironment env) {
-        return DXJSON.safeTreeToValue(
-            new DXHTTPRequest(env).request("/" + objectId + "/" + "describe",
-                    mapper.valueToTree(inputObject), RetryStrategy.SAFE_TO_RETRY), outputClass);
+        return new DXHTTPRequest(env).request("/" + objectId + "/" + "describe",
+                inputObject, outputClass, RetryStrategy.SAFE_TO_RETRY);
     }
 
     /**
-     * Invokes the containerDescribe method.
+     * Invokes the containerDescribe method with an empty input without blocking, deserializing to an object of the specified class.
      *
      * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Containers-for-Execution#API-method%3A-%2Fcontainer-xxxx%2Fdescribe">API specification</a>.
      *
      * @param objectId ID of the object to operate on
+     * @param outputClass class to deserialize the server reponse to
      *
-     * @return Server response parsed from JSON
+     * @return future that completes with the response object; the future fails with
+     *         {@link DXAPIException} or {@link DXHTTPException} if the request fails
+     */
+    public static <T> ListenableFuture<T> containerDescribeAsync(String objectId, Class<T> outputClass) {
+        return containerDescribeAsync(objectId, mapper.createObjectNode(), outputClass);
+    }
+    /**
+     * Invokes the containerDescribe method with the given input without blocking, deserializing to an object of the specified class.
      *
-     * @throws DXAPIException
-     *             If the server returns a complete response with an HTTP status
-     *             code other than 200 (OK).
-     * @throws DXHTTPException
-     *             If an error occurs while making the HTTP request or obtaining
-     *             the response (includes HTTP protocol errors).
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Containers-for-Execution#API-method%3A-%2Fcontainer-xxxx%2Fdescribe">API specification</a>.
      *
-     * @deprecated Use {@link #containerDescribe(String, Class)} instead and supply your own class to deserialize to.
+     * @param objectId ID of the object to operate on
+     * @param inputObject input object (to be JSON serialized to an input hash)
+     * @param outputClass class to deserialize the server reponse to
+     *
+     * @return future that completes with the response object; the future fails with
+     *         {@link DXAPIException} or {@link DXHTTPException} if the request fails
+     */
+    public static <T> ListenableFuture<T> containerDescribeAsync(String objectId, Object inputObject, Class<T> outputClass) {
+        return new DXHTTPRequest().requestAsync("/" + objectId + "/" + "describe",
+                inputObject, outputClass, RetryStrategy.SAFE_TO_RETRY);
+    }
+    /**
+     * Invokes the containerDescribe method with an empty input using the given environment without blocking, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Containers-for-Execution#API-method%3A-%2Fcontainer-xxxx%2Fdescribe">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param outputClass class to deserialize the server reponse to
+     * @param env environment object specifying the auth token and remote server and protocol
+     *
+     * @return future that completes with the response object; the future fails with
+     *         {@link DXAPIException} or {@link DXHTTPException} if the request fails
+     */
+    public static <T> ListenableFuture<T> containerDescribeAsync(String objectId, Class<T> outputClass, DXEnvironment env) {
+        return containerDescribeAsync(objectId, mapper.createObjectNode(), outputClass, env);
+    }
+    /**
+     * Invokes the containerDescribe method with the given input using the given environment without blocking, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Containers-for-Execution#API-method%3A-%2Fcontainer-xxxx%2Fdescribe">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param inputObject input object (to be JSON serialized to an input hash)
+     * @param outputClass class to deserialize the server reponse to
+     * @param env environment object specifying the auth token and remote server and protocol
+     *
+     * @return future that completes with the response object; the future fails with
+     *         {@link DXAPIException} or {@link DXHTTPException} if the request fails
+     */
+    public static <T> ListenableFuture<T> containerDescribeAsync(String objectId, Object inputObject, Class<T> outputClass, DXEnvironment env) {
+        return new DXHTTPRequest(env).requestAsync("/" + objectId + "/" + "describe",
+                inputObject, outputClass, RetryStrategy.SAFE_TO_RETRY);
+    }
+
+    /**
+     * Invokes the containerDescribe method.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Containers-for-Execution#API-method%3A-%2Fcontainer-xxxx%2Fdescribe">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     *
+     * @return Server response parsed from JSON
+     *
+     * @throws DXAPIException
+     *             If the server returns a complete response with an HTTP status
+     *             code other than 200 (OK).
+     * @throws DXHTTPException
+     *             If an error occurs while making the HTTP request or obtaining
+     *             the response (includes HTTP protocol errors).
+     *
+     * @deprecated Use {@link #containerDescribe(String, Class)} instead and supply your own class to deserialize to.
      */
     @Deprecated
     public static JsonNode containerDescribe(String objectId) {
@@ -6845,9 +9087,8 @@ public final class DXAPI {
      *             the response (includes HTTP protocol errors).
      */
     public static <T> T containerDestroy(String objectId, Object inputObject, Class<T> outputClass) {
-        return DXJSON.safeTreeToValue(
-                new DXHTTPRequest().request("/" + objectId + "/" + "destroy",
-                        mapper.valueToTree(inputObject), RetryStrategy.SAFE_TO_RETRY), outputClass);
+        return new DXHTTPRequest().request("/" + objectId + "/" + "destroy",
+                inputObject, outputClass, RetryStrategy.SAFE_TO_RETRY);
     }
     /**
      * Invokes the containerDestroy method with an empty input using the given environment, deserializing to an object of the specified class.
@@ -6886,9 +9127,63 @@ public final class DXAPI {
      *             the response (includes HTTP protocol errors).
      */
     public static <T> T containerDestroy(String objectId, Object inputObject, Class<T> outputClass, DXEnvironment env) {
-        return DXJSON.safeTreeToValue(
-            new DXHTTPRequest(env).request("/" + objectId + "/" + "destroy",
-                    mapper.valueToTree(inputObject), RetryStrategy.SAFE_TO_RETRY), outputClass);
+        return new DXHTTPRequest(env).request("/" + objectId + "/" + "destroy",
+                inputObject, outputClass, RetryStrategy.SAFE_TO_RETRY);
+    }
+
+    /**
+     * Invokes the containerDestroy method with an empty input without blocking, deserializing to an object of the specified class.
+     *
+     * @param objectId ID of the object to operate on
+     * @param outputClass class to deserialize the server reponse to
+     *
+     * @return future that completes with the response object; the future fails with
+     *         {@link DXAPIException} or {@link DXHTTPException} if the request fails
+     */
+    public static <T> ListenableFuture<T> containerDestroyAsync(String objectId, Class<T> outputClass) {
+        return containerDestroyAsync(objectId, mapper.createObjectNode(), outputClass);
+    }
+    /**
+     * Invokes the containerDestroy method with the given input without blocking, deserializing to an object of the specified class.
+     *
+     * @param objectId ID of the object to operate on
+     * @param inputObject input object (to be JSON serialized to an input hash)
+     * @param outputClass class to deserialize the server reponse to
+     *
+     * @return future that completes with the response object; the future fails with
+     *         {@link DXAPIException} or {@link DXHTTPException} if the request fails
+     */
+    public static <T> ListenableFuture<T> containerDestroyAsync(String objectId, Object inputObject, Class<T> outputClass) {
+        return new DXHTTPRequest().requestAsync("/" + objectId + "/" + "destroy",
+                inputObject, outputClass, RetryStrategy.SAFE_TO_RETRY);
+    }
+    /**
+     * Invokes the containerDestroy method with an empty input using the given environment without blocking, deserializing to an object of the specified class.
+     *
+     * @param objectId ID of the object to operate on
+     * @param outputClass class to deserialize the server reponse to
+     * @param env environment object specifying the auth token and remote server and protocol
+     *
+     * @return future that completes with the response object; the future fails with
+     *         {@link DXAPIException} or {@link DXHTTPException} if the request fails
+     */
+    public static <T> ListenableFuture<T> containerDestroyAsync(String objectId, Class<T> outputClass, DXEnvironment env) {
+        return containerDestroyAsync(objectId, mapper.createObjectNode(), outputClass, env);
+    }
+    /**
+     * Invokes the containerDestroy method with the given input using the given environment without blocking, deserializing to an object of the specified class.
+     *
+     * @param objectId ID of the object to operate on
+     * @param inputObject input object (to be JSON serialized to an input hash)
+     * @param outputClass class to deserialize the server reponse to
+     * @param env environment object specifying the auth token and remote server and protocol
+     *
+     * @return future that completes with the response object; the future fails with
+     *         {@link DXAPIException} or {@link DXHTTPException} if the request fails
+     */
+    public static <T> ListenableFuture<T> containerDestroyAsync(String objectId, Object inputObject, Class<T> outputClass, DXEnvironment env) {
+        return new DXHTTPRequest(env).requestAsync("/" + objectId + "/" + "destroy",
+                inputObject, outputClass, RetryStrategy.SAFE_TO_RETRY);
     }
 
     /**
@@ -7017,9 +9312,8 @@ public final class DXAPI {
      *             the response (includes HTTP protocol errors).
      */
     public static <T> T containerListFolder(String objectId, Object inputObject, Class<T> outputClass) {
-        return DXJSON.safeTreeToValue(
-                new DXHTTPRequest().request("/" + objectId + "/" + "listFolder",
-                        mapper.valueToTree(inputObject), RetryStrategy.SAFE_TO_RETRY), outputClass);
+        return new DXHTTPRequest().request("/" + objectId + "/" + "listFolder",
+                inputObject, outputClass, RetryStrategy.SAFE_TO_RETRY);
     }
     /**
      * Invokes the containerListFolder method with an empty input using the given environment, deserializing to an object of the specified class.
@@ -7062,9 +9356,71 @@ public final class DXAPI {
      *             the response (includes HTTP protocol errors).
      */
     public static <T> T containerListFolder(String objectId, Object inputObject, Class<T> outputClass, DXEnvironment env) {
-        return DXJSON.safeTreeToValue(
-            new DXHTTPRequest(env).request("/" + objectId + "/" + "listFolder",
-                    mapper.valueToTree(inputObject), RetryStrategy.SAFE_TO_RETRY), outputClass);
+        return new DXHTTPRequest(env).request("/" + objectId + "/" + "listFolder",
+                inputObject, outputClass, RetryStrategy.SAFE_TO_RETRY);
+    }
+
+    /**
+     * Invokes the containerListFolder method with an empty input without blocking, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Folders-and-Deletion#API-method%3A-%2Fclass-xxxx%2FlistFolder">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param outputClass class to deserialize the server reponse to
+     *
+     * @return future that completes with the response object; the future fails with
+     *         {@link DXAPIException} or {@link DXHTTPException} if the request fails
+     */
+    public static <T> ListenableFuture<T> containerListFolderAsync(String objectId, Class<T> outputClass) {
+        return containerListFolderAsync(objectId, mapper.createObjectNode(), outputClass);
+    }
+    /**
+     * Invokes the containerListFolder method with the given input without blocking, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Folders-and-Deletion#API-method%3A-%2Fclass-xxxx%2FlistFolder">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param inputObject input object (to be JSON serialized to an input hash)
+     * @param outputClass class to deserialize the server reponse to
+     *
+     * @return future that completes with the response object; the future fails with
+     *         {@link DXAPIException} or {@link DXHTTPException} if the request fails
+     */
+    public static <T> ListenableFuture<T> containerListFolderAsync(String objectId, Object inputObject, Class<T> outputClass) {
+        return new DXHTTPRequest().requestAsync("/" + objectId + "/" + "listFolder",
+                inputObject, outputClass, RetryStrategy.SAFE_TO_RETRY);
+    }
+    /**
+     * Invokes the containerListFolder method with an empty input using the given environment without blocking, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Folders-and-Deletion#API-method%3A-%2Fclass-xxxx%2FlistFolder">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param outputClass class to deserialize the server reponse to
+     * @param env environment object specifying the auth token and remote server and protocol
+     *
+     * @return future that completes with the response object; the future fails with
+     *         {@link DXAPIException} or {@link DXHTTPException} if the request fails
+     */
+    public static <T> ListenableFuture<T> containerListFolderAsync(String objectId, Class<T> outputClass, DXEnvironment env) {
+        return containerListFolderAsync(objectId, mapper.createObjectNode(), outputClass, env);
+    }
+    /**
+     * Invokes the containerListFolder method with the given input using the given environment without blocking, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Folders-and-Deletion#API-method%3A-%2Fclass-xxxx%2FlistFolder">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param inputObject input object (to be JSON serialized to an input hash)
+     * @param outputClass class to deserialize the server reponse to
+     * @param env environment object specifying the auth token and remote server and protocol
+     *
+     * @return future that completes with the response object; the future fails with
+     *         {@link DXAPIException} or {@link DXHTTPException} if the request fails
+     */
+    public static <T> ListenableFuture<T> containerListFolderAsync(String objectId, Object inputObject, Class<T> outputClass, DXEnvironment env) {
+        return new DXHTTPRequest(env).requestAsync("/" + objectId + "/" + "listFolder",
+                inputObject, outputClass, RetryStrategy.SAFE_TO_RETRY);
     }
 
     /**
@@ -7201,9 +9557,8 @@ public final class DXAPI {
      *             the response (includes HTTP protocol errors).
      */
     public static <T> T containerMove(String objectId, Object inputObject, Class<T> outputClass) {
-        return DXJSON.safeTreeToValue(
-                new DXHTTPRequest().request("/" + objectId + "/" + "move",
-                        mapper.valueToTree(inputObject), RetryStrategy.UNSAFE_TO_RETRY), outputClass);
+        return new DXHTTPRequest().request("/" + objectId + "/" + "move",
+                inputObject, outputClass, RetryStrategy.UNSAFE_TO_RETRY);
     }
     /**
      * Invokes the containerMove method with an empty input using the given environment, deserializing to an object of the specified class.
@@ -7246,9 +9601,71 @@ public final class DXAPI {
      *             the response (includes HTTP protocol errors).
      */
     public static <T> T containerMove(String objectId, Object inputObject, Class<T> outputClass, DXEnvironment env) {
-        return DXJSON.safeTreeToValue(
-            new DXHTTPRequest(env).request("/" + objectId + "/" + "move",
-                    mapper.valueToTree(inputObject), RetryStrategy.UNSAFE_TO_RETRY), outputClass);
+        return new DXHTTPRequest(env).request("/" + objectId + "/" + "move",
+                inputObject, outputClass, RetryStrategy.UNSAFE_TO_RETRY);
+    }
+
+    /**
+     * Invokes the containerMove method with an empty input without blocking, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Folders-and-Deletion#API-method%3A-%2Fclass-xxxx%2Fmove">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param outputClass class to deserialize the server reponse to
+     *
+     * @return future that completes with the response object; the future fails with
+     *         {@link DXAPIException} or {@link DXHTTPException} if the request fails
+     */
+    public static <T> ListenableFuture<T> containerMoveAsync(String objectId, Class<T> outputClass) {
+        return containerMoveAsync(objectId, mapper.createObjectNode(), outputClass);
+    }
+    /**
+     * Invokes the containerMove method with the given input without blocking, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Folders-and-Deletion#API-method%3A-%2Fclass-xxxx%2Fmove">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param inputObject input object (to be JSON serialized to an input hash)
+     * @param outputClass class to deserialize the server reponse to
+     *
+     * @return future that completes with the response object; the future fails with
+     *         {@link DXAPIException} or {@link DXHTTPException} if the request fails
+     */
+    public static <T> ListenableFuture<T> containerMoveAsync(String objectId, Object inputObject, Class<T> outputClass) {
+        return new DXHTTPRequest().requestAsync("/" + objectId + "/" + "move",
+                inputObject, outputClass, RetryStrategy.UNSAFE_TO_RETRY);
+    }
+    /**
+     * Invokes the containerMove method with an empty input using the given environment without blocking, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Folders-and-Deletion#API-method%3A-%2Fclass-xxxx%2Fmove">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param outputClass class to deserialize the server reponse to
+     * @param env environment object specifying the auth token and remote server and protocol
+     *
+     * @return future that completes with the response object; the future fails with
+     *         {@link DXAPIException} or {@link DXHTTPException} if the request fails
+     */
+    public static <T> ListenableFuture<T> containerMoveAsync(String objectId, Class<T> outputClass, DXEnvironment env) {
+        return containerMoveAsync(objectId, mapper.createObjectNode(), outputClass, env);
+    }
+    /**
+     * Invokes the containerMove method with the given input using the given environment without blocking, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Folders-and-Deletion#API-method%3A-%2Fclass-xxxx%2Fmove">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param inputObject input object (to be JSON serialized to an input hash)
+     * @param outputClass class to deserialize the server reponse to
+     * @param env environment object specifying the auth token and remote server and protocol
+     *
+     * @return future that completes with the response object; the future fails with
+     *         {@link DXAPIException} or {@link DXHTTPException} if the request fails
+     */
+    public static <T> ListenableFuture<T> containerMoveAsync(String objectId, Object inputObject, Class<T> outputClass, DXEnvironment env) {
+        return new DXHTTPRequest(env).requestAsync("/" + objectId + "/" + "move",
+                inputObject, outputClass, RetryStrategy.UNSAFE_TO_RETRY);
     }
 
     /**
@@ -7385,9 +9802,8 @@ public final class DXAPI {
      *             the response (includes HTTP protocol errors).
      */
     public static <T> T containerNewFolder(String objectId, Object inputObject, Class<T> outputClass) {
-        return DXJSON.safeTreeToValue(
-                new DXHTTPRequest().request("/" + objectId + "/" + "newFolder",
-                        mapper.valueToTree(inputObject), RetryStrategy.SAFE_TO_RETRY), outputClass);
+        return new DXHTTPRequest().request("/" + objectId + "/" + "newFolder",
+                inputObject, outputClass, RetryStrategy.SAFE_TO_RETRY);
     }
     /**
      * Invokes the containerNewFolder method with an empty input using the given environment, deserializing to an object of the specified class.
@@ -7430,9 +9846,71 @@ public final class DXAPI {
      *             the response (includes HTTP protocol errors).
      */
     public static <T> T containerNewFolder(String objectId, Object inputObject, Class<T> outputClass, DXEnvironment env) {
-        return DXJSON.safeTreeToValue(
-            new DXHTTPRequest(env).request("/" + objectId + "/" + "newFolder",
-                    mapper.valueToTree(inputObject), RetryStrategy.SAFE_TO_RETRY), outputClass);
+        return new DXHTTPRequest(env).request("/" + objectId + "/" + "newFolder",
+                inputObject, outputClass, RetryStrategy.SAFE_TO_RETRY);
+    }
+
+    /**
+     * Invokes the containerNewFolder method with an empty input without blocking, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Folders-and-Deletion#API-method%3A-%2Fclass-xxxx%2FnewFolder">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param outputClass class to deserialize the server reponse to
+     *
+     * @return future that completes with the response object; the future fails with
+     *         {@link DXAPIException} or {@link DXHTTPException} if the request fails
+     */
+    public static <T> ListenableFuture<T> containerNewFolderAsync(String objectId, Class<T> outputClass) {
+        return containerNewFolderAsync(objectId, mapper.createObjectNode(), outputClass);
+    }
+    /**
+     * Invokes the containerNewFolder method with the given input without blocking, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Folders-and-Deletion#API-method%3A-%2Fclass-xxxx%2FnewFolder">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param inputObject input object (to be JSON serialized to an input hash)
+     * @param outputClass class to deserialize the server reponse to
+     *
+     * @return future that completes with the response object; the future fails with
+     *         {@link DXAPIException} or {@link DXHTTPException} if the request fails
+     */
+    public static <T> ListenableFuture<T> containerNewFolderAsync(String objectId, Object inputObject, Class<T> outputClass) {
+        return new DXHTTPRequest().requestAsync("/" + objectId + "/" + "newFolder",
+                inputObject, outputClass, RetryStrategy.SAFE_TO_RETRY);
+    }
+    /**
+     * Invokes the containerNewFolder method with an empty input using the given environment without blocking, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Folders-and-Deletion#API-method%3A-%2Fclass-xxxx%2FnewFolder">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param outputClass class to deserialize the server reponse to
+     * @param env environment object specifying the auth token and remote server and protocol
+     *
+     * @return future that completes with the response object; the future fails with
+     *         {@link DXAPIException} or {@link DXHTTPException} if the request fails
+     */
+    public static <T> ListenableFuture<T> containerNewFolderAsync(String objectId, Class<T> outputClass, DXEnvironment env) {
+        return containerNewFolderAsync(objectId, mapper.createObjectNode(), outputClass, env);
+    }
+    /**
+     * Invokes the containerNewFolder method with the given input using the given environment without blocking, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Folders-and-Deletion#API-method%3A-%2Fclass-xxxx%2FnewFolder">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param inputObject input object (to be JSON serialized to an input hash)
+     * @param outputClass class to deserialize the server reponse to
+     * @param env environment object specifying the auth token and remote server and protocol
+     *
+     * @return future that completes with the response object; the future fails with
+     *         {@link DXAPIException} or {@link DXHTTPException} if the request fails
+     */
+    public static <T> ListenableFuture<T> containerNewFolderAsync(String objectId, Object inputObject, Class<T> outputClass, DXEnvironment env) {
+        return new DXHTTPRequest(env).requestAsync("/" + objectId + "/" + "newFolder",
+                inputObject, outputClass, RetryStrategy.SAFE_TO_RETRY);
     }
 
     /**
@@ -7569,9 +10047,8 @@ public final class DXAPI {
      *             the response (includes HTTP protocol errors).
      */
     public static <T> T containerRemoveFolder(String objectId, Object inputObject, Class<T> outputClass) {
-        return DXJSON.safeTreeToValue(
-                new DXHTTPRequest().request("/" + objectId + "/" + "removeFolder",
-                        mapper.valueToTree(inputObject), RetryStrategy.UNSAFE_TO_RETRY), outputClass);
+        return new DXHTTPRequest().request("/" + objectId + "/" + "removeFolder",
+                inputObject, outputClass, RetryStrategy.UNSAFE_TO_RETRY);
     }
     /**
      * Invokes the containerRemoveFolder method with an empty input using the given environment, deserializing to an object of the specified class.
@@ -7614,9 +10091,71 @@ public final class DXAPI {
      *             the response (includes HTTP protocol errors).
      */
     public static <T> T containerRemoveFolder(String objectId, Object inputObject, Class<T> outputClass, DXEnvironment env) {
-        return DXJSON.safeTreeToValue(
-            new DXHTTPRequest(env).request("/" + objectId + "/" + "removeFolder",
-                    mapper.valueToTree(inputObject), RetryStrategy.UNSAFE_TO_RETRY), outputClass);
+        return new DXHTTPRequest(env).request("/" + objectId + "/" + "removeFolder",
+                inputObject, outputClass, RetryStrategy.UNSAFE_TO_RETRY);
+    }
+
+    /**
+     * Invokes the containerRemoveFolder method with an empty input without blocking, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Folders-and-Deletion#API-method%3A-%2Fclass-xxxx%2FremoveFolder">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param outputClass class to deserialize the server reponse to
+     *
+     * @return future that completes with the response object; the future fails with
+     *         {@link DXAPIException} or {@link DXHTTPException} if the request fails
+     */
+    public static <T> ListenableFuture<T> containerRemoveFolderAsync(String objectId, Class<T> outputClass) {
+        return containerRemoveFolderAsync(objectId, mapper.createObjectNode(), outputClass);
+    }
+    /**
+     * Invokes the containerRemoveFolder method with the given input without blocking, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Folders-and-Deletion#API-method%3A-%2Fclass-xxxx%2FremoveFolder">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param inputObject input object (to be JSON serialized to an input hash)
+     * @param outputClass class to deserialize the server reponse to
+     *
+     * @return future that completes with the response object; the future fails with
+     *         {@link DXAPIException} or {@link DXHTTPException} if the request fails
+     */
+    public static <T> ListenableFuture<T> containerRemoveFolderAsync(String objectId, Object inputObject, Class<T> outputClass) {
+        return new DXHTTPRequest().requestAsync("/" + objectId + "/" + "removeFolder",
+                inputObject, outputClass, RetryStrategy.UNSAFE_TO_RETRY);
+    }
+    /**
+     * Invokes the containerRemoveFolder method with an empty input using the given environment without blocking, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Folders-and-Deletion#API-method%3A-%2Fclass-xxxx%2FremoveFolder">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param outputClass class to deserialize the server reponse to
+     * @param env environment object specifying the auth token and remote server and protocol
+     *
+     * @return future that completes with the response object; the future fails with
+     *         {@link DXAPIException} or {@link DXHTTPException} if the request fails
+     */
+    public static <T> ListenableFuture<T> containerRemoveFolderAsync(String objectId, Class<T> outputClass, DXEnvironment env) {
+        return containerRemoveFolderAsync(objectId, mapper.createObjectNode(), outputClass, env);
+    }
+    /**
+     * Invokes the containerRemoveFolder method with the given input using the given environment without blocking, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Folders-and-Deletion#API-method%3A-%2Fclass-xxxx%2FremoveFolder">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param inputObject input object (to be JSON serialized to an input hash)
+     * @param outputClass class to deserialize the server reponse to
+     * @param env environment object specifying the auth token and remote server and protocol
+     *
+     * @return future that completes with the response object; the future fails with
+     *         {@link DXAPIException} or {@link DXHTTPException} if the request fails
+     */
+    public static <T> ListenableFuture<T> containerRemoveFolderAsync(String objectId, Object inputObject, Class<T> outputClass, DXEnvironment env) {
+        return new DXHTTPRequest(env).requestAsync("/" + objectId + "/" + "removeFolder",
+                inputObject, outputClass, RetryStrategy.UNSAFE_TO_RETRY);
     }
 
     /**
@@ -7753,9 +10292,8 @@ public final class DXAPI {
      *             the response (includes HTTP protocol errors).
      */
     public static <T> T containerRemoveObjects(String objectId, Object inputObject, Class<T> outputClass) {
-        return DXJSON.safeTreeToValue(
-                new DXHTTPRequest().request("/" + objectId + "/" + "removeObjects",
-                        mapper.valueToTree(inputObject), RetryStrategy.UNSAFE_TO_RETRY), outputClass);
+        return new DXHTTPRequest().request("/" + objectId + "/" + "removeObjects",
+                inputObject, outputClass, RetryStrategy.UNSAFE_TO_RETRY);
     }
     /**
      * Invokes the containerRemoveObjects method with an empty input using the given environment, deserializing to an object of the specified class.
@@ -7798,28 +10336,90 @@ public final class DXAPI {
      *             the response (includes HTTP protocol errors).
      */
     public static <T> T containerRemoveObjects(String objectId, Object inputObject, Class<T> outputClass, DXEnvironment env) {
-        return DXJSON.safeTreeToValue(
-            new DXHTTPRequest(env).request("/" + objectId + "/" + "removeObjects",
-                    mapper.valueToTree(inputObject), RetryStrategy.UNSAFE_TO_RETRY), outputClass);
+        return new DXHTTPRequest(env).request("/" + objectId + "/" + "removeObjects",
+                inputObject, outputClass, RetryStrategy.UNSAFE_TO_RETRY);
     }
 
     /**
-     * Invokes the containerRemoveObjects method.
+     * Invokes the containerRemoveObjects method with an empty input without blocking, deserializing to an object of the specified class.
      *
      * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Folders-and-Deletion#API-method%3A-%2Fclass-xxxx%2FremoveObjects">API specification</a>.
      *
      * @param objectId ID of the object to operate on
+     * @param outputClass class to deserialize the server reponse to
      *
-     * @return Server response parsed from JSON
+     * @return future that completes with the response object; the future fails with
+     *         {@link DXAPIException} or {@link DXHTTPException} if the request fails
+     */
+    public static <T> ListenableFuture<T> containerRemoveObjectsAsync(String objectId, Class<T> outputClass) {
+        return containerRemoveObjectsAsync(objectId, mapper.createObjectNode(), outputClass);
+    }
+    /**
+     * Invokes the containerRemoveObjects method with the given input without blocking, deserializing to an object of the specified class.
      *
-     * @throws DXAPIException
-     *             If the server returns a complete response with an HTTP status
-     *             code other than 200 (OK).
-     * @throws DXHTTPException
-     *             If an error occurs while making the HTTP request or obtaining
-     *             the response (includes HTTP protocol errors).
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Folders-and-Deletion#API-method%3A-%2Fclass-xxxx%2FremoveObjects">API specification</a>.
      *
-     * @deprecated Use {@link #containerRemoveObjects(String, Class)} instead and supply your own class to deserialize to.
+     * @param objectId ID of the object to operate on
+     * @param inputObject input object (to be JSON serialized to an input hash)
+     * @param outputClass class to deserialize the server reponse to
+     *
+     * @return future that completes with the response object; the future fails with
+     *         {@link DXAPIException} or {@link DXHTTPException} if the request fails
+     */
+    public static <T> ListenableFuture<T> containerRemoveObjectsAsync(String objectId, Object inputObject, Class<T> outputClass) {
+        return new DXHTTPRequest().requestAsync("/" + objectId + "/" + "removeObjects",
+                inputObject, outputClass, RetryStrategy.UNSAFE_TO_RETRY);
+    }
+    /**
+     * Invokes the containerRemoveObjects method with an empty input using the given environment without blocking, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Folders-and-Deletion#API-method%3A-%2Fclass-xxxx%2FremoveObjects">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param outputClass class to deserialize the server reponse to
+     * @param env environment object specifying the auth token and remote server and protocol
+     *
+     * @return future that completes with the response object; the future fails with
+     *         {@link DXAPIException} or {@link DXHTTPException} if the request fails
+     */
+    public static <T> ListenableFuture<T> containerRemoveObjectsAsync(String objectId, Class<T> outputClass, DXEnvironment env) {
+        return containerRemoveObjectsAsync(objectId, mapper.createObjectNode(), outputClass, env);
+    }
+    /**
+     * Invokes the containerRemoveObjects method with the given input using the given environment without blocking, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Folders-and-Deletion#API-method%3A-%2Fclass-xxxx%2FremoveObjects">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param inputObject input object (to be JSON serialized to an input hash)
+     * @param outputClass class to deserialize the server reponse to
+     * @param env environment object specifying the auth token and remote server and protocol
+     *
+     * @return future that completes with the response object; the future fails with
+     *         {@link DXAPIException} or {@link DXHTTPException} if the request fails
+     */
+    public static <T> ListenableFuture<T> containerRemoveObjectsAsync(String objectId, Object inputObject, Class<T> outputClass, DXEnvironment env) {
+        return new DXHTTPRequest(env).requestAsync("/" + objectId + "/" + "removeObjects",
+                inputObject, outputClass, RetryStrategy.UNSAFE_TO_RETRY);
+    }
+
+    /**
+     * Invokes the containerRemoveObjects method.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Folders-and-Deletion#API-method%3A-%2Fclass-xxxx%2FremoveObjects">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     *
+     * @return Server response parsed from JSON
+     *
+     * @throws DXAPIException
+     *             If the server returns a complete response with an HTTP status
+     *             code other than 200 (OK).
+     * @throws DXHTTPException
+     *             If an error occurs while making the HTTP request or obtaining
+     *             the response (includes HTTP protocol errors).
+     *
+     * @deprecated Use {@link #containerRemoveObjects(String, Class)} instead and supply your own class to deserialize to.
      */
     @Deprecated
     public static JsonNode containerRemoveObjects(String objectId) {
@@ -7937,9 +10537,8 @@ public final class DXAPI {
      *             the response (includes HTTP protocol errors).
      */
     public static <T> T containerRenameFolder(String objectId, Object inputObject, Class<T> outputClass) {
-        return DXJSON.safeTreeToValue(
-                new DXHTTPRequest().request("/" + objectId + "/" + "renameFolder",
-                        mapper.valueToTree(inputObject), RetryStrategy.UNSAFE_TO_RETRY), outputClass);
+        return new DXHTTPRequest().request("/" + objectId + "/" + "renameFolder",
+                inputObject, outputClass, RetryStrategy.UNSAFE_TO_RETRY);
     }
     /**
      * Invokes the containerRenameFolder method with an empty input using the given environment, deserializing to an object of the specified class.
@@ -7982,9 +10581,71 @@ public final class DXAPI {
      *             the response (includes HTTP protocol errors).
      */
     public static <T> T containerRenameFolder(String objectId, Object inputObject, Class<T> outputClass, DXEnvironment env) {
-        return DXJSON.safeTreeToValue(
-            new DXHTTPRequest(env).request("/" + objectId + "/" + "renameFolder",
-                    mapper.valueToTree(inputObject), RetryStrategy.UNSAFE_TO_RETRY), outputClass);
+        return new DXHTTPRequest(env).request("/" + objectId + "/" + "renameFolder",
+                inputObject, outputClass, RetryStrategy.UNSAFE_TO_RETRY);
+    }
+
+    /**
+     * Invokes the containerRenameFolder method with an empty input without blocking, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Folders-and-Deletion#API-method%3A-%2Fclass-xxxx%2FrenameFolder">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param outputClass class to deserialize the server reponse to
+     *
+     * @return future that completes with the response object; the future fails with
+     *         {@link DXAPIException} or {@link DXHTTPException} if the request fails
+     */
+    public static <T> ListenableFuture<T> containerRenameFolderAsync(String objectId, Class<T> outputClass) {
+        return containerRenameFolderAsync(objectId, mapper.createObjectNode(), outputClass);
+    }
+    /**
+     * Invokes the containerRenameFolder method with the given input without blocking, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Folders-and-Deletion#API-method%3A-%2Fclass-xxxx%2FrenameFolder">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param inputObject input object (to be JSON serialized to an input hash)
+     * @param outputClass class to deserialize the server reponse to
+     *
+     * @return future that completes with the response object; the future fails with
+     *         {@link DXAPIException} or {@link DXHTTPException} if the request fails
+     */
+    public static <T> ListenableFuture<T> containerRenameFolderAsync(String objectId, Object inputObject, Class<T> outputClass) {
+        return new DXHTTPRequest().requestAsync("/" + objectId + "/" + "renameFolder",
+                inputObject, outputClass, RetryStrategy.UNSAFE_TO_RETRY);
+    }
+    /**
+     * Invokes the containerRenameFolder method with an empty input using the given environment without blocking, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Folders-and-Deletion#API-method%3A-%2Fclass-xxxx%2FrenameFolder">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param outputClass class to deserialize the server reponse to
+     * @param env environment object specifying the auth token and remote server and protocol
+     *
+     * @return future that completes with the response object; the future fails with
+     *         {@link DXAPIException} or {@link DXHTTPException} if the request fails
+     */
+    public static <T> ListenableFuture<T> containerRenameFolderAsync(String objectId, Class<T> outputClass, DXEnvironment env) {
+        return containerRenameFolderAsync(objectId, mapper.createObjectNode(), outputClass, env);
+    }
+    /**
+     * Invokes the containerRenameFolder method with the given input using the given environment without blocking, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Folders-and-Deletion#API-method%3A-%2Fclass-xxxx%2FrenameFolder">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param inputObject input object (to be JSON serialized to an input hash)
+     * @param outputClass class to deserialize the server reponse to
+     * @param env environment object specifying the auth token and remote server and protocol
+     *
+     * @return future that completes with the response object; the future fails with
+     *         {@link DXAPIException} or {@link DXHTTPException} if the request fails
+     */
+    public static <T> ListenableFuture<T> containerRenameFolderAsync(String objectId, Object inputObject, Class<T> outputClass, DXEnvironment env) {
+        return new DXHTTPRequest(env).requestAsync("/" + objectId + "/" + "renameFolder",
+                inputObject, outputClass, RetryStrategy.UNSAFE_TO_RETRY);
     }
 
     /**
@@ -8121,9 +10782,8 @@ public final class DXAPI {
      *             the response (includes HTTP protocol errors).
      */
     public static <T> T fileAddTags(String objectId, Object inputObject, Class<T> outputClass) {
-        return DXJSON.safeTreeToValue(
-                new DXHTTPRequest().request("/" + objectId + "/" + "addTags",
-                        mapper.valueToTree(inputObject), RetryStrategy.SAFE_TO_RETRY), outputClass);
+        return new DXHTTPRequest().request("/" + objectId + "/" + "addTags",
+                inputObject, outputClass, RetryStrategy.SAFE_TO_RETRY);
     }
     /**
      * Invokes the fileAddTags method with an empty input using the given environment, deserializing to an object of the specified class.
@@ -8166,9 +10826,71 @@ public final class DXAPI {
      *             the response (includes HTTP protocol errors).
      */
     public static <T> T fileAddTags(String objectId, Object inputObject, Class<T> outputClass, DXEnvironment env) {
-        return DXJSON.safeTreeToValue(
-            new DXHTTPRequest(env).request("/" + objectId + "/" + "addTags",
-                    mapper.valueToTree(inputObject), RetryStrategy.SAFE_TO_RETRY), outputClass);
+        return new DXHTTPRequest(env).request("/" + objectId + "/" + "addTags",
+                inputObject, outputClass, RetryStrategy.SAFE_TO_RETRY);
+    }
+
+    /**
+     * Invokes the fileAddTags method with an empty input without blocking, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Tags#API-method%3A-%2Fclass-xxxx%2FaddTags">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param outputClass class to deserialize the server reponse to
+     *
+     * @return future that completes with the response object; the future fails with
+     *         {@link DXAPIException} or {@link DXHTTPException} if the request fails
+     */
+    public static <T> ListenableFuture<T> fileAddTagsAsync(String objectId, Class<T> outputClass) {
+        return fileAddTagsAsync(objectId, mapper.createObjectNode(), outputClass);
+    }
+    /**
+     * Invokes the fileAddTags method with the given input without blocking, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Tags#API-method%3A-%2Fclass-xxxx%2FaddTags">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param inputObject input object (to be JSON serialized to an input hash)
+     * @param outputClass class to deserialize the server reponse to
+     *
+     * @return future that completes with the response object; the future fails with
+     *         {@link DXAPIException} or {@link DXHTTPException} if the request fails
+     */
+    public static <T> ListenableFuture<T> fileAddTagsAsync(String objectId, Object inputObject, Class<T> outputClass) {
+        return new DXHTTPRequest().requestAsync("/" + objectId + "/" + "addTags",
+                inputObject, outputClass, RetryStrategy.SAFE_TO_RETRY);
+    }
+    /**
+     * Invokes the fileAddTags method with an empty input using the given environment without blocking, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Tags#API-method%3A-%2Fclass-xxxx%2FaddTags">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param outputClass class to deserialize the server reponse to
+     * @param env environment object specifying the auth token and remote server and protocol
+     *
+     * @return future that completes with the response object; the future fails with
+     *         {@link DXAPIException} or {@link DXHTTPException} if the request fails
+     */
+    public static <T> ListenableFuture<T> fileAddTagsAsync(String objectId, Class<T> outputClass, DXEnvironment env) {
+        return fileAddTagsAsync(objectId, mapper.createObjectNode(), outputClass, env);
+    }
+    /**
+     * Invokes the fileAddTags method with the given input using the given environment without blocking, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Tags#API-method%3A-%2Fclass-xxxx%2FaddTags">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param inputObject input object (to be JSON serialized to an input hash)
+     * @param outputClass class to deserialize the server reponse to
+     * @param env environment object specifying the auth token and remote server and protocol
+     *
+     * @return future that completes with the response object; the future fails with
+     *         {@link DXAPIException} or {@link DXHTTPException} if the request fails
+     */
+    public static <T> ListenableFuture<T> fileAddTagsAsync(String objectId, Object inputObject, Class<T> outputClass, DXEnvironment env) {
+        return new DXHTTPRequest(env).requestAsync("/" + objectId + "/" + "addTags",
+                inputObject, outputClass, RetryStrategy.SAFE_TO_RETRY);
     }
 
     /**
@@ -8305,9 +11027,8 @@ public final class DXAPI {
      *             the response (includes HTTP protocol errors).
      */
     public static <T> T fileAddTypes(String objectId, Object inputObject, Class<T> outputClass) {
-        return DXJSON.safeTreeToValue(
-                new DXHTTPRequest().request("/" + objectId + "/" + "addTypes",
-                        mapper.valueToTree(inputObject), RetryStrategy.SAFE_TO_RETRY), outputClass);
+        return new DXHTTPRequest().request("/" + objectId + "/" + "addTypes",
+                inputObject, outputClass, RetryStrategy.SAFE_TO_RETRY);
     }
     /**
      * Invokes the fileAddTypes method with an empty input using the given environment, deserializing to an object of the specified class.
@@ -8350,9 +11071,71 @@ public final class DXAPI {
      *             the response (includes HTTP protocol errors).
      */
     public static <T> T fileAddTypes(String objectId, Object inputObject, Class<T> outputClass, DXEnvironment env) {
-        return DXJSON.safeTreeToValue(
-            new DXHTTPRequest(env).request("/" + objectId + "/" + "addTypes",
-                    mapper.valueToTree(inputObject), RetryStrategy.SAFE_TO_RETRY), outputClass);
+        return new DXHTTPRequest(env).request("/" + objectId + "/" + "addTypes",
+                inputObject, outputClass, RetryStrategy.SAFE_TO_RETRY);
+    }
+
+    /**
+     * Invokes the fileAddTypes method with an empty input without blocking, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Types#API-method%3A-%2Fclass-xxxx%2FaddTypes">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param outputClass class to deserialize the server reponse to
+     *
+     * @return future that completes with the response object; the future fails with
+     *         {@link DXAPIException} or {@link DXHTTPException} if the request fails
+     */
+    public static <T> ListenableFuture<T> fileAddTypesAsync(String objectId, Class<T> outputClass) {
+        return fileAddTypesAsync(objectId, mapper.createObjectNode(), outputClass);
+    }
+    /**
+     * Invokes the fileAddTypes method with the given input without blocking, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Types#API-method%3A-%2Fclass-xxxx%2FaddTypes">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param inputObject input object (to be JSON serialized to an input hash)
+     * @param outputClass class to deserialize the server reponse to
+     *
+     * @return future that completes with the response object; the future fails with
+     *         {@link DXAPIException} or {@link DXHTTPException} if the request fails
+     */
+    public static <T> ListenableFuture<T> fileAddTypesAsync(String objectId, Object inputObject, Class<T> outputClass) {
+        return new DXHTTPRequest().requestAsync("/" + objectId + "/" + "addTypes",
+                inputObject, outputClass, RetryStrategy.SAFE_TO_RETRY);
+    }
+    /**
+     * Invokes the fileAddTypes method with an empty input using the given environment without blocking, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Types#API-method%3A-%2Fclass-xxxx%2FaddTypes">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param outputClass class to deserialize the server reponse to
+     * @param env environment object specifying the auth token and remote server and protocol
+     *
+     * @return future that completes with the response object; the future fails with
+     *         {@link DXAPIException} or {@link DXHTTPException} if the request fails
+     */
+    public static <T> ListenableFuture<T> fileAddTypesAsync(String objectId, Class<T> outputClass, DXEnvironment env) {
+        return fileAddTypesAsync(objectId, mapper.createObjectNode(), outputClass, env);
+    }
+    /**
+     * Invokes the fileAddTypes method with the given input using the given environment without blocking, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Types#API-method%3A-%2Fclass-xxxx%2FaddTypes">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param inputObject input object (to be JSON serialized to an input hash)
+     * @param outputClass class to deserialize the server reponse to
+     * @param env environment object specifying the auth token and remote server and protocol
+     *
+     * @return future that completes with the response object; the future fails with
+     *         {@link DXAPIException} or {@link DXHTTPException} if the request fails
+     */
+    public static <T> ListenableFuture<T> fileAddTypesAsync(String objectId, Object inputObject, Class<T> outputClass, DXEnvironment env) {
+        return new DXHTTPRequest(env).requestAsync("/" + objectId + "/" + "addTypes",
+                inputObject, outputClass, RetryStrategy.SAFE_TO_RETRY);
     }
 
     /**
@@ -8489,9 +11272,8 @@ public final class DXAPI {
      *             the response (includes HTTP protocol errors).
      */
     public static <T> T fileClose(String objectId, Object inputObject, Class<T> outputClass) {
-        return DXJSON.safeTreeToValue(
-                new DXHTTPRequest().request("/" + objectId + "/" + "close",
-                        mapper.valueToTree(inputObject), RetryStrategy.SAFE_TO_RETRY), outputClass);
+        return new DXHTTPRequest().request("/" + objectId + "/" + "close",
+                inputObject, outputClass, RetryStrategy.SAFE_TO_RETRY);
     }
     /**
      * Invokes the fileClose method with an empty input using the given environment, deserializing to an object of the specified class.
@@ -8534,9 +11316,71 @@ public final class DXAPI {
      *             the response (includes HTTP protocol errors).
      */
     public static <T> T fileClose(String objectId, Object inputObject, Class<T> outputClass, DXEnvironment env) {
-        return DXJSON.safeTreeToValue(
-            new DXHTTPRequest(env).request("/" + objectId + "/" + "close",
-                    mapper.valueToTree(inputObject), RetryStrategy.SAFE_TO_RETRY), outputClass);
+        return new DXHTTPRequest(env).request("/" + objectId + "/" + "close",
+                inputObject, outputClass, RetryStrategy.SAFE_TO_RETRY);
+    }
+
+    /**
+     * Invokes the fileClose method with an empty input without blocking, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Files#API-method%3A-%2Ffile-xxxx%2Fclose">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param outputClass class to deserialize the server reponse to
+     *
+     * @return future that completes with the response object; the future fails with
+     *         {@link DXAPIException} or {@link DXHTTPException} if the request fails
+     */
+    public static <T> ListenableFuture<T> fileCloseAsync(String objectId, Class<T> outputClass) {
+        return fileCloseAsync(objectId, mapper.createObjectNode(), outputClass);
+    }
+    /**
+     * Invokes the fileClose method with the given input without blocking, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Files#API-method%3A-%2Ffile-xxxx%2Fclose">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param inputObject input object (to be JSON serialized to an input hash)
+     * @param outputClass class to deserialize the server reponse to
+     *
+     * @return future that completes with the response object; the future fails with
+     *         {@link DXAPIException} or {@link DXHTTPException} if the request fails
+     */
+    public static <T> ListenableFuture<T> fileCloseAsync(String objectId, Object inputObject, Class<T> outputClass) {
+        return new DXHTTPRequest().requestAsync("/" + objectId + "/" + "close",
+                inputObject, outputClass, RetryStrategy.SAFE_TO_RETRY);
+    }
+    /**
+     * Invokes the fileClose method with an empty input using the given environment without blocking, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Files#API-method%3A-%2Ffile-xxxx%2Fclose">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param outputClass class to deserialize the server reponse to
+     * @param env environment object specifying the auth token and remote server and protocol
+     *
+     * @return future that completes with the response object; the future fails with
+     *         {@link DXAPIException} or {@link DXHTTPException} if the request fails
+     */
+    public static <T> ListenableFuture<T> fileCloseAsync(String objectId, Class<T> outputClass, DXEnvironment env) {
+        return fileCloseAsync(objectId, mapper.createObjectNode(), outputClass, env);
+    }
+    /**
+     * Invokes the fileClose method with the given input using the given environment without blocking, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Files#API-method%3A-%2Ffile-xxxx%2Fclose">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param inputObject input object (to be JSON serialized to an input hash)
+     * @param outputClass class to deserialize the server reponse to
+     * @param env environment object specifying the auth token and remote server and protocol
+     *
+     * @return future that completes with the response object; the future fails with
+     *         {@link DXAPIException} or {@link DXHTTPException} if the request fails
+     */
+    public static <T> ListenableFuture<T> fileCloseAsync(String objectId, Object inputObject, Class<T> outputClass, DXEnvironment env) {
+        return new DXHTTPRequest(env).requestAsync("/" + objectId + "/" + "close",
+                inputObject, outputClass, RetryStrategy.SAFE_TO_RETRY);
     }
 
     /**
@@ -8673,9 +11517,8 @@ public final class DXAPI {
      *             the response (includes HTTP protocol errors).
      */
     public static <T> T fileDescribe(String objectId, Object inputObject, Class<T> outputClass) {
-        return DXJSON.safeTreeToValue(
-                new DXHTTPRequest().request("/" + objectId + "/" + "describe",
-                        mapper.valueToTree(inputObject), RetryStrategy.SAFE_TO_RETRY), outputClass);
+        return new DXHTTPRequest().request("/" + objectId + "/" + "describe",
+                inputObject, outputClass, RetryStrategy.SAFE_TO_RETRY);
     }
     /**
      * Invokes the fileDescribe method with an empty input using the given environment, deserializing to an object of the specified class.
@@ -8718,9 +11561,71 @@ public final class DXAPI {
      *             the response (includes HTTP protocol errors).
      */
     public static <T> T fileDescribe(String objectId, Object inputObject, Class<T> outputClass, DXEnvironment env) {
-        return DXJSON.safeTreeToValue(
-            new DXHTTPRequest(env).request("/" + objectId + "/" + "describe",
-                    mapper.valueToTree(inputObject), RetryStrategy.SAFE_TO_RETRY), outputClass);
+        return new DXHTTPRequest(env).request("/" + objectId + "/" + "describe",
+                inputObject, outputClass, RetryStrategy.SAFE_TO_RETRY);
+    }
+
+    /**
+     * Invokes the fileDescribe method with an empty input without blocking, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Files#API-method%3A-%2Ffile-xxxx%2Fdescribe">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param outputClass class to deserialize the server reponse to
+     *
+     * @return future that completes with the response object; the future fails with
+     *         {@link DXAPIException} or {@link DXHTTPException} if the request fails
+     */
+    public static <T> ListenableFuture<T> fileDescribeAsync(String objectId, Class<T> outputClass) {
+        return fileDescribeAsync(objectId, mapper.createObjectNode(), outputClass);
+    }
+    /**
+     * Invokes the fileDescribe method with the given input without blocking, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Files#API-method%3A-%2Ffile-xxxx%2Fdescribe">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param inputObject input object (to be JSON serialized to an input hash)
+     * @param outputClass class to deserialize the server reponse to
+     *
+     * @return future that completes with the response object; the future fails with
+     *         {@link DXAPIException} or {@link DXHTTPException} if the request fails
+     */
+    public static <T> ListenableFuture<T> fileDescribeAsync(String objectId, Object inputObject, Class<T> outputClass) {
+        return new DXHTTPRequest().requestAsync("/" + objectId + "/" + "describe",
+                inputObject, outputClass, RetryStrategy.SAFE_TO_RETRY);
+    }
+    /**
+     * Invokes the fileDescribe method with an empty input using the given environment without blocking, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Files#API-method%3A-%2Ffile-xxxx%2Fdescribe">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param outputClass class to deserialize the server reponse to
+     * @param env environment object specifying the auth token and remote server and protocol
+     *
+     * @return future that completes with the response object; the future fails with
+     *         {@link DXAPIException} or {@link DXHTTPException} if the request fails
+     */
+    public static <T> ListenableFuture<T> fileDescribeAsync(String objectId, Class<T> outputClass, DXEnvironment env) {
+        return fileDescribeAsync(objectId, mapper.createObjectNode(), outputClass, env);
+    }
+    /**
+     * Invokes the fileDescribe method with the given input using the given environment without blocking, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Files#API-method%3A-%2Ffile-xxxx%2Fdescribe">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param inputObject input object (to be JSON serialized to an input hash)
+     * @param outputClass class to deserialize the server reponse to
+     * @param env environment object specifying the auth token and remote server and protocol
+     *
+     * @return future that completes with the response object; the future fails with
+     *         {@link DXAPIException} or {@link DXHTTPException} if the request fails
+     */
+    public static <T> ListenableFuture<T> fileDescribeAsync(String objectId, Object inputObject, Class<T> outputClass, DXEnvironment env) {
+        return new DXHTTPRequest(env).requestAsync("/" + objectId + "/" + "describe",
+                inputObject, outputClass, RetryStrategy.SAFE_TO_RETRY);
     }
 
     /**
@@ -8857,9 +11762,8 @@ public final class DXAPI {
      *             the response (includes HTTP protocol errors).
      */
     public static <T> T fileDownload(String objectId, Object inputObject, Class<T> outputClass) {
-        return DXJSON.safeTreeToValue(
-                new DXHTTPRequest().request("/" + objectId + "/" + "download",
-                        mapper.valueToTree(inputObject), RetryStrategy.SAFE_TO_RETRY), outputClass);
+        return new DXHTTPRequest().request("/" + objectId + "/" + "download",
+                inputObject, outputClass, RetryStrategy.SAFE_TO_RETRY);
     }
     /**
      * Invokes the fileDownload method with an empty input using the given environment, deserializing to an object of the specified class.
@@ -8902,19 +11806,81 @@ public final class DXAPI {
      *             the response (includes HTTP protocol errors).
      */
     public static <T> T fileDownload(String objectId, Object inputObject, Class<T> outputClass, DXEnvironment env) {
-        return DXJSON.safeTreeToValue(
-            new DXHTTPRequest(env).request("/" + objectId + "/" + "download",
-                    mapper.valueToTree(inputObject), RetryStrategy.SAFE_TO_RETRY), outputClass);
+        return new DXHTTPRequest(env).request("/" + objectId + "/" + "download",
+                inputObject, outputClass, RetryStrategy.SAFE_TO_RETRY);
     }
 
     /**
-     * Invokes the fileDownload method.
+     * Invokes the fileDownload method with an empty input without blocking, deserializing to an object of the specified class.
      *
      * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Files#API-method%3A-%2Ffile-xxxx%2Fdownload">API specification</a>.
      *
      * @param objectId ID of the object to operate on
+     * @param outputClass class to deserialize the server reponse to
      *
-     * @return Server response parsed from JSON
+     * @return future that completes with the response object; the future fails with
+     *         {@link DXAPIException} or {@link DXHTTPException} if the request fails
+     */
+    public static <T> ListenableFuture<T> fileDownloadAsync(String objectId, Class<T> outputClass) {
+        return fileDownloadAsync(objectId, mapper.createObjectNode(), outputClass);
+    }
+    /**
+     * Invokes the fileDownload method with the given input without blocking, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Files#API-method%3A-%2Ffile-xxxx%2Fdownload">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param inputObject input object (to be JSON serialized to an input hash)
+     * @param outputClass class to deserialize the server reponse to
+     *
+     * @return future that completes with the response object; the future fails with
+     *         {@link DXAPIException} or {@link DXHTTPException} if the request fails
+     */
+    public static <T> ListenableFuture<T> fileDownloadAsync(String objectId, Object inputObject, Class<T> outputClass) {
+        return new DXHTTPRequest().requestAsync("/" + objectId + "/" + "download",
+                inputObject, outputClass, RetryStrategy.SAFE_TO_RETRY);
+    }
+    /**
+     * Invokes the fileDownload method with an empty input using the given environment without blocking, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Files#API-method%3A-%2Ffile-xxxx%2Fdownload">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param outputClass class to deserialize the server reponse to
+     * @param env environment object specifying the auth token and remote server and protocol
+     *
+     * @return future that completes with the response object; the future fails with
+     *         {@link DXAPIException} or {@link DXHTTPException} if the request fails
+     */
+    public static <T> ListenableFuture<T> fileDownloadAsync(String objectId, Class<T> outputClass, DXEnvironment env) {
+        return fileDownloadAsync(objectId, mapper.createObjectNode(), outputClass, env);
+    }
+    /**
+     * Invokes the fileDownload method with the given input using the given environment without blocking, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Files#API-method%3A-%2Ffile-xxxx%2Fdownload">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param inputObject input object (to be JSON serialized to an input hash)
+     * @param outputClass class to deserialize the server reponse to
+     * @param env environment object specifying the auth token and remote server and protocol
+     *
+     * @return future that completes with the response object; the future fails with
+     *         {@link DXAPIException} or {@link DXHTTPException} if the request fails
+     */
+    public static <T> ListenableFuture<T> fileDownloadAsync(String objectId, Object inputObject, Class<T> outputClass, DXEnvironment env) {
+        return new DXHTTPRequest(env).requestAsync("/" + objectId + "/" + "download",
+                inputObject, outputClass, RetryStrategy.SAFE_TO_RETRY);
+    }
+
+    /**
+     * Invokes the fileDownload method.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Files#API-method%3A-%2Ffile-xxxx%2Fdownload">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     *
+     * @return Server response parsed from JSON
      *
      * @throws DXAPIException
      *             If the server returns a complete response with an HTTP status
@@ -9041,9 +12007,8 @@ public final class DXAPI {
      *             the response (includes HTTP protocol errors).
      */
     public static <T> T fileGetDetails(String objectId, Object inputObject, Class<T> outputClass) {
-        return DXJSON.safeTreeToValue(
-                new DXHTTPRequest().request("/" + objectId + "/" + "getDetails",
-                        mapper.valueToTree(inputObject), RetryStrategy.SAFE_TO_RETRY), outputClass);
+        return new DXHTTPRequest().request("/" + objectId + "/" + "getDetails",
+                inputObject, outputClass, RetryStrategy.SAFE_TO_RETRY);
     }
     /**
      * Invokes the fileGetDetails method with an empty input using the given environment, deserializing to an object of the specified class.
@@ -9086,9 +12051,71 @@ public final class DXAPI {
      *             the response (includes HTTP protocol errors).
      */
     public static <T> T fileGetDetails(String objectId, Object inputObject, Class<T> outputClass, DXEnvironment env) {
-        return DXJSON.safeTreeToValue(
-            new DXHTTPRequest(env).request("/" + objectId + "/" + "getDetails",
-                    mapper.valueToTree(inputObject), RetryStrategy.SAFE_TO_RETRY), outputClass);
+        return new DXHTTPRequest(env).request("/" + objectId + "/" + "getDetails",
+                inputObject, outputClass, RetryStrategy.SAFE_TO_RETRY);
+    }
+
+    /**
+     * Invokes the fileGetDetails method with an empty input without blocking, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Details-and-Links#API-method%3A-%2Fclass-xxxx%2FgetDetails">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param outputClass class to deserialize the server reponse to
+     *
+     * @return future that completes with the response object; the future fails with
+     *         {@link DXAPIException} or {@link DXHTTPException} if the request fails
+     */
+    public static <T> ListenableFuture<T> fileGetDetailsAsync(String objectId, Class<T> outputClass) {
+        return fileGetDetailsAsync(objectId, mapper.createObjectNode(), outputClass);
+    }
+    /**
+     * Invokes the fileGetDetails method with the given input without blocking, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Details-and-Links#API-method%3A-%2Fclass-xxxx%2FgetDetails">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param inputObject input object (to be JSON serialized to an input hash)
+     * @param outputClass class to deserialize the server reponse to
+     *
+     * @return future that completes with the response object; the future fails with
+     *         {@link DXAPIException} or {@link DXHTTPException} if the request fails
+     */
+    public static <T> ListenableFuture<T> fileGetDetailsAsync(String objectId, Object inputObject, Class<T> outputClass) {
+        return new DXHTTPRequest().requestAsync("/" + objectId + "/" + "getDetails",
+                inputObject, outputClass, RetryStrategy.SAFE_TO_RETRY);
+    }
+    /**
+     * Invokes the fileGetDetails method with an empty input using the given environment without blocking, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Details-and-Links#API-method%3A-%2Fclass-xxxx%2FgetDetails">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param outputClass class to deserialize the server reponse to
+     * @param env environment object specifying the auth token and remote server and protocol
+     *
+     * @return future that completes with the response object; the future fails with
+     *         {@link DXAPIException} or {@link DXHTTPException} if the request fails
+     */
+    public static <T> ListenableFuture<T> fileGetDetailsAsync(String objectId, Class<T> outputClass, DXEnvironment env) {
+        return fileGetDetailsAsync(objectId, mapper.createObjectNode(), outputClass, env);
+    }
+    /**
+     * Invokes the fileGetDetails method with the given input using the given environment without blocking, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Details-and-Links#API-method%3A-%2Fclass-xxxx%2FgetDetails">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param inputObject input object (to be JSON serialized to an input hash)
+     * @param outputClass class to deserialize the server reponse to
+     * @param env environment object specifying the auth token and remote server and protocol
+     *
+     * @return future that completes with the response object; the future fails with
+     *         {@link DXAPIException} or {@link DXHTTPException} if the request fails
+     */
+    public static <T> ListenableFuture<T> fileGetDetailsAsync(String objectId, Object inputObject, Class<T> outputClass, DXEnvironment env) {
+        return new DXHTTPRequest(env).requestAsync("/" + objectId + "/" + "getDetails",
+                inputObject, outputClass, RetryStrategy.SAFE_TO_RETRY);
     }
 
     /**
@@ -9225,9 +12252,8 @@ public final class DXAPI {
      *             the response (includes HTTP protocol errors).
      */
     public static <T> T fileListProjects(String objectId, Object inputObject, Class<T> outputClass) {
-        return DXJSON.safeTreeToValue(
-                new DXHTTPRequest().request("/" + objectId + "/" + "listProjects",
-                        mapper.valueToTree(inputObject), RetryStrategy.SAFE_TO_RETRY), outputClass);
+        return new DXHTTPRequest().request("/" + objectId + "/" + "listProjects",
+                inputObject, outputClass, RetryStrategy.SAFE_TO_RETRY);
     }
     /**
      * Invokes the fileListProjects method with an empty input using the given environment, deserializing to an object of the specified class.
@@ -9270,9 +12296,71 @@ public final class DXAPI {
      *             the response (includes HTTP protocol errors).
      */
     public static <T> T fileListProjects(String objectId, Object inputObject, Class<T> outputClass, DXEnvironment env) {
-        return DXJSON.safeTreeToValue(
-            new DXHTTPRequest(env).request("/" + objectId + "/" + "listProjects",
-                    mapper.valueToTree(inputObject), RetryStrategy.SAFE_TO_RETRY), outputClass);
+        return new DXHTTPRequest(env).request("/" + objectId + "/" + "listProjects",
+                inputObject, outputClass, RetryStrategy.SAFE_TO_RETRY);
+    }
+
+    /**
+     * Invokes the fileListProjects method with an empty input without blocking, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Cloning#API-method%3A-%2Fclass-xxxx%2FlistProjects">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param outputClass class to deserialize the server reponse to
+     *
+     * @return future that completes with the response object; the future fails with
+     *         {@link DXAPIException} or {@link DXHTTPException} if the request fails
+     */
+    public static <T> ListenableFuture<T> fileListProjectsAsync(String objectId, Class<T> outputClass) {
+        return fileListProjectsAsync(objectId, mapper.createObjectNode(), outputClass);
+    }
+    /**
+     * Invokes the fileListProjects method with the given input without blocking, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Cloning#API-method%3A-%2Fclass-xxxx%2FlistProjects">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param inputObject input object (to be JSON serialized to an input hash)
+     * @param outputClass class to deserialize the server reponse to
+     *
+     * @return future that completes with the response object; the future fails with
+     *         {@link DXAPIException} or {@link DXHTTPException} if the request fails
+     */
+    public static <T> ListenableFuture<T> fileListProjectsAsync(String objectId, Object inputObject, Class<T> outputClass) {
+        return new DXHTTPRequest().requestAsync("/" + objectId + "/" + "listProjects",
+                inputObject, outputClass, RetryStrategy.SAFE_TO_RETRY);
+    }
+    /**
+     * Invokes the fileListProjects method with an empty input using the given environment without blocking, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Cloning#API-method%3A-%2Fclass-xxxx%2FlistProjects">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param outputClass class to deserialize the server reponse to
+     * @param env environment object specifying the auth token and remote server and protocol
+     *
+     * @return future that completes with the response object; the future fails with
+     *         {@link DXAPIException} or {@link DXHTTPException} if the request fails
+     */
+    public static <T> ListenableFuture<T> fileListProjectsAsync(String objectId, Class<T> outputClass, DXEnvironment env) {
+        return fileListProjectsAsync(objectId, mapper.createObjectNode(), outputClass, env);
+    }
+    /**
+     * Invokes the fileListProjects method with the given input using the given environment without blocking, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Cloning#API-method%3A-%2Fclass-xxxx%2FlistProjects">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param inputObject input object (to be JSON serialized to an input hash)
+     * @param outputClass class to deserialize the server reponse to
+     * @param env environment object specifying the auth token and remote server and protocol
+     *
+     * @return future that completes with the response object; the future fails with
+     *         {@link DXAPIException} or {@link DXHTTPException} if the request fails
+     */
+    public static <T> ListenableFuture<T> fileListProjectsAsync(String objectId, Object inputObject, Class<T> outputClass, DXEnvironment env) {
+        return new DXHTTPRequest(env).requestAsync("/" + objectId + "/" + "listProjects",
+                inputObject, outputClass, RetryStrategy.SAFE_TO_RETRY);
     }
 
     /**
@@ -9409,9 +12497,8 @@ public final class DXAPI {
      *             the response (includes HTTP protocol errors).
      */
     public static <T> T fileRemoveTags(String objectId, Object inputObject, Class<T> outputClass) {
-        return DXJSON.safeTreeToValue(
-                new DXHTTPRequest().request("/" + objectId + "/" + "removeTags",
-                        mapper.valueToTree(inputObject), RetryStrategy.SAFE_TO_RETRY), outputClass);
+        return new DXHTTPRequest().request("/" + objectId + "/" + "removeTags",
+                inputObject, outputClass, RetryStrategy.SAFE_TO_RETRY);
     }
     /**
      * Invokes the fileRemoveTags method with an empty input using the given environment, deserializing to an object of the specified class.
@@ -9454,9 +12541,71 @@ public final class DXAPI {
      *             the response (includes HTTP protocol errors).
      */
     public static <T> T fileRemoveTags(String objectId, Object inputObject, Class<T> outputClass, DXEnvironment env) {
-        return DXJSON.safeTreeToValue(
-            new DXHTTPRequest(env).request("/" + objectId + "/" + "removeTags",
-                    mapper.valueToTree(inputObject), RetryStrategy.SAFE_TO_RETRY), outputClass);
+        return new DXHTTPRequest(env).request("/" + objectId + "/" + "removeTags",
+                inputObject, outputClass, RetryStrategy.SAFE_TO_RETRY);
+    }
+
+    /**
+     * Invokes the fileRemoveTags method with an empty input without blocking, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Tags#API-method%3A-%2Fclass-xxxx%2FremoveTags">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param outputClass class to deserialize the server reponse to
+     *
+     * @return future that completes with the response object; the future fails with
+     *         {@link DXAPIException} or {@link DXHTTPException} if the request fails
+     */
+    public static <T> ListenableFuture<T> fileRemoveTagsAsync(String objectId, Class<T> outputClass) {
+        return fileRemoveTagsAsync(objectId, mapper.createObjectNode(), outputClass);
+    }
+    /**
+     * Invokes the fileRemoveTags method with the given input without blocking, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Tags#API-method%3A-%2Fclass-xxxx%2FremoveTags">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param inputObject input object (to be JSON serialized to an input hash)
+     * @param outputClass class to deserialize the server reponse to
+     *
+     * @return future that completes with the response object; the future fails with
+     *         {@link DXAPIException} or {@link DXHTTPException} if the request fails
+     */
+    public static <T> ListenableFuture<T> fileRemoveTagsAsync(String objectId, Object inputObject, Class<T> outputClass) {
+        return new DXHTTPRequest().requestAsync("/" + objectId + "/" + "removeTags",
+                inputObject, outputClass, RetryStrategy.SAFE_TO_RETRY);
+    }
+    /**
+     * Invokes the fileRemoveTags method with an empty input using the given environment without blocking, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Tags#API-method%3A-%2Fclass-xxxx%2FremoveTags">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param outputClass class to deserialize the server reponse to
+     * @param env environment object specifying the auth token and remote server and protocol
+     *
+     * @return future that completes with the response object; the future fails with
+     *         {@link DXAPIException} or {@link DXHTTPException} if the request fails
+     */
+    public static <T> ListenableFuture<T> fileRemoveTagsAsync(String objectId, Class<T> outputClass, DXEnvironment env) {
+        return fileRemoveTagsAsync(objectId, mapper.createObjectNode(), outputClass, env);
+    }
+    /**
+     * Invokes the fileRemoveTags method with the given input using the given environment without blocking, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Tags#API-method%3A-%2Fclass-xxxx%2FremoveTags">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param inputObject input object (to be JSON serialized to an input hash)
+     * @param outputClass class to deserialize the server reponse to
+     * @param env environment object specifying the auth token and remote server and protocol
+     *
+     * @return future that completes with the response object; the future fails with
+     *         {@link DXAPIException} or {@link DXHTTPException} if the request fails
+     */
+    public static <T> ListenableFuture<T> fileRemoveTagsAsync(String objectId, Object inputObject, Class<T> outputClass, DXEnvironment env) {
+        return new DXHTTPRequest(env).requestAsync("/" + objectId + "/" + "removeTags",
+                inputObject, outputClass, RetryStrategy.SAFE_TO_RETRY);
     }
 
     /**
@@ -9593,9 +12742,8 @@ public final class DXAPI {
      *             the response (includes HTTP protocol errors).
      */
     public static <T> T fileRemoveTypes(String objectId, Object inputObject, Class<T> outputClass) {
-        return DXJSON.safeTreeToValue(
-                new DXHTTPRequest().request("/" + objectId + "/" + "removeTypes",
-                        mapper.valueToTree(inputObject), RetryStrategy.SAFE_TO_RETRY), outputClass);
+        return new DXHTTPRequest().request("/" + objectId + "/" + "removeTypes",
+                inputObject, outputClass, RetryStrategy.SAFE_TO_RETRY);
     }
     /**
      * Invokes the fileRemoveTypes method with an empty input using the given environment, deserializing to an object of the specified class.
@@ -9638,9 +12786,71 @@ public final class DXAPI {
      *             the response (includes HTTP protocol errors).
      */
     public static <T> T fileRemoveTypes(String objectId, Object inputObject, Class<T> outputClass, DXEnvironment env) {
-        return DXJSON.safeTreeToValue(
-            new DXHTTPRequest(env).request("/" + objectId + "/" + "removeTypes",
-                    mapper.valueToTree(inputObject), RetryStrategy.SAFE_TO_RETRY), outputClass);
+        return new DXHTTPRequest(env).request("/" + objectId + "/" + "removeTypes",
+                inputObject, outputClass, RetryStrategy.SAFE_TO_RETRY);
+    }
+
+    /**
+     * Invokes the fileRemoveTypes method with an empty input without blocking, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Types#API-method%3A-%2Fclass-xxxx%2FremoveTypes">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param outputClass class to deserialize the server reponse to
+     *
+     * @return future that completes with the response object; the future fails with
+     *         {@link DXAPIException} or {@link DXHTTPException} if the request fails
+     */
+    public static <T> ListenableFuture<T> fileRemoveTypesAsync(String objectId, Class<T> outputClass) {
+        return fileRemoveTypesAsync(objectId, mapper.createObjectNode(), outputClass);
+    }
+    /**
+     * Invokes the fileRemoveTypes method with the given input without blocking, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Types#API-method%3A-%2Fclass-xxxx%2FremoveTypes">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param inputObject input object (to be JSON serialized to an input hash)
+     * @param outputClass class to deserialize the server reponse to
+     *
+     * @return future that completes with the response object; the future fails with
+     *         {@link DXAPIException} or {@link DXHTTPException} if the request fails
+     */
+    public static <T> ListenableFuture<T> fileRemoveTypesAsync(String objectId, Object inputObject, Class<T> outputClass) {
+        return new DXHTTPRequest().requestAsync("/" + objectId + "/" + "removeTypes",
+                inputObject, outputClass, RetryStrategy.SAFE_TO_RETRY);
+    }
+    /**
+     * Invokes the fileRemoveTypes method with an empty input using the given environment without blocking, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Types#API-method%3A-%2Fclass-xxxx%2FremoveTypes">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param outputClass class to deserialize the server reponse to
+     * @param env environment object specifying the auth token and remote server and protocol
+     *
+     * @return future that completes with the response object; the future fails with
+     *         {@link DXAPIException} or {@link DXHTTPException} if the request fails
+     */
+    public static <T> ListenableFuture<T> fileRemoveTypesAsync(String objectId, Class<T> outputClass, DXEnvironment env) {
+        return fileRemoveTypesAsync(objectId, mapper.createObjectNode(), outputClass, env);
+    }
+    /**
+     * Invokes the fileRemoveTypes method with the given input using the given environment without blocking, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Types#API-method%3A-%2Fclass-xxxx%2FremoveTypes">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param inputObject input object (to be JSON serialized to an input hash)
+     * @param outputClass class to deserialize the server reponse to
+     * @param env environment object specifying the auth token and remote server and protocol
+     *
+     * @return future that completes with the response object; the future fails with
+     *         {@link DXAPIException} or {@link DXHTTPException} if the request fails
+     */
+    public static <T> ListenableFuture<T> fileRemoveTypesAsync(String objectId, Object inputObject, Class<T> outputClass, DXEnvironment env) {
+        return new DXHTTPRequest(env).requestAsync("/" + objectId + "/" + "removeTypes",
+                inputObject, outputClass, RetryStrategy.SAFE_TO_RETRY);
     }
 
     /**
@@ -9777,9 +12987,8 @@ public final class DXAPI {
      *             the response (includes HTTP protocol errors).
      */
     public static <T> T fileRename(String objectId, Object inputObject, Class<T> outputClass) {
-        return DXJSON.safeTreeToValue(
-                new DXHTTPRequest().request("/" + objectId + "/" + "rename",
-                        mapper.valueToTree(inputObject), RetryStrategy.SAFE_TO_RETRY), outputClass);
+        return new DXHTTPRequest().request("/" + objectId + "/" + "rename",
+                inputObject, outputClass, RetryStrategy.SAFE_TO_RETRY);
     }
     /**
      * Invokes the fileRename method with an empty input using the given environment, deserializing to an object of the specified class.
@@ -9822,9 +13031,71 @@ public final class DXAPI {
      *             the response (includes HTTP protocol errors).
      */
     public static <T> T fileRename(String objectId, Object inputObject, Class<T> outputClass, DXEnvironment env) {
-        return DXJSON.safeTreeToValue(
-            new DXHTTPRequest(env).request("/" + objectId + "/" + "rename",
-                    mapper.valueToTree(inputObject), RetryStrategy.SAFE_TO_RETRY), outputClass);
+        return new DXHTTPRequest(env).request("/" + objectId + "/" + "rename",
+                inputObject, outputClass, RetryStrategy.SAFE_TO_RETRY);
+    }
+
+    /**
+     * Invokes the fileRename method with an empty input without blocking, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Name#API-method%3A-%2Fclass-xxxx%2Frename">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param outputClass class to deserialize the server reponse to
+     *
+     * @return future that completes with the response object; the future fails with
+     *         {@link DXAPIException} or {@link DXHTTPException} if the request fails
+     */
+    public static <T> ListenableFuture<T> fileRenameAsync(String objectId, Class<T> outputClass) {
+        return fileRenameAsync(objectId, mapper.createObjectNode(), outputClass);
+    }
+    /**
+     * Invokes the fileRename method with the given input without blocking, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Name#API-method%3A-%2Fclass-xxxx%2Frename">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param inputObject input object (to be JSON serialized to an input hash)
+     * @param outputClass class to deserialize the server reponse to
+     *
+     * @return future that completes with the response object; the future fails with
+     *         {@link DXAPIException} or {@link DXHTTPException} if the request fails
+     */
+    public static <T> ListenableFuture<T> fileRenameAsync(String objectId, Object inputObject, Class<T> outputClass) {
+        return new DXHTTPRequest().requestAsync("/" + objectId + "/" + "rename",
+                inputObject, outputClass, RetryStrategy.SAFE_TO_RETRY);
+    }
+    /**
+     * Invokes the fileRename method with an empty input using the given environment without blocking, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Name#API-method%3A-%2Fclass-xxxx%2Frename">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param outputClass class to deserialize the server reponse to
+     * @param env environment object specifying the auth token and remote server and protocol
+     *
+     * @return future that completes with the response object; the future fails with
+     *         {@link DXAPIException} or {@link DXHTTPException} if the request fails
+     */
+    public static <T> ListenableFuture<T> fileRenameAsync(String objectId, Class<T> outputClass, DXEnvironment env) {
+        return fileRenameAsync(objectId, mapper.createObjectNode(), outputClass, env);
+    }
+    /**
+     * Invokes the fileRename method with the given input using the given environment without blocking, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Name#API-method%3A-%2Fclass-xxxx%2Frename">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param inputObject input object (to be JSON serialized to an input hash)
+     * @param outputClass class to deserialize the server reponse to
+     * @param env environment object specifying the auth token and remote server and protocol
+     *
+     * @return future that completes with the response object; the future fails with
+     *         {@link DXAPIException} or {@link DXHTTPException} if the request fails
+     */
+    public static <T> ListenableFuture<T> fileRenameAsync(String objectId, Object inputObject, Class<T> outputClass, DXEnvironment env) {
+        return new DXHTTPRequest(env).requestAsync("/" + objectId + "/" + "rename",
+                inputObject, outputClass, RetryStrategy.SAFE_TO_RETRY);
     }
 
     /**
@@ -9961,9 +13232,8 @@ public final class DXAPI {
      *             the response (includes HTTP protocol errors).
      */
     public static <T> T fileSetDetails(String objectId, Object inputObject, Class<T> outputClass) {
-        return DXJSON.safeTreeToValue(
-                new DXHTTPRequest().request("/" + objectId + "/" + "setDetails",
-                        mapper.valueToTree(inputObject), RetryStrategy.SAFE_TO_RETRY), outputClass);
+        return new DXHTTPRequest().request("/" + objectId + "/" + "setDetails",
+                inputObject, outputClass, RetryStrategy.SAFE_TO_RETRY);
     }
     /**
      * Invokes the fileSetDetails method with an empty input using the given environment, deserializing to an object of the specified class.
@@ -10006,28 +13276,90 @@ public final class DXAPI {
      *             the response (includes HTTP protocol errors).
      */
     public static <T> T fileSetDetails(String objectId, Object inputObject, Class<T> outputClass, DXEnvironment env) {
-        return DXJSON.safeTreeToValue(
-            new DXHTTPRequest(env).request("/" + objectId + "/" + "setDetails",
-                    mapper.valueToTree(inputObject), RetryStrategy.SAFE_TO_RETRY), outputClass);
+        return new DXHTTPRequest(env).request("/" + objectId + "/" + "setDetails",
+                inputObject, outputClass, RetryStrategy.SAFE_TO_RETRY);
     }
 
     /**
-     * Invokes the fileSetDetails method.
+     * Invokes the fileSetDetails method with an empty input without blocking, deserializing to an object of the specified class.
      *
      * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Details-and-Links#API-method%3A-%2Fclass-xxxx%2FsetDetails">API specification</a>.
      *
      * @param objectId ID of the object to operate on
+     * @param outputClass class to deserialize the server reponse to
      *
-     * @return Server response parsed from JSON
-     *
-     * @throws DXAPIException
-     *             If the server returns a complete response with an HTTP status
-     *             code other than 200 (OK).
-     * @throws DXHTTPException
-     *             If an error occurs while making the HTTP request or obtaining
-     *             the response (includes HTTP protocol errors).
-     *
-     * @deprecated Use {@link #fileSetDetails(String, Class)} instead and supply your own class to deserialize to.
+     * @return future that completes with the response object; the future fails with
+     *         {@link DXAPIException} or {@link DXHTTPException} if the request fails
+     */
+    public static <T> ListenableFuture<T> fileSetDetailsAsync(String objectId, Class<T> outputClass) {
+        return fileSetDetailsAsync(objectId, mapper.createObjectNode(), outputClass);
+    }
+    /**
+     * Invokes the fileSetDetails method with the given input without blocking, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Details-and-Links#API-method%3A-%2Fclass-xxxx%2FsetDetails">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param inputObject input object (to be JSON serialized to an input hash)
+     * @param outputClass class to deserialize the server reponse to
+     *
+     * @return future that completes with the response object; the future fails with
+     *         {@link DXAPIException} or {@link DXHTTPException} if the request fails
+     */
+    public static <T> ListenableFuture<T> fileSetDetailsAsync(String objectId, Object inputObject, Class<T> outputClass) {
+        return new DXHTTPRequest().requestAsync("/" + objectId + "/" + "setDetails",
+                inputObject, outputClass, RetryStrategy.SAFE_TO_RETRY);
+    }
+    /**
+     * Invokes the fileSetDetails method with an empty input using the given environment without blocking, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Details-and-Links#API-method%3A-%2Fclass-xxxx%2FsetDetails">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param outputClass class to deserialize the server reponse to
+     * @param env environment object specifying the auth token and remote server and protocol
+     *
+     * @return future that completes with the response object; the future fails with
+     *         {@link DXAPIException} or {@link DXHTTPException} if the request fails
+     */
+    public static <T> ListenableFuture<T> fileSetDetailsAsync(String objectId, Class<T> outputClass, DXEnvironment env) {
+        return fileSetDetailsAsync(objectId, mapper.createObjectNode(), outputClass, env);
+    }
+    /**
+     * Invokes the fileSetDetails method with the given input using the given environment without blocking, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Details-and-Links#API-method%3A-%2Fclass-xxxx%2FsetDetails">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param inputObject input object (to be JSON serialized to an input hash)
+     * @param outputClass class to deserialize the server reponse to
+     * @param env environment object specifying the auth token and remote server and protocol
+     *
+     * @return future that completes with the response object; the future fails with
+     *         {@link DXAPIException} or {@link DXHTTPException} if the request fails
+     */
+    public static <T> ListenableFuture<T> fileSetDetailsAsync(String objectId, Object inputObject, Class<T> outputClass, DXEnvironment env) {
+        return new DXHTTPRequest(env).requestAsync("/" + objectId + "/" + "setDetails",
+                inputObject, outputClass, RetryStrategy.SAFE_TO_RETRY);
+    }
+
+    /**
+     * Invokes the fileSetDetails method.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Details-and-Links#API-method%3A-%2Fclass-xxxx%2FsetDetails">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     *
+     * @return Server response parsed from JSON
+     *
+     * @throws DXAPIException
+     *             If the server returns a complete response with an HTTP status
+     *             code other than 200 (OK).
+     * @throws DXHTTPException
+     *             If an error occurs while making the HTTP request or obtaining
+     *             the response (includes HTTP protocol errors).
+     *
+     * @deprecated Use {@link #fileSetDetails(String, Class)} instead and supply your own class to deserialize to.
      */
     @Deprecated
     public static JsonNode fileSetDetails(String objectId) {
@@ -10145,9 +13477,8 @@ public final class DXAPI {
      *             the response (includes HTTP protocol errors).
      */
     public static <T> T fileSetProperties(String objectId, Object inputObject, Class<T> outputClass) {
-        return DXJSON.safeTreeToValue(
-                new DXHTTPRequest().request("/" + objectId + "/" + "setProperties",
-                        mapper.valueToTree(inputObject), RetryStrategy.SAFE_TO_RETRY), outputClass);
+        return new DXHTTPRequest().request("/" + objectId + "/" + "setProperties",
+                inputObject, outputClass, RetryStrategy.SAFE_TO_RETRY);
     }
     /**
      * Invokes the fileSetProperties method with an empty input using the given environment, deserializing to an object of the specified class.
@@ -10190,9 +13521,71 @@ public final class DXAPI {
      *             the response (includes HTTP protocol errors).
      */
     public static <T> T fileSetProperties(String objectId, Object inputObject, Class<T> outputClass, DXEnvironment env) {
-        return DXJSON.safeTreeToValue(
-            new DXHTTPRequest(env).request("/" + objectId + "/" + "setProperties",
-                    mapper.valueToTree(inputObject), RetryStrategy.SAFE_TO_RETRY), outputClass);
+        return new DXHTTPRequest(env).request("/" + objectId + "/" + "setProperties",
+                inputObject, outputClass, RetryStrategy.SAFE_TO_RETRY);
+    }
+
+    /**
+     * Invokes the fileSetProperties method with an empty input without blocking, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Properties#API-method%3A-%2Fclass-xxxx%2FsetProperties">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param outputClass class to deserialize the server reponse to
+     *
+     * @return future that completes with the response object; the future fails with
+     *         {@link DXAPIException} or {@link DXHTTPException} if the request fails
+     */
+    public static <T> ListenableFuture<T> fileSetPropertiesAsync(String objectId, Class<T> outputClass) {
+        return fileSetPropertiesAsync(objectId, mapper.createObjectNode(), outputClass);
+    }
+    /**
+     * Invokes the fileSetProperties method with the given input without blocking, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Properties#API-method%3A-%2Fclass-xxxx%2FsetProperties">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param inputObject input object (to be JSON serialized to an input hash)
+     * @param outputClass class to deserialize the server reponse to
+     *
+     * @return future that completes with the response object; the future fails with
+     *         {@link DXAPIException} or {@link DXHTTPException} if the request fails
+     */
+    public static <T> ListenableFuture<T> fileSetPropertiesAsync(String objectId, Object inputObject, Class<T> outputClass) {
+        return new DXHTTPRequest().requestAsync("/" + objectId + "/" + "setProperties",
+                inputObject, outputClass, RetryStrategy.SAFE_TO_RETRY);
+    }
+    /**
+     * Invokes the fileSetProperties method with an empty input using the given environment without blocking, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Properties#API-method%3A-%2Fclass-xxxx%2FsetProperties">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param outputClass class to deserialize the server reponse to
+     * @param env environment object specifying the auth token and remote server and protocol
+     *
+     * @return future that completes with the response object; the future fails with
+     *         {@link DXAPIException} or {@link DXHTTPException} if the request fails
+     */
+    public static <T> ListenableFuture<T> fileSetPropertiesAsync(String objectId, Class<T> outputClass, DXEnvironment env) {
+        return fileSetPropertiesAsync(objectId, mapper.createObjectNode(), outputClass, env);
+    }
+    /**
+     * Invokes the fileSetProperties method with the given input using the given environment without blocking, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Properties#API-method%3A-%2Fclass-xxxx%2FsetProperties">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param inputObject input object (to be JSON serialized to an input hash)
+     * @param outputClass class to deserialize the server reponse to
+     * @param env environment object specifying the auth token and remote server and protocol
+     *
+     * @return future that completes with the response object; the future fails with
+     *         {@link DXAPIException} or {@link DXHTTPException} if the request fails
+     */
+    public static <T> ListenableFuture<T> fileSetPropertiesAsync(String objectId, Object inputObject, Class<T> outputClass, DXEnvironment env) {
+        return new DXHTTPRequest(env).requestAsync("/" + objectId + "/" + "setProperties",
+                inputObject, outputClass, RetryStrategy.SAFE_TO_RETRY);
     }
 
     /**
@@ -10329,9 +13722,8 @@ public final class DXAPI {
      *             the response (includes HTTP protocol errors).
      */
     public static <T> T fileSetVisibility(String objectId, Object inputObject, Class<T> outputClass) {
-        return DXJSON.safeTreeToValue(
-                new DXHTTPRequest().request("/" + objectId + "/" + "setVisibility",
-                        mapper.valueToTree(inputObject), RetryStrategy.SAFE_TO_RETRY), outputClass);
+        return new DXHTTPRequest().request("/" + objectId + "/" + "setVisibility",
+                inputObject, outputClass, RetryStrategy.SAFE_TO_RETRY);
     }
     /**
      * Invokes the fileSetVisibility method with an empty input using the given environment, deserializing to an object of the specified class.
@@ -10374,9 +13766,71 @@ public final class DXAPI {
      *             the response (includes HTTP protocol errors).
      */
     public static <T> T fileSetVisibility(String objectId, Object inputObject, Class<T> outputClass, DXEnvironment env) {
-        return DXJSON.safeTreeToValue(
-            new DXHTTPRequest(env).request("/" + objectId + "/" + "setVisibility",
-                    mapper.valueToTree(inputObject), RetryStrategy.SAFE_TO_RETRY), outputClass);
+        return new DXHTTPRequest(env).request("/" + objectId + "/" + "setVisibility",
+                inputObject, outputClass, RetryStrategy.SAFE_TO_RETRY);
+    }
+
+    /**
+     * Invokes the fileSetVisibility method with an empty input without blocking, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Visibility#API-method%3A-%2Fclass-xxxx%2FsetVisibility">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param outputClass class to deserialize the server reponse to
+     *
+     * @return future that completes with the response object; the future fails with
+     *         {@link DXAPIException} or {@link DXHTTPException} if the request fails
+     */
+    public static <T> ListenableFuture<T> fileSetVisibilityAsync(String objectId, Class<T> outputClass) {
+        return fileSetVisibilityAsync(objectId, mapper.createObjectNode(), outputClass);
+    }
+    /**
+     * Invokes the fileSetVisibility method with the given input without blocking, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Visibility#API-method%3A-%2Fclass-xxxx%2FsetVisibility">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param inputObject input object (to be JSON serialized to an input hash)
+     * @param outputClass class to deserialize the server reponse to
+     *
+     * @return future that completes with the response object; the future fails with
+     *         {@link DXAPIException} or {@link DXHTTPException} if the request fails
+     */
+    public static <T> ListenableFuture<T> fileSetVisibilityAsync(String objectId, Object inputObject, Class<T> outputClass) {
+        return new DXHTTPRequest().requestAsync("/" + objectId + "/" + "setVisibility",
+                inputObject, outputClass, RetryStrategy.SAFE_TO_RETRY);
+    }
+    /**
+     * Invokes the fileSetVisibility method with an empty input using the given environment without blocking, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Visibility#API-method%3A-%2Fclass-xxxx%2FsetVisibility">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param outputClass class to deserialize the server reponse to
+     * @param env environment object specifying the auth token and remote server and protocol
+     *
+     * @return future that completes with the response object; the future fails with
+     *         {@link DXAPIException} or {@link DXHTTPException} if the request fails
+     */
+    public static <T> ListenableFuture<T> fileSetVisibilityAsync(String objectId, Class<T> outputClass, DXEnvironment env) {
+        return fileSetVisibilityAsync(objectId, mapper.createObjectNode(), outputClass, env);
+    }
+    /**
+     * Invokes the fileSetVisibility method with the given input using the given environment without blocking, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Visibility#API-method%3A-%2Fclass-xxxx%2FsetVisibility">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param inputObject input object (to be JSON serialized to an input hash)
+     * @param outputClass class to deserialize the server reponse to
+     * @param env environment object specifying the auth token and remote server and protocol
+     *
+     * @return future that completes with the response object; the future fails with
+     *         {@link DXAPIException} or {@link DXHTTPException} if the request fails
+     */
+    public static <T> ListenableFuture<T> fileSetVisibilityAsync(String objectId, Object inputObject, Class<T> outputClass, DXEnvironment env) {
+        return new DXHTTPRequest(env).requestAsync("/" + objectId + "/" + "setVisibility",
+                inputObject, outputClass, RetryStrategy.SAFE_TO_RETRY);
     }
 
     /**
@@ -10513,9 +13967,8 @@ public final class DXAPI {
      *             the response (includes HTTP protocol errors).
      */
     public static <T> T fileUpload(String objectId, Object inputObject, Class<T> outputClass) {
-        return DXJSON.safeTreeToValue(
-                new DXHTTPRequest().request("/" + objectId + "/" + "upload",
-                        mapper.valueToTree(inputObject), RetryStrategy.SAFE_TO_RETRY), outputClass);
+        return new DXHTTPRequest().request("/" + objectId + "/" + "upload",
+                inputObject, outputClass, RetryStrategy.SAFE_TO_RETRY);
     }
     /**
      * Invokes the fileUpload method with an empty input using the given environment, deserializing to an object of the specified class.
@@ -10558,9 +14011,71 @@ public final class DXAPI {
      *             the response (includes HTTP protocol errors).
      */
     public static <T> T fileUpload(String objectId, Object inputObject, Class<T> outputClass, DXEnvironment env) {
-        return DXJSON.safeTreeToValue(
-            new DXHTTPRequest(env).request("/" + objectId + "/" + "upload",
-                    mapper.valueToTree(inputObject), RetryStrategy.SAFE_TO_RETRY), outputClass);
+        return new DXHTTPRequest(env).request("/" + objectId + "/" + "upload",
+                inputObject, outputClass, RetryStrategy.SAFE_TO_RETRY);
+    }
+
+    /**
+     * Invokes the fileUpload method with an empty input without blocking, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Files#API-method%3A-%2Ffile-xxxx%2Fupload">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param outputClass class to deserialize the server reponse to
+     *
+     * @return future that completes with the response object; the future fails with
+     *         {@link DXAPIException} or {@link DXHTTPException} if the request fails
+     */
+    public static <T> ListenableFuture<T> fileUploadAsync(String objectId, Class<T> outputClass) {
+        return fileUploadAsync(objectId, mapper.createObjectNode(), outputClass);
+    }
+    /**
+     * Invokes the fileUpload method with the given input without blocking, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Files#API-method%3A-%2Ffile-xxxx%2Fupload">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param inputObject input object (to be JSON serialized to an input hash)
+     * @param outputClass class to deserialize the server reponse to
+     *
+     * @return future that completes with the response object; the future fails with
+     *         {@link DXAPIException} or {@link DXHTTPException} if the request fails
+     */
+    public static <T> ListenableFuture<T> fileUploadAsync(String objectId, Object inputObject, Class<T> outputClass) {
+        return new DXHTTPRequest().requestAsync("/" + objectId + "/" + "upload",
+                inputObject, outputClass, RetryStrategy.SAFE_TO_RETRY);
+    }
+    /**
+     * Invokes the fileUpload method with an empty input using the given environment without blocking, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Files#API-method%3A-%2Ffile-xxxx%2Fupload">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param outputClass class to deserialize the server reponse to
+     * @param env environment object specifying the auth token and remote server and protocol
+     *
+     * @return future that completes with the response object; the future fails with
+     *         {@link DXAPIException} or {@link DXHTTPException} if the request fails
+     */
+    public static <T> ListenableFuture<T> fileUploadAsync(String objectId, Class<T> outputClass, DXEnvironment env) {
+        return fileUploadAsync(objectId, mapper.createObjectNode(), outputClass, env);
+    }
+    /**
+     * Invokes the fileUpload method with the given input using the given environment without blocking, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Files#API-method%3A-%2Ffile-xxxx%2Fupload">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param inputObject input object (to be JSON serialized to an input hash)
+     * @param outputClass class to deserialize the server reponse to
+     * @param env environment object specifying the auth token and remote server and protocol
+     *
+     * @return future that completes with the response object; the future fails with
+     *         {@link DXAPIException} or {@link DXHTTPException} if the request fails
+     */
+    public static <T> ListenableFuture<T> fileUploadAsync(String objectId, Object inputObject, Class<T> outputClass, DXEnvironment env) {
+        return new DXHTTPRequest(env).requestAsync("/" + objectId + "/" + "upload",
+                inputObject, outputClass, RetryStrategy.SAFE_TO_RETRY);
     }
 
     /**
@@ -10715,9 +14230,7 @@ public final class DXAPI {
      *             the response (includes HTTP protocol errors).
      */
     public static <T> T fileNew(Object inputObject, Class<T> outputClass) {
-        return DXJSON.safeTreeToValue(
-                new DXHTTPRequest().request("/file/new", mapper.valueToTree(inputObject), RetryStrategy.UNSAFE_TO_RETRY),
-                outputClass);
+        return new DXHTTPRequest().request("/file/new", inputObject, outputClass, RetryStrategy.UNSAFE_TO_RETRY);
     }
     /**
      * Invokes the fileNew method with the specified input using the specified environment, deserializing to an object of the specified class.
@@ -10738,9 +14251,64 @@ public final class DXAPI {
      *             the response (includes HTTP protocol errors).
      */
     public static <T> T fileNew(Object inputObject, Class<T> outputClass, DXEnvironment env) {
-        return DXJSON.safeTreeToValue(
-                new DXHTTPRequest(env).request("/file/new", mapper.valueToTree(inputObject), RetryStrategy.UNSAFE_TO_RETRY),
-                outputClass);
+        return new DXHTTPRequest(env).request("/file/new", inputObject, outputClass, RetryStrategy.UNSAFE_TO_RETRY);
+    }
+
+    /**
+     * Invokes the fileNew method with an empty input without blocking, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Files#API-method%3A-%2Ffile%2Fnew">API specification</a>.
+     *
+     * @param outputClass class to deserialize the server reponse to
+     *
+     * @return future that completes with the server response parsed from JSON; the future fails
+     *         with {@link DXAPIException} or {@link DXHTTPException} if the request fails
+     */
+    public static <T> ListenableFuture<T> fileNewAsync(Class<T> outputClass) {
+        return fileNewAsync(mapper.createObjectNode(), outputClass);
+    }
+    /**
+     * Invokes the fileNew method with an empty input using the specified environment without blocking, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Files#API-method%3A-%2Ffile%2Fnew">API specification</a>.
+     *
+     * @param outputClass class to deserialize the server reponse to
+     * @param env environment object specifying the auth token and remote server and protocol
+     *
+     * @return future that completes with the server response parsed from JSON; the future fails
+     *         with {@link DXAPIException} or {@link DXHTTPException} if the request fails
+     */
+    public static <T> ListenableFuture<T> fileNewAsync(Class<T> outputClass, DXEnvironment env) {
+        return fileNewAsync(mapper.createObjectNode(), outputClass, env);
+    }
+    /**
+     * Invokes the fileNew method with the specified input without blocking, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Files#API-method%3A-%2Ffile%2Fnew">API specification</a>.
+     *
+     * @param inputObject input object (to be JSON serialized to an input hash)
+     * @param outputClass class to deserialize the server reponse to
+     *
+     * @return future that completes with the server response parsed from JSON; the future fails
+     *         with {@link DXAPIException} or {@link DXHTTPException} if the request fails
+     */
+    public static <T> ListenableFuture<T> fileNewAsync(Object inputObject, Class<T> outputClass) {
+        return new DXHTTPRequest().requestAsync("/file/new", inputObject, outputClass, RetryStrategy.UNSAFE_TO_RETRY);
+    }
+    /**
+     * Invokes the fileNew method with the specified input using the specified environment without blocking, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Files#API-method%3A-%2Ffile%2Fnew">API specification</a>.
+     *
+     * @param inputObject input object (to be JSON serialized to an input hash)
+     * @param outputClass class to deserialize the server reponse to
+     * @param env environment object specifying the auth token and remote server and protocol
+     *
+     * @return future that completes with the server response parsed from JSON; the future fails
+     *         with {@link DXAPIException} or {@link DXHTTPException} if the request fails
+     */
+    public static <T> ListenableFuture<T> fileNewAsync(Object inputObject, Class<T> outputClass, DXEnvironment env) {
+        return new DXHTTPRequest(env).requestAsync("/file/new", inputObject, outputClass, RetryStrategy.UNSAFE_TO_RETRY);
     }
 
     /**
@@ -10870,9 +14438,8 @@ public final class DXAPI {
      *             the response (includes HTTP protocol errors).
      */
     public static <T> T gtableAddRows(String objectId, Object inputObject, Class<T> outputClass) {
-        return DXJSON.safeTreeToValue(
-                new DXHTTPRequest().request("/" + objectId + "/" + "addRows",
-                        mapper.valueToTree(inputObject), RetryStrategy.SAFE_TO_RETRY), outputClass);
+        return new DXHTTPRequest().request("/" + objectId + "/" + "addRows",
+                inputObject, outputClass, RetryStrategy.SAFE_TO_RETRY);
     }
     /**
      * Invokes the gtableAddRows method with an empty input using the given environment, deserializing to an object of the specified class.
@@ -10915,9 +14482,71 @@ public final class DXAPI {
      *             the response (includes HTTP protocol errors).
      */
     public static <T> T gtableAddRows(String objectId, Object inputObject, Class<T> outputClass, DXEnvironment env) {
-        return DXJSON.safeTreeToValue(
-            new DXHTTPRequest(env).request("/" + objectId + "/" + "addRows",
-                    mapper.valueToTree(inputObject), RetryStrategy.SAFE_TO_RETRY), outputClass);
+        return new DXHTTPRequest(env).request("/" + objectId + "/" + "addRows",
+                inputObject, outputClass, RetryStrategy.SAFE_TO_RETRY);
+    }
+
+    /**
+     * Invokes the gtableAddRows method with an empty input without blocking, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/GenomicTables#API-method%3A-%2Fgtable-xxxx%2FaddRows">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param outputClass class to deserialize the server reponse to
+     *
+     * @return future that completes with the response object; the future fails with
+     *         {@link DXAPIException} or {@link DXHTTPException} if the request fails
+     */
+    public static <T> ListenableFuture<T> gtableAddRowsAsync(String objectId, Class<T> outputClass) {
+        return gtableAddRowsAsync(objectId, mapper.createObjectNode(), outputClass);
+    }
+    /**
+     * Invokes the gtableAddRows method with the given input without blocking, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/GenomicTables#API-method%3A-%2Fgtable-xxxx%2FaddRows">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param inputObject input object (to be JSON serialized to an input hash)
+     * @param outputClass class to deserialize the server reponse to
+     *
+     * @return future that completes with the response object; the future fails with
+     *         {@link DXAPIException} or {@link DXHTTPException} if the request fails
+     */
+    public static <T> ListenableFuture<T> gtableAddRowsAsync(String objectId, Object inputObject, Class<T> outputClass) {
+        return new DXHTTPRequest().requestAsync("/" + objectId + "/" + "addRows",
+                inputObject, outputClass, RetryStrategy.SAFE_TO_RETRY);
+    }
+    /**
+     * Invokes the gtableAddRows method with an empty input using the given environment without blocking, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/GenomicTables#API-method%3A-%2Fgtable-xxxx%2FaddRows">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param outputClass class to deserialize the server reponse to
+     * @param env environment object specifying the auth token and remote server and protocol
+     *
+     * @return future that completes with the response object; the future fails with
+     *         {@link DXAPIException} or {@link DXHTTPException} if the request fails
+     */
+    public static <T> ListenableFuture<T> gtableAddRowsAsync(String objectId, Class<T> outputClass, DXEnvironment env) {
+        return gtableAddRowsAsync(objectId, mapper.createObjectNode(), outputClass, env);
+    }
+    /**
+     * Invokes the gtableAddRows method with the given input using the given environment without blocking, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/GenomicTables#API-method%3A-%2Fgtable-xxxx%2FaddRows">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param inputObject input object (to be JSON serialized to an input hash)
+     * @param outputClass class to deserialize the server reponse to
+     * @param env environment object specifying the auth token and remote server and protocol
+     *
+     * @return future that completes with the response object; the future fails with
+     *         {@link DXAPIException} or {@link DXHTTPException} if the request fails
+     */
+    public static <T> ListenableFuture<T> gtableAddRowsAsync(String objectId, Object inputObject, Class<T> outputClass, DXEnvironment env) {
+        return new DXHTTPRequest(env).requestAsync("/" + objectId + "/" + "addRows",
+                inputObject, outputClass, RetryStrategy.SAFE_TO_RETRY);
     }
 
     /**
@@ -11054,9 +14683,8 @@ public final class DXAPI {
      *             the response (includes HTTP protocol errors).
      */
     public static <T> T gtableAddTags(String objectId, Object inputObject, Class<T> outputClass) {
-        return DXJSON.safeTreeToValue(
-                new DXHTTPRequest().request("/" + objectId + "/" + "addTags",
-                        mapper.valueToTree(inputObject), RetryStrategy.SAFE_TO_RETRY), outputClass);
+        return new DXHTTPRequest().request("/" + objectId + "/" + "addTags",
+                inputObject, outputClass, RetryStrategy.SAFE_TO_RETRY);
     }
     /**
      * Invokes the gtableAddTags method with an empty input using the given environment, deserializing to an object of the specified class.
@@ -11099,20 +14727,82 @@ public final class DXAPI {
      *             the response (includes HTTP protocol errors).
      */
     public static <T> T gtableAddTags(String objectId, Object inputObject, Class<T> outputClass, DXEnvironment env) {
-        return DXJSON.safeTreeToValue(
-            new DXHTTPRequest(env).request("/" + objectId + "/" + "addTags",
-                    mapper.valueToTree(inputObject), RetryStrategy.SAFE_TO_RETRY), outputClass);
+        return new DXHTTPRequest(env).request("/" + objectId + "/" + "addTags",
+                inputObject, outputClass, RetryStrategy.SAFE_TO_RETRY);
     }
 
     /**
-     * Invokes the gtableAddTags method.
+     * Invokes the gtableAddTags method with an empty input without blocking, deserializing to an object of the specified class.
      *
      * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Tags#API-method%3A-%2Fclass-xxxx%2FaddTags">API specification</a>.
      *
      * @param objectId ID of the object to operate on
+     * @param outputClass class to deserialize the server reponse to
+     *
+     * @return future that completes with the response object; the future fails with
+     *         {@link DXAPIException} or {@link DXHTTPException} if the request fails
+     */
+    public static <T> ListenableFuture<T> gtableAddTagsAsync(String objectId, Class<T> outputClass) {
+        return gtableAddTagsAsync(objectId, mapper.createObjectNode(), outputClass);
+    }
+    /**
+     * Invokes the gtableAddTags method with the given input without blocking, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Tags#API-method%3A-%2Fclass-xxxx%2FaddTags">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param inputObject input object (to be JSON serialized to an input hash)
+     * @param outputClass class to deserialize the server reponse to
+     *
+     * @return future that completes with the response object; the future fails with
+     *         {@link DXAPIException} or {@link DXHTTPException} if the request fails
+     */
+    public static <T> ListenableFuture<T> gtableAddTagsAsync(String objectId, Object inputObject, Class<T> outputClass) {
+        return new DXHTTPRequest().requestAsync("/" + objectId + "/" + "addTags",
+                inputObject, outputClass, RetryStrategy.SAFE_TO_RETRY);
+    }
+    /**
+     * Invokes the gtableAddTags method with an empty input using the given environment without blocking, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Tags#API-method%3A-%2Fclass-xxxx%2FaddTags">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param outputClass class to deserialize the server reponse to
+     * @param env environment object specifying the auth token and remote server and protocol
+     *
+     * @return future that completes with the response object; the future fails with
+     *         {@link DXAPIException} or {@link DXHTTPException} if the request fails
+     */
+    public static <T> ListenableFuture<T> gtableAddTagsAsync(String objectId, Class<T> outputClass, DXEnvironment env) {
+        return gtableAddTagsAsync(objectId, mapper.createObjectNode(), outputClass, env);
+    }
+    /**
+     * Invokes the gtableAddTags method with the given input using the given environment without blocking, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Tags#API-method%3A-%2Fclass-xxxx%2FaddTags">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param inputObject input object (to be JSON serialized to an input hash)
+     * @param outputClass class to deserialize the server reponse to
+     * @param env environment object specifying the auth token and remote server and protocol
+     *
+     * @return future that completes with the response object; the future fails with
+     *         {@link DXAPIException} or {@link DXHTTPException} if the request fails
+     */
+    public static <T> ListenableFuture<T> gtableAddTagsAsync(String objectId, Object inputObject, Class<T> outputClass, DXEnvironment env) {
+        return new DXHTTPRequest(env).requestAsync("/" + objectId + "/" + "addTags",
+                inputObject, outputClass, RetryStrategy.SAFE_TO_RETRY);
+    }
+
+    /**
+     * Invokes the gtableAddTags method.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Tags#API-method%3A-%2Fclass-xxxx%2FaddTags">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     *
+     * @return Server response parsed from JSON
      *
-     * @return Server response parsed from JSON
-     *
      * @throws DXAPIException
      *             If the server returns a complete response with an HTTP status
      *             code other than 200 (OK).
@@ -11238,9 +14928,8 @@ public final class DXAPI {
      *             the response (includes HTTP protocol errors).
      */
     public static <T> T gtableAddTypes(String objectId, Object inputObject, Class<T> outputClass) {
-        return DXJSON.safeTreeToValue(
-                new DXHTTPRequest().request("/" + objectId + "/" + "addTypes",
-                        mapper.valueToTree(inputObject), RetryStrategy.SAFE_TO_RETRY), outputClass);
+        return new DXHTTPRequest().request("/" + objectId + "/" + "addTypes",
+                inputObject, outputClass, RetryStrategy.SAFE_TO_RETRY);
     }
     /**
      * Invokes the gtableAddTypes method with an empty input using the given environment, deserializing to an object of the specified class.
@@ -11283,9 +14972,71 @@ public final class DXAPI {
      *             the response (includes HTTP protocol errors).
      */
     public static <T> T gtableAddTypes(String objectId, Object inputObject, Class<T> outputClass, DXEnvironment env) {
-        return DXJSON.safeTreeToValue(
-            new DXHTTPRequest(env).request("/" + objectId + "/" + "addTypes",
-                    mapper.valueToTree(inputObject), RetryStrategy.SAFE_TO_RETRY), outputClass);
+        return new DXHTTPRequest(env).request("/" + objectId + "/" + "addTypes",
+                inputObject, outputClass, RetryStrategy.SAFE_TO_RETRY);
+    }
+
+    /**
+     * Invokes the gtableAddTypes method with an empty input without blocking, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Types#API-method%3A-%2Fclass-xxxx%2FaddTypes">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param outputClass class to deserialize the server reponse to
+     *
+     * @return future that completes with the response object; the future fails with
+     *         {@link DXAPIException} or {@link DXHTTPException} if the request fails
+     */
+    public static <T> ListenableFuture<T> gtableAddTypesAsync(String objectId, Class<T> outputClass) {
+        return gtableAddTypesAsync(objectId, mapper.createObjectNode(), outputClass);
+    }
+    /**
+     * Invokes the gtableAddTypes method with the given input without blocking, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Types#API-method%3A-%2Fclass-xxxx%2FaddTypes">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param inputObject input object (to be JSON serialized to an input hash)
+     * @param outputClass class to deserialize the server reponse to
+     *
+     * @return future that completes with the response object; the future fails with
+     *         {@link DXAPIException} or {@link DXHTTPException} if the request fails
+     */
+    public static <T> ListenableFuture<T> gtableAddTypesAsync(String objectId, Object inputObject, Class<T> outputClass) {
+        return new DXHTTPRequest().requestAsync("/" + objectId + "/" + "addTypes",
+                inputObject, outputClass, RetryStrategy.SAFE_TO_RETRY);
+    }
+    /**
+     * Invokes the gtableAddTypes method with an empty input using the given environment without blocking, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Types#API-method%3A-%2Fclass-xxxx%2FaddTypes">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param outputClass class to deserialize the server reponse to
+     * @param env environment object specifying the auth token and remote server and protocol
+     *
+     * @return future that completes with the response object; the future fails with
+     *         {@link DXAPIException} or {@link DXHTTPException} if the request fails
+     */
+    public static <T> ListenableFuture<T> gtableAddTypesAsync(String objectId, Class<T> outputClass, DXEnvironment env) {
+        return gtableAddTypesAsync(objectId, mapper.createObjectNode(), outputClass, env);
+    }
+    /**
+     * Invokes the gtableAddTypes method with the given input using the given environment without blocking, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Types#API-method%3A-%2Fclass-xxxx%2FaddTypes">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param inputObject input object (to be JSON serialized to an input hash)
+     * @param outputClass class to deserialize the server reponse to
+     * @param env environment object specifying the auth token and remote server and protocol
+     *
+     * @return future that completes with the response object; the future fails with
+     *         {@link DXAPIException} or {@link DXHTTPException} if the request fails
+     */
+    public static <T> ListenableFuture<T> gtableAddTypesAsync(String objectId, Object inputObject, Class<T> outputClass, DXEnvironment env) {
+        return new DXHTTPRequest(env).requestAsync("/" + objectId + "/" + "addTypes",
+                inputObject, outputClass, RetryStrategy.SAFE_TO_RETRY);
     }
 
     /**
@@ -11422,9 +15173,8 @@ public final class DXAPI {
      *             the response (includes HTTP protocol errors).
      */
     public static <T> T gtableClose(String objectId, Object inputObject, Class<T> outputClass) {
-        return DXJSON.safeTreeToValue(
-                new DXHTTPRequest().request("/" + objectId + "/" + "close",
-                        mapper.valueToTree(inputObject), RetryStrategy.SAFE_TO_RETRY), outputClass);
+        return new DXHTTPRequest().request("/" + objectId + "/" + "close",
+                inputObject, outputClass, RetryStrategy.SAFE_TO_RETRY);
     }
     /**
      * Invokes the gtableClose method with an empty input using the given environment, deserializing to an object of the specified class.
@@ -11467,9 +15217,71 @@ public final class DXAPI {
      *             the response (includes HTTP protocol errors).
      */
     public static <T> T gtableClose(String objectId, Object inputObject, Class<T> outputClass, DXEnvironment env) {
-        return DXJSON.safeTreeToValue(
-            new DXHTTPRequest(env).request("/" + objectId + "/" + "close",
-                    mapper.valueToTree(inputObject), RetryStrategy.SAFE_TO_RETRY), outputClass);
+        return new DXHTTPRequest(env).request("/" + objectId + "/" + "close",
+                inputObject, outputClass, RetryStrategy.SAFE_TO_RETRY);
+    }
+
+    /**
+     * Invokes the gtableClose method with an empty input without blocking, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/GenomicTables#API-method%3A-%2Fgtable-xxxx%2Fclose">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param outputClass class to deserialize the server reponse to
+     *
+     * @return future that completes with the response object; the future fails with
+     *         {@link DXAPIException} or {@link DXHTTPException} if the request fails
+     */
+    public static <T> ListenableFuture<T> gtableCloseAsync(String objectId, Class<T> outputClass) {
+        return gtableCloseAsync(objectId, mapper.createObjectNode(), outputClass);
+    }
+    /**
+     * Invokes the gtableClose method with the given input without blocking, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/GenomicTables#API-method%3A-%2Fgtable-xxxx%2Fclose">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param inputObject input object (to be JSON serialized to an input hash)
+     * @param outputClass class to deserialize the server reponse to
+     *
+     * @return future that completes with the response object; the future fails with
+     *         {@link DXAPIException} or {@link DXHTTPException} if the request fails
+     */
+    public static <T> ListenableFuture<T> gtableCloseAsync(String objectId, Object inputObject, Class<T> outputClass) {
+        return new DXHTTPRequest().requestAsync("/" + objectId + "/" + "close",
+                inputObject, outputClass, RetryStrategy.SAFE_TO_RETRY);
+    }
+    /**
+     * Invokes the gtableClose method with an empty input using the given environment without blocking, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/GenomicTables#API-method%3A-%2Fgtable-xxxx%2Fclose">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param outputClass class to deserialize the server reponse to
+     * @param env environment object specifying the auth token and remote server and protocol
+     *
+     * @return future that completes with the response object; the future fails with
+     *         {@link DXAPIException} or {@link DXHTTPException} if the request fails
+     */
+    public static <T> ListenableFuture<T> gtableCloseAsync(String objectId, Class<T> outputClass, DXEnvironment env) {
+        return gtableCloseAsync(objectId, mapper.createObjectNode(), outputClass, env);
+    }
+    /**
+     * Invokes the gtableClose method with the given input using the given environment without blocking, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/GenomicTables#API-method%3A-%2Fgtable-xxxx%2Fclose">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param inputObject input object (to be JSON serialized to an input hash)
+     * @param outputClass class to deserialize the server reponse to
+     * @param env environment object specifying the auth token and remote server and protocol
+     *
+     * @return future that completes with the response object; the future fails with
+     *         {@link DXAPIException} or {@link DXHTTPException} if the request fails
+     */
+    public static <T> ListenableFuture<T> gtableCloseAsync(String objectId, Object inputObject, Class<T> outputClass, DXEnvironment env) {
+        return new DXHTTPRequest(env).requestAsync("/" + objectId + "/" + "close",
+                inputObject, outputClass, RetryStrategy.SAFE_TO_RETRY);
     }
 
     /**
@@ -11606,9 +15418,8 @@ public final class DXAPI {
      *             the response (includes HTTP protocol errors).
      */
     public static <T> T gtableDescribe(String objectId, Object inputObject, Class<T> outputClass) {
-        return DXJSON.safeTreeToValue(
-                new DXHTTPRequest().request("/" + objectId + "/" + "describe",
-                        mapper.valueToTree(inputObject), RetryStrategy.SAFE_TO_RETRY), outputClass);
+        return new DXHTTPRequest().request("/" + objectId + "/" + "describe",
+                inputObject, outputClass, RetryStrategy.SAFE_TO_RETRY);
     }
     /**
      * Invokes the gtableDescribe method with an empty input using the given environment, deserializing to an object of the specified class.
@@ -11651,9 +15462,71 @@ public final class DXAPI {
      *             the response (includes HTTP protocol errors).
      */
     public static <T> T gtableDescribe(String objectId, Object inputObject, Class<T> outputClass, DXEnvironment env) {
-        return DXJSON.safeTreeToValue(
-            new DXHTTPRequest(env).request("/" + objectId + "/" + "describe",
-                    mapper.valueToTree(inputObject), RetryStrategy.SAFE_TO_RETRY), outputClass);
+        return new DXHTTPRequest(env).request("/" + objectId + "/" + "describe",
+                inputObject, outputClass, RetryStrategy.SAFE_TO_RETRY);
+    }
+
+    /**
+     * Invokes the gtableDescribe method with an empty input without blocking, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/GenomicTables#API-method%3A-%2Fgtable-xxxx%2Fdescribe">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param outputClass class to deserialize the server reponse to
+     *
+     * @return future that completes with the response object; the future fails with
+     *         {@link DXAPIException} or {@link DXHTTPException} if the request fails
+     */
+    public static <T> ListenableFuture<T> gtableDescribeAsync(String objectId, Class<T> outputClass) {
+        return gtableDescribeAsync(objectId, mapper.createObjectNode(), outputClass);
+    }
+    /**
+     * Invokes the gtableDescribe method with the given input without blocking, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/GenomicTables#API-method%3A-%2Fgtable-xxxx%2Fdescribe">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param inputObject input object (to be JSON serialized to an input hash)
+     * @param outputClass class to deserialize the server reponse to
+     *
+     * @return future that completes with the response object; the future fails with
+     *         {@link DXAPIException} or {@link DXHTTPException} if the request fails
+     */
+    public static <T> ListenableFuture<T> gtableDescribeAsync(String objectId, Object inputObject, Class<T> outputClass) {
+        return new DXHTTPRequest().requestAsync("/" + objectId + "/" + "describe",
+                inputObject, outputClass, RetryStrategy.SAFE_TO_RETRY);
+    }
+    /**
+     * Invokes the gtableDescribe method with an empty input using the given environment without blocking, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/GenomicTables#API-method%3A-%2Fgtable-xxxx%2Fdescribe">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param outputClass class to deserialize the server reponse to
+     * @param env environment object specifying the auth token and remote server and protocol
+     *
+     * @return future that completes with the response object; the future fails with
+     *         {@link DXAPIException} or {@link DXHTTPException} if the request fails
+     */
+    public static <T> ListenableFuture<T> gtableDescribeAsync(String objectId, Class<T> outputClass, DXEnvironment env) {
+        return gtableDescribeAsync(objectId, mapper.createObjectNode(), outputClass, env);
+    }
+    /**
+     * Invokes the gtableDescribe method with the given input using the given environment without blocking, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/GenomicTables#API-method%3A-%2Fgtable-xxxx%2Fdescribe">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param inputObject input object (to be JSON serialized to an input hash)
+     * @param outputClass class to deserialize the server reponse to
+     * @param env environment object specifying the auth token and remote server and protocol
+     *
+     * @return future that completes with the response object; the future fails with
+     *         {@link DXAPIException} or {@link DXHTTPException} if the request fails
+     */
+    public static <T> ListenableFuture<T> gtableDescribeAsync(String objectId, Object inputObject, Class<T> outputClass, DXEnvironment env) {
+        return new DXHTTPRequest(env).requestAsync("/" + objectId + "/" + "describe",
+                inputObject, outputClass, RetryStrategy.SAFE_TO_RETRY);
     }
 
     /**
@@ -11790,9 +15663,8 @@ public final class DXAPI {
      *             the response (includes HTTP protocol errors).
      */
     public static <T> T gtableGet(String objectId, Object inputObject, Class<T> outputClass) {
-        return DXJSON.safeTreeToValue(
-                new DXHTTPRequest().request("/" + objectId + "/" + "get",
-                        mapper.valueToTree(inputObject), RetryStrategy.SAFE_TO_RETRY), outputClass);
+        return new DXHTTPRequest().request("/" + objectId + "/" + "get",
+                inputObject, outputClass, RetryStrategy.SAFE_TO_RETRY);
     }
     /**
      * Invokes the gtableGet method with an empty input using the given environment, deserializing to an object of the specified class.
@@ -11835,9 +15707,71 @@ public final class DXAPI {
      *             the response (includes HTTP protocol errors).
      */
     public static <T> T gtableGet(String objectId, Object inputObject, Class<T> outputClass, DXEnvironment env) {
-        return DXJSON.safeTreeToValue(
-            new DXHTTPRequest(env).request("/" + objectId + "/" + "get",
-                    mapper.valueToTree(inputObject), RetryStrategy.SAFE_TO_RETRY), outputClass);
+        return new DXHTTPRequest(env).request("/" + objectId + "/" + "get",
+                inputObject, outputClass, RetryStrategy.SAFE_TO_RETRY);
+    }
+
+    /**
+     * Invokes the gtableGet method with an empty input without blocking, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/GenomicTables#API-method%3A-%2Fgtable-xxxx%2Fget">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param outputClass class to deserialize the server reponse to
+     *
+     * @return future that completes with the response object; the future fails with
+     *         {@link DXAPIException} or {@link DXHTTPException} if the request fails
+     */
+    public static <T> ListenableFuture<T> gtableGetAsync(String objectId, Class<T> outputClass) {
+        return gtableGetAsync(objectId, mapper.createObjectNode(), outputClass);
+    }
+    /**
+     * Invokes the gtableGet method with the given input without blocking, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/GenomicTables#API-method%3A-%2Fgtable-xxxx%2Fget">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param inputObject input object (to be JSON serialized to an input hash)
+     * @param outputClass class to deserialize the server reponse to
+     *
+     * @return future that completes with the response object; the future fails with
+     *         {@link DXAPIException} or {@link DXHTTPException} if the request fails
+     */
+    public static <T> ListenableFuture<T> gtableGetAsync(String objectId, Object inputObject, Class<T> outputClass) {
+        return new DXHTTPRequest().requestAsync("/" + objectId + "/" + "get",
+                inputObject, outputClass, RetryStrategy.SAFE_TO_RETRY);
+    }
+    /**
+     * Invokes the gtableGet method with an empty input using the given environment without blocking, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/GenomicTables#API-method%3A-%2Fgtable-xxxx%2Fget">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param outputClass class to deserialize the server reponse to
+     * @param env environment object specifying the auth token and remote server and protocol
+     *
+     * @return future that completes with the response object; the future fails with
+     *         {@link DXAPIException} or {@link DXHTTPException} if the request fails
+     */
+    public static <T> ListenableFuture<T> gtableGetAsync(String objectId, Class<T> outputClass, DXEnvironment env) {
+        return gtableGetAsync(objectId, mapper.createObjectNode(), outputClass, env);
+    }
+    /**
+     * Invokes the gtableGet method with the given input using the given environment without blocking, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/GenomicTables#API-method%3A-%2Fgtable-xxxx%2Fget">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param inputObject input object (to be JSON serialized to an input hash)
+     * @param outputClass class to deserialize the server reponse to
+     * @param env environment object specifying the auth token and remote server and protocol
+     *
+     * @return future that completes with the response object; the future fails with
+     *         {@link DXAPIException} or {@link DXHTTPException} if the request fails
+     */
+    public static <T> ListenableFuture<T> gtableGetAsync(String objectId, Object inputObject, Class<T> outputClass, DXEnvironment env) {
+        return new DXHTTPRequest(env).requestAsync("/" + objectId + "/" + "get",
+                inputObject, outputClass, RetryStrategy.SAFE_TO_RETRY);
     }
 
     /**
@@ -11974,9 +15908,8 @@ public final class DXAPI {
      *             the response (includes HTTP protocol errors).
      */
     public static <T> T gtableGetDetails(String objectId, Object inputObject, Class<T> outputClass) {
-        return DXJSON.safeTreeToValue(
-                new DXHTTPRequest().request("/" + objectId + "/" + "getDetails",
-                        mapper.valueToTree(inputObject), RetryStrategy.SAFE_TO_RETRY), outputClass);
+        return new DXHTTPRequest().request("/" + objectId + "/" + "getDetails",
+                inputObject, outputClass, RetryStrategy.SAFE_TO_RETRY);
     }
     /**
      * Invokes the gtableGetDetails method with an empty input using the given environment, deserializing to an object of the specified class.
@@ -12019,9 +15952,71 @@ public final class DXAPI {
      *             the response (includes HTTP protocol errors).
      */
     public static <T> T gtableGetDetails(String objectId, Object inputObject, Class<T> outputClass, DXEnvironment env) {
-        return DXJSON.safeTreeToValue(
-            new DXHTTPRequest(env).request("/" + objectId + "/" + "getDetails",
-                    mapper.valueToTree(inputObject), RetryStrategy.SAFE_TO_RETRY), outputClass);
+        return new DXHTTPRequest(env).request("/" + objectId + "/" + "getDetails",
+                inputObject, outputClass, RetryStrategy.SAFE_TO_RETRY);
+    }
+
+    /**
+     * Invokes the gtableGetDetails method with an empty input without blocking, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Details-and-Links#API-method%3A-%2Fclass-xxxx%2FgetDetails">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param outputClass class to deserialize the server reponse to
+     *
+     * @return future that completes with the response object; the future fails with
+     *         {@link DXAPIException} or {@link DXHTTPException} if the request fails
+     */
+    public static <T> ListenableFuture<T> gtableGetDetailsAsync(String objectId, Class<T> outputClass) {
+        return gtableGetDetailsAsync(objectId, mapper.createObjectNode(), outputClass);
+    }
+    /**
+     * Invokes the gtableGetDetails method with the given input without blocking, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Details-and-Links#API-method%3A-%2Fclass-xxxx%2FgetDetails">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param inputObject input object (to be JSON serialized to an input hash)
+     * @param outputClass class to deserialize the server reponse to
+     *
+     * @return future that completes with the response object; the future fails with
+     *         {@link DXAPIException} or {@link DXHTTPException} if the request fails
+     */
+    public static <T> ListenableFuture<T> gtableGetDetailsAsync(String objectId, Object inputObject, Class<T> outputClass) {
+        return new DXHTTPRequest().requestAsync("/" + objectId + "/" + "getDetails",
+                inputObject, outputClass, RetryStrategy.SAFE_TO_RETRY);
+    }
+    /**
+     * Invokes the gtableGetDetails method with an empty input using the given environment without blocking, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Details-and-Links#API-method%3A-%2Fclass-xxxx%2FgetDetails">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param outputClass class to deserialize the server reponse to
+     * @param env environment object specifying the auth token and remote server and protocol
+     *
+     * @return future that completes with the response object; the future fails with
+     *         {@link DXAPIException} or {@link DXHTTPException} if the request fails
+     */
+    public static <T> ListenableFuture<T> gtableGetDetailsAsync(String objectId, Class<T> outputClass, DXEnvironment env) {
+        return gtableGetDetailsAsync(objectId, mapper.createObjectNode(), outputClass, env);
+    }
+    /**
+     * Invokes the gtableGetDetails method with the given input using the given environment without blocking, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Details-and-Links#API-method%3A-%2Fclass-xxxx%2FgetDetails">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param inputObject input object (to be JSON serialized to an input hash)
+     * @param outputClass class to deserialize the server reponse to
+     * @param env environment object specifying the auth token and remote server and protocol
+     *
+     * @return future that completes with the response object; the future fails with
+     *         {@link DXAPIException} or {@link DXHTTPException} if the request fails
+     */
+    public static <T> ListenableFuture<T> gtableGetDetailsAsync(String objectId, Object inputObject, Class<T> outputClass, DXEnvironment env) {
+        return new DXHTTPRequest(env).requestAsync("/" + objectId + "/" + "getDetails",
+                inputObject, outputClass, RetryStrategy.SAFE_TO_RETRY);
     }
 
     /**
@@ -12158,9 +16153,8 @@ public final class DXAPI {
      *             the response (includes HTTP protocol errors).
      */
     public static <T> T gtableListProjects(String objectId, Object inputObject, Class<T> outputClass) {
-        return DXJSON.safeTreeToValue(
-                new DXHTTPRequest().request("/" + objectId + "/" + "listProjects",
-                        mapper.valueToTree(inputObject), RetryStrategy.SAFE_TO_RETRY), outputClass);
+        return new DXHTTPRequest().request("/" + objectId + "/" + "listProjects",
+                inputObject, outputClass, RetryStrategy.SAFE_TO_RETRY);
     }
     /**
      * Invokes the gtableListProjects method with an empty input using the given environment, deserializing to an object of the specified class.
@@ -12203,22 +16197,84 @@ public final class DXAPI {
      *             the response (includes HTTP protocol errors).
      */
     public static <T> T gtableListProjects(String objectId, Object inputObject, Class<T> outputClass, DXEnvironment env) {
-        return DXJSON.safeTreeToValue(
-            new DXHTTPRequest(env).request("/" + objectId + "/" + "listProjects",
-                    mapper.valueToTree(inputObject), RetryStrategy.SAFE_TO_RETRY), outputClass);
+        return new DXHTTPRequest(env).request("/" + objectId + "/" + "listProjects",
+                inputObject, outputClass, RetryStrategy.SAFE_TO_RETRY);
     }
 
     /**
-     * Invokes the gtableListProjects method.
+     * Invokes the gtableListProjects method with an empty input without blocking, deserializing to an object of the specified class.
      *
      * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Cloning#API-method%3A-%2Fclass-xxxx%2FlistProjects">API specification</a>.
      *
      * @param objectId ID of the object to operate on
+     * @param outputClass class to deserialize the server reponse to
      *
-     * @return Server response parsed from JSON
+     * @return future that completes with the response object; the future fails with
+     *         {@link DXAPIException} or {@link DXHTTPException} if the request fails
+     */
+    public static <T> ListenableFuture<T> gtableListProjectsAsync(String objectId, Class<T> outputClass) {
+        return gtableListProjectsAsync(objectId, mapper.createObjectNode(), outputClass);
+    }
+    /**
+     * Invokes the gtableListProjects method with the given input without blocking, deserializing to an object of the specified class.
      *
-     * @throws DXAPIException
-     *             If the server returns a complete response with an HTTP status
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Cloning#API-method%3A-%2Fclass-xxxx%2FlistProjects">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param inputObject input object (to be JSON serialized to an input hash)
+     * @param outputClass class to deserialize the server reponse to
+     *
+     * @return future that completes with the response object; the future fails with
+     *         {@link DXAPIException} or {@link DXHTTPException} if the request fails
+     */
+    public static <T> ListenableFuture<T> gtableListProjectsAsync(String objectId, Object inputObject, Class<T> outputClass) {
+        return new DXHTTPRequest().requestAsync("/" + objectId + "/" + "listProjects",
+                inputObject, outputClass, RetryStrategy.SAFE_TO_RETRY);
+    }
+    /**
+     * Invokes the gtableListProjects method with an empty input using the given environment without blocking, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Cloning#API-method%3A-%2Fclass-xxxx%2FlistProjects">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param outputClass class to deserialize the server reponse to
+     * @param env environment object specifying the auth token and remote server and protocol
+     *
+     * @return future that completes with the response object; the future fails with
+     *         {@link DXAPIException} or {@link DXHTTPException} if the request fails
+     */
+    public static <T> ListenableFuture<T> gtableListProjectsAsync(String objectId, Class<T> outputClass, DXEnvironment env) {
+        return gtableListProjectsAsync(objectId, mapper.createObjectNode(), outputClass, env);
+    }
+    /**
+     * Invokes the gtableListProjects method with the given input using the given environment without blocking, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Cloning#API-method%3A-%2Fclass-xxxx%2FlistProjects">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param inputObject input object (to be JSON serialized to an input hash)
+     * @param outputClass class to deserialize the server reponse to
+     * @param env environment object specifying the auth token and remote server and protocol
+     *
+     * @return future that completes with the response object; the future fails with
+     *         {@link DXAPIException} or {@link DXHTTPException} if the request fails
+     */
+    public static <T> ListenableFuture<T> gtableListProjectsAsync(String objectId, Object inputObject, Class<T> outputClass, DXEnvironment env) {
+        return new DXHTTPRequest(env).requestAsync("/" + objectId + "/" + "listProjects",
+                inputObject, outputClass, RetryStrategy.SAFE_TO_RETRY);
+    }
+
+    /**
+     * Invokes the gtableListProjects method.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Cloning#API-method%3A-%2Fclass-xxxx%2FlistProjects">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     *
+     * @return Server response parsed from JSON
+     *
+     * @throws DXAPIException
+     *             If the server returns a complete response with an HTTP status
      *             code other than 200 (OK).
      * @throws DXHTTPException
      *             If an error occurs while making the HTTP request or obtaining
@@ -12342,9 +16398,8 @@ public final class DXAPI {
      *             the response (includes HTTP protocol errors).
      */
     public static <T> T gtableNextPart(String objectId, Object inputObject, Class<T> outputClass) {
-        return DXJSON.safeTreeToValue(
-                new DXHTTPRequest().request("/" + objectId + "/" + "nextPart",
-                        mapper.valueToTree(inputObject), RetryStrategy.SAFE_TO_RETRY), outputClass);
+        return new DXHTTPRequest().request("/" + objectId + "/" + "nextPart",
+                inputObject, outputClass, RetryStrategy.SAFE_TO_RETRY);
     }
     /**
      * Invokes the gtableNextPart method with an empty input using the given environment, deserializing to an object of the specified class.
@@ -12387,9 +16442,71 @@ public final class DXAPI {
      *             the response (includes HTTP protocol errors).
      */
     public static <T> T gtableNextPart(String objectId, Object inputObject, Class<T> outputClass, DXEnvironment env) {
-        return DXJSON.safeTreeToValue(
-            new DXHTTPRequest(env).request("/" + objectId + "/" + "nextPart",
-                    mapper.valueToTree(inputObject), RetryStrategy.SAFE_TO_RETRY), outputClass);
+        return new DXHTTPRequest(env).request("/" + objectId + "/" + "nextPart",
+                inputObject, outputClass, RetryStrategy.SAFE_TO_RETRY);
+    }
+
+    /**
+     * Invokes the gtableNextPart method with an empty input without blocking, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/GenomicTables#API-method%3A-%2Fgtable-xxxx%2FnextPart">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param outputClass class to deserialize the server reponse to
+     *
+     * @return future that completes with the response object; the future fails with
+     *         {@link DXAPIException} or {@link DXHTTPException} if the request fails
+     */
+    public static <T> ListenableFuture<T> gtableNextPartAsync(String objectId, Class<T> outputClass) {
+        return gtableNextPartAsync(objectId, mapper.createObjectNode(), outputClass);
+    }
+    /**
+     * Invokes the gtableNextPart method with the given input without blocking, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/GenomicTables#API-method%3A-%2Fgtable-xxxx%2FnextPart">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param inputObject input object (to be JSON serialized to an input hash)
+     * @param outputClass class to deserialize the server reponse to
+     *
+     * @return future that completes with the response object; the future fails with
+     *         {@link DXAPIException} or {@link DXHTTPException} if the request fails
+     */
+    public static <T> ListenableFuture<T> gtableNextPartAsync(String objectId, Object inputObject, Class<T> outputClass) {
+        return new DXHTTPRequest().requestAsync("/" + objectId + "/" + "nextPart",
+                inputObject, outputClass, RetryStrategy.SAFE_TO_RETRY);
+    }
+    /**
+     * Invokes the gtableNextPart method with an empty input using the given environment without blocking, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/GenomicTables#API-method%3A-%2Fgtable-xxxx%2FnextPart">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param outputClass class to deserialize the server reponse to
+     * @param env environment object specifying the auth token and remote server and protocol
+     *
+     * @return future that completes with the response object; the future fails with
+     *         {@link DXAPIException} or {@link DXHTTPException} if the request fails
+     */
+    public static <T> ListenableFuture<T> gtableNextPartAsync(String objectId, Class<T> outputClass, DXEnvironment env) {
+        return gtableNextPartAsync(objectId, mapper.createObjectNode(), outputClass, env);
+    }
+    /**
+     * Invokes the gtableNextPart method with the given input using the given environment without blocking, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/GenomicTables#API-method%3A-%2Fgtable-xxxx%2FnextPart">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param inputObject input object (to be JSON serialized to an input hash)
+     * @param outputClass class to deserialize the server reponse to
+     * @param env environment object specifying the auth token and remote server and protocol
+     *
+     * @return future that completes with the response object; the future fails with
+     *         {@link DXAPIException} or {@link DXHTTPException} if the request fails
+     */
+    public static <T> ListenableFuture<T> gtableNextPartAsync(String objectId, Object inputObject, Class<T> outputClass, DXEnvironment env) {
+        return new DXHTTPRequest(env).requestAsync("/" + objectId + "/" + "nextPart",
+                inputObject, outputClass, RetryStrategy.SAFE_TO_RETRY);
     }
 
     /**
@@ -12526,9 +16643,8 @@ public final class DXAPI {
      *             the response (includes HTTP protocol errors).
      */
     public static <T> T gtableRemoveTags(String objectId, Object inputObject, Class<T> outputClass) {
-        return DXJSON.safeTreeToValue(
-                new DXHTTPRequest().request("/" + objectId + "/" + "removeTags",
-                        mapper.valueToTree(inputObject), RetryStrategy.SAFE_TO_RETRY), outputClass);
+        return new DXHTTPRequest().request("/" + objectId + "/" + "removeTags",
+                inputObject, outputClass, RetryStrategy.SAFE_TO_RETRY);
     }
     /**
      * Invokes the gtableRemoveTags method with an empty input using the given environment, deserializing to an object of the specified class.
@@ -12571,9 +16687,71 @@ public final class DXAPI {
      *             the response (includes HTTP protocol errors).
      */
     public static <T> T gtableRemoveTags(String objectId, Object inputObject, Class<T> outputClass, DXEnvironment env) {
-        return DXJSON.safeTreeToValue(
-            new DXHTTPRequest(env).request("/" + objectId + "/" + "removeTags",
-                    mapper.valueToTree(inputObject), RetryStrategy.SAFE_TO_RETRY), outputClass);
+        return new DXHTTPRequest(env).request("/" + objectId + "/" + "removeTags",
+                inputObject, outputClass, RetryStrategy.SAFE_TO_RETRY);
+    }
+
+    /**
+     * Invokes the gtableRemoveTags method with an empty input without blocking, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Tags#API-method%3A-%2Fclass-xxxx%2FremoveTags">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param outputClass class to deserialize the server reponse to
+     *
+     * @return future that completes with the response object; the future fails with
+     *         {@link DXAPIException} or {@link DXHTTPException} if the request fails
+     */
+    public static <T> ListenableFuture<T> gtableRemoveTagsAsync(String objectId, Class<T> outputClass) {
+        return gtableRemoveTagsAsync(objectId, mapper.createObjectNode(), outputClass);
+    }
+    /**
+     * Invokes the gtableRemoveTags method with the given input without blocking, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Tags#API-method%3A-%2Fclass-xxxx%2FremoveTags">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param inputObject input object (to be JSON serialized to an input hash)
+     * @param outputClass class to deserialize the server reponse to
+     *
+     * @return future that completes with the response object; the future fails with
+     *         {@link DXAPIException} or {@link DXHTTPException} if the request fails
+     */
+    public static <T> ListenableFuture<T> gtableRemoveTagsAsync(String objectId, Object inputObject, Class<T> outputClass) {
+        return new DXHTTPRequest().requestAsync("/" + objectId + "/" + "removeTags",
+                inputObject, outputClass, RetryStrategy.SAFE_TO_RETRY);
+    }
+    /**
+     * Invokes the gtableRemoveTags method with an empty input using the given environment without blocking, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Tags#API-method%3A-%2Fclass-xxxx%2FremoveTags">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param outputClass class to deserialize the server reponse to
+     * @param env environment object specifying the auth token and remote server and protocol
+     *
+     * @return future that completes with the response object; the future fails with
+     *         {@link DXAPIException} or {@link DXHTTPException} if the request fails
+     */
+    public static <T> ListenableFuture<T> gtableRemoveTagsAsync(String objectId, Class<T> outputClass, DXEnvironment env) {
+        return gtableRemoveTagsAsync(objectId, mapper.createObjectNode(), outputClass, env);
+    }
+    /**
+     * Invokes the gtableRemoveTags method with the given input using the given environment without blocking, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Tags#API-method%3A-%2Fclass-xxxx%2FremoveTags">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param inputObject input object (to be JSON serialized to an input hash)
+     * @param outputClass class to deserialize the server reponse to
+     * @param env environment object specifying the auth token and remote server and protocol
+     *
+     * @return future that completes with the response object; the future fails with
+     *         {@link DXAPIException} or {@link DXHTTPException} if the request fails
+     */
+    public static <T> ListenableFuture<T> gtableRemoveTagsAsync(String objectId, Object inputObject, Class<T> outputClass, DXEnvironment env) {
+        return new DXHTTPRequest(env).requestAsync("/" + objectId + "/" + "removeTags",
+                inputObject, outputClass, RetryStrategy.SAFE_TO_RETRY);
     }
 
     /**
@@ -12710,9 +16888,8 @@ public final class DXAPI {
      *             the response (includes HTTP protocol errors).
      */
     public static <T> T gtableRemoveTypes(String objectId, Object inputObject, Class<T> outputClass) {
-        return DXJSON.safeTreeToValue(
-                new DXHTTPRequest().request("/" + objectId + "/" + "removeTypes",
-                        mapper.valueToTree(inputObject), RetryStrategy.SAFE_TO_RETRY), outputClass);
+        return new DXHTTPRequest().request("/" + objectId + "/" + "removeTypes",
+                inputObject, outputClass, RetryStrategy.SAFE_TO_RETRY);
     }
     /**
      * Invokes the gtableRemoveTypes method with an empty input using the given environment, deserializing to an object of the specified class.
@@ -12755,9 +16932,71 @@ public final class DXAPI {
      *             the response (includes HTTP protocol errors).
      */
     public static <T> T gtableRemoveTypes(String objectId, Object inputObject, Class<T> outputClass, DXEnvironment env) {
-        return DXJSON.safeTreeToValue(
-            new DXHTTPRequest(env).request("/" + objectId + "/" + "removeTypes",
-                    mapper.valueToTree(inputObject), RetryStrategy.SAFE_TO_RETRY), outputClass);
+        return new DXHTTPRequest(env).request("/" + objectId + "/" + "removeTypes",
+                inputObject, outputClass, RetryStrategy.SAFE_TO_RETRY);
+    }
+
+    /**
+     * Invokes the gtableRemoveTypes method with an empty input without blocking, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Types#API-method%3A-%2Fclass-xxxx%2FremoveTypes">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param outputClass class to deserialize the server reponse to
+     *
+     * @return future that completes with the response object; the future fails with
+     *         {@link DXAPIException} or {@link DXHTTPException} if the request fails
+     */
+    public static <T> ListenableFuture<T> gtableRemoveTypesAsync(String objectId, Class<T> outputClass) {
+        return gtableRemoveTypesAsync(objectId, mapper.createObjectNode(), outputClass);
+    }
+    /**
+     * Invokes the gtableRemoveTypes method with the given input without blocking, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Types#API-method%3A-%2Fclass-xxxx%2FremoveTypes">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param inputObject input object (to be JSON serialized to an input hash)
+     * @param outputClass class to deserialize the server reponse to
+     *
+     * @return future that completes with the response object; the future fails with
+     *         {@link DXAPIException} or {@link DXHTTPException} if the request fails
+     */
+    public static <T> ListenableFuture<T> gtableRemoveTypesAsync(String objectId, Object inputObject, Class<T> outputClass) {
+        return new DXHTTPRequest().requestAsync("/" + objectId + "/" + "removeTypes",
+                inputObject, outputClass, RetryStrategy.SAFE_TO_RETRY);
+    }
+    /**
+     * Invokes the gtableRemoveTypes method with an empty input using the given environment without blocking, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Types#API-method%3A-%2Fclass-xxxx%2FremoveTypes">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param outputClass class to deserialize the server reponse to
+     * @param env environment object specifying the auth token and remote server and protocol
+     *
+     * @return future that completes with the response object; the future fails with
+     *         {@link DXAPIException} or {@link DXHTTPException} if the request fails
+     */
+    public static <T> ListenableFuture<T> gtableRemoveTypesAsync(String objectId, Class<T> outputClass, DXEnvironment env) {
+        return gtableRemoveTypesAsync(objectId, mapper.createObjectNode(), outputClass, env);
+    }
+    /**
+     * Invokes the gtableRemoveTypes method with the given input using the given environment without blocking, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Types#API-method%3A-%2Fclass-xxxx%2FremoveTypes">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param inputObject input object (to be JSON serialized to an input hash)
+     * @param outputClass class to deserialize the server reponse to
+     * @param env environment object specifying the auth token and remote server and protocol
+     *
+     * @return future that completes with the response object; the future fails with
+     *         {@link DXAPIException} or {@link DXHTTPException} if the request fails
+     */
+    public static <T> ListenableFuture<T> gtableRemoveTypesAsync(String objectId, Object inputObject, Class<T> outputClass, DXEnvironment env) {
+        return new DXHTTPRequest(env).requestAsync("/" + objectId + "/" + "removeTypes",
+                inputObject, outputClass, RetryStrategy.SAFE_TO_RETRY);
     }
 
     /**
@@ -12894,9 +17133,8 @@ public final class DXAPI {
      *             the response (includes HTTP protocol errors).
      */
     public static <T> T gtableRename(String objectId, Object inputObject, Class<T> outputClass) {
-        return DXJSON.safeTreeToValue(
-                new DXHTTPRequest().request("/" + objectId + "/" + "rename",
-                        mapper.valueToTree(inputObject), RetryStrategy.SAFE_TO_RETRY), outputClass);
+        return new DXHTTPRequest().request("/" + objectId + "/" + "rename",
+                inputObject, outputClass, RetryStrategy.SAFE_TO_RETRY);
     }
     /**
      * Invokes the gtableRename method with an empty input using the given environment, deserializing to an object of the specified class.
@@ -12939,9 +17177,71 @@ public final class DXAPI {
      *             the response (includes HTTP protocol errors).
      */
     public static <T> T gtableRename(String objectId, Object inputObject, Class<T> outputClass, DXEnvironment env) {
-        return DXJSON.safeTreeToValue(
-            new DXHTTPRequest(env).request("/" + objectId + "/" + "rename",
-                    mapper.valueToTree(inputObject), RetryStrategy.SAFE_TO_RETRY), outputClass);
+        return new DXHTTPRequest(env).request("/" + objectId + "/" + "rename",
+                inputObject, outputClass, RetryStrategy.SAFE_TO_RETRY);
+    }
+
+    /**
+     * Invokes the gtableRename method with an empty input without blocking, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Name#API-method%3A-%2Fclass-xxxx%2Frename">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param outputClass class to deserialize the server reponse to
+     *
+     * @return future that completes with the response object; the future fails with
+     *         {@link DXAPIException} or {@link DXHTTPException} if the request fails
+     */
+    public static <T> ListenableFuture<T> gtableRenameAsync(String objectId, Class<T> outputClass) {
+        return gtableRenameAsync(objectId, mapper.createObjectNode(), outputClass);
+    }
+    /**
+     * Invokes the gtableRename method with the given input without blocking, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Name#API-method%3A-%2Fclass-xxxx%2Frename">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param inputObject input object (to be JSON serialized to an input hash)
+     * @param outputClass class to deserialize the server reponse to
+     *
+     * @return future that completes with the response object; the future fails with
+     *         {@link DXAPIException} or {@link DXHTTPException} if the request fails
+     */
+    public static <T> ListenableFuture<T> gtableRenameAsync(String objectId, Object inputObject, Class<T> outputClass) {
+        return new DXHTTPRequest().requestAsync("/" + objectId + "/" + "rename",
+                inputObject, outputClass, RetryStrategy.SAFE_TO_RETRY);
+    }
+    /**
+     * Invokes the gtableRename method with an empty input using the given environment without blocking, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Name#API-method%3A-%2Fclass-xxxx%2Frename">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param outputClass class to deserialize the server reponse to
+     * @param env environment object specifying the auth token and remote server and protocol
+     *
+     * @return future that completes with the response object; the future fails with
+     *         {@link DXAPIException} or {@link DXHTTPException} if the request fails
+     */
+    public static <T> ListenableFuture<T> gtableRenameAsync(String objectId, Class<T> outputClass, DXEnvironment env) {
+        return gtableRenameAsync(objectId, mapper.createObjectNode(), outputClass, env);
+    }
+    /**
+     * Invokes the gtableRename method with the given input using the given environment without blocking, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Name#API-method%3A-%2Fclass-xxxx%2Frename">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param inputObject input object (to be JSON serialized to an input hash)
+     * @param outputClass class to deserialize the server reponse to
+     * @param env environment object specifying the auth token and remote server and protocol
+     *
+     * @return future that completes with the response object; the future fails with
+     *         {@link DXAPIException} or {@link DXHTTPException} if the request fails
+     */
+    public static <T> ListenableFuture<T> gtableRenameAsync(String objectId, Object inputObject, Class<T> outputClass, DXEnvironment env) {
+        return new DXHTTPRequest(env).requestAsync("/" + objectId + "/" + "rename",
+                inputObject, outputClass, RetryStrategy.SAFE_TO_RETRY);
     }
 
     /**
@@ -13078,9 +17378,8 @@ public final class DXAPI {
      *             the response (includes HTTP protocol errors).
      */
     public static <T> T gtableSetDetails(String objectId, Object inputObject, Class<T> outputClass) {
-        return DXJSON.safeTreeToValue(
-                new DXHTTPRequest().request("/" + objectId + "/" + "setDetails",
-                        mapper.valueToTree(inputObject), RetryStrategy.SAFE_TO_RETRY), outputClass);
+        return new DXHTTPRequest().request("/" + objectId + "/" + "setDetails",
+                inputObject, outputClass, RetryStrategy.SAFE_TO_RETRY);
     }
     /**
      * Invokes the gtableSetDetails method with an empty input using the given environment, deserializing to an object of the specified class.
@@ -13123,9 +17422,71 @@ public final class DXAPI {
      *             the response (includes HTTP protocol errors).
      */
     public static <T> T gtableSetDetails(String objectId, Object inputObject, Class<T> outputClass, DXEnvironment env) {
-        return DXJSON.safeTreeToValue(
-            new DXHTTPRequest(env).request("/" + objectId + "/" + "setDetails",
-                    mapper.valueToTree(inputObject), RetryStrategy.SAFE_TO_RETRY), outputClass);
+        return new DXHTTPRequest(env).request("/" + objectId + "/" + "setDetails",
+                inputObject, outputClass, RetryStrategy.SAFE_TO_RETRY);
+    }
+
+    /**
+     * Invokes the gtableSetDetails method with an empty input without blocking, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Details-and-Links#API-method%3A-%2Fclass-xxxx%2FsetDetails">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param outputClass class to deserialize the server reponse to
+     *
+     * @return future that completes with the response object; the future fails with
+     *         {@link DXAPIException} or {@link DXHTTPException} if the request fails
+     */
+    public static <T> ListenableFuture<T> gtableSetDetailsAsync(String objectId, Class<T> outputClass) {
+        return gtableSetDetailsAsync(objectId, mapper.createObjectNode(), outputClass);
+    }
+    /**
+     * Invokes the gtableSetDetails method with the given input without blocking, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Details-and-Links#API-method%3A-%2Fclass-xxxx%2FsetDetails">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param inputObject input object (to be JSON serialized to an input hash)
+     * @param outputClass class to deserialize the server reponse to
+     *
+     * @return future that completes with the response object; the future fails with
+     *         {@link DXAPIException} or {@link DXHTTPException} if the request fails
+     */
+    public static <T> ListenableFuture<T> gtableSetDetailsAsync(String objectId, Object inputObject, Class<T> outputClass) {
+        return new DXHTTPRequest().requestAsync("/" + objectId + "/" + "setDetails",
+                inputObject, outputClass, RetryStrategy.SAFE_TO_RETRY);
+    }
+    /**
+     * Invokes the gtableSetDetails method with an empty input using the given environment without blocking, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Details-and-Links#API-method%3A-%2Fclass-xxxx%2FsetDetails">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param outputClass class to deserialize the server reponse to
+     * @param env environment object specifying the auth token and remote server and protocol
+     *
+     * @return future that completes with the response object; the future fails with
+     *         {@link DXAPIException} or {@link DXHTTPException} if the request fails
+     */
+    public static <T> ListenableFuture<T> gtableSetDetailsAsync(String objectId, Class<T> outputClass, DXEnvironment env) {
+        return gtableSetDetailsAsync(objectId, mapper.createObjectNode(), outputClass, env);
+    }
+    /**
+     * Invokes the gtableSetDetails method with the given input using the given environment without blocking, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Details-and-Links#API-method%3A-%2Fclass-xxxx%2FsetDetails">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param inputObject input object (to be JSON serialized to an input hash)
+     * @param outputClass class to deserialize the server reponse to
+     * @param env environment object specifying the auth token and remote server and protocol
+     *
+     * @return future that completes with the response object; the future fails with
+     *         {@link DXAPIException} or {@link DXHTTPException} if the request fails
+     */
+    public static <T> ListenableFuture<T> gtableSetDetailsAsync(String objectId, Object inputObject, Class<T> outputClass, DXEnvironment env) {
+        return new DXHTTPRequest(env).requestAsync("/" + objectId + "/" + "setDetails",
+                inputObject, outputClass, RetryStrategy.SAFE_TO_RETRY);
     }
 
     /**
@@ -13262,9 +17623,8 @@ public final class DXAPI {
      *             the response (includes HTTP protocol errors).
      */
     public static <T> T gtableSetProperties(String objectId, Object inputObject, Class<T> outputClass) {
-        return DXJSON.safeTreeToValue(
-                new DXHTTPRequest().request("/" + objectId + "/" + "setProperties",
-                        mapper.valueToTree(inputObject), RetryStrategy.SAFE_TO_RETRY), outputClass);
+        return new DXHTTPRequest().request("/" + objectId + "/" + "setProperties",
+                inputObject, outputClass, RetryStrategy.SAFE_TO_RETRY);
     }
     /**
      * Invokes the gtableSetProperties method with an empty input using the given environment, deserializing to an object of the specified class.
@@ -13307,24 +17667,86 @@ public final class DXAPI {
      *             the response (includes HTTP protocol errors).
      */
     public static <T> T gtableSetProperties(String objectId, Object inputObject, Class<T> outputClass, DXEnvironment env) {
-        return DXJSON.safeTreeToValue(
-            new DXHTTPRequest(env).request("/" + objectId + "/" + "setProperties",
-                    mapper.valueToTree(inputObject), RetryStrategy.SAFE_TO_RETRY), outputClass);
+        return new DXHTTPRequest(env).request("/" + objectId + "/" + "setProperties",
+                inputObject, outputClass, RetryStrategy.SAFE_TO_RETRY);
     }
 
     /**
-     * Invokes the gtableSetProperties method.
+     * Invokes the gtableSetProperties method with an empty input without blocking, deserializing to an object of the specified class.
      *
      * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Properties#API-method%3A-%2Fclass-xxxx%2FsetProperties">API specification</a>.
      *
      * @param objectId ID of the object to operate on
+     * @param outputClass class to deserialize the server reponse to
      *
-     * @return Server response parsed from JSON
+     * @return future that completes with the response object; the future fails with
+     *         {@link DXAPIException} or {@link DXHTTPException} if the request fails
+     */
+    public static <T> ListenableFuture<T> gtableSetPropertiesAsync(String objectId, Class<T> outputClass) {
+        return gtableSetPropertiesAsync(objectId, mapper.createObjectNode(), outputClass);
+    }
+    /**
+     * Invokes the gtableSetProperties method with the given input without blocking, deserializing to an object of the specified class.
      *
-     * @throws DXAPIException
-     *             If the server returns a complete response with an HTTP status
-     *             code other than 200 (OK).
-     * @throws DXHTTPException
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Properties#API-method%3A-%2Fclass-xxxx%2FsetProperties">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param inputObject input object (to be JSON serialized to an input hash)
+     * @param outputClass class to deserialize the server reponse to
+     *
+     * @return future that completes with the response object; the future fails with
+     *         {@link DXAPIException} or {@link DXHTTPException} if the request fails
+     */
+    public static <T> ListenableFuture<T> gtableSetPropertiesAsync(String objectId, Object inputObject, Class<T> outputClass) {
+        return new DXHTTPRequest().requestAsync("/" + objectId + "/" + "setProperties",
+                inputObject, outputClass, RetryStrategy.SAFE_TO_RETRY);
+    }
+    /**
+     * Invokes the gtableSetProperties method with an empty input using the given environment without blocking, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Properties#API-method%3A-%2Fclass-xxxx%2FsetProperties">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param outputClass class to deserialize the server reponse to
+     * @param env environment object specifying the auth token and remote server and protocol
+     *
+     * @return future that completes with the response object; the future fails with
+     *         {@link DXAPIException} or {@link DXHTTPException} if the request fails
+     */
+    public static <T> ListenableFuture<T> gtableSetPropertiesAsync(String objectId, Class<T> outputClass, DXEnvironment env) {
+        return gtableSetPropertiesAsync(objectId, mapper.createObjectNode(), outputClass, env);
+    }
+    /**
+     * Invokes the gtableSetProperties method with the given input using the given environment without blocking, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Properties#API-method%3A-%2Fclass-xxxx%2FsetProperties">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param inputObject input object (to be JSON serialized to an input hash)
+     * @param outputClass class to deserialize the server reponse to
+     * @param env environment object specifying the auth token and remote server and protocol
+     *
+     * @return future that completes with the response object; the future fails with
+     *         {@link DXAPIException} or {@link DXHTTPException} if the request fails
+     */
+    public static <T> ListenableFuture<T> gtableSetPropertiesAsync(String objectId, Object inputObject, Class<T> outputClass, DXEnvironment env) {
+        return new DXHTTPRequest(env).requestAsync("/" + objectId + "/" + "setProperties",
+                inputObject, outputClass, RetryStrategy.SAFE_TO_RETRY);
+    }
+
+    /**
+     * Invokes the gtableSetProperties method.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Properties#API-method%3A-%2Fclass-xxxx%2FsetProperties">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     *
+     * @return Server response parsed from JSON
+     *
+     * @throws DXAPIException
+     *             If the server returns a complete response with an HTTP status
+     *             code other than 200 (OK).
+     * @throws DXHTTPException
      *             If an error occurs while making the HTTP request or obtaining
      *             the response (includes HTTP protocol errors).
      *
@@ -13446,9 +17868,8 @@ public final class DXAPI {
      *             the response (includes HTTP protocol errors).
      */
     public static <T> T gtableSetVisibility(String objectId, Object inputObject, Class<T> outputClass) {
-        return DXJSON.safeTreeToValue(
-                new DXHTTPRequest().request("/" + objectId + "/" + "setVisibility",
-                        mapper.valueToTree(inputObject), RetryStrategy.SAFE_TO_RETRY), outputClass);
+        return new DXHTTPRequest().request("/" + objectId + "/" + "setVisibility",
+                inputObject, outputClass, RetryStrategy.SAFE_TO_RETRY);
     }
     /**
      * Invokes the gtableSetVisibility method with an empty input using the given environment, deserializing to an object of the specified class.
@@ -13491,9 +17912,71 @@ public final class DXAPI {
      *             the response (includes HTTP protocol errors).
      */
     public static <T> T gtableSetVisibility(String objectId, Object inputObject, Class<T> outputClass, DXEnvironment env) {
-        return DXJSON.safeTreeToValue(
-            new DXHTTPRequest(env).request("/" + objectId + "/" + "setVisibility",
-                    mapper.valueToTree(inputObject), RetryStrategy.SAFE_TO_RETRY), outputClass);
+        return new DXHTTPRequest(env).request("/" + objectId + "/" + "setVisibility",
+                inputObject, outputClass, RetryStrategy.SAFE_TO_RETRY);
+    }
+
+    /**
+     * Invokes the gtableSetVisibility method with an empty input without blocking, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Visibility#API-method%3A-%2Fclass-xxxx%2FsetVisibility">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param outputClass class to deserialize the server reponse to
+     *
+     * @return future that completes with the response object; the future fails with
+     *         {@link DXAPIException} or {@link DXHTTPException} if the request fails
+     */
+    public static <T> ListenableFuture<T> gtableSetVisibilityAsync(String objectId, Class<T> outputClass) {
+        return gtableSetVisibilityAsync(objectId, mapper.createObjectNode(), outputClass);
+    }
+    /**
+     * Invokes the gtableSetVisibility method with the given input without blocking, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Visibility#API-method%3A-%2Fclass-xxxx%2FsetVisibility">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param inputObject input object (to be JSON serialized to an input hash)
+     * @param outputClass class to deserialize the server reponse to
+     *
+     * @return future that completes with the response object; the future fails with
+     *         {@link DXAPIException} or {@link DXHTTPException} if the request fails
+     */
+    public static <T> ListenableFuture<T> gtableSetVisibilityAsync(String objectId, Object inputObject, Class<T> outputClass) {
+        return new DXHTTPRequest().requestAsync("/" + objectId + "/" + "setVisibility",
+                inputObject, outputClass, RetryStrategy.SAFE_TO_RETRY);
+    }
+    /**
+     * Invokes the gtableSetVisibility method with an empty input using the given environment without blocking, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Visibility#API-method%3A-%2Fclass-xxxx%2FsetVisibility">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param outputClass class to deserialize the server reponse to
+     * @param env environment object specifying the auth token and remote server and protocol
+     *
+     * @return future that completes with the response object; the future fails with
+     *         {@link DXAPIException} or {@link DXHTTPException} if the request fails
+     */
+    public static <T> ListenableFuture<T> gtableSetVisibilityAsync(String objectId, Class<T> outputClass, DXEnvironment env) {
+        return gtableSetVisibilityAsync(objectId, mapper.createObjectNode(), outputClass, env);
+    }
+    /**
+     * Invokes the gtableSetVisibility method with the given input using the given environment without blocking, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Visibility#API-method%3A-%2Fclass-xxxx%2FsetVisibility">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param inputObject input object (to be JSON serialized to an input hash)
+     * @param outputClass class to deserialize the server reponse to
+     * @param env environment object specifying the auth token and remote server and protocol
+     *
+     * @return future that completes with the response object; the future fails with
+     *         {@link DXAPIException} or {@link DXHTTPException} if the request fails
+     */
+    public static <T> ListenableFuture<T> gtableSetVisibilityAsync(String objectId, Object inputObject, Class<T> outputClass, DXEnvironment env) {
+        return new DXHTTPRequest(env).requestAsync("/" + objectId + "/" + "setVisibility",
+                inputObject, outputClass, RetryStrategy.SAFE_TO_RETRY);
     }
 
     /**
@@ -13648,9 +18131,7 @@ public final class DXAPI {
      *             the response (includes HTTP protocol errors).
      */
     public static <T> T gtableNew(Object inputObject, Class<T> outputClass) {
-        return DXJSON.safeTreeToValue(
-                new DXHTTPRequest().request("/gtable/new", mapper.valueToTree(inputObject), RetryStrategy.UNSAFE_TO_RETRY),
-                outputClass);
+        return new DXHTTPRequest().request("/gtable/new", inputObject, outputClass, RetryStrategy.UNSAFE_TO_RETRY);
     }
     /**
      * Invokes the gtableNew method with the specified input using the specified environment, deserializing to an object of the specified class.
@@ -13671,9 +18152,64 @@ public final class DXAPI {
      *             the response (includes HTTP protocol errors).
      */
     public static <T> T gtableNew(Object inputObject, Class<T> outputClass, DXEnvironment env) {
-        return DXJSON.safeTreeToValue(
-                new DXHTTPRequest(env).request("/gtable/new", mapper.valueToTree(inputObject), RetryStrategy.UNSAFE_TO_RETRY),
-                outputClass);
+        return new DXHTTPRequest(env).request("/gtable/new", inputObject, outputClass, RetryStrategy.UNSAFE_TO_RETRY);
+    }
+
+    /**
+     * Invokes the gtableNew method with an empty input without blocking, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/GenomicTables#API-method%3A-%2Fgtable%2Fnew">API specification</a>.
+     *
+     * @param outputClass class to deserialize the server reponse to
+     *
+     * @return future that completes with the server response parsed from JSON; the future fails
+     *         with {@link DXAPIException} or {@link DXHTTPException} if the request fails
+     */
+    public static <T> ListenableFuture<T> gtableNewAsync(Class<T> outputClass) {
+        return gtableNewAsync(mapper.createObjectNode(), outputClass);
+    }
+    /**
+     * Invokes the gtableNew method with an empty input using the specified environment without blocking, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/GenomicTables#API-method%3A-%2Fgtable%2Fnew">API specification</a>.
+     *
+     * @param outputClass class to deserialize the server reponse to
+     * @param env environment object specifying the auth token and remote server and protocol
+     *
+     * @return future that completes with the server response parsed from JSON; the future fails
+     *         with {@link DXAPIException} or {@link DXHTTPException} if the request fails
+     */
+    public static <T> ListenableFuture<T> gtableNewAsync(Class<T> outputClass, DXEnvironment env) {
+        return gtableNewAsync(mapper.createObjectNode(), outputClass, env);
+    }
+    /**
+     * Invokes the gtableNew method with the specified input without blocking, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/GenomicTables#API-method%3A-%2Fgtable%2Fnew">API specification</a>.
+     *
+     * @param inputObject input object (to be JSON serialized to an input hash)
+     * @param outputClass class to deserialize the server reponse to
+     *
+     * @return future that completes with the server response parsed from JSON; the future fails
+     *         with {@link DXAPIException} or {@link DXHTTPException} if the request fails
+     */
+    public static <T> ListenableFuture<T> gtableNewAsync(Object inputObject, Class<T> outputClass) {
+        return new DXHTTPRequest().requestAsync("/gtable/new", inputObject, outputClass, RetryStrategy.UNSAFE_TO_RETRY);
+    }
+    /**
+     * Invokes the gtableNew method with the specified input using the specified environment without blocking, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/GenomicTables#API-method%3A-%2Fgtable%2Fnew">API specification</a>.
+     *
+     * @param inputObject input object (to be JSON serialized to an input hash)
+     * @param outputClass class to deserialize the server reponse to
+     * @param env environment object specifying the auth token and remote server and protocol
+     *
+     * @return future that completes with the server response parsed from JSON; the future fails
+     *         with {@link DXAPIException} or {@link DXHTTPException} if the request fails
+     */
+    public static <T> ListenableFuture<T> gtableNewAsync(Object inputObject, Class<T> outputClass, DXEnvironment env) {
+        return new DXHTTPRequest(env).requestAsync("/gtable/new", inputObject, outputClass, RetryStrategy.UNSAFE_TO_RETRY);
     }
 
     /**
@@ -13803,9 +18339,8 @@ public final class DXAPI {
      *             the response (includes HTTP protocol errors).
      */
     public static <T> T jobAddTags(String objectId, Object inputObject, Class<T> outputClass) {
-        return DXJSON.safeTreeToValue(
-                new DXHTTPRequest().request("/" + objectId + "/" + "addTags",
-                        mapper.valueToTree(inputObject), RetryStrategy.SAFE_TO_RETRY), outputClass);
+        return new DXHTTPRequest().request("/" + objectId + "/" + "addTags",
+                inputObject, outputClass, RetryStrategy.SAFE_TO_RETRY);
     }
     /**
      * Invokes the jobAddTags method with an empty input using the given environment, deserializing to an object of the specified class.
@@ -13848,9 +18383,71 @@ public final class DXAPI {
      *             the response (includes HTTP protocol errors).
      */
     public static <T> T jobAddTags(String objectId, Object inputObject, Class<T> outputClass, DXEnvironment env) {
-        return DXJSON.safeTreeToValue(
-            new DXHTTPRequest(env).request("/" + objectId + "/" + "addTags",
-                    mapper.valueToTree(inputObject), RetryStrategy.SAFE_TO_RETRY), outputClass);
+        return new DXHTTPRequest(env).request("/" + objectId + "/" + "addTags",
+                inputObject, outputClass, RetryStrategy.SAFE_TO_RETRY);
+    }
+
+    /**
+     * Invokes the jobAddTags method with an empty input without blocking, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Applets-and-Entry-Points#API-method%3A-%2Fjob-xxxx%2FaddTags">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param outputClass class to deserialize the server reponse to
+     *
+     * @return future that completes with the response object; the future fails with
+     *         {@link DXAPIException} or {@link DXHTTPException} if the request fails
+     */
+    public static <T> ListenableFuture<T> jobAddTagsAsync(String objectId, Class<T> outputClass) {
+        return jobAddTagsAsync(objectId, mapper.createObjectNode(), outputClass);
+    }
+    /**
+     * Invokes the jobAddTags method with the given input without blocking, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Applets-and-Entry-Points#API-method%3A-%2Fjob-xxxx%2FaddTags">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param inputObject input object (to be JSON serialized to an input hash)
+     * @param outputClass class to deserialize the server reponse to
+     *
+     * @return future that completes with the response object; the future fails with
+     *         {@link DXAPIException} or {@link DXHTTPException} if the request fails
+     */
+    public static <T> ListenableFuture<T> jobAddTagsAsync(String objectId, Object inputObject, Class<T> outputClass) {
+        return new DXHTTPRequest().requestAsync("/" + objectId + "/" + "addTags",
+                inputObject, outputClass, RetryStrategy.SAFE_TO_RETRY);
+    }
+    /**
+     * Invokes the jobAddTags method with an empty input using the given environment without blocking, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Applets-and-Entry-Points#API-method%3A-%2Fjob-xxxx%2FaddTags">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param outputClass class to deserialize the server reponse to
+     * @param env environment object specifying the auth token and remote server and protocol
+     *
+     * @return future that completes with the response object; the future fails with
+     *         {@link DXAPIException} or {@link DXHTTPException} if the request fails
+     */
+    public static <T> ListenableFuture<T> jobAddTagsAsync(String objectId, Class<T> outputClass, DXEnvironment env) {
+        return jobAddTagsAsync(objectId, mapper.createObjectNode(), outputClass, env);
+    }
+    /**
+     * Invokes the jobAddTags method with the given input using the given environment without blocking, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Applets-and-Entry-Points#API-method%3A-%2Fjob-xxxx%2FaddTags">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param inputObject input object (to be JSON serialized to an input hash)
+     * @param outputClass class to deserialize the server reponse to
+     * @param env environment object specifying the auth token and remote server and protocol
+     *
+     * @return future that completes with the response object; the future fails with
+     *         {@link DXAPIException} or {@link DXHTTPException} if the request fails
+     */
+    public static <T> ListenableFuture<T> jobAddTagsAsync(String objectId, Object inputObject, Class<T> outputClass, DXEnvironment env) {
+        return new DXHTTPRequest(env).requestAsync("/" + objectId + "/" + "addTags",
+                inputObject, outputClass, RetryStrategy.SAFE_TO_RETRY);
     }
 
     /**
@@ -13987,9 +18584,8 @@ public final class DXAPI {
      *             the response (includes HTTP protocol errors).
      */
     public static <T> T jobDescribe(String objectId, Object inputObject, Class<T> outputClass) {
-        return DXJSON.safeTreeToValue(
-                new DXHTTPRequest().request("/" + objectId + "/" + "describe",
-                        mapper.valueToTree(inputObject), RetryStrategy.SAFE_TO_RETRY), outputClass);
+        return new DXHTTPRequest().request("/" + objectId + "/" + "describe",
+                inputObject, outputClass, RetryStrategy.SAFE_TO_RETRY);
     }
     /**
      * Invokes the jobDescribe method with an empty input using the given environment, deserializing to an object of the specified class.
@@ -14032,9 +18628,71 @@ public final class DXAPI {
      *             the response (includes HTTP protocol errors).
      */
     public static <T> T jobDescribe(String objectId, Object inputObject, Class<T> outputClass, DXEnvironment env) {
-        return DXJSON.safeTreeToValue(
-            new DXHTTPRequest(env).request("/" + objectId + "/" + "describe",
-                    mapper.valueToTree(inputObject), RetryStrategy.SAFE_TO_RETRY), outputClass);
+        return new DXHTTPRequest(env).request("/" + objectId + "/" + "describe",
+                inputObject, outputClass, RetryStrategy.SAFE_TO_RETRY);
+    }
+
+    /**
+     * Invokes the jobDescribe method with an empty input without blocking, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Applets-and-Entry-Points#API-method%3A-%2Fjob-xxxx%2Fdescribe">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param outputClass class to deserialize the server reponse to
+     *
+     * @return future that completes with the response object; the future fails with
+     *         {@link DXAPIException} or {@link DXHTTPException} if the request fails
+     */
+    public static <T> ListenableFuture<T> jobDescribeAsync(String objectId, Class<T> outputClass) {
+        return jobDescribeAsync(objectId, mapper.createObjectNode(), outputClass);
+    }
+    /**
+     * Invokes the jobDescribe method with the given input without blocking, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Applets-and-Entry-Points#API-method%3A-%2Fjob-xxxx%2Fdescribe">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param inputObject input object (to be JSON serialized to an input hash)
+     * @param outputClass class to deserialize the server reponse to
+     *
+     * @return future that completes with the response object; the future fails with
+     *         {@link DXAPIException} or {@link DXHTTPException} if the request fails
+     */
+    public static <T> ListenableFuture<T> jobDescribeAsync(String objectId, Object inputObject, Class<T> outputClass) {
+        return new DXHTTPRequest().requestAsync("/" + objectId + "/" + "describe",
+                inputObject, outputClass, RetryStrategy.SAFE_TO_RETRY);
+    }
+    /**
+     * Invokes the jobDescribe method with an empty input using the given environment without blocking, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Applets-and-Entry-Points#API-method%3A-%2Fjob-xxxx%2Fdescribe">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param outputClass class to deserialize the server reponse to
+     * @param env environment object specifying the auth token and remote server and protocol
+     *
+     * @return future that completes with the response object; the future fails with
+     *         {@link DXAPIException} or {@link DXHTTPException} if the request fails
+     */
+    public static <T> ListenableFuture<T> jobDescribeAsync(String objectId, Class<T> outputClass, DXEnvironment env) {
+        return jobDescribeAsync(objectId, mapper.createObjectNode(), outputClass, env);
+    }
+    /**
+     * Invokes the jobDescribe method with the given input using the given environment without blocking, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Applets-and-Entry-Points#API-method%3A-%2Fjob-xxxx%2Fdescribe">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param inputObject input object (to be JSON serialized to an input hash)
+     * @param outputClass class to deserialize the server reponse to
+     * @param env environment object specifying the auth token and remote server and protocol
+     *
+     * @return future that completes with the response object; the future fails with
+     *         {@link DXAPIException} or {@link DXHTTPException} if the request fails
+     */
+    public static <T> ListenableFuture<T> jobDescribeAsync(String objectId, Object inputObject, Class<T> outputClass, DXEnvironment env) {
+        return new DXHTTPRequest(env).requestAsync("/" + objectId + "/" + "describe",
+                inputObject, outputClass, RetryStrategy.SAFE_TO_RETRY);
     }
 
     /**
@@ -14171,9 +18829,8 @@ public final class DXAPI {
      *             the response (includes HTTP protocol errors).
      */
     public static <T> T jobGetLog(String objectId, Object inputObject, Class<T> outputClass) {
-        return DXJSON.safeTreeToValue(
-                new DXHTTPRequest().request("/" + objectId + "/" + "getLog",
-                        mapper.valueToTree(inputObject), RetryStrategy.UNSAFE_TO_RETRY), outputClass);
+        return new DXHTTPRequest().request("/" + objectId + "/" + "getLog",
+                inputObject, outputClass, RetryStrategy.UNSAFE_TO_RETRY);
     }
     /**
      * Invokes the jobGetLog method with an empty input using the given environment, deserializing to an object of the specified class.
@@ -14216,9 +18873,71 @@ public final class DXAPI {
      *             the response (includes HTTP protocol errors).
      */
     public static <T> T jobGetLog(String objectId, Object inputObject, Class<T> outputClass, DXEnvironment env) {
-        return DXJSON.safeTreeToValue(
-            new DXHTTPRequest(env).request("/" + objectId + "/" + "getLog",
-                    mapper.valueToTree(inputObject), RetryStrategy.UNSAFE_TO_RETRY), outputClass);
+        return new DXHTTPRequest(env).request("/" + objectId + "/" + "getLog",
+                inputObject, outputClass, RetryStrategy.UNSAFE_TO_RETRY);
+    }
+
+    /**
+     * Invokes the jobGetLog method with an empty input without blocking, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Applets-and-Entry-Points#API-method%3A-%2Fjob-xxxx%2FgetLog">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param outputClass class to deserialize the server reponse to
+     *
+     * @return future that completes with the response object; the future fails with
+     *         {@link DXAPIException} or {@link DXHTTPException} if the request fails
+     */
+    public static <T> ListenableFuture<T> jobGetLogAsync(String objectId, Class<T> outputClass) {
+        return jobGetLogAsync(objectId, mapper.createObjectNode(), outputClass);
+    }
+    /**
+     * Invokes the jobGetLog method with the given input without blocking, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Applets-and-Entry-Points#API-method%3A-%2Fjob-xxxx%2FgetLog">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param inputObject input object (to be JSON serialized to an input hash)
+     * @param outputClass class to deserialize the server reponse to
+     *
+     * @return future that completes with the response object; the future fails with
+     *         {@link DXAPIException} or {@link DXHTTPException} if the request fails
+     */
+    public static <T> ListenableFuture<T> jobGetLogAsync(String objectId, Object inputObject, Class<T> outputClass) {
+        return new DXHTTPRequest().requestAsync("/" + objectId + "/" + "getLog",
+                inputObject, outputClass, RetryStrategy.UNSAFE_TO_RETRY);
+    }
+    /**
+     * Invokes the jobGetLog method with an empty input using the given environment without blocking, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Applets-and-Entry-Points#API-method%3A-%2Fjob-xxxx%2FgetLog">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param outputClass class to deserialize the server reponse to
+     * @param env environment object specifying the auth token and remote server and protocol
+     *
+     * @return future that completes with the response object; the future fails with
+     *         {@link DXAPIException} or {@link DXHTTPException} if the request fails
+     */
+    public static <T> ListenableFuture<T> jobGetLogAsync(String objectId, Class<T> outputClass, DXEnvironment env) {
+        return jobGetLogAsync(objectId, mapper.createObjectNode(), outputClass, env);
+    }
+    /**
+     * Invokes the jobGetLog method with the given input using the given environment without blocking, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Applets-and-Entry-Points#API-method%3A-%2Fjob-xxxx%2FgetLog">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param inputObject input object (to be JSON serialized to an input hash)
+     * @param outputClass class to deserialize the server reponse to
+     * @param env environment object specifying the auth token and remote server and protocol
+     *
+     * @return future that completes with the response object; the future fails with
+     *         {@link DXAPIException} or {@link DXHTTPException} if the request fails
+     */
+    public static <T> ListenableFuture<T> jobGetLogAsync(String objectId, Object inputObject, Class<T> outputClass, DXEnvironment env) {
+        return new DXHTTPRequest(env).requestAsync("/" + objectId + "/" + "getLog",
+                inputObject, outputClass, RetryStrategy.UNSAFE_TO_RETRY);
     }
 
     /**
@@ -14355,9 +19074,8 @@ public final class DXAPI {
      *             the response (includes HTTP protocol errors).
      */
     public static <T> T jobRemoveTags(String objectId, Object inputObject, Class<T> outputClass) {
-        return DXJSON.safeTreeToValue(
-                new DXHTTPRequest().request("/" + objectId + "/" + "removeTags",
-                        mapper.valueToTree(inputObject), RetryStrategy.SAFE_TO_RETRY), outputClass);
+        return new DXHTTPRequest().request("/" + objectId + "/" + "removeTags",
+                inputObject, outputClass, RetryStrategy.SAFE_TO_RETRY);
     }
     /**
      * Invokes the jobRemoveTags method with an empty input using the given environment, deserializing to an object of the specified class.
@@ -14400,28 +19118,90 @@ public final class DXAPI {
      *             the response (includes HTTP protocol errors).
      */
     public static <T> T jobRemoveTags(String objectId, Object inputObject, Class<T> outputClass, DXEnvironment env) {
-        return DXJSON.safeTreeToValue(
-            new DXHTTPRequest(env).request("/" + objectId + "/" + "removeTags",
-                    mapper.valueToTree(inputObject), RetryStrategy.SAFE_TO_RETRY), outputClass);
+        return new DXHTTPRequest(env).request("/" + objectId + "/" + "removeTags",
+                inputObject, outputClass, RetryStrategy.SAFE_TO_RETRY);
     }
 
     /**
-     * Invokes the jobRemoveTags method.
+     * Invokes the jobRemoveTags method with an empty input without blocking, deserializing to an object of the specified class.
      *
      * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Applets-and-Entry-Points#API-method%3A-%2Fjob-xxxx%2FremoveTags">API specification</a>.
      *
      * @param objectId ID of the object to operate on
+     * @param outputClass class to deserialize the server reponse to
      *
-     * @return Server response parsed from JSON
-     *
-     * @throws DXAPIException
-     *             If the server returns a complete response with an HTTP status
-     *             code other than 200 (OK).
-     * @throws DXHTTPException
-     *             If an error occurs while making the HTTP request or obtaining
-     *             the response (includes HTTP protocol errors).
-     *
-     * @deprecated Use {@link #jobRemoveTags(String, Class)} instead and supply your own class to deserialize to.
+     * @return future that completes with the response object; the future fails with
+     *         {@link DXAPIException} or {@link DXHTTPException} if the request fails
+     */
+    public static <T> ListenableFuture<T> jobRemoveTagsAsync(String objectId, Class<T> outputClass) {
+        return jobRemoveTagsAsync(objectId, mapper.createObjectNode(), outputClass);
+    }
+    /**
+     * Invokes the jobRemoveTags method with the given input without blocking, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Applets-and-Entry-Points#API-method%3A-%2Fjob-xxxx%2FremoveTags">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param inputObject input object (to be JSON serialized to an input hash)
+     * @param outputClass class to deserialize the server reponse to
+     *
+     * @return future that completes with the response object; the future fails with
+     *         {@link DXAPIException} or {@link DXHTTPException} if the request fails
+     */
+    public static <T> ListenableFuture<T> jobRemoveTagsAsync(String objectId, Object inputObject, Class<T> outputClass) {
+        return new DXHTTPRequest().requestAsync("/" + objectId + "/" + "removeTags",
+                inputObject, outputClass, RetryStrategy.SAFE_TO_RETRY);
+    }
+    /**
+     * Invokes the jobRemoveTags method with an empty input using the given environment without blocking, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Applets-and-Entry-Points#API-method%3A-%2Fjob-xxxx%2FremoveTags">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param outputClass class to deserialize the server reponse to
+     * @param env environment object specifying the auth token and remote server and protocol
+     *
+     * @return future that completes with the response object; the future fails with
+     *         {@link DXAPIException} or {@link DXHTTPException} if the request fails
+     */
+    public static <T> ListenableFuture<T> jobRemoveTagsAsync(String objectId, Class<T> outputClass, DXEnvironment env) {
+        return jobRemoveTagsAsync(objectId, mapper.createObjectNode(), outputClass, env);
+    }
+    /**
+     * Invokes the jobRemoveTags method with the given input using the given environment without blocking, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Applets-and-Entry-Points#API-method%3A-%2Fjob-xxxx%2FremoveTags">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param inputObject input object (to be JSON serialized to an input hash)
+     * @param outputClass class to deserialize the server reponse to
+     * @param env environment object specifying the auth token and remote server and protocol
+     *
+     * @return future that completes with the response object; the future fails with
+     *         {@link DXAPIException} or {@link DXHTTPException} if the request fails
+     */
+    public static <T> ListenableFuture<T> jobRemoveTagsAsync(String objectId, Object inputObject, Class<T> outputClass, DXEnvironment env) {
+        return new DXHTTPRequest(env).requestAsync("/" + objectId + "/" + "removeTags",
+                inputObject, outputClass, RetryStrategy.SAFE_TO_RETRY);
+    }
+
+    /**
+     * Invokes the jobRemoveTags method.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Applets-and-Entry-Points#API-method%3A-%2Fjob-xxxx%2FremoveTags">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     *
+     * @return Server response parsed from JSON
+     *
+     * @throws DXAPIException
+     *             If the server returns a complete response with an HTTP status
+     *             code other than 200 (OK).
+     * @throws DXHTTPException
+     *             If an error occurs while making the HTTP request or obtaining
+     *             the response (includes HTTP protocol errors).
+     *
+     * @deprecated Use {@link #jobRemoveTags(String, Class)} instead and supply your own class to deserialize to.
      */
     @Deprecated
     public static JsonNode jobRemoveTags(String objectId) {
@@ -14539,9 +19319,8 @@ public final class DXAPI {
      *             the response (includes HTTP protocol errors).
      */
     public static <T> T jobSetProperties(String objectId, Object inputObject, Class<T> outputClass) {
-        return DXJSON.safeTreeToValue(
-                new DXHTTPRequest().request("/" + objectId + "/" + "setProperties",
-                        mapper.valueToTree(inputObject), RetryStrategy.SAFE_TO_RETRY), outputClass);
+        return new DXHTTPRequest().request("/" + objectId + "/" + "setProperties",
+                inputObject, outputClass, RetryStrategy.SAFE_TO_RETRY);
     }
     /**
      * Invokes the jobSetProperties method with an empty input using the given environment, deserializing to an object of the specified class.
@@ -14584,9 +19363,71 @@ public final class DXAPI {
      *             the response (includes HTTP protocol errors).
      */
     public static <T> T jobSetProperties(String objectId, Object inputObject, Class<T> outputClass, DXEnvironment env) {
-        return DXJSON.safeTreeToValue(
-            new DXHTTPRequest(env).request("/" + objectId + "/" + "setProperties",
-                    mapper.valueToTree(inputObject), RetryStrategy.SAFE_TO_RETRY), outputClass);
+        return new DXHTTPRequest(env).request("/" + objectId + "/" + "setProperties",
+                inputObject, outputClass, RetryStrategy.SAFE_TO_RETRY);
+    }
+
+    /**
+     * Invokes the jobSetProperties method with an empty input without blocking, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Applets-and-Entry-Points#API-method%3A-%2Fjob-xxxx%2FsetProperties">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param outputClass class to deserialize the server reponse to
+     *
+     * @return future that completes with the response object; the future fails with
+     *         {@link DXAPIException} or {@link DXHTTPException} if the request fails
+     */
+    public static <T> ListenableFuture<T> jobSetPropertiesAsync(String objectId, Class<T> outputClass) {
+        return jobSetPropertiesAsync(objectId, mapper.createObjectNode(), outputClass);
+    }
+    /**
+     * Invokes the jobSetProperties method with the given input without blocking, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Applets-and-Entry-Points#API-method%3A-%2Fjob-xxxx%2FsetProperties">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param inputObject input object (to be JSON serialized to an input hash)
+     * @param outputClass class to deserialize the server reponse to
+     *
+     * @return future that completes with the response object; the future fails with
+     *         {@link DXAPIException} or {@link DXHTTPException} if the request fails
+     */
+    public static <T> ListenableFuture<T> jobSetPropertiesAsync(String objectId, Object inputObject, Class<T> outputClass) {
+        return new DXHTTPRequest().requestAsync("/" + objectId + "/" + "setProperties",
+                inputObject, outputClass, RetryStrategy.SAFE_TO_RETRY);
+    }
+    /**
+     * Invokes the jobSetProperties method with an empty input using the given environment without blocking, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Applets-and-Entry-Points#API-method%3A-%2Fjob-xxxx%2FsetProperties">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param outputClass class to deserialize the server reponse to
+     * @param env environment object specifying the auth token and remote server and protocol
+     *
+     * @return future that completes with the response object; the future fails with
+     *         {@link DXAPIException} or {@link DXHTTPException} if the request fails
+     */
+    public static <T> ListenableFuture<T> jobSetPropertiesAsync(String objectId, Class<T> outputClass, DXEnvironment env) {
+        return jobSetPropertiesAsync(objectId, mapper.createObjectNode(), outputClass, env);
+    }
+    /**
+     * Invokes the jobSetProperties method with the given input using the given environment without blocking, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Applets-and-Entry-Points#API-method%3A-%2Fjob-xxxx%2FsetProperties">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param inputObject input object (to be JSON serialized to an input hash)
+     * @param outputClass class to deserialize the server reponse to
+     * @param env environment object specifying the auth token and remote server and protocol
+     *
+     * @return future that completes with the response object; the future fails with
+     *         {@link DXAPIException} or {@link DXHTTPException} if the request fails
+     */
+    public static <T> ListenableFuture<T> jobSetPropertiesAsync(String objectId, Object inputObject, Class<T> outputClass, DXEnvironment env) {
+        return new DXHTTPRequest(env).requestAsync("/" + objectId + "/" + "setProperties",
+                inputObject, outputClass, RetryStrategy.SAFE_TO_RETRY);
     }
 
     /**
@@ -14723,9 +19564,8 @@ public final class DXAPI {
      *             the response (includes HTTP protocol errors).
      */
     public static <T> T jobTerminate(String objectId, Object inputObject, Class<T> outputClass) {
-        return DXJSON.safeTreeToValue(
-                new DXHTTPRequest().request("/" + objectId + "/" + "terminate",
-                        mapper.valueToTree(inputObject), RetryStrategy.SAFE_TO_RETRY), outputClass);
+        return new DXHTTPRequest().request("/" + objectId + "/" + "terminate",
+                inputObject, outputClass, RetryStrategy.SAFE_TO_RETRY);
     }
     /**
      * Invokes the jobTerminate method with an empty input using the given environment, deserializing to an object of the specified class.
@@ -14768,9 +19608,71 @@ public final class DXAPI {
      *             the response (includes HTTP protocol errors).
      */
     public static <T> T jobTerminate(String objectId, Object inputObject, Class<T> outputClass, DXEnvironment env) {
-        return DXJSON.safeTreeToValue(
-            new DXHTTPRequest(env).request("/" + objectId + "/" + "terminate",
-                    mapper.valueToTree(inputObject), RetryStrategy.SAFE_TO_RETRY), outputClass);
+        return new DXHTTPRequest(env).request("/" + objectId + "/" + "terminate",
+                inputObject, outputClass, RetryStrategy.SAFE_TO_RETRY);
+    }
+
+    /**
+     * Invokes the jobTerminate method with an empty input without blocking, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Applets-and-Entry-Points#API-method%3A-%2Fjob-xxxx%2Fterminate">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param outputClass class to deserialize the server reponse to
+     *
+     * @return future that completes with the response object; the future fails with
+     *         {@link DXAPIException} or {@link DXHTTPException} if the request fails
+     */
+    public static <T> ListenableFuture<T> jobTerminateAsync(String objectId, Class<T> outputClass) {
+        return jobTerminateAsync(objectId, mapper.createObjectNode(), outputClass);
+    }
+    /**
+     * Invokes the jobTerminate method with the given input without blocking, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Applets-and-Entry-Points#API-method%3A-%2Fjob-xxxx%2Fterminate">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param inputObject input object (to be JSON serialized to an input hash)
+     * @param outputClass class to deserialize the server reponse to
+     *
+     * @return future that completes with the response object; the future fails with
+     *         {@link DXAPIException} or {@link DXHTTPException} if the request fails
+     */
+    public static <T> ListenableFuture<T> jobTerminateAsync(String objectId, Object inputObject, Class<T> outputClass) {
+        return new DXHTTPRequest().requestAsync("/" + objectId + "/" + "terminate",
+                inputObject, outputClass, RetryStrategy.SAFE_TO_RETRY);
+    }
+    /**
+     * Invokes the jobTerminate method with an empty input using the given environment without blocking, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Applets-and-Entry-Points#API-method%3A-%2Fjob-xxxx%2Fterminate">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param outputClass class to deserialize the server reponse to
+     * @param env environment object specifying the auth token and remote server and protocol
+     *
+     * @return future that completes with the response object; the future fails with
+     *         {@link DXAPIException} or {@link DXHTTPException} if the request fails
+     */
+    public static <T> ListenableFuture<T> jobTerminateAsync(String objectId, Class<T> outputClass, DXEnvironment env) {
+        return jobTerminateAsync(objectId, mapper.createObjectNode(), outputClass, env);
+    }
+    /**
+     * Invokes the jobTerminate method with the given input using the given environment without blocking, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Applets-and-Entry-Points#API-method%3A-%2Fjob-xxxx%2Fterminate">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param inputObject input object (to be JSON serialized to an input hash)
+     * @param outputClass class to deserialize the server reponse to
+     * @param env environment object specifying the auth token and remote server and protocol
+     *
+     * @return future that completes with the response object; the future fails with
+     *         {@link DXAPIException} or {@link DXHTTPException} if the request fails
+     */
+    public static <T> ListenableFuture<T> jobTerminateAsync(String objectId, Object inputObject, Class<T> outputClass, DXEnvironment env) {
+        return new DXHTTPRequest(env).requestAsync("/" + objectId + "/" + "terminate",
+                inputObject, outputClass, RetryStrategy.SAFE_TO_RETRY);
     }
 
     /**
@@ -14925,9 +19827,7 @@ public final class DXAPI {
      *             the response (includes HTTP protocol errors).
      */
     public static <T> T jobNew(Object inputObject, Class<T> outputClass) {
-        return DXJSON.safeTreeToValue(
-                new DXHTTPRequest().request("/job/new", mapper.valueToTree(inputObject), RetryStrategy.UNSAFE_TO_RETRY),
-                outputClass);
+        return new DXHTTPRequest().request("/job/new", inputObject, outputClass, RetryStrategy.UNSAFE_TO_RETRY);
     }
     /**
      * Invokes the jobNew method with the specified input using the specified environment, deserializing to an object of the specified class.
@@ -14948,9 +19848,64 @@ public final class DXAPI {
      *             the response (includes HTTP protocol errors).
      */
     public static <T> T jobNew(Object inputObject, Class<T> outputClass, DXEnvironment env) {
-        return DXJSON.safeTreeToValue(
-                new DXHTTPRequest(env).request("/job/new", mapper.valueToTree(inputObject), RetryStrategy.UNSAFE_TO_RETRY),
-                outputClass);
+        return new DXHTTPRequest(env).request("/job/new", inputObject, outputClass, RetryStrategy.UNSAFE_TO_RETRY);
+    }
+
+    /**
+     * Invokes the jobNew method with an empty input without blocking, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Applets-and-Entry-Points#API-method%3A-%2Fjob%2Fnew">API specification</a>.
+     *
+     * @param outputClass class to deserialize the server reponse to
+     *
+     * @return future that completes with the server response parsed from JSON; the future fails
+     *         with {@link DXAPIException} or {@link DXHTTPException} if the request fails
+     */
+    public static <T> ListenableFuture<T> jobNewAsync(Class<T> outputClass) {
+        return jobNewAsync(mapper.createObjectNode(), outputClass);
+    }
+    /**
+     * Invokes the jobNew method with an empty input using the specified environment without blocking, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Applets-and-Entry-Points#API-method%3A-%2Fjob%2Fnew">API specification</a>.
+     *
+     * @param outputClass class to deserialize the server reponse to
+     * @param env environment object specifying the auth token and remote server and protocol
+     *
+     * @return future that completes with the server response parsed from JSON; the future fails
+     *         with {@link DXAPIException} or {@link DXHTTPException} if the request fails
+     */
+    public static <T> ListenableFuture<T> jobNewAsync(Class<T> outputClass, DXEnvironment env) {
+        return jobNewAsync(mapper.createObjectNode(), outputClass, env);
+    }
+    /**
+     * Invokes the jobNew method with the specified input without blocking, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Applets-and-Entry-Points#API-method%3A-%2Fjob%2Fnew">API specification</a>.
+     *
+     * @param inputObject input object (to be JSON serialized to an input hash)
+     * @param outputClass class to deserialize the server reponse to
+     *
+     * @return future that completes with the server response parsed from JSON; the future fails
+     *         with {@link DXAPIException} or {@link DXHTTPException} if the request fails
+     */
+    public static <T> ListenableFuture<T> jobNewAsync(Object inputObject, Class<T> outputClass) {
+        return new DXHTTPRequest().requestAsync("/job/new", inputObject, outputClass, RetryStrategy.UNSAFE_TO_RETRY);
+    }
+    /**
+     * Invokes the jobNew method with the specified input using the specified environment without blocking, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Applets-and-Entry-Points#API-method%3A-%2Fjob%2Fnew">API specification</a>.
+     *
+     * @param inputObject input object (to be JSON serialized to an input hash)
+     * @param outputClass class to deserialize the server reponse to
+     * @param env environment object specifying the auth token and remote server and protocol
+     *
+     * @return future that completes with the server response parsed from JSON; the future fails
+     *         with {@link DXAPIException} or {@link DXHTTPException} if the request fails
+     */
+    public static <T> ListenableFuture<T> jobNewAsync(Object inputObject, Class<T> outputClass, DXEnvironment env) {
+        return new DXHTTPRequest(env).requestAsync("/job/new", inputObject, outputClass, RetryStrategy.UNSAFE_TO_RETRY);
     }
 
     /**
@@ -15092,9 +20047,7 @@ public final class DXAPI {
      *             the response (includes HTTP protocol errors).
      */
     public static <T> T notificationsGet(Object inputObject, Class<T> outputClass) {
-        return DXJSON.safeTreeToValue(
-                new DXHTTPRequest().request("/notifications/get", mapper.valueToTree(inputObject), RetryStrategy.SAFE_TO_RETRY),
-                outputClass);
+        return new DXHTTPRequest().request("/notifications/get", inputObject, outputClass, RetryStrategy.SAFE_TO_RETRY);
     }
     /**
      * Invokes the notificationsGet method with the specified input using the specified environment, deserializing to an object of the specified class.
@@ -15113,9 +20066,56 @@ public final class DXAPI {
      *             the response (includes HTTP protocol errors).
      */
     public static <T> T notificationsGet(Object inputObject, Class<T> outputClass, DXEnvironment env) {
-        return DXJSON.safeTreeToValue(
-                new DXHTTPRequest(env).request("/notifications/get", mapper.valueToTree(inputObject), RetryStrategy.SAFE_TO_RETRY),
-                outputClass);
+        return new DXHTTPRequest(env).request("/notifications/get", inputObject, outputClass, RetryStrategy.SAFE_TO_RETRY);
+    }
+
+    /**
+     * Invokes the notificationsGet method with an empty input without blocking, deserializing to an object of the specified class.
+     *
+     * @param outputClass class to deserialize the server reponse to
+     *
+     * @return future that completes with the server response parsed from JSON; the future fails
+     *         with {@link DXAPIException} or {@link DXHTTPException} if the request fails
+     */
+    public static <T> ListenableFuture<T> notificationsGetAsync(Class<T> outputClass) {
+        return notificationsGetAsync(mapper.createObjectNode(), outputClass);
+    }
+    /**
+     * Invokes the notificationsGet method with an empty input using the specified environment without blocking, deserializing to an object of the specified class.
+     *
+     * @param outputClass class to deserialize the server reponse to
+     * @param env environment object specifying the auth token and remote server and protocol
+     *
+     * @return future that completes with the server response parsed from JSON; the future fails
+     *         with {@link DXAPIException} or {@link DXHTTPException} if the request fails
+     */
+    public static <T> ListenableFuture<T> notificationsGetAsync(Class<T> outputClass, DXEnvironment env) {
+        return notificationsGetAsync(mapper.createObjectNode(), outputClass, env);
+    }
+    /**
+     * Invokes the notificationsGet method with the specified input without blocking, deserializing to an object of the specified class.
+     *
+     * @param inputObject input object (to be JSON serialized to an input hash)
+     * @param outputClass class to deserialize the server reponse to
+     *
+     * @return future that completes with the server response parsed from JSON; the future fails
+     *         with {@link DXAPIException} or {@link DXHTTPException} if the request fails
+     */
+    public static <T> ListenableFuture<T> notificationsGetAsync(Object inputObject, Class<T> outputClass) {
+        return new DXHTTPRequest().requestAsync("/notifications/get", inputObject, outputClass, RetryStrategy.SAFE_TO_RETRY);
+    }
+    /**
+     * Invokes the notificationsGet method with the specified input using the specified environment without blocking, deserializing to an object of the specified class.
+     *
+     * @param inputObject input object (to be JSON serialized to an input hash)
+     * @param outputClass class to deserialize the server reponse to
+     * @param env environment object specifying the auth token and remote server and protocol
+     *
+     * @return future that completes with the server response parsed from JSON; the future fails
+     *         with {@link DXAPIException} or {@link DXHTTPException} if the request fails
+     */
+    public static <T> ListenableFuture<T> notificationsGetAsync(Object inputObject, Class<T> outputClass, DXEnvironment env) {
+        return new DXHTTPRequest(env).requestAsync("/notifications/get", inputObject, outputClass, RetryStrategy.SAFE_TO_RETRY);
     }
 
     /**
@@ -15249,9 +20249,7 @@ public final class DXAPI {
      *             the response (includes HTTP protocol errors).
      */
     public static <T> T notificationsMarkRead(Object inputObject, Class<T> outputClass) {
-        return DXJSON.safeTreeToValue(
-                new DXHTTPRequest().request("/notifications/markRead", mapper.valueToTree(inputObject), RetryStrategy.SAFE_TO_RETRY),
-                outputClass);
+        return new DXHTTPRequest().request("/notifications/markRead", inputObject, outputClass, RetryStrategy.SAFE_TO_RETRY);
     }
     /**
      * Invokes the notificationsMarkRead method with the specified input using the specified environment, deserializing to an object of the specified class.
@@ -15270,9 +20268,56 @@ public final class DXAPI {
      *             the response (includes HTTP protocol errors).
      */
     public static <T> T notificationsMarkRead(Object inputObject, Class<T> outputClass, DXEnvironment env) {
-        return DXJSON.safeTreeToValue(
-                new DXHTTPRequest(env).request("/notifications/markRead", mapper.valueToTree(inputObject), RetryStrategy.SAFE_TO_RETRY),
-                outputClass);
+        return new DXHTTPRequest(env).request("/notifications/markRead", inputObject, outputClass, RetryStrategy.SAFE_TO_RETRY);
+    }
+
+    /**
+     * Invokes the notificationsMarkRead method with an empty input without blocking, deserializing to an object of the specified class.
+     *
+     * @param outputClass class to deserialize the server reponse to
+     *
+     * @return future that completes with the server response parsed from JSON; the future fails
+     *         with {@link DXAPIException} or {@link DXHTTPException} if the request fails
+     */
+    public static <T> ListenableFuture<T> notificationsMarkReadAsync(Class<T> outputClass) {
+        return notificationsMarkReadAsync(mapper.createObjectNode(), outputClass);
+    }
+    /**
+     * Invokes the notificationsMarkRead method with an empty input using the specified environment without blocking, deserializing to an object of the specified class.
+     *
+     * @param outputClass class to deserialize the server reponse to
+     * @param env environment object specifying the auth token and remote server and protocol
+     *
+     * @return future that completes with the server response parsed from JSON; the future fails
+     *         with {@link DXAPIException} or {@link DXHTTPException} if the request fails
+     */
+    public static <T> ListenableFuture<T> notificationsMarkReadAsync(Class<T> outputClass, DXEnvironment env) {
+        return notificationsMarkReadAsync(mapper.createObjectNode(), outputClass, env);
+    }
+    /**
+     * Invokes the notificationsMarkRead method with the specified input without blocking, deserializing to an object of the specified class.
+     *
+     * @param inputObject input object (to be JSON serialized to an input hash)
+     * @param outputClass class to deserialize the server reponse to
+     *
+     * @return future that completes with the server response parsed from JSON; the future fails
+     *         with {@link DXAPIException} or {@link DXHTTPException} if the request fails
+     */
+    public static <T> ListenableFuture<T> notificationsMarkReadAsync(Object inputObject, Class<T> outputClass) {
+        return new DXHTTPRequest().requestAsync("/notifications/markRead", inputObject, outputClass, RetryStrategy.SAFE_TO_RETRY);
+    }
+    /**
+     * Invokes the notificationsMarkRead method with the specified input using the specified environment without blocking, deserializing to an object of the specified class.
+     *
+     * @param inputObject input object (to be JSON serialized to an input hash)
+     * @param outputClass class to deserialize the server reponse to
+     * @param env environment object specifying the auth token and remote server and protocol
+     *
+     * @return future that completes with the server response parsed from JSON; the future fails
+     *         with {@link DXAPIException} or {@link DXHTTPException} if the request fails
+     */
+    public static <T> ListenableFuture<T> notificationsMarkReadAsync(Object inputObject, Class<T> outputClass, DXEnvironment env) {
+        return new DXHTTPRequest(env).requestAsync("/notifications/markRead", inputObject, outputClass, RetryStrategy.SAFE_TO_RETRY);
     }
 
     /**
@@ -15394,9 +20439,8 @@ public final class DXAPI {
      *             the response (includes HTTP protocol errors).
      */
     public static <T> T orgDescribe(String objectId, Object inputObject, Class<T> outputClass) {
-        return DXJSON.safeTreeToValue(
-                new DXHTTPRequest().request("/" + objectId + "/" + "describe",
-                        mapper.valueToTree(inputObject), RetryStrategy.SAFE_TO_RETRY), outputClass);
+        return new DXHTTPRequest().request("/" + objectId + "/" + "describe",
+                inputObject, outputClass, RetryStrategy.SAFE_TO_RETRY);
     }
     /**
      * Invokes the orgDescribe method with an empty input using the given environment, deserializing to an object of the specified class.
@@ -15439,44 +20483,106 @@ public final class DXAPI {
      *             the response (includes HTTP protocol errors).
      */
     public static <T> T orgDescribe(String objectId, Object inputObject, Class<T> outputClass, DXEnvironment env) {
-        return DXJSON.safeTreeToValue(
-            new DXHTTPRequest(env).request("/" + objectId + "/" + "describe",
-                    mapper.valueToTree(inputObject), RetryStrategy.SAFE_TO_RETRY), outputClass);
+        return new DXHTTPRequest(env).request("/" + objectId + "/" + "describe",
+                inputObject, outputClass, RetryStrategy.SAFE_TO_RETRY);
     }
 
     /**
-     * Invokes the orgDescribe method.
+     * Invokes the orgDescribe method with an empty input without blocking, deserializing to an object of the specified class.
      *
      * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Organizations#API-method%3A-%2Forg-xxxx%2Fdescribe">API specification</a>.
      *
      * @param objectId ID of the object to operate on
+     * @param outputClass class to deserialize the server reponse to
      *
-     * @return Server response parsed from JSON
+     * @return future that completes with the response object; the future fails with
+     *         {@link DXAPIException} or {@link DXHTTPException} if the request fails
+     */
+    public static <T> ListenableFuture<T> orgDescribeAsync(String objectId, Class<T> outputClass) {
+        return orgDescribeAsync(objectId, mapper.createObjectNode(), outputClass);
+    }
+    /**
+     * Invokes the orgDescribe method with the given input without blocking, deserializing to an object of the specified class.
      *
-     * @throws DXAPIException
-     *             If the server returns a complete response with an HTTP status
-     *             code other than 200 (OK).
-     * @throws DXHTTPException
-     *             If an error occurs while making the HTTP request or obtaining
-     *             the response (includes HTTP protocol errors).
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Organizations#API-method%3A-%2Forg-xxxx%2Fdescribe">API specification</a>.
      *
-     * @deprecated Use {@link #orgDescribe(String, Class)} instead and supply your own class to deserialize to.
+     * @param objectId ID of the object to operate on
+     * @param inputObject input object (to be JSON serialized to an input hash)
+     * @param outputClass class to deserialize the server reponse to
+     *
+     * @return future that completes with the response object; the future fails with
+     *         {@link DXAPIException} or {@link DXHTTPException} if the request fails
      */
-    @Deprecated
-    public static JsonNode orgDescribe(String objectId) {
-        return orgDescribe(objectId, mapper.createObjectNode());
+    public static <T> ListenableFuture<T> orgDescribeAsync(String objectId, Object inputObject, Class<T> outputClass) {
+        return new DXHTTPRequest().requestAsync("/" + objectId + "/" + "describe",
+                inputObject, outputClass, RetryStrategy.SAFE_TO_RETRY);
     }
     /**
-     * Invokes the orgDescribe method with the specified parameters.
+     * Invokes the orgDescribe method with an empty input using the given environment without blocking, deserializing to an object of the specified class.
      *
      * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Organizations#API-method%3A-%2Forg-xxxx%2Fdescribe">API specification</a>.
      *
      * @param objectId ID of the object to operate on
-     * @param inputParams input parameters to the API call
-     *
-     * @return Server response parsed from JSON
+     * @param outputClass class to deserialize the server reponse to
+     * @param env environment object specifying the auth token and remote server and protocol
      *
-     * @throws DXAPIException
+     * @return future that completes with the response object; the future fails with
+     *         {@link DXAPIException} or {@link DXHTTPException} if the request fails
+     */
+    public static <T> ListenableFuture<T> orgDescribeAsync(String objectId, Class<T> outputClass, DXEnvironment env) {
+        return orgDescribeAsync(objectId, mapper.createObjectNode(), outputClass, env);
+    }
+    /**
+     * Invokes the orgDescribe method with the given input using the given environment without blocking, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Organizations#API-method%3A-%2Forg-xxxx%2Fdescribe">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param inputObject input object (to be JSON serialized to an input hash)
+     * @param outputClass class to deserialize the server reponse to
+     * @param env environment object specifying the auth token and remote server and protocol
+     *
+     * @return future that completes with the response object; the future fails with
+     *         {@link DXAPIException} or {@link DXHTTPException} if the request fails
+     */
+    public static <T> ListenableFuture<T> orgDescribeAsync(String objectId, Object inputObject, Class<T> outputClass, DXEnvironment env) {
+        return new DXHTTPRequest(env).requestAsync("/" + objectId + "/" + "describe",
+                inputObject, outputClass, RetryStrategy.SAFE_TO_RETRY);
+    }
+
+    /**
+     * Invokes the orgDescribe method.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Organizations#API-method%3A-%2Forg-xxxx%2Fdescribe">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     *
+     * @return Server response parsed from JSON
+     *
+     * @throws DXAPIException
+     *             If the server returns a complete response with an HTTP status
+     *             code other than 200 (OK).
+     * @throws DXHTTPException
+     *             If an error occurs while making the HTTP request or obtaining
+     *             the response (includes HTTP protocol errors).
+     *
+     * @deprecated Use {@link #orgDescribe(String, Class)} instead and supply your own class to deserialize to.
+     */
+    @Deprecated
+    public static JsonNode orgDescribe(String objectId) {
+        return orgDescribe(objectId, mapper.createObjectNode());
+    }
+    /**
+     * Invokes the orgDescribe method with the specified parameters.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Organizations#API-method%3A-%2Forg-xxxx%2Fdescribe">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param inputParams input parameters to the API call
+     *
+     * @return Server response parsed from JSON
+     *
+     * @throws DXAPIException
      *             If the server returns a complete response with an HTTP status
      *             code other than 200 (OK).
      * @throws DXHTTPException
@@ -15578,9 +20684,8 @@ public final class DXAPI {
      *             the response (includes HTTP protocol errors).
      */
     public static <T> T orgFindMembers(String objectId, Object inputObject, Class<T> outputClass) {
-        return DXJSON.safeTreeToValue(
-                new DXHTTPRequest().request("/" + objectId + "/" + "findMembers",
-                        mapper.valueToTree(inputObject), RetryStrategy.SAFE_TO_RETRY), outputClass);
+        return new DXHTTPRequest().request("/" + objectId + "/" + "findMembers",
+                inputObject, outputClass, RetryStrategy.SAFE_TO_RETRY);
     }
     /**
      * Invokes the orgFindMembers method with an empty input using the given environment, deserializing to an object of the specified class.
@@ -15623,9 +20728,71 @@ public final class DXAPI {
      *             the response (includes HTTP protocol errors).
      */
     public static <T> T orgFindMembers(String objectId, Object inputObject, Class<T> outputClass, DXEnvironment env) {
-        return DXJSON.safeTreeToValue(
-            new DXHTTPRequest(env).request("/" + objectId + "/" + "findMembers",
-                    mapper.valueToTree(inputObject), RetryStrategy.SAFE_TO_RETRY), outputClass);
+        return new DXHTTPRequest(env).request("/" + objectId + "/" + "findMembers",
+                inputObject, outputClass, RetryStrategy.SAFE_TO_RETRY);
+    }
+
+    /**
+     * Invokes the orgFindMembers method with an empty input without blocking, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Organizations#API-method%3A-%2Forg-xxxx%2FfindMembers">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param outputClass class to deserialize the server reponse to
+     *
+     * @return future that completes with the response object; the future fails with
+     *         {@link DXAPIException} or {@link DXHTTPException} if the request fails
+     */
+    public static <T> ListenableFuture<T> orgFindMembersAsync(String objectId, Class<T> outputClass) {
+        return orgFindMembersAsync(objectId, mapper.createObjectNode(), outputClass);
+    }
+    /**
+     * Invokes the orgFindMembers method with the given input without blocking, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Organizations#API-method%3A-%2Forg-xxxx%2FfindMembers">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param inputObject input object (to be JSON serialized to an input hash)
+     * @param outputClass class to deserialize the server reponse to
+     *
+     * @return future that completes with the response object; the future fails with
+     *         {@link DXAPIException} or {@link DXHTTPException} if the request fails
+     */
+    public static <T> ListenableFuture<T> orgFindMembersAsync(String objectId, Object inputObject, Class<T> outputClass) {
+        return new DXHTTPRequest().requestAsync("/" + objectId + "/" + "findMembers",
+                inputObject, outputClass, RetryStrategy.SAFE_TO_RETRY);
+    }
+    /**
+     * Invokes the orgFindMembers method with an empty input using the given environment without blocking, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Organizations#API-method%3A-%2Forg-xxxx%2FfindMembers">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param outputClass class to deserialize the server reponse to
+     * @param env environment object specifying the auth token and remote server and protocol
+     *
+     * @return future that completes with the response object; the future fails with
+     *         {@link DXAPIException} or {@link DXHTTPException} if the request fails
+     */
+    public static <T> ListenableFuture<T> orgFindMembersAsync(String objectId, Class<T> outputClass, DXEnvironment env) {
+        return orgFindMembersAsync(objectId, mapper.createObjectNode(), outputClass, env);
+    }
+    /**
+     * Invokes the orgFindMembers method with the given input using the given environment without blocking, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Organizations#API-method%3A-%2Forg-xxxx%2FfindMembers">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param inputObject input object (to be JSON serialized to an input hash)
+     * @param outputClass class to deserialize the server reponse to
+     * @param env environment object specifying the auth token and remote server and protocol
+     *
+     * @return future that completes with the response object; the future fails with
+     *         {@link DXAPIException} or {@link DXHTTPException} if the request fails
+     */
+    public static <T> ListenableFuture<T> orgFindMembersAsync(String objectId, Object inputObject, Class<T> outputClass, DXEnvironment env) {
+        return new DXHTTPRequest(env).requestAsync("/" + objectId + "/" + "findMembers",
+                inputObject, outputClass, RetryStrategy.SAFE_TO_RETRY);
     }
 
     /**
@@ -15762,9 +20929,8 @@ public final class DXAPI {
      *             the response (includes HTTP protocol errors).
      */
     public static <T> T orgFindProjects(String objectId, Object inputObject, Class<T> outputClass) {
-        return DXJSON.safeTreeToValue(
-                new DXHTTPRequest().request("/" + objectId + "/" + "findProjects",
-                        mapper.valueToTree(inputObject), RetryStrategy.SAFE_TO_RETRY), outputClass);
+        return new DXHTTPRequest().request("/" + objectId + "/" + "findProjects",
+                inputObject, outputClass, RetryStrategy.SAFE_TO_RETRY);
     }
     /**
      * Invokes the orgFindProjects method with an empty input using the given environment, deserializing to an object of the specified class.
@@ -15807,9 +20973,71 @@ public final class DXAPI {
      *             the response (includes HTTP protocol errors).
      */
     public static <T> T orgFindProjects(String objectId, Object inputObject, Class<T> outputClass, DXEnvironment env) {
-        return DXJSON.safeTreeToValue(
-            new DXHTTPRequest(env).request("/" + objectId + "/" + "findProjects",
-                    mapper.valueToTree(inputObject), RetryStrategy.SAFE_TO_RETRY), outputClass);
+        return new DXHTTPRequest(env).request("/" + objectId + "/" + "findProjects",
+                inputObject, outputClass, RetryStrategy.SAFE_TO_RETRY);
+    }
+
+    /**
+     * Invokes the orgFindProjects method with an empty input without blocking, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Organizations#API-method%3A-%2Forg-xxxx%2FfindProjects">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param outputClass class to deserialize the server reponse to
+     *
+     * @return future that completes with the response object; the future fails with
+     *         {@link DXAPIException} or {@link DXHTTPException} if the request fails
+     */
+    public static <T> ListenableFuture<T> orgFindProjectsAsync(String objectId, Class<T> outputClass) {
+        return orgFindProjectsAsync(objectId, mapper.createObjectNode(), outputClass);
+    }
+    /**
+     * Invokes the orgFindProjects method with the given input without blocking, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Organizations#API-method%3A-%2Forg-xxxx%2FfindProjects">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param inputObject input object (to be JSON serialized to an input hash)
+     * @param outputClass class to deserialize the server reponse to
+     *
+     * @return future that completes with the response object; the future fails with
+     *         {@link DXAPIException} or {@link DXHTTPException} if the request fails
+     */
+    public static <T> ListenableFuture<T> orgFindProjectsAsync(String objectId, Object inputObject, Class<T> outputClass) {
+        return new DXHTTPRequest().requestAsync("/" + objectId + "/" + "findProjects",
+                inputObject, outputClass, RetryStrategy.SAFE_TO_RETRY);
+    }
+    /**
+     * Invokes the orgFindProjects method with an empty input using the given environment without blocking, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Organizations#API-method%3A-%2Forg-xxxx%2FfindProjects">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param outputClass class to deserialize the server reponse to
+     * @param env environment object specifying the auth token and remote server and protocol
+     *
+     * @return future that completes with the response object; the future fails with
+     *         {@link DXAPIException} or {@link DXHTTPException} if the request fails
+     */
+    public static <T> ListenableFuture<T> orgFindProjectsAsync(String objectId, Class<T> outputClass, DXEnvironment env) {
+        return orgFindProjectsAsync(objectId, mapper.createObjectNode(), outputClass, env);
+    }
+    /**
+     * Invokes the orgFindProjects method with the given input using the given environment without blocking, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Organizations#API-method%3A-%2Forg-xxxx%2FfindProjects">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param inputObject input object (to be JSON serialized to an input hash)
+     * @param outputClass class to deserialize the server reponse to
+     * @param env environment object specifying the auth token and remote server and protocol
+     *
+     * @return future that completes with the response object; the future fails with
+     *         {@link DXAPIException} or {@link DXHTTPException} if the request fails
+     */
+    public static <T> ListenableFuture<T> orgFindProjectsAsync(String objectId, Object inputObject, Class<T> outputClass, DXEnvironment env) {
+        return new DXHTTPRequest(env).requestAsync("/" + objectId + "/" + "findProjects",
+                inputObject, outputClass, RetryStrategy.SAFE_TO_RETRY);
     }
 
     /**
@@ -15946,9 +21174,8 @@ public final class DXAPI {
      *             the response (includes HTTP protocol errors).
      */
     public static <T> T orgFindApps(String objectId, Object inputObject, Class<T> outputClass) {
-        return DXJSON.safeTreeToValue(
-                new DXHTTPRequest().request("/" + objectId + "/" + "findApps",
-                        mapper.valueToTree(inputObject), RetryStrategy.SAFE_TO_RETRY), outputClass);
+        return new DXHTTPRequest().request("/" + objectId + "/" + "findApps",
+                inputObject, outputClass, RetryStrategy.SAFE_TO_RETRY);
     }
     /**
      * Invokes the orgFindApps method with an empty input using the given environment, deserializing to an object of the specified class.
@@ -15991,9 +21218,71 @@ public final class DXAPI {
      *             the response (includes HTTP protocol errors).
      */
     public static <T> T orgFindApps(String objectId, Object inputObject, Class<T> outputClass, DXEnvironment env) {
-        return DXJSON.safeTreeToValue(
-            new DXHTTPRequest(env).request("/" + objectId + "/" + "findApps",
-                    mapper.valueToTree(inputObject), RetryStrategy.SAFE_TO_RETRY), outputClass);
+        return new DXHTTPRequest(env).request("/" + objectId + "/" + "findApps",
+                inputObject, outputClass, RetryStrategy.SAFE_TO_RETRY);
+    }
+
+    /**
+     * Invokes the orgFindApps method with an empty input without blocking, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Organizations#API-method%3A-%2Forg-xxxx%2FfindApps">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param outputClass class to deserialize the server reponse to
+     *
+     * @return future that completes with the response object; the future fails with
+     *         {@link DXAPIException} or {@link DXHTTPException} if the request fails
+     */
+    public static <T> ListenableFuture<T> orgFindAppsAsync(String objectId, Class<T> outputClass) {
+        return orgFindAppsAsync(objectId, mapper.createObjectNode(), outputClass);
+    }
+    /**
+     * Invokes the orgFindApps method with the given input without blocking, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Organizations#API-method%3A-%2Forg-xxxx%2FfindApps">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param inputObject input object (to be JSON serialized to an input hash)
+     * @param outputClass class to deserialize the server reponse to
+     *
+     * @return future that completes with the response object; the future fails with
+     *         {@link DXAPIException} or {@link DXHTTPException} if the request fails
+     */
+    public static <T> ListenableFuture<T> orgFindAppsAsync(String objectId, Object inputObject, Class<T> outputClass) {
+        return new DXHTTPRequest().requestAsync("/" + objectId + "/" + "findApps",
+                inputObject, outputClass, RetryStrategy.SAFE_TO_RETRY);
+    }
+    /**
+     * Invokes the orgFindApps method with an empty input using the given environment without blocking, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Organizations#API-method%3A-%2Forg-xxxx%2FfindApps">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param outputClass class to deserialize the server reponse to
+     * @param env environment object specifying the auth token and remote server and protocol
+     *
+     * @return future that completes with the response object; the future fails with
+     *         {@link DXAPIException} or {@link DXHTTPException} if the request fails
+     */
+    public static <T> ListenableFuture<T> orgFindAppsAsync(String objectId, Class<T> outputClass, DXEnvironment env) {
+        return orgFindAppsAsync(objectId, mapper.createObjectNode(), outputClass, env);
+    }
+    /**
+     * Invokes the orgFindApps method with the given input using the given environment without blocking, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Organizations#API-method%3A-%2Forg-xxxx%2FfindApps">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param inputObject input object (to be JSON serialized to an input hash)
+     * @param outputClass class to deserialize the server reponse to
+     * @param env environment object specifying the auth token and remote server and protocol
+     *
+     * @return future that completes with the response object; the future fails with
+     *         {@link DXAPIException} or {@link DXHTTPException} if the request fails
+     */
+    public static <T> ListenableFuture<T> orgFindAppsAsync(String objectId, Object inputObject, Class<T> outputClass, DXEnvironment env) {
+        return new DXHTTPRequest(env).requestAsync("/" + objectId + "/" + "findApps",
+                inputObject, outputClass, RetryStrategy.SAFE_TO_RETRY);
     }
 
     /**
@@ -16130,9 +21419,8 @@ public final class DXAPI {
      *             the response (includes HTTP protocol errors).
      */
     public static <T> T orgInvite(String objectId, Object inputObject, Class<T> outputClass) {
-        return DXJSON.safeTreeToValue(
-                new DXHTTPRequest().request("/" + objectId + "/" + "invite",
-                        mapper.valueToTree(inputObject), RetryStrategy.SAFE_TO_RETRY), outputClass);
+        return new DXHTTPRequest().request("/" + objectId + "/" + "invite",
+                inputObject, outputClass, RetryStrategy.SAFE_TO_RETRY);
     }
     /**
      * Invokes the orgInvite method with an empty input using the given environment, deserializing to an object of the specified class.
@@ -16175,9 +21463,71 @@ public final class DXAPI {
      *             the response (includes HTTP protocol errors).
      */
     public static <T> T orgInvite(String objectId, Object inputObject, Class<T> outputClass, DXEnvironment env) {
-        return DXJSON.safeTreeToValue(
-            new DXHTTPRequest(env).request("/" + objectId + "/" + "invite",
-                    mapper.valueToTree(inputObject), RetryStrategy.SAFE_TO_RETRY), outputClass);
+        return new DXHTTPRequest(env).request("/" + objectId + "/" + "invite",
+                inputObject, outputClass, RetryStrategy.SAFE_TO_RETRY);
+    }
+
+    /**
+     * Invokes the orgInvite method with an empty input without blocking, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Organizations#API-method%3A-%2Forg-xxxx%2Finvite">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param outputClass class to deserialize the server reponse to
+     *
+     * @return future that completes with the response object; the future fails with
+     *         {@link DXAPIException} or {@link DXHTTPException} if the request fails
+     */
+    public static <T> ListenableFuture<T> orgInviteAsync(String objectId, Class<T> outputClass) {
+        return orgInviteAsync(objectId, mapper.createObjectNode(), outputClass);
+    }
+    /**
+     * Invokes the orgInvite method with the given input without blocking, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Organizations#API-method%3A-%2Forg-xxxx%2Finvite">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param inputObject input object (to be JSON serialized to an input hash)
+     * @param outputClass class to deserialize the server reponse to
+     *
+     * @return future that completes with the response object; the future fails with
+     *         {@link DXAPIException} or {@link DXHTTPException} if the request fails
+     */
+    public static <T> ListenableFuture<T> orgInviteAsync(String objectId, Object inputObject, Class<T> outputClass) {
+        return new DXHTTPRequest().requestAsync("/" + objectId + "/" + "invite",
+                inputObject, outputClass, RetryStrategy.SAFE_TO_RETRY);
+    }
+    /**
+     * Invokes the orgInvite method with an empty input using the given environment without blocking, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Organizations#API-method%3A-%2Forg-xxxx%2Finvite">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param outputClass class to deserialize the server reponse to
+     * @param env environment object specifying the auth token and remote server and protocol
+     *
+     * @return future that completes with the response object; the future fails with
+     *         {@link DXAPIException} or {@link DXHTTPException} if the request fails
+     */
+    public static <T> ListenableFuture<T> orgInviteAsync(String objectId, Class<T> outputClass, DXEnvironment env) {
+        return orgInviteAsync(objectId, mapper.createObjectNode(), outputClass, env);
+    }
+    /**
+     * Invokes the orgInvite method with the given input using the given environment without blocking, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Organizations#API-method%3A-%2Forg-xxxx%2Finvite">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param inputObject input object (to be JSON serialized to an input hash)
+     * @param outputClass class to deserialize the server reponse to
+     * @param env environment object specifying the auth token and remote server and protocol
+     *
+     * @return future that completes with the response object; the future fails with
+     *         {@link DXAPIException} or {@link DXHTTPException} if the request fails
+     */
+    public static <T> ListenableFuture<T> orgInviteAsync(String objectId, Object inputObject, Class<T> outputClass, DXEnvironment env) {
+        return new DXHTTPRequest(env).requestAsync("/" + objectId + "/" + "invite",
+                inputObject, outputClass, RetryStrategy.SAFE_TO_RETRY);
     }
 
     /**
@@ -16314,9 +21664,8 @@ public final class DXAPI {
      *             the response (includes HTTP protocol errors).
      */
     public static <T> T orgRemoveMember(String objectId, Object inputObject, Class<T> outputClass) {
-        return DXJSON.safeTreeToValue(
-                new DXHTTPRequest().request("/" + objectId + "/" + "removeMember",
-                        mapper.valueToTree(inputObject), RetryStrategy.SAFE_TO_RETRY), outputClass);
+        return new DXHTTPRequest().request("/" + objectId + "/" + "removeMember",
+                inputObject, outputClass, RetryStrategy.SAFE_TO_RETRY);
     }
     /**
      * Invokes the orgRemoveMember method with an empty input using the given environment, deserializing to an object of the specified class.
@@ -16359,9 +21708,71 @@ public final class DXAPI {
      *             the response (includes HTTP protocol errors).
      */
     public static <T> T orgRemoveMember(String objectId, Object inputObject, Class<T> outputClass, DXEnvironment env) {
-        return DXJSON.safeTreeToValue(
-            new DXHTTPRequest(env).request("/" + objectId + "/" + "removeMember",
-                    mapper.valueToTree(inputObject), RetryStrategy.SAFE_TO_RETRY), outputClass);
+        return new DXHTTPRequest(env).request("/" + objectId + "/" + "removeMember",
+                inputObject, outputClass, RetryStrategy.SAFE_TO_RETRY);
+    }
+
+    /**
+     * Invokes the orgRemoveMember method with an empty input without blocking, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Organizations#API-method%3A-%2Forg-xxxx%2FremoveMember">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param outputClass class to deserialize the server reponse to
+     *
+     * @return future that completes with the response object; the future fails with
+     *         {@link DXAPIException} or {@link DXHTTPException} if the request fails
+     */
+    public static <T> ListenableFuture<T> orgRemoveMemberAsync(String objectId, Class<T> outputClass) {
+        return orgRemoveMemberAsync(objectId, mapper.createObjectNode(), outputClass);
+    }
+    /**
+     * Invokes the orgRemoveMember method with the given input without blocking, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Organizations#API-method%3A-%2Forg-xxxx%2FremoveMember">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param inputObject input object (to be JSON serialized to an input hash)
+     * @param outputClass class to deserialize the server reponse to
+     *
+     * @return future that completes with the response object; the future fails with
+     *         {@link DXAPIException} or {@link DXHTTPException} if the request fails
+     */
+    public static <T> ListenableFuture<T> orgRemoveMemberAsync(String objectId, Object inputObject, Class<T> outputClass) {
+        return new DXHTTPRequest().requestAsync("/" + objectId + "/" + "removeMember",
+                inputObject, outputClass, RetryStrategy.SAFE_TO_RETRY);
+    }
+    /**
+     * Invokes the orgRemoveMember method with an empty input using the given environment without blocking, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Organizations#API-method%3A-%2Forg-xxxx%2FremoveMember">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param outputClass class to deserialize the server reponse to
+     * @param env environment object specifying the auth token and remote server and protocol
+     *
+     * @return future that completes with the response object; the future fails with
+     *         {@link DXAPIException} or {@link DXHTTPException} if the request fails
+     */
+    public static <T> ListenableFuture<T> orgRemoveMemberAsync(String objectId, Class<T> outputClass, DXEnvironment env) {
+        return orgRemoveMemberAsync(objectId, mapper.createObjectNode(), outputClass, env);
+    }
+    /**
+     * Invokes the orgRemoveMember method with the given input using the given environment without blocking, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Organizations#API-method%3A-%2Forg-xxxx%2FremoveMember">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param inputObject input object (to be JSON serialized to an input hash)
+     * @param outputClass class to deserialize the server reponse to
+     * @param env environment object specifying the auth token and remote server and protocol
+     *
+     * @return future that completes with the response object; the future fails with
+     *         {@link DXAPIException} or {@link DXHTTPException} if the request fails
+     */
+    public static <T> ListenableFuture<T> orgRemoveMemberAsync(String objectId, Object inputObject, Class<T> outputClass, DXEnvironment env) {
+        return new DXHTTPRequest(env).requestAsync("/" + objectId + "/" + "removeMember",
+                inputObject, outputClass, RetryStrategy.SAFE_TO_RETRY);
     }
 
     /**
@@ -16498,9 +21909,8 @@ public final class DXAPI {
      *             the response (includes HTTP protocol errors).
      */
     public static <T> T orgSetMemberAccess(String objectId, Object inputObject, Class<T> outputClass) {
-        return DXJSON.safeTreeToValue(
-                new DXHTTPRequest().request("/" + objectId + "/" + "setMemberAccess",
-                        mapper.valueToTree(inputObject), RetryStrategy.SAFE_TO_RETRY), outputClass);
+        return new DXHTTPRequest().request("/" + objectId + "/" + "setMemberAccess",
+                inputObject, outputClass, RetryStrategy.SAFE_TO_RETRY);
     }
     /**
      * Invokes the orgSetMemberAccess method with an empty input using the given environment, deserializing to an object of the specified class.
@@ -16543,20 +21953,82 @@ public final class DXAPI {
      *             the response (includes HTTP protocol errors).
      */
     public static <T> T orgSetMemberAccess(String objectId, Object inputObject, Class<T> outputClass, DXEnvironment env) {
-        return DXJSON.safeTreeToValue(
-            new DXHTTPRequest(env).request("/" + objectId + "/" + "setMemberAccess",
-                    mapper.valueToTree(inputObject), RetryStrategy.SAFE_TO_RETRY), outputClass);
+        return new DXHTTPRequest(env).request("/" + objectId + "/" + "setMemberAccess",
+                inputObject, outputClass, RetryStrategy.SAFE_TO_RETRY);
     }
 
     /**
-     * Invokes the orgSetMemberAccess method.
+     * Invokes the orgSetMemberAccess method with an empty input without blocking, deserializing to an object of the specified class.
      *
      * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Organizations#API-method%3A-%2Forg-xxxx%2FsetMemberAccess">API specification</a>.
      *
      * @param objectId ID of the object to operate on
+     * @param outputClass class to deserialize the server reponse to
+     *
+     * @return future that completes with the response object; the future fails with
+     *         {@link DXAPIException} or {@link DXHTTPException} if the request fails
+     */
+    public static <T> ListenableFuture<T> orgSetMemberAccessAsync(String objectId, Class<T> outputClass) {
+        return orgSetMemberAccessAsync(objectId, mapper.createObjectNode(), outputClass);
+    }
+    /**
+     * Invokes the orgSetMemberAccess method with the given input without blocking, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Organizations#API-method%3A-%2Forg-xxxx%2FsetMemberAccess">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param inputObject input object (to be JSON serialized to an input hash)
+     * @param outputClass class to deserialize the server reponse to
+     *
+     * @return future that completes with the response object; the future fails with
+     *         {@link DXAPIException} or {@link DXHTTPException} if the request fails
+     */
+    public static <T> ListenableFuture<T> orgSetMemberAccessAsync(String objectId, Object inputObject, Class<T> outputClass) {
+        return new DXHTTPRequest().requestAsync("/" + objectId + "/" + "setMemberAccess",
+                inputObject, outputClass, RetryStrategy.SAFE_TO_RETRY);
+    }
+    /**
+     * Invokes the orgSetMemberAccess method with an empty input using the given environment without blocking, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Organizations#API-method%3A-%2Forg-xxxx%2FsetMemberAccess">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param outputClass class to deserialize the server reponse to
+     * @param env environment object specifying the auth token and remote server and protocol
+     *
+     * @return future that completes with the response object; the future fails with
+     *         {@link DXAPIException} or {@link DXHTTPException} if the request fails
+     */
+    public static <T> ListenableFuture<T> orgSetMemberAccessAsync(String objectId, Class<T> outputClass, DXEnvironment env) {
+        return orgSetMemberAccessAsync(objectId, mapper.createObjectNode(), outputClass, env);
+    }
+    /**
+     * Invokes the orgSetMemberAccess method with the given input using the given environment without blocking, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Organizations#API-method%3A-%2Forg-xxxx%2FsetMemberAccess">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param inputObject input object (to be JSON serialized to an input hash)
+     * @param outputClass class to deserialize the server reponse to
+     * @param env environment object specifying the auth token and remote server and protocol
+     *
+     * @return future that completes with the response object; the future fails with
+     *         {@link DXAPIException} or {@link DXHTTPException} if the request fails
+     */
+    public static <T> ListenableFuture<T> orgSetMemberAccessAsync(String objectId, Object inputObject, Class<T> outputClass, DXEnvironment env) {
+        return new DXHTTPRequest(env).requestAsync("/" + objectId + "/" + "setMemberAccess",
+                inputObject, outputClass, RetryStrategy.SAFE_TO_RETRY);
+    }
+
+    /**
+     * Invokes the orgSetMemberAccess method.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Organizations#API-method%3A-%2Forg-xxxx%2FsetMemberAccess">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     *
+     * @return Server response parsed from JSON
      *
-     * @return Server response parsed from JSON
-     *
      * @throws DXAPIException
      *             If the server returns a complete response with an HTTP status
      *             code other than 200 (OK).
@@ -16682,9 +22154,8 @@ public final class DXAPI {
      *             the response (includes HTTP protocol errors).
      */
     public static <T> T orgUpdate(String objectId, Object inputObject, Class<T> outputClass) {
-        return DXJSON.safeTreeToValue(
-                new DXHTTPRequest().request("/" + objectId + "/" + "update",
-                        mapper.valueToTree(inputObject), RetryStrategy.SAFE_TO_RETRY), outputClass);
+        return new DXHTTPRequest().request("/" + objectId + "/" + "update",
+                inputObject, outputClass, RetryStrategy.SAFE_TO_RETRY);
     }
     /**
      * Invokes the orgUpdate method with an empty input using the given environment, deserializing to an object of the specified class.
@@ -16727,9 +22198,71 @@ public final class DXAPI {
      *             the response (includes HTTP protocol errors).
      */
     public static <T> T orgUpdate(String objectId, Object inputObject, Class<T> outputClass, DXEnvironment env) {
-        return DXJSON.safeTreeToValue(
-            new DXHTTPRequest(env).request("/" + objectId + "/" + "update",
-                    mapper.valueToTree(inputObject), RetryStrategy.SAFE_TO_RETRY), outputClass);
+        return new DXHTTPRequest(env).request("/" + objectId + "/" + "update",
+                inputObject, outputClass, RetryStrategy.SAFE_TO_RETRY);
+    }
+
+    /**
+     * Invokes the orgUpdate method with an empty input without blocking, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Organizations#API-method%3A-%2Forg-xxxx%2Fupdate">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param outputClass class to deserialize the server reponse to
+     *
+     * @return future that completes with the response object; the future fails with
+     *         {@link DXAPIException} or {@link DXHTTPException} if the request fails
+     */
+    public static <T> ListenableFuture<T> orgUpdateAsync(String objectId, Class<T> outputClass) {
+        return orgUpdateAsync(objectId, mapper.createObjectNode(), outputClass);
+    }
+    /**
+     * Invokes the orgUpdate method with the given input without blocking, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Organizations#API-method%3A-%2Forg-xxxx%2Fupdate">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param inputObject input object (to be JSON serialized to an input hash)
+     * @param outputClass class to deserialize the server reponse to
+     *
+     * @return future that completes with the response object; the future fails with
+     *         {@link DXAPIException} or {@link DXHTTPException} if the request fails
+     */
+    public static <T> ListenableFuture<T> orgUpdateAsync(String objectId, Object inputObject, Class<T> outputClass) {
+        return new DXHTTPRequest().requestAsync("/" + objectId + "/" + "update",
+                inputObject, outputClass, RetryStrategy.SAFE_TO_RETRY);
+    }
+    /**
+     * Invokes the orgUpdate method with an empty input using the given environment without blocking, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Organizations#API-method%3A-%2Forg-xxxx%2Fupdate">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param outputClass class to deserialize the server reponse to
+     * @param env environment object specifying the auth token and remote server and protocol
+     *
+     * @return future that completes with the response object; the future fails with
+     *         {@link DXAPIException} or {@link DXHTTPException} if the request fails
+     */
+    public static <T> ListenableFuture<T> orgUpdateAsync(String objectId, Class<T> outputClass, DXEnvironment env) {
+        return orgUpdateAsync(objectId, mapper.createObjectNode(), outputClass, env);
+    }
+    /**
+     * Invokes the orgUpdate method with the given input using the given environment without blocking, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Organizations#API-method%3A-%2Forg-xxxx%2Fupdate">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param inputObject input object (to be JSON serialized to an input hash)
+     * @param outputClass class to deserialize the server reponse to
+     * @param env environment object specifying the auth token and remote server and protocol
+     *
+     * @return future that completes with the response object; the future fails with
+     *         {@link DXAPIException} or {@link DXHTTPException} if the request fails
+     */
+    public static <T> ListenableFuture<T> orgUpdateAsync(String objectId, Object inputObject, Class<T> outputClass, DXEnvironment env) {
+        return new DXHTTPRequest(env).requestAsync("/" + objectId + "/" + "update",
+                inputObject, outputClass, RetryStrategy.SAFE_TO_RETRY);
     }
 
     /**
@@ -16884,9 +22417,7 @@ public final class DXAPI {
      *             the response (includes HTTP protocol errors).
      */
     public static <T> T orgNew(Object inputObject, Class<T> outputClass) {
-        return DXJSON.safeTreeToValue(
-                new DXHTTPRequest().request("/org/new", mapper.valueToTree(inputObject), RetryStrategy.UNSAFE_TO_RETRY),
-                outputClass);
+        return new DXHTTPRequest().request("/org/new", inputObject, outputClass, RetryStrategy.UNSAFE_TO_RETRY);
     }
     /**
      * Invokes the orgNew method with the specified input using the specified environment, deserializing to an object of the specified class.
@@ -16907,9 +22438,64 @@ public final class DXAPI {
      *             the response (includes HTTP protocol errors).
      */
     public static <T> T orgNew(Object inputObject, Class<T> outputClass, DXEnvironment env) {
-        return DXJSON.safeTreeToValue(
-                new DXHTTPRequest(env).request("/org/new", mapper.valueToTree(inputObject), RetryStrategy.UNSAFE_TO_RETRY),
-                outputClass);
+        return new DXHTTPRequest(env).request("/org/new", inputObject, outputClass, RetryStrategy.UNSAFE_TO_RETRY);
+    }
+
+    /**
+     * Invokes the orgNew method with an empty input without blocking, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Organizations#API-method%3A-%2Forg%2Fnew">API specification</a>.
+     *
+     * @param outputClass class to deserialize the server reponse to
+     *
+     * @return future that completes with the server response parsed from JSON; the future fails
+     *         with {@link DXAPIException} or {@link DXHTTPException} if the request fails
+     */
+    public static <T> ListenableFuture<T> orgNewAsync(Class<T> outputClass) {
+        return orgNewAsync(mapper.createObjectNode(), outputClass);
+    }
+    /**
+     * Invokes the orgNew method with an empty input using the specified environment without blocking, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Organizations#API-method%3A-%2Forg%2Fnew">API specification</a>.
+     *
+     * @param outputClass class to deserialize the server reponse to
+     * @param env environment object specifying the auth token and remote server and protocol
+     *
+     * @return future that completes with the server response parsed from JSON; the future fails
+     *         with {@link DXAPIException} or {@link DXHTTPException} if the request fails
+     */
+    public static <T> ListenableFuture<T> orgNewAsync(Class<T> outputClass, DXEnvironment env) {
+        return orgNewAsync(mapper.createObjectNode(), outputClass, env);
+    }
+    /**
+     * Invokes the orgNew method with the specified input without blocking, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Organizations#API-method%3A-%2Forg%2Fnew">API specification</a>.
+     *
+     * @param inputObject input object (to be JSON serialized to an input hash)
+     * @param outputClass class to deserialize the server reponse to
+     *
+     * @return future that completes with the server response parsed from JSON; the future fails
+     *         with {@link DXAPIException} or {@link DXHTTPException} if the request fails
+     */
+    public static <T> ListenableFuture<T> orgNewAsync(Object inputObject, Class<T> outputClass) {
+        return new DXHTTPRequest().requestAsync("/org/new", inputObject, outputClass, RetryStrategy.UNSAFE_TO_RETRY);
+    }
+    /**
+     * Invokes the orgNew method with the specified input using the specified environment without blocking, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Organizations#API-method%3A-%2Forg%2Fnew">API specification</a>.
+     *
+     * @param inputObject input object (to be JSON serialized to an input hash)
+     * @param outputClass class to deserialize the server reponse to
+     * @param env environment object specifying the auth token and remote server and protocol
+     *
+     * @return future that completes with the server response parsed from JSON; the future fails
+     *         with {@link DXAPIException} or {@link DXHTTPException} if the request fails
+     */
+    public static <T> ListenableFuture<T> orgNewAsync(Object inputObject, Class<T> outputClass, DXEnvironment env) {
+        return new DXHTTPRequest(env).requestAsync("/org/new", inputObject, outputClass, RetryStrategy.UNSAFE_TO_RETRY);
     }
 
     /**
@@ -17039,9 +22625,8 @@ public final class DXAPI {
      *             the response (includes HTTP protocol errors).
      */
     public static <T> T projectAddTags(String objectId, Object inputObject, Class<T> outputClass) {
-        return DXJSON.safeTreeToValue(
-                new DXHTTPRequest().request("/" + objectId + "/" + "addTags",
-                        mapper.valueToTree(inputObject), RetryStrategy.SAFE_TO_RETRY), outputClass);
+        return new DXHTTPRequest().request("/" + objectId + "/" + "addTags",
+                inputObject, outputClass, RetryStrategy.SAFE_TO_RETRY);
     }
     /**
      * Invokes the projectAddTags method with an empty input using the given environment, deserializing to an object of the specified class.
@@ -17084,9 +22669,71 @@ public final class DXAPI {
      *             the response (includes HTTP protocol errors).
      */
     public static <T> T projectAddTags(String objectId, Object inputObject, Class<T> outputClass, DXEnvironment env) {
-        return DXJSON.safeTreeToValue(
-            new DXHTTPRequest(env).request("/" + objectId + "/" + "addTags",
-                    mapper.valueToTree(inputObject), RetryStrategy.SAFE_TO_RETRY), outputClass);
+        return new DXHTTPRequest(env).request("/" + objectId + "/" + "addTags",
+                inputObject, outputClass, RetryStrategy.SAFE_TO_RETRY);
+    }
+
+    /**
+     * Invokes the projectAddTags method with an empty input without blocking, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Projects#API-method%3A-%2Fproject-xxxx%2FaddTags">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param outputClass class to deserialize the server reponse to
+     *
+     * @return future that completes with the response object; the future fails with
+     *         {@link DXAPIException} or {@link DXHTTPException} if the request fails
+     */
+    public static <T> ListenableFuture<T> projectAddTagsAsync(String objectId, Class<T> outputClass) {
+        return projectAddTagsAsync(objectId, mapper.createObjectNode(), outputClass);
+    }
+    /**
+     * Invokes the projectAddTags method with the given input without blocking, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Projects#API-method%3A-%2Fproject-xxxx%2FaddTags">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param inputObject input object (to be JSON serialized to an input hash)
+     * @param outputClass class to deserialize the server reponse to
+     *
+     * @return future that completes with the response object; the future fails with
+     *         {@link DXAPIException} or {@link DXHTTPException} if the request fails
+     */
+    public static <T> ListenableFuture<T> projectAddTagsAsync(String objectId, Object inputObject, Class<T> outputClass) {
+        return new DXHTTPRequest().requestAsync("/" + objectId + "/" + "addTags",
+                inputObject, outputClass, RetryStrategy.SAFE_TO_RETRY);
+    }
+    /**
+     * Invokes the projectAddTags method with an empty input using the given environment without blocking, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Projects#API-method%3A-%2Fproject-xxxx%2FaddTags">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param outputClass class to deserialize the server reponse to
+     * @param env environment object specifying the auth token and remote server and protocol
+     *
+     * @return future that completes with the response object; the future fails with
+     *         {@link DXAPIException} or {@link DXHTTPException} if the request fails
+     */
+    public static <T> ListenableFuture<T> projectAddTagsAsync(String objectId, Class<T> outputClass, DXEnvironment env) {
+        return projectAddTagsAsync(objectId, mapper.createObjectNode(), outputClass, env);
+    }
+    /**
+     * Invokes the projectAddTags method with the given input using the given environment without blocking, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Projects#API-method%3A-%2Fproject-xxxx%2FaddTags">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param inputObject input object (to be JSON serialized to an input hash)
+     * @param outputClass class to deserialize the server reponse to
+     * @param env environment object specifying the auth token and remote server and protocol
+     *
+     * @return future that completes with the response object; the future fails with
+     *         {@link DXAPIException} or {@link DXHTTPException} if the request fails
+     */
+    public static <T> ListenableFuture<T> projectAddTagsAsync(String objectId, Object inputObject, Class<T> outputClass, DXEnvironment env) {
+        return new DXHTTPRequest(env).requestAsync("/" + objectId + "/" + "addTags",
+                inputObject, outputClass, RetryStrategy.SAFE_TO_RETRY);
     }
 
     /**
@@ -17223,9 +22870,8 @@ public final class DXAPI {
      *             the response (includes HTTP protocol errors).
      */
     public static <T> T projectClone(String objectId, Object inputObject, Class<T> outputClass) {
-        return DXJSON.safeTreeToValue(
-                new DXHTTPRequest().request("/" + objectId + "/" + "clone",
-                        mapper.valueToTree(inputObject), RetryStrategy.UNSAFE_TO_RETRY), outputClass);
+        return new DXHTTPRequest().request("/" + objectId + "/" + "clone",
+                inputObject, outputClass, RetryStrategy.UNSAFE_TO_RETRY);
     }
     /**
      * Invokes the projectClone method with an empty input using the given environment, deserializing to an object of the specified class.
@@ -17268,9 +22914,71 @@ public final class DXAPI {
      *             the response (includes HTTP protocol errors).
      */
     public static <T> T projectClone(String objectId, Object inputObject, Class<T> outputClass, DXEnvironment env) {
-        return DXJSON.safeTreeToValue(
-            new DXHTTPRequest(env).request("/" + objectId + "/" + "clone",
-                    mapper.valueToTree(inputObject), RetryStrategy.UNSAFE_TO_RETRY), outputClass);
+        return new DXHTTPRequest(env).request("/" + objectId + "/" + "clone",
+                inputObject, outputClass, RetryStrategy.UNSAFE_TO_RETRY);
+    }
+
+    /**
+     * Invokes the projectClone method with an empty input without blocking, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Cloning#API-method%3A-%2Fclass-xxxx%2Fclone">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param outputClass class to deserialize the server reponse to
+     *
+     * @return future that completes with the response object; the future fails with
+     *         {@link DXAPIException} or {@link DXHTTPException} if the request fails
+     */
+    public static <T> ListenableFuture<T> projectCloneAsync(String objectId, Class<T> outputClass) {
+        return projectCloneAsync(objectId, mapper.createObjectNode(), outputClass);
+    }
+    /**
+     * Invokes the projectClone method with the given input without blocking, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Cloning#API-method%3A-%2Fclass-xxxx%2Fclone">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param inputObject input object (to be JSON serialized to an input hash)
+     * @param outputClass class to deserialize the server reponse to
+     *
+     * @return future that completes with the response object; the future fails with
+     *         {@link DXAPIException} or {@link DXHTTPException} if the request fails
+     */
+    public static <T> ListenableFuture<T> projectCloneAsync(String objectId, Object inputObject, Class<T> outputClass) {
+        return new DXHTTPRequest().requestAsync("/" + objectId + "/" + "clone",
+                inputObject, outputClass, RetryStrategy.UNSAFE_TO_RETRY);
+    }
+    /**
+     * Invokes the projectClone method with an empty input using the given environment without blocking, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Cloning#API-method%3A-%2Fclass-xxxx%2Fclone">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param outputClass class to deserialize the server reponse to
+     * @param env environment object specifying the auth token and remote server and protocol
+     *
+     * @return future that completes with the response object; the future fails with
+     *         {@link DXAPIException} or {@link DXHTTPException} if the request fails
+     */
+    public static <T> ListenableFuture<T> projectCloneAsync(String objectId, Class<T> outputClass, DXEnvironment env) {
+        return projectCloneAsync(objectId, mapper.createObjectNode(), outputClass, env);
+    }
+    /**
+     * Invokes the projectClone method with the given input using the given environment without blocking, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Cloning#API-method%3A-%2Fclass-xxxx%2Fclone">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param inputObject input object (to be JSON serialized to an input hash)
+     * @param outputClass class to deserialize the server reponse to
+     * @param env environment object specifying the auth token and remote server and protocol
+     *
+     * @return future that completes with the response object; the future fails with
+     *         {@link DXAPIException} or {@link DXHTTPException} if the request fails
+     */
+    public static <T> ListenableFuture<T> projectCloneAsync(String objectId, Object inputObject, Class<T> outputClass, DXEnvironment env) {
+        return new DXHTTPRequest(env).requestAsync("/" + objectId + "/" + "clone",
+                inputObject, outputClass, RetryStrategy.UNSAFE_TO_RETRY);
     }
 
     /**
@@ -17407,9 +23115,8 @@ public final class DXAPI {
      *             the response (includes HTTP protocol errors).
      */
     public static <T> T projectDecreasePermissions(String objectId, Object inputObject, Class<T> outputClass) {
-        return DXJSON.safeTreeToValue(
-                new DXHTTPRequest().request("/" + objectId + "/" + "decreasePermissions",
-                        mapper.valueToTree(inputObject), RetryStrategy.SAFE_TO_RETRY), outputClass);
+        return new DXHTTPRequest().request("/" + objectId + "/" + "decreasePermissions",
+                inputObject, outputClass, RetryStrategy.SAFE_TO_RETRY);
     }
     /**
      * Invokes the projectDecreasePermissions method with an empty input using the given environment, deserializing to an object of the specified class.
@@ -17452,9 +23159,71 @@ public final class DXAPI {
      *             the response (includes HTTP protocol errors).
      */
     public static <T> T projectDecreasePermissions(String objectId, Object inputObject, Class<T> outputClass, DXEnvironment env) {
-        return DXJSON.safeTreeToValue(
-            new DXHTTPRequest(env).request("/" + objectId + "/" + "decreasePermissions",
-                    mapper.valueToTree(inputObject), RetryStrategy.SAFE_TO_RETRY), outputClass);
+        return new DXHTTPRequest(env).request("/" + objectId + "/" + "decreasePermissions",
+                inputObject, outputClass, RetryStrategy.SAFE_TO_RETRY);
+    }
+
+    /**
+     * Invokes the projectDecreasePermissions method with an empty input without blocking, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Project-Permissions-and-Sharing#API-method%3A-%2Fproject-xxxx%2FdecreasePermissions">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param outputClass class to deserialize the server reponse to
+     *
+     * @return future that completes with the response object; the future fails with
+     *         {@link DXAPIException} or {@link DXHTTPException} if the request fails
+     */
+    public static <T> ListenableFuture<T> projectDecreasePermissionsAsync(String objectId, Class<T> outputClass) {
+        return projectDecreasePermissionsAsync(objectId, mapper.createObjectNode(), outputClass);
+    }
+    /**
+     * Invokes the projectDecreasePermissions method with the given input without blocking, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Project-Permissions-and-Sharing#API-method%3A-%2Fproject-xxxx%2FdecreasePermissions">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param inputObject input object (to be JSON serialized to an input hash)
+     * @param outputClass class to deserialize the server reponse to
+     *
+     * @return future that completes with the response object; the future fails with
+     *         {@link DXAPIException} or {@link DXHTTPException} if the request fails
+     */
+    public static <T> ListenableFuture<T> projectDecreasePermissionsAsync(String objectId, Object inputObject, Class<T> outputClass) {
+        return new DXHTTPRequest().requestAsync("/" + objectId + "/" + "decreasePermissions",
+                inputObject, outputClass, RetryStrategy.SAFE_TO_RETRY);
+    }
+    /**
+     * Invokes the projectDecreasePermissions method with an empty input using the given environment without blocking, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Project-Permissions-and-Sharing#API-method%3A-%2Fproject-xxxx%2FdecreasePermissions">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param outputClass class to deserialize the server reponse to
+     * @param env environment object specifying the auth token and remote server and protocol
+     *
+     * @return future that completes with the response object; the future fails with
+     *         {@link DXAPIException} or {@link DXHTTPException} if the request fails
+     */
+    public static <T> ListenableFuture<T> projectDecreasePermissionsAsync(String objectId, Class<T> outputClass, DXEnvironment env) {
+        return projectDecreasePermissionsAsync(objectId, mapper.createObjectNode(), outputClass, env);
+    }
+    /**
+     * Invokes the projectDecreasePermissions method with the given input using the given environment without blocking, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Project-Permissions-and-Sharing#API-method%3A-%2Fproject-xxxx%2FdecreasePermissions">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param inputObject input object (to be JSON serialized to an input hash)
+     * @param outputClass class to deserialize the server reponse to
+     * @param env environment object specifying the auth token and remote server and protocol
+     *
+     * @return future that completes with the response object; the future fails with
+     *         {@link DXAPIException} or {@link DXHTTPException} if the request fails
+     */
+    public static <T> ListenableFuture<T> projectDecreasePermissionsAsync(String objectId, Object inputObject, Class<T> outputClass, DXEnvironment env) {
+        return new DXHTTPRequest(env).requestAsync("/" + objectId + "/" + "decreasePermissions",
+                inputObject, outputClass, RetryStrategy.SAFE_TO_RETRY);
     }
 
     /**
@@ -17591,9 +23360,8 @@ public final class DXAPI {
      *             the response (includes HTTP protocol errors).
      */
     public static <T> T projectDescribe(String objectId, Object inputObject, Class<T> outputClass) {
-        return DXJSON.safeTreeToValue(
-                new DXHTTPRequest().request("/" + objectId + "/" + "describe",
-                        mapper.valueToTree(inputObject), RetryStrategy.SAFE_TO_RETRY), outputClass);
+        return new DXHTTPRequest().request("/" + objectId + "/" + "describe",
+                inputObject, outputClass, RetryStrategy.SAFE_TO_RETRY);
     }
     /**
      * Invokes the projectDescribe method with an empty input using the given environment, deserializing to an object of the specified class.
@@ -17636,28 +23404,90 @@ public final class DXAPI {
      *             the response (includes HTTP protocol errors).
      */
     public static <T> T projectDescribe(String objectId, Object inputObject, Class<T> outputClass, DXEnvironment env) {
-        return DXJSON.safeTreeToValue(
-            new DXHTTPRequest(env).request("/" + objectId + "/" + "describe",
-                    mapper.valueToTree(inputObject), RetryStrategy.SAFE_TO_RETRY), outputClass);
+        return new DXHTTPRequest(env).request("/" + objectId + "/" + "describe",
+                inputObject, outputClass, RetryStrategy.SAFE_TO_RETRY);
     }
 
     /**
-     * Invokes the projectDescribe method.
+     * Invokes the projectDescribe method with an empty input without blocking, deserializing to an object of the specified class.
      *
      * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Projects#API-method%3A-%2Fproject-xxxx%2Fdescribe">API specification</a>.
      *
      * @param objectId ID of the object to operate on
+     * @param outputClass class to deserialize the server reponse to
      *
-     * @return Server response parsed from JSON
-     *
-     * @throws DXAPIException
-     *             If the server returns a complete response with an HTTP status
-     *             code other than 200 (OK).
-     * @throws DXHTTPException
-     *             If an error occurs while making the HTTP request or obtaining
-     *             the response (includes HTTP protocol errors).
-     *
-     * @deprecated Use {@link #projectDescribe(String, Class)} instead and supply your own class to deserialize to.
+     * @return future that completes with the response object; the future fails with
+     *         {@link DXAPIException} or {@link DXHTTPException} if the request fails
+     */
+    public static <T> ListenableFuture<T> projectDescribeAsync(String objectId, Class<T> outputClass) {
+        return projectDescribeAsync(objectId, mapper.createObjectNode(), outputClass);
+    }
+    /**
+     * Invokes the projectDescribe method with the given input without blocking, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Projects#API-method%3A-%2Fproject-xxxx%2Fdescribe">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param inputObject input object (to be JSON serialized to an input hash)
+     * @param outputClass class to deserialize the server reponse to
+     *
+     * @return future that completes with the response object; the future fails with
+     *         {@link DXAPIException} or {@link DXHTTPException} if the request fails
+     */
+    public static <T> ListenableFuture<T> projectDescribeAsync(String objectId, Object inputObject, Class<T> outputClass) {
+        return new DXHTTPRequest().requestAsync("/" + objectId + "/" + "describe",
+                inputObject, outputClass, RetryStrategy.SAFE_TO_RETRY);
+    }
+    /**
+     * Invokes the projectDescribe method with an empty input using the given environment without blocking, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Projects#API-method%3A-%2Fproject-xxxx%2Fdescribe">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param outputClass class to deserialize the server reponse to
+     * @param env environment object specifying the auth token and remote server and protocol
+     *
+     * @return future that completes with the response object; the future fails with
+     *         {@link DXAPIException} or {@link DXHTTPException} if the request fails
+     */
+    public static <T> ListenableFuture<T> projectDescribeAsync(String objectId, Class<T> outputClass, DXEnvironment env) {
+        return projectDescribeAsync(objectId, mapper.createObjectNode(), outputClass, env);
+    }
+    /**
+     * Invokes the projectDescribe method with the given input using the given environment without blocking, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Projects#API-method%3A-%2Fproject-xxxx%2Fdescribe">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param inputObject input object (to be JSON serialized to an input hash)
+     * @param outputClass class to deserialize the server reponse to
+     * @param env environment object specifying the auth token and remote server and protocol
+     *
+     * @return future that completes with the response object; the future fails with
+     *         {@link DXAPIException} or {@link DXHTTPException} if the request fails
+     */
+    public static <T> ListenableFuture<T> projectDescribeAsync(String objectId, Object inputObject, Class<T> outputClass, DXEnvironment env) {
+        return new DXHTTPRequest(env).requestAsync("/" + objectId + "/" + "describe",
+                inputObject, outputClass, RetryStrategy.SAFE_TO_RETRY);
+    }
+
+    /**
+     * Invokes the projectDescribe method.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Projects#API-method%3A-%2Fproject-xxxx%2Fdescribe">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     *
+     * @return Server response parsed from JSON
+     *
+     * @throws DXAPIException
+     *             If the server returns a complete response with an HTTP status
+     *             code other than 200 (OK).
+     * @throws DXHTTPException
+     *             If an error occurs while making the HTTP request or obtaining
+     *             the response (includes HTTP protocol errors).
+     *
+     * @deprecated Use {@link #projectDescribe(String, Class)} instead and supply your own class to deserialize to.
      */
     @Deprecated
     public static JsonNode projectDescribe(String objectId) {
@@ -17775,9 +23605,8 @@ public final class DXAPI {
      *             the response (includes HTTP protocol errors).
      */
     public static <T> T projectDestroy(String objectId, Object inputObject, Class<T> outputClass) {
-        return DXJSON.safeTreeToValue(
-                new DXHTTPRequest().request("/" + objectId + "/" + "destroy",
-                        mapper.valueToTree(inputObject), RetryStrategy.SAFE_TO_RETRY), outputClass);
+        return new DXHTTPRequest().request("/" + objectId + "/" + "destroy",
+                inputObject, outputClass, RetryStrategy.SAFE_TO_RETRY);
     }
     /**
      * Invokes the projectDestroy method with an empty input using the given environment, deserializing to an object of the specified class.
@@ -17820,9 +23649,71 @@ public final class DXAPI {
      *             the response (includes HTTP protocol errors).
      */
     public static <T> T projectDestroy(String objectId, Object inputObject, Class<T> outputClass, DXEnvironment env) {
-        return DXJSON.safeTreeToValue(
-            new DXHTTPRequest(env).request("/" + objectId + "/" + "destroy",
-                    mapper.valueToTree(inputObject), RetryStrategy.SAFE_TO_RETRY), outputClass);
+        return new DXHTTPRequest(env).request("/" + objectId + "/" + "destroy",
+                inputObject, outputClass, RetryStrategy.SAFE_TO_RETRY);
+    }
+
+    /**
+     * Invokes the projectDestroy method with an empty input without blocking, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Projects#API-method%3A-%2Fproject-xxxx%2Fdestroy">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param outputClass class to deserialize the server reponse to
+     *
+     * @return future that completes with the response object; the future fails with
+     *         {@link DXAPIException} or {@link DXHTTPException} if the request fails
+     */
+    public static <T> ListenableFuture<T> projectDestroyAsync(String objectId, Class<T> outputClass) {
+        return projectDestroyAsync(objectId, mapper.createObjectNode(), outputClass);
+    }
+    /**
+     * Invokes the projectDestroy method with the given input without blocking, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Projects#API-method%3A-%2Fproject-xxxx%2Fdestroy">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param inputObject input object (to be JSON serialized to an input hash)
+     * @param outputClass class to deserialize the server reponse to
+     *
+     * @return future that completes with the response object; the future fails with
+     *         {@link DXAPIException} or {@link DXHTTPException} if the request fails
+     */
+    public static <T> ListenableFuture<T> projectDestroyAsync(String objectId, Object inputObject, Class<T> outputClass) {
+        return new DXHTTPRequest().requestAsync("/" + objectId + "/" + "destroy",
+                inputObject, outputClass, RetryStrategy.SAFE_TO_RETRY);
+    }
+    /**
+     * Invokes the projectDestroy method with an empty input using the given environment without blocking, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Projects#API-method%3A-%2Fproject-xxxx%2Fdestroy">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param outputClass class to deserialize the server reponse to
+     * @param env environment object specifying the auth token and remote server and protocol
+     *
+     * @return future that completes with the response object; the future fails with
+     *         {@link DXAPIException} or {@link DXHTTPException} if the request fails
+     */
+    public static <T> ListenableFuture<T> projectDestroyAsync(String objectId, Class<T> outputClass, DXEnvironment env) {
+        return projectDestroyAsync(objectId, mapper.createObjectNode(), outputClass, env);
+    }
+    /**
+     * Invokes the projectDestroy method with the given input using the given environment without blocking, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Projects#API-method%3A-%2Fproject-xxxx%2Fdestroy">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param inputObject input object (to be JSON serialized to an input hash)
+     * @param outputClass class to deserialize the server reponse to
+     * @param env environment object specifying the auth token and remote server and protocol
+     *
+     * @return future that completes with the response object; the future fails with
+     *         {@link DXAPIException} or {@link DXHTTPException} if the request fails
+     */
+    public static <T> ListenableFuture<T> projectDestroyAsync(String objectId, Object inputObject, Class<T> outputClass, DXEnvironment env) {
+        return new DXHTTPRequest(env).requestAsync("/" + objectId + "/" + "destroy",
+                inputObject, outputClass, RetryStrategy.SAFE_TO_RETRY);
     }
 
     /**
@@ -17959,9 +23850,8 @@ public final class DXAPI {
      *             the response (includes HTTP protocol errors).
      */
     public static <T> T projectInvite(String objectId, Object inputObject, Class<T> outputClass) {
-        return DXJSON.safeTreeToValue(
-                new DXHTTPRequest().request("/" + objectId + "/" + "invite",
-                        mapper.valueToTree(inputObject), RetryStrategy.UNSAFE_TO_RETRY), outputClass);
+        return new DXHTTPRequest().request("/" + objectId + "/" + "invite",
+                inputObject, outputClass, RetryStrategy.UNSAFE_TO_RETRY);
     }
     /**
      * Invokes the projectInvite method with an empty input using the given environment, deserializing to an object of the specified class.
@@ -18004,9 +23894,71 @@ public final class DXAPI {
      *             the response (includes HTTP protocol errors).
      */
     public static <T> T projectInvite(String objectId, Object inputObject, Class<T> outputClass, DXEnvironment env) {
-        return DXJSON.safeTreeToValue(
-            new DXHTTPRequest(env).request("/" + objectId + "/" + "invite",
-                    mapper.valueToTree(inputObject), RetryStrategy.UNSAFE_TO_RETRY), outputClass);
+        return new DXHTTPRequest(env).request("/" + objectId + "/" + "invite",
+                inputObject, outputClass, RetryStrategy.UNSAFE_TO_RETRY);
+    }
+
+    /**
+     * Invokes the projectInvite method with an empty input without blocking, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Project-Permissions-and-Sharing#API-method%3A-%2Fproject-xxxx%2Finvite">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param outputClass class to deserialize the server reponse to
+     *
+     * @return future that completes with the response object; the future fails with
+     *         {@link DXAPIException} or {@link DXHTTPException} if the request fails
+     */
+    public static <T> ListenableFuture<T> projectInviteAsync(String objectId, Class<T> outputClass) {
+        return projectInviteAsync(objectId, mapper.createObjectNode(), outputClass);
+    }
+    /**
+     * Invokes the projectInvite method with the given input without blocking, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Project-Permissions-and-Sharing#API-method%3A-%2Fproject-xxxx%2Finvite">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param inputObject input object (to be JSON serialized to an input hash)
+     * @param outputClass class to deserialize the server reponse to
+     *
+     * @return future that completes with the response object; the future fails with
+     *         {@link DXAPIException} or {@link DXHTTPException} if the request fails
+     */
+    public static <T> ListenableFuture<T> projectInviteAsync(String objectId, Object inputObject, Class<T> outputClass) {
+        return new DXHTTPRequest().requestAsync("/" + objectId + "/" + "invite",
+                inputObject, outputClass, RetryStrategy.UNSAFE_TO_RETRY);
+    }
+    /**
+     * Invokes the projectInvite method with an empty input using the given environment without blocking, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Project-Permissions-and-Sharing#API-method%3A-%2Fproject-xxxx%2Finvite">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param outputClass class to deserialize the server reponse to
+     * @param env environment object specifying the auth token and remote server and protocol
+     *
+     * @return future that completes with the response object; the future fails with
+     *         {@link DXAPIException} or {@link DXHTTPException} if the request fails
+     */
+    public static <T> ListenableFuture<T> projectInviteAsync(String objectId, Class<T> outputClass, DXEnvironment env) {
+        return projectInviteAsync(objectId, mapper.createObjectNode(), outputClass, env);
+    }
+    /**
+     * Invokes the projectInvite method with the given input using the given environment without blocking, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Project-Permissions-and-Sharing#API-method%3A-%2Fproject-xxxx%2Finvite">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param inputObject input object (to be JSON serialized to an input hash)
+     * @param outputClass class to deserialize the server reponse to
+     * @param env environment object specifying the auth token and remote server and protocol
+     *
+     * @return future that completes with the response object; the future fails with
+     *         {@link DXAPIException} or {@link DXHTTPException} if the request fails
+     */
+    public static <T> ListenableFuture<T> projectInviteAsync(String objectId, Object inputObject, Class<T> outputClass, DXEnvironment env) {
+        return new DXHTTPRequest(env).requestAsync("/" + objectId + "/" + "invite",
+                inputObject, outputClass, RetryStrategy.UNSAFE_TO_RETRY);
     }
 
     /**
@@ -18143,9 +24095,8 @@ public final class DXAPI {
      *             the response (includes HTTP protocol errors).
      */
     public static <T> T projectLeave(String objectId, Object inputObject, Class<T> outputClass) {
-        return DXJSON.safeTreeToValue(
-                new DXHTTPRequest().request("/" + objectId + "/" + "leave",
-                        mapper.valueToTree(inputObject), RetryStrategy.SAFE_TO_RETRY), outputClass);
+        return new DXHTTPRequest().request("/" + objectId + "/" + "leave",
+                inputObject, outputClass, RetryStrategy.SAFE_TO_RETRY);
     }
     /**
      * Invokes the projectLeave method with an empty input using the given environment, deserializing to an object of the specified class.
@@ -18188,9 +24139,71 @@ public final class DXAPI {
      *             the response (includes HTTP protocol errors).
      */
     public static <T> T projectLeave(String objectId, Object inputObject, Class<T> outputClass, DXEnvironment env) {
-        return DXJSON.safeTreeToValue(
-            new DXHTTPRequest(env).request("/" + objectId + "/" + "leave",
-                    mapper.valueToTree(inputObject), RetryStrategy.SAFE_TO_RETRY), outputClass);
+        return new DXHTTPRequest(env).request("/" + objectId + "/" + "leave",
+                inputObject, outputClass, RetryStrategy.SAFE_TO_RETRY);
+    }
+
+    /**
+     * Invokes the projectLeave method with an empty input without blocking, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Project-Permissions-and-Sharing#API-method%3A-%2Fproject-xxxx%2Fleave">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param outputClass class to deserialize the server reponse to
+     *
+     * @return future that completes with the response object; the future fails with
+     *         {@link DXAPIException} or {@link DXHTTPException} if the request fails
+     */
+    public static <T> ListenableFuture<T> projectLeaveAsync(String objectId, Class<T> outputClass) {
+        return projectLeaveAsync(objectId, mapper.createObjectNode(), outputClass);
+    }
+    /**
+     * Invokes the projectLeave method with the given input without blocking, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Project-Permissions-and-Sharing#API-method%3A-%2Fproject-xxxx%2Fleave">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param inputObject input object (to be JSON serialized to an input hash)
+     * @param outputClass class to deserialize the server reponse to
+     *
+     * @return future that completes with the response object; the future fails with
+     *         {@link DXAPIException} or {@link DXHTTPException} if the request fails
+     */
+    public static <T> ListenableFuture<T> projectLeaveAsync(String objectId, Object inputObject, Class<T> outputClass) {
+        return new DXHTTPRequest().requestAsync("/" + objectId + "/" + "leave",
+                inputObject, outputClass, RetryStrategy.SAFE_TO_RETRY);
+    }
+    /**
+     * Invokes the projectLeave method with an empty input using the given environment without blocking, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Project-Permissions-and-Sharing#API-method%3A-%2Fproject-xxxx%2Fleave">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param outputClass class to deserialize the server reponse to
+     * @param env environment object specifying the auth token and remote server and protocol
+     *
+     * @return future that completes with the response object; the future fails with
+     *         {@link DXAPIException} or {@link DXHTTPException} if the request fails
+     */
+    public static <T> ListenableFuture<T> projectLeaveAsync(String objectId, Class<T> outputClass, DXEnvironment env) {
+        return projectLeaveAsync(objectId, mapper.createObjectNode(), outputClass, env);
+    }
+    /**
+     * Invokes the projectLeave method with the given input using the given environment without blocking, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Project-Permissions-and-Sharing#API-method%3A-%2Fproject-xxxx%2Fleave">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param inputObject input object (to be JSON serialized to an input hash)
+     * @param outputClass class to deserialize the server reponse to
+     * @param env environment object specifying the auth token and remote server and protocol
+     *
+     * @return future that completes with the response object; the future fails with
+     *         {@link DXAPIException} or {@link DXHTTPException} if the request fails
+     */
+    public static <T> ListenableFuture<T> projectLeaveAsync(String objectId, Object inputObject, Class<T> outputClass, DXEnvironment env) {
+        return new DXHTTPRequest(env).requestAsync("/" + objectId + "/" + "leave",
+                inputObject, outputClass, RetryStrategy.SAFE_TO_RETRY);
     }
 
     /**
@@ -18327,9 +24340,8 @@ public final class DXAPI {
      *             the response (includes HTTP protocol errors).
      */
     public static <T> T projectListFolder(String objectId, Object inputObject, Class<T> outputClass) {
-        return DXJSON.safeTreeToValue(
-                new DXHTTPRequest().request("/" + objectId + "/" + "listFolder",
-                        mapper.valueToTree(inputObject), RetryStrategy.SAFE_TO_RETRY), outputClass);
+        return new DXHTTPRequest().request("/" + objectId + "/" + "listFolder",
+                inputObject, outputClass, RetryStrategy.SAFE_TO_RETRY);
     }
     /**
      * Invokes the projectListFolder method with an empty input using the given environment, deserializing to an object of the specified class.
@@ -18372,9 +24384,71 @@ public final class DXAPI {
      *             the response (includes HTTP protocol errors).
      */
     public static <T> T projectListFolder(String objectId, Object inputObject, Class<T> outputClass, DXEnvironment env) {
-        return DXJSON.safeTreeToValue(
-            new DXHTTPRequest(env).request("/" + objectId + "/" + "listFolder",
-                    mapper.valueToTree(inputObject), RetryStrategy.SAFE_TO_RETRY), outputClass);
+        return new DXHTTPRequest(env).request("/" + objectId + "/" + "listFolder",
+                inputObject, outputClass, RetryStrategy.SAFE_TO_RETRY);
+    }
+
+    /**
+     * Invokes the projectListFolder method with an empty input without blocking, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Folders-and-Deletion#API-method%3A-%2Fclass-xxxx%2FlistFolder">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param outputClass class to deserialize the server reponse to
+     *
+     * @return future that completes with the response object; the future fails with
+     *         {@link DXAPIException} or {@link DXHTTPException} if the request fails
+     */
+    public static <T> ListenableFuture<T> projectListFolderAsync(String objectId, Class<T> outputClass) {
+        return projectListFolderAsync(objectId, mapper.createObjectNode(), outputClass);
+    }
+    /**
+     * Invokes the projectListFolder method with the given input without blocking, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Folders-and-Deletion#API-method%3A-%2Fclass-xxxx%2FlistFolder">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param inputObject input object (to be JSON serialized to an input hash)
+     * @param outputClass class to deserialize the server reponse to
+     *
+     * @return future that completes with the response object; the future fails with
+     *         {@link DXAPIException} or {@link DXHTTPException} if the request fails
+     */
+    public static <T> ListenableFuture<T> projectListFolderAsync(String objectId, Object inputObject, Class<T> outputClass) {
+        return new DXHTTPRequest().requestAsync("/" + objectId + "/" + "listFolder",
+                inputObject, outputClass, RetryStrategy.SAFE_TO_RETRY);
+    }
+    /**
+     * Invokes the projectListFolder method with an empty input using the given environment without blocking, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Folders-and-Deletion#API-method%3A-%2Fclass-xxxx%2FlistFolder">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param outputClass class to deserialize the server reponse to
+     * @param env environment object specifying the auth token and remote server and protocol
+     *
+     * @return future that completes with the response object; the future fails with
+     *         {@link DXAPIException} or {@link DXHTTPException} if the request fails
+     */
+    public static <T> ListenableFuture<T> projectListFolderAsync(String objectId, Class<T> outputClass, DXEnvironment env) {
+        return projectListFolderAsync(objectId, mapper.createObjectNode(), outputClass, env);
+    }
+    /**
+     * Invokes the projectListFolder method with the given input using the given environment without blocking, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Folders-and-Deletion#API-method%3A-%2Fclass-xxxx%2FlistFolder">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param inputObject input object (to be JSON serialized to an input hash)
+     * @param outputClass class to deserialize the server reponse to
+     * @param env environment object specifying the auth token and remote server and protocol
+     *
+     * @return future that completes with the response object; the future fails with
+     *         {@link DXAPIException} or {@link DXHTTPException} if the request fails
+     */
+    public static <T> ListenableFuture<T> projectListFolderAsync(String objectId, Object inputObject, Class<T> outputClass, DXEnvironment env) {
+        return new DXHTTPRequest(env).requestAsync("/" + objectId + "/" + "listFolder",
+                inputObject, outputClass, RetryStrategy.SAFE_TO_RETRY);
     }
 
     /**
@@ -18511,9 +24585,8 @@ public final class DXAPI {
      *             the response (includes HTTP protocol errors).
      */
     public static <T> T projectMove(String objectId, Object inputObject, Class<T> outputClass) {
-        return DXJSON.safeTreeToValue(
-                new DXHTTPRequest().request("/" + objectId + "/" + "move",
-                        mapper.valueToTree(inputObject), RetryStrategy.UNSAFE_TO_RETRY), outputClass);
+        return new DXHTTPRequest().request("/" + objectId + "/" + "move",
+                inputObject, outputClass, RetryStrategy.UNSAFE_TO_RETRY);
     }
     /**
      * Invokes the projectMove method with an empty input using the given environment, deserializing to an object of the specified class.
@@ -18556,9 +24629,71 @@ public final class DXAPI {
      *             the response (includes HTTP protocol errors).
      */
     public static <T> T projectMove(String objectId, Object inputObject, Class<T> outputClass, DXEnvironment env) {
-        return DXJSON.safeTreeToValue(
-            new DXHTTPRequest(env).request("/" + objectId + "/" + "move",
-                    mapper.valueToTree(inputObject), RetryStrategy.UNSAFE_TO_RETRY), outputClass);
+        return new DXHTTPRequest(env).request("/" + objectId + "/" + "move",
+                inputObject, outputClass, RetryStrategy.UNSAFE_TO_RETRY);
+    }
+
+    /**
+     * Invokes the projectMove method with an empty input without blocking, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Folders-and-Deletion#API-method%3A-%2Fclass-xxxx%2Fmove">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param outputClass class to deserialize the server reponse to
+     *
+     * @return future that completes with the response object; the future fails with
+     *         {@link DXAPIException} or {@link DXHTTPException} if the request fails
+     */
+    public static <T> ListenableFuture<T> projectMoveAsync(String objectId, Class<T> outputClass) {
+        return projectMoveAsync(objectId, mapper.createObjectNode(), outputClass);
+    }
+    /**
+     * Invokes the projectMove method with the given input without blocking, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Folders-and-Deletion#API-method%3A-%2Fclass-xxxx%2Fmove">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param inputObject input object (to be JSON serialized to an input hash)
+     * @param outputClass class to deserialize the server reponse to
+     *
+     * @return future that completes with the response object; the future fails with
+     *         {@link DXAPIException} or {@link DXHTTPException} if the request fails
+     */
+    public static <T> ListenableFuture<T> projectMoveAsync(String objectId, Object inputObject, Class<T> outputClass) {
+        return new DXHTTPRequest().requestAsync("/" + objectId + "/" + "move",
+                inputObject, outputClass, RetryStrategy.UNSAFE_TO_RETRY);
+    }
+    /**
+     * Invokes the projectMove method with an empty input using the given environment without blocking, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Folders-and-Deletion#API-method%3A-%2Fclass-xxxx%2Fmove">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param outputClass class to deserialize the server reponse to
+     * @param env environment object specifying the auth token and remote server and protocol
+     *
+     * @return future that completes with the response object; the future fails with
+     *         {@link DXAPIException} or {@link DXHTTPException} if the request fails
+     */
+    public static <T> ListenableFuture<T> projectMoveAsync(String objectId, Class<T> outputClass, DXEnvironment env) {
+        return projectMoveAsync(objectId, mapper.createObjectNode(), outputClass, env);
+    }
+    /**
+     * Invokes the projectMove method with the given input using the given environment without blocking, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Folders-and-Deletion#API-method%3A-%2Fclass-xxxx%2Fmove">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param inputObject input object (to be JSON serialized to an input hash)
+     * @param outputClass class to deserialize the server reponse to
+     * @param env environment object specifying the auth token and remote server and protocol
+     *
+     * @return future that completes with the response object; the future fails with
+     *         {@link DXAPIException} or {@link DXHTTPException} if the request fails
+     */
+    public static <T> ListenableFuture<T> projectMoveAsync(String objectId, Object inputObject, Class<T> outputClass, DXEnvironment env) {
+        return new DXHTTPRequest(env).requestAsync("/" + objectId + "/" + "move",
+                inputObject, outputClass, RetryStrategy.UNSAFE_TO_RETRY);
     }
 
     /**
@@ -18695,9 +24830,8 @@ public final class DXAPI {
      *             the response (includes HTTP protocol errors).
      */
     public static <T> T projectNewFolder(String objectId, Object inputObject, Class<T> outputClass) {
-        return DXJSON.safeTreeToValue(
-                new DXHTTPRequest().request("/" + objectId + "/" + "newFolder",
-                        mapper.valueToTree(inputObject), RetryStrategy.SAFE_TO_RETRY), outputClass);
+        return new DXHTTPRequest().request("/" + objectId + "/" + "newFolder",
+                inputObject, outputClass, RetryStrategy.SAFE_TO_RETRY);
     }
     /**
      * Invokes the projectNewFolder method with an empty input using the given environment, deserializing to an object of the specified class.
@@ -18740,9 +24874,71 @@ public final class DXAPI {
      *             the response (includes HTTP protocol errors).
      */
     public static <T> T projectNewFolder(String objectId, Object inputObject, Class<T> outputClass, DXEnvironment env) {
-        return DXJSON.safeTreeToValue(
-            new DXHTTPRequest(env).request("/" + objectId + "/" + "newFolder",
-                    mapper.valueToTree(inputObject), RetryStrategy.SAFE_TO_RETRY), outputClass);
+        return new DXHTTPRequest(env).request("/" + objectId + "/" + "newFolder",
+                inputObject, outputClass, RetryStrategy.SAFE_TO_RETRY);
+    }
+
+    /**
+     * Invokes the projectNewFolder method with an empty input without blocking, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Folders-and-Deletion#API-method%3A-%2Fclass-xxxx%2FnewFolder">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param outputClass class to deserialize the server reponse to
+     *
+     * @return future that completes with the response object; the future fails with
+     *         {@link DXAPIException} or {@link DXHTTPException} if the request fails
+     */
+    public static <T> ListenableFuture<T> projectNewFolderAsync(String objectId, Class<T> outputClass) {
+        return projectNewFolderAsync(objectId, mapper.createObjectNode(), outputClass);
+    }
+    /**
+     * Invokes the projectNewFolder method with the given input without blocking, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Folders-and-Deletion#API-method%3A-%2Fclass-xxxx%2FnewFolder">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param inputObject input object (to be JSON serialized to an input hash)
+     * @param outputClass class to deserialize the server reponse to
+     *
+     * @return future that completes with the response object; the future fails with
+     *         {@link DXAPIException} or {@link DXHTTPException} if the request fails
+     */
+    public static <T> ListenableFuture<T> projectNewFolderAsync(String objectId, Object inputObject, Class<T> outputClass) {
+        return new DXHTTPRequest().requestAsync("/" + objectId + "/" + "newFolder",
+                inputObject, outputClass, RetryStrategy.SAFE_TO_RETRY);
+    }
+    /**
+     * Invokes the projectNewFolder method with an empty input using the given environment without blocking, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Folders-and-Deletion#API-method%3A-%2Fclass-xxxx%2FnewFolder">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param outputClass class to deserialize the server reponse to
+     * @param env environment object specifying the auth token and remote server and protocol
+     *
+     * @return future that completes with the response object; the future fails with
+     *         {@link DXAPIException} or {@link DXHTTPException} if the request fails
+     */
+    public static <T> ListenableFuture<T> projectNewFolderAsync(String objectId, Class<T> outputClass, DXEnvironment env) {
+        return projectNewFolderAsync(objectId, mapper.createObjectNode(), outputClass, env);
+    }
+    /**
+     * Invokes the projectNewFolder method with the given input using the given environment without blocking, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Folders-and-Deletion#API-method%3A-%2Fclass-xxxx%2FnewFolder">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param inputObject input object (to be JSON serialized to an input hash)
+     * @param outputClass class to deserialize the server reponse to
+     * @param env environment object specifying the auth token and remote server and protocol
+     *
+     * @return future that completes with the response object; the future fails with
+     *         {@link DXAPIException} or {@link DXHTTPException} if the request fails
+     */
+    public static <T> ListenableFuture<T> projectNewFolderAsync(String objectId, Object inputObject, Class<T> outputClass, DXEnvironment env) {
+        return new DXHTTPRequest(env).requestAsync("/" + objectId + "/" + "newFolder",
+                inputObject, outputClass, RetryStrategy.SAFE_TO_RETRY);
     }
 
     /**
@@ -18879,9 +25075,8 @@ public final class DXAPI {
      *             the response (includes HTTP protocol errors).
      */
     public static <T> T projectRemoveFolder(String objectId, Object inputObject, Class<T> outputClass) {
-        return DXJSON.safeTreeToValue(
-                new DXHTTPRequest().request("/" + objectId + "/" + "removeFolder",
-                        mapper.valueToTree(inputObject), RetryStrategy.UNSAFE_TO_RETRY), outputClass);
+        return new DXHTTPRequest().request("/" + objectId + "/" + "removeFolder",
+                inputObject, outputClass, RetryStrategy.UNSAFE_TO_RETRY);
     }
     /**
      * Invokes the projectRemoveFolder method with an empty input using the given environment, deserializing to an object of the specified class.
@@ -18924,9 +25119,71 @@ public final class DXAPI {
      *             the response (includes HTTP protocol errors).
      */
     public static <T> T projectRemoveFolder(String objectId, Object inputObject, Class<T> outputClass, DXEnvironment env) {
-        return DXJSON.safeTreeToValue(
-            new DXHTTPRequest(env).request("/" + objectId + "/" + "removeFolder",
-                    mapper.valueToTree(inputObject), RetryStrategy.UNSAFE_TO_RETRY), outputClass);
+        return new DXHTTPRequest(env).request("/" + objectId + "/" + "removeFolder",
+                inputObject, outputClass, RetryStrategy.UNSAFE_TO_RETRY);
+    }
+
+    /**
+     * Invokes the projectRemoveFolder method with an empty input without blocking, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Folders-and-Deletion#API-method%3A-%2Fclass-xxxx%2FremoveFolder">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param outputClass class to deserialize the server reponse to
+     *
+     * @return future that completes with the response object; the future fails with
+     *         {@link DXAPIException} or {@link DXHTTPException} if the request fails
+     */
+    public static <T> ListenableFuture<T> projectRemoveFolderAsync(String objectId, Class<T> outputClass) {
+        return projectRemoveFolderAsync(objectId, mapper.createObjectNode(), outputClass);
+    }
+    /**
+     * Invokes the projectRemoveFolder method with the given input without blocking, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Folders-and-Deletion#API-method%3A-%2Fclass-xxxx%2FremoveFolder">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param inputObject input object (to be JSON serialized to an input hash)
+     * @param outputClass class to deserialize the server reponse to
+     *
+     * @return future that completes with the response object; the future fails with
+     *         {@link DXAPIException} or {@link DXHTTPException} if the request fails
+     */
+    public static <T> ListenableFuture<T> projectRemoveFolderAsync(String objectId, Object inputObject, Class<T> outputClass) {
+        return new DXHTTPRequest().requestAsync("/" + objectId + "/" + "removeFolder",
+                inputObject, outputClass, RetryStrategy.UNSAFE_TO_RETRY);
+    }
+    /**
+     * Invokes the projectRemoveFolder method with an empty input using the given environment without blocking, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Folders-and-Deletion#API-method%3A-%2Fclass-xxxx%2FremoveFolder">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param outputClass class to deserialize the server reponse to
+     * @param env environment object specifying the auth token and remote server and protocol
+     *
+     * @return future that completes with the response object; the future fails with
+     *         {@link DXAPIException} or {@link DXHTTPException} if the request fails
+     */
+    public static <T> ListenableFuture<T> projectRemoveFolderAsync(String objectId, Class<T> outputClass, DXEnvironment env) {
+        return projectRemoveFolderAsync(objectId, mapper.createObjectNode(), outputClass, env);
+    }
+    /**
+     * Invokes the projectRemoveFolder method with the given input using the given environment without blocking, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Folders-and-Deletion#API-method%3A-%2Fclass-xxxx%2FremoveFolder">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param inputObject input object (to be JSON serialized to an input hash)
+     * @param outputClass class to deserialize the server reponse to
+     * @param env environment object specifying the auth token and remote server and protocol
+     *
+     * @return future that completes with the response object; the future fails with
+     *         {@link DXAPIException} or {@link DXHTTPException} if the request fails
+     */
+    public static <T> ListenableFuture<T> projectRemoveFolderAsync(String objectId, Object inputObject, Class<T> outputClass, DXEnvironment env) {
+        return new DXHTTPRequest(env).requestAsync("/" + objectId + "/" + "removeFolder",
+                inputObject, outputClass, RetryStrategy.UNSAFE_TO_RETRY);
     }
 
     /**
@@ -19063,9 +25320,8 @@ public final class DXAPI {
      *             the response (includes HTTP protocol errors).
      */
     public static <T> T projectRemoveObjects(String objectId, Object inputObject, Class<T> outputClass) {
-        return DXJSON.safeTreeToValue(
-                new DXHTTPRequest().request("/" + objectId + "/" + "removeObjects",
-                        mapper.valueToTree(inputObject), RetryStrategy.UNSAFE_TO_RETRY), outputClass);
+        return new DXHTTPRequest().request("/" + objectId + "/" + "removeObjects",
+                inputObject, outputClass, RetryStrategy.UNSAFE_TO_RETRY);
     }
     /**
      * Invokes the projectRemoveObjects method with an empty input using the given environment, deserializing to an object of the specified class.
@@ -19108,9 +25364,71 @@ public final class DXAPI {
      *             the response (includes HTTP protocol errors).
      */
     public static <T> T projectRemoveObjects(String objectId, Object inputObject, Class<T> outputClass, DXEnvironment env) {
-        return DXJSON.safeTreeToValue(
-            new DXHTTPRequest(env).request("/" + objectId + "/" + "removeObjects",
-                    mapper.valueToTree(inputObject), RetryStrategy.UNSAFE_TO_RETRY), outputClass);
+        return new DXHTTPRequest(env).request("/" + objectId + "/" + "removeObjects",
+                inputObject, outputClass, RetryStrategy.UNSAFE_TO_RETRY);
+    }
+
+    /**
+     * Invokes the projectRemoveObjects method with an empty input without blocking, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Folders-and-Deletion#API-method%3A-%2Fclass-xxxx%2FremoveObjects">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param outputClass class to deserialize the server reponse to
+     *
+     * @return future that completes with the response object; the future fails with
+     *         {@link DXAPIException} or {@link DXHTTPException} if the request fails
+     */
+    public static <T> ListenableFuture<T> projectRemoveObjectsAsync(String objectId, Class<T> outputClass) {
+        return projectRemoveObjectsAsync(objectId, mapper.createObjectNode(), outputClass);
+    }
+    /**
+     * Invokes the projectRemoveObjects method with the given input without blocking, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Folders-and-Deletion#API-method%3A-%2Fclass-xxxx%2FremoveObjects">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param inputObject input object (to be JSON serialized to an input hash)
+     * @param outputClass class to deserialize the server reponse to
+     *
+     * @return future that completes with the response object; the future fails with
+     *         {@link DXAPIException} or {@link DXHTTPException} if the request fails
+     */
+    public static <T> ListenableFuture<T> projectRemoveObjectsAsync(String objectId, Object inputObject, Class<T> outputClass) {
+        return new DXHTTPRequest().requestAsync("/" + objectId + "/" + "removeObjects",
+                inputObject, outputClass, RetryStrategy.UNSAFE_TO_RETRY);
+    }
+    /**
+     * Invokes the projectRemoveObjects method with an empty input using the given environment without blocking, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Folders-and-Deletion#API-method%3A-%2Fclass-xxxx%2FremoveObjects">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param outputClass class to deserialize the server reponse to
+     * @param env environment object specifying the auth token and remote server and protocol
+     *
+     * @return future that completes with the response object; the future fails with
+     *         {@link DXAPIException} or {@link DXHTTPException} if the request fails
+     */
+    public static <T> ListenableFuture<T> projectRemoveObjectsAsync(String objectId, Class<T> outputClass, DXEnvironment env) {
+        return projectRemoveObjectsAsync(objectId, mapper.createObjectNode(), outputClass, env);
+    }
+    /**
+     * Invokes the projectRemoveObjects method with the given input using the given environment without blocking, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Folders-and-Deletion#API-method%3A-%2Fclass-xxxx%2FremoveObjects">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param inputObject input object (to be JSON serialized to an input hash)
+     * @param outputClass class to deserialize the server reponse to
+     * @param env environment object specifying the auth token and remote server and protocol
+     *
+     * @return future that completes with the response object; the future fails with
+     *         {@link DXAPIException} or {@link DXHTTPException} if the request fails
+     */
+    public static <T> ListenableFuture<T> projectRemoveObjectsAsync(String objectId, Object inputObject, Class<T> outputClass, DXEnvironment env) {
+        return new DXHTTPRequest(env).requestAsync("/" + objectId + "/" + "removeObjects",
+                inputObject, outputClass, RetryStrategy.UNSAFE_TO_RETRY);
     }
 
     /**
@@ -19247,9 +25565,8 @@ public final class DXAPI {
      *             the response (includes HTTP protocol errors).
      */
     public static <T> T projectRemoveTags(String objectId, Object inputObject, Class<T> outputClass) {
-        return DXJSON.safeTreeToValue(
-                new DXHTTPRequest().request("/" + objectId + "/" + "removeTags",
-                        mapper.valueToTree(inputObject), RetryStrategy.SAFE_TO_RETRY), outputClass);
+        return new DXHTTPRequest().request("/" + objectId + "/" + "removeTags",
+                inputObject, outputClass, RetryStrategy.SAFE_TO_RETRY);
     }
     /**
      * Invokes the projectRemoveTags method with an empty input using the given environment, deserializing to an object of the specified class.
@@ -19292,9 +25609,71 @@ public final class DXAPI {
      *             the response (includes HTTP protocol errors).
      */
     public static <T> T projectRemoveTags(String objectId, Object inputObject, Class<T> outputClass, DXEnvironment env) {
-        return DXJSON.safeTreeToValue(
-            new DXHTTPRequest(env).request("/" + objectId + "/" + "removeTags",
-                    mapper.valueToTree(inputObject), RetryStrategy.SAFE_TO_RETRY), outputClass);
+        return new DXHTTPRequest(env).request("/" + objectId + "/" + "removeTags",
+                inputObject, outputClass, RetryStrategy.SAFE_TO_RETRY);
+    }
+
+    /**
+     * Invokes the projectRemoveTags method with an empty input without blocking, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Projects#API-method%3A-%2Fproject-xxxx%2FremoveTags">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param outputClass class to deserialize the server reponse to
+     *
+     * @return future that completes with the response object; the future fails with
+     *         {@link DXAPIException} or {@link DXHTTPException} if the request fails
+     */
+    public static <T> ListenableFuture<T> projectRemoveTagsAsync(String objectId, Class<T> outputClass) {
+        return projectRemoveTagsAsync(objectId, mapper.createObjectNode(), outputClass);
+    }
+    /**
+     * Invokes the projectRemoveTags method with the given input without blocking, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Projects#API-method%3A-%2Fproject-xxxx%2FremoveTags">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param inputObject input object (to be JSON serialized to an input hash)
+     * @param outputClass class to deserialize the server reponse to
+     *
+     * @return future that completes with the response object; the future fails with
+     *         {@link DXAPIException} or {@link DXHTTPException} if the request fails
+     */
+    public static <T> ListenableFuture<T> projectRemoveTagsAsync(String objectId, Object inputObject, Class<T> outputClass) {
+        return new DXHTTPRequest().requestAsync("/" + objectId + "/" + "removeTags",
+                inputObject, outputClass, RetryStrategy.SAFE_TO_RETRY);
+    }
+    /**
+     * Invokes the projectRemoveTags method with an empty input using the given environment without blocking, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Projects#API-method%3A-%2Fproject-xxxx%2FremoveTags">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param outputClass class to deserialize the server reponse to
+     * @param env environment object specifying the auth token and remote server and protocol
+     *
+     * @return future that completes with the response object; the future fails with
+     *         {@link DXAPIException} or {@link DXHTTPException} if the request fails
+     */
+    public static <T> ListenableFuture<T> projectRemoveTagsAsync(String objectId, Class<T> outputClass, DXEnvironment env) {
+        return projectRemoveTagsAsync(objectId, mapper.createObjectNode(), outputClass, env);
+    }
+    /**
+     * Invokes the projectRemoveTags method with the given input using the given environment without blocking, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Projects#API-method%3A-%2Fproject-xxxx%2FremoveTags">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param inputObject input object (to be JSON serialized to an input hash)
+     * @param outputClass class to deserialize the server reponse to
+     * @param env environment object specifying the auth token and remote server and protocol
+     *
+     * @return future that completes with the response object; the future fails with
+     *         {@link DXAPIException} or {@link DXHTTPException} if the request fails
+     */
+    public static <T> ListenableFuture<T> projectRemoveTagsAsync(String objectId, Object inputObject, Class<T> outputClass, DXEnvironment env) {
+        return new DXHTTPRequest(env).requestAsync("/" + objectId + "/" + "removeTags",
+                inputObject, outputClass, RetryStrategy.SAFE_TO_RETRY);
     }
 
     /**
@@ -19431,9 +25810,8 @@ public final class DXAPI {
      *             the response (includes HTTP protocol errors).
      */
     public static <T> T projectRenameFolder(String objectId, Object inputObject, Class<T> outputClass) {
-        return DXJSON.safeTreeToValue(
-                new DXHTTPRequest().request("/" + objectId + "/" + "renameFolder",
-                        mapper.valueToTree(inputObject), RetryStrategy.UNSAFE_TO_RETRY), outputClass);
+        return new DXHTTPRequest().request("/" + objectId + "/" + "renameFolder",
+                inputObject, outputClass, RetryStrategy.UNSAFE_TO_RETRY);
     }
     /**
      * Invokes the projectRenameFolder method with an empty input using the given environment, deserializing to an object of the specified class.
@@ -19476,9 +25854,71 @@ public final class DXAPI {
      *             the response (includes HTTP protocol errors).
      */
     public static <T> T projectRenameFolder(String objectId, Object inputObject, Class<T> outputClass, DXEnvironment env) {
-        return DXJSON.safeTreeToValue(
-            new DXHTTPRequest(env).request("/" + objectId + "/" + "renameFolder",
-                    mapper.valueToTree(inputObject), RetryStrategy.UNSAFE_TO_RETRY), outputClass);
+        return new DXHTTPRequest(env).request("/" + objectId + "/" + "renameFolder",
+                inputObject, outputClass, RetryStrategy.UNSAFE_TO_RETRY);
+    }
+
+    /**
+     * Invokes the projectRenameFolder method with an empty input without blocking, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Folders-and-Deletion#API-method%3A-%2Fclass-xxxx%2FrenameFolder">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param outputClass class to deserialize the server reponse to
+     *
+     * @return future that completes with the response object; the future fails with
+     *         {@link DXAPIException} or {@link DXHTTPException} if the request fails
+     */
+    public static <T> ListenableFuture<T> projectRenameFolderAsync(String objectId, Class<T> outputClass) {
+        return projectRenameFolderAsync(objectId, mapper.createObjectNode(), outputClass);
+    }
+    /**
+     * Invokes the projectRenameFolder method with the given input without blocking, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Folders-and-Deletion#API-method%3A-%2Fclass-xxxx%2FrenameFolder">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param inputObject input object (to be JSON serialized to an input hash)
+     * @param outputClass class to deserialize the server reponse to
+     *
+     * @return future that completes with the response object; the future fails with
+     *         {@link DXAPIException} or {@link DXHTTPException} if the request fails
+     */
+    public static <T> ListenableFuture<T> projectRenameFolderAsync(String objectId, Object inputObject, Class<T> outputClass) {
+        return new DXHTTPRequest().requestAsync("/" + objectId + "/" + "renameFolder",
+                inputObject, outputClass, RetryStrategy.UNSAFE_TO_RETRY);
+    }
+    /**
+     * Invokes the projectRenameFolder method with an empty input using the given environment without blocking, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Folders-and-Deletion#API-method%3A-%2Fclass-xxxx%2FrenameFolder">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param outputClass class to deserialize the server reponse to
+     * @param env environment object specifying the auth token and remote server and protocol
+     *
+     * @return future that completes with the response object; the future fails with
+     *         {@link DXAPIException} or {@link DXHTTPException} if the request fails
+     */
+    public static <T> ListenableFuture<T> projectRenameFolderAsync(String objectId, Class<T> outputClass, DXEnvironment env) {
+        return projectRenameFolderAsync(objectId, mapper.createObjectNode(), outputClass, env);
+    }
+    /**
+     * Invokes the projectRenameFolder method with the given input using the given environment without blocking, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Folders-and-Deletion#API-method%3A-%2Fclass-xxxx%2FrenameFolder">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param inputObject input object (to be JSON serialized to an input hash)
+     * @param outputClass class to deserialize the server reponse to
+     * @param env environment object specifying the auth token and remote server and protocol
+     *
+     * @return future that completes with the response object; the future fails with
+     *         {@link DXAPIException} or {@link DXHTTPException} if the request fails
+     */
+    public static <T> ListenableFuture<T> projectRenameFolderAsync(String objectId, Object inputObject, Class<T> outputClass, DXEnvironment env) {
+        return new DXHTTPRequest(env).requestAsync("/" + objectId + "/" + "renameFolder",
+                inputObject, outputClass, RetryStrategy.UNSAFE_TO_RETRY);
     }
 
     /**
@@ -19615,9 +26055,8 @@ public final class DXAPI {
      *             the response (includes HTTP protocol errors).
      */
     public static <T> T projectSetProperties(String objectId, Object inputObject, Class<T> outputClass) {
-        return DXJSON.safeTreeToValue(
-                new DXHTTPRequest().request("/" + objectId + "/" + "setProperties",
-                        mapper.valueToTree(inputObject), RetryStrategy.SAFE_TO_RETRY), outputClass);
+        return new DXHTTPRequest().request("/" + objectId + "/" + "setProperties",
+                inputObject, outputClass, RetryStrategy.SAFE_TO_RETRY);
     }
     /**
      * Invokes the projectSetProperties method with an empty input using the given environment, deserializing to an object of the specified class.
@@ -19660,9 +26099,71 @@ public final class DXAPI {
      *             the response (includes HTTP protocol errors).
      */
     public static <T> T projectSetProperties(String objectId, Object inputObject, Class<T> outputClass, DXEnvironment env) {
-        return DXJSON.safeTreeToValue(
-            new DXHTTPRequest(env).request("/" + objectId + "/" + "setProperties",
-                    mapper.valueToTree(inputObject), RetryStrategy.SAFE_TO_RETRY), outputClass);
+        return new DXHTTPRequest(env).request("/" + objectId + "/" + "setProperties",
+                inputObject, outputClass, RetryStrategy.SAFE_TO_RETRY);
+    }
+
+    /**
+     * Invokes the projectSetProperties method with an empty input without blocking, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Projects#API-method%3A-%2Fproject-xxxx%2FsetProperties">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param outputClass class to deserialize the server reponse to
+     *
+     * @return future that completes with the response object; the future fails with
+     *         {@link DXAPIException} or {@link DXHTTPException} if the request fails
+     */
+    public static <T> ListenableFuture<T> projectSetPropertiesAsync(String objectId, Class<T> outputClass) {
+        return projectSetPropertiesAsync(objectId, mapper.createObjectNode(), outputClass);
+    }
+    /**
+     * Invokes the projectSetProperties method with the given input without blocking, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Projects#API-method%3A-%2Fproject-xxxx%2FsetProperties">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param inputObject input object (to be JSON serialized to an input hash)
+     * @param outputClass class to deserialize the server reponse to
+     *
+     * @return future that completes with the response object; the future fails with
+     *         {@link DXAPIException} or {@link DXHTTPException} if the request fails
+     */
+    public static <T> ListenableFuture<T> projectSetPropertiesAsync(String objectId, Object inputObject, Class<T> outputClass) {
+        return new DXHTTPRequest().requestAsync("/" + objectId + "/" + "setProperties",
+                inputObject, outputClass, RetryStrategy.SAFE_TO_RETRY);
+    }
+    /**
+     * Invokes the projectSetProperties method with an empty input using the given environment without blocking, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Projects#API-method%3A-%2Fproject-xxxx%2FsetProperties">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param outputClass class to deserialize the server reponse to
+     * @param env environment object specifying the auth token and remote server and protocol
+     *
+     * @return future that completes with the response object; the future fails with
+     *         {@link DXAPIException} or {@link DXHTTPException} if the request fails
+     */
+    public static <T> ListenableFuture<T> projectSetPropertiesAsync(String objectId, Class<T> outputClass, DXEnvironment env) {
+        return projectSetPropertiesAsync(objectId, mapper.createObjectNode(), outputClass, env);
+    }
+    /**
+     * Invokes the projectSetProperties method with the given input using the given environment without blocking, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Projects#API-method%3A-%2Fproject-xxxx%2FsetProperties">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param inputObject input object (to be JSON serialized to an input hash)
+     * @param outputClass class to deserialize the server reponse to
+     * @param env environment object specifying the auth token and remote server and protocol
+     *
+     * @return future that completes with the response object; the future fails with
+     *         {@link DXAPIException} or {@link DXHTTPException} if the request fails
+     */
+    public static <T> ListenableFuture<T> projectSetPropertiesAsync(String objectId, Object inputObject, Class<T> outputClass, DXEnvironment env) {
+        return new DXHTTPRequest(env).requestAsync("/" + objectId + "/" + "setProperties",
+                inputObject, outputClass, RetryStrategy.SAFE_TO_RETRY);
     }
 
     /**
@@ -19799,9 +26300,8 @@ public final class DXAPI {
      *             the response (includes HTTP protocol errors).
      */
     public static <T> T projectTransfer(String objectId, Object inputObject, Class<T> outputClass) {
-        return DXJSON.safeTreeToValue(
-                new DXHTTPRequest().request("/" + objectId + "/" + "transfer",
-                        mapper.valueToTree(inputObject), RetryStrategy.SAFE_TO_RETRY), outputClass);
+        return new DXHTTPRequest().request("/" + objectId + "/" + "transfer",
+                inputObject, outputClass, RetryStrategy.SAFE_TO_RETRY);
     }
     /**
      * Invokes the projectTransfer method with an empty input using the given environment, deserializing to an object of the specified class.
@@ -19844,24 +26344,86 @@ public final class DXAPI {
      *             the response (includes HTTP protocol errors).
      */
     public static <T> T projectTransfer(String objectId, Object inputObject, Class<T> outputClass, DXEnvironment env) {
-        return DXJSON.safeTreeToValue(
-            new DXHTTPRequest(env).request("/" + objectId + "/" + "transfer",
-                    mapper.valueToTree(inputObject), RetryStrategy.SAFE_TO_RETRY), outputClass);
+        return new DXHTTPRequest(env).request("/" + objectId + "/" + "transfer",
+                inputObject, outputClass, RetryStrategy.SAFE_TO_RETRY);
     }
 
     /**
-     * Invokes the projectTransfer method.
+     * Invokes the projectTransfer method with an empty input without blocking, deserializing to an object of the specified class.
      *
      * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Project-Permissions-and-Sharing#API-method%3A-%2Fproject-xxxx%2Ftransfer">API specification</a>.
      *
      * @param objectId ID of the object to operate on
+     * @param outputClass class to deserialize the server reponse to
      *
-     * @return Server response parsed from JSON
+     * @return future that completes with the response object; the future fails with
+     *         {@link DXAPIException} or {@link DXHTTPException} if the request fails
+     */
+    public static <T> ListenableFuture<T> projectTransferAsync(String objectId, Class<T> outputClass) {
+        return projectTransferAsync(objectId, mapper.createObjectNode(), outputClass);
+    }
+    /**
+     * Invokes the projectTransfer method with the given input without blocking, deserializing to an object of the specified class.
      *
-     * @throws DXAPIException
-     *             If the server returns a complete response with an HTTP status
-     *             code other than 200 (OK).
-     * @throws DXHTTPException
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Project-Permissions-and-Sharing#API-method%3A-%2Fproject-xxxx%2Ftransfer">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param inputObject input object (to be JSON serialized to an input hash)
+     * @param outputClass class to deserialize the server reponse to
+     *
+     * @return future that completes with the response object; the future fails with
+     *         {@link DXAPIException} or {@link DXHTTPException} if the request fails
+     */
+    public static <T> ListenableFuture<T> projectTransferAsync(String objectId, Object inputObject, Class<T> outputClass) {
+        return new DXHTTPRequest().requestAsync("/" + objectId + "/" + "transfer",
+                inputObject, outputClass, RetryStrategy.SAFE_TO_RETRY);
+    }
+    /**
+     * Invokes the projectTransfer method with an empty input using the given environment without blocking, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Project-Permissions-and-Sharing#API-method%3A-%2Fproject-xxxx%2Ftransfer">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param outputClass class to deserialize the server reponse to
+     * @param env environment object specifying the auth token and remote server and protocol
+     *
+     * @return future that completes with the response object; the future fails with
+     *         {@link DXAPIException} or {@link DXHTTPException} if the request fails
+     */
+    public static <T> ListenableFuture<T> projectTransferAsync(String objectId, Class<T> outputClass, DXEnvironment env) {
+        return projectTransferAsync(objectId, mapper.createObjectNode(), outputClass, env);
+    }
+    /**
+     * Invokes the projectTransfer method with the given input using the given environment without blocking, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Project-Permissions-and-Sharing#API-method%3A-%2Fproject-xxxx%2Ftransfer">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param inputObject input object (to be JSON serialized to an input hash)
+     * @param outputClass class to deserialize the server reponse to
+     * @param env environment object specifying the auth token and remote server and protocol
+     *
+     * @return future that completes with the response object; the future fails with
+     *         {@link DXAPIException} or {@link DXHTTPException} if the request fails
+     */
+    public static <T> ListenableFuture<T> projectTransferAsync(String objectId, Object inputObject, Class<T> outputClass, DXEnvironment env) {
+        return new DXHTTPRequest(env).requestAsync("/" + objectId + "/" + "transfer",
+                inputObject, outputClass, RetryStrategy.SAFE_TO_RETRY);
+    }
+
+    /**
+     * Invokes the projectTransfer method.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Project-Permissions-and-Sharing#API-method%3A-%2Fproject-xxxx%2Ftransfer">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     *
+     * @return Server response parsed from JSON
+     *
+     * @throws DXAPIException
+     *             If the server returns a complete response with an HTTP status
+     *             code other than 200 (OK).
+     * @throws DXHTTPException
      *             If an error occurs while making the HTTP request or obtaining
      *             the response (includes HTTP protocol errors).
      *
@@ -19983,9 +26545,8 @@ public final class DXAPI {
      *             the response (includes HTTP protocol errors).
      */
     public static <T> T projectUpdate(String objectId, Object inputObject, Class<T> outputClass) {
-        return DXJSON.safeTreeToValue(
-                new DXHTTPRequest().request("/" + objectId + "/" + "update",
-                        mapper.valueToTree(inputObject), RetryStrategy.SAFE_TO_RETRY), outputClass);
+        return new DXHTTPRequest().request("/" + objectId + "/" + "update",
+                inputObject, outputClass, RetryStrategy.SAFE_TO_RETRY);
     }
     /**
      * Invokes the projectUpdate method with an empty input using the given environment, deserializing to an object of the specified class.
@@ -20028,9 +26589,71 @@ public final class DXAPI {
      *             the response (includes HTTP protocol errors).
      */
     public static <T> T projectUpdate(String objectId, Object inputObject, Class<T> outputClass, DXEnvironment env) {
-        return DXJSON.safeTreeToValue(
-            new DXHTTPRequest(env).request("/" + objectId + "/" + "update",
-                    mapper.valueToTree(inputObject), RetryStrategy.SAFE_TO_RETRY), outputClass);
+        return new DXHTTPRequest(env).request("/" + objectId + "/" + "update",
+                inputObject, outputClass, RetryStrategy.SAFE_TO_RETRY);
+    }
+
+    /**
+     * Invokes the projectUpdate method with an empty input without blocking, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Projects#API-method%3A-%2Fproject-xxxx%2Fupdate">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param outputClass class to deserialize the server reponse to
+     *
+     * @return future that completes with the response object; the future fails with
+     *         {@link DXAPIException} or {@link DXHTTPException} if the request fails
+     */
+    public static <T> ListenableFuture<T> projectUpdateAsync(String objectId, Class<T> outputClass) {
+        return projectUpdateAsync(objectId, mapper.createObjectNode(), outputClass);
+    }
+    /**
+     * Invokes the projectUpdate method with the given input without blocking, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Projects#API-method%3A-%2Fproject-xxxx%2Fupdate">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param inputObject input object (to be JSON serialized to an input hash)
+     * @param outputClass class to deserialize the server reponse to
+     *
+     * @return future that completes with the response object; the future fails with
+     *         {@link DXAPIException} or {@link DXHTTPException} if the request fails
+     */
+    public static <T> ListenableFuture<T> projectUpdateAsync(String objectId, Object inputObject, Class<T> outputClass) {
+        return new DXHTTPRequest().requestAsync("/" + objectId + "/" + "update",
+                inputObject, outputClass, RetryStrategy.SAFE_TO_RETRY);
+    }
+    /**
+     * Invokes the projectUpdate method with an empty input using the given environment without blocking, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Projects#API-method%3A-%2Fproject-xxxx%2Fupdate">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param outputClass class to deserialize the server reponse to
+     * @param env environment object specifying the auth token and remote server and protocol
+     *
+     * @return future that completes with the response object; the future fails with
+     *         {@link DXAPIException} or {@link DXHTTPException} if the request fails
+     */
+    public static <T> ListenableFuture<T> projectUpdateAsync(String objectId, Class<T> outputClass, DXEnvironment env) {
+        return projectUpdateAsync(objectId, mapper.createObjectNode(), outputClass, env);
+    }
+    /**
+     * Invokes the projectUpdate method with the given input using the given environment without blocking, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Projects#API-method%3A-%2Fproject-xxxx%2Fupdate">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param inputObject input object (to be JSON serialized to an input hash)
+     * @param outputClass class to deserialize the server reponse to
+     * @param env environment object specifying the auth token and remote server and protocol
+     *
+     * @return future that completes with the response object; the future fails with
+     *         {@link DXAPIException} or {@link DXHTTPException} if the request fails
+     */
+    public static <T> ListenableFuture<T> projectUpdateAsync(String objectId, Object inputObject, Class<T> outputClass, DXEnvironment env) {
+        return new DXHTTPRequest(env).requestAsync("/" + objectId + "/" + "update",
+                inputObject, outputClass, RetryStrategy.SAFE_TO_RETRY);
     }
 
     /**
@@ -20167,9 +26790,8 @@ public final class DXAPI {
      *             the response (includes HTTP protocol errors).
      */
     public static <T> T projectUpdateSponsorship(String objectId, Object inputObject, Class<T> outputClass) {
-        return DXJSON.safeTreeToValue(
-                new DXHTTPRequest().request("/" + objectId + "/" + "updateSponsorship",
-                        mapper.valueToTree(inputObject), RetryStrategy.SAFE_TO_RETRY), outputClass);
+        return new DXHTTPRequest().request("/" + objectId + "/" + "updateSponsorship",
+                inputObject, outputClass, RetryStrategy.SAFE_TO_RETRY);
     }
     /**
      * Invokes the projectUpdateSponsorship method with an empty input using the given environment, deserializing to an object of the specified class.
@@ -20212,9 +26834,71 @@ public final class DXAPI {
      *             the response (includes HTTP protocol errors).
      */
     public static <T> T projectUpdateSponsorship(String objectId, Object inputObject, Class<T> outputClass, DXEnvironment env) {
-        return DXJSON.safeTreeToValue(
-            new DXHTTPRequest(env).request("/" + objectId + "/" + "updateSponsorship",
-                    mapper.valueToTree(inputObject), RetryStrategy.SAFE_TO_RETRY), outputClass);
+        return new DXHTTPRequest(env).request("/" + objectId + "/" + "updateSponsorship",
+                inputObject, outputClass, RetryStrategy.SAFE_TO_RETRY);
+    }
+
+    /**
+     * Invokes the projectUpdateSponsorship method with an empty input without blocking, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Projects#API-method%3A-%2Fproject-xxxx%2FupdateSponsorship">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param outputClass class to deserialize the server reponse to
+     *
+     * @return future that completes with the response object; the future fails with
+     *         {@link DXAPIException} or {@link DXHTTPException} if the request fails
+     */
+    public static <T> ListenableFuture<T> projectUpdateSponsorshipAsync(String objectId, Class<T> outputClass) {
+        return projectUpdateSponsorshipAsync(objectId, mapper.createObjectNode(), outputClass);
+    }
+    /**
+     * Invokes the projectUpdateSponsorship method with the given input without blocking, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Projects#API-method%3A-%2Fproject-xxxx%2FupdateSponsorship">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param inputObject input object (to be JSON serialized to an input hash)
+     * @param outputClass class to deserialize the server reponse to
+     *
+     * @return future that completes with the response object; the future fails with
+     *         {@link DXAPIException} or {@link DXHTTPException} if the request fails
+     */
+    public static <T> ListenableFuture<T> projectUpdateSponsorshipAsync(String objectId, Object inputObject, Class<T> outputClass) {
+        return new DXHTTPRequest().requestAsync("/" + objectId + "/" + "updateSponsorship",
+                inputObject, outputClass, RetryStrategy.SAFE_TO_RETRY);
+    }
+    /**
+     * Invokes the projectUpdateSponsorship method with an empty input using the given environment without blocking, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Projects#API-method%3A-%2Fproject-xxxx%2FupdateSponsorship">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param outputClass class to deserialize the server reponse to
+     * @param env environment object specifying the auth token and remote server and protocol
+     *
+     * @return future that completes with the response object; the future fails with
+     *         {@link DXAPIException} or {@link DXHTTPException} if the request fails
+     */
+    public static <T> ListenableFuture<T> projectUpdateSponsorshipAsync(String objectId, Class<T> outputClass, DXEnvironment env) {
+        return projectUpdateSponsorshipAsync(objectId, mapper.createObjectNode(), outputClass, env);
+    }
+    /**
+     * Invokes the projectUpdateSponsorship method with the given input using the given environment without blocking, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Projects#API-method%3A-%2Fproject-xxxx%2FupdateSponsorship">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param inputObject input object (to be JSON serialized to an input hash)
+     * @param outputClass class to deserialize the server reponse to
+     * @param env environment object specifying the auth token and remote server and protocol
+     *
+     * @return future that completes with the response object; the future fails with
+     *         {@link DXAPIException} or {@link DXHTTPException} if the request fails
+     */
+    public static <T> ListenableFuture<T> projectUpdateSponsorshipAsync(String objectId, Object inputObject, Class<T> outputClass, DXEnvironment env) {
+        return new DXHTTPRequest(env).requestAsync("/" + objectId + "/" + "updateSponsorship",
+                inputObject, outputClass, RetryStrategy.SAFE_TO_RETRY);
     }
 
     /**
@@ -20369,9 +27053,7 @@ public final class DXAPI {
      *             the response (includes HTTP protocol errors).
      */
     public static <T> T projectNew(Object inputObject, Class<T> outputClass) {
-        return DXJSON.safeTreeToValue(
-                new DXHTTPRequest().request("/project/new", mapper.valueToTree(inputObject), RetryStrategy.UNSAFE_TO_RETRY),
-                outputClass);
+        return new DXHTTPRequest().request("/project/new", inputObject, outputClass, RetryStrategy.UNSAFE_TO_RETRY);
     }
     /**
      * Invokes the projectNew method with the specified input using the specified environment, deserializing to an object of the specified class.
@@ -20392,9 +27074,64 @@ public final class DXAPI {
      *             the response (includes HTTP protocol errors).
      */
     public static <T> T projectNew(Object inputObject, Class<T> outputClass, DXEnvironment env) {
-        return DXJSON.safeTreeToValue(
-                new DXHTTPRequest(env).request("/project/new", mapper.valueToTree(inputObject), RetryStrategy.UNSAFE_TO_RETRY),
-                outputClass);
+        return new DXHTTPRequest(env).request("/project/new", inputObject, outputClass, RetryStrategy.UNSAFE_TO_RETRY);
+    }
+
+    /**
+     * Invokes the projectNew method with an empty input without blocking, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Projects#API-method%3A-%2Fproject%2Fnew">API specification</a>.
+     *
+     * @param outputClass class to deserialize the server reponse to
+     *
+     * @return future that completes with the server response parsed from JSON; the future fails
+     *         with {@link DXAPIException} or {@link DXHTTPException} if the request fails
+     */
+    public static <T> ListenableFuture<T> projectNewAsync(Class<T> outputClass) {
+        return projectNewAsync(mapper.createObjectNode(), outputClass);
+    }
+    /**
+     * Invokes the projectNew method with an empty input using the specified environment without blocking, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Projects#API-method%3A-%2Fproject%2Fnew">API specification</a>.
+     *
+     * @param outputClass class to deserialize the server reponse to
+     * @param env environment object specifying the auth token and remote server and protocol
+     *
+     * @return future that completes with the server response parsed from JSON; the future fails
+     *         with {@link DXAPIException} or {@link DXHTTPException} if the request fails
+     */
+    public static <T> ListenableFuture<T> projectNewAsync(Class<T> outputClass, DXEnvironment env) {
+        return projectNewAsync(mapper.createObjectNode(), outputClass, env);
+    }
+    /**
+     * Invokes the projectNew method with the specified input without blocking, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Projects#API-method%3A-%2Fproject%2Fnew">API specification</a>.
+     *
+     * @param inputObject input object (to be JSON serialized to an input hash)
+     * @param outputClass class to deserialize the server reponse to
+     *
+     * @return future that completes with the server response parsed from JSON; the future fails
+     *         with {@link DXAPIException} or {@link DXHTTPException} if the request fails
+     */
+    public static <T> ListenableFuture<T> projectNewAsync(Object inputObject, Class<T> outputClass) {
+        return new DXHTTPRequest().requestAsync("/project/new", inputObject, outputClass, RetryStrategy.UNSAFE_TO_RETRY);
+    }
+    /**
+     * Invokes the projectNew method with the specified input using the specified environment without blocking, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Projects#API-method%3A-%2Fproject%2Fnew">API specification</a>.
+     *
+     * @param inputObject input object (to be JSON serialized to an input hash)
+     * @param outputClass class to deserialize the server reponse to
+     * @param env environment object specifying the auth token and remote server and protocol
+     *
+     * @return future that completes with the server response parsed from JSON; the future fails
+     *         with {@link DXAPIException} or {@link DXHTTPException} if the request fails
+     */
+    public static <T> ListenableFuture<T> projectNewAsync(Object inputObject, Class<T> outputClass, DXEnvironment env) {
+        return new DXHTTPRequest(env).requestAsync("/project/new", inputObject, outputClass, RetryStrategy.UNSAFE_TO_RETRY);
     }
 
     /**
@@ -20524,9 +27261,8 @@ public final class DXAPI {
      *             the response (includes HTTP protocol errors).
      */
     public static <T> T recordAddTags(String objectId, Object inputObject, Class<T> outputClass) {
-        return DXJSON.safeTreeToValue(
-                new DXHTTPRequest().request("/" + objectId + "/" + "addTags",
-                        mapper.valueToTree(inputObject), RetryStrategy.SAFE_TO_RETRY), outputClass);
+        return new DXHTTPRequest().request("/" + objectId + "/" + "addTags",
+                inputObject, outputClass, RetryStrategy.SAFE_TO_RETRY);
     }
     /**
      * Invokes the recordAddTags method with an empty input using the given environment, deserializing to an object of the specified class.
@@ -20569,9 +27305,71 @@ public final class DXAPI {
      *             the response (includes HTTP protocol errors).
      */
     public static <T> T recordAddTags(String objectId, Object inputObject, Class<T> outputClass, DXEnvironment env) {
-        return DXJSON.safeTreeToValue(
-            new DXHTTPRequest(env).request("/" + objectId + "/" + "addTags",
-                    mapper.valueToTree(inputObject), RetryStrategy.SAFE_TO_RETRY), outputClass);
+        return new DXHTTPRequest(env).request("/" + objectId + "/" + "addTags",
+                inputObject, outputClass, RetryStrategy.SAFE_TO_RETRY);
+    }
+
+    /**
+     * Invokes the recordAddTags method with an empty input without blocking, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Tags#API-method%3A-%2Fclass-xxxx%2FaddTags">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param outputClass class to deserialize the server reponse to
+     *
+     * @return future that completes with the response object; the future fails with
+     *         {@link DXAPIException} or {@link DXHTTPException} if the request fails
+     */
+    public static <T> ListenableFuture<T> recordAddTagsAsync(String objectId, Class<T> outputClass) {
+        return recordAddTagsAsync(objectId, mapper.createObjectNode(), outputClass);
+    }
+    /**
+     * Invokes the recordAddTags method with the given input without blocking, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Tags#API-method%3A-%2Fclass-xxxx%2FaddTags">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param inputObject input object (to be JSON serialized to an input hash)
+     * @param outputClass class to deserialize the server reponse to
+     *
+     * @return future that completes with the response object; the future fails with
+     *         {@link DXAPIException} or {@link DXHTTPException} if the request fails
+     */
+    public static <T> ListenableFuture<T> recordAddTagsAsync(String objectId, Object inputObject, Class<T> outputClass) {
+        return new DXHTTPRequest().requestAsync("/" + objectId + "/" + "addTags",
+                inputObject, outputClass, RetryStrategy.SAFE_TO_RETRY);
+    }
+    /**
+     * Invokes the recordAddTags method with an empty input using the given environment without blocking, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Tags#API-method%3A-%2Fclass-xxxx%2FaddTags">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param outputClass class to deserialize the server reponse to
+     * @param env environment object specifying the auth token and remote server and protocol
+     *
+     * @return future that completes with the response object; the future fails with
+     *         {@link DXAPIException} or {@link DXHTTPException} if the request fails
+     */
+    public static <T> ListenableFuture<T> recordAddTagsAsync(String objectId, Class<T> outputClass, DXEnvironment env) {
+        return recordAddTagsAsync(objectId, mapper.createObjectNode(), outputClass, env);
+    }
+    /**
+     * Invokes the recordAddTags method with the given input using the given environment without blocking, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Tags#API-method%3A-%2Fclass-xxxx%2FaddTags">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param inputObject input object (to be JSON serialized to an input hash)
+     * @param outputClass class to deserialize the server reponse to
+     * @param env environment object specifying the auth token and remote server and protocol
+     *
+     * @return future that completes with the response object; the future fails with
+     *         {@link DXAPIException} or {@link DXHTTPException} if the request fails
+     */
+    public static <T> ListenableFuture<T> recordAddTagsAsync(String objectId, Object inputObject, Class<T> outputClass, DXEnvironment env) {
+        return new DXHTTPRequest(env).requestAsync("/" + objectId + "/" + "addTags",
+                inputObject, outputClass, RetryStrategy.SAFE_TO_RETRY);
     }
 
     /**
@@ -20708,9 +27506,8 @@ public final class DXAPI {
      *             the response (includes HTTP protocol errors).
      */
     public static <T> T recordAddTypes(String objectId, Object inputObject, Class<T> outputClass) {
-        return DXJSON.safeTreeToValue(
-                new DXHTTPRequest().request("/" + objectId + "/" + "addTypes",
-                        mapper.valueToTree(inputObject), RetryStrategy.SAFE_TO_RETRY), outputClass);
+        return new DXHTTPRequest().request("/" + objectId + "/" + "addTypes",
+                inputObject, outputClass, RetryStrategy.SAFE_TO_RETRY);
     }
     /**
      * Invokes the recordAddTypes method with an empty input using the given environment, deserializing to an object of the specified class.
@@ -20753,9 +27550,71 @@ public final class DXAPI {
      *             the response (includes HTTP protocol errors).
      */
     public static <T> T recordAddTypes(String objectId, Object inputObject, Class<T> outputClass, DXEnvironment env) {
-        return DXJSON.safeTreeToValue(
-            new DXHTTPRequest(env).request("/" + objectId + "/" + "addTypes",
-                    mapper.valueToTree(inputObject), RetryStrategy.SAFE_TO_RETRY), outputClass);
+        return new DXHTTPRequest(env).request("/" + objectId + "/" + "addTypes",
+                inputObject, outputClass, RetryStrategy.SAFE_TO_RETRY);
+    }
+
+    /**
+     * Invokes the recordAddTypes method with an empty input without blocking, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Types#API-method%3A-%2Fclass-xxxx%2FaddTypes">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param outputClass class to deserialize the server reponse to
+     *
+     * @return future that completes with the response object; the future fails with
+     *         {@link DXAPIException} or {@link DXHTTPException} if the request fails
+     */
+    public static <T> ListenableFuture<T> recordAddTypesAsync(String objectId, Class<T> outputClass) {
+        return recordAddTypesAsync(objectId, mapper.createObjectNode(), outputClass);
+    }
+    /**
+     * Invokes the recordAddTypes method with the given input without blocking, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Types#API-method%3A-%2Fclass-xxxx%2FaddTypes">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param inputObject input object (to be JSON serialized to an input hash)
+     * @param outputClass class to deserialize the server reponse to
+     *
+     * @return future that completes with the response object; the future fails with
+     *         {@link DXAPIException} or {@link DXHTTPException} if the request fails
+     */
+    public static <T> ListenableFuture<T> recordAddTypesAsync(String objectId, Object inputObject, Class<T> outputClass) {
+        return new DXHTTPRequest().requestAsync("/" + objectId + "/" + "addTypes",
+                inputObject, outputClass, RetryStrategy.SAFE_TO_RETRY);
+    }
+    /**
+     * Invokes the recordAddTypes method with an empty input using the given environment without blocking, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Types#API-method%3A-%2Fclass-xxxx%2FaddTypes">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param outputClass class to deserialize the server reponse to
+     * @param env environment object specifying the auth token and remote server and protocol
+     *
+     * @return future that completes with the response object; the future fails with
+     *         {@link DXAPIException} or {@link DXHTTPException} if the request fails
+     */
+    public static <T> ListenableFuture<T> recordAddTypesAsync(String objectId, Class<T> outputClass, DXEnvironment env) {
+        return recordAddTypesAsync(objectId, mapper.createObjectNode(), outputClass, env);
+    }
+    /**
+     * Invokes the recordAddTypes method with the given input using the given environment without blocking, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Types#API-method%3A-%2Fclass-xxxx%2FaddTypes">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param inputObject input object (to be JSON serialized to an input hash)
+     * @param outputClass class to deserialize the server reponse to
+     * @param env environment object specifying the auth token and remote server and protocol
+     *
+     * @return future that completes with the response object; the future fails with
+     *         {@link DXAPIException} or {@link DXHTTPException} if the request fails
+     */
+    public static <T> ListenableFuture<T> recordAddTypesAsync(String objectId, Object inputObject, Class<T> outputClass, DXEnvironment env) {
+        return new DXHTTPRequest(env).requestAsync("/" + objectId + "/" + "addTypes",
+                inputObject, outputClass, RetryStrategy.SAFE_TO_RETRY);
     }
 
     /**
@@ -20892,9 +27751,8 @@ public final class DXAPI {
      *             the response (includes HTTP protocol errors).
      */
     public static <T> T recordClose(String objectId, Object inputObject, Class<T> outputClass) {
-        return DXJSON.safeTreeToValue(
-                new DXHTTPRequest().request("/" + objectId + "/" + "close",
-                        mapper.valueToTree(inputObject), RetryStrategy.SAFE_TO_RETRY), outputClass);
+        return new DXHTTPRequest().request("/" + objectId + "/" + "close",
+                inputObject, outputClass, RetryStrategy.SAFE_TO_RETRY);
     }
     /**
      * Invokes the recordClose method with an empty input using the given environment, deserializing to an object of the specified class.
@@ -20937,28 +27795,90 @@ public final class DXAPI {
      *             the response (includes HTTP protocol errors).
      */
     public static <T> T recordClose(String objectId, Object inputObject, Class<T> outputClass, DXEnvironment env) {
-        return DXJSON.safeTreeToValue(
-            new DXHTTPRequest(env).request("/" + objectId + "/" + "close",
-                    mapper.valueToTree(inputObject), RetryStrategy.SAFE_TO_RETRY), outputClass);
+        return new DXHTTPRequest(env).request("/" + objectId + "/" + "close",
+                inputObject, outputClass, RetryStrategy.SAFE_TO_RETRY);
     }
 
     /**
-     * Invokes the recordClose method.
+     * Invokes the recordClose method with an empty input without blocking, deserializing to an object of the specified class.
      *
      * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Data-Object-Lifecycle#API-method%3A-%2Fclass-xxxx%2Fclose">API specification</a>.
      *
      * @param objectId ID of the object to operate on
+     * @param outputClass class to deserialize the server reponse to
      *
-     * @return Server response parsed from JSON
-     *
-     * @throws DXAPIException
-     *             If the server returns a complete response with an HTTP status
-     *             code other than 200 (OK).
-     * @throws DXHTTPException
-     *             If an error occurs while making the HTTP request or obtaining
-     *             the response (includes HTTP protocol errors).
-     *
-     * @deprecated Use {@link #recordClose(String, Class)} instead and supply your own class to deserialize to.
+     * @return future that completes with the response object; the future fails with
+     *         {@link DXAPIException} or {@link DXHTTPException} if the request fails
+     */
+    public static <T> ListenableFuture<T> recordCloseAsync(String objectId, Class<T> outputClass) {
+        return recordCloseAsync(objectId, mapper.createObjectNode(), outputClass);
+    }
+    /**
+     * Invokes the recordClose method with the given input without blocking, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Data-Object-Lifecycle#API-method%3A-%2Fclass-xxxx%2Fclose">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param inputObject input object (to be JSON serialized to an input hash)
+     * @param outputClass class to deserialize the server reponse to
+     *
+     * @return future that completes with the response object; the future fails with
+     *         {@link DXAPIException} or {@link DXHTTPException} if the request fails
+     */
+    public static <T> ListenableFuture<T> recordCloseAsync(String objectId, Object inputObject, Class<T> outputClass) {
+        return new DXHTTPRequest().requestAsync("/" + objectId + "/" + "close",
+                inputObject, outputClass, RetryStrategy.SAFE_TO_RETRY);
+    }
+    /**
+     * Invokes the recordClose method with an empty input using the given environment without blocking, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Data-Object-Lifecycle#API-method%3A-%2Fclass-xxxx%2Fclose">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param outputClass class to deserialize the server reponse to
+     * @param env environment object specifying the auth token and remote server and protocol
+     *
+     * @return future that completes with the response object; the future fails with
+     *         {@link DXAPIException} or {@link DXHTTPException} if the request fails
+     */
+    public static <T> ListenableFuture<T> recordCloseAsync(String objectId, Class<T> outputClass, DXEnvironment env) {
+        return recordCloseAsync(objectId, mapper.createObjectNode(), outputClass, env);
+    }
+    /**
+     * Invokes the recordClose method with the given input using the given environment without blocking, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Data-Object-Lifecycle#API-method%3A-%2Fclass-xxxx%2Fclose">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param inputObject input object (to be JSON serialized to an input hash)
+     * @param outputClass class to deserialize the server reponse to
+     * @param env environment object specifying the auth token and remote server and protocol
+     *
+     * @return future that completes with the response object; the future fails with
+     *         {@link DXAPIException} or {@link DXHTTPException} if the request fails
+     */
+    public static <T> ListenableFuture<T> recordCloseAsync(String objectId, Object inputObject, Class<T> outputClass, DXEnvironment env) {
+        return new DXHTTPRequest(env).requestAsync("/" + objectId + "/" + "close",
+                inputObject, outputClass, RetryStrategy.SAFE_TO_RETRY);
+    }
+
+    /**
+     * Invokes the recordClose method.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Data-Object-Lifecycle#API-method%3A-%2Fclass-xxxx%2Fclose">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     *
+     * @return Server response parsed from JSON
+     *
+     * @throws DXAPIException
+     *             If the server returns a complete response with an HTTP status
+     *             code other than 200 (OK).
+     * @throws DXHTTPException
+     *             If an error occurs while making the HTTP request or obtaining
+     *             the response (includes HTTP protocol errors).
+     *
+     * @deprecated Use {@link #recordClose(String, Class)} instead and supply your own class to deserialize to.
      */
     @Deprecated
     public static JsonNode recordClose(String objectId) {
@@ -21076,9 +27996,8 @@ public final class DXAPI {
      *             the response (includes HTTP protocol errors).
      */
     public static <T> T recordDescribe(String objectId, Object inputObject, Class<T> outputClass) {
-        return DXJSON.safeTreeToValue(
-                new DXHTTPRequest().request("/" + objectId + "/" + "describe",
-                        mapper.valueToTree(inputObject), RetryStrategy.SAFE_TO_RETRY), outputClass);
+        return new DXHTTPRequest().request("/" + objectId + "/" + "describe",
+                inputObject, outputClass, RetryStrategy.SAFE_TO_RETRY);
     }
     /**
      * Invokes the recordDescribe method with an empty input using the given environment, deserializing to an object of the specified class.
@@ -21121,9 +28040,71 @@ public final class DXAPI {
      *             the response (includes HTTP protocol errors).
      */
     public static <T> T recordDescribe(String objectId, Object inputObject, Class<T> outputClass, DXEnvironment env) {
-        return DXJSON.safeTreeToValue(
-            new DXHTTPRequest(env).request("/" + objectId + "/" + "describe",
-                    mapper.valueToTree(inputObject), RetryStrategy.SAFE_TO_RETRY), outputClass);
+        return new DXHTTPRequest(env).request("/" + objectId + "/" + "describe",
+                inputObject, outputClass, RetryStrategy.SAFE_TO_RETRY);
+    }
+
+    /**
+     * Invokes the recordDescribe method with an empty input without blocking, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Records#API-method%3A-%2Frecord-xxxx%2Fdescribe">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param outputClass class to deserialize the server reponse to
+     *
+     * @return future that completes with the response object; the future fails with
+     *         {@link DXAPIException} or {@link DXHTTPException} if the request fails
+     */
+    public static <T> ListenableFuture<T> recordDescribeAsync(String objectId, Class<T> outputClass) {
+        return recordDescribeAsync(objectId, mapper.createObjectNode(), outputClass);
+    }
+    /**
+     * Invokes the recordDescribe method with the given input without blocking, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Records#API-method%3A-%2Frecord-xxxx%2Fdescribe">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param inputObject input object (to be JSON serialized to an input hash)
+     * @param outputClass class to deserialize the server reponse to
+     *
+     * @return future that completes with the response object; the future fails with
+     *         {@link DXAPIException} or {@link DXHTTPException} if the request fails
+     */
+    public static <T> ListenableFuture<T> recordDescribeAsync(String objectId, Object inputObject, Class<T> outputClass) {
+        return new DXHTTPRequest().requestAsync("/" + objectId + "/" + "describe",
+                inputObject, outputClass, RetryStrategy.SAFE_TO_RETRY);
+    }
+    /**
+     * Invokes the recordDescribe method with an empty input using the given environment without blocking, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Records#API-method%3A-%2Frecord-xxxx%2Fdescribe">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param outputClass class to deserialize the server reponse to
+     * @param env environment object specifying the auth token and remote server and protocol
+     *
+     * @return future that completes with the response object; the future fails with
+     *         {@link DXAPIException} or {@link DXHTTPException} if the request fails
+     */
+    public static <T> ListenableFuture<T> recordDescribeAsync(String objectId, Class<T> outputClass, DXEnvironment env) {
+        return recordDescribeAsync(objectId, mapper.createObjectNode(), outputClass, env);
+    }
+    /**
+     * Invokes the recordDescribe method with the given input using the given environment without blocking, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Records#API-method%3A-%2Frecord-xxxx%2Fdescribe">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param inputObject input object (to be JSON serialized to an input hash)
+     * @param outputClass class to deserialize the server reponse to
+     * @param env environment object specifying the auth token and remote server and protocol
+     *
+     * @return future that completes with the response object; the future fails with
+     *         {@link DXAPIException} or {@link DXHTTPException} if the request fails
+     */
+    public static <T> ListenableFuture<T> recordDescribeAsync(String objectId, Object inputObject, Class<T> outputClass, DXEnvironment env) {
+        return new DXHTTPRequest(env).requestAsync("/" + objectId + "/" + "describe",
+                inputObject, outputClass, RetryStrategy.SAFE_TO_RETRY);
     }
 
     /**
@@ -21260,9 +28241,8 @@ public final class DXAPI {
      *             the response (includes HTTP protocol errors).
      */
     public static <T> T recordGetDetails(String objectId, Object inputObject, Class<T> outputClass) {
-        return DXJSON.safeTreeToValue(
-                new DXHTTPRequest().request("/" + objectId + "/" + "getDetails",
-                        mapper.valueToTree(inputObject), RetryStrategy.SAFE_TO_RETRY), outputClass);
+        return new DXHTTPRequest().request("/" + objectId + "/" + "getDetails",
+                inputObject, outputClass, RetryStrategy.SAFE_TO_RETRY);
     }
     /**
      * Invokes the recordGetDetails method with an empty input using the given environment, deserializing to an object of the specified class.
@@ -21305,9 +28285,71 @@ public final class DXAPI {
      *             the response (includes HTTP protocol errors).
      */
     public static <T> T recordGetDetails(String objectId, Object inputObject, Class<T> outputClass, DXEnvironment env) {
-        return DXJSON.safeTreeToValue(
-            new DXHTTPRequest(env).request("/" + objectId + "/" + "getDetails",
-                    mapper.valueToTree(inputObject), RetryStrategy.SAFE_TO_RETRY), outputClass);
+        return new DXHTTPRequest(env).request("/" + objectId + "/" + "getDetails",
+                inputObject, outputClass, RetryStrategy.SAFE_TO_RETRY);
+    }
+
+    /**
+     * Invokes the recordGetDetails method with an empty input without blocking, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Details-and-Links#API-method%3A-%2Fclass-xxxx%2FgetDetails">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param outputClass class to deserialize the server reponse to
+     *
+     * @return future that completes with the response object; the future fails with
+     *         {@link DXAPIException} or {@link DXHTTPException} if the request fails
+     */
+    public static <T> ListenableFuture<T> recordGetDetailsAsync(String objectId, Class<T> outputClass) {
+        return recordGetDetailsAsync(objectId, mapper.createObjectNode(), outputClass);
+    }
+    /**
+     * Invokes the recordGetDetails method with the given input without blocking, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Details-and-Links#API-method%3A-%2Fclass-xxxx%2FgetDetails">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param inputObject input object (to be JSON serialized to an input hash)
+     * @param outputClass class to deserialize the server reponse to
+     *
+     * @return future that completes with the response object; the future fails with
+     *         {@link DXAPIException} or {@link DXHTTPException} if the request fails
+     */
+    public static <T> ListenableFuture<T> recordGetDetailsAsync(String objectId, Object inputObject, Class<T> outputClass) {
+        return new DXHTTPRequest().requestAsync("/" + objectId + "/" + "getDetails",
+                inputObject, outputClass, RetryStrategy.SAFE_TO_RETRY);
+    }
+    /**
+     * Invokes the recordGetDetails method with an empty input using the given environment without blocking, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Details-and-Links#API-method%3A-%2Fclass-xxxx%2FgetDetails">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param outputClass class to deserialize the server reponse to
+     * @param env environment object specifying the auth token and remote server and protocol
+     *
+     * @return future that completes with the response object; the future fails with
+     *         {@link DXAPIException} or {@link DXHTTPException} if the request fails
+     */
+    public static <T> ListenableFuture<T> recordGetDetailsAsync(String objectId, Class<T> outputClass, DXEnvironment env) {
+        return recordGetDetailsAsync(objectId, mapper.createObjectNode(), outputClass, env);
+    }
+    /**
+     * Invokes the recordGetDetails method with the given input using the given environment without blocking, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Details-and-Links#API-method%3A-%2Fclass-xxxx%2FgetDetails">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param inputObject input object (to be JSON serialized to an input hash)
+     * @param outputClass class to deserialize the server reponse to
+     * @param env environment object specifying the auth token and remote server and protocol
+     *
+     * @return future that completes with the response object; the future fails with
+     *         {@link DXAPIException} or {@link DXHTTPException} if the request fails
+     */
+    public static <T> ListenableFuture<T> recordGetDetailsAsync(String objectId, Object inputObject, Class<T> outputClass, DXEnvironment env) {
+        return new DXHTTPRequest(env).requestAsync("/" + objectId + "/" + "getDetails",
+                inputObject, outputClass, RetryStrategy.SAFE_TO_RETRY);
     }
 
     /**
@@ -21444,9 +28486,8 @@ public final class DXAPI {
      *             the response (includes HTTP protocol errors).
      */
     public static <T> T recordListProjects(String objectId, Object inputObject, Class<T> outputClass) {
-        return DXJSON.safeTreeToValue(
-                new DXHTTPRequest().request("/" + objectId + "/" + "listProjects",
-                        mapper.valueToTree(inputObject), RetryStrategy.SAFE_TO_RETRY), outputClass);
+        return new DXHTTPRequest().request("/" + objectId + "/" + "listProjects",
+                inputObject, outputClass, RetryStrategy.SAFE_TO_RETRY);
     }
     /**
      * Invokes the recordListProjects method with an empty input using the given environment, deserializing to an object of the specified class.
@@ -21489,9 +28530,71 @@ public final class DXAPI {
      *             the response (includes HTTP protocol errors).
      */
     public static <T> T recordListProjects(String objectId, Object inputObject, Class<T> outputClass, DXEnvironment env) {
-        return DXJSON.safeTreeToValue(
-            new DXHTTPRequest(env).request("/" + objectId + "/" + "listProjects",
-                    mapper.valueToTree(inputObject), RetryStrategy.SAFE_TO_RETRY), outputClass);
+        return new DXHTTPRequest(env).request("/" + objectId + "/" + "listProjects",
+                inputObject, outputClass, RetryStrategy.SAFE_TO_RETRY);
+    }
+
+    /**
+     * Invokes the recordListProjects method with an empty input without blocking, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Cloning#API-method%3A-%2Fclass-xxxx%2FlistProjects">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param outputClass class to deserialize the server reponse to
+     *
+     * @return future that completes with the response object; the future fails with
+     *         {@link DXAPIException} or {@link DXHTTPException} if the request fails
+     */
+    public static <T> ListenableFuture<T> recordListProjectsAsync(String objectId, Class<T> outputClass) {
+        return recordListProjectsAsync(objectId, mapper.createObjectNode(), outputClass);
+    }
+    /**
+     * Invokes the recordListProjects method with the given input without blocking, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Cloning#API-method%3A-%2Fclass-xxxx%2FlistProjects">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param inputObject input object (to be JSON serialized to an input hash)
+     * @param outputClass class to deserialize the server reponse to
+     *
+     * @return future that completes with the response object; the future fails with
+     *         {@link DXAPIException} or {@link DXHTTPException} if the request fails
+     */
+    public static <T> ListenableFuture<T> recordListProjectsAsync(String objectId, Object inputObject, Class<T> outputClass) {
+        return new DXHTTPRequest().requestAsync("/" + objectId + "/" + "listProjects",
+                inputObject, outputClass, RetryStrategy.SAFE_TO_RETRY);
+    }
+    /**
+     * Invokes the recordListProjects method with an empty input using the given environment without blocking, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Cloning#API-method%3A-%2Fclass-xxxx%2FlistProjects">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param outputClass class to deserialize the server reponse to
+     * @param env environment object specifying the auth token and remote server and protocol
+     *
+     * @return future that completes with the response object; the future fails with
+     *         {@link DXAPIException} or {@link DXHTTPException} if the request fails
+     */
+    public static <T> ListenableFuture<T> recordListProjectsAsync(String objectId, Class<T> outputClass, DXEnvironment env) {
+        return recordListProjectsAsync(objectId, mapper.createObjectNode(), outputClass, env);
+    }
+    /**
+     * Invokes the recordListProjects method with the given input using the given environment without blocking, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Cloning#API-method%3A-%2Fclass-xxxx%2FlistProjects">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param inputObject input object (to be JSON serialized to an input hash)
+     * @param outputClass class to deserialize the server reponse to
+     * @param env environment object specifying the auth token and remote server and protocol
+     *
+     * @return future that completes with the response object; the future fails with
+     *         {@link DXAPIException} or {@link DXHTTPException} if the request fails
+     */
+    public static <T> ListenableFuture<T> recordListProjectsAsync(String objectId, Object inputObject, Class<T> outputClass, DXEnvironment env) {
+        return new DXHTTPRequest(env).requestAsync("/" + objectId + "/" + "listProjects",
+                inputObject, outputClass, RetryStrategy.SAFE_TO_RETRY);
     }
 
     /**
@@ -21628,9 +28731,8 @@ public final class DXAPI {
      *             the response (includes HTTP protocol errors).
      */
     public static <T> T recordRemoveTags(String objectId, Object inputObject, Class<T> outputClass) {
-        return DXJSON.safeTreeToValue(
-                new DXHTTPRequest().request("/" + objectId + "/" + "removeTags",
-                        mapper.valueToTree(inputObject), RetryStrategy.SAFE_TO_RETRY), outputClass);
+        return new DXHTTPRequest().request("/" + objectId + "/" + "removeTags",
+                inputObject, outputClass, RetryStrategy.SAFE_TO_RETRY);
     }
     /**
      * Invokes the recordRemoveTags method with an empty input using the given environment, deserializing to an object of the specified class.
@@ -21673,9 +28775,71 @@ public final class DXAPI {
      *             the response (includes HTTP protocol errors).
      */
     public static <T> T recordRemoveTags(String objectId, Object inputObject, Class<T> outputClass, DXEnvironment env) {
-        return DXJSON.safeTreeToValue(
-            new DXHTTPRequest(env).request("/" + objectId + "/" + "removeTags",
-                    mapper.valueToTree(inputObject), RetryStrategy.SAFE_TO_RETRY), outputClass);
+        return new DXHTTPRequest(env).request("/" + objectId + "/" + "removeTags",
+                inputObject, outputClass, RetryStrategy.SAFE_TO_RETRY);
+    }
+
+    /**
+     * Invokes the recordRemoveTags method with an empty input without blocking, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Tags#API-method%3A-%2Fclass-xxxx%2FremoveTags">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param outputClass class to deserialize the server reponse to
+     *
+     * @return future that completes with the response object; the future fails with
+     *         {@link DXAPIException} or {@link DXHTTPException} if the request fails
+     */
+    public static <T> ListenableFuture<T> recordRemoveTagsAsync(String objectId, Class<T> outputClass) {
+        return recordRemoveTagsAsync(objectId, mapper.createObjectNode(), outputClass);
+    }
+    /**
+     * Invokes the recordRemoveTags method with the given input without blocking, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Tags#API-method%3A-%2Fclass-xxxx%2FremoveTags">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param inputObject input object (to be JSON serialized to an input hash)
+     * @param outputClass class to deserialize the server reponse to
+     *
+     * @return future that completes with the response object; the future fails with
+     *         {@link DXAPIException} or {@link DXHTTPException} if the request fails
+     */
+    public static <T> ListenableFuture<T> recordRemoveTagsAsync(String objectId, Object inputObject, Class<T> outputClass) {
+        return new DXHTTPRequest().requestAsync("/" + objectId + "/" + "removeTags",
+                inputObject, outputClass, RetryStrategy.SAFE_TO_RETRY);
+    }
+    /**
+     * Invokes the recordRemoveTags method with an empty input using the given environment without blocking, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Tags#API-method%3A-%2Fclass-xxxx%2FremoveTags">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param outputClass class to deserialize the server reponse to
+     * @param env environment object specifying the auth token and remote server and protocol
+     *
+     * @return future that completes with the response object; the future fails with
+     *         {@link DXAPIException} or {@link DXHTTPException} if the request fails
+     */
+    public static <T> ListenableFuture<T> recordRemoveTagsAsync(String objectId, Class<T> outputClass, DXEnvironment env) {
+        return recordRemoveTagsAsync(objectId, mapper.createObjectNode(), outputClass, env);
+    }
+    /**
+     * Invokes the recordRemoveTags method with the given input using the given environment without blocking, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Tags#API-method%3A-%2Fclass-xxxx%2FremoveTags">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param inputObject input object (to be JSON serialized to an input hash)
+     * @param outputClass class to deserialize the server reponse to
+     * @param env environment object specifying the auth token and remote server and protocol
+     *
+     * @return future that completes with the response object; the future fails with
+     *         {@link DXAPIException} or {@link DXHTTPException} if the request fails
+     */
+    public static <T> ListenableFuture<T> recordRemoveTagsAsync(String objectId, Object inputObject, Class<T> outputClass, DXEnvironment env) {
+        return new DXHTTPRequest(env).requestAsync("/" + objectId + "/" + "removeTags",
+                inputObject, outputClass, RetryStrategy.SAFE_TO_RETRY);
     }
 
     /**
@@ -21812,9 +28976,8 @@ public final class DXAPI {
      *             the response (includes HTTP protocol errors).
      */
     public static <T> T recordRemoveTypes(String objectId, Object inputObject, Class<T> outputClass) {
-        return DXJSON.safeTreeToValue(
-                new DXHTTPRequest().request("/" + objectId + "/" + "removeTypes",
-                        mapper.valueToTree(inputObject), RetryStrategy.SAFE_TO_RETRY), outputClass);
+        return new DXHTTPRequest().request("/" + objectId + "/" + "removeTypes",
+                inputObject, outputClass, RetryStrategy.SAFE_TO_RETRY);
     }
     /**
      * Invokes the recordRemoveTypes method with an empty input using the given environment, deserializing to an object of the specified class.
@@ -21857,9 +29020,71 @@ public final class DXAPI {
      *             the response (includes HTTP protocol errors).
      */
     public static <T> T recordRemoveTypes(String objectId, Object inputObject, Class<T> outputClass, DXEnvironment env) {
-        return DXJSON.safeTreeToValue(
-            new DXHTTPRequest(env).request("/" + objectId + "/" + "removeTypes",
-                    mapper.valueToTree(inputObject), RetryStrategy.SAFE_TO_RETRY), outputClass);
+        return new DXHTTPRequest(env).request("/" + objectId + "/" + "removeTypes",
+                inputObject, outputClass, RetryStrategy.SAFE_TO_RETRY);
+    }
+
+    /**
+     * Invokes the recordRemoveTypes method with an empty input without blocking, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Types#API-method%3A-%2Fclass-xxxx%2FremoveTypes">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param outputClass class to deserialize the server reponse to
+     *
+     * @return future that completes with the response object; the future fails with
+     *         {@link DXAPIException} or {@link DXHTTPException} if the request fails
+     */
+    public static <T> ListenableFuture<T> recordRemoveTypesAsync(String objectId, Class<T> outputClass) {
+        return recordRemoveTypesAsync(objectId, mapper.createObjectNode(), outputClass);
+    }
+    /**
+     * Invokes the recordRemoveTypes method with the given input without blocking, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Types#API-method%3A-%2Fclass-xxxx%2FremoveTypes">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param inputObject input object (to be JSON serialized to an input hash)
+     * @param outputClass class to deserialize the server reponse to
+     *
+     * @return future that completes with the response object; the future fails with
+     *         {@link DXAPIException} or {@link DXHTTPException} if the request fails
+     */
+    public static <T> ListenableFuture<T> recordRemoveTypesAsync(String objectId, Object inputObject, Class<T> outputClass) {
+        return new DXHTTPRequest().requestAsync("/" + objectId + "/" + "removeTypes",
+                inputObject, outputClass, RetryStrategy.SAFE_TO_RETRY);
+    }
+    /**
+     * Invokes the recordRemoveTypes method with an empty input using the given environment without blocking, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Types#API-method%3A-%2Fclass-xxxx%2FremoveTypes">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param outputClass class to deserialize the server reponse to
+     * @param env environment object specifying the auth token and remote server and protocol
+     *
+     * @return future that completes with the response object; the future fails with
+     *         {@link DXAPIException} or {@link DXHTTPException} if the request fails
+     */
+    public static <T> ListenableFuture<T> recordRemoveTypesAsync(String objectId, Class<T> outputClass, DXEnvironment env) {
+        return recordRemoveTypesAsync(objectId, mapper.createObjectNode(), outputClass, env);
+    }
+    /**
+     * Invokes the recordRemoveTypes method with the given input using the given environment without blocking, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Types#API-method%3A-%2Fclass-xxxx%2FremoveTypes">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param inputObject input object (to be JSON serialized to an input hash)
+     * @param outputClass class to deserialize the server reponse to
+     * @param env environment object specifying the auth token and remote server and protocol
+     *
+     * @return future that completes with the response object; the future fails with
+     *         {@link DXAPIException} or {@link DXHTTPException} if the request fails
+     */
+    public static <T> ListenableFuture<T> recordRemoveTypesAsync(String objectId, Object inputObject, Class<T> outputClass, DXEnvironment env) {
+        return new DXHTTPRequest(env).requestAsync("/" + objectId + "/" + "removeTypes",
+                inputObject, outputClass, RetryStrategy.SAFE_TO_RETRY);
     }
 
     /**
@@ -21996,9 +29221,8 @@ public final class DXAPI {
      *             the response (includes HTTP protocol errors).
      */
     public static <T> T recordRename(String objectId, Object inputObject, Class<T> outputClass) {
-        return DXJSON.safeTreeToValue(
-                new DXHTTPRequest().request("/" + objectId + "/" + "rename",
-                        mapper.valueToTree(inputObject), RetryStrategy.SAFE_TO_RETRY), outputClass);
+        return new DXHTTPRequest().request("/" + objectId + "/" + "rename",
+                inputObject, outputClass, RetryStrategy.SAFE_TO_RETRY);
     }
     /**
      * Invokes the recordRename method with an empty input using the given environment, deserializing to an object of the specified class.
@@ -22041,9 +29265,71 @@ public final class DXAPI {
      *             the response (includes HTTP protocol errors).
      */
     public static <T> T recordRename(String objectId, Object inputObject, Class<T> outputClass, DXEnvironment env) {
-        return DXJSON.safeTreeToValue(
-            new DXHTTPRequest(env).request("/" + objectId + "/" + "rename",
-                    mapper.valueToTree(inputObject), RetryStrategy.SAFE_TO_RETRY), outputClass);
+        return new DXHTTPRequest(env).request("/" + objectId + "/" + "rename",
+                inputObject, outputClass, RetryStrategy.SAFE_TO_RETRY);
+    }
+
+    /**
+     * Invokes the recordRename method with an empty input without blocking, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Name#API-method%3A-%2Fclass-xxxx%2Frename">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param outputClass class to deserialize the server reponse to
+     *
+     * @return future that completes with the response object; the future fails with
+     *         {@link DXAPIException} or {@link DXHTTPException} if the request fails
+     */
+    public static <T> ListenableFuture<T> recordRenameAsync(String objectId, Class<T> outputClass) {
+        return recordRenameAsync(objectId, mapper.createObjectNode(), outputClass);
+    }
+    /**
+     * Invokes the recordRename method with the given input without blocking, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Name#API-method%3A-%2Fclass-xxxx%2Frename">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param inputObject input object (to be JSON serialized to an input hash)
+     * @param outputClass class to deserialize the server reponse to
+     *
+     * @return future that completes with the response object; the future fails with
+     *         {@link DXAPIException} or {@link DXHTTPException} if the request fails
+     */
+    public static <T> ListenableFuture<T> recordRenameAsync(String objectId, Object inputObject, Class<T> outputClass) {
+        return new DXHTTPRequest().requestAsync("/" + objectId + "/" + "rename",
+                inputObject, outputClass, RetryStrategy.SAFE_TO_RETRY);
+    }
+    /**
+     * Invokes the recordRename method with an empty input using the given environment without blocking, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Name#API-method%3A-%2Fclass-xxxx%2Frename">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param outputClass class to deserialize the server reponse to
+     * @param env environment object specifying the auth token and remote server and protocol
+     *
+     * @return future that completes with the response object; the future fails with
+     *         {@link DXAPIException} or {@link DXHTTPException} if the request fails
+     */
+    public static <T> ListenableFuture<T> recordRenameAsync(String objectId, Class<T> outputClass, DXEnvironment env) {
+        return recordRenameAsync(objectId, mapper.createObjectNode(), outputClass, env);
+    }
+    /**
+     * Invokes the recordRename method with the given input using the given environment without blocking, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Name#API-method%3A-%2Fclass-xxxx%2Frename">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param inputObject input object (to be JSON serialized to an input hash)
+     * @param outputClass class to deserialize the server reponse to
+     * @param env environment object specifying the auth token and remote server and protocol
+     *
+     * @return future that completes with the response object; the future fails with
+     *         {@link DXAPIException} or {@link DXHTTPException} if the request fails
+     */
+    public static <T> ListenableFuture<T> recordRenameAsync(String objectId, Object inputObject, Class<T> outputClass, DXEnvironment env) {
+        return new DXHTTPRequest(env).requestAsync("/" + objectId + "/" + "rename",
+                inputObject, outputClass, RetryStrategy.SAFE_TO_RETRY);
     }
 
     /**
@@ -22180,9 +29466,8 @@ public final class DXAPI {
      *             the response (includes HTTP protocol errors).
      */
     public static <T> T recordSetDetails(String objectId, Object inputObject, Class<T> outputClass) {
-        return DXJSON.safeTreeToValue(
-                new DXHTTPRequest().request("/" + objectId + "/" + "setDetails",
-                        mapper.valueToTree(inputObject), RetryStrategy.SAFE_TO_RETRY), outputClass);
+        return new DXHTTPRequest().request("/" + objectId + "/" + "setDetails",
+                inputObject, outputClass, RetryStrategy.SAFE_TO_RETRY);
     }
     /**
      * Invokes the recordSetDetails method with an empty input using the given environment, deserializing to an object of the specified class.
@@ -22225,9 +29510,71 @@ public final class DXAPI {
      *             the response (includes HTTP protocol errors).
      */
     public static <T> T recordSetDetails(String objectId, Object inputObject, Class<T> outputClass, DXEnvironment env) {
-        return DXJSON.safeTreeToValue(
-            new DXHTTPRequest(env).request("/" + objectId + "/" + "setDetails",
-                    mapper.valueToTree(inputObject), RetryStrategy.SAFE_TO_RETRY), outputClass);
+        return new DXHTTPRequest(env).request("/" + objectId + "/" + "setDetails",
+                inputObject, outputClass, RetryStrategy.SAFE_TO_RETRY);
+    }
+
+    /**
+     * Invokes the recordSetDetails method with an empty input without blocking, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Details-and-Links#API-method%3A-%2Fclass-xxxx%2FsetDetails">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param outputClass class to deserialize the server reponse to
+     *
+     * @return future that completes with the response object; the future fails with
+     *         {@link DXAPIException} or {@link DXHTTPException} if the request fails
+     */
+    public static <T> ListenableFuture<T> recordSetDetailsAsync(String objectId, Class<T> outputClass) {
+        return recordSetDetailsAsync(objectId, mapper.createObjectNode(), outputClass);
+    }
+    /**
+     * Invokes the recordSetDetails method with the given input without blocking, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Details-and-Links#API-method%3A-%2Fclass-xxxx%2FsetDetails">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param inputObject input object (to be JSON serialized to an input hash)
+     * @param outputClass class to deserialize the server reponse to
+     *
+     * @return future that completes with the response object; the future fails with
+     *         {@link DXAPIException} or {@link DXHTTPException} if the request fails
+     */
+    public static <T> ListenableFuture<T> recordSetDetailsAsync(String objectId, Object inputObject, Class<T> outputClass) {
+        return new DXHTTPRequest().requestAsync("/" + objectId + "/" + "setDetails",
+                inputObject, outputClass, RetryStrategy.SAFE_TO_RETRY);
+    }
+    /**
+     * Invokes the recordSetDetails method with an empty input using the given environment without blocking, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Details-and-Links#API-method%3A-%2Fclass-xxxx%2FsetDetails">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param outputClass class to deserialize the server reponse to
+     * @param env environment object specifying the auth token and remote server and protocol
+     *
+     * @return future that completes with the response object; the future fails with
+     *         {@link DXAPIException} or {@link DXHTTPException} if the request fails
+     */
+    public static <T> ListenableFuture<T> recordSetDetailsAsync(String objectId, Class<T> outputClass, DXEnvironment env) {
+        return recordSetDetailsAsync(objectId, mapper.createObjectNode(), outputClass, env);
+    }
+    /**
+     * Invokes the recordSetDetails method with the given input using the given environment without blocking, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Details-and-Links#API-method%3A-%2Fclass-xxxx%2FsetDetails">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param inputObject input object (to be JSON serialized to an input hash)
+     * @param outputClass class to deserialize the server reponse to
+     * @param env environment object specifying the auth token and remote server and protocol
+     *
+     * @return future that completes with the response object; the future fails with
+     *         {@link DXAPIException} or {@link DXHTTPException} if the request fails
+     */
+    public static <T> ListenableFuture<T> recordSetDetailsAsync(String objectId, Object inputObject, Class<T> outputClass, DXEnvironment env) {
+        return new DXHTTPRequest(env).requestAsync("/" + objectId + "/" + "setDetails",
+                inputObject, outputClass, RetryStrategy.SAFE_TO_RETRY);
     }
 
     /**
@@ -22364,9 +29711,8 @@ public final class DXAPI {
      *             the response (includes HTTP protocol errors).
      */
     public static <T> T recordSetProperties(String objectId, Object inputObject, Class<T> outputClass) {
-        return DXJSON.safeTreeToValue(
-                new DXHTTPRequest().request("/" + objectId + "/" + "setProperties",
-                        mapper.valueToTree(inputObject), RetryStrategy.SAFE_TO_RETRY), outputClass);
+        return new DXHTTPRequest().request("/" + objectId + "/" + "setProperties",
+                inputObject, outputClass, RetryStrategy.SAFE_TO_RETRY);
     }
     /**
      * Invokes the recordSetProperties method with an empty input using the given environment, deserializing to an object of the specified class.
@@ -22409,9 +29755,71 @@ public final class DXAPI {
      *             the response (includes HTTP protocol errors).
      */
     public static <T> T recordSetProperties(String objectId, Object inputObject, Class<T> outputClass, DXEnvironment env) {
-        return DXJSON.safeTreeToValue(
-            new DXHTTPRequest(env).request("/" + objectId + "/" + "setProperties",
-                    mapper.valueToTree(inputObject), RetryStrategy.SAFE_TO_RETRY), outputClass);
+        return new DXHTTPRequest(env).request("/" + objectId + "/" + "setProperties",
+                inputObject, outputClass, RetryStrategy.SAFE_TO_RETRY);
+    }
+
+    /**
+     * Invokes the recordSetProperties method with an empty input without blocking, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Properties#API-method%3A-%2Fclass-xxxx%2FsetProperties">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param outputClass class to deserialize the server reponse to
+     *
+     * @return future that completes with the response object; the future fails with
+     *         {@link DXAPIException} or {@link DXHTTPException} if the request fails
+     */
+    public static <T> ListenableFuture<T> recordSetPropertiesAsync(String objectId, Class<T> outputClass) {
+        return recordSetPropertiesAsync(objectId, mapper.createObjectNode(), outputClass);
+    }
+    /**
+     * Invokes the recordSetProperties method with the given input without blocking, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Properties#API-method%3A-%2Fclass-xxxx%2FsetProperties">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param inputObject input object (to be JSON serialized to an input hash)
+     * @param outputClass class to deserialize the server reponse to
+     *
+     * @return future that completes with the response object; the future fails with
+     *         {@link DXAPIException} or {@link DXHTTPException} if the request fails
+     */
+    public static <T> ListenableFuture<T> recordSetPropertiesAsync(String objectId, Object inputObject, Class<T> outputClass) {
+        return new DXHTTPRequest().requestAsync("/" + objectId + "/" + "setProperties",
+                inputObject, outputClass, RetryStrategy.SAFE_TO_RETRY);
+    }
+    /**
+     * Invokes the recordSetProperties method with an empty input using the given environment without blocking, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Properties#API-method%3A-%2Fclass-xxxx%2FsetProperties">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param outputClass class to deserialize the server reponse to
+     * @param env environment object specifying the auth token and remote server and protocol
+     *
+     * @return future that completes with the response object; the future fails with
+     *         {@link DXAPIException} or {@link DXHTTPException} if the request fails
+     */
+    public static <T> ListenableFuture<T> recordSetPropertiesAsync(String objectId, Class<T> outputClass, DXEnvironment env) {
+        return recordSetPropertiesAsync(objectId, mapper.createObjectNode(), outputClass, env);
+    }
+    /**
+     * Invokes the recordSetProperties method with the given input using the given environment without blocking, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Properties#API-method%3A-%2Fclass-xxxx%2FsetProperties">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param inputObject input object (to be JSON serialized to an input hash)
+     * @param outputClass class to deserialize the server reponse to
+     * @param env environment object specifying the auth token and remote server and protocol
+     *
+     * @return future that completes with the response object; the future fails with
+     *         {@link DXAPIException} or {@link DXHTTPException} if the request fails
+     */
+    public static <T> ListenableFuture<T> recordSetPropertiesAsync(String objectId, Object inputObject, Class<T> outputClass, DXEnvironment env) {
+        return new DXHTTPRequest(env).requestAsync("/" + objectId + "/" + "setProperties",
+                inputObject, outputClass, RetryStrategy.SAFE_TO_RETRY);
     }
 
     /**
@@ -22548,9 +29956,8 @@ public final class DXAPI {
      *             the response (includes HTTP protocol errors).
      */
     public static <T> T recordSetVisibility(String objectId, Object inputObject, Class<T> outputClass) {
-        return DXJSON.safeTreeToValue(
-                new DXHTTPRequest().request("/" + objectId + "/" + "setVisibility",
-                        mapper.valueToTree(inputObject), RetryStrategy.SAFE_TO_RETRY), outputClass);
+        return new DXHTTPRequest().request("/" + objectId + "/" + "setVisibility",
+                inputObject, outputClass, RetryStrategy.SAFE_TO_RETRY);
     }
     /**
      * Invokes the recordSetVisibility method with an empty input using the given environment, deserializing to an object of the specified class.
@@ -22593,9 +30000,71 @@ public final class DXAPI {
      *             the response (includes HTTP protocol errors).
      */
     public static <T> T recordSetVisibility(String objectId, Object inputObject, Class<T> outputClass, DXEnvironment env) {
-        return DXJSON.safeTreeToValue(
-            new DXHTTPRequest(env).request("/" + objectId + "/" + "setVisibility",
-                    mapper.valueToTree(inputObject), RetryStrategy.SAFE_TO_RETRY), outputClass);
+        return new DXHTTPRequest(env).request("/" + objectId + "/" + "setVisibility",
+                inputObject, outputClass, RetryStrategy.SAFE_TO_RETRY);
+    }
+
+    /**
+     * Invokes the recordSetVisibility method with an empty input without blocking, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Visibility#API-method%3A-%2Fclass-xxxx%2FsetVisibility">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param outputClass class to deserialize the server reponse to
+     *
+     * @return future that completes with the response object; the future fails with
+     *         {@link DXAPIException} or {@link DXHTTPException} if the request fails
+     */
+    public static <T> ListenableFuture<T> recordSetVisibilityAsync(String objectId, Class<T> outputClass) {
+        return recordSetVisibilityAsync(objectId, mapper.createObjectNode(), outputClass);
+    }
+    /**
+     * Invokes the recordSetVisibility method with the given input without blocking, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Visibility#API-method%3A-%2Fclass-xxxx%2FsetVisibility">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param inputObject input object (to be JSON serialized to an input hash)
+     * @param outputClass class to deserialize the server reponse to
+     *
+     * @return future that completes with the response object; the future fails with
+     *         {@link DXAPIException} or {@link DXHTTPException} if the request fails
+     */
+    public static <T> ListenableFuture<T> recordSetVisibilityAsync(String objectId, Object inputObject, Class<T> outputClass) {
+        return new DXHTTPRequest().requestAsync("/" + objectId + "/" + "setVisibility",
+                inputObject, outputClass, RetryStrategy.SAFE_TO_RETRY);
+    }
+    /**
+     * Invokes the recordSetVisibility method with an empty input using the given environment without blocking, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Visibility#API-method%3A-%2Fclass-xxxx%2FsetVisibility">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param outputClass class to deserialize the server reponse to
+     * @param env environment object specifying the auth token and remote server and protocol
+     *
+     * @return future that completes with the response object; the future fails with
+     *         {@link DXAPIException} or {@link DXHTTPException} if the request fails
+     */
+    public static <T> ListenableFuture<T> recordSetVisibilityAsync(String objectId, Class<T> outputClass, DXEnvironment env) {
+        return recordSetVisibilityAsync(objectId, mapper.createObjectNode(), outputClass, env);
+    }
+    /**
+     * Invokes the recordSetVisibility method with the given input using the given environment without blocking, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Visibility#API-method%3A-%2Fclass-xxxx%2FsetVisibility">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param inputObject input object (to be JSON serialized to an input hash)
+     * @param outputClass class to deserialize the server reponse to
+     * @param env environment object specifying the auth token and remote server and protocol
+     *
+     * @return future that completes with the response object; the future fails with
+     *         {@link DXAPIException} or {@link DXHTTPException} if the request fails
+     */
+    public static <T> ListenableFuture<T> recordSetVisibilityAsync(String objectId, Object inputObject, Class<T> outputClass, DXEnvironment env) {
+        return new DXHTTPRequest(env).requestAsync("/" + objectId + "/" + "setVisibility",
+                inputObject, outputClass, RetryStrategy.SAFE_TO_RETRY);
     }
 
     /**
@@ -22750,9 +30219,7 @@ public final class DXAPI {
      *             the response (includes HTTP protocol errors).
      */
     public static <T> T recordNew(Object inputObject, Class<T> outputClass) {
-        return DXJSON.safeTreeToValue(
-                new DXHTTPRequest().request("/record/new", mapper.valueToTree(inputObject), RetryStrategy.UNSAFE_TO_RETRY),
-                outputClass);
+        return new DXHTTPRequest().request("/record/new", inputObject, outputClass, RetryStrategy.UNSAFE_TO_RETRY);
     }
     /**
      * Invokes the recordNew method with the specified input using the specified environment, deserializing to an object of the specified class.
@@ -22773,9 +30240,64 @@ public final class DXAPI {
      *             the response (includes HTTP protocol errors).
      */
     public static <T> T recordNew(Object inputObject, Class<T> outputClass, DXEnvironment env) {
-        return DXJSON.safeTreeToValue(
-                new DXHTTPRequest(env).request("/record/new", mapper.valueToTree(inputObject), RetryStrategy.UNSAFE_TO_RETRY),
-                outputClass);
+        return new DXHTTPRequest(env).request("/record/new", inputObject, outputClass, RetryStrategy.UNSAFE_TO_RETRY);
+    }
+
+    /**
+     * Invokes the recordNew method with an empty input without blocking, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Records#API-method%3A-%2Frecord%2Fnew">API specification</a>.
+     *
+     * @param outputClass class to deserialize the server reponse to
+     *
+     * @return future that completes with the server response parsed from JSON; the future fails
+     *         with {@link DXAPIException} or {@link DXHTTPException} if the request fails
+     */
+    public static <T> ListenableFuture<T> recordNewAsync(Class<T> outputClass) {
+        return recordNewAsync(mapper.createObjectNode(), outputClass);
+    }
+    /**
+     * Invokes the recordNew method with an empty input using the specified environment without blocking, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Records#API-method%3A-%2Frecord%2Fnew">API specification</a>.
+     *
+     * @param outputClass class to deserialize the server reponse to
+     * @param env environment object specifying the auth token and remote server and protocol
+     *
+     * @return future that completes with the server response parsed from JSON; the future fails
+     *         with {@link DXAPIException} or {@link DXHTTPException} if the request fails
+     */
+    public static <T> ListenableFuture<T> recordNewAsync(Class<T> outputClass, DXEnvironment env) {
+        return recordNewAsync(mapper.createObjectNode(), outputClass, env);
+    }
+    /**
+     * Invokes the recordNew method with the specified input without blocking, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Records#API-method%3A-%2Frecord%2Fnew">API specification</a>.
+     *
+     * @param inputObject input object (to be JSON serialized to an input hash)
+     * @param outputClass class to deserialize the server reponse to
+     *
+     * @return future that completes with the server response parsed from JSON; the future fails
+     *         with {@link DXAPIException} or {@link DXHTTPException} if the request fails
+     */
+    public static <T> ListenableFuture<T> recordNewAsync(Object inputObject, Class<T> outputClass) {
+        return new DXHTTPRequest().requestAsync("/record/new", inputObject, outputClass, RetryStrategy.UNSAFE_TO_RETRY);
+    }
+    /**
+     * Invokes the recordNew method with the specified input using the specified environment without blocking, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Records#API-method%3A-%2Frecord%2Fnew">API specification</a>.
+     *
+     * @param inputObject input object (to be JSON serialized to an input hash)
+     * @param outputClass class to deserialize the server reponse to
+     * @param env environment object specifying the auth token and remote server and protocol
+     *
+     * @return future that completes with the server response parsed from JSON; the future fails
+     *         with {@link DXAPIException} or {@link DXHTTPException} if the request fails
+     */
+    public static <T> ListenableFuture<T> recordNewAsync(Object inputObject, Class<T> outputClass, DXEnvironment env) {
+        return new DXHTTPRequest(env).requestAsync("/record/new", inputObject, outputClass, RetryStrategy.UNSAFE_TO_RETRY);
     }
 
     /**
@@ -22923,9 +30445,7 @@ public final class DXAPI {
      *             the response (includes HTTP protocol errors).
      */
     public static <T> T systemDescribeDataObjects(Object inputObject, Class<T> outputClass) {
-        return DXJSON.safeTreeToValue(
-                new DXHTTPRequest().request("/system/describeDataObjects", mapper.valueToTree(inputObject), RetryStrategy.SAFE_TO_RETRY),
-                outputClass);
+        return new DXHTTPRequest().request("/system/describeDataObjects", inputObject, outputClass, RetryStrategy.SAFE_TO_RETRY);
     }
     /**
      * Invokes the systemDescribeDataObjects method with the specified input using the specified environment, deserializing to an object of the specified class.
@@ -22946,9 +30466,64 @@ public final class DXAPI {
      *             the response (includes HTTP protocol errors).
      */
     public static <T> T systemDescribeDataObjects(Object inputObject, Class<T> outputClass, DXEnvironment env) {
-        return DXJSON.safeTreeToValue(
-                new DXHTTPRequest(env).request("/system/describeDataObjects", mapper.valueToTree(inputObject), RetryStrategy.SAFE_TO_RETRY),
-                outputClass);
+        return new DXHTTPRequest(env).request("/system/describeDataObjects", inputObject, outputClass, RetryStrategy.SAFE_TO_RETRY);
+    }
+
+    /**
+     * Invokes the systemDescribeDataObjects method with an empty input without blocking, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/System-Methods#API-method:-/system/describeDataObjects">API specification</a>.
+     *
+     * @param outputClass class to deserialize the server reponse to
+     *
+     * @return future that completes with the server response parsed from JSON; the future fails
+     *         with {@link DXAPIException} or {@link DXHTTPException} if the request fails
+     */
+    public static <T> ListenableFuture<T> systemDescribeDataObjectsAsync(Class<T> outputClass) {
+        return systemDescribeDataObjectsAsync(mapper.createObjectNode(), outputClass);
+    }
+    /**
+     * Invokes the systemDescribeDataObjects method with an empty input using the specified environment without blocking, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/System-Methods#API-method:-/system/describeDataObjects">API specification</a>.
+     *
+     * @param outputClass class to deserialize the server reponse to
+     * @param env environment object specifying the auth token and remote server and protocol
+     *
+     * @return future that completes with the server response parsed from JSON; the future fails
+     *         with {@link DXAPIException} or {@link DXHTTPException} if the request fails
+     */
+    public static <T> ListenableFuture<T> systemDescribeDataObjectsAsync(Class<T> outputClass, DXEnvironment env) {
+        return systemDescribeDataObjectsAsync(mapper.createObjectNode(), outputClass, env);
+    }
+    /**
+     * Invokes the systemDescribeDataObjects method with the specified input without blocking, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/System-Methods#API-method:-/system/describeDataObjects">API specification</a>.
+     *
+     * @param inputObject input object (to be JSON serialized to an input hash)
+     * @param outputClass class to deserialize the server reponse to
+     *
+     * @return future that completes with the server response parsed from JSON; the future fails
+     *         with {@link DXAPIException} or {@link DXHTTPException} if the request fails
+     */
+    public static <T> ListenableFuture<T> systemDescribeDataObjectsAsync(Object inputObject, Class<T> outputClass) {
+        return new DXHTTPRequest().requestAsync("/system/describeDataObjects", inputObject, outputClass, RetryStrategy.SAFE_TO_RETRY);
+    }
+    /**
+     * Invokes the systemDescribeDataObjects method with the specified input using the specified environment without blocking, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/System-Methods#API-method:-/system/describeDataObjects">API specification</a>.
+     *
+     * @param inputObject input object (to be JSON serialized to an input hash)
+     * @param outputClass class to deserialize the server reponse to
+     * @param env environment object specifying the auth token and remote server and protocol
+     *
+     * @return future that completes with the server response parsed from JSON; the future fails
+     *         with {@link DXAPIException} or {@link DXHTTPException} if the request fails
+     */
+    public static <T> ListenableFuture<T> systemDescribeDataObjectsAsync(Object inputObject, Class<T> outputClass, DXEnvironment env) {
+        return new DXHTTPRequest(env).requestAsync("/system/describeDataObjects", inputObject, outputClass, RetryStrategy.SAFE_TO_RETRY);
     }
 
     /**
@@ -23096,9 +30671,7 @@ public final class DXAPI {
      *             the response (includes HTTP protocol errors).
      */
     public static <T> T systemDescribeProjects(Object inputObject, Class<T> outputClass) {
-        return DXJSON.safeTreeToValue(
-                new DXHTTPRequest().request("/system/describeProjects", mapper.valueToTree(inputObject), RetryStrategy.SAFE_TO_RETRY),
-                outputClass);
+        return new DXHTTPRequest().request("/system/describeProjects", inputObject, outputClass, RetryStrategy.SAFE_TO_RETRY);
     }
     /**
      * Invokes the systemDescribeProjects method with the specified input using the specified environment, deserializing to an object of the specified class.
@@ -23119,37 +30692,92 @@ public final class DXAPI {
      *             the response (includes HTTP protocol errors).
      */
     public static <T> T systemDescribeProjects(Object inputObject, Class<T> outputClass, DXEnvironment env) {
-        return DXJSON.safeTreeToValue(
-                new DXHTTPRequest(env).request("/system/describeProjects", mapper.valueToTree(inputObject), RetryStrategy.SAFE_TO_RETRY),
-                outputClass);
+        return new DXHTTPRequest(env).request("/system/describeProjects", inputObject, outputClass, RetryStrategy.SAFE_TO_RETRY);
     }
 
     /**
-     * Invokes the systemDescribeProjects method.
+     * Invokes the systemDescribeProjects method with an empty input without blocking, deserializing to an object of the specified class.
      *
      * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/System-Methods#API-method:-/system/describeProjects">API specification</a>.
      *
-     * @return Server response parsed from JSON
-     *
-     * @throws DXAPIException
-     *             If the server returns a complete response with an HTTP status
-     *             code other than 200 (OK).
-     * @throws DXHTTPException
-     *             If an error occurs while making the HTTP request or obtaining
-     *             the response (includes HTTP protocol errors).
+     * @param outputClass class to deserialize the server reponse to
      *
-     * @deprecated Use {@link #systemDescribeProjects(Class)} instead and supply your own class to deserialize to.
+     * @return future that completes with the server response parsed from JSON; the future fails
+     *         with {@link DXAPIException} or {@link DXHTTPException} if the request fails
      */
-    @Deprecated
-    public static JsonNode systemDescribeProjects() {
-        return systemDescribeProjects(mapper.createObjectNode());
+    public static <T> ListenableFuture<T> systemDescribeProjectsAsync(Class<T> outputClass) {
+        return systemDescribeProjectsAsync(mapper.createObjectNode(), outputClass);
     }
     /**
-     * Invokes the systemDescribeProjects method with the specified input parameters.
+     * Invokes the systemDescribeProjects method with an empty input using the specified environment without blocking, deserializing to an object of the specified class.
      *
      * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/System-Methods#API-method:-/system/describeProjects">API specification</a>.
      *
-     * @param inputParams input parameters to the API call
+     * @param outputClass class to deserialize the server reponse to
+     * @param env environment object specifying the auth token and remote server and protocol
+     *
+     * @return future that completes with the server response parsed from JSON; the future fails
+     *         with {@link DXAPIException} or {@link DXHTTPException} if the request fails
+     */
+    public static <T> ListenableFuture<T> systemDescribeProjectsAsync(Class<T> outputClass, DXEnvironment env) {
+        return systemDescribeProjectsAsync(mapper.createObjectNode(), outputClass, env);
+    }
+    /**
+     * Invokes the systemDescribeProjects method with the specified input without blocking, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/System-Methods#API-method:-/system/describeProjects">API specification</a>.
+     *
+     * @param inputObject input object (to be JSON serialized to an input hash)
+     * @param outputClass class to deserialize the server reponse to
+     *
+     * @return future that completes with the server response parsed from JSON; the future fails
+     *         with {@link DXAPIException} or {@link DXHTTPException} if the request fails
+     */
+    public static <T> ListenableFuture<T> systemDescribeProjectsAsync(Object inputObject, Class<T> outputClass) {
+        return new DXHTTPRequest().requestAsync("/system/describeProjects", inputObject, outputClass, RetryStrategy.SAFE_TO_RETRY);
+    }
+    /**
+     * Invokes the systemDescribeProjects method with the specified input using the specified environment without blocking, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/System-Methods#API-method:-/system/describeProjects">API specification</a>.
+     *
+     * @param inputObject input object (to be JSON serialized to an input hash)
+     * @param outputClass class to deserialize the server reponse to
+     * @param env environment object specifying the auth token and remote server and protocol
+     *
+     * @return future that completes with the server response parsed from JSON; the future fails
+     *         with {@link DXAPIException} or {@link DXHTTPException} if the request fails
+     */
+    public static <T> ListenableFuture<T> systemDescribeProjectsAsync(Object inputObject, Class<T> outputClass, DXEnvironment env) {
+        return new DXHTTPRequest(env).requestAsync("/system/describeProjects", inputObject, outputClass, RetryStrategy.SAFE_TO_RETRY);
+    }
+
+    /**
+     * Invokes the systemDescribeProjects method.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/System-Methods#API-method:-/system/describeProjects">API specification</a>.
+     *
+     * @return Server response parsed from JSON
+     *
+     * @throws DXAPIException
+     *             If the server returns a complete response with an HTTP status
+     *             code other than 200 (OK).
+     * @throws DXHTTPException
+     *             If an error occurs while making the HTTP request or obtaining
+     *             the response (includes HTTP protocol errors).
+     *
+     * @deprecated Use {@link #systemDescribeProjects(Class)} instead and supply your own class to deserialize to.
+     */
+    @Deprecated
+    public static JsonNode systemDescribeProjects() {
+        return systemDescribeProjects(mapper.createObjectNode());
+    }
+    /**
+     * Invokes the systemDescribeProjects method with the specified input parameters.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/System-Methods#API-method:-/system/describeProjects">API specification</a>.
+     *
+     * @param inputParams input parameters to the API call
      *
      * @return Server response parsed from JSON
      *
@@ -23263,9 +30891,7 @@ public final class DXAPI {
      *             the response (includes HTTP protocol errors).
      */
     public static <T> T systemFindAffiliates(Object inputObject, Class<T> outputClass) {
-        return DXJSON.safeTreeToValue(
-                new DXHTTPRequest().request("/system/findAffiliates", mapper.valueToTree(inputObject), RetryStrategy.SAFE_TO_RETRY),
-                outputClass);
+        return new DXHTTPRequest().request("/system/findAffiliates", inputObject, outputClass, RetryStrategy.SAFE_TO_RETRY);
     }
     /**
      * Invokes the systemFindAffiliates method with the specified input using the specified environment, deserializing to an object of the specified class.
@@ -23284,9 +30910,56 @@ public final class DXAPI {
      *             the response (includes HTTP protocol errors).
      */
     public static <T> T systemFindAffiliates(Object inputObject, Class<T> outputClass, DXEnvironment env) {
-        return DXJSON.safeTreeToValue(
-                new DXHTTPRequest(env).request("/system/findAffiliates", mapper.valueToTree(inputObject), RetryStrategy.SAFE_TO_RETRY),
-                outputClass);
+        return new DXHTTPRequest(env).request("/system/findAffiliates", inputObject, outputClass, RetryStrategy.SAFE_TO_RETRY);
+    }
+
+    /**
+     * Invokes the systemFindAffiliates method with an empty input without blocking, deserializing to an object of the specified class.
+     *
+     * @param outputClass class to deserialize the server reponse to
+     *
+     * @return future that completes with the server response parsed from JSON; the future fails
+     *         with {@link DXAPIException} or {@link DXHTTPException} if the request fails
+     */
+    public static <T> ListenableFuture<T> systemFindAffiliatesAsync(Class<T> outputClass) {
+        return systemFindAffiliatesAsync(mapper.createObjectNode(), outputClass);
+    }
+    /**
+     * Invokes the systemFindAffiliates method with an empty input using the specified environment without blocking, deserializing to an object of the specified class.
+     *
+     * @param outputClass class to deserialize the server reponse to
+     * @param env environment object specifying the auth token and remote server and protocol
+     *
+     * @return future that completes with the server response parsed from JSON; the future fails
+     *         with {@link DXAPIException} or {@link DXHTTPException} if the request fails
+     */
+    public static <T> ListenableFuture<T> systemFindAffiliatesAsync(Class<T> outputClass, DXEnvironment env) {
+        return systemFindAffiliatesAsync(mapper.createObjectNode(), outputClass, env);
+    }
+    /**
+     * Invokes the systemFindAffiliates method with the specified input without blocking, deserializing to an object of the specified class.
+     *
+     * @param inputObject input object (to be JSON serialized to an input hash)
+     * @param outputClass class to deserialize the server reponse to
+     *
+     * @return future that completes with the server response parsed from JSON; the future fails
+     *         with {@link DXAPIException} or {@link DXHTTPException} if the request fails
+     */
+    public static <T> ListenableFuture<T> systemFindAffiliatesAsync(Object inputObject, Class<T> outputClass) {
+        return new DXHTTPRequest().requestAsync("/system/findAffiliates", inputObject, outputClass, RetryStrategy.SAFE_TO_RETRY);
+    }
+    /**
+     * Invokes the systemFindAffiliates method with the specified input using the specified environment without blocking, deserializing to an object of the specified class.
+     *
+     * @param inputObject input object (to be JSON serialized to an input hash)
+     * @param outputClass class to deserialize the server reponse to
+     * @param env environment object specifying the auth token and remote server and protocol
+     *
+     * @return future that completes with the server response parsed from JSON; the future fails
+     *         with {@link DXAPIException} or {@link DXHTTPException} if the request fails
+     */
+    public static <T> ListenableFuture<T> systemFindAffiliatesAsync(Object inputObject, Class<T> outputClass, DXEnvironment env) {
+        return new DXHTTPRequest(env).requestAsync("/system/findAffiliates", inputObject, outputClass, RetryStrategy.SAFE_TO_RETRY);
     }
 
     /**
@@ -23426,9 +31099,7 @@ public final class DXAPI {
      *             the response (includes HTTP protocol errors).
      */
     public static <T> T systemFindApps(Object inputObject, Class<T> outputClass) {
-        return DXJSON.safeTreeToValue(
-                new DXHTTPRequest().request("/system/findApps", mapper.valueToTree(inputObject), RetryStrategy.SAFE_TO_RETRY),
-                outputClass);
+        return new DXHTTPRequest().request("/system/findApps", inputObject, outputClass, RetryStrategy.SAFE_TO_RETRY);
     }
     /**
      * Invokes the systemFindApps method with the specified input using the specified environment, deserializing to an object of the specified class.
@@ -23449,9 +31120,64 @@ public final class DXAPI {
      *             the response (includes HTTP protocol errors).
      */
     public static <T> T systemFindApps(Object inputObject, Class<T> outputClass, DXEnvironment env) {
-        return DXJSON.safeTreeToValue(
-                new DXHTTPRequest(env).request("/system/findApps", mapper.valueToTree(inputObject), RetryStrategy.SAFE_TO_RETRY),
-                outputClass);
+        return new DXHTTPRequest(env).request("/system/findApps", inputObject, outputClass, RetryStrategy.SAFE_TO_RETRY);
+    }
+
+    /**
+     * Invokes the systemFindApps method with an empty input without blocking, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Search#API-method%3A-%2Fsystem%2FfindApps">API specification</a>.
+     *
+     * @param outputClass class to deserialize the server reponse to
+     *
+     * @return future that completes with the server response parsed from JSON; the future fails
+     *         with {@link DXAPIException} or {@link DXHTTPException} if the request fails
+     */
+    public static <T> ListenableFuture<T> systemFindAppsAsync(Class<T> outputClass) {
+        return systemFindAppsAsync(mapper.createObjectNode(), outputClass);
+    }
+    /**
+     * Invokes the systemFindApps method with an empty input using the specified environment without blocking, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Search#API-method%3A-%2Fsystem%2FfindApps">API specification</a>.
+     *
+     * @param outputClass class to deserialize the server reponse to
+     * @param env environment object specifying the auth token and remote server and protocol
+     *
+     * @return future that completes with the server response parsed from JSON; the future fails
+     *         with {@link DXAPIException} or {@link DXHTTPException} if the request fails
+     */
+    public static <T> ListenableFuture<T> systemFindAppsAsync(Class<T> outputClass, DXEnvironment env) {
+        return systemFindAppsAsync(mapper.createObjectNode(), outputClass, env);
+    }
+    /**
+     * Invokes the systemFindApps method with the specified input without blocking, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Search#API-method%3A-%2Fsystem%2FfindApps">API specification</a>.
+     *
+     * @param inputObject input object (to be JSON serialized to an input hash)
+     * @param outputClass class to deserialize the server reponse to
+     *
+     * @return future that completes with the server response parsed from JSON; the future fails
+     *         with {@link DXAPIException} or {@link DXHTTPException} if the request fails
+     */
+    public static <T> ListenableFuture<T> systemFindAppsAsync(Object inputObject, Class<T> outputClass) {
+        return new DXHTTPRequest().requestAsync("/system/findApps", inputObject, outputClass, RetryStrategy.SAFE_TO_RETRY);
+    }
+    /**
+     * Invokes the systemFindApps method with the specified input using the specified environment without blocking, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Search#API-method%3A-%2Fsystem%2FfindApps">API specification</a>.
+     *
+     * @param inputObject input object (to be JSON serialized to an input hash)
+     * @param outputClass class to deserialize the server reponse to
+     * @param env environment object specifying the auth token and remote server and protocol
+     *
+     * @return future that completes with the server response parsed from JSON; the future fails
+     *         with {@link DXAPIException} or {@link DXHTTPException} if the request fails
+     */
+    public static <T> ListenableFuture<T> systemFindAppsAsync(Object inputObject, Class<T> outputClass, DXEnvironment env) {
+        return new DXHTTPRequest(env).requestAsync("/system/findApps", inputObject, outputClass, RetryStrategy.SAFE_TO_RETRY);
     }
 
     /**
@@ -23599,9 +31325,7 @@ public final class DXAPI {
      *             the response (includes HTTP protocol errors).
      */
     public static <T> T systemFindDataObjects(Object inputObject, Class<T> outputClass) {
-        return DXJSON.safeTreeToValue(
-                new DXHTTPRequest().request("/system/findDataObjects", mapper.valueToTree(inputObject), RetryStrategy.SAFE_TO_RETRY),
-                outputClass);
+        return new DXHTTPRequest().request("/system/findDataObjects", inputObject, outputClass, RetryStrategy.SAFE_TO_RETRY);
     }
     /**
      * Invokes the systemFindDataObjects method with the specified input using the specified environment, deserializing to an object of the specified class.
@@ -23622,9 +31346,64 @@ public final class DXAPI {
      *             the response (includes HTTP protocol errors).
      */
     public static <T> T systemFindDataObjects(Object inputObject, Class<T> outputClass, DXEnvironment env) {
-        return DXJSON.safeTreeToValue(
-                new DXHTTPRequest(env).request("/system/findDataObjects", mapper.valueToTree(inputObject), RetryStrategy.SAFE_TO_RETRY),
-                outputClass);
+        return new DXHTTPRequest(env).request("/system/findDataObjects", inputObject, outputClass, RetryStrategy.SAFE_TO_RETRY);
+    }
+
+    /**
+     * Invokes the systemFindDataObjects method with an empty input without blocking, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Search#API-method%3A-%2Fsystem%2FfindDataObjects">API specification</a>.
+     *
+     * @param outputClass class to deserialize the server reponse to
+     *
+     * @return future that completes with the server response parsed from JSON; the future fails
+     *         with {@link DXAPIException} or {@link DXHTTPException} if the request fails
+     */
+    public static <T> ListenableFuture<T> systemFindDataObjectsAsync(Class<T> outputClass) {
+        return systemFindDataObjectsAsync(mapper.createObjectNode(), outputClass);
+    }
+    /**
+     * Invokes the systemFindDataObjects method with an empty input using the specified environment without blocking, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Search#API-method%3A-%2Fsystem%2FfindDataObjects">API specification</a>.
+     *
+     * @param outputClass class to deserialize the server reponse to
+     * @param env environment object specifying the auth token and remote server and protocol
+     *
+     * @return future that completes with the server response parsed from JSON; the future fails
+     *         with {@link DXAPIException} or {@link DXHTTPException} if the request fails
+     */
+    public static <T> ListenableFuture<T> systemFindDataObjectsAsync(Class<T> outputClass, DXEnvironment env) {
+        return systemFindDataObjectsAsync(mapper.createObjectNode(), outputClass, env);
+    }
+    /**
+     * Invokes the systemFindDataObjects method with the specified input without blocking, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Search#API-method%3A-%2Fsystem%2FfindDataObjects">API specification</a>.
+     *
+     * @param inputObject input object (to be JSON serialized to an input hash)
+     * @param outputClass class to deserialize the server reponse to
+     *
+     * @return future that completes with the server response parsed from JSON; the future fails
+     *         with {@link DXAPIException} or {@link DXHTTPException} if the request fails
+     */
+    public static <T> ListenableFuture<T> systemFindDataObjectsAsync(Object inputObject, Class<T> outputClass) {
+        return new DXHTTPRequest().requestAsync("/system/findDataObjects", inputObject, outputClass, RetryStrategy.SAFE_TO_RETRY);
+    }
+    /**
+     * Invokes the systemFindDataObjects method with the specified input using the specified environment without blocking, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Search#API-method%3A-%2Fsystem%2FfindDataObjects">API specification</a>.
+     *
+     * @param inputObject input object (to be JSON serialized to an input hash)
+     * @param outputClass class to deserialize the server reponse to
+     * @param env environment object specifying the auth token and remote server and protocol
+     *
+     * @return future that completes with the server response parsed from JSON; the future fails
+     *         with {@link DXAPIException} or {@link DXHTTPException} if the request fails
+     */
+    public static <T> ListenableFuture<T> systemFindDataObjectsAsync(Object inputObject, Class<T> outputClass, DXEnvironment env) {
+        return new DXHTTPRequest(env).requestAsync("/system/findDataObjects", inputObject, outputClass, RetryStrategy.SAFE_TO_RETRY);
     }
 
     /**
@@ -23772,9 +31551,7 @@ public final class DXAPI {
      *             the response (includes HTTP protocol errors).
      */
     public static <T> T systemResolveDataObjects(Object inputObject, Class<T> outputClass) {
-        return DXJSON.safeTreeToValue(
-                new DXHTTPRequest().request("/system/resolveDataObjects", mapper.valueToTree(inputObject), RetryStrategy.SAFE_TO_RETRY),
-                outputClass);
+        return new DXHTTPRequest().request("/system/resolveDataObjects", inputObject, outputClass, RetryStrategy.SAFE_TO_RETRY);
     }
     /**
      * Invokes the systemResolveDataObjects method with the specified input using the specified environment, deserializing to an object of the specified class.
@@ -23795,9 +31572,64 @@ public final class DXAPI {
      *             the response (includes HTTP protocol errors).
      */
     public static <T> T systemResolveDataObjects(Object inputObject, Class<T> outputClass, DXEnvironment env) {
-        return DXJSON.safeTreeToValue(
-                new DXHTTPRequest(env).request("/system/resolveDataObjects", mapper.valueToTree(inputObject), RetryStrategy.SAFE_TO_RETRY),
-                outputClass);
+        return new DXHTTPRequest(env).request("/system/resolveDataObjects", inputObject, outputClass, RetryStrategy.SAFE_TO_RETRY);
+    }
+
+    /**
+     * Invokes the systemResolveDataObjects method with an empty input without blocking, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/System-Methods#API-method:-/system/resolveDataObjects">API specification</a>.
+     *
+     * @param outputClass class to deserialize the server reponse to
+     *
+     * @return future that completes with the server response parsed from JSON; the future fails
+     *         with {@link DXAPIException} or {@link DXHTTPException} if the request fails
+     */
+    public static <T> ListenableFuture<T> systemResolveDataObjectsAsync(Class<T> outputClass) {
+        return systemResolveDataObjectsAsync(mapper.createObjectNode(), outputClass);
+    }
+    /**
+     * Invokes the systemResolveDataObjects method with an empty input using the specified environment without blocking, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/System-Methods#API-method:-/system/resolveDataObjects">API specification</a>.
+     *
+     * @param outputClass class to deserialize the server reponse to
+     * @param env environment object specifying the auth token and remote server and protocol
+     *
+     * @return future that completes with the server response parsed from JSON; the future fails
+     *         with {@link DXAPIException} or {@link DXHTTPException} if the request fails
+     */
+    public static <T> ListenableFuture<T> systemResolveDataObjectsAsync(Class<T> outputClass, DXEnvironment env) {
+        return systemResolveDataObjectsAsync(mapper.createObjectNode(), outputClass, env);
+    }
+    /**
+     * Invokes the systemResolveDataObjects method with the specified input without blocking, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/System-Methods#API-method:-/system/resolveDataObjects">API specification</a>.
+     *
+     * @param inputObject input object (to be JSON serialized to an input hash)
+     * @param outputClass class to deserialize the server reponse to
+     *
+     * @return future that completes with the server response parsed from JSON; the future fails
+     *         with {@link DXAPIException} or {@link DXHTTPException} if the request fails
+     */
+    public static <T> ListenableFuture<T> systemResolveDataObjectsAsync(Object inputObject, Class<T> outputClass) {
+        return new DXHTTPRequest().requestAsync("/system/resolveDataObjects", inputObject, outputClass, RetryStrategy.SAFE_TO_RETRY);
+    }
+    /**
+     * Invokes the systemResolveDataObjects method with the specified input using the specified environment without blocking, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/System-Methods#API-method:-/system/resolveDataObjects">API specification</a>.
+     *
+     * @param inputObject input object (to be JSON serialized to an input hash)
+     * @param outputClass class to deserialize the server reponse to
+     * @param env environment object specifying the auth token and remote server and protocol
+     *
+     * @return future that completes with the server response parsed from JSON; the future fails
+     *         with {@link DXAPIException} or {@link DXHTTPException} if the request fails
+     */
+    public static <T> ListenableFuture<T> systemResolveDataObjectsAsync(Object inputObject, Class<T> outputClass, DXEnvironment env) {
+        return new DXHTTPRequest(env).requestAsync("/system/resolveDataObjects", inputObject, outputClass, RetryStrategy.SAFE_TO_RETRY);
     }
 
     /**
@@ -23945,9 +31777,7 @@ public final class DXAPI {
      *             the response (includes HTTP protocol errors).
      */
     public static <T> T systemFindExecutions(Object inputObject, Class<T> outputClass) {
-        return DXJSON.safeTreeToValue(
-                new DXHTTPRequest().request("/system/findExecutions", mapper.valueToTree(inputObject), RetryStrategy.SAFE_TO_RETRY),
-                outputClass);
+        return new DXHTTPRequest().request("/system/findExecutions", inputObject, outputClass, RetryStrategy.SAFE_TO_RETRY);
     }
     /**
      * Invokes the systemFindExecutions method with the specified input using the specified environment, deserializing to an object of the specified class.
@@ -23968,9 +31798,64 @@ public final class DXAPI {
      *             the response (includes HTTP protocol errors).
      */
     public static <T> T systemFindExecutions(Object inputObject, Class<T> outputClass, DXEnvironment env) {
-        return DXJSON.safeTreeToValue(
-                new DXHTTPRequest(env).request("/system/findExecutions", mapper.valueToTree(inputObject), RetryStrategy.SAFE_TO_RETRY),
-                outputClass);
+        return new DXHTTPRequest(env).request("/system/findExecutions", inputObject, outputClass, RetryStrategy.SAFE_TO_RETRY);
+    }
+
+    /**
+     * Invokes the systemFindExecutions method with an empty input without blocking, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Search#API-method%3A-%2Fsystem%2FfindExecutions">API specification</a>.
+     *
+     * @param outputClass class to deserialize the server reponse to
+     *
+     * @return future that completes with the server response parsed from JSON; the future fails
+     *         with {@link DXAPIException} or {@link DXHTTPException} if the request fails
+     */
+    public static <T> ListenableFuture<T> systemFindExecutionsAsync(Class<T> outputClass) {
+        return systemFindExecutionsAsync(mapper.createObjectNode(), outputClass);
+    }
+    /**
+     * Invokes the systemFindExecutions method with an empty input using the specified environment without blocking, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Search#API-method%3A-%2Fsystem%2FfindExecutions">API specification</a>.
+     *
+     * @param outputClass class to deserialize the server reponse to
+     * @param env environment object specifying the auth token and remote server and protocol
+     *
+     * @return future that completes with the server response parsed from JSON; the future fails
+     *         with {@link DXAPIException} or {@link DXHTTPException} if the request fails
+     */
+    public static <T> ListenableFuture<T> systemFindExecutionsAsync(Class<T> outputClass, DXEnvironment env) {
+        return systemFindExecutionsAsync(mapper.createObjectNode(), outputClass, env);
+    }
+    /**
+     * Invokes the systemFindExecutions method with the specified input without blocking, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Search#API-method%3A-%2Fsystem%2FfindExecutions">API specification</a>.
+     *
+     * @param inputObject input object (to be JSON serialized to an input hash)
+     * @param outputClass class to deserialize the server reponse to
+     *
+     * @return future that completes with the server response parsed from JSON; the future fails
+     *         with {@link DXAPIException} or {@link DXHTTPException} if the request fails
+     */
+    public static <T> ListenableFuture<T> systemFindExecutionsAsync(Object inputObject, Class<T> outputClass) {
+        return new DXHTTPRequest().requestAsync("/system/findExecutions", inputObject, outputClass, RetryStrategy.SAFE_TO_RETRY);
+    }
+    /**
+     * Invokes the systemFindExecutions method with the specified input using the specified environment without blocking, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Search#API-method%3A-%2Fsystem%2FfindExecutions">API specification</a>.
+     *
+     * @param inputObject input object (to be JSON serialized to an input hash)
+     * @param outputClass class to deserialize the server reponse to
+     * @param env environment object specifying the auth token and remote server and protocol
+     *
+     * @return future that completes with the server response parsed from JSON; the future fails
+     *         with {@link DXAPIException} or {@link DXHTTPException} if the request fails
+     */
+    public static <T> ListenableFuture<T> systemFindExecutionsAsync(Object inputObject, Class<T> outputClass, DXEnvironment env) {
+        return new DXHTTPRequest(env).requestAsync("/system/findExecutions", inputObject, outputClass, RetryStrategy.SAFE_TO_RETRY);
     }
 
     /**
@@ -24118,9 +32003,7 @@ public final class DXAPI {
      *             the response (includes HTTP protocol errors).
      */
     public static <T> T systemFindAnalyses(Object inputObject, Class<T> outputClass) {
-        return DXJSON.safeTreeToValue(
-                new DXHTTPRequest().request("/system/findAnalyses", mapper.valueToTree(inputObject), RetryStrategy.SAFE_TO_RETRY),
-                outputClass);
+        return new DXHTTPRequest().request("/system/findAnalyses", inputObject, outputClass, RetryStrategy.SAFE_TO_RETRY);
     }
     /**
      * Invokes the systemFindAnalyses method with the specified input using the specified environment, deserializing to an object of the specified class.
@@ -24141,9 +32024,64 @@ public final class DXAPI {
      *             the response (includes HTTP protocol errors).
      */
     public static <T> T systemFindAnalyses(Object inputObject, Class<T> outputClass, DXEnvironment env) {
-        return DXJSON.safeTreeToValue(
-                new DXHTTPRequest(env).request("/system/findAnalyses", mapper.valueToTree(inputObject), RetryStrategy.SAFE_TO_RETRY),
-                outputClass);
+        return new DXHTTPRequest(env).request("/system/findAnalyses", inputObject, outputClass, RetryStrategy.SAFE_TO_RETRY);
+    }
+
+    /**
+     * Invokes the systemFindAnalyses method with an empty input without blocking, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Search#API-method%3A-%2Fsystem%2FfindAnalyses">API specification</a>.
+     *
+     * @param outputClass class to deserialize the server reponse to
+     *
+     * @return future that completes with the server response parsed from JSON; the future fails
+     *         with {@link DXAPIException} or {@link DXHTTPException} if the request fails
+     */
+    public static <T> ListenableFuture<T> systemFindAnalysesAsync(Class<T> outputClass) {
+        return systemFindAnalysesAsync(mapper.createObjectNode(), outputClass);
+    }
+    /**
+     * Invokes the systemFindAnalyses method with an empty input using the specified environment without blocking, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Search#API-method%3A-%2Fsystem%2FfindAnalyses">API specification</a>.
+     *
+     * @param outputClass class to deserialize the server reponse to
+     * @param env environment object specifying the auth token and remote server and protocol
+     *
+     * @return future that completes with the server response parsed from JSON; the future fails
+     *         with {@link DXAPIException} or {@link DXHTTPException} if the request fails
+     */
+    public static <T> ListenableFuture<T> systemFindAnalysesAsync(Class<T> outputClass, DXEnvironment env) {
+        return systemFindAnalysesAsync(mapper.createObjectNode(), outputClass, env);
+    }
+    /**
+     * Invokes the systemFindAnalyses method with the specified input without blocking, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Search#API-method%3A-%2Fsystem%2FfindAnalyses">API specification</a>.
+     *
+     * @param inputObject input object (to be JSON serialized to an input hash)
+     * @param outputClass class to deserialize the server reponse to
+     *
+     * @return future that completes with the server response parsed from JSON; the future fails
+     *         with {@link DXAPIException} or {@link DXHTTPException} if the request fails
+     */
+    public static <T> ListenableFuture<T> systemFindAnalysesAsync(Object inputObject, Class<T> outputClass) {
+        return new DXHTTPRequest().requestAsync("/system/findAnalyses", inputObject, outputClass, RetryStrategy.SAFE_TO_RETRY);
+    }
+    /**
+     * Invokes the systemFindAnalyses method with the specified input using the specified environment without blocking, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Search#API-method%3A-%2Fsystem%2FfindAnalyses">API specification</a>.
+     *
+     * @param inputObject input object (to be JSON serialized to an input hash)
+     * @param outputClass class to deserialize the server reponse to
+     * @param env environment object specifying the auth token and remote server and protocol
+     *
+     * @return future that completes with the server response parsed from JSON; the future fails
+     *         with {@link DXAPIException} or {@link DXHTTPException} if the request fails
+     */
+    public static <T> ListenableFuture<T> systemFindAnalysesAsync(Object inputObject, Class<T> outputClass, DXEnvironment env) {
+        return new DXHTTPRequest(env).requestAsync("/system/findAnalyses", inputObject, outputClass, RetryStrategy.SAFE_TO_RETRY);
     }
 
     /**
@@ -24291,9 +32229,7 @@ public final class DXAPI {
      *             the response (includes HTTP protocol errors).
      */
     public static <T> T systemFindJobs(Object inputObject, Class<T> outputClass) {
-        return DXJSON.safeTreeToValue(
-                new DXHTTPRequest().request("/system/findJobs", mapper.valueToTree(inputObject), RetryStrategy.SAFE_TO_RETRY),
-                outputClass);
+        return new DXHTTPRequest().request("/system/findJobs", inputObject, outputClass, RetryStrategy.SAFE_TO_RETRY);
     }
     /**
      * Invokes the systemFindJobs method with the specified input using the specified environment, deserializing to an object of the specified class.
@@ -24314,9 +32250,64 @@ public final class DXAPI {
      *             the response (includes HTTP protocol errors).
      */
     public static <T> T systemFindJobs(Object inputObject, Class<T> outputClass, DXEnvironment env) {
-        return DXJSON.safeTreeToValue(
-                new DXHTTPRequest(env).request("/system/findJobs", mapper.valueToTree(inputObject), RetryStrategy.SAFE_TO_RETRY),
-                outputClass);
+        return new DXHTTPRequest(env).request("/system/findJobs", inputObject, outputClass, RetryStrategy.SAFE_TO_RETRY);
+    }
+
+    /**
+     * Invokes the systemFindJobs method with an empty input without blocking, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Search#API-method%3A-%2Fsystem%2FfindJobs">API specification</a>.
+     *
+     * @param outputClass class to deserialize the server reponse to
+     *
+     * @return future that completes with the server response parsed from JSON; the future fails
+     *         with {@link DXAPIException} or {@link DXHTTPException} if the request fails
+     */
+    public static <T> ListenableFuture<T> systemFindJobsAsync(Class<T> outputClass) {
+        return systemFindJobsAsync(mapper.createObjectNode(), outputClass);
+    }
+    /**
+     * Invokes the systemFindJobs method with an empty input using the specified environment without blocking, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Search#API-method%3A-%2Fsystem%2FfindJobs">API specification</a>.
+     *
+     * @param outputClass class to deserialize the server reponse to
+     * @param env environment object specifying the auth token and remote server and protocol
+     *
+     * @return future that completes with the server response parsed from JSON; the future fails
+     *         with {@link DXAPIException} or {@link DXHTTPException} if the request fails
+     */
+    public static <T> ListenableFuture<T> systemFindJobsAsync(Class<T> outputClass, DXEnvironment env) {
+        return systemFindJobsAsync(mapper.createObjectNode(), outputClass, env);
+    }
+    /**
+     * Invokes the systemFindJobs method with the specified input without blocking, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Search#API-method%3A-%2Fsystem%2FfindJobs">API specification</a>.
+     *
+     * @param inputObject input object (to be JSON serialized to an input hash)
+     * @param outputClass class to deserialize the server reponse to
+     *
+     * @return future that completes with the server response parsed from JSON; the future fails
+     *         with {@link DXAPIException} or {@link DXHTTPException} if the request fails
+     */
+    public static <T> ListenableFuture<T> systemFindJobsAsync(Object inputObject, Class<T> outputClass) {
+        return new DXHTTPRequest().requestAsync("/system/findJobs", inputObject, outputClass, RetryStrategy.SAFE_TO_RETRY);
+    }
+    /**
+     * Invokes the systemFindJobs method with the specified input using the specified environment without blocking, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Search#API-method%3A-%2Fsystem%2FfindJobs">API specification</a>.
+     *
+     * @param inputObject input object (to be JSON serialized to an input hash)
+     * @param outputClass class to deserialize the server reponse to
+     * @param env environment object specifying the auth token and remote server and protocol
+     *
+     * @return future that completes with the server response parsed from JSON; the future fails
+     *         with {@link DXAPIException} or {@link DXHTTPException} if the request fails
+     */
+    public static <T> ListenableFuture<T> systemFindJobsAsync(Object inputObject, Class<T> outputClass, DXEnvironment env) {
+        return new DXHTTPRequest(env).requestAsync("/system/findJobs", inputObject, outputClass, RetryStrategy.SAFE_TO_RETRY);
     }
 
     /**
@@ -24464,9 +32455,7 @@ public final class DXAPI {
      *             the response (includes HTTP protocol errors).
      */
     public static <T> T systemFindProjects(Object inputObject, Class<T> outputClass) {
-        return DXJSON.safeTreeToValue(
-                new DXHTTPRequest().request("/system/findProjects", mapper.valueToTree(inputObject), RetryStrategy.SAFE_TO_RETRY),
-                outputClass);
+        return new DXHTTPRequest().request("/system/findProjects", inputObject, outputClass, RetryStrategy.SAFE_TO_RETRY);
     }
     /**
      * Invokes the systemFindProjects method with the specified input using the specified environment, deserializing to an object of the specified class.
@@ -24487,9 +32476,64 @@ public final class DXAPI {
      *             the response (includes HTTP protocol errors).
      */
     public static <T> T systemFindProjects(Object inputObject, Class<T> outputClass, DXEnvironment env) {
-        return DXJSON.safeTreeToValue(
-                new DXHTTPRequest(env).request("/system/findProjects", mapper.valueToTree(inputObject), RetryStrategy.SAFE_TO_RETRY),
-                outputClass);
+        return new DXHTTPRequest(env).request("/system/findProjects", inputObject, outputClass, RetryStrategy.SAFE_TO_RETRY);
+    }
+
+    /**
+     * Invokes the systemFindProjects method with an empty input without blocking, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Search#API-method%3A-%2Fsystem%2FfindProjects">API specification</a>.
+     *
+     * @param outputClass class to deserialize the server reponse to
+     *
+     * @return future that completes with the server response parsed from JSON; the future fails
+     *         with {@link DXAPIException} or {@link DXHTTPException} if the request fails
+     */
+    public static <T> ListenableFuture<T> systemFindProjectsAsync(Class<T> outputClass) {
+        return systemFindProjectsAsync(mapper.createObjectNode(), outputClass);
+    }
+    /**
+     * Invokes the systemFindProjects method with an empty input using the specified environment without blocking, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Search#API-method%3A-%2Fsystem%2FfindProjects">API specification</a>.
+     *
+     * @param outputClass class to deserialize the server reponse to
+     * @param env environment object specifying the auth token and remote server and protocol
+     *
+     * @return future that completes with the server response parsed from JSON; the future fails
+     *         with {@link DXAPIException} or {@link DXHTTPException} if the request fails
+     */
+    public static <T> ListenableFuture<T> systemFindProjectsAsync(Class<T> outputClass, DXEnvironment env) {
+        return systemFindProjectsAsync(mapper.createObjectNode(), outputClass, env);
+    }
+    /**
+     * Invokes the systemFindProjects method with the specified input without blocking, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Search#API-method%3A-%2Fsystem%2FfindProjects">API specification</a>.
+     *
+     * @param inputObject input object (to be JSON serialized to an input hash)
+     * @param outputClass class to deserialize the server reponse to
+     *
+     * @return future that completes with the server response parsed from JSON; the future fails
+     *         with {@link DXAPIException} or {@link DXHTTPException} if the request fails
+     */
+    public static <T> ListenableFuture<T> systemFindProjectsAsync(Object inputObject, Class<T> outputClass) {
+        return new DXHTTPRequest().requestAsync("/system/findProjects", inputObject, outputClass, RetryStrategy.SAFE_TO_RETRY);
+    }
+    /**
+     * Invokes the systemFindProjects method with the specified input using the specified environment without blocking, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Search#API-method%3A-%2Fsystem%2FfindProjects">API specification</a>.
+     *
+     * @param inputObject input object (to be JSON serialized to an input hash)
+     * @param outputClass class to deserialize the server reponse to
+     * @param env environment object specifying the auth token and remote server and protocol
+     *
+     * @return future that completes with the server response parsed from JSON; the future fails
+     *         with {@link DXAPIException} or {@link DXHTTPException} if the request fails
+     */
+    public static <T> ListenableFuture<T> systemFindProjectsAsync(Object inputObject, Class<T> outputClass, DXEnvironment env) {
+        return new DXHTTPRequest(env).requestAsync("/system/findProjects", inputObject, outputClass, RetryStrategy.SAFE_TO_RETRY);
     }
 
     /**
@@ -24629,20 +32673,81 @@ public final class DXAPI {
      *
      * @return Server response parsed from JSON
      *
-     * @throws DXAPIException
-     *             If the server returns a complete response with an HTTP status
-     *             code other than 200 (OK).
-     * @throws DXHTTPException
-     *             If an error occurs while making the HTTP request or obtaining
-     *             the response (includes HTTP protocol errors).
+     * @throws DXAPIException
+     *             If the server returns a complete response with an HTTP status
+     *             code other than 200 (OK).
+     * @throws DXHTTPException
+     *             If an error occurs while making the HTTP request or obtaining
+     *             the response (includes HTTP protocol errors).
+     */
+    public static <T> T systemFindUsers(Object inputObject, Class<T> outputClass) {
+        return new DXHTTPRequest().request("/system/findUsers", inputObject, outputClass, RetryStrategy.SAFE_TO_RETRY);
+    }
+    /**
+     * Invokes the systemFindUsers method with the specified input using the specified environment, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Search#API-method%3A-%2Fsystem%2FfindUsers">API specification</a>.
+     *
+     * @param inputObject input object (to be JSON serialized to an input hash)
+     * @param outputClass class to deserialize the server reponse to
+     * @param env environment object specifying the auth token and remote server and protocol
+     *
+     * @return Server response parsed from JSON
+     *
+     * @throws DXAPIException
+     *             If the server returns a complete response with an HTTP status
+     *             code other than 200 (OK).
+     * @throws DXHTTPException
+     *             If an error occurs while making the HTTP request or obtaining
+     *             the response (includes HTTP protocol errors).
+     */
+    public static <T> T systemFindUsers(Object inputObject, Class<T> outputClass, DXEnvironment env) {
+        return new DXHTTPRequest(env).request("/system/findUsers", inputObject, outputClass, RetryStrategy.SAFE_TO_RETRY);
+    }
+
+    /**
+     * Invokes the systemFindUsers method with an empty input without blocking, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Search#API-method%3A-%2Fsystem%2FfindUsers">API specification</a>.
+     *
+     * @param outputClass class to deserialize the server reponse to
+     *
+     * @return future that completes with the server response parsed from JSON; the future fails
+     *         with {@link DXAPIException} or {@link DXHTTPException} if the request fails
+     */
+    public static <T> ListenableFuture<T> systemFindUsersAsync(Class<T> outputClass) {
+        return systemFindUsersAsync(mapper.createObjectNode(), outputClass);
+    }
+    /**
+     * Invokes the systemFindUsers method with an empty input using the specified environment without blocking, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Search#API-method%3A-%2Fsystem%2FfindUsers">API specification</a>.
+     *
+     * @param outputClass class to deserialize the server reponse to
+     * @param env environment object specifying the auth token and remote server and protocol
+     *
+     * @return future that completes with the server response parsed from JSON; the future fails
+     *         with {@link DXAPIException} or {@link DXHTTPException} if the request fails
+     */
+    public static <T> ListenableFuture<T> systemFindUsersAsync(Class<T> outputClass, DXEnvironment env) {
+        return systemFindUsersAsync(mapper.createObjectNode(), outputClass, env);
+    }
+    /**
+     * Invokes the systemFindUsers method with the specified input without blocking, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Search#API-method%3A-%2Fsystem%2FfindUsers">API specification</a>.
+     *
+     * @param inputObject input object (to be JSON serialized to an input hash)
+     * @param outputClass class to deserialize the server reponse to
+     *
+     * @return future that completes with the server response parsed from JSON; the future fails
+     *         with {@link DXAPIException} or {@link DXHTTPException} if the request fails
      */
-    public static <T> T systemFindUsers(Object inputObject, Class<T> outputClass) {
-        return DXJSON.safeTreeToValue(
-                new DXHTTPRequest().request("/system/findUsers", mapper.valueToTree(inputObject), RetryStrategy.SAFE_TO_RETRY),
-                outputClass);
+    public static <T> ListenableFuture<T> systemFindUsersAsync(Object inputObject, Class<T> outputClass) {
+        return new DXHTTPRequest().requestAsync("/system/findUsers", inputObject, outputClass, RetryStrategy.SAFE_TO_RETRY);
     }
     /**
-     * Invokes the systemFindUsers method with the specified input using the specified environment, deserializing to an object of the specified class.
+     * Invokes the systemFindUsers method with the specified input using the specified environment without blocking, deserializing to an object of the specified class.
      *
      * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Search#API-method%3A-%2Fsystem%2FfindUsers">API specification</a>.
      *
@@ -24650,19 +32755,11 @@ public final class DXAPI {
      * @param outputClass class to deserialize the server reponse to
      * @param env environment object specifying the auth token and remote server and protocol
      *
-     * @return Server response parsed from JSON
-     *
-     * @throws DXAPIException
-     *             If the server returns a complete response with an HTTP status
-     *             code other than 200 (OK).
-     * @throws DXHTTPException
-     *             If an error occurs while making the HTTP request or obtaining
-     *             the response (includes HTTP protocol errors).
+     * @return future that completes with the server response parsed from JSON; the future fails
+     *         with {@link DXAPIException} or {@link DXHTTPException} if the request fails
      */
-    public static <T> T systemFindUsers(Object inputObject, Class<T> outputClass, DXEnvironment env) {
-        return DXJSON.safeTreeToValue(
-                new DXHTTPRequest(env).request("/system/findUsers", mapper.valueToTree(inputObject), RetryStrategy.SAFE_TO_RETRY),
-                outputClass);
+    public static <T> ListenableFuture<T> systemFindUsersAsync(Object inputObject, Class<T> outputClass, DXEnvironment env) {
+        return new DXHTTPRequest(env).requestAsync("/system/findUsers", inputObject, outputClass, RetryStrategy.SAFE_TO_RETRY);
     }
 
     /**
@@ -24810,9 +32907,7 @@ public final class DXAPI {
      *             the response (includes HTTP protocol errors).
      */
     public static <T> T systemFindProjectMembers(Object inputObject, Class<T> outputClass) {
-        return DXJSON.safeTreeToValue(
-                new DXHTTPRequest().request("/system/findProjectMembers", mapper.valueToTree(inputObject), RetryStrategy.SAFE_TO_RETRY),
-                outputClass);
+        return new DXHTTPRequest().request("/system/findProjectMembers", inputObject, outputClass, RetryStrategy.SAFE_TO_RETRY);
     }
     /**
      * Invokes the systemFindProjectMembers method with the specified input using the specified environment, deserializing to an object of the specified class.
@@ -24833,9 +32928,64 @@ public final class DXAPI {
      *             the response (includes HTTP protocol errors).
      */
     public static <T> T systemFindProjectMembers(Object inputObject, Class<T> outputClass, DXEnvironment env) {
-        return DXJSON.safeTreeToValue(
-                new DXHTTPRequest(env).request("/system/findProjectMembers", mapper.valueToTree(inputObject), RetryStrategy.SAFE_TO_RETRY),
-                outputClass);
+        return new DXHTTPRequest(env).request("/system/findProjectMembers", inputObject, outputClass, RetryStrategy.SAFE_TO_RETRY);
+    }
+
+    /**
+     * Invokes the systemFindProjectMembers method with an empty input without blocking, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Search#API-method:-/system/findProjectMembers">API specification</a>.
+     *
+     * @param outputClass class to deserialize the server reponse to
+     *
+     * @return future that completes with the server response parsed from JSON; the future fails
+     *         with {@link DXAPIException} or {@link DXHTTPException} if the request fails
+     */
+    public static <T> ListenableFuture<T> systemFindProjectMembersAsync(Class<T> outputClass) {
+        return systemFindProjectMembersAsync(mapper.createObjectNode(), outputClass);
+    }
+    /**
+     * Invokes the systemFindProjectMembers method with an empty input using the specified environment without blocking, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Search#API-method:-/system/findProjectMembers">API specification</a>.
+     *
+     * @param outputClass class to deserialize the server reponse to
+     * @param env environment object specifying the auth token and remote server and protocol
+     *
+     * @return future that completes with the server response parsed from JSON; the future fails
+     *         with {@link DXAPIException} or {@link DXHTTPException} if the request fails
+     */
+    public static <T> ListenableFuture<T> systemFindProjectMembersAsync(Class<T> outputClass, DXEnvironment env) {
+        return systemFindProjectMembersAsync(mapper.createObjectNode(), outputClass, env);
+    }
+    /**
+     * Invokes the systemFindProjectMembers method with the specified input without blocking, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Search#API-method:-/system/findProjectMembers">API specification</a>.
+     *
+     * @param inputObject input object (to be JSON serialized to an input hash)
+     * @param outputClass class to deserialize the server reponse to
+     *
+     * @return future that completes with the server response parsed from JSON; the future fails
+     *         with {@link DXAPIException} or {@link DXHTTPException} if the request fails
+     */
+    public static <T> ListenableFuture<T> systemFindProjectMembersAsync(Object inputObject, Class<T> outputClass) {
+        return new DXHTTPRequest().requestAsync("/system/findProjectMembers", inputObject, outputClass, RetryStrategy.SAFE_TO_RETRY);
+    }
+    /**
+     * Invokes the systemFindProjectMembers method with the specified input using the specified environment without blocking, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Search#API-method:-/system/findProjectMembers">API specification</a>.
+     *
+     * @param inputObject input object (to be JSON serialized to an input hash)
+     * @param outputClass class to deserialize the server reponse to
+     * @param env environment object specifying the auth token and remote server and protocol
+     *
+     * @return future that completes with the server response parsed from JSON; the future fails
+     *         with {@link DXAPIException} or {@link DXHTTPException} if the request fails
+     */
+    public static <T> ListenableFuture<T> systemFindProjectMembersAsync(Object inputObject, Class<T> outputClass, DXEnvironment env) {
+        return new DXHTTPRequest(env).requestAsync("/system/findProjectMembers", inputObject, outputClass, RetryStrategy.SAFE_TO_RETRY);
     }
 
     /**
@@ -24983,9 +33133,7 @@ public final class DXAPI {
      *             the response (includes HTTP protocol errors).
      */
     public static <T> T systemFindOrgs(Object inputObject, Class<T> outputClass) {
-        return DXJSON.safeTreeToValue(
-                new DXHTTPRequest().request("/system/findOrgs", mapper.valueToTree(inputObject), RetryStrategy.SAFE_TO_RETRY),
-                outputClass);
+        return new DXHTTPRequest().request("/system/findOrgs", inputObject, outputClass, RetryStrategy.SAFE_TO_RETRY);
     }
     /**
      * Invokes the systemFindOrgs method with the specified input using the specified environment, deserializing to an object of the specified class.
@@ -25006,9 +33154,64 @@ public final class DXAPI {
      *             the response (includes HTTP protocol errors).
      */
     public static <T> T systemFindOrgs(Object inputObject, Class<T> outputClass, DXEnvironment env) {
-        return DXJSON.safeTreeToValue(
-                new DXHTTPRequest(env).request("/system/findOrgs", mapper.valueToTree(inputObject), RetryStrategy.SAFE_TO_RETRY),
-                outputClass);
+        return new DXHTTPRequest(env).request("/system/findOrgs", inputObject, outputClass, RetryStrategy.SAFE_TO_RETRY);
+    }
+
+    /**
+     * Invokes the systemFindOrgs method with an empty input without blocking, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Search#API-method:-/system/findOrgs">API specification</a>.
+     *
+     * @param outputClass class to deserialize the server reponse to
+     *
+     * @return future that completes with the server response parsed from JSON; the future fails
+     *         with {@link DXAPIException} or {@link DXHTTPException} if the request fails
+     */
+    public static <T> ListenableFuture<T> systemFindOrgsAsync(Class<T> outputClass) {
+        return systemFindOrgsAsync(mapper.createObjectNode(), outputClass);
+    }
+    /**
+     * Invokes the systemFindOrgs method with an empty input using the specified environment without blocking, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Search#API-method:-/system/findOrgs">API specification</a>.
+     *
+     * @param outputClass class to deserialize the server reponse to
+     * @param env environment object specifying the auth token and remote server and protocol
+     *
+     * @return future that completes with the server response parsed from JSON; the future fails
+     *         with {@link DXAPIException} or {@link DXHTTPException} if the request fails
+     */
+    public static <T> ListenableFuture<T> systemFindOrgsAsync(Class<T> outputClass, DXEnvironment env) {
+        return systemFindOrgsAsync(mapper.createObjectNode(), outputClass, env);
+    }
+    /**
+     * Invokes the systemFindOrgs method with the specified input without blocking, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Search#API-method:-/system/findOrgs">API specification</a>.
+     *
+     * @param inputObject input object (to be JSON serialized to an input hash)
+     * @param outputClass class to deserialize the server reponse to
+     *
+     * @return future that completes with the server response parsed from JSON; the future fails
+     *         with {@link DXAPIException} or {@link DXHTTPException} if the request fails
+     */
+    public static <T> ListenableFuture<T> systemFindOrgsAsync(Object inputObject, Class<T> outputClass) {
+        return new DXHTTPRequest().requestAsync("/system/findOrgs", inputObject, outputClass, RetryStrategy.SAFE_TO_RETRY);
+    }
+    /**
+     * Invokes the systemFindOrgs method with the specified input using the specified environment without blocking, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Search#API-method:-/system/findOrgs">API specification</a>.
+     *
+     * @param inputObject input object (to be JSON serialized to an input hash)
+     * @param outputClass class to deserialize the server reponse to
+     * @param env environment object specifying the auth token and remote server and protocol
+     *
+     * @return future that completes with the server response parsed from JSON; the future fails
+     *         with {@link DXAPIException} or {@link DXHTTPException} if the request fails
+     */
+    public static <T> ListenableFuture<T> systemFindOrgsAsync(Object inputObject, Class<T> outputClass, DXEnvironment env) {
+        return new DXHTTPRequest(env).requestAsync("/system/findOrgs", inputObject, outputClass, RetryStrategy.SAFE_TO_RETRY);
     }
 
     /**
@@ -25156,9 +33359,7 @@ public final class DXAPI {
      *             the response (includes HTTP protocol errors).
      */
     public static <T> T systemGlobalSearch(Object inputObject, Class<T> outputClass) {
-        return DXJSON.safeTreeToValue(
-                new DXHTTPRequest().request("/system/globalSearch", mapper.valueToTree(inputObject), RetryStrategy.SAFE_TO_RETRY),
-                outputClass);
+        return new DXHTTPRequest().request("/system/globalSearch", inputObject, outputClass, RetryStrategy.SAFE_TO_RETRY);
     }
     /**
      * Invokes the systemGlobalSearch method with the specified input using the specified environment, deserializing to an object of the specified class.
@@ -25179,9 +33380,64 @@ public final class DXAPI {
      *             the response (includes HTTP protocol errors).
      */
     public static <T> T systemGlobalSearch(Object inputObject, Class<T> outputClass, DXEnvironment env) {
-        return DXJSON.safeTreeToValue(
-                new DXHTTPRequest(env).request("/system/globalSearch", mapper.valueToTree(inputObject), RetryStrategy.SAFE_TO_RETRY),
-                outputClass);
+        return new DXHTTPRequest(env).request("/system/globalSearch", inputObject, outputClass, RetryStrategy.SAFE_TO_RETRY);
+    }
+
+    /**
+     * Invokes the systemGlobalSearch method with an empty input without blocking, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Search#API-method:-/system/globalSearch">API specification</a>.
+     *
+     * @param outputClass class to deserialize the server reponse to
+     *
+     * @return future that completes with the server response parsed from JSON; the future fails
+     *         with {@link DXAPIException} or {@link DXHTTPException} if the request fails
+     */
+    public static <T> ListenableFuture<T> systemGlobalSearchAsync(Class<T> outputClass) {
+        return systemGlobalSearchAsync(mapper.createObjectNode(), outputClass);
+    }
+    /**
+     * Invokes the systemGlobalSearch method with an empty input using the specified environment without blocking, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Search#API-method:-/system/globalSearch">API specification</a>.
+     *
+     * @param outputClass class to deserialize the server reponse to
+     * @param env environment object specifying the auth token and remote server and protocol
+     *
+     * @return future that completes with the server response parsed from JSON; the future fails
+     *         with {@link DXAPIException} or {@link DXHTTPException} if the request fails
+     */
+    public static <T> ListenableFuture<T> systemGlobalSearchAsync(Class<T> outputClass, DXEnvironment env) {
+        return systemGlobalSearchAsync(mapper.createObjectNode(), outputClass, env);
+    }
+    /**
+     * Invokes the systemGlobalSearch method with the specified input without blocking, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Search#API-method:-/system/globalSearch">API specification</a>.
+     *
+     * @param inputObject input object (to be JSON serialized to an input hash)
+     * @param outputClass class to deserialize the server reponse to
+     *
+     * @return future that completes with the server response parsed from JSON; the future fails
+     *         with {@link DXAPIException} or {@link DXHTTPException} if the request fails
+     */
+    public static <T> ListenableFuture<T> systemGlobalSearchAsync(Object inputObject, Class<T> outputClass) {
+        return new DXHTTPRequest().requestAsync("/system/globalSearch", inputObject, outputClass, RetryStrategy.SAFE_TO_RETRY);
+    }
+    /**
+     * Invokes the systemGlobalSearch method with the specified input using the specified environment without blocking, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Search#API-method:-/system/globalSearch">API specification</a>.
+     *
+     * @param inputObject input object (to be JSON serialized to an input hash)
+     * @param outputClass class to deserialize the server reponse to
+     * @param env environment object specifying the auth token and remote server and protocol
+     *
+     * @return future that completes with the server response parsed from JSON; the future fails
+     *         with {@link DXAPIException} or {@link DXHTTPException} if the request fails
+     */
+    public static <T> ListenableFuture<T> systemGlobalSearchAsync(Object inputObject, Class<T> outputClass, DXEnvironment env) {
+        return new DXHTTPRequest(env).requestAsync("/system/globalSearch", inputObject, outputClass, RetryStrategy.SAFE_TO_RETRY);
     }
 
     /**
@@ -25323,9 +33579,7 @@ public final class DXAPI {
      *             the response (includes HTTP protocol errors).
      */
     public static <T> T systemGreet(Object inputObject, Class<T> outputClass) {
-        return DXJSON.safeTreeToValue(
-                new DXHTTPRequest().request("/system/greet", mapper.valueToTree(inputObject), RetryStrategy.SAFE_TO_RETRY),
-                outputClass);
+        return new DXHTTPRequest().request("/system/greet", inputObject, outputClass, RetryStrategy.SAFE_TO_RETRY);
     }
     /**
      * Invokes the systemGreet method with the specified input using the specified environment, deserializing to an object of the specified class.
@@ -25344,9 +33598,56 @@ public final class DXAPI {
      *             the response (includes HTTP protocol errors).
      */
     public static <T> T systemGreet(Object inputObject, Class<T> outputClass, DXEnvironment env) {
-        return DXJSON.safeTreeToValue(
-                new DXHTTPRequest(env).request("/system/greet", mapper.valueToTree(inputObject), RetryStrategy.SAFE_TO_RETRY),
-                outputClass);
+        return new DXHTTPRequest(env).request("/system/greet", inputObject, outputClass, RetryStrategy.SAFE_TO_RETRY);
+    }
+
+    /**
+     * Invokes the systemGreet method with an empty input without blocking, deserializing to an object of the specified class.
+     *
+     * @param outputClass class to deserialize the server reponse to
+     *
+     * @return future that completes with the server response parsed from JSON; the future fails
+     *         with {@link DXAPIException} or {@link DXHTTPException} if the request fails
+     */
+    public static <T> ListenableFuture<T> systemGreetAsync(Class<T> outputClass) {
+        return systemGreetAsync(mapper.createObjectNode(), outputClass);
+    }
+    /**
+     * Invokes the systemGreet method with an empty input using the specified environment without blocking, deserializing to an object of the specified class.
+     *
+     * @param outputClass class to deserialize the server reponse to
+     * @param env environment object specifying the auth token and remote server and protocol
+     *
+     * @return future that completes with the server response parsed from JSON; the future fails
+     *         with {@link DXAPIException} or {@link DXHTTPException} if the request fails
+     */
+    public static <T> ListenableFuture<T> systemGreetAsync(Class<T> outputClass, DXEnvironment env) {
+        return systemGreetAsync(mapper.createObjectNode(), outputClass, env);
+    }
+    /**
+     * Invokes the systemGreet method with the specified input without blocking, deserializing to an object of the specified class.
+     *
+     * @param inputObject input object (to be JSON serialized to an input hash)
+     * @param outputClass class to deserialize the server reponse to
+     *
+     * @return future that completes with the server response parsed from JSON; the future fails
+     *         with {@link DXAPIException} or {@link DXHTTPException} if the request fails
+     */
+    public static <T> ListenableFuture<T> systemGreetAsync(Object inputObject, Class<T> outputClass) {
+        return new DXHTTPRequest().requestAsync("/system/greet", inputObject, outputClass, RetryStrategy.SAFE_TO_RETRY);
+    }
+    /**
+     * Invokes the systemGreet method with the specified input using the specified environment without blocking, deserializing to an object of the specified class.
+     *
+     * @param inputObject input object (to be JSON serialized to an input hash)
+     * @param outputClass class to deserialize the server reponse to
+     * @param env environment object specifying the auth token and remote server and protocol
+     *
+     * @return future that completes with the server response parsed from JSON; the future fails
+     *         with {@link DXAPIException} or {@link DXHTTPException} if the request fails
+     */
+    public static <T> ListenableFuture<T> systemGreetAsync(Object inputObject, Class<T> outputClass, DXEnvironment env) {
+        return new DXHTTPRequest(env).requestAsync("/system/greet", inputObject, outputClass, RetryStrategy.SAFE_TO_RETRY);
     }
 
     /**
@@ -25480,9 +33781,7 @@ public final class DXAPI {
      *             the response (includes HTTP protocol errors).
      */
     public static <T> T systemShortenURL(Object inputObject, Class<T> outputClass) {
-        return DXJSON.safeTreeToValue(
-                new DXHTTPRequest().request("/system/shortenURL", mapper.valueToTree(inputObject), RetryStrategy.SAFE_TO_RETRY),
-                outputClass);
+        return new DXHTTPRequest().request("/system/shortenURL", inputObject, outputClass, RetryStrategy.SAFE_TO_RETRY);
     }
     /**
      * Invokes the systemShortenURL method with the specified input using the specified environment, deserializing to an object of the specified class.
@@ -25501,9 +33800,56 @@ public final class DXAPI {
      *             the response (includes HTTP protocol errors).
      */
     public static <T> T systemShortenURL(Object inputObject, Class<T> outputClass, DXEnvironment env) {
-        return DXJSON.safeTreeToValue(
-                new DXHTTPRequest(env).request("/system/shortenURL", mapper.valueToTree(inputObject), RetryStrategy.SAFE_TO_RETRY),
-                outputClass);
+        return new DXHTTPRequest(env).request("/system/shortenURL", inputObject, outputClass, RetryStrategy.SAFE_TO_RETRY);
+    }
+
+    /**
+     * Invokes the systemShortenURL method with an empty input without blocking, deserializing to an object of the specified class.
+     *
+     * @param outputClass class to deserialize the server reponse to
+     *
+     * @return future that completes with the server response parsed from JSON; the future fails
+     *         with {@link DXAPIException} or {@link DXHTTPException} if the request fails
+     */
+    public static <T> ListenableFuture<T> systemShortenURLAsync(Class<T> outputClass) {
+        return systemShortenURLAsync(mapper.createObjectNode(), outputClass);
+    }
+    /**
+     * Invokes the systemShortenURL method with an empty input using the specified environment without blocking, deserializing to an object of the specified class.
+     *
+     * @param outputClass class to deserialize the server reponse to
+     * @param env environment object specifying the auth token and remote server and protocol
+     *
+     * @return future that completes with the server response parsed from JSON; the future fails
+     *         with {@link DXAPIException} or {@link DXHTTPException} if the request fails
+     */
+    public static <T> ListenableFuture<T> systemShortenURLAsync(Class<T> outputClass, DXEnvironment env) {
+        return systemShortenURLAsync(mapper.createObjectNode(), outputClass, env);
+    }
+    /**
+     * Invokes the systemShortenURL method with the specified input without blocking, deserializing to an object of the specified class.
+     *
+     * @param inputObject input object (to be JSON serialized to an input hash)
+     * @param outputClass class to deserialize the server reponse to
+     *
+     * @return future that completes with the server response parsed from JSON; the future fails
+     *         with {@link DXAPIException} or {@link DXHTTPException} if the request fails
+     */
+    public static <T> ListenableFuture<T> systemShortenURLAsync(Object inputObject, Class<T> outputClass) {
+        return new DXHTTPRequest().requestAsync("/system/shortenURL", inputObject, outputClass, RetryStrategy.SAFE_TO_RETRY);
+    }
+    /**
+     * Invokes the systemShortenURL method with the specified input using the specified environment without blocking, deserializing to an object of the specified class.
+     *
+     * @param inputObject input object (to be JSON serialized to an input hash)
+     * @param outputClass class to deserialize the server reponse to
+     * @param env environment object specifying the auth token and remote server and protocol
+     *
+     * @return future that completes with the server response parsed from JSON; the future fails
+     *         with {@link DXAPIException} or {@link DXHTTPException} if the request fails
+     */
+    public static <T> ListenableFuture<T> systemShortenURLAsync(Object inputObject, Class<T> outputClass, DXEnvironment env) {
+        return new DXHTTPRequest(env).requestAsync("/system/shortenURL", inputObject, outputClass, RetryStrategy.SAFE_TO_RETRY);
     }
 
     /**
@@ -25637,9 +33983,7 @@ public final class DXAPI {
      *             the response (includes HTTP protocol errors).
      */
     public static <T> T systemWhoami(Object inputObject, Class<T> outputClass) {
-        return DXJSON.safeTreeToValue(
-                new DXHTTPRequest().request("/system/whoami", mapper.valueToTree(inputObject), RetryStrategy.SAFE_TO_RETRY),
-                outputClass);
+        return new DXHTTPRequest().request("/system/whoami", inputObject, outputClass, RetryStrategy.SAFE_TO_RETRY);
     }
     /**
      * Invokes the systemWhoami method with the specified input using the specified environment, deserializing to an object of the specified class.
@@ -25658,9 +34002,56 @@ public final class DXAPI {
      *             the response (includes HTTP protocol errors).
      */
     public static <T> T systemWhoami(Object inputObject, Class<T> outputClass, DXEnvironment env) {
-        return DXJSON.safeTreeToValue(
-                new DXHTTPRequest(env).request("/system/whoami", mapper.valueToTree(inputObject), RetryStrategy.SAFE_TO_RETRY),
-                outputClass);
+        return new DXHTTPRequest(env).request("/system/whoami", inputObject, outputClass, RetryStrategy.SAFE_TO_RETRY);
+    }
+
+    /**
+     * Invokes the systemWhoami method with an empty input without blocking, deserializing to an object of the specified class.
+     *
+     * @param outputClass class to deserialize the server reponse to
+     *
+     * @return future that completes with the server response parsed from JSON; the future fails
+     *         with {@link DXAPIException} or {@link DXHTTPException} if the request fails
+     */
+    public static <T> ListenableFuture<T> systemWhoamiAsync(Class<T> outputClass) {
+        return systemWhoamiAsync(mapper.createObjectNode(), outputClass);
+    }
+    /**
+     * Invokes the systemWhoami method with an empty input using the specified environment without blocking, deserializing to an object of the specified class.
+     *
+     * @param outputClass class to deserialize the server reponse to
+     * @param env environment object specifying the auth token and remote server and protocol
+     *
+     * @return future that completes with the server response parsed from JSON; the future fails
+     *         with {@link DXAPIException} or {@link DXHTTPException} if the request fails
+     */
+    public static <T> ListenableFuture<T> systemWhoamiAsync(Class<T> outputClass, DXEnvironment env) {
+        return systemWhoamiAsync(mapper.createObjectNode(), outputClass, env);
+    }
+    /**
+     * Invokes the systemWhoami method with the specified input without blocking, deserializing to an object of the specified class.
+     *
+     * @param inputObject input object (to be JSON serialized to an input hash)
+     * @param outputClass class to deserialize the server reponse to
+     *
+     * @return future that completes with the server response parsed from JSON; the future fails
+     *         with {@link DXAPIException} or {@link DXHTTPException} if the request fails
+     */
+    public static <T> ListenableFuture<T> systemWhoamiAsync(Object inputObject, Class<T> outputClass) {
+        return new DXHTTPRequest().requestAsync("/system/whoami", inputObject, outputClass, RetryStrategy.SAFE_TO_RETRY);
+    }
+    /**
+     * Invokes the systemWhoami method with the specified input using the specified environment without blocking, deserializing to an object of the specified class.
+     *
+     * @param inputObject input object (to be JSON serialized to an input hash)
+     * @param outputClass class to deserialize the server reponse to
+     * @param env environment object specifying the auth token and remote server and protocol
+     *
+     * @return future that completes with the server response parsed from JSON; the future fails
+     *         with {@link DXAPIException} or {@link DXHTTPException} if the request fails
+     */
+    public static <T> ListenableFuture<T> systemWhoamiAsync(Object inputObject, Class<T> outputClass, DXEnvironment env) {
+        return new DXHTTPRequest(env).requestAsync("/system/whoami", inputObject, outputClass, RetryStrategy.SAFE_TO_RETRY);
     }
 
     /**
@@ -25782,9 +34173,8 @@ public final class DXAPI {
      *             the response (includes HTTP protocol errors).
      */
     public static <T> T userDescribe(String objectId, Object inputObject, Class<T> outputClass) {
-        return DXJSON.safeTreeToValue(
-                new DXHTTPRequest().request("/" + objectId + "/" + "describe",
-                        mapper.valueToTree(inputObject), RetryStrategy.SAFE_TO_RETRY), outputClass);
+        return new DXHTTPRequest().request("/" + objectId + "/" + "describe",
+                inputObject, outputClass, RetryStrategy.SAFE_TO_RETRY);
     }
     /**
      * Invokes the userDescribe method with an empty input using the given environment, deserializing to an object of the specified class.
@@ -25827,9 +34217,71 @@ public final class DXAPI {
      *             the response (includes HTTP protocol errors).
      */
     public static <T> T userDescribe(String objectId, Object inputObject, Class<T> outputClass, DXEnvironment env) {
-        return DXJSON.safeTreeToValue(
-            new DXHTTPRequest(env).request("/" + objectId + "/" + "describe",
-                    mapper.valueToTree(inputObject), RetryStrategy.SAFE_TO_RETRY), outputClass);
+        return new DXHTTPRequest(env).request("/" + objectId + "/" + "describe",
+                inputObject, outputClass, RetryStrategy.SAFE_TO_RETRY);
+    }
+
+    /**
+     * Invokes the userDescribe method with an empty input without blocking, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Users#API-method%3A-%2Fuser-xxxx%2Fdescribe">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param outputClass class to deserialize the server reponse to
+     *
+     * @return future that completes with the response object; the future fails with
+     *         {@link DXAPIException} or {@link DXHTTPException} if the request fails
+     */
+    public static <T> ListenableFuture<T> userDescribeAsync(String objectId, Class<T> outputClass) {
+        return userDescribeAsync(objectId, mapper.createObjectNode(), outputClass);
+    }
+    /**
+     * Invokes the userDescribe method with the given input without blocking, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Users#API-method%3A-%2Fuser-xxxx%2Fdescribe">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param inputObject input object (to be JSON serialized to an input hash)
+     * @param outputClass class to deserialize the server reponse to
+     *
+     * @return future that completes with the response object; the future fails with
+     *         {@link DXAPIException} or {@link DXHTTPException} if the request fails
+     */
+    public static <T> ListenableFuture<T> userDescribeAsync(String objectId, Object inputObject, Class<T> outputClass) {
+        return new DXHTTPRequest().requestAsync("/" + objectId + "/" + "describe",
+                inputObject, outputClass, RetryStrategy.SAFE_TO_RETRY);
+    }
+    /**
+     * Invokes the userDescribe method with an empty input using the given environment without blocking, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Users#API-method%3A-%2Fuser-xxxx%2Fdescribe">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param outputClass class to deserialize the server reponse to
+     * @param env environment object specifying the auth token and remote server and protocol
+     *
+     * @return future that completes with the response object; the future fails with
+     *         {@link DXAPIException} or {@link DXHTTPException} if the request fails
+     */
+    public static <T> ListenableFuture<T> userDescribeAsync(String objectId, Class<T> outputClass, DXEnvironment env) {
+        return userDescribeAsync(objectId, mapper.createObjectNode(), outputClass, env);
+    }
+    /**
+     * Invokes the userDescribe method with the given input using the given environment without blocking, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Users#API-method%3A-%2Fuser-xxxx%2Fdescribe">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param inputObject input object (to be JSON serialized to an input hash)
+     * @param outputClass class to deserialize the server reponse to
+     * @param env environment object specifying the auth token and remote server and protocol
+     *
+     * @return future that completes with the response object; the future fails with
+     *         {@link DXAPIException} or {@link DXHTTPException} if the request fails
+     */
+    public static <T> ListenableFuture<T> userDescribeAsync(String objectId, Object inputObject, Class<T> outputClass, DXEnvironment env) {
+        return new DXHTTPRequest(env).requestAsync("/" + objectId + "/" + "describe",
+                inputObject, outputClass, RetryStrategy.SAFE_TO_RETRY);
     }
 
     /**
@@ -25966,9 +34418,8 @@ public final class DXAPI {
      *             the response (includes HTTP protocol errors).
      */
     public static <T> T userUpdate(String objectId, Object inputObject, Class<T> outputClass) {
-        return DXJSON.safeTreeToValue(
-                new DXHTTPRequest().request("/" + objectId + "/" + "update",
-                        mapper.valueToTree(inputObject), RetryStrategy.UNSAFE_TO_RETRY), outputClass);
+        return new DXHTTPRequest().request("/" + objectId + "/" + "update",
+                inputObject, outputClass, RetryStrategy.UNSAFE_TO_RETRY);
     }
     /**
      * Invokes the userUpdate method with an empty input using the given environment, deserializing to an object of the specified class.
@@ -26011,9 +34462,71 @@ public final class DXAPI {
      *             the response (includes HTTP protocol errors).
      */
     public static <T> T userUpdate(String objectId, Object inputObject, Class<T> outputClass, DXEnvironment env) {
-        return DXJSON.safeTreeToValue(
-            new DXHTTPRequest(env).request("/" + objectId + "/" + "update",
-                    mapper.valueToTree(inputObject), RetryStrategy.UNSAFE_TO_RETRY), outputClass);
+        return new DXHTTPRequest(env).request("/" + objectId + "/" + "update",
+                inputObject, outputClass, RetryStrategy.UNSAFE_TO_RETRY);
+    }
+
+    /**
+     * Invokes the userUpdate method with an empty input without blocking, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Users#API-method%3A-%2Fuser-xxxx%2Fupdate">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param outputClass class to deserialize the server reponse to
+     *
+     * @return future that completes with the response object; the future fails with
+     *         {@link DXAPIException} or {@link DXHTTPException} if the request fails
+     */
+    public static <T> ListenableFuture<T> userUpdateAsync(String objectId, Class<T> outputClass) {
+        return userUpdateAsync(objectId, mapper.createObjectNode(), outputClass);
+    }
+    /**
+     * Invokes the userUpdate method with the given input without blocking, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Users#API-method%3A-%2Fuser-xxxx%2Fupdate">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param inputObject input object (to be JSON serialized to an input hash)
+     * @param outputClass class to deserialize the server reponse to
+     *
+     * @return future that completes with the response object; the future fails with
+     *         {@link DXAPIException} or {@link DXHTTPException} if the request fails
+     */
+    public static <T> ListenableFuture<T> userUpdateAsync(String objectId, Object inputObject, Class<T> outputClass) {
+        return new DXHTTPRequest().requestAsync("/" + objectId + "/" + "update",
+                inputObject, outputClass, RetryStrategy.UNSAFE_TO_RETRY);
+    }
+    /**
+     * Invokes the userUpdate method with an empty input using the given environment without blocking, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Users#API-method%3A-%2Fuser-xxxx%2Fupdate">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param outputClass class to deserialize the server reponse to
+     * @param env environment object specifying the auth token and remote server and protocol
+     *
+     * @return future that completes with the response object; the future fails with
+     *         {@link DXAPIException} or {@link DXHTTPException} if the request fails
+     */
+    public static <T> ListenableFuture<T> userUpdateAsync(String objectId, Class<T> outputClass, DXEnvironment env) {
+        return userUpdateAsync(objectId, mapper.createObjectNode(), outputClass, env);
+    }
+    /**
+     * Invokes the userUpdate method with the given input using the given environment without blocking, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Users#API-method%3A-%2Fuser-xxxx%2Fupdate">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param inputObject input object (to be JSON serialized to an input hash)
+     * @param outputClass class to deserialize the server reponse to
+     * @param env environment object specifying the auth token and remote server and protocol
+     *
+     * @return future that completes with the response object; the future fails with
+     *         {@link DXAPIException} or {@link DXHTTPException} if the request fails
+     */
+    public static <T> ListenableFuture<T> userUpdateAsync(String objectId, Object inputObject, Class<T> outputClass, DXEnvironment env) {
+        return new DXHTTPRequest(env).requestAsync("/" + objectId + "/" + "update",
+                inputObject, outputClass, RetryStrategy.UNSAFE_TO_RETRY);
     }
 
     /**
@@ -26150,9 +34663,8 @@ public final class DXAPI {
      *             the response (includes HTTP protocol errors).
      */
     public static <T> T workflowAddStage(String objectId, Object inputObject, Class<T> outputClass) {
-        return DXJSON.safeTreeToValue(
-                new DXHTTPRequest().request("/" + objectId + "/" + "addStage",
-                        mapper.valueToTree(inputObject), RetryStrategy.SAFE_TO_RETRY), outputClass);
+        return new DXHTTPRequest().request("/" + objectId + "/" + "addStage",
+                inputObject, outputClass, RetryStrategy.SAFE_TO_RETRY);
     }
     /**
      * Invokes the workflowAddStage method with an empty input using the given environment, deserializing to an object of the specified class.
@@ -26195,9 +34707,71 @@ public final class DXAPI {
      *             the response (includes HTTP protocol errors).
      */
     public static <T> T workflowAddStage(String objectId, Object inputObject, Class<T> outputClass, DXEnvironment env) {
-        return DXJSON.safeTreeToValue(
-            new DXHTTPRequest(env).request("/" + objectId + "/" + "addStage",
-                    mapper.valueToTree(inputObject), RetryStrategy.SAFE_TO_RETRY), outputClass);
+        return new DXHTTPRequest(env).request("/" + objectId + "/" + "addStage",
+                inputObject, outputClass, RetryStrategy.SAFE_TO_RETRY);
+    }
+
+    /**
+     * Invokes the workflowAddStage method with an empty input without blocking, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Workflows-and-Analyses#API-method%3A-%2Fworkflow-xxxx%2FaddStage">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param outputClass class to deserialize the server reponse to
+     *
+     * @return future that completes with the response object; the future fails with
+     *         {@link DXAPIException} or {@link DXHTTPException} if the request fails
+     */
+    public static <T> ListenableFuture<T> workflowAddStageAsync(String objectId, Class<T> outputClass) {
+        return workflowAddStageAsync(objectId, mapper.createObjectNode(), outputClass);
+    }
+    /**
+     * Invokes the workflowAddStage method with the given input without blocking, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Workflows-and-Analyses#API-method%3A-%2Fworkflow-xxxx%2FaddStage">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param inputObject input object (to be JSON serialized to an input hash)
+     * @param outputClass class to deserialize the server reponse to
+     *
+     * @return future that completes with the response object; the future fails with
+     *         {@link DXAPIException} or {@link DXHTTPException} if the request fails
+     */
+    public static <T> ListenableFuture<T> workflowAddStageAsync(String objectId, Object inputObject, Class<T> outputClass) {
+        return new DXHTTPRequest().requestAsync("/" + objectId + "/" + "addStage",
+                inputObject, outputClass, RetryStrategy.SAFE_TO_RETRY);
+    }
+    /**
+     * Invokes the workflowAddStage method with an empty input using the given environment without blocking, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Workflows-and-Analyses#API-method%3A-%2Fworkflow-xxxx%2FaddStage">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param outputClass class to deserialize the server reponse to
+     * @param env environment object specifying the auth token and remote server and protocol
+     *
+     * @return future that completes with the response object; the future fails with
+     *         {@link DXAPIException} or {@link DXHTTPException} if the request fails
+     */
+    public static <T> ListenableFuture<T> workflowAddStageAsync(String objectId, Class<T> outputClass, DXEnvironment env) {
+        return workflowAddStageAsync(objectId, mapper.createObjectNode(), outputClass, env);
+    }
+    /**
+     * Invokes the workflowAddStage method with the given input using the given environment without blocking, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Workflows-and-Analyses#API-method%3A-%2Fworkflow-xxxx%2FaddStage">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param inputObject input object (to be JSON serialized to an input hash)
+     * @param outputClass class to deserialize the server reponse to
+     * @param env environment object specifying the auth token and remote server and protocol
+     *
+     * @return future that completes with the response object; the future fails with
+     *         {@link DXAPIException} or {@link DXHTTPException} if the request fails
+     */
+    public static <T> ListenableFuture<T> workflowAddStageAsync(String objectId, Object inputObject, Class<T> outputClass, DXEnvironment env) {
+        return new DXHTTPRequest(env).requestAsync("/" + objectId + "/" + "addStage",
+                inputObject, outputClass, RetryStrategy.SAFE_TO_RETRY);
     }
 
     /**
@@ -26334,9 +34908,8 @@ public final class DXAPI {
      *             the response (includes HTTP protocol errors).
      */
     public static <T> T workflowAddTags(String objectId, Object inputObject, Class<T> outputClass) {
-        return DXJSON.safeTreeToValue(
-                new DXHTTPRequest().request("/" + objectId + "/" + "addTags",
-                        mapper.valueToTree(inputObject), RetryStrategy.SAFE_TO_RETRY), outputClass);
+        return new DXHTTPRequest().request("/" + objectId + "/" + "addTags",
+                inputObject, outputClass, RetryStrategy.SAFE_TO_RETRY);
     }
     /**
      * Invokes the workflowAddTags method with an empty input using the given environment, deserializing to an object of the specified class.
@@ -26379,9 +34952,71 @@ public final class DXAPI {
      *             the response (includes HTTP protocol errors).
      */
     public static <T> T workflowAddTags(String objectId, Object inputObject, Class<T> outputClass, DXEnvironment env) {
-        return DXJSON.safeTreeToValue(
-            new DXHTTPRequest(env).request("/" + objectId + "/" + "addTags",
-                    mapper.valueToTree(inputObject), RetryStrategy.SAFE_TO_RETRY), outputClass);
+        return new DXHTTPRequest(env).request("/" + objectId + "/" + "addTags",
+                inputObject, outputClass, RetryStrategy.SAFE_TO_RETRY);
+    }
+
+    /**
+     * Invokes the workflowAddTags method with an empty input without blocking, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Tags#API-method%3A-%2Fclass-xxxx%2FaddTags">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param outputClass class to deserialize the server reponse to
+     *
+     * @return future that completes with the response object; the future fails with
+     *         {@link DXAPIException} or {@link DXHTTPException} if the request fails
+     */
+    public static <T> ListenableFuture<T> workflowAddTagsAsync(String objectId, Class<T> outputClass) {
+        return workflowAddTagsAsync(objectId, mapper.createObjectNode(), outputClass);
+    }
+    /**
+     * Invokes the workflowAddTags method with the given input without blocking, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Tags#API-method%3A-%2Fclass-xxxx%2FaddTags">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param inputObject input object (to be JSON serialized to an input hash)
+     * @param outputClass class to deserialize the server reponse to
+     *
+     * @return future that completes with the response object; the future fails with
+     *         {@link DXAPIException} or {@link DXHTTPException} if the request fails
+     */
+    public static <T> ListenableFuture<T> workflowAddTagsAsync(String objectId, Object inputObject, Class<T> outputClass) {
+        return new DXHTTPRequest().requestAsync("/" + objectId + "/" + "addTags",
+                inputObject, outputClass, RetryStrategy.SAFE_TO_RETRY);
+    }
+    /**
+     * Invokes the workflowAddTags method with an empty input using the given environment without blocking, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Tags#API-method%3A-%2Fclass-xxxx%2FaddTags">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param outputClass class to deserialize the server reponse to
+     * @param env environment object specifying the auth token and remote server and protocol
+     *
+     * @return future that completes with the response object; the future fails with
+     *         {@link DXAPIException} or {@link DXHTTPException} if the request fails
+     */
+    public static <T> ListenableFuture<T> workflowAddTagsAsync(String objectId, Class<T> outputClass, DXEnvironment env) {
+        return workflowAddTagsAsync(objectId, mapper.createObjectNode(), outputClass, env);
+    }
+    /**
+     * Invokes the workflowAddTags method with the given input using the given environment without blocking, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Tags#API-method%3A-%2Fclass-xxxx%2FaddTags">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param inputObject input object (to be JSON serialized to an input hash)
+     * @param outputClass class to deserialize the server reponse to
+     * @param env environment object specifying the auth token and remote server and protocol
+     *
+     * @return future that completes with the response object; the future fails with
+     *         {@link DXAPIException} or {@link DXHTTPException} if the request fails
+     */
+    public static <T> ListenableFuture<T> workflowAddTagsAsync(String objectId, Object inputObject, Class<T> outputClass, DXEnvironment env) {
+        return new DXHTTPRequest(env).requestAsync("/" + objectId + "/" + "addTags",
+                inputObject, outputClass, RetryStrategy.SAFE_TO_RETRY);
     }
 
     /**
@@ -26518,9 +35153,8 @@ public final class DXAPI {
      *             the response (includes HTTP protocol errors).
      */
     public static <T> T workflowAddTypes(String objectId, Object inputObject, Class<T> outputClass) {
-        return DXJSON.safeTreeToValue(
-                new DXHTTPRequest().request("/" + objectId + "/" + "addTypes",
-                        mapper.valueToTree(inputObject), RetryStrategy.SAFE_TO_RETRY), outputClass);
+        return new DXHTTPRequest().request("/" + objectId + "/" + "addTypes",
+                inputObject, outputClass, RetryStrategy.SAFE_TO_RETRY);
     }
     /**
      * Invokes the workflowAddTypes method with an empty input using the given environment, deserializing to an object of the specified class.
@@ -26563,9 +35197,71 @@ public final class DXAPI {
      *             the response (includes HTTP protocol errors).
      */
     public static <T> T workflowAddTypes(String objectId, Object inputObject, Class<T> outputClass, DXEnvironment env) {
-        return DXJSON.safeTreeToValue(
-            new DXHTTPRequest(env).request("/" + objectId + "/" + "addTypes",
-                    mapper.valueToTree(inputObject), RetryStrategy.SAFE_TO_RETRY), outputClass);
+        return new DXHTTPRequest(env).request("/" + objectId + "/" + "addTypes",
+                inputObject, outputClass, RetryStrategy.SAFE_TO_RETRY);
+    }
+
+    /**
+     * Invokes the workflowAddTypes method with an empty input without blocking, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Types#API-method%3A-%2Fclass-xxxx%2FaddTypes">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param outputClass class to deserialize the server reponse to
+     *
+     * @return future that completes with the response object; the future fails with
+     *         {@link DXAPIException} or {@link DXHTTPException} if the request fails
+     */
+    public static <T> ListenableFuture<T> workflowAddTypesAsync(String objectId, Class<T> outputClass) {
+        return workflowAddTypesAsync(objectId, mapper.createObjectNode(), outputClass);
+    }
+    /**
+     * Invokes the workflowAddTypes method with the given input without blocking, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Types#API-method%3A-%2Fclass-xxxx%2FaddTypes">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param inputObject input object (to be JSON serialized to an input hash)
+     * @param outputClass class to deserialize the server reponse to
+     *
+     * @return future that completes with the response object; the future fails with
+     *         {@link DXAPIException} or {@link DXHTTPException} if the request fails
+     */
+    public static <T> ListenableFuture<T> workflowAddTypesAsync(String objectId, Object inputObject, Class<T> outputClass) {
+        return new DXHTTPRequest().requestAsync("/" + objectId + "/" + "addTypes",
+                inputObject, outputClass, RetryStrategy.SAFE_TO_RETRY);
+    }
+    /**
+     * Invokes the workflowAddTypes method with an empty input using the given environment without blocking, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Types#API-method%3A-%2Fclass-xxxx%2FaddTypes">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param outputClass class to deserialize the server reponse to
+     * @param env environment object specifying the auth token and remote server and protocol
+     *
+     * @return future that completes with the response object; the future fails with
+     *         {@link DXAPIException} or {@link DXHTTPException} if the request fails
+     */
+    public static <T> ListenableFuture<T> workflowAddTypesAsync(String objectId, Class<T> outputClass, DXEnvironment env) {
+        return workflowAddTypesAsync(objectId, mapper.createObjectNode(), outputClass, env);
+    }
+    /**
+     * Invokes the workflowAddTypes method with the given input using the given environment without blocking, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Types#API-method%3A-%2Fclass-xxxx%2FaddTypes">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param inputObject input object (to be JSON serialized to an input hash)
+     * @param outputClass class to deserialize the server reponse to
+     * @param env environment object specifying the auth token and remote server and protocol
+     *
+     * @return future that completes with the response object; the future fails with
+     *         {@link DXAPIException} or {@link DXHTTPException} if the request fails
+     */
+    public static <T> ListenableFuture<T> workflowAddTypesAsync(String objectId, Object inputObject, Class<T> outputClass, DXEnvironment env) {
+        return new DXHTTPRequest(env).requestAsync("/" + objectId + "/" + "addTypes",
+                inputObject, outputClass, RetryStrategy.SAFE_TO_RETRY);
     }
 
     /**
@@ -26702,9 +35398,8 @@ public final class DXAPI {
      *             the response (includes HTTP protocol errors).
      */
     public static <T> T workflowClose(String objectId, Object inputObject, Class<T> outputClass) {
-        return DXJSON.safeTreeToValue(
-                new DXHTTPRequest().request("/" + objectId + "/" + "close",
-                        mapper.valueToTree(inputObject), RetryStrategy.SAFE_TO_RETRY), outputClass);
+        return new DXHTTPRequest().request("/" + objectId + "/" + "close",
+                inputObject, outputClass, RetryStrategy.SAFE_TO_RETRY);
     }
     /**
      * Invokes the workflowClose method with an empty input using the given environment, deserializing to an object of the specified class.
@@ -26747,9 +35442,71 @@ public final class DXAPI {
      *             the response (includes HTTP protocol errors).
      */
     public static <T> T workflowClose(String objectId, Object inputObject, Class<T> outputClass, DXEnvironment env) {
-        return DXJSON.safeTreeToValue(
-            new DXHTTPRequest(env).request("/" + objectId + "/" + "close",
-                    mapper.valueToTree(inputObject), RetryStrategy.SAFE_TO_RETRY), outputClass);
+        return new DXHTTPRequest(env).request("/" + objectId + "/" + "close",
+                inputObject, outputClass, RetryStrategy.SAFE_TO_RETRY);
+    }
+
+    /**
+     * Invokes the workflowClose method with an empty input without blocking, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Data-Object-Lifecycle#API-method%3A-%2Fclass-xxxx%2Fclose">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param outputClass class to deserialize the server reponse to
+     *
+     * @return future that completes with the response object; the future fails with
+     *         {@link DXAPIException} or {@link DXHTTPException} if the request fails
+     */
+    public static <T> ListenableFuture<T> workflowCloseAsync(String objectId, Class<T> outputClass) {
+        return workflowCloseAsync(objectId, mapper.createObjectNode(), outputClass);
+    }
+    /**
+     * Invokes the workflowClose method with the given input without blocking, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Data-Object-Lifecycle#API-method%3A-%2Fclass-xxxx%2Fclose">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param inputObject input object (to be JSON serialized to an input hash)
+     * @param outputClass class to deserialize the server reponse to
+     *
+     * @return future that completes with the response object; the future fails with
+     *         {@link DXAPIException} or {@link DXHTTPException} if the request fails
+     */
+    public static <T> ListenableFuture<T> workflowCloseAsync(String objectId, Object inputObject, Class<T> outputClass) {
+        return new DXHTTPRequest().requestAsync("/" + objectId + "/" + "close",
+                inputObject, outputClass, RetryStrategy.SAFE_TO_RETRY);
+    }
+    /**
+     * Invokes the workflowClose method with an empty input using the given environment without blocking, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Data-Object-Lifecycle#API-method%3A-%2Fclass-xxxx%2Fclose">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param outputClass class to deserialize the server reponse to
+     * @param env environment object specifying the auth token and remote server and protocol
+     *
+     * @return future that completes with the response object; the future fails with
+     *         {@link DXAPIException} or {@link DXHTTPException} if the request fails
+     */
+    public static <T> ListenableFuture<T> workflowCloseAsync(String objectId, Class<T> outputClass, DXEnvironment env) {
+        return workflowCloseAsync(objectId, mapper.createObjectNode(), outputClass, env);
+    }
+    /**
+     * Invokes the workflowClose method with the given input using the given environment without blocking, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Data-Object-Lifecycle#API-method%3A-%2Fclass-xxxx%2Fclose">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param inputObject input object (to be JSON serialized to an input hash)
+     * @param outputClass class to deserialize the server reponse to
+     * @param env environment object specifying the auth token and remote server and protocol
+     *
+     * @return future that completes with the response object; the future fails with
+     *         {@link DXAPIException} or {@link DXHTTPException} if the request fails
+     */
+    public static <T> ListenableFuture<T> workflowCloseAsync(String objectId, Object inputObject, Class<T> outputClass, DXEnvironment env) {
+        return new DXHTTPRequest(env).requestAsync("/" + objectId + "/" + "close",
+                inputObject, outputClass, RetryStrategy.SAFE_TO_RETRY);
     }
 
     /**
@@ -26886,9 +35643,8 @@ public final class DXAPI {
      *             the response (includes HTTP protocol errors).
      */
     public static <T> T workflowDescribe(String objectId, Object inputObject, Class<T> outputClass) {
-        return DXJSON.safeTreeToValue(
-                new DXHTTPRequest().request("/" + objectId + "/" + "describe",
-                        mapper.valueToTree(inputObject), RetryStrategy.SAFE_TO_RETRY), outputClass);
+        return new DXHTTPRequest().request("/" + objectId + "/" + "describe",
+                inputObject, outputClass, RetryStrategy.SAFE_TO_RETRY);
     }
     /**
      * Invokes the workflowDescribe method with an empty input using the given environment, deserializing to an object of the specified class.
@@ -26912,7 +35668,76 @@ public final class DXAPI {
         return workflowDescribe(objectId, mapper.createObjectNode(), outputClass, env);
     }
     /**
-     * Invokes the workflowDescribe method with the given input using the given environment, deserializing to an object of the specified class.
+     * Invokes the workflowDescribe method with the given input using the given environment, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Workflows-and-Analyses#API-method%3A-%2Fworkflow-xxxx%2Fdescribe">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param inputObject input object (to be JSON serialized to an input hash)
+     * @param outputClass class to deserialize the server reponse to
+     * @param env environment object specifying the auth token and remote server and protocol
+     *
+     * @return Response object
+     *
+     * @throws DXAPIException
+     *             If the server returns a complete response with an HTTP status
+     *             code other than 200 (OK).
+     * @throws DXHTTPException
+     *             If an error occurs while making the HTTP request or obtaining
+     *             the response (includes HTTP protocol errors).
+     */
+    public static <T> T workflowDescribe(String objectId, Object inputObject, Class<T> outputClass, DXEnvironment env) {
+        return new DXHTTPRequest(env).request("/" + objectId + "/" + "describe",
+                inputObject, outputClass, RetryStrategy.SAFE_TO_RETRY);
+    }
+
+    /**
+     * Invokes the workflowDescribe method with an empty input without blocking, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Workflows-and-Analyses#API-method%3A-%2Fworkflow-xxxx%2Fdescribe">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param outputClass class to deserialize the server reponse to
+     *
+     * @return future that completes with the response object; the future fails with
+     *         {@link DXAPIException} or {@link DXHTTPException} if the request fails
+     */
+    public static <T> ListenableFuture<T> workflowDescribeAsync(String objectId, Class<T> outputClass) {
+        return workflowDescribeAsync(objectId, mapper.createObjectNode(), outputClass);
+    }
+    /**
+     * Invokes the workflowDescribe method with the given input without blocking, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Workflows-and-Analyses#API-method%3A-%2Fworkflow-xxxx%2Fdescribe">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param inputObject input object (to be JSON serialized to an input hash)
+     * @param outputClass class to deserialize the server reponse to
+     *
+     * @return future that completes with the response object; the future fails with
+     *         {@link DXAPIException} or {@link DXHTTPException} if the request fails
+     */
+    public static <T> ListenableFuture<T> workflowDescribeAsync(String objectId, Object inputObject, Class<T> outputClass) {
+        return new DXHTTPRequest().requestAsync("/" + objectId + "/" + "describe",
+                inputObject, outputClass, RetryStrategy.SAFE_TO_RETRY);
+    }
+    /**
+     * Invokes the workflowDescribe method with an empty input using the given environment without blocking, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Workflows-and-Analyses#API-method%3A-%2Fworkflow-xxxx%2Fdescribe">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param outputClass class to deserialize the server reponse to
+     * @param env environment object specifying the auth token and remote server and protocol
+     *
+     * @return future that completes with the response object; the future fails with
+     *         {@link DXAPIException} or {@link DXHTTPException} if the request fails
+     */
+    public static <T> ListenableFuture<T> workflowDescribeAsync(String objectId, Class<T> outputClass, DXEnvironment env) {
+        return workflowDescribeAsync(objectId, mapper.createObjectNode(), outputClass, env);
+    }
+    /**
+     * Invokes the workflowDescribe method with the given input using the given environment without blocking, deserializing to an object of the specified class.
      *
      * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Workflows-and-Analyses#API-method%3A-%2Fworkflow-xxxx%2Fdescribe">API specification</a>.
      *
@@ -26921,19 +35746,12 @@ public final class DXAPI {
      * @param outputClass class to deserialize the server reponse to
      * @param env environment object specifying the auth token and remote server and protocol
      *
-     * @return Response object
-     *
-     * @throws DXAPIException
-     *             If the server returns a complete response with an HTTP status
-     *             code other than 200 (OK).
-     * @throws DXHTTPException
-     *             If an error occurs while making the HTTP request or obtaining
-     *             the response (includes HTTP protocol errors).
+     * @return future that completes with the response object; the future fails with
+     *         {@link DXAPIException} or {@link DXHTTPException} if the request fails
      */
-    public static <T> T workflowDescribe(String objectId, Object inputObject, Class<T> outputClass, DXEnvironment env) {
-        return DXJSON.safeTreeToValue(
-            new DXHTTPRequest(env).request("/" + objectId + "/" + "describe",
-                    mapper.valueToTree(inputObject), RetryStrategy.SAFE_TO_RETRY), outputClass);
+    public static <T> ListenableFuture<T> workflowDescribeAsync(String objectId, Object inputObject, Class<T> outputClass, DXEnvironment env) {
+        return new DXHTTPRequest(env).requestAsync("/" + objectId + "/" + "describe",
+                inputObject, outputClass, RetryStrategy.SAFE_TO_RETRY);
     }
 
     /**
@@ -27070,9 +35888,8 @@ public final class DXAPI {
      *             the response (includes HTTP protocol errors).
      */
     public static <T> T workflowDryRun(String objectId, Object inputObject, Class<T> outputClass) {
-        return DXJSON.safeTreeToValue(
-                new DXHTTPRequest().request("/" + objectId + "/" + "dryRun",
-                        mapper.valueToTree(inputObject), RetryStrategy.SAFE_TO_RETRY), outputClass);
+        return new DXHTTPRequest().request("/" + objectId + "/" + "dryRun",
+                inputObject, outputClass, RetryStrategy.SAFE_TO_RETRY);
     }
     /**
      * Invokes the workflowDryRun method with an empty input using the given environment, deserializing to an object of the specified class.
@@ -27115,9 +35932,71 @@ public final class DXAPI {
      *             the response (includes HTTP protocol errors).
      */
     public static <T> T workflowDryRun(String objectId, Object inputObject, Class<T> outputClass, DXEnvironment env) {
-        return DXJSON.safeTreeToValue(
-            new DXHTTPRequest(env).request("/" + objectId + "/" + "dryRun",
-                    mapper.valueToTree(inputObject), RetryStrategy.SAFE_TO_RETRY), outputClass);
+        return new DXHTTPRequest(env).request("/" + objectId + "/" + "dryRun",
+                inputObject, outputClass, RetryStrategy.SAFE_TO_RETRY);
+    }
+
+    /**
+     * Invokes the workflowDryRun method with an empty input without blocking, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Workflows-and-Analyses#API-method%3A-%2Fworkflow-xxxx%2FdryRun">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param outputClass class to deserialize the server reponse to
+     *
+     * @return future that completes with the response object; the future fails with
+     *         {@link DXAPIException} or {@link DXHTTPException} if the request fails
+     */
+    public static <T> ListenableFuture<T> workflowDryRunAsync(String objectId, Class<T> outputClass) {
+        return workflowDryRunAsync(objectId, mapper.createObjectNode(), outputClass);
+    }
+    /**
+     * Invokes the workflowDryRun method with the given input without blocking, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Workflows-and-Analyses#API-method%3A-%2Fworkflow-xxxx%2FdryRun">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param inputObject input object (to be JSON serialized to an input hash)
+     * @param outputClass class to deserialize the server reponse to
+     *
+     * @return future that completes with the response object; the future fails with
+     *         {@link DXAPIException} or {@link DXHTTPException} if the request fails
+     */
+    public static <T> ListenableFuture<T> workflowDryRunAsync(String objectId, Object inputObject, Class<T> outputClass) {
+        return new DXHTTPRequest().requestAsync("/" + objectId + "/" + "dryRun",
+                inputObject, outputClass, RetryStrategy.SAFE_TO_RETRY);
+    }
+    /**
+     * Invokes the workflowDryRun method with an empty input using the given environment without blocking, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Workflows-and-Analyses#API-method%3A-%2Fworkflow-xxxx%2FdryRun">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param outputClass class to deserialize the server reponse to
+     * @param env environment object specifying the auth token and remote server and protocol
+     *
+     * @return future that completes with the response object; the future fails with
+     *         {@link DXAPIException} or {@link DXHTTPException} if the request fails
+     */
+    public static <T> ListenableFuture<T> workflowDryRunAsync(String objectId, Class<T> outputClass, DXEnvironment env) {
+        return workflowDryRunAsync(objectId, mapper.createObjectNode(), outputClass, env);
+    }
+    /**
+     * Invokes the workflowDryRun method with the given input using the given environment without blocking, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Workflows-and-Analyses#API-method%3A-%2Fworkflow-xxxx%2FdryRun">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param inputObject input object (to be JSON serialized to an input hash)
+     * @param outputClass class to deserialize the server reponse to
+     * @param env environment object specifying the auth token and remote server and protocol
+     *
+     * @return future that completes with the response object; the future fails with
+     *         {@link DXAPIException} or {@link DXHTTPException} if the request fails
+     */
+    public static <T> ListenableFuture<T> workflowDryRunAsync(String objectId, Object inputObject, Class<T> outputClass, DXEnvironment env) {
+        return new DXHTTPRequest(env).requestAsync("/" + objectId + "/" + "dryRun",
+                inputObject, outputClass, RetryStrategy.SAFE_TO_RETRY);
     }
 
     /**
@@ -27254,9 +36133,8 @@ public final class DXAPI {
      *             the response (includes HTTP protocol errors).
      */
     public static <T> T workflowGetDetails(String objectId, Object inputObject, Class<T> outputClass) {
-        return DXJSON.safeTreeToValue(
-                new DXHTTPRequest().request("/" + objectId + "/" + "getDetails",
-                        mapper.valueToTree(inputObject), RetryStrategy.SAFE_TO_RETRY), outputClass);
+        return new DXHTTPRequest().request("/" + objectId + "/" + "getDetails",
+                inputObject, outputClass, RetryStrategy.SAFE_TO_RETRY);
     }
     /**
      * Invokes the workflowGetDetails method with an empty input using the given environment, deserializing to an object of the specified class.
@@ -27299,9 +36177,71 @@ public final class DXAPI {
      *             the response (includes HTTP protocol errors).
      */
     public static <T> T workflowGetDetails(String objectId, Object inputObject, Class<T> outputClass, DXEnvironment env) {
-        return DXJSON.safeTreeToValue(
-            new DXHTTPRequest(env).request("/" + objectId + "/" + "getDetails",
-                    mapper.valueToTree(inputObject), RetryStrategy.SAFE_TO_RETRY), outputClass);
+        return new DXHTTPRequest(env).request("/" + objectId + "/" + "getDetails",
+                inputObject, outputClass, RetryStrategy.SAFE_TO_RETRY);
+    }
+
+    /**
+     * Invokes the workflowGetDetails method with an empty input without blocking, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Details-and-Links#API-method%3A-%2Fclass-xxxx%2FgetDetails">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param outputClass class to deserialize the server reponse to
+     *
+     * @return future that completes with the response object; the future fails with
+     *         {@link DXAPIException} or {@link DXHTTPException} if the request fails
+     */
+    public static <T> ListenableFuture<T> workflowGetDetailsAsync(String objectId, Class<T> outputClass) {
+        return workflowGetDetailsAsync(objectId, mapper.createObjectNode(), outputClass);
+    }
+    /**
+     * Invokes the workflowGetDetails method with the given input without blocking, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Details-and-Links#API-method%3A-%2Fclass-xxxx%2FgetDetails">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param inputObject input object (to be JSON serialized to an input hash)
+     * @param outputClass class to deserialize the server reponse to
+     *
+     * @return future that completes with the response object; the future fails with
+     *         {@link DXAPIException} or {@link DXHTTPException} if the request fails
+     */
+    public static <T> ListenableFuture<T> workflowGetDetailsAsync(String objectId, Object inputObject, Class<T> outputClass) {
+        return new DXHTTPRequest().requestAsync("/" + objectId + "/" + "getDetails",
+                inputObject, outputClass, RetryStrategy.SAFE_TO_RETRY);
+    }
+    /**
+     * Invokes the workflowGetDetails method with an empty input using the given environment without blocking, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Details-and-Links#API-method%3A-%2Fclass-xxxx%2FgetDetails">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param outputClass class to deserialize the server reponse to
+     * @param env environment object specifying the auth token and remote server and protocol
+     *
+     * @return future that completes with the response object; the future fails with
+     *         {@link DXAPIException} or {@link DXHTTPException} if the request fails
+     */
+    public static <T> ListenableFuture<T> workflowGetDetailsAsync(String objectId, Class<T> outputClass, DXEnvironment env) {
+        return workflowGetDetailsAsync(objectId, mapper.createObjectNode(), outputClass, env);
+    }
+    /**
+     * Invokes the workflowGetDetails method with the given input using the given environment without blocking, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Details-and-Links#API-method%3A-%2Fclass-xxxx%2FgetDetails">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param inputObject input object (to be JSON serialized to an input hash)
+     * @param outputClass class to deserialize the server reponse to
+     * @param env environment object specifying the auth token and remote server and protocol
+     *
+     * @return future that completes with the response object; the future fails with
+     *         {@link DXAPIException} or {@link DXHTTPException} if the request fails
+     */
+    public static <T> ListenableFuture<T> workflowGetDetailsAsync(String objectId, Object inputObject, Class<T> outputClass, DXEnvironment env) {
+        return new DXHTTPRequest(env).requestAsync("/" + objectId + "/" + "getDetails",
+                inputObject, outputClass, RetryStrategy.SAFE_TO_RETRY);
     }
 
     /**
@@ -27438,9 +36378,8 @@ public final class DXAPI {
      *             the response (includes HTTP protocol errors).
      */
     public static <T> T workflowIsStageCompatible(String objectId, Object inputObject, Class<T> outputClass) {
-        return DXJSON.safeTreeToValue(
-                new DXHTTPRequest().request("/" + objectId + "/" + "isStageCompatible",
-                        mapper.valueToTree(inputObject), RetryStrategy.SAFE_TO_RETRY), outputClass);
+        return new DXHTTPRequest().request("/" + objectId + "/" + "isStageCompatible",
+                inputObject, outputClass, RetryStrategy.SAFE_TO_RETRY);
     }
     /**
      * Invokes the workflowIsStageCompatible method with an empty input using the given environment, deserializing to an object of the specified class.
@@ -27483,9 +36422,71 @@ public final class DXAPI {
      *             the response (includes HTTP protocol errors).
      */
     public static <T> T workflowIsStageCompatible(String objectId, Object inputObject, Class<T> outputClass, DXEnvironment env) {
-        return DXJSON.safeTreeToValue(
-            new DXHTTPRequest(env).request("/" + objectId + "/" + "isStageCompatible",
-                    mapper.valueToTree(inputObject), RetryStrategy.SAFE_TO_RETRY), outputClass);
+        return new DXHTTPRequest(env).request("/" + objectId + "/" + "isStageCompatible",
+                inputObject, outputClass, RetryStrategy.SAFE_TO_RETRY);
+    }
+
+    /**
+     * Invokes the workflowIsStageCompatible method with an empty input without blocking, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Workflows-and-Analyses#API-method%3A-%2Fworkflow-xxxx%2FisStageCompatible">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param outputClass class to deserialize the server reponse to
+     *
+     * @return future that completes with the response object; the future fails with
+     *         {@link DXAPIException} or {@link DXHTTPException} if the request fails
+     */
+    public static <T> ListenableFuture<T> workflowIsStageCompatibleAsync(String objectId, Class<T> outputClass) {
+        return workflowIsStageCompatibleAsync(objectId, mapper.createObjectNode(), outputClass);
+    }
+    /**
+     * Invokes the workflowIsStageCompatible method with the given input without blocking, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Workflows-and-Analyses#API-method%3A-%2Fworkflow-xxxx%2FisStageCompatible">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param inputObject input object (to be JSON serialized to an input hash)
+     * @param outputClass class to deserialize the server reponse to
+     *
+     * @return future that completes with the response object; the future fails with
+     *         {@link DXAPIException} or {@link DXHTTPException} if the request fails
+     */
+    public static <T> ListenableFuture<T> workflowIsStageCompatibleAsync(String objectId, Object inputObject, Class<T> outputClass) {
+        return new DXHTTPRequest().requestAsync("/" + objectId + "/" + "isStageCompatible",
+                inputObject, outputClass, RetryStrategy.SAFE_TO_RETRY);
+    }
+    /**
+     * Invokes the workflowIsStageCompatible method with an empty input using the given environment without blocking, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Workflows-and-Analyses#API-method%3A-%2Fworkflow-xxxx%2FisStageCompatible">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param outputClass class to deserialize the server reponse to
+     * @param env environment object specifying the auth token and remote server and protocol
+     *
+     * @return future that completes with the response object; the future fails with
+     *         {@link DXAPIException} or {@link DXHTTPException} if the request fails
+     */
+    public static <T> ListenableFuture<T> workflowIsStageCompatibleAsync(String objectId, Class<T> outputClass, DXEnvironment env) {
+        return workflowIsStageCompatibleAsync(objectId, mapper.createObjectNode(), outputClass, env);
+    }
+    /**
+     * Invokes the workflowIsStageCompatible method with the given input using the given environment without blocking, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Workflows-and-Analyses#API-method%3A-%2Fworkflow-xxxx%2FisStageCompatible">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param inputObject input object (to be JSON serialized to an input hash)
+     * @param outputClass class to deserialize the server reponse to
+     * @param env environment object specifying the auth token and remote server and protocol
+     *
+     * @return future that completes with the response object; the future fails with
+     *         {@link DXAPIException} or {@link DXHTTPException} if the request fails
+     */
+    public static <T> ListenableFuture<T> workflowIsStageCompatibleAsync(String objectId, Object inputObject, Class<T> outputClass, DXEnvironment env) {
+        return new DXHTTPRequest(env).requestAsync("/" + objectId + "/" + "isStageCompatible",
+                inputObject, outputClass, RetryStrategy.SAFE_TO_RETRY);
     }
 
     /**
@@ -27622,9 +36623,8 @@ public final class DXAPI {
      *             the response (includes HTTP protocol errors).
      */
     public static <T> T workflowListProjects(String objectId, Object inputObject, Class<T> outputClass) {
-        return DXJSON.safeTreeToValue(
-                new DXHTTPRequest().request("/" + objectId + "/" + "listProjects",
-                        mapper.valueToTree(inputObject), RetryStrategy.SAFE_TO_RETRY), outputClass);
+        return new DXHTTPRequest().request("/" + objectId + "/" + "listProjects",
+                inputObject, outputClass, RetryStrategy.SAFE_TO_RETRY);
     }
     /**
      * Invokes the workflowListProjects method with an empty input using the given environment, deserializing to an object of the specified class.
@@ -27667,9 +36667,71 @@ public final class DXAPI {
      *             the response (includes HTTP protocol errors).
      */
     public static <T> T workflowListProjects(String objectId, Object inputObject, Class<T> outputClass, DXEnvironment env) {
-        return DXJSON.safeTreeToValue(
-            new DXHTTPRequest(env).request("/" + objectId + "/" + "listProjects",
-                    mapper.valueToTree(inputObject), RetryStrategy.SAFE_TO_RETRY), outputClass);
+        return new DXHTTPRequest(env).request("/" + objectId + "/" + "listProjects",
+                inputObject, outputClass, RetryStrategy.SAFE_TO_RETRY);
+    }
+
+    /**
+     * Invokes the workflowListProjects method with an empty input without blocking, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Cloning#API-method%3A-%2Fclass-xxxx%2FlistProjects">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param outputClass class to deserialize the server reponse to
+     *
+     * @return future that completes with the response object; the future fails with
+     *         {@link DXAPIException} or {@link DXHTTPException} if the request fails
+     */
+    public static <T> ListenableFuture<T> workflowListProjectsAsync(String objectId, Class<T> outputClass) {
+        return workflowListProjectsAsync(objectId, mapper.createObjectNode(), outputClass);
+    }
+    /**
+     * Invokes the workflowListProjects method with the given input without blocking, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Cloning#API-method%3A-%2Fclass-xxxx%2FlistProjects">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param inputObject input object (to be JSON serialized to an input hash)
+     * @param outputClass class to deserialize the server reponse to
+     *
+     * @return future that completes with the response object; the future fails with
+     *         {@link DXAPIException} or {@link DXHTTPException} if the request fails
+     */
+    public static <T> ListenableFuture<T> workflowListProjectsAsync(String objectId, Object inputObject, Class<T> outputClass) {
+        return new DXHTTPRequest().requestAsync("/" + objectId + "/" + "listProjects",
+                inputObject, outputClass, RetryStrategy.SAFE_TO_RETRY);
+    }
+    /**
+     * Invokes the workflowListProjects method with an empty input using the given environment without blocking, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Cloning#API-method%3A-%2Fclass-xxxx%2FlistProjects">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param outputClass class to deserialize the server reponse to
+     * @param env environment object specifying the auth token and remote server and protocol
+     *
+     * @return future that completes with the response object; the future fails with
+     *         {@link DXAPIException} or {@link DXHTTPException} if the request fails
+     */
+    public static <T> ListenableFuture<T> workflowListProjectsAsync(String objectId, Class<T> outputClass, DXEnvironment env) {
+        return workflowListProjectsAsync(objectId, mapper.createObjectNode(), outputClass, env);
+    }
+    /**
+     * Invokes the workflowListProjects method with the given input using the given environment without blocking, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Cloning#API-method%3A-%2Fclass-xxxx%2FlistProjects">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param inputObject input object (to be JSON serialized to an input hash)
+     * @param outputClass class to deserialize the server reponse to
+     * @param env environment object specifying the auth token and remote server and protocol
+     *
+     * @return future that completes with the response object; the future fails with
+     *         {@link DXAPIException} or {@link DXHTTPException} if the request fails
+     */
+    public static <T> ListenableFuture<T> workflowListProjectsAsync(String objectId, Object inputObject, Class<T> outputClass, DXEnvironment env) {
+        return new DXHTTPRequest(env).requestAsync("/" + objectId + "/" + "listProjects",
+                inputObject, outputClass, RetryStrategy.SAFE_TO_RETRY);
     }
 
     /**
@@ -27806,9 +36868,8 @@ public final class DXAPI {
      *             the response (includes HTTP protocol errors).
      */
     public static <T> T workflowMoveStage(String objectId, Object inputObject, Class<T> outputClass) {
-        return DXJSON.safeTreeToValue(
-                new DXHTTPRequest().request("/" + objectId + "/" + "moveStage",
-                        mapper.valueToTree(inputObject), RetryStrategy.SAFE_TO_RETRY), outputClass);
+        return new DXHTTPRequest().request("/" + objectId + "/" + "moveStage",
+                inputObject, outputClass, RetryStrategy.SAFE_TO_RETRY);
     }
     /**
      * Invokes the workflowMoveStage method with an empty input using the given environment, deserializing to an object of the specified class.
@@ -27851,9 +36912,71 @@ public final class DXAPI {
      *             the response (includes HTTP protocol errors).
      */
     public static <T> T workflowMoveStage(String objectId, Object inputObject, Class<T> outputClass, DXEnvironment env) {
-        return DXJSON.safeTreeToValue(
-            new DXHTTPRequest(env).request("/" + objectId + "/" + "moveStage",
-                    mapper.valueToTree(inputObject), RetryStrategy.SAFE_TO_RETRY), outputClass);
+        return new DXHTTPRequest(env).request("/" + objectId + "/" + "moveStage",
+                inputObject, outputClass, RetryStrategy.SAFE_TO_RETRY);
+    }
+
+    /**
+     * Invokes the workflowMoveStage method with an empty input without blocking, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Workflows-and-Analyses#API-method%3A-%2Fworkflow-xxxx%2FmoveStage">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param outputClass class to deserialize the server reponse to
+     *
+     * @return future that completes with the response object; the future fails with
+     *         {@link DXAPIException} or {@link DXHTTPException} if the request fails
+     */
+    public static <T> ListenableFuture<T> workflowMoveStageAsync(String objectId, Class<T> outputClass) {
+        return workflowMoveStageAsync(objectId, mapper.createObjectNode(), outputClass);
+    }
+    /**
+     * Invokes the workflowMoveStage method with the given input without blocking, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Workflows-and-Analyses#API-method%3A-%2Fworkflow-xxxx%2FmoveStage">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param inputObject input object (to be JSON serialized to an input hash)
+     * @param outputClass class to deserialize the server reponse to
+     *
+     * @return future that completes with the response object; the future fails with
+     *         {@link DXAPIException} or {@link DXHTTPException} if the request fails
+     */
+    public static <T> ListenableFuture<T> workflowMoveStageAsync(String objectId, Object inputObject, Class<T> outputClass) {
+        return new DXHTTPRequest().requestAsync("/" + objectId + "/" + "moveStage",
+                inputObject, outputClass, RetryStrategy.SAFE_TO_RETRY);
+    }
+    /**
+     * Invokes the workflowMoveStage method with an empty input using the given environment without blocking, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Workflows-and-Analyses#API-method%3A-%2Fworkflow-xxxx%2FmoveStage">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param outputClass class to deserialize the server reponse to
+     * @param env environment object specifying the auth token and remote server and protocol
+     *
+     * @return future that completes with the response object; the future fails with
+     *         {@link DXAPIException} or {@link DXHTTPException} if the request fails
+     */
+    public static <T> ListenableFuture<T> workflowMoveStageAsync(String objectId, Class<T> outputClass, DXEnvironment env) {
+        return workflowMoveStageAsync(objectId, mapper.createObjectNode(), outputClass, env);
+    }
+    /**
+     * Invokes the workflowMoveStage method with the given input using the given environment without blocking, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Workflows-and-Analyses#API-method%3A-%2Fworkflow-xxxx%2FmoveStage">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param inputObject input object (to be JSON serialized to an input hash)
+     * @param outputClass class to deserialize the server reponse to
+     * @param env environment object specifying the auth token and remote server and protocol
+     *
+     * @return future that completes with the response object; the future fails with
+     *         {@link DXAPIException} or {@link DXHTTPException} if the request fails
+     */
+    public static <T> ListenableFuture<T> workflowMoveStageAsync(String objectId, Object inputObject, Class<T> outputClass, DXEnvironment env) {
+        return new DXHTTPRequest(env).requestAsync("/" + objectId + "/" + "moveStage",
+                inputObject, outputClass, RetryStrategy.SAFE_TO_RETRY);
     }
 
     /**
@@ -27990,9 +37113,8 @@ public final class DXAPI {
      *             the response (includes HTTP protocol errors).
      */
     public static <T> T workflowOverwrite(String objectId, Object inputObject, Class<T> outputClass) {
-        return DXJSON.safeTreeToValue(
-                new DXHTTPRequest().request("/" + objectId + "/" + "overwrite",
-                        mapper.valueToTree(inputObject), RetryStrategy.SAFE_TO_RETRY), outputClass);
+        return new DXHTTPRequest().request("/" + objectId + "/" + "overwrite",
+                inputObject, outputClass, RetryStrategy.SAFE_TO_RETRY);
     }
     /**
      * Invokes the workflowOverwrite method with an empty input using the given environment, deserializing to an object of the specified class.
@@ -28035,9 +37157,71 @@ public final class DXAPI {
      *             the response (includes HTTP protocol errors).
      */
     public static <T> T workflowOverwrite(String objectId, Object inputObject, Class<T> outputClass, DXEnvironment env) {
-        return DXJSON.safeTreeToValue(
-            new DXHTTPRequest(env).request("/" + objectId + "/" + "overwrite",
-                    mapper.valueToTree(inputObject), RetryStrategy.SAFE_TO_RETRY), outputClass);
+        return new DXHTTPRequest(env).request("/" + objectId + "/" + "overwrite",
+                inputObject, outputClass, RetryStrategy.SAFE_TO_RETRY);
+    }
+
+    /**
+     * Invokes the workflowOverwrite method with an empty input without blocking, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Workflows-and-Analyses#API-method%3A-%2Fworkflow-xxxx%2Foverwrite">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param outputClass class to deserialize the server reponse to
+     *
+     * @return future that completes with the response object; the future fails with
+     *         {@link DXAPIException} or {@link DXHTTPException} if the request fails
+     */
+    public static <T> ListenableFuture<T> workflowOverwriteAsync(String objectId, Class<T> outputClass) {
+        return workflowOverwriteAsync(objectId, mapper.createObjectNode(), outputClass);
+    }
+    /**
+     * Invokes the workflowOverwrite method with the given input without blocking, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Workflows-and-Analyses#API-method%3A-%2Fworkflow-xxxx%2Foverwrite">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param inputObject input object (to be JSON serialized to an input hash)
+     * @param outputClass class to deserialize the server reponse to
+     *
+     * @return future that completes with the response object; the future fails with
+     *         {@link DXAPIException} or {@link DXHTTPException} if the request fails
+     */
+    public static <T> ListenableFuture<T> workflowOverwriteAsync(String objectId, Object inputObject, Class<T> outputClass) {
+        return new DXHTTPRequest().requestAsync("/" + objectId + "/" + "overwrite",
+                inputObject, outputClass, RetryStrategy.SAFE_TO_RETRY);
+    }
+    /**
+     * Invokes the workflowOverwrite method with an empty input using the given environment without blocking, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Workflows-and-Analyses#API-method%3A-%2Fworkflow-xxxx%2Foverwrite">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param outputClass class to deserialize the server reponse to
+     * @param env environment object specifying the auth token and remote server and protocol
+     *
+     * @return future that completes with the response object; the future fails with
+     *         {@link DXAPIException} or {@link DXHTTPException} if the request fails
+     */
+    public static <T> ListenableFuture<T> workflowOverwriteAsync(String objectId, Class<T> outputClass, DXEnvironment env) {
+        return workflowOverwriteAsync(objectId, mapper.createObjectNode(), outputClass, env);
+    }
+    /**
+     * Invokes the workflowOverwrite method with the given input using the given environment without blocking, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Workflows-and-Analyses#API-method%3A-%2Fworkflow-xxxx%2Foverwrite">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param inputObject input object (to be JSON serialized to an input hash)
+     * @param outputClass class to deserialize the server reponse to
+     * @param env environment object specifying the auth token and remote server and protocol
+     *
+     * @return future that completes with the response object; the future fails with
+     *         {@link DXAPIException} or {@link DXHTTPException} if the request fails
+     */
+    public static <T> ListenableFuture<T> workflowOverwriteAsync(String objectId, Object inputObject, Class<T> outputClass, DXEnvironment env) {
+        return new DXHTTPRequest(env).requestAsync("/" + objectId + "/" + "overwrite",
+                inputObject, outputClass, RetryStrategy.SAFE_TO_RETRY);
     }
 
     /**
@@ -28174,9 +37358,8 @@ public final class DXAPI {
      *             the response (includes HTTP protocol errors).
      */
     public static <T> T workflowRemoveStage(String objectId, Object inputObject, Class<T> outputClass) {
-        return DXJSON.safeTreeToValue(
-                new DXHTTPRequest().request("/" + objectId + "/" + "removeStage",
-                        mapper.valueToTree(inputObject), RetryStrategy.SAFE_TO_RETRY), outputClass);
+        return new DXHTTPRequest().request("/" + objectId + "/" + "removeStage",
+                inputObject, outputClass, RetryStrategy.SAFE_TO_RETRY);
     }
     /**
      * Invokes the workflowRemoveStage method with an empty input using the given environment, deserializing to an object of the specified class.
@@ -28219,9 +37402,71 @@ public final class DXAPI {
      *             the response (includes HTTP protocol errors).
      */
     public static <T> T workflowRemoveStage(String objectId, Object inputObject, Class<T> outputClass, DXEnvironment env) {
-        return DXJSON.safeTreeToValue(
-            new DXHTTPRequest(env).request("/" + objectId + "/" + "removeStage",
-                    mapper.valueToTree(inputObject), RetryStrategy.SAFE_TO_RETRY), outputClass);
+        return new DXHTTPRequest(env).request("/" + objectId + "/" + "removeStage",
+                inputObject, outputClass, RetryStrategy.SAFE_TO_RETRY);
+    }
+
+    /**
+     * Invokes the workflowRemoveStage method with an empty input without blocking, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Workflows-and-Analyses#API-method%3A-%2Fworkflow-xxxx%2FremoveStage">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param outputClass class to deserialize the server reponse to
+     *
+     * @return future that completes with the response object; the future fails with
+     *         {@link DXAPIException} or {@link DXHTTPException} if the request fails
+     */
+    public static <T> ListenableFuture<T> workflowRemoveStageAsync(String objectId, Class<T> outputClass) {
+        return workflowRemoveStageAsync(objectId, mapper.createObjectNode(), outputClass);
+    }
+    /**
+     * Invokes the workflowRemoveStage method with the given input without blocking, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Workflows-and-Analyses#API-method%3A-%2Fworkflow-xxxx%2FremoveStage">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param inputObject input object (to be JSON serialized to an input hash)
+     * @param outputClass class to deserialize the server reponse to
+     *
+     * @return future that completes with the response object; the future fails with
+     *         {@link DXAPIException} or {@link DXHTTPException} if the request fails
+     */
+    public static <T> ListenableFuture<T> workflowRemoveStageAsync(String objectId, Object inputObject, Class<T> outputClass) {
+        return new DXHTTPRequest().requestAsync("/" + objectId + "/" + "removeStage",
+                inputObject, outputClass, RetryStrategy.SAFE_TO_RETRY);
+    }
+    /**
+     * Invokes the workflowRemoveStage method with an empty input using the given environment without blocking, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Workflows-and-Analyses#API-method%3A-%2Fworkflow-xxxx%2FremoveStage">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param outputClass class to deserialize the server reponse to
+     * @param env environment object specifying the auth token and remote server and protocol
+     *
+     * @return future that completes with the response object; the future fails with
+     *         {@link DXAPIException} or {@link DXHTTPException} if the request fails
+     */
+    public static <T> ListenableFuture<T> workflowRemoveStageAsync(String objectId, Class<T> outputClass, DXEnvironment env) {
+        return workflowRemoveStageAsync(objectId, mapper.createObjectNode(), outputClass, env);
+    }
+    /**
+     * Invokes the workflowRemoveStage method with the given input using the given environment without blocking, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Workflows-and-Analyses#API-method%3A-%2Fworkflow-xxxx%2FremoveStage">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param inputObject input object (to be JSON serialized to an input hash)
+     * @param outputClass class to deserialize the server reponse to
+     * @param env environment object specifying the auth token and remote server and protocol
+     *
+     * @return future that completes with the response object; the future fails with
+     *         {@link DXAPIException} or {@link DXHTTPException} if the request fails
+     */
+    public static <T> ListenableFuture<T> workflowRemoveStageAsync(String objectId, Object inputObject, Class<T> outputClass, DXEnvironment env) {
+        return new DXHTTPRequest(env).requestAsync("/" + objectId + "/" + "removeStage",
+                inputObject, outputClass, RetryStrategy.SAFE_TO_RETRY);
     }
 
     /**
@@ -28358,9 +37603,8 @@ public final class DXAPI {
      *             the response (includes HTTP protocol errors).
      */
     public static <T> T workflowRemoveTags(String objectId, Object inputObject, Class<T> outputClass) {
-        return DXJSON.safeTreeToValue(
-                new DXHTTPRequest().request("/" + objectId + "/" + "removeTags",
-                        mapper.valueToTree(inputObject), RetryStrategy.SAFE_TO_RETRY), outputClass);
+        return new DXHTTPRequest().request("/" + objectId + "/" + "removeTags",
+                inputObject, outputClass, RetryStrategy.SAFE_TO_RETRY);
     }
     /**
      * Invokes the workflowRemoveTags method with an empty input using the given environment, deserializing to an object of the specified class.
@@ -28403,9 +37647,71 @@ public final class DXAPI {
      *             the response (includes HTTP protocol errors).
      */
     public static <T> T workflowRemoveTags(String objectId, Object inputObject, Class<T> outputClass, DXEnvironment env) {
-        return DXJSON.safeTreeToValue(
-            new DXHTTPRequest(env).request("/" + objectId + "/" + "removeTags",
-                    mapper.valueToTree(inputObject), RetryStrategy.SAFE_TO_RETRY), outputClass);
+        return new DXHTTPRequest(env).request("/" + objectId + "/" + "removeTags",
+                inputObject, outputClass, RetryStrategy.SAFE_TO_RETRY);
+    }
+
+    /**
+     * Invokes the workflowRemoveTags method with an empty input without blocking, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Tags#API-method%3A-%2Fclass-xxxx%2FremoveTags">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param outputClass class to deserialize the server reponse to
+     *
+     * @return future that completes with the response object; the future fails with
+     *         {@link DXAPIException} or {@link DXHTTPException} if the request fails
+     */
+    public static <T> ListenableFuture<T> workflowRemoveTagsAsync(String objectId, Class<T> outputClass) {
+        return workflowRemoveTagsAsync(objectId, mapper.createObjectNode(), outputClass);
+    }
+    /**
+     * Invokes the workflowRemoveTags method with the given input without blocking, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Tags#API-method%3A-%2Fclass-xxxx%2FremoveTags">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param inputObject input object (to be JSON serialized to an input hash)
+     * @param outputClass class to deserialize the server reponse to
+     *
+     * @return future that completes with the response object; the future fails with
+     *         {@link DXAPIException} or {@link DXHTTPException} if the request fails
+     */
+    public static <T> ListenableFuture<T> workflowRemoveTagsAsync(String objectId, Object inputObject, Class<T> outputClass) {
+        return new DXHTTPRequest().requestAsync("/" + objectId + "/" + "removeTags",
+                inputObject, outputClass, RetryStrategy.SAFE_TO_RETRY);
+    }
+    /**
+     * Invokes the workflowRemoveTags method with an empty input using the given environment without blocking, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Tags#API-method%3A-%2Fclass-xxxx%2FremoveTags">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param outputClass class to deserialize the server reponse to
+     * @param env environment object specifying the auth token and remote server and protocol
+     *
+     * @return future that completes with the response object; the future fails with
+     *         {@link DXAPIException} or {@link DXHTTPException} if the request fails
+     */
+    public static <T> ListenableFuture<T> workflowRemoveTagsAsync(String objectId, Class<T> outputClass, DXEnvironment env) {
+        return workflowRemoveTagsAsync(objectId, mapper.createObjectNode(), outputClass, env);
+    }
+    /**
+     * Invokes the workflowRemoveTags method with the given input using the given environment without blocking, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Tags#API-method%3A-%2Fclass-xxxx%2FremoveTags">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param inputObject input object (to be JSON serialized to an input hash)
+     * @param outputClass class to deserialize the server reponse to
+     * @param env environment object specifying the auth token and remote server and protocol
+     *
+     * @return future that completes with the response object; the future fails with
+     *         {@link DXAPIException} or {@link DXHTTPException} if the request fails
+     */
+    public static <T> ListenableFuture<T> workflowRemoveTagsAsync(String objectId, Object inputObject, Class<T> outputClass, DXEnvironment env) {
+        return new DXHTTPRequest(env).requestAsync("/" + objectId + "/" + "removeTags",
+                inputObject, outputClass, RetryStrategy.SAFE_TO_RETRY);
     }
 
     /**
@@ -28542,9 +37848,8 @@ public final class DXAPI {
      *             the response (includes HTTP protocol errors).
      */
     public static <T> T workflowRemoveTypes(String objectId, Object inputObject, Class<T> outputClass) {
-        return DXJSON.safeTreeToValue(
-                new DXHTTPRequest().request("/" + objectId + "/" + "removeTypes",
-                        mapper.valueToTree(inputObject), RetryStrategy.SAFE_TO_RETRY), outputClass);
+        return new DXHTTPRequest().request("/" + objectId + "/" + "removeTypes",
+                inputObject, outputClass, RetryStrategy.SAFE_TO_RETRY);
     }
     /**
      * Invokes the workflowRemoveTypes method with an empty input using the given environment, deserializing to an object of the specified class.
@@ -28587,9 +37892,71 @@ public final class DXAPI {
      *             the response (includes HTTP protocol errors).
      */
     public static <T> T workflowRemoveTypes(String objectId, Object inputObject, Class<T> outputClass, DXEnvironment env) {
-        return DXJSON.safeTreeToValue(
-            new DXHTTPRequest(env).request("/" + objectId + "/" + "removeTypes",
-                    mapper.valueToTree(inputObject), RetryStrategy.SAFE_TO_RETRY), outputClass);
+        return new DXHTTPRequest(env).request("/" + objectId + "/" + "removeTypes",
+                inputObject, outputClass, RetryStrategy.SAFE_TO_RETRY);
+    }
+
+    /**
+     * Invokes the workflowRemoveTypes method with an empty input without blocking, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Types#API-method%3A-%2Fclass-xxxx%2FremoveTypes">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param outputClass class to deserialize the server reponse to
+     *
+     * @return future that completes with the response object; the future fails with
+     *         {@link DXAPIException} or {@link DXHTTPException} if the request fails
+     */
+    public static <T> ListenableFuture<T> workflowRemoveTypesAsync(String objectId, Class<T> outputClass) {
+        return workflowRemoveTypesAsync(objectId, mapper.createObjectNode(), outputClass);
+    }
+    /**
+     * Invokes the workflowRemoveTypes method with the given input without blocking, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Types#API-method%3A-%2Fclass-xxxx%2FremoveTypes">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param inputObject input object (to be JSON serialized to an input hash)
+     * @param outputClass class to deserialize the server reponse to
+     *
+     * @return future that completes with the response object; the future fails with
+     *         {@link DXAPIException} or {@link DXHTTPException} if the request fails
+     */
+    public static <T> ListenableFuture<T> workflowRemoveTypesAsync(String objectId, Object inputObject, Class<T> outputClass) {
+        return new DXHTTPRequest().requestAsync("/" + objectId + "/" + "removeTypes",
+                inputObject, outputClass, RetryStrategy.SAFE_TO_RETRY);
+    }
+    /**
+     * Invokes the workflowRemoveTypes method with an empty input using the given environment without blocking, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Types#API-method%3A-%2Fclass-xxxx%2FremoveTypes">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param outputClass class to deserialize the server reponse to
+     * @param env environment object specifying the auth token and remote server and protocol
+     *
+     * @return future that completes with the response object; the future fails with
+     *         {@link DXAPIException} or {@link DXHTTPException} if the request fails
+     */
+    public static <T> ListenableFuture<T> workflowRemoveTypesAsync(String objectId, Class<T> outputClass, DXEnvironment env) {
+        return workflowRemoveTypesAsync(objectId, mapper.createObjectNode(), outputClass, env);
+    }
+    /**
+     * Invokes the workflowRemoveTypes method with the given input using the given environment without blocking, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Types#API-method%3A-%2Fclass-xxxx%2FremoveTypes">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param inputObject input object (to be JSON serialized to an input hash)
+     * @param outputClass class to deserialize the server reponse to
+     * @param env environment object specifying the auth token and remote server and protocol
+     *
+     * @return future that completes with the response object; the future fails with
+     *         {@link DXAPIException} or {@link DXHTTPException} if the request fails
+     */
+    public static <T> ListenableFuture<T> workflowRemoveTypesAsync(String objectId, Object inputObject, Class<T> outputClass, DXEnvironment env) {
+        return new DXHTTPRequest(env).requestAsync("/" + objectId + "/" + "removeTypes",
+                inputObject, outputClass, RetryStrategy.SAFE_TO_RETRY);
     }
 
     /**
@@ -28726,9 +38093,8 @@ public final class DXAPI {
      *             the response (includes HTTP protocol errors).
      */
     public static <T> T workflowRename(String objectId, Object inputObject, Class<T> outputClass) {
-        return DXJSON.safeTreeToValue(
-                new DXHTTPRequest().request("/" + objectId + "/" + "rename",
-                        mapper.valueToTree(inputObject), RetryStrategy.SAFE_TO_RETRY), outputClass);
+        return new DXHTTPRequest().request("/" + objectId + "/" + "rename",
+                inputObject, outputClass, RetryStrategy.SAFE_TO_RETRY);
     }
     /**
      * Invokes the workflowRename method with an empty input using the given environment, deserializing to an object of the specified class.
@@ -28771,9 +38137,71 @@ public final class DXAPI {
      *             the response (includes HTTP protocol errors).
      */
     public static <T> T workflowRename(String objectId, Object inputObject, Class<T> outputClass, DXEnvironment env) {
-        return DXJSON.safeTreeToValue(
-            new DXHTTPRequest(env).request("/" + objectId + "/" + "rename",
-                    mapper.valueToTree(inputObject), RetryStrategy.SAFE_TO_RETRY), outputClass);
+        return new DXHTTPRequest(env).request("/" + objectId + "/" + "rename",
+                inputObject, outputClass, RetryStrategy.SAFE_TO_RETRY);
+    }
+
+    /**
+     * Invokes the workflowRename method with an empty input without blocking, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Name#API-method%3A-%2Fclass-xxxx%2Frename">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param outputClass class to deserialize the server reponse to
+     *
+     * @return future that completes with the response object; the future fails with
+     *         {@link DXAPIException} or {@link DXHTTPException} if the request fails
+     */
+    public static <T> ListenableFuture<T> workflowRenameAsync(String objectId, Class<T> outputClass) {
+        return workflowRenameAsync(objectId, mapper.createObjectNode(), outputClass);
+    }
+    /**
+     * Invokes the workflowRename method with the given input without blocking, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Name#API-method%3A-%2Fclass-xxxx%2Frename">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param inputObject input object (to be JSON serialized to an input hash)
+     * @param outputClass class to deserialize the server reponse to
+     *
+     * @return future that completes with the response object; the future fails with
+     *         {@link DXAPIException} or {@link DXHTTPException} if the request fails
+     */
+    public static <T> ListenableFuture<T> workflowRenameAsync(String objectId, Object inputObject, Class<T> outputClass) {
+        return new DXHTTPRequest().requestAsync("/" + objectId + "/" + "rename",
+                inputObject, outputClass, RetryStrategy.SAFE_TO_RETRY);
+    }
+    /**
+     * Invokes the workflowRename method with an empty input using the given environment without blocking, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Name#API-method%3A-%2Fclass-xxxx%2Frename">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param outputClass class to deserialize the server reponse to
+     * @param env environment object specifying the auth token and remote server and protocol
+     *
+     * @return future that completes with the response object; the future fails with
+     *         {@link DXAPIException} or {@link DXHTTPException} if the request fails
+     */
+    public static <T> ListenableFuture<T> workflowRenameAsync(String objectId, Class<T> outputClass, DXEnvironment env) {
+        return workflowRenameAsync(objectId, mapper.createObjectNode(), outputClass, env);
+    }
+    /**
+     * Invokes the workflowRename method with the given input using the given environment without blocking, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Name#API-method%3A-%2Fclass-xxxx%2Frename">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param inputObject input object (to be JSON serialized to an input hash)
+     * @param outputClass class to deserialize the server reponse to
+     * @param env environment object specifying the auth token and remote server and protocol
+     *
+     * @return future that completes with the response object; the future fails with
+     *         {@link DXAPIException} or {@link DXHTTPException} if the request fails
+     */
+    public static <T> ListenableFuture<T> workflowRenameAsync(String objectId, Object inputObject, Class<T> outputClass, DXEnvironment env) {
+        return new DXHTTPRequest(env).requestAsync("/" + objectId + "/" + "rename",
+                inputObject, outputClass, RetryStrategy.SAFE_TO_RETRY);
     }
 
     /**
@@ -28910,9 +38338,8 @@ public final class DXAPI {
      *             the response (includes HTTP protocol errors).
      */
     public static <T> T workflowRun(String objectId, Object inputObject, Class<T> outputClass) {
-        return DXJSON.safeTreeToValue(
-                new DXHTTPRequest().request("/" + objectId + "/" + "run",
-                        mapper.valueToTree(inputObject), RetryStrategy.UNSAFE_TO_RETRY), outputClass);
+        return new DXHTTPRequest().request("/" + objectId + "/" + "run",
+                inputObject, outputClass, RetryStrategy.UNSAFE_TO_RETRY);
     }
     /**
      * Invokes the workflowRun method with an empty input using the given environment, deserializing to an object of the specified class.
@@ -28955,9 +38382,71 @@ public final class DXAPI {
      *             the response (includes HTTP protocol errors).
      */
     public static <T> T workflowRun(String objectId, Object inputObject, Class<T> outputClass, DXEnvironment env) {
-        return DXJSON.safeTreeToValue(
-            new DXHTTPRequest(env).request("/" + objectId + "/" + "run",
-                    mapper.valueToTree(inputObject), RetryStrategy.UNSAFE_TO_RETRY), outputClass);
+        return new DXHTTPRequest(env).request("/" + objectId + "/" + "run",
+                inputObject, outputClass, RetryStrategy.UNSAFE_TO_RETRY);
+    }
+
+    /**
+     * Invokes the workflowRun method with an empty input without blocking, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Workflows-and-Analyses#API-method%3A-%2Fworkflow-xxxx%2Frun">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param outputClass class to deserialize the server reponse to
+     *
+     * @return future that completes with the response object; the future fails with
+     *         {@link DXAPIException} or {@link DXHTTPException} if the request fails
+     */
+    public static <T> ListenableFuture<T> workflowRunAsync(String objectId, Class<T> outputClass) {
+        return workflowRunAsync(objectId, mapper.createObjectNode(), outputClass);
+    }
+    /**
+     * Invokes the workflowRun method with the given input without blocking, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Workflows-and-Analyses#API-method%3A-%2Fworkflow-xxxx%2Frun">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param inputObject input object (to be JSON serialized to an input hash)
+     * @param outputClass class to deserialize the server reponse to
+     *
+     * @return future that completes with the response object; the future fails with
+     *         {@link DXAPIException} or {@link DXHTTPException} if the request fails
+     */
+    public static <T> ListenableFuture<T> workflowRunAsync(String objectId, Object inputObject, Class<T> outputClass) {
+        return new DXHTTPRequest().requestAsync("/" + objectId + "/" + "run",
+                inputObject, outputClass, RetryStrategy.UNSAFE_TO_RETRY);
+    }
+    /**
+     * Invokes the workflowRun method with an empty input using the given environment without blocking, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Workflows-and-Analyses#API-method%3A-%2Fworkflow-xxxx%2Frun">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param outputClass class to deserialize the server reponse to
+     * @param env environment object specifying the auth token and remote server and protocol
+     *
+     * @return future that completes with the response object; the future fails with
+     *         {@link DXAPIException} or {@link DXHTTPException} if the request fails
+     */
+    public static <T> ListenableFuture<T> workflowRunAsync(String objectId, Class<T> outputClass, DXEnvironment env) {
+        return workflowRunAsync(objectId, mapper.createObjectNode(), outputClass, env);
+    }
+    /**
+     * Invokes the workflowRun method with the given input using the given environment without blocking, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Workflows-and-Analyses#API-method%3A-%2Fworkflow-xxxx%2Frun">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param inputObject input object (to be JSON serialized to an input hash)
+     * @param outputClass class to deserialize the server reponse to
+     * @param env environment object specifying the auth token and remote server and protocol
+     *
+     * @return future that completes with the response object; the future fails with
+     *         {@link DXAPIException} or {@link DXHTTPException} if the request fails
+     */
+    public static <T> ListenableFuture<T> workflowRunAsync(String objectId, Object inputObject, Class<T> outputClass, DXEnvironment env) {
+        return new DXHTTPRequest(env).requestAsync("/" + objectId + "/" + "run",
+                inputObject, outputClass, RetryStrategy.UNSAFE_TO_RETRY);
     }
 
     /**
@@ -29094,9 +38583,8 @@ public final class DXAPI {
      *             the response (includes HTTP protocol errors).
      */
     public static <T> T workflowSetDetails(String objectId, Object inputObject, Class<T> outputClass) {
-        return DXJSON.safeTreeToValue(
-                new DXHTTPRequest().request("/" + objectId + "/" + "setDetails",
-                        mapper.valueToTree(inputObject), RetryStrategy.SAFE_TO_RETRY), outputClass);
+        return new DXHTTPRequest().request("/" + objectId + "/" + "setDetails",
+                inputObject, outputClass, RetryStrategy.SAFE_TO_RETRY);
     }
     /**
      * Invokes the workflowSetDetails method with an empty input using the given environment, deserializing to an object of the specified class.
@@ -29116,11 +38604,80 @@ public final class DXAPI {
      *             If an error occurs while making the HTTP request or obtaining
      *             the response (includes HTTP protocol errors).
      */
-    public static <T> T workflowSetDetails(String objectId, Class<T> outputClass, DXEnvironment env) {
-        return workflowSetDetails(objectId, mapper.createObjectNode(), outputClass, env);
+    public static <T> T workflowSetDetails(String objectId, Class<T> outputClass, DXEnvironment env) {
+        return workflowSetDetails(objectId, mapper.createObjectNode(), outputClass, env);
+    }
+    /**
+     * Invokes the workflowSetDetails method with the given input using the given environment, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Details-and-Links#API-method%3A-%2Fclass-xxxx%2FsetDetails">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param inputObject input object (to be JSON serialized to an input hash)
+     * @param outputClass class to deserialize the server reponse to
+     * @param env environment object specifying the auth token and remote server and protocol
+     *
+     * @return Response object
+     *
+     * @throws DXAPIException
+     *             If the server returns a complete response with an HTTP status
+     *             code other than 200 (OK).
+     * @throws DXHTTPException
+     *             If an error occurs while making the HTTP request or obtaining
+     *             the response (includes HTTP protocol errors).
+     */
+    public static <T> T workflowSetDetails(String objectId, Object inputObject, Class<T> outputClass, DXEnvironment env) {
+        return new DXHTTPRequest(env).request("/" + objectId + "/" + "setDetails",
+                inputObject, outputClass, RetryStrategy.SAFE_TO_RETRY);
+    }
+
+    /**
+     * Invokes the workflowSetDetails method with an empty input without blocking, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Details-and-Links#API-method%3A-%2Fclass-xxxx%2FsetDetails">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param outputClass class to deserialize the server reponse to
+     *
+     * @return future that completes with the response object; the future fails with
+     *         {@link DXAPIException} or {@link DXHTTPException} if the request fails
+     */
+    public static <T> ListenableFuture<T> workflowSetDetailsAsync(String objectId, Class<T> outputClass) {
+        return workflowSetDetailsAsync(objectId, mapper.createObjectNode(), outputClass);
+    }
+    /**
+     * Invokes the workflowSetDetails method with the given input without blocking, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Details-and-Links#API-method%3A-%2Fclass-xxxx%2FsetDetails">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param inputObject input object (to be JSON serialized to an input hash)
+     * @param outputClass class to deserialize the server reponse to
+     *
+     * @return future that completes with the response object; the future fails with
+     *         {@link DXAPIException} or {@link DXHTTPException} if the request fails
+     */
+    public static <T> ListenableFuture<T> workflowSetDetailsAsync(String objectId, Object inputObject, Class<T> outputClass) {
+        return new DXHTTPRequest().requestAsync("/" + objectId + "/" + "setDetails",
+                inputObject, outputClass, RetryStrategy.SAFE_TO_RETRY);
+    }
+    /**
+     * Invokes the workflowSetDetails method with an empty input using the given environment without blocking, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Details-and-Links#API-method%3A-%2Fclass-xxxx%2FsetDetails">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param outputClass class to deserialize the server reponse to
+     * @param env environment object specifying the auth token and remote server and protocol
+     *
+     * @return future that completes with the response object; the future fails with
+     *         {@link DXAPIException} or {@link DXHTTPException} if the request fails
+     */
+    public static <T> ListenableFuture<T> workflowSetDetailsAsync(String objectId, Class<T> outputClass, DXEnvironment env) {
+        return workflowSetDetailsAsync(objectId, mapper.createObjectNode(), outputClass, env);
     }
     /**
-     * Invokes the workflowSetDetails method with the given input using the given environment, deserializing to an object of the specified class.
+     * Invokes the workflowSetDetails method with the given input using the given environment without blocking, deserializing to an object of the specified class.
      *
      * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Details-and-Links#API-method%3A-%2Fclass-xxxx%2FsetDetails">API specification</a>.
      *
@@ -29129,19 +38686,12 @@ public final class DXAPI {
      * @param outputClass class to deserialize the server reponse to
      * @param env environment object specifying the auth token and remote server and protocol
      *
-     * @return Response object
-     *
-     * @throws DXAPIException
-     *             If the server returns a complete response with an HTTP status
-     *             code other than 200 (OK).
-     * @throws DXHTTPException
-     *             If an error occurs while making the HTTP request or obtaining
-     *             the response (includes HTTP protocol errors).
+     * @return future that completes with the response object; the future fails with
+     *         {@link DXAPIException} or {@link DXHTTPException} if the request fails
      */
-    public static <T> T workflowSetDetails(String objectId, Object inputObject, Class<T> outputClass, DXEnvironment env) {
-        return DXJSON.safeTreeToValue(
-            new DXHTTPRequest(env).request("/" + objectId + "/" + "setDetails",
-                    mapper.valueToTree(inputObject), RetryStrategy.SAFE_TO_RETRY), outputClass);
+    public static <T> ListenableFuture<T> workflowSetDetailsAsync(String objectId, Object inputObject, Class<T> outputClass, DXEnvironment env) {
+        return new DXHTTPRequest(env).requestAsync("/" + objectId + "/" + "setDetails",
+                inputObject, outputClass, RetryStrategy.SAFE_TO_RETRY);
     }
 
     /**
@@ -29278,9 +38828,8 @@ public final class DXAPI {
      *             the response (includes HTTP protocol errors).
      */
     public static <T> T workflowSetProperties(String objectId, Object inputObject, Class<T> outputClass) {
-        return DXJSON.safeTreeToValue(
-                new DXHTTPRequest().request("/" + objectId + "/" + "setProperties",
-                        mapper.valueToTree(inputObject), RetryStrategy.SAFE_TO_RETRY), outputClass);
+        return new DXHTTPRequest().request("/" + objectId + "/" + "setProperties",
+                inputObject, outputClass, RetryStrategy.SAFE_TO_RETRY);
     }
     /**
      * Invokes the workflowSetProperties method with an empty input using the given environment, deserializing to an object of the specified class.
@@ -29323,9 +38872,71 @@ public final class DXAPI {
      *             the response (includes HTTP protocol errors).
      */
     public static <T> T workflowSetProperties(String objectId, Object inputObject, Class<T> outputClass, DXEnvironment env) {
-        return DXJSON.safeTreeToValue(
-            new DXHTTPRequest(env).request("/" + objectId + "/" + "setProperties",
-                    mapper.valueToTree(inputObject), RetryStrategy.SAFE_TO_RETRY), outputClass);
+        return new DXHTTPRequest(env).request("/" + objectId + "/" + "setProperties",
+                inputObject, outputClass, RetryStrategy.SAFE_TO_RETRY);
+    }
+
+    /**
+     * Invokes the workflowSetProperties method with an empty input without blocking, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Properties#API-method%3A-%2Fclass-xxxx%2FsetProperties">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param outputClass class to deserialize the server reponse to
+     *
+     * @return future that completes with the response object; the future fails with
+     *         {@link DXAPIException} or {@link DXHTTPException} if the request fails
+     */
+    public static <T> ListenableFuture<T> workflowSetPropertiesAsync(String objectId, Class<T> outputClass) {
+        return workflowSetPropertiesAsync(objectId, mapper.createObjectNode(), outputClass);
+    }
+    /**
+     * Invokes the workflowSetProperties method with the given input without blocking, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Properties#API-method%3A-%2Fclass-xxxx%2FsetProperties">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param inputObject input object (to be JSON serialized to an input hash)
+     * @param outputClass class to deserialize the server reponse to
+     *
+     * @return future that completes with the response object; the future fails with
+     *         {@link DXAPIException} or {@link DXHTTPException} if the request fails
+     */
+    public static <T> ListenableFuture<T> workflowSetPropertiesAsync(String objectId, Object inputObject, Class<T> outputClass) {
+        return new DXHTTPRequest().requestAsync("/" + objectId + "/" + "setProperties",
+                inputObject, outputClass, RetryStrategy.SAFE_TO_RETRY);
+    }
+    /**
+     * Invokes the workflowSetProperties method with an empty input using the given environment without blocking, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Properties#API-method%3A-%2Fclass-xxxx%2FsetProperties">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param outputClass class to deserialize the server reponse to
+     * @param env environment object specifying the auth token and remote server and protocol
+     *
+     * @return future that completes with the response object; the future fails with
+     *         {@link DXAPIException} or {@link DXHTTPException} if the request fails
+     */
+    public static <T> ListenableFuture<T> workflowSetPropertiesAsync(String objectId, Class<T> outputClass, DXEnvironment env) {
+        return workflowSetPropertiesAsync(objectId, mapper.createObjectNode(), outputClass, env);
+    }
+    /**
+     * Invokes the workflowSetProperties method with the given input using the given environment without blocking, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Properties#API-method%3A-%2Fclass-xxxx%2FsetProperties">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param inputObject input object (to be JSON serialized to an input hash)
+     * @param outputClass class to deserialize the server reponse to
+     * @param env environment object specifying the auth token and remote server and protocol
+     *
+     * @return future that completes with the response object; the future fails with
+     *         {@link DXAPIException} or {@link DXHTTPException} if the request fails
+     */
+    public static <T> ListenableFuture<T> workflowSetPropertiesAsync(String objectId, Object inputObject, Class<T> outputClass, DXEnvironment env) {
+        return new DXHTTPRequest(env).requestAsync("/" + objectId + "/" + "setProperties",
+                inputObject, outputClass, RetryStrategy.SAFE_TO_RETRY);
     }
 
     /**
@@ -29462,9 +39073,8 @@ public final class DXAPI {
      *             the response (includes HTTP protocol errors).
      */
     public static <T> T workflowSetStageInputs(String objectId, Object inputObject, Class<T> outputClass) {
-        return DXJSON.safeTreeToValue(
-                new DXHTTPRequest().request("/" + objectId + "/" + "setStageInputs",
-                        mapper.valueToTree(inputObject), RetryStrategy.SAFE_TO_RETRY), outputClass);
+        return new DXHTTPRequest().request("/" + objectId + "/" + "setStageInputs",
+                inputObject, outputClass, RetryStrategy.SAFE_TO_RETRY);
     }
     /**
      * Invokes the workflowSetStageInputs method with an empty input using the given environment, deserializing to an object of the specified class.
@@ -29507,9 +39117,71 @@ public final class DXAPI {
      *             the response (includes HTTP protocol errors).
      */
     public static <T> T workflowSetStageInputs(String objectId, Object inputObject, Class<T> outputClass, DXEnvironment env) {
-        return DXJSON.safeTreeToValue(
-            new DXHTTPRequest(env).request("/" + objectId + "/" + "setStageInputs",
-                    mapper.valueToTree(inputObject), RetryStrategy.SAFE_TO_RETRY), outputClass);
+        return new DXHTTPRequest(env).request("/" + objectId + "/" + "setStageInputs",
+                inputObject, outputClass, RetryStrategy.SAFE_TO_RETRY);
+    }
+
+    /**
+     * Invokes the workflowSetStageInputs method with an empty input without blocking, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Workflows-and-Analyses#API-method%3A-%2Fworkflow-xxxx%2FsetStageInputs">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param outputClass class to deserialize the server reponse to
+     *
+     * @return future that completes with the response object; the future fails with
+     *         {@link DXAPIException} or {@link DXHTTPException} if the request fails
+     */
+    public static <T> ListenableFuture<T> workflowSetStageInputsAsync(String objectId, Class<T> outputClass) {
+        return workflowSetStageInputsAsync(objectId, mapper.createObjectNode(), outputClass);
+    }
+    /**
+     * Invokes the workflowSetStageInputs method with the given input without blocking, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Workflows-and-Analyses#API-method%3A-%2Fworkflow-xxxx%2FsetStageInputs">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param inputObject input object (to be JSON serialized to an input hash)
+     * @param outputClass class to deserialize the server reponse to
+     *
+     * @return future that completes with the response object; the future fails with
+     *         {@link DXAPIException} or {@link DXHTTPException} if the request fails
+     */
+    public static <T> ListenableFuture<T> workflowSetStageInputsAsync(String objectId, Object inputObject, Class<T> outputClass) {
+        return new DXHTTPRequest().requestAsync("/" + objectId + "/" + "setStageInputs",
+                inputObject, outputClass, RetryStrategy.SAFE_TO_RETRY);
+    }
+    /**
+     * Invokes the workflowSetStageInputs method with an empty input using the given environment without blocking, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Workflows-and-Analyses#API-method%3A-%2Fworkflow-xxxx%2FsetStageInputs">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param outputClass class to deserialize the server reponse to
+     * @param env environment object specifying the auth token and remote server and protocol
+     *
+     * @return future that completes with the response object; the future fails with
+     *         {@link DXAPIException} or {@link DXHTTPException} if the request fails
+     */
+    public static <T> ListenableFuture<T> workflowSetStageInputsAsync(String objectId, Class<T> outputClass, DXEnvironment env) {
+        return workflowSetStageInputsAsync(objectId, mapper.createObjectNode(), outputClass, env);
+    }
+    /**
+     * Invokes the workflowSetStageInputs method with the given input using the given environment without blocking, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Workflows-and-Analyses#API-method%3A-%2Fworkflow-xxxx%2FsetStageInputs">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param inputObject input object (to be JSON serialized to an input hash)
+     * @param outputClass class to deserialize the server reponse to
+     * @param env environment object specifying the auth token and remote server and protocol
+     *
+     * @return future that completes with the response object; the future fails with
+     *         {@link DXAPIException} or {@link DXHTTPException} if the request fails
+     */
+    public static <T> ListenableFuture<T> workflowSetStageInputsAsync(String objectId, Object inputObject, Class<T> outputClass, DXEnvironment env) {
+        return new DXHTTPRequest(env).requestAsync("/" + objectId + "/" + "setStageInputs",
+                inputObject, outputClass, RetryStrategy.SAFE_TO_RETRY);
     }
 
     /**
@@ -29646,9 +39318,8 @@ public final class DXAPI {
      *             the response (includes HTTP protocol errors).
      */
     public static <T> T workflowSetVisibility(String objectId, Object inputObject, Class<T> outputClass) {
-        return DXJSON.safeTreeToValue(
-                new DXHTTPRequest().request("/" + objectId + "/" + "setVisibility",
-                        mapper.valueToTree(inputObject), RetryStrategy.SAFE_TO_RETRY), outputClass);
+        return new DXHTTPRequest().request("/" + objectId + "/" + "setVisibility",
+                inputObject, outputClass, RetryStrategy.SAFE_TO_RETRY);
     }
     /**
      * Invokes the workflowSetVisibility method with an empty input using the given environment, deserializing to an object of the specified class.
@@ -29691,9 +39362,71 @@ public final class DXAPI {
      *             the response (includes HTTP protocol errors).
      */
     public static <T> T workflowSetVisibility(String objectId, Object inputObject, Class<T> outputClass, DXEnvironment env) {
-        return DXJSON.safeTreeToValue(
-            new DXHTTPRequest(env).request("/" + objectId + "/" + "setVisibility",
-                    mapper.valueToTree(inputObject), RetryStrategy.SAFE_TO_RETRY), outputClass);
+        return new DXHTTPRequest(env).request("/" + objectId + "/" + "setVisibility",
+                inputObject, outputClass, RetryStrategy.SAFE_TO_RETRY);
+    }
+
+    /**
+     * Invokes the workflowSetVisibility method with an empty input without blocking, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Visibility#API-method%3A-%2Fclass-xxxx%2FsetVisibility">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param outputClass class to deserialize the server reponse to
+     *
+     * @return future that completes with the response object; the future fails with
+     *         {@link DXAPIException} or {@link DXHTTPException} if the request fails
+     */
+    public static <T> ListenableFuture<T> workflowSetVisibilityAsync(String objectId, Class<T> outputClass) {
+        return workflowSetVisibilityAsync(objectId, mapper.createObjectNode(), outputClass);
+    }
+    /**
+     * Invokes the workflowSetVisibility method with the given input without blocking, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Visibility#API-method%3A-%2Fclass-xxxx%2FsetVisibility">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param inputObject input object (to be JSON serialized to an input hash)
+     * @param outputClass class to deserialize the server reponse to
+     *
+     * @return future that completes with the response object; the future fails with
+     *         {@link DXAPIException} or {@link DXHTTPException} if the request fails
+     */
+    public static <T> ListenableFuture<T> workflowSetVisibilityAsync(String objectId, Object inputObject, Class<T> outputClass) {
+        return new DXHTTPRequest().requestAsync("/" + objectId + "/" + "setVisibility",
+                inputObject, outputClass, RetryStrategy.SAFE_TO_RETRY);
+    }
+    /**
+     * Invokes the workflowSetVisibility method with an empty input using the given environment without blocking, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Visibility#API-method%3A-%2Fclass-xxxx%2FsetVisibility">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param outputClass class to deserialize the server reponse to
+     * @param env environment object specifying the auth token and remote server and protocol
+     *
+     * @return future that completes with the response object; the future fails with
+     *         {@link DXAPIException} or {@link DXHTTPException} if the request fails
+     */
+    public static <T> ListenableFuture<T> workflowSetVisibilityAsync(String objectId, Class<T> outputClass, DXEnvironment env) {
+        return workflowSetVisibilityAsync(objectId, mapper.createObjectNode(), outputClass, env);
+    }
+    /**
+     * Invokes the workflowSetVisibility method with the given input using the given environment without blocking, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Visibility#API-method%3A-%2Fclass-xxxx%2FsetVisibility">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param inputObject input object (to be JSON serialized to an input hash)
+     * @param outputClass class to deserialize the server reponse to
+     * @param env environment object specifying the auth token and remote server and protocol
+     *
+     * @return future that completes with the response object; the future fails with
+     *         {@link DXAPIException} or {@link DXHTTPException} if the request fails
+     */
+    public static <T> ListenableFuture<T> workflowSetVisibilityAsync(String objectId, Object inputObject, Class<T> outputClass, DXEnvironment env) {
+        return new DXHTTPRequest(env).requestAsync("/" + objectId + "/" + "setVisibility",
+                inputObject, outputClass, RetryStrategy.SAFE_TO_RETRY);
     }
 
     /**
@@ -29830,9 +39563,8 @@ public final class DXAPI {
      *             the response (includes HTTP protocol errors).
      */
     public static <T> T workflowUpdate(String objectId, Object inputObject, Class<T> outputClass) {
-        return DXJSON.safeTreeToValue(
-                new DXHTTPRequest().request("/" + objectId + "/" + "update",
-                        mapper.valueToTree(inputObject), RetryStrategy.SAFE_TO_RETRY), outputClass);
+        return new DXHTTPRequest().request("/" + objectId + "/" + "update",
+                inputObject, outputClass, RetryStrategy.SAFE_TO_RETRY);
     }
     /**
      * Invokes the workflowUpdate method with an empty input using the given environment, deserializing to an object of the specified class.
@@ -29875,9 +39607,71 @@ public final class DXAPI {
      *             the response (includes HTTP protocol errors).
      */
     public static <T> T workflowUpdate(String objectId, Object inputObject, Class<T> outputClass, DXEnvironment env) {
-        return DXJSON.safeTreeToValue(
-            new DXHTTPRequest(env).request("/" + objectId + "/" + "update",
-                    mapper.valueToTree(inputObject), RetryStrategy.SAFE_TO_RETRY), outputClass);
+        return new DXHTTPRequest(env).request("/" + objectId + "/" + "update",
+                inputObject, outputClass, RetryStrategy.SAFE_TO_RETRY);
+    }
+
+    /**
+     * Invokes the workflowUpdate method with an empty input without blocking, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Workflows-and-Analyses#API-method%3A-%2Fworkflow-xxxx%2Fupdate">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param outputClass class to deserialize the server reponse to
+     *
+     * @return future that completes with the response object; the future fails with
+     *         {@link DXAPIException} or {@link DXHTTPException} if the request fails
+     */
+    public static <T> ListenableFuture<T> workflowUpdateAsync(String objectId, Class<T> outputClass) {
+        return workflowUpdateAsync(objectId, mapper.createObjectNode(), outputClass);
+    }
+    /**
+     * Invokes the workflowUpdate method with the given input without blocking, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Workflows-and-Analyses#API-method%3A-%2Fworkflow-xxxx%2Fupdate">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param inputObject input object (to be JSON serialized to an input hash)
+     * @param outputClass class to deserialize the server reponse to
+     *
+     * @return future that completes with the response object; the future fails with
+     *         {@link DXAPIException} or {@link DXHTTPException} if the request fails
+     */
+    public static <T> ListenableFuture<T> workflowUpdateAsync(String objectId, Object inputObject, Class<T> outputClass) {
+        return new DXHTTPRequest().requestAsync("/" + objectId + "/" + "update",
+                inputObject, outputClass, RetryStrategy.SAFE_TO_RETRY);
+    }
+    /**
+     * Invokes the workflowUpdate method with an empty input using the given environment without blocking, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Workflows-and-Analyses#API-method%3A-%2Fworkflow-xxxx%2Fupdate">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param outputClass class to deserialize the server reponse to
+     * @param env environment object specifying the auth token and remote server and protocol
+     *
+     * @return future that completes with the response object; the future fails with
+     *         {@link DXAPIException} or {@link DXHTTPException} if the request fails
+     */
+    public static <T> ListenableFuture<T> workflowUpdateAsync(String objectId, Class<T> outputClass, DXEnvironment env) {
+        return workflowUpdateAsync(objectId, mapper.createObjectNode(), outputClass, env);
+    }
+    /**
+     * Invokes the workflowUpdate method with the given input using the given environment without blocking, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Workflows-and-Analyses#API-method%3A-%2Fworkflow-xxxx%2Fupdate">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param inputObject input object (to be JSON serialized to an input hash)
+     * @param outputClass class to deserialize the server reponse to
+     * @param env environment object specifying the auth token and remote server and protocol
+     *
+     * @return future that completes with the response object; the future fails with
+     *         {@link DXAPIException} or {@link DXHTTPException} if the request fails
+     */
+    public static <T> ListenableFuture<T> workflowUpdateAsync(String objectId, Object inputObject, Class<T> outputClass, DXEnvironment env) {
+        return new DXHTTPRequest(env).requestAsync("/" + objectId + "/" + "update",
+                inputObject, outputClass, RetryStrategy.SAFE_TO_RETRY);
     }
 
     /**
@@ -30014,9 +39808,8 @@ public final class DXAPI {
      *             the response (includes HTTP protocol errors).
      */
     public static <T> T workflowUpdateStageExecutable(String objectId, Object inputObject, Class<T> outputClass) {
-        return DXJSON.safeTreeToValue(
-                new DXHTTPRequest().request("/" + objectId + "/" + "updateStageExecutable",
-                        mapper.valueToTree(inputObject), RetryStrategy.SAFE_TO_RETRY), outputClass);
+        return new DXHTTPRequest().request("/" + objectId + "/" + "updateStageExecutable",
+                inputObject, outputClass, RetryStrategy.SAFE_TO_RETRY);
     }
     /**
      * Invokes the workflowUpdateStageExecutable method with an empty input using the given environment, deserializing to an object of the specified class.
@@ -30059,9 +39852,71 @@ public final class DXAPI {
      *             the response (includes HTTP protocol errors).
      */
     public static <T> T workflowUpdateStageExecutable(String objectId, Object inputObject, Class<T> outputClass, DXEnvironment env) {
-        return DXJSON.safeTreeToValue(
-            new DXHTTPRequest(env).request("/" + objectId + "/" + "updateStageExecutable",
-                    mapper.valueToTree(inputObject), RetryStrategy.SAFE_TO_RETRY), outputClass);
+        return new DXHTTPRequest(env).request("/" + objectId + "/" + "updateStageExecutable",
+                inputObject, outputClass, RetryStrategy.SAFE_TO_RETRY);
+    }
+
+    /**
+     * Invokes the workflowUpdateStageExecutable method with an empty input without blocking, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Workflows-and-Analyses#API-method%3A-%2Fworkflow-xxxx%2FupdateStageExecutable">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param outputClass class to deserialize the server reponse to
+     *
+     * @return future that completes with the response object; the future fails with
+     *         {@link DXAPIException} or {@link DXHTTPException} if the request fails
+     */
+    public static <T> ListenableFuture<T> workflowUpdateStageExecutableAsync(String objectId, Class<T> outputClass) {
+        return workflowUpdateStageExecutableAsync(objectId, mapper.createObjectNode(), outputClass);
+    }
+    /**
+     * Invokes the workflowUpdateStageExecutable method with the given input without blocking, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Workflows-and-Analyses#API-method%3A-%2Fworkflow-xxxx%2FupdateStageExecutable">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param inputObject input object (to be JSON serialized to an input hash)
+     * @param outputClass class to deserialize the server reponse to
+     *
+     * @return future that completes with the response object; the future fails with
+     *         {@link DXAPIException} or {@link DXHTTPException} if the request fails
+     */
+    public static <T> ListenableFuture<T> workflowUpdateStageExecutableAsync(String objectId, Object inputObject, Class<T> outputClass) {
+        return new DXHTTPRequest().requestAsync("/" + objectId + "/" + "updateStageExecutable",
+                inputObject, outputClass, RetryStrategy.SAFE_TO_RETRY);
+    }
+    /**
+     * Invokes the workflowUpdateStageExecutable method with an empty input using the given environment without blocking, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Workflows-and-Analyses#API-method%3A-%2Fworkflow-xxxx%2FupdateStageExecutable">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param outputClass class to deserialize the server reponse to
+     * @param env environment object specifying the auth token and remote server and protocol
+     *
+     * @return future that completes with the response object; the future fails with
+     *         {@link DXAPIException} or {@link DXHTTPException} if the request fails
+     */
+    public static <T> ListenableFuture<T> workflowUpdateStageExecutableAsync(String objectId, Class<T> outputClass, DXEnvironment env) {
+        return workflowUpdateStageExecutableAsync(objectId, mapper.createObjectNode(), outputClass, env);
+    }
+    /**
+     * Invokes the workflowUpdateStageExecutable method with the given input using the given environment without blocking, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Workflows-and-Analyses#API-method%3A-%2Fworkflow-xxxx%2FupdateStageExecutable">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param inputObject input object (to be JSON serialized to an input hash)
+     * @param outputClass class to deserialize the server reponse to
+     * @param env environment object specifying the auth token and remote server and protocol
+     *
+     * @return future that completes with the response object; the future fails with
+     *         {@link DXAPIException} or {@link DXHTTPException} if the request fails
+     */
+    public static <T> ListenableFuture<T> workflowUpdateStageExecutableAsync(String objectId, Object inputObject, Class<T> outputClass, DXEnvironment env) {
+        return new DXHTTPRequest(env).requestAsync("/" + objectId + "/" + "updateStageExecutable",
+                inputObject, outputClass, RetryStrategy.SAFE_TO_RETRY);
     }
 
     /**
@@ -30216,9 +40071,7 @@ public final class DXAPI {
      *             the response (includes HTTP protocol errors).
      */
     public static <T> T workflowNew(Object inputObject, Class<T> outputClass) {
-        return DXJSON.safeTreeToValue(
-                new DXHTTPRequest().request("/workflow/new", mapper.valueToTree(inputObject), RetryStrategy.UNSAFE_TO_RETRY),
-                outputClass);
+        return new DXHTTPRequest().request("/workflow/new", inputObject, outputClass, RetryStrategy.UNSAFE_TO_RETRY);
     }
     /**
      * Invokes the workflowNew method with the specified input using the specified environment, deserializing to an object of the specified class.
@@ -30239,9 +40092,64 @@ public final class DXAPI {
      *             the response (includes HTTP protocol errors).
      */
     public static <T> T workflowNew(Object inputObject, Class<T> outputClass, DXEnvironment env) {
-        return DXJSON.safeTreeToValue(
-                new DXHTTPRequest(env).request("/workflow/new", mapper.valueToTree(inputObject), RetryStrategy.UNSAFE_TO_RETRY),
-                outputClass);
+        return new DXHTTPRequest(env).request("/workflow/new", inputObject, outputClass, RetryStrategy.UNSAFE_TO_RETRY);
+    }
+
+    /**
+     * Invokes the workflowNew method with an empty input without blocking, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Workflows-and-Analyses#API-method%3A-%2Fworkflow%2Fnew">API specification</a>.
+     *
+     * @param outputClass class to deserialize the server reponse to
+     *
+     * @return future that completes with the server response parsed from JSON; the future fails
+     *         with {@link DXAPIException} or {@link DXHTTPException} if the request fails
+     */
+    public static <T> ListenableFuture<T> workflowNewAsync(Class<T> outputClass) {
+        return workflowNewAsync(mapper.createObjectNode(), outputClass);
+    }
+    /**
+     * Invokes the workflowNew method with an empty input using the specified environment without blocking, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Workflows-and-Analyses#API-method%3A-%2Fworkflow%2Fnew">API specification</a>.
+     *
+     * @param outputClass class to deserialize the server reponse to
+     * @param env environment object specifying the auth token and remote server and protocol
+     *
+     * @return future that completes with the server response parsed from JSON; the future fails
+     *         with {@link DXAPIException} or {@link DXHTTPException} if the request fails
+     */
+    public static <T> ListenableFuture<T> workflowNewAsync(Class<T> outputClass, DXEnvironment env) {
+        return workflowNewAsync(mapper.createObjectNode(), outputClass, env);
+    }
+    /**
+     * Invokes the workflowNew method with the specified input without blocking, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Workflows-and-Analyses#API-method%3A-%2Fworkflow%2Fnew">API specification</a>.
+     *
+     * @param inputObject input object (to be JSON serialized to an input hash)
+     * @param outputClass class to deserialize the server reponse to
+     *
+     * @return future that completes with the server response parsed from JSON; the future fails
+     *         with {@link DXAPIException} or {@link DXHTTPException} if the request fails
+     */
+    public static <T> ListenableFuture<T> workflowNewAsync(Object inputObject, Class<T> outputClass) {
+        return new DXHTTPRequest().requestAsync("/workflow/new", inputObject, outputClass, RetryStrategy.UNSAFE_TO_RETRY);
+    }
+    /**
+     * Invokes the workflowNew method with the specified input using the specified environment without blocking, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Workflows-and-Analyses#API-method%3A-%2Fworkflow%2Fnew">API specification</a>.
+     *
+     * @param inputObject input object (to be JSON serialized to an input hash)
+     * @param outputClass class to deserialize the server reponse to
+     * @param env environment object specifying the auth token and remote server and protocol
+     *
+     * @return future that completes with the server response parsed from JSON; the future fails
+     *         with {@link DXAPIException} or {@link DXHTTPException} if the request fails
+     */
+    public static <T> ListenableFuture<T> workflowNewAsync(Object inputObject, Class<T> outputClass, DXEnvironment env) {
+        return new DXHTTPRequest(env).requestAsync("/workflow/new", inputObject, outputClass, RetryStrategy.UNSAFE_TO_RETRY);
     }
 
     /**
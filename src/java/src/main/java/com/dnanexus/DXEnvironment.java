@@ -18,12 +18,30 @@ package com.dnanexus;
 
 import java.io.File;
 import java.io.IOException;
+import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.http.impl.client.CloseableHttpClient;
+import org.apache.http.impl.client.HttpClientBuilder;
+import org.apache.http.impl.conn.PoolingHttpClientConnectionManager;
+import org.apache.http.impl.nio.client.CloseableHttpAsyncClient;
+import org.apache.http.impl.nio.client.HttpAsyncClients;
+import org.apache.http.impl.nio.conn.PoolingNHttpClientConnectionManager;
+import org.apache.http.impl.nio.reactor.DefaultConnectingIOReactor;
+import org.apache.http.impl.nio.reactor.IOReactorConfig;
+import org.apache.http.nio.reactor.IOReactorException;
+import org.apache.http.pool.PoolStats;
 
 import com.fasterxml.jackson.core.JsonFactory;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.MappingJsonFactory;
 import com.google.common.base.Preconditions;
+import com.google.common.collect.ImmutableList;
+import com.google.common.util.concurrent.RateLimiter;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
 
 /**
  * Immutable class storing configuration for selecting, authenticating to, and communicating with a
@@ -49,6 +67,8 @@ public class DXEnvironment {
         private static final String DEFAULT_APISERVER_HOST = "api.dnanexus.com";
         private static final String DEFAULT_APISERVER_PORT = "443";
         private static final String DEFAULT_APISERVER_PROTOCOL = "https";
+        private static final int DEFAULT_MAX_CONNECTIONS_PER_ROUTE = 100;
+        private static final int DEFAULT_MAX_CONNECTIONS_TOTAL = 200;
 
         /**
          * Creates a Builder object using the JSON config in the file
@@ -90,6 +110,15 @@ public class DXEnvironment {
         private String workspaceId;
         private String projectContextId;
         private boolean disableRetry;
+        private int maxConnectionsPerRoute;
+        private int maxConnectionsTotal;
+        private TransferScheduler transferScheduler;
+        private long maxDownloadBytesPerSecond;
+        private long maxUploadBytesPerSecond;
+        // Token buckets of the template environment, shared with the new one unless its limits
+        // are changed
+        private RateLimiter downloadRateLimiter;
+        private RateLimiter uploadRateLimiter;
 
         /**
          * Initializes a Builder object using JSON config in the file
@@ -111,6 +140,13 @@ public class DXEnvironment {
             workspaceId = templateEnvironment.workspaceId;
             projectContextId = templateEnvironment.projectContextId;
             disableRetry = templateEnvironment.disableRetry;
+            maxConnectionsPerRoute = templateEnvironment.maxConnectionsPerRoute;
+            maxConnectionsTotal = templateEnvironment.maxConnectionsTotal;
+            transferScheduler = templateEnvironment.transferScheduler;
+            maxDownloadBytesPerSecond = templateEnvironment.maxDownloadBytesPerSecond;
+            maxUploadBytesPerSecond = templateEnvironment.maxUploadBytesPerSecond;
+            downloadRateLimiter = templateEnvironment.downloadRateLimiter;
+            uploadRateLimiter = templateEnvironment.uploadRateLimiter;
         }
 
         private Builder(File jsonConfigFile) {
@@ -123,6 +159,8 @@ public class DXEnvironment {
             workspaceId = null;
             projectContextId = null;
             disableRetry = false;
+            maxConnectionsPerRoute = DEFAULT_MAX_CONNECTIONS_PER_ROUTE;
+            maxConnectionsTotal = DEFAULT_MAX_CONNECTIONS_TOTAL;
 
             // (2) JSON file
             if (jsonConfigFile.exists()) {
@@ -200,7 +238,9 @@ public class DXEnvironment {
          */
         public DXEnvironment build() {
             return new DXEnvironment(apiserverHost, apiserverPort, apiserverProtocol,
-                    securityContext, jobId, workspaceId, projectContextId, disableRetry);
+                    securityContext, jobId, workspaceId, projectContextId, disableRetry,
+                    maxConnectionsPerRoute, maxConnectionsTotal, transferScheduler, maxDownloadBytesPerSecond,
+                    maxUploadBytesPerSecond, downloadRateLimiter, uploadRateLimiter);
         }
 
         /**
@@ -316,6 +356,96 @@ public class DXEnvironment {
             return this;
         }
 
+        /**
+         * Sets the maximum number of persistent connections that may be open to any single host
+         * (for example, the API server).
+         *
+         * @param maxConnectionsPerRoute maximum number of connections per route
+         *
+         * @return the same Builder object
+         */
+        public Builder setMaxConnectionsPerRoute(int maxConnectionsPerRoute) {
+            Preconditions.checkArgument(maxConnectionsPerRoute > 0,
+                    "maxConnectionsPerRoute must be positive");
+            this.maxConnectionsPerRoute = maxConnectionsPerRoute;
+            return this;
+        }
+
+        /**
+         * Sets the maximum number of persistent connections that may be open in total across all
+         * hosts.
+         *
+         * @param maxConnectionsTotal maximum number of connections
+         *
+         * @return the same Builder object
+         */
+        public Builder setMaxConnectionsTotal(int maxConnectionsTotal) {
+            Preconditions.checkArgument(maxConnectionsTotal > 0, "maxConnectionsTotal must be positive");
+            this.maxConnectionsTotal = maxConnectionsTotal;
+            return this;
+        }
+
+        /**
+         * Sets the scheduler on which parallel file transfers made through the environment run
+         * their chunks and parts, so that they share its workers and its limit on buffered bytes.
+         * By default they run on {@link TransferScheduler#getDefault()}, which is shared by all
+         * environments without a scheduler of their own. The scheduler is not shut down by the
+         * environment.
+         *
+         * @param transferScheduler scheduler shared by file transfers, or null to use the default
+         *
+         * @return the same Builder object
+         */
+        public Builder setTransferScheduler(TransferScheduler transferScheduler) {
+            this.transferScheduler = transferScheduler;
+            return this;
+        }
+
+        /**
+         * Limits the total rate at which all the file downloads made through the environment
+         * receive data. The limit is shared by the concurrent downloads; each of them may be
+         * limited further with {@link DXFile.DownloadOptions#withMaxBytesPerSecond(long)}.
+         *
+         * <p>
+         * The limit applies per DXEnvironment instance: environments derived from this one with
+         * {@link #fromEnvironment(DXEnvironment)} share it, unless they set a different limit, but
+         * other environments have limits of their own.
+         * </p>
+         *
+         * @param maxDownloadBytesPerSecond maximum rate in bytes per second, or 0 for no limit
+         *
+         * @return the same Builder object
+         */
+        public Builder setMaxDownloadBytesPerSecond(long maxDownloadBytesPerSecond) {
+            Preconditions.checkArgument(maxDownloadBytesPerSecond >= 0,
+                    "maxDownloadBytesPerSecond may not be negative");
+            if (maxDownloadBytesPerSecond != this.maxDownloadBytesPerSecond) {
+                this.maxDownloadBytesPerSecond = maxDownloadBytesPerSecond;
+                this.downloadRateLimiter = null;
+            }
+            return this;
+        }
+
+        /**
+         * Limits the total rate at which all the file uploads made through the environment send
+         * data. The limit is shared by the concurrent uploads; each of them may be limited further
+         * with {@link DXFile.UploadOptions#withMaxBytesPerSecond(long)}. As with
+         * {@link #setMaxDownloadBytesPerSecond(long)}, the limit applies per DXEnvironment instance
+         * and the environments derived from it.
+         *
+         * @param maxUploadBytesPerSecond maximum rate in bytes per second, or 0 for no limit
+         *
+         * @return the same Builder object
+         */
+        public Builder setMaxUploadBytesPerSecond(long maxUploadBytesPerSecond) {
+            Preconditions.checkArgument(maxUploadBytesPerSecond >= 0, "maxUploadBytesPerSecond may not be negative");
+            if (maxUploadBytesPerSecond != this.maxUploadBytesPerSecond) {
+                this.maxUploadBytesPerSecond = maxUploadBytesPerSecond;
+                this.uploadRateLimiter = null;
+            }
+            return this;
+        }
+
     }
 
     private final String apiserverHost;
@@ -326,8 +456,41 @@ public class DXEnvironment {
     private final String workspaceId;
     private final String projectContextId;
     private final boolean disableRetry;
+    private final int maxConnectionsPerRoute;
+    private final int maxConnectionsTotal;
+    private final TransferScheduler transferScheduler;
+    private final long maxDownloadBytesPerSecond;
+    private final long maxUploadBytesPerSecond;
+    // Token buckets shared by all the transfers in each direction (and by those of the
+    // environments derived from this one with the same limits), or null if there is no limit
+    private final RateLimiter downloadRateLimiter;
+    private final RateLimiter uploadRateLimiter;
+
+    // Connection pools and clients (blocking and non-blocking) used by the requests made through
+    // this environment, looked up lazily in the ones shared by environments with the same limits
+    private volatile PoolingHttpClientConnectionManager connectionManager;
+    private volatile CloseableHttpClient httpClient;
+    private volatile PoolingNHttpClientConnectionManager asyncConnectionManager;
+    private volatile CloseableHttpAsyncClient asyncHttpClient;
 
     private static final JsonFactory jsonFactory = new MappingJsonFactory();
+
+    // Connection pools and clients shared by all environments with the same connection limits
+    // (maximum per route, maximum in total), so that objects created with environments of their
+    // own (such as the default one) still reuse connections. They are created on first use and
+    // kept for the life of the JVM. Guarded by DXEnvironment.class.
+    private static final Map<List<Integer>, PoolingHttpClientConnectionManager> SHARED_CONNECTION_MANAGERS =
+            new HashMap<List<Integer>, PoolingHttpClientConnectionManager>();
+    private static final Map<List<Integer>, CloseableHttpClient> SHARED_HTTP_CLIENTS =
+            new HashMap<List<Integer>, CloseableHttpClient>();
+    // Likewise for the non-blocking clients, each of which runs an I/O reactor
+    private static final Map<List<Integer>, PoolingNHttpClientConnectionManager> SHARED_ASYNC_CONNECTION_MANAGERS =
+            new HashMap<List<Integer>, PoolingNHttpClientConnectionManager>();
+    private static final Map<List<Integer>, CloseableHttpAsyncClient> SHARED_ASYNC_HTTP_CLIENTS =
+            new HashMap<List<Integer>, CloseableHttpAsyncClient>();
+
+    private static final String USER_AGENT = DXUserAgent.getUserAgent();
+
     /**
      * Creates a DXEnvironment from the default settings.
      *
@@ -351,7 +514,9 @@ public class DXEnvironment {
 
     private DXEnvironment(String apiserverHost, String apiserverPort, String apiserverProtocol,
             JsonNode securityContext, String jobId, String workspaceId, String projectContextId, boolean
-            disableRetry) {
+            disableRetry, int maxConnectionsPerRoute, int maxConnectionsTotal,
+            TransferScheduler transferScheduler, long maxDownloadBytesPerSecond, long maxUploadBytesPerSecond,
+            RateLimiter downloadRateLimiter, RateLimiter uploadRateLimiter) {
         this.apiserverHost = apiserverHost;
         this.apiserverPort = apiserverPort;
         this.apiserverProtocol = apiserverProtocol;
@@ -360,6 +525,15 @@ public class DXEnvironment {
         this.workspaceId = workspaceId;
         this.projectContextId = projectContextId;
         this.disableRetry = disableRetry;
+        this.maxConnectionsPerRoute = maxConnectionsPerRoute;
+        this.maxConnectionsTotal = maxConnectionsTotal;
+        this.transferScheduler = transferScheduler;
+        this.maxDownloadBytesPerSecond = maxDownloadBytesPerSecond;
+        this.maxUploadBytesPerSecond = maxUploadBytesPerSecond;
+        this.downloadRateLimiter = downloadRateLimiter != null ? downloadRateLimiter
+                : BandwidthThrottle.newRateLimiter(maxDownloadBytesPerSecond);
+        this.uploadRateLimiter = uploadRateLimiter != null ? uploadRateLimiter
+                : BandwidthThrottle.newRateLimiter(maxUploadBytesPerSecond);
 
         // TODO: additional validation on the project/workspace, and check that
         // apiserverProtocol is either "http" or "https".
@@ -369,6 +543,27 @@ public class DXEnvironment {
         }
     }
 
+    /**
+     * Closes pooled connections that have been idle for longer than the specified time. Connections
+     * that are currently in use are not affected. The pools are shared by all environments with the
+     * same connection limits, so this affects their idle connections too.
+     *
+     * @param idleTime minimum idle time of connections to be closed
+     * @param unit unit of {@code idleTime}
+     */
+    public void closeIdleConnections(long idleTime, TimeUnit unit) {
+        PoolingHttpClientConnectionManager manager = this.connectionManager;
+        if (manager != null) {
+            manager.closeExpiredConnections();
+            manager.closeIdleConnections(idleTime, unit);
+        }
+        PoolingNHttpClientConnectionManager asyncManager = this.asyncConnectionManager;
+        if (asyncManager != null) {
+            asyncManager.closeExpiredConnections();
+            asyncManager.closeIdleConnections(idleTime, unit);
+        }
+    }
+
     /**
      * Returns the fully qualified API server address (including protocol, host, and port).
      *
@@ -378,6 +573,103 @@ public class DXEnvironment {
         return this.apiserverProtocol + "://" + this.apiserverHost + ":" + this.apiserverPort;
     }
 
+    /**
+     * Returns statistics (leased, available, and pending connections, and the configured maximum)
+     * for the connection pool used by requests made through this environment, which is shared by
+     * all environments with the same connection limits.
+     *
+     * @return connection pool statistics
+     */
+    public PoolStats getConnectionPoolStats() {
+        PoolingHttpClientConnectionManager manager = this.connectionManager;
+        if (manager == null) {
+            return new PoolStats(0, 0, 0, this.maxConnectionsTotal);
+        }
+        return manager.getTotalStats();
+    }
+
+    /**
+     * Returns the non-blocking HTTP client used by all asynchronous requests made through this
+     * environment (for use by {@link DXHTTPRequest}). Like the blocking client, it is shared by all
+     * environments with the same connection limits, so the JVM runs one I/O reactor per distinct
+     * set of limits however many environments make requests. The client is started on first use
+     * and is never shut down; its I/O threads are daemon threads, so they do not prevent the JVM
+     * from exiting.
+     *
+     * @return pooled asynchronous HTTP client
+     */
+    CloseableHttpAsyncClient getAsyncHttpClient() {
+        CloseableHttpAsyncClient client = this.asyncHttpClient;
+        if (client == null) {
+            List<Integer> limits = getConnectionLimits();
+            synchronized (DXEnvironment.class) {
+                client = SHARED_ASYNC_HTTP_CLIENTS.get(limits);
+                if (client == null) {
+                    ThreadFactory threadFactory = new ThreadFactoryBuilder().setDaemon(true)
+                            .setNameFormat("dxjava-async-io-%d").build();
+                    PoolingNHttpClientConnectionManager manager;
+                    try {
+                        manager = new PoolingNHttpClientConnectionManager(new DefaultConnectingIOReactor(
+                                IOReactorConfig.DEFAULT, threadFactory));
+                    } catch (IOReactorException e) {
+                        throw new RuntimeException(e);
+                    }
+                    manager.setDefaultMaxPerRoute(this.maxConnectionsPerRoute);
+                    manager.setMaxTotal(this.maxConnectionsTotal);
+                    client = HttpAsyncClients.custom().setUserAgent(USER_AGENT)
+                            .setConnectionManager(manager).setThreadFactory(threadFactory).build();
+                    client.start();
+                    SHARED_ASYNC_CONNECTION_MANAGERS.put(limits, manager);
+                    SHARED_ASYNC_HTTP_CLIENTS.put(limits, client);
+                }
+                this.asyncConnectionManager = SHARED_ASYNC_CONNECTION_MANAGERS.get(limits);
+                this.asyncHttpClient = client;
+            }
+        }
+        return client;
+    }
+
+    /**
+     * Returns the HTTP client used by all requests made through this environment (for use by
+     * {@link DXHTTPRequest} and {@link DXFile}). The client and its connection pool are shared by
+     * all environments with the same connection limits, and are never closed.
+     *
+     * <p>
+     * The client is thread-safe and keeps connections alive between requests, so callers must
+     * fully consume (or close) each response entity to return the connection to the pool.
+     * </p>
+     *
+     * @return pooled HTTP client
+     */
+    CloseableHttpClient getHttpClient() {
+        CloseableHttpClient client = this.httpClient;
+        if (client == null) {
+            List<Integer> limits = getConnectionLimits();
+            synchronized (DXEnvironment.class) {
+                client = SHARED_HTTP_CLIENTS.get(limits);
+                if (client == null) {
+                    PoolingHttpClientConnectionManager manager = new PoolingHttpClientConnectionManager();
+                    manager.setDefaultMaxPerRoute(this.maxConnectionsPerRoute);
+                    manager.setMaxTotal(this.maxConnectionsTotal);
+                    client = HttpClientBuilder.create().setUserAgent(USER_AGENT)
+                            .setConnectionManager(manager).build();
+                    SHARED_CONNECTION_MANAGERS.put(limits, manager);
+                    SHARED_HTTP_CLIENTS.put(limits, client);
+                }
+                this.connectionManager = SHARED_CONNECTION_MANAGERS.get(limits);
+                this.httpClient = client;
+            }
+        }
+        return client;
+    }
+
+    /**
+     * Returns the key of the shared connection pools that this environment uses.
+     */
+    private List<Integer> getConnectionLimits() {
+        return ImmutableList.of(this.maxConnectionsPerRoute, this.maxConnectionsTotal);
+    }
+
     /**
      * Returns a handler to the currently running job.
      *
@@ -437,6 +729,70 @@ public class DXEnvironment {
         return DXContainer.getInstanceWithEnvironment(this.workspaceId, this);
     }
 
+    /**
+     * Returns the limit on the total rate at which the file downloads made through this
+     * environment (and those derived from it with the same limit) receive data.
+     *
+     * @return maximum rate in bytes per second, or 0 if there is no limit
+     */
+    public long getMaxDownloadBytesPerSecond() {
+        return this.maxDownloadBytesPerSecond;
+    }
+
+    /**
+     * Returns the limit on the total rate at which the file uploads made through this environment
+     * (and those derived from it with the same limit) send data.
+     *
+     * @return maximum rate in bytes per second, or 0 if there is no limit
+     */
+    public long getMaxUploadBytesPerSecond() {
+        return this.maxUploadBytesPerSecond;
+    }
+
+    /**
+     * Returns the token bucket shared by the file downloads of this environment, or null if there
+     * is no limit.
+     */
+    RateLimiter getDownloadRateLimiter() {
+        return this.downloadRateLimiter;
+    }
+
+    /**
+     * Returns the token bucket shared by the file uploads of this environment, or null if there is
+     * no limit.
+     */
+    RateLimiter getUploadRateLimiter() {
+        return this.uploadRateLimiter;
+    }
+
+    /**
+     * Returns the maximum number of pooled connections per route.
+     *
+     * @return maximum number of connections per route
+     */
+    public int getMaxConnectionsPerRoute() {
+        return this.maxConnectionsPerRoute;
+    }
+
+    /**
+     * Returns the maximum number of pooled connections across all routes.
+     *
+     * @return maximum number of connections
+     */
+    public int getMaxConnectionsTotal() {
+        return this.maxConnectionsTotal;
+    }
+
+    /**
+     * Returns the scheduler shared by the file transfers made through this environment.
+     *
+     * @return the scheduler set with {@link Builder#setTransferScheduler(TransferScheduler)}, or
+     *         {@link TransferScheduler#getDefault()} if there is none
+     */
+    public TransferScheduler getTransferScheduler() {
+        return this.transferScheduler != null ? this.transferScheduler : TransferScheduler.getDefault();
+    }
+
     /**
      * Returns whether the retry of HTTP requests should be disabled.
      *
@@ -17,26 +17,36 @@
 package com.dnanexus;
 
 import java.io.ByteArrayInputStream;
-import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
-import java.util.Arrays;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.SeekableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.util.List;
 import java.util.Map;
+import java.util.TreeMap;
 
+import org.apache.commons.codec.binary.Hex;
 import org.apache.commons.codec.digest.DigestUtils;
 import org.apache.commons.io.IOUtils;
+import org.apache.http.HttpEntity;
 import org.apache.http.HttpResponse;
 import org.apache.http.NoHttpResponseException;
-import org.apache.http.client.ClientProtocolException;
 import org.apache.http.client.HttpClient;
-import org.apache.http.client.methods.HttpGet;
 import org.apache.http.client.methods.HttpPut;
 import org.apache.http.client.methods.HttpRequestBase;
 import org.apache.http.entity.ByteArrayEntity;
-import org.apache.http.impl.client.HttpClientBuilder;
+import org.apache.http.util.EntityUtils;
 
 import com.dnanexus.DXHTTPRequest.RetryStrategy;
+import com.dnanexus.DownloadUrlCache.DownloadUrl;
+import com.dnanexus.ParallelRangeInputStream.ChunkSchedule;
+import com.dnanexus.VerifyingRangeFetcher.PartChecksums;
 import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 import com.fasterxml.jackson.annotation.JsonInclude;
@@ -46,6 +56,10 @@ import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.google.common.annotations.VisibleForTesting;
 import com.google.common.base.Preconditions;
+import com.google.common.base.Supplier;
+import com.google.common.base.Suppliers;
+import com.google.common.base.Ticker;
+import com.google.common.collect.Lists;
 
 /**
  * A file (an opaque sequence of bytes).
@@ -159,6 +173,8 @@ public class DXFile extends DXDataObject {
         private String media;
         @JsonProperty
         private Long size;
+        @JsonProperty
+        private Map<Integer, PartDescribe> parts;
 
         private Describe() {
             super();
@@ -187,135 +203,402 @@ public class DXFile extends DXDataObject {
         }
     }
 
-    private class FileApiInputStream extends InputStream {
-        private FileDownloadResponse apiResponse;
+    /**
+     * Description of one part of a file, as returned in the "parts" field of /file-xxxx/describe.
+     */
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    private static class PartDescribe {
+        @JsonProperty
+        private String md5;
+        @JsonProperty
+        private long size;
+    }
 
-        private long chunkSize = minDownloadChunkSize;
-        private long nextByteFromApi;
-        private final long readEnd;
-        private int request = 1;
-        private ByteArrayInputStream unreadBytes;
+    /**
+     * Configuration options for downloading a file ({@literal e.g.}
+     * {@link DXFile#getDownloadStream(DownloadOptions)}).
+     *
+     * <p>
+     * Examples:
+     * </p>
+     *
+     * <pre>
+     * DownloadOptions.get().withParallelism(8)<br>
+     * DownloadOptions.get().withParallelism(16).withChunkSize(32 * 1024 * 1024)
+     * </pre>
+     */
+    public static class DownloadOptions {
+        /**
+         * Returns a default instance of {@code DownloadOptions}, which downloads the file over a
+         * single connection.
+         *
+         * @return a newly initialized {@code DownloadOptions} object
+         */
+        public static DownloadOptions get() {
+            return new DownloadOptions();
+        }
 
-        private FileApiInputStream(long readStart, long readEnd) {
-            // API call returns URL and headers for HTTP GET requests
-            JsonNode output = apiCallOnObject("download", MAPPER.valueToTree(new FileDownloadRequest(true)),
-                    RetryStrategy.SAFE_TO_RETRY);
-            try {
-                apiResponse = MAPPER.treeToValue(output, FileDownloadResponse.class);
-            } catch (JsonProcessingException e) {
-                throw new RuntimeException(e);
-            }
+        private final int parallelism;
+        private final int chunkSize;
+        private final int readAhead;
+        private final int blockSize;
+        private final int maxCachedBlocks;
+        private final DXFileCache cache;
+        private final boolean adaptiveSizing;
+        private final TransferStats stats;
+        private final Path journal;
+        private final boolean verifyingChecksums;
+        private final int priority;
+        private final long maxBytesPerSecond;
+
+        private DownloadOptions() {
+            this(1, 16 * 1024 * 1024, 0, 64 * 1024, 256, null, false, null, null, false, 0, 0);
+        }
 
-            if (readEnd == -1) {
-                readEnd = describe().getSize();
-            }
-            Preconditions.checkArgument(readEnd >= readStart, "The start byte cannot be larger than the end byte");
-            this.readEnd = readEnd;
-            this.nextByteFromApi = readStart;
+        private DownloadOptions(int parallelism, int chunkSize, int readAhead, int blockSize, int maxCachedBlocks,
+                DXFileCache cache, boolean adaptiveSizing, TransferStats stats, Path journal,
+                boolean verifyingChecksums, int priority, long maxBytesPerSecond) {
+            this.parallelism = parallelism;
+            this.chunkSize = chunkSize;
+            this.readAhead = readAhead;
+            this.blockSize = blockSize;
+            this.maxCachedBlocks = maxCachedBlocks;
+            this.cache = cache;
+            this.adaptiveSizing = adaptiveSizing;
+            this.stats = stats;
+            this.journal = journal;
+            this.verifyingChecksums = verifyingChecksums;
+            this.priority = priority;
+            this.maxBytesPerSecond = maxBytesPerSecond;
         }
 
-        @Override
-        public int read() throws IOException {
-            byte[] b = new byte[1];
-            int numBytesRead = read(b);
-            if (numBytesRead != -1) {
-                return b[0];
-            }
-            return -1;
+        /**
+         * Returns the statistics updated by downloads made with these options.
+         *
+         * @return stats, or null if none were specified
+         */
+        public TransferStats getStats() {
+            return stats;
         }
 
-        @Override
-        public int read(byte[] b) throws IOException {
-            return read(b, 0, b.length);
+        /**
+         * Returns whether chunk sizes and parallelism adapt to the observed throughput and latency.
+         *
+         * @return true if sizing is adaptive
+         */
+        public boolean isAdaptiveSizing() {
+            return adaptiveSizing;
         }
 
-        @Override
-        public int read(byte[] b, int off, int numBytes) throws IOException {
-            if (off < 0 || numBytes < 0 || numBytes > b.length - off) {
-                throw new IndexOutOfBoundsException();
-            }
+        /**
+         * Returns the local cache through which closed files are downloaded.
+         *
+         * @return cache, or null if downloads are not cached
+         */
+        public DXFileCache getCache() {
+            return cache;
+        }
 
-            if (numBytes == 0) {
-                return 0;
-            }
+        /**
+         * Returns whether downloads of whole files are checked against the MD5s of their parts.
+         *
+         * @return true if checksums are verified
+         */
+        public boolean isVerifyingChecksums() {
+            return verifyingChecksums;
+        }
 
-            // Ramp up download request size
-            if (chunkSize < maxDownloadChunkSize) {
-                if (request > numRequestsBetweenRamp) {
-                    request = 1;
-                    chunkSize = Math.min(chunkSize * ramp, maxDownloadChunkSize);
-                }
-            }
+        /**
+         * Returns the journal through which downloads to a path can be resumed.
+         *
+         * @return journal file, or null if downloads are not journaled
+         */
+        public Path getJournal() {
+            return journal;
+        }
 
-            long startRange = nextByteFromApi;
-            long endRange = startRange + chunkSize - 1;
+        /**
+         * Returns the size of the blocks in which channels fetch and cache the file.
+         *
+         * @return block size in bytes
+         */
+        public int getBlockSize() {
+            return blockSize;
+        }
 
-            if (startRange >= readEnd) {
-                return -1;
-            }
+        /**
+         * Returns the size of each ranged request made by a parallel download.
+         *
+         * @return chunk size in bytes
+         */
+        public int getChunkSize() {
+            return chunkSize;
+        }
 
-            // Request more data to buffer
-            if (unreadBytes == null || unreadBytes.available() == 0) {
-                unreadBytes = new ByteArrayInputStream(partDownloadRequest(apiResponse.url, startRange, endRange));
-            }
+        /**
+         * Returns the maximum number of blocks that a channel keeps in memory.
+         *
+         * @return number of cached blocks
+         */
+        public int getMaxCachedBlocks() {
+            return maxCachedBlocks;
+        }
 
-            assert (unreadBytes != null && unreadBytes.available() > 0);
-            int bytesToRead = Math.min(numBytes, unreadBytes.available());
-            int bytesRead = unreadBytes.read(b, off, bytesToRead);
+        /**
+         * Returns the limit on the rate at which each download receives data.
+         *
+         * @return maximum rate in bytes per second, or 0 if there is no limit
+         */
+        public long getMaxBytesPerSecond() {
+            return maxBytesPerSecond;
+        }
 
-            // verify expected bytes read, namely from unreadBytes.available()
-            assert (bytesRead == bytesToRead);
+        /**
+         * Returns the maximum number of concurrent ranged requests.
+         *
+         * @return number of concurrent requests
+         */
+        public int getParallelism() {
+            return parallelism;
+        }
 
-            // Increment byte range from request for next chunk of data to buffer
-            if (unreadBytes.available() == 0) {
-                nextByteFromApi = endRange + 1;
-                request++;
-            }
+        /**
+         * Returns the priority of downloads on the environment's transfer scheduler.
+         *
+         * @return priority
+         */
+        public int getPriority() {
+            return priority;
+        }
 
-            return bytesToRead;
+        /**
+         * Returns the number of chunks that download streams fetch ahead of the one being read.
+         *
+         * @return number of chunks read ahead
+         */
+        public int getReadAhead() {
+            return readAhead;
         }
-    }
 
-    private class FileApiOutputStream extends OutputStream {
-        private int index = 1;
-        private ByteArrayOutputStream unwrittenBytes = new ByteArrayOutputStream();
+        /**
+         * Returns a {@code DownloadOptions} that behaves like the current one, except that channels
+         * opened with {@link DXFile#openChannel(DownloadOptions)} fetch and cache the file in
+         * blocks of the specified size. Smaller blocks suit small random reads; larger blocks need
+         * fewer requests to read long stretches of the file.
+         *
+         * @param blockSize block size in bytes
+         *
+         * @return a new {@code DownloadOptions} object
+         */
+        public DownloadOptions withBlockSize(int blockSize) {
+            Preconditions.checkArgument(blockSize > 0, "blockSize must be positive");
+            return new DownloadOptions(this.parallelism, this.chunkSize, this.readAhead, blockSize,
+                    this.maxCachedBlocks, this.cache, this.adaptiveSizing, this.stats, this.journal,
+                    this.verifyingChecksums, this.priority, this.maxBytesPerSecond);
+        }
 
-        @Override
-        public void close() throws IOException {
-            // Flush out remaining bytes to upload
-            partUploadRequest(unwrittenBytes.toByteArray(), index);
-            unwrittenBytes = new ByteArrayOutputStream();
+        /**
+         * Returns a {@code DownloadOptions} that behaves like the current one, except that the
+         * chunk size and the number of concurrent requests adapt to the throughput and latency
+         * observed during the download, instead of following a fixed schedule.
+         *
+         * <p>
+         * Chunks start small and are sized to a multiple of the bandwidth-delay product of a
+         * connection, up to the chunk size set with {@link #withChunkSize}. Download streams also
+         * add concurrent requests, up to the larger of the parallelism and the read-ahead, for as
+         * long as doing so increases the overall throughput; downloads to files use the chunk sizes
+         * with a fixed number of connections. The decisions made can be followed through the
+         * {@link TransferStats} set with {@link #withStats}.
+         * </p>
+         *
+         * @param adaptiveSizing whether sizing is adaptive
+         *
+         * @return a new {@code DownloadOptions} object
+         */
+        public DownloadOptions withAdaptiveSizing(boolean adaptiveSizing) {
+            return new DownloadOptions(this.parallelism, this.chunkSize, this.readAhead, this.blockSize,
+                    this.maxCachedBlocks, this.cache, adaptiveSizing, this.stats, this.journal,
+                    this.verifyingChecksums, this.priority, this.maxBytesPerSecond);
         }
 
-        @Override
-        public void write(byte[] b) throws IOException {
-            write(b, 0, b.length);
+        /**
+         * Returns a {@code DownloadOptions} that behaves like the current one, except that each
+         * part of the file is checked against the MD5 recorded for it when it was uploaded, as the
+         * part is downloaded. A part that does not match is downloaded again (bypassing any cache
+         * or journal), and the download fails only if it keeps not matching.
+         *
+         * <p>
+         * Verification applies to whole-file downloads of closed files: download streams of the
+         * whole file, {@link DXFile#downloadToOutputStream(OutputStream, DownloadOptions)}, and
+         * {@link DXFile#downloadToPath(Path, DownloadOptions)}. The file is then downloaded in
+         * chunks that are its parts, with parts larger than the chunk size split into pieces of
+         * that size that are hashed as they arrive; adaptive sizing does not apply. A download
+         * stream cannot download a split part again, since it has already returned the part's first
+         * pieces, so it fails if such a part does not match. Channels are not verified.
+         * </p>
+         *
+         * @param verifyingChecksums whether to verify checksums
+         *
+         * @return a new {@code DownloadOptions} object
+         */
+        public DownloadOptions withChecksumVerification(boolean verifyingChecksums) {
+            return new DownloadOptions(this.parallelism, this.chunkSize, this.readAhead, this.blockSize,
+                    this.maxCachedBlocks, this.cache, this.adaptiveSizing, this.stats, this.journal,
+                    verifyingChecksums, this.priority, this.maxBytesPerSecond);
         }
 
-        @Override
-        public void write(byte[] b, int off, int numBytes) throws IOException {
-            unwrittenBytes.write(b, off, numBytes);
-            if (unwrittenBytes.size() >= uploadChunkSize) {
-                byte[] bytesToWrite = unwrittenBytes.toByteArray();
-                int chunkStart = 0;
-                while (bytesToWrite.length - chunkStart >= uploadChunkSize) {
-                    partUploadRequest(Arrays.copyOfRange(bytesToWrite, chunkStart, chunkStart + uploadChunkSize),
-                            index);
-                    chunkStart += uploadChunkSize;
-                    index++;
-                }
-                unwrittenBytes = new ByteArrayOutputStream();
-                IOUtils.write(Arrays.copyOfRange(bytesToWrite, chunkStart, bytesToWrite.length), unwrittenBytes);
-            }
+        /**
+         * Returns a {@code DownloadOptions} that behaves like the current one, except that
+         * {@link DXFile#downloadToPath(Path, DownloadOptions)} records the ranges it has written in
+         * the specified journal file, so that an interrupted download can be resumed by calling it
+         * again with the same local path and journal. Only the ranges missing from the journal are
+         * then downloaded. The journal is deleted once the download completes; a journal for a
+         * different file, or for a local file that no longer exists, is started over.
+         *
+         * @param journal journal file, or null to not journal downloads
+         *
+         * @return a new {@code DownloadOptions} object
+         */
+        public DownloadOptions withJournal(Path journal) {
+            return new DownloadOptions(this.parallelism, this.chunkSize, this.readAhead, this.blockSize,
+                    this.maxCachedBlocks, this.cache, this.adaptiveSizing, this.stats, journal,
+                    this.verifyingChecksums, this.priority, this.maxBytesPerSecond);
         }
 
-        @Override
-        public void write(int b) throws IOException {
-            byte[] byteAsArray = new byte[1];
-            byteAsArray[0] = (byte) b;
-            write(byteAsArray);
+        /**
+         * Returns a {@code DownloadOptions} that behaves like the current one, except that
+         * downloads record their requests (and, with adaptive sizing, their chunk size and
+         * parallelism) in the specified stats.
+         *
+         * @param stats statistics to update, or null
+         *
+         * @return a new {@code DownloadOptions} object
+         */
+        public DownloadOptions withStats(TransferStats stats) {
+            return new DownloadOptions(this.parallelism, this.chunkSize, this.readAhead, this.blockSize,
+                    this.maxCachedBlocks, this.cache, this.adaptiveSizing, stats, this.journal,
+                    this.verifyingChecksums, this.priority, this.maxBytesPerSecond);
+        }
+
+        /**
+         * Returns a {@code DownloadOptions} that behaves like the current one, except that closed
+         * files are downloaded through the specified local cache: the parts of the file found in
+         * the cache are read from it, and the parts that are downloaded are added to it. Files
+         * that are not closed are downloaded as usual.
+         *
+         * @param cache cache to use, or null to download without caching
+         *
+         * @return a new {@code DownloadOptions} object
+         */
+        public DownloadOptions withCache(DXFileCache cache) {
+            return new DownloadOptions(this.parallelism, this.chunkSize, this.readAhead, this.blockSize,
+                    this.maxCachedBlocks, cache, this.adaptiveSizing, this.stats, this.journal,
+                    this.verifyingChecksums, this.priority, this.maxBytesPerSecond);
+        }
+
+        /**
+         * Returns a {@code DownloadOptions} that behaves like the current one, except that parallel
+         * downloads request the file in chunks of the specified size. The download buffers about
+         * {@code parallelism * chunkSize} bytes in memory.
+         *
+         * @param chunkSize size of each ranged request in bytes
+         *
+         * @return a new {@code DownloadOptions} object
+         */
+        public DownloadOptions withChunkSize(int chunkSize) {
+            Preconditions.checkArgument(chunkSize > 0, "chunkSize must be positive");
+            return new DownloadOptions(this.parallelism, chunkSize, this.readAhead, this.blockSize,
+                    this.maxCachedBlocks, this.cache, this.adaptiveSizing, this.stats, this.journal,
+                    this.verifyingChecksums, this.priority, this.maxBytesPerSecond);
+        }
+
+        /**
+         * Returns a {@code DownloadOptions} that behaves like the current one, except that up to
+         * the specified number of byte ranges are downloaded concurrently, over separate
+         * connections. The data is still returned in order.
+         *
+         * @param parallelism maximum number of concurrent ranged requests
+         *
+         * @return a new {@code DownloadOptions} object
+         */
+        public DownloadOptions withParallelism(int parallelism) {
+            Preconditions.checkArgument(parallelism > 0, "parallelism must be positive");
+            return new DownloadOptions(parallelism, this.chunkSize, this.readAhead, this.blockSize,
+                    this.maxCachedBlocks, this.cache, this.adaptiveSizing, this.stats, this.journal,
+                    this.verifyingChecksums, this.priority, this.maxBytesPerSecond);
+        }
+
+        /**
+         * Returns a {@code DownloadOptions} that behaves like the current one, except that the
+         * chunks of downloads are scheduled with the specified priority on the environment's
+         * {@link TransferScheduler}: the scheduler's workers start the chunks of higher-priority
+         * transfers first. Transfers of equal priority take turns.
+         *
+         * @param priority priority of downloads (0 by default)
+         *
+         * @return a new {@code DownloadOptions} object
+         */
+        public DownloadOptions withPriority(int priority) {
+            return new DownloadOptions(this.parallelism, this.chunkSize, this.readAhead, this.blockSize,
+                    this.maxCachedBlocks, this.cache, this.adaptiveSizing, this.stats, this.journal,
+                    this.verifyingChecksums, priority, this.maxBytesPerSecond);
+        }
+
+        /**
+         * Returns a {@code DownloadOptions} that behaves like the current one, except that download
+         * streams keep requests for the specified number of chunks in flight, in the background,
+         * while the caller reads the current one. This hides the latency of each request from
+         * sequential readers. Without parallelism, chunks still start small and grow as more of the
+         * file is read; with parallelism, the number of chunks in flight is the larger of the two
+         * settings. Downloads to files are not affected.
+         *
+         * @param readAhead number of chunks to fetch ahead, or 0 to fetch each chunk when needed
+         *
+         * @return a new {@code DownloadOptions} object
+         */
+        public DownloadOptions withReadAhead(int readAhead) {
+            Preconditions.checkArgument(readAhead >= 0, "readAhead may not be negative");
+            return new DownloadOptions(this.parallelism, this.chunkSize, readAhead, this.blockSize,
+                    this.maxCachedBlocks, this.cache, this.adaptiveSizing, this.stats, this.journal,
+                    this.verifyingChecksums, this.priority, this.maxBytesPerSecond);
+        }
+
+        /**
+         * Returns a {@code DownloadOptions} that behaves like the current one, except that channels
+         * opened with {@link DXFile#openChannel(DownloadOptions)} keep up to the specified number
+         * of blocks in memory, evicting the least recently used block when the cache is full. A
+         * channel holds at most about {@code maxCachedBlocks * blockSize} bytes.
+         *
+         * @param maxCachedBlocks maximum number of cached blocks
+         *
+         * @return a new {@code DownloadOptions} object
+         */
+        public DownloadOptions withMaxCachedBlocks(int maxCachedBlocks) {
+            Preconditions.checkArgument(maxCachedBlocks > 0, "maxCachedBlocks must be positive");
+            return new DownloadOptions(this.parallelism, this.chunkSize, this.readAhead, this.blockSize,
+                    maxCachedBlocks, this.cache, this.adaptiveSizing, this.stats, this.journal,
+                    this.verifyingChecksums, this.priority, this.maxBytesPerSecond);
+        }
+
+        /**
+         * Returns a {@code DownloadOptions} that behaves like the current one, except that each
+         * download receives data no faster than the specified rate, in addition to any limit set on
+         * the environment with {@link DXEnvironment.Builder#setMaxDownloadBytesPerSecond(long)}.
+         * The limit applies to each download (stream, channel, or call to a download method)
+         * separately.
+         *
+         * @param maxBytesPerSecond maximum rate in bytes per second, or 0 for no limit
+         *
+         * @return a new {@code DownloadOptions} object
+         */
+        public DownloadOptions withMaxBytesPerSecond(long maxBytesPerSecond) {
+            Preconditions.checkArgument(maxBytesPerSecond >= 0, "maxBytesPerSecond may not be negative");
+            return new DownloadOptions(this.parallelism, this.chunkSize, this.readAhead, this.blockSize,
+                    this.maxCachedBlocks, this.cache, this.adaptiveSizing, this.stats, this.journal,
+                    this.verifyingChecksums, this.priority, maxBytesPerSecond);
         }
     }
+
     /**
      * Request to /file-xxxx/download.
      */
@@ -337,6 +620,8 @@ public class DXFile extends DXDataObject {
         private Map<String, String> headers;
         @JsonProperty
         private String url;
+        @JsonProperty
+        private Long expires;
     }
 
     @JsonInclude(Include.NON_NULL)
@@ -360,9 +645,9 @@ public class DXFile extends DXDataObject {
         @JsonProperty
         private String md5;
         @JsonProperty
-        private int size;
+        private long size;
 
-        private FileUploadRequest(int size, String md5, int index) {
+        private FileUploadRequest(long size, String md5, int index) {
             this.size = size;
             this.md5 = md5;
             this.index = index;
@@ -380,7 +665,180 @@ public class DXFile extends DXDataObject {
         private String url;
     }
 
-    private static final String USER_AGENT = DXUserAgent.getUserAgent();
+    /**
+     * Configuration options for uploading data to a file ({@literal e.g.}
+     * {@link DXFile#getUploadStream(UploadOptions)}).
+     *
+     * <p>
+     * Example:
+     * </p>
+     *
+     * <pre>
+     * UploadOptions.get().withParallelism(4).withExpectedLength(length)
+     * </pre>
+     */
+    public static class UploadOptions {
+        /**
+         * Returns a default instance of {@code UploadOptions}, which uploads one part at a time.
+         *
+         * @return a newly initialized {@code UploadOptions} object
+         */
+        public static UploadOptions get() {
+            return new UploadOptions();
+        }
+
+        private final int parallelism;
+        private final long expectedLength;
+        private final Path journal;
+        private final int priority;
+        private final long maxBytesPerSecond;
+
+        private UploadOptions() {
+            this(1, -1, null, 0, 0);
+        }
+
+        private UploadOptions(int parallelism, long expectedLength, Path journal, int priority,
+                long maxBytesPerSecond) {
+            this.parallelism = parallelism;
+            this.expectedLength = expectedLength;
+            this.journal = journal;
+            this.priority = priority;
+            this.maxBytesPerSecond = maxBytesPerSecond;
+        }
+
+        /**
+         * Returns the known or estimated number of bytes to be uploaded.
+         *
+         * @return length in bytes, or -1 if unknown
+         */
+        public long getExpectedLength() {
+            return expectedLength;
+        }
+
+        /**
+         * Returns the journal through which uploads can be resumed.
+         *
+         * @return journal file, or null if uploads are not journaled
+         */
+        public Path getJournal() {
+            return journal;
+        }
+
+        /**
+         * Returns the limit on the rate at which each upload sends data.
+         *
+         * @return maximum rate in bytes per second, or 0 if there is no limit
+         */
+        public long getMaxBytesPerSecond() {
+            return maxBytesPerSecond;
+        }
+
+        /**
+         * Returns the maximum number of parts uploaded concurrently.
+         *
+         * @return number of parts in flight
+         */
+        public int getParallelism() {
+            return parallelism;
+        }
+
+        /**
+         * Returns the priority of uploads on the environment's transfer scheduler.
+         *
+         * @return priority
+         */
+        public int getPriority() {
+            return priority;
+        }
+
+        /**
+         * Returns a {@code UploadOptions} that behaves like the current one, except that up to the
+         * specified number of parts are hashed and uploaded concurrently while more data is being
+         * written. Writes block while that many parts are in flight.
+         *
+         * @param parallelism maximum number of parts in flight
+         *
+         * @return a new {@code UploadOptions} object
+         */
+        public UploadOptions withParallelism(int parallelism) {
+            Preconditions.checkArgument(parallelism > 0, "parallelism must be positive");
+            return new UploadOptions(parallelism, this.expectedLength, this.journal, this.priority,
+                    this.maxBytesPerSecond);
+        }
+
+        /**
+         * Returns a {@code UploadOptions} that behaves like the current one, except that the parts
+         * of uploads are scheduled with the specified priority on the environment's
+         * {@link TransferScheduler}: the scheduler's workers start the parts of higher-priority
+         * transfers first. Transfers of equal priority take turns.
+         *
+         * @param priority priority of uploads (0 by default)
+         *
+         * @return a new {@code UploadOptions} object
+         */
+        public UploadOptions withPriority(int priority) {
+            return new UploadOptions(this.parallelism, this.expectedLength, this.journal, priority,
+                    this.maxBytesPerSecond);
+        }
+
+        /**
+         * Returns a {@code UploadOptions} that behaves like the current one, except that part sizes
+         * are planned for an upload of about the specified number of bytes.
+         *
+         * <p>
+         * Without an expected length, part sizes start small and grow as more data is written, so
+         * that a stream of any length fits in the platform's maximum number of parts. With one,
+         * parts are sized so that the expected length fits, and grow only if more data than
+         * expected is written.
+         * </p>
+         *
+         * @param expectedLength number of bytes expected to be uploaded, or -1 if unknown
+         *
+         * @return a new {@code UploadOptions} object
+         */
+        public UploadOptions withExpectedLength(long expectedLength) {
+            Preconditions.checkArgument(expectedLength >= -1, "expectedLength may not be negative");
+            return new UploadOptions(this.parallelism, expectedLength, this.journal, this.priority,
+                    this.maxBytesPerSecond);
+        }
+
+        /**
+         * Returns a {@code UploadOptions} that behaves like the current one, except that
+         * {@link DXFile#upload(InputStream, UploadOptions)} and
+         * {@link DXFile#uploadFromPath(Path, UploadOptions)} record the parts they have uploaded,
+         * with their MD5s, in the specified journal file. If the upload is interrupted, it can be
+         * resumed by uploading the same data to the same (still open) file with the same journal:
+         * parts whose contents match the journal are not sent again. The journal also records the
+         * part sizes and the expected length of the upload, and resuming fails with an
+         * {@code IOException} if they differ (for example, because the expected length or the chunk
+         * size was changed), since parts already uploaded would not line up with the new ones. The
+         * journal is deleted once all the parts have been uploaded. Upload streams obtained with
+         * {@link DXFile#getUploadStream(UploadOptions)} do not support journals.
+         *
+         * @param journal journal file, or null to not journal uploads
+         *
+         * @return a new {@code UploadOptions} object
+         */
+        public UploadOptions withJournal(Path journal) {
+            return new UploadOptions(this.parallelism, this.expectedLength, journal, this.priority,
+                    this.maxBytesPerSecond);
+        }
+
+        /**
+         * Returns a {@code UploadOptions} that behaves like the current one, except that each
+         * upload sends data no faster than the specified rate, in addition to any limit set on the
+         * environment with {@link DXEnvironment.Builder#setMaxUploadBytesPerSecond(long)}.
+         *
+         * @param maxBytesPerSecond maximum rate in bytes per second, or 0 for no limit
+         *
+         * @return a new {@code UploadOptions} object
+         */
+        public UploadOptions withMaxBytesPerSecond(long maxBytesPerSecond) {
+            Preconditions.checkArgument(maxBytesPerSecond >= 0, "maxBytesPerSecond may not be negative");
+            return new UploadOptions(this.parallelism, this.expectedLength, this.journal, this.priority,
+                    maxBytesPerSecond);
+        }
+    }
 
     /**
      * Deserializes a DXFile from JSON containing a DNAnexus link.
@@ -503,36 +961,6 @@ public class DXFile extends DXDataObject {
         return new Builder(env);
     }
 
-    /**
-     * HTTP GET request to download part of the file.
-     *
-     * @param url URL to which an HTTP GET request is made to download the file
-     * @param chunkStart beginning of the part (in the byte array containing the file contents) to
-     *        be downloaded. This index is inclusive in the range.
-     * @param chunkEnd end of the part (in the byte array containing the file contents) to be
-     *        downloaded. This index is inclusive in the range.
-     *
-     * @return byte array containing the part of the file contents that is downloaded
-     *
-     * @throws ClientProtocolException HTTP request to the download URL cannot be executed
-     * @throws IOException unable to get file contents from HTTP response
-     */
-    private static byte[] partDownloadRequest(String url, long start, long end)
-            throws ClientProtocolException, IOException {
-        Preconditions.checkState(end - start <= (long) 2 * 1024 * 1024 * 1024,
-                "Download chunk size cannot be larger than 2GB");
-        HttpClient httpclient = HttpClientBuilder.create().setUserAgent(USER_AGENT).build();
-
-        // HTTP GET request with bytes/_ge range header
-        HttpGet request = new HttpGet(url);
-        request.addHeader("Range", "bytes=" + start + "-" + end);
-
-        HttpResponse response = executeRequestWithRetry(httpclient, request);
-        InputStream content = response.getEntity().getContent();
-
-        return IOUtils.toByteArray(content);
-    }
-
     /**
      * Sleeps for the specified amount of time. Throws a {@link RuntimeException} if interrupted.
      *
@@ -545,18 +973,20 @@ public class DXFile extends DXDataObject {
             throw new RuntimeException(e);
         }
     }
-    // Variables for download
-    private final int maxDownloadChunkSize = 16 * 1024 * 1024;
-    private final int minDownloadChunkSize = 64 * 1024;
-    private final int numRequestsBetweenRamp = 4;
-
-    // Ramp up factor for downloading by parts
-    private final int ramp = 2;
-
     // Variables for upload
     @VisibleForTesting
     int uploadChunkSize = 16 * 1024 * 1024;
 
+    // The download URL, obtained when first needed and shared by all downloads of this object
+    private final DownloadUrlCache downloadUrls = new DownloadUrlCache(new Supplier<DownloadUrl>() {
+        @Override
+        public DownloadUrl get() {
+            return requestDownloadUrl();
+        }
+    }, Ticker.systemTicker());
+    // Description of the file, kept once the file is closed (and its contents can no longer change)
+    private volatile Describe closedDescribe;
+
     private DXFile(String fileId, DXContainer project, DXEnvironment env, JsonNode describe) {
         super(fileId, "file", project, env, describe);
     }
@@ -626,7 +1056,7 @@ public class DXFile extends DXDataObject {
      * @throws IOException
      */
     public void downloadToOutputStream(OutputStream os) throws IOException {
-        downloadToOutputStream(os, 0, describe().getSize());
+        downloadToOutputStream(os, 0, describeForDownload().getSize());
     }
 
     /**
@@ -645,6 +1075,92 @@ public class DXFile extends DXDataObject {
         IOUtils.copyLarge(is, os);
     }
 
+    /**
+     * Downloads the entire file, using the specified options, and writes the data to an
+     * OutputStream.
+     *
+     * @param os output stream downloaded file contents are written into
+     * @param options options controlling how the file is downloaded
+     *
+     * @throws IOException if an error occurs while downloading the data
+     */
+    public void downloadToOutputStream(OutputStream os, DownloadOptions options) throws IOException {
+        try (InputStream is = getDownloadStream(0, -1, options)) {
+            IOUtils.copyLarge(is, os);
+        }
+    }
+
+    /**
+     * Downloads the entire file to the specified local path, overwriting any existing file.
+     *
+     * @param path local file to which the contents are written
+     *
+     * @throws IOException if an error occurs while downloading or writing the data
+     */
+    public void downloadToPath(Path path) throws IOException {
+        downloadToPath(path, DownloadOptions.get());
+    }
+
+    /**
+     * Downloads the entire file to the specified local path, overwriting any existing file, using
+     * the specified options.
+     *
+     * <p>
+     * The local file is first sized to the size of the remote file, and each range is written
+     * directly to its position in the file as soon as it arrives, so parallel downloads are not
+     * reassembled in memory and memory use does not depend on the size of the file. If the download
+     * fails, the local file is left incomplete; with {@link DownloadOptions#withJournal}, calling
+     * this method again resumes the download.
+     * </p>
+     *
+     * @param path local file to which the contents are written
+     * @param options options controlling how the file is downloaded
+     *
+     * @throws IOException if an error occurs while downloading or writing the data
+     */
+    public void downloadToPath(Path path, DownloadOptions options) throws IOException {
+        Preconditions.checkNotNull(path, "path may not be null");
+        Preconditions.checkNotNull(options, "options may not be null");
+        Describe describe = options.isVerifyingChecksums() ? describeForVerification() : describeForDownload();
+        TransferStats stats = getStats(options);
+        BandwidthThrottle throttle = getDownloadThrottle(options);
+        ChannelRangeFetcher fetcher = getRangeFetcher(options, describe, stats, throttle);
+        long size = describe.getSize();
+        TransferJournal journal = null;
+        if (options.getJournal() != null) {
+            // Ranges recorded for a local file that has since been deleted must be downloaded again
+            journal = TransferJournal.open(options.getJournal(), "download " + getId() + " " + size,
+                    Files.exists(path));
+            fetcher = new JournaledRangeFetcher(fetcher, journal);
+        }
+        ChunkSchedule schedule;
+        if (options.isVerifyingChecksums()) {
+            PartChecksums parts = getPartChecksums(describe);
+            fetcher = getVerifyingRangeFetcher(fetcher, parts, stats, throttle);
+            schedule = parts.toChunkSchedule(options.getChunkSize());
+        } else if (options.isAdaptiveSizing()) {
+            schedule = new AdaptiveChunkSizer(stats, options.getChunkSize(), options.getParallelism(),
+                    Ticker.systemTicker());
+        } else {
+            schedule = ParallelRangeInputStream.fixedChunkSize(options.getChunkSize());
+        }
+        // Readable too, so that verified parts can be hashed where they were written
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.READ,
+                StandardOpenOption.WRITE)) {
+            // Preallocate the file so that ranges can be written at their final positions in any
+            // order
+            channel.truncate(size);
+            if (size > 0 && channel.size() < size) {
+                channel.write(ByteBuffer.wrap(new byte[1]), size - 1);
+            }
+            new ChannelDownloader(fetcher, channel, 0, size, schedule).download(options.getParallelism(),
+                    newTransfer(options.getPriority()));
+        }
+        if (journal != null) {
+            journal.delete();
+        }
+    }
+
     @Override
     public Describe getCachedDescribe() {
         this.checkCachedDescribeAvailable();
@@ -672,7 +1188,264 @@ public class DXFile extends DXDataObject {
      * @return stream containing file contents within range specified
      */
     public InputStream getDownloadStream(long start, long end) {
-        return new FileApiInputStream(start, end);
+        return getDownloadStream(start, end, DownloadOptions.get());
+    }
+
+    /**
+     * Returns a stream of the file's contents, downloaded using the specified options.
+     *
+     * @param options options controlling how the file is downloaded
+     *
+     * @return stream containing file contents
+     */
+    public InputStream getDownloadStream(DownloadOptions options) {
+        // -1 indicates the end of the file
+        return getDownloadStream(0, -1, options);
+    }
+
+    /**
+     * Returns a stream of the specified byte range of the file's contents, downloaded using the
+     * specified options.
+     *
+     * <p>
+     * With a parallelism greater than 1, the range is fetched in chunks over several connections
+     * at once; with read-ahead, the next chunks are fetched while the current one is read. The
+     * stream should be closed when it is no longer needed, so that any downloads still in progress
+     * are abandoned.
+     * </p>
+     *
+     * <p>
+     * The download URL, and the size of the file once it is closed, are obtained once per
+     * {@code DXFile} object and shared by all of its downloads; the URL is replaced when it expires
+     * or is rejected.
+     * </p>
+     *
+     * @param start first byte of the range within the file to be downloaded. The start byte is
+     *        inclusive in the range, and 0 is indexed as the first byte in the file.
+     * @param end last byte of the range within the file to be downloaded. The end byte is exclusive
+     *        (not included in the range). An input of -1 specifies the end of the file.
+     * @param options options controlling how the file is downloaded
+     *
+     * @return stream containing file contents within range specified
+     */
+    public InputStream getDownloadStream(long start, long end, DownloadOptions options) {
+        Preconditions.checkNotNull(options, "options may not be null");
+        if (options.isVerifyingChecksums()) {
+            Describe describe = describeForVerification();
+            Preconditions.checkArgument(start == 0 && (end == -1 || end == describe.getSize()),
+                    "Only downloads of whole files can be verified");
+            PartChecksums parts = getPartChecksums(describe);
+            BandwidthThrottle throttle = getDownloadThrottle(options);
+            ChannelRangeFetcher fetcher = getVerifyingRangeFetcher(getRangeFetcher(options, describe,
+                    options.getStats(), throttle), parts, options.getStats(), throttle);
+            return new ParallelRangeInputStream(fetcher, 0,
+                    describe.getSize(), parts.toChunkSchedule(options.getChunkSize()), Math.max(1,
+                            Math.max(options.getParallelism(), options.getReadAhead())),
+                    newTransfer(options.getPriority()));
+        }
+        // The cache needs the state of the file
+        Describe describe = end == -1 || options.getCache() != null ? describeForDownload() : null;
+        TransferStats stats = getStats(options);
+        RangeFetcher fetcher = getRangeFetcher(options, describe, stats, getDownloadThrottle(options));
+        if (end == -1) {
+            end = describe.getSize();
+        }
+        Preconditions.checkArgument(end >= start, "The start byte cannot be larger than the end byte");
+        if (options.isAdaptiveSizing()) {
+            return new ParallelRangeInputStream(fetcher, start, end, new AdaptiveChunkSizer(stats,
+                    options.getChunkSize(), Math.max(options.getParallelism(), options.getReadAhead()),
+                    Ticker.systemTicker()), newTransfer(options.getPriority()));
+        }
+        if (options.getParallelism() == 1) {
+            if (options.getReadAhead() == 0) {
+                return new RampingRangeInputStream(fetcher, start, end);
+            }
+            return new ParallelRangeInputStream(fetcher, start, end, RampingRangeInputStream.RAMP_SCHEDULE,
+                    options.getReadAhead(), newTransfer(options.getPriority()));
+        }
+        return new ParallelRangeInputStream(fetcher, start, end,
+                ParallelRangeInputStream.fixedChunkSize(options.getChunkSize()),
+                Math.max(options.getParallelism(), options.getReadAhead()), newTransfer(options.getPriority()));
+    }
+
+    /**
+     * Returns a read-only channel for random access to the file's contents.
+     *
+     * @return channel over the file's contents
+     *
+     * @see #openChannel(DownloadOptions)
+     */
+    public SeekableByteChannel openChannel() {
+        return openChannel(DownloadOptions.get());
+    }
+
+    /**
+     * Returns a read-only channel for random access to the file's contents, suited to reading
+     * small regions at scattered positions (e.g. after consulting an index).
+     *
+     * <p>
+     * The download URL and the file size are obtained once, when the channel is opened. Reads are
+     * served from an in-memory LRU cache of fixed-size blocks, and the blocks that are not cached
+     * are fetched with one ranged request per run of adjacent blocks. The block size and the cache
+     * capacity are taken from the specified options ({@link DownloadOptions#withBlockSize},
+     * {@link DownloadOptions#withMaxCachedBlocks}). The channel should be closed when it is no
+     * longer needed, to release its cache.
+     * </p>
+     *
+     * @param options options controlling how the file is downloaded
+     *
+     * @return channel over the file's contents
+     */
+    public SeekableByteChannel openChannel(DownloadOptions options) {
+        Preconditions.checkNotNull(options, "options may not be null");
+        Describe describe = describeForDownload();
+        return new DXFileChannel(getRangeFetcher(options, describe, options.getStats(),
+                getDownloadThrottle(options)), describe.getSize(),
+                options.getBlockSize(),
+                options.getMaxCachedBlocks());
+    }
+
+    /**
+     * Returns a fetcher for byte ranges of the file, which reads through the cache specified in the
+     * options if there is one and the file is closed. Otherwise a download URL is obtained right
+     * away, so that a file that cannot be downloaded is reported when the download starts.
+     *
+     * @param options options controlling how the file is downloaded
+     * @param describe description of the file, including its state and size, or null if the
+     *        options specify no cache
+     * @param stats statistics in which to record requests, or null
+     * @param throttle limit on the rate at which data is downloaded
+     *
+     * @return range fetcher using this environment's pooled HTTP client
+     */
+    private ChannelRangeFetcher getRangeFetcher(DownloadOptions options, Describe describe, TransferStats stats,
+            BandwidthThrottle throttle) {
+        HttpRangeFetcher fetcher = new HttpRangeFetcher(env.getHttpClient(), downloadUrls, stats, throttle);
+        if (options.getCache() == null || describe.getState() != DataObjectState.CLOSED) {
+            downloadUrls.get();
+            return fetcher;
+        }
+        // The download URL is only obtained once a block has to be fetched
+        return new CachingRangeFetcher(options.getCache(), getId(), describe.getSize(),
+                Suppliers.ofInstance(fetcher));
+    }
+
+    /**
+     * Returns the stats in which a download records its requests: those specified in the options,
+     * or new ones if adaptive sizing needs them.
+     */
+    private static TransferStats getStats(DownloadOptions options) {
+        if (options.getStats() == null && options.isAdaptiveSizing()) {
+            return new TransferStats();
+        }
+        return options.getStats();
+    }
+
+    /**
+     * Returns the throttle for a download: the environment's download limit, shared by all its
+     * downloads, and the limit for this download in the options.
+     */
+    private BandwidthThrottle getDownloadThrottle(DownloadOptions options) {
+        return BandwidthThrottle.of(env.getDownloadRateLimiter(),
+                BandwidthThrottle.newRateLimiter(options.getMaxBytesPerSecond()));
+    }
+
+    /**
+     * Returns the throttle for an upload: the environment's upload limit, shared by all its
+     * uploads, and the limit for this upload in the options.
+     */
+    private BandwidthThrottle getUploadThrottle(UploadOptions options) {
+        return BandwidthThrottle.of(env.getUploadRateLimiter(),
+                BandwidthThrottle.newRateLimiter(options.getMaxBytesPerSecond()));
+    }
+
+    /**
+     * Returns a transfer with the specified priority on the environment's transfer scheduler (the
+     * default scheduler, unless the environment has one of its own).
+     */
+    private TransferScheduler.Transfer newTransfer(int priority) {
+        return env.getTransferScheduler().newTransfer(priority);
+    }
+
+    /**
+     * Obtains a new download URL for the file.
+     *
+     * @return preauthenticated URL, with the headers to send with it and its validity
+     */
+    private DownloadUrl requestDownloadUrl() {
+        // API call returns URL and headers for HTTP GET requests
+        JsonNode output = apiCallOnObject("download", MAPPER.valueToTree(new FileDownloadRequest(true)),
+                RetryStrategy.SAFE_TO_RETRY);
+        FileDownloadResponse apiResponse;
+        try {
+            apiResponse = MAPPER.treeToValue(output, FileDownloadResponse.class);
+        } catch (JsonProcessingException e) {
+            throw new RuntimeException(e);
+        }
+        Long validForMillis = apiResponse.expires == null ? null : apiResponse.expires - System.currentTimeMillis();
+        return new DownloadUrl(apiResponse.url, apiResponse.headers, validForMillis);
+    }
+
+    /**
+     * Returns a description of the file that includes its state and size. Once the file is known to
+     * be closed, the same description is returned without calling the API again.
+     *
+     * @return description of the file
+     */
+    private Describe describeForDownload() {
+        Describe describe = closedDescribe;
+        if (describe == null) {
+            describe = describe();
+            if (describe.getState() == DataObjectState.CLOSED) {
+                closedDescribe = describe;
+            }
+        }
+        return describe;
+    }
+
+    /**
+     * Returns a description of the file that includes its state, size, and parts, checking that the
+     * file is closed (so that its parts are final).
+     *
+     * @return description of the file
+     */
+    private Describe describeForVerification() {
+        Describe describe = describe(DescribeOptions.get().withCustomFields("state", "size", "parts"));
+        if (describe.getState() != DataObjectState.CLOSED) {
+            throw new IllegalStateException("Only closed files can be verified");
+        }
+        return describe;
+    }
+
+    /**
+     * Returns the boundaries and MD5s of the parts of a file.
+     *
+     * @param describe description of the file including its parts
+     *
+     * @return parts of the file
+     */
+    private static PartChecksums getPartChecksums(Describe describe) {
+        Preconditions.checkState(describe.parts != null,
+                "parts are not accessible because they were not retrieved with the describe call");
+        List<Long> sizes = Lists.newArrayList();
+        List<String> md5s = Lists.newArrayList();
+        for (PartDescribe part : new TreeMap<Integer, PartDescribe>(describe.parts).values()) {
+            sizes.add(part.size);
+            md5s.add(part.md5);
+        }
+        PartChecksums parts = new PartChecksums(sizes, md5s);
+        Preconditions.checkState(parts.getSize() == describe.getSize(), "The parts do not add up to the file size");
+        return parts;
+    }
+
+    /**
+     * Returns a fetcher that verifies the parts fetched by the specified one, fetching the parts
+     * that do not match again directly over HTTP.
+     */
+    private ChannelRangeFetcher getVerifyingRangeFetcher(ChannelRangeFetcher fetcher, PartChecksums parts,
+            TransferStats stats, BandwidthThrottle throttle) {
+        return new VerifyingRangeFetcher(fetcher, new HttpRangeFetcher(env.getHttpClient(), downloadUrls, stats,
+                throttle), parts);
     }
 
     /**
@@ -686,23 +1459,125 @@ public class DXFile extends DXDataObject {
      * @return OutputStream to which file contents are written
      */
     public OutputStream getUploadStream() {
-        return new FileApiOutputStream();
+        return getUploadStream(UploadOptions.get());
+    }
+
+    /**
+     * Returns an OutputStream that uploads any data written to it, using the specified options.
+     *
+     * <p>
+     * The file must be in the "open" state. This method assumes exclusive access to the file: the
+     * file must have no parts uploaded before this call is made, and no other clients may upload
+     * data to the same file concurrently.
+     * </p>
+     *
+     * <p>
+     * With a parallelism greater than 1, parts are uploaded in the background while data is being
+     * written. The stream must be closed to upload the last part; {@code close} waits for all
+     * parts to finish uploading and throws the first error encountered by any of them.
+     * </p>
+     *
+     * <p>
+     * Part sizes are planned from {@link UploadOptions#getExpectedLength()} so that the data fits
+     * in the platform's maximum number of parts; when the length is unknown, parts grow as more
+     * data is written. Up to (parallelism + 1) parts are held in memory at a time.
+     * </p>
+     *
+     * @param options options controlling how the data is uploaded
+     *
+     * @return OutputStream to which file contents are written
+     */
+    public OutputStream getUploadStream(UploadOptions options) {
+        Preconditions.checkNotNull(options, "options may not be null");
+        Preconditions.checkArgument(options.getJournal() == null, "Upload streams do not support journals");
+        return getUploadStream(options, newUploadStreamPlanner(options), null);
+    }
+
+    /**
+     * Returns the planner of the part sizes of an upload stream with the specified options.
+     */
+    private UploadPartPlanner newUploadStreamPlanner(UploadOptions options) {
+        return new UploadPartPlanner(options.getExpectedLength(), uploadChunkSize,
+                UploadPartPlanner.MAX_BUFFERED_PART_SIZE, UploadPartPlanner.MAX_NUM_PARTS);
+    }
+
+    /**
+     * Returns an OutputStream that uploads any data written to it in parts of the sizes chosen by
+     * the specified planner, skipping the parts recorded in the specified journal.
+     */
+    private OutputStream getUploadStream(UploadOptions options, UploadPartPlanner planner,
+            final TransferJournal journal) {
+        final BandwidthThrottle throttle = getUploadThrottle(options);
+        PartUploader uploader = new PartUploader() {
+            @Override
+            public void uploadPart(int index, byte[] data, int length) throws IOException {
+                partUploadRequest(data, length, index, journal, throttle);
+            }
+        };
+        if (options.getParallelism() == 1) {
+            return new PartOutputStream(uploader, planner);
+        }
+        return new PipelinedUploadOutputStream(uploader, planner, options.getParallelism(),
+                newTransfer(options.getPriority()));
     }
 
     /**
      * HTTP PUT request to upload the data part to the server.
      *
-     * @param dataChunk data part that is uploaded
+     * @param dataChunk buffer holding the data part that is uploaded
+     * @param length length of the data part (starting at the beginning of {@code dataChunk})
      * @param index position for which the data lies in the file
+     * @param journal journal of the parts already uploaded, or null
+     * @param throttle limit on the rate at which the data is sent
      * @throws IOException if unable to execute HTTP request
      */
-    private void partUploadRequest(byte[] dataChunk, int index) throws IOException {
+    private void partUploadRequest(byte[] dataChunk, int length, int index, TransferJournal journal,
+            BandwidthThrottle throttle) throws IOException {
         // MD5 digest as 32 character hex string
-        String dataMD5 = DigestUtils.md5Hex(dataChunk);
+        MessageDigest md5 = DigestUtils.getMd5Digest();
+        md5.update(dataChunk, 0, length);
+        String dataMD5 = Hex.encodeHexString(md5.digest());
+        partUploadRequest(new ByteArrayEntity(dataChunk, 0, length), length, dataMD5, index, journal, throttle);
+    }
+
+    /**
+     * Uploads a data part unless the journal shows that the same data has already been uploaded as
+     * that part, and records it in the journal once it has been uploaded.
+     *
+     * @param data entity containing the data part that is uploaded
+     * @param size size of the data part in bytes
+     * @param dataMD5 MD5 digest of the data part as a hex string
+     * @param index position for which the data lies in the file
+     * @param journal journal of the parts already uploaded, or null
+     * @param throttle limit on the rate at which the data is sent
+     * @throws IOException if unable to execute HTTP request or to write the journal
+     */
+    private void partUploadRequest(HttpEntity data, long size, String dataMD5, int index, TransferJournal journal,
+            BandwidthThrottle throttle) throws IOException {
+        if (journal == null) {
+            partUploadRequest(throttle.throttle(data), size, dataMD5, index);
+            return;
+        }
+        if (dataMD5.equals(journal.getPartMd5(index))) {
+            return;
+        }
+        partUploadRequest(throttle.throttle(data), size, dataMD5, index);
+        journal.recordPart(index, dataMD5);
+    }
 
+    /**
+     * HTTP PUT request to upload the data part, supplied as an entity, to the server.
+     *
+     * @param data entity containing the data part that is uploaded
+     * @param size size of the data part in bytes
+     * @param dataMD5 MD5 digest of the data part as a hex string
+     * @param index position for which the data lies in the file
+     * @throws IOException if unable to execute HTTP request
+     */
+    private void partUploadRequest(HttpEntity data, long size, String dataMD5, int index) throws IOException {
         // API call returns URL and headers
         JsonNode output =
-                apiCallOnObject("upload", MAPPER.valueToTree(new FileUploadRequest(dataChunk.length, dataMD5, index)),
+                apiCallOnObject("upload", MAPPER.valueToTree(new FileUploadRequest(size, dataMD5, index)),
                         RetryStrategy.SAFE_TO_RETRY);
 
         FileUploadResponse apiResponse;
@@ -715,8 +1590,8 @@ public class DXFile extends DXDataObject {
         // Check that the content-length received by the apiserver is the same
         // as the length of the data
         if (apiResponse.headers.containsKey("content-length")) {
-            int apiserverContentLength = Integer.parseInt(apiResponse.headers.get("content-length"));
-            if (apiserverContentLength != dataChunk.length) {
+            long apiserverContentLength = Long.parseLong(apiResponse.headers.get("content-length"));
+            if (apiserverContentLength != size) {
                 throw new AssertionError(
                         "Content-length received by the apiserver did not match that of the input data");
             }
@@ -724,7 +1599,7 @@ public class DXFile extends DXDataObject {
 
         // HTTP PUT request to upload URL and headers
         HttpPut request = new HttpPut(apiResponse.url);
-        request.setEntity(new ByteArrayEntity(dataChunk));
+        request.setEntity(data);
 
         // Set headers
         for (Map.Entry<String, String> header : apiResponse.headers.entrySet()) {
@@ -739,8 +1614,13 @@ public class DXFile extends DXDataObject {
             request.setHeader(key, header.getValue());
         }
 
-        HttpClient httpclient = HttpClientBuilder.create().setUserAgent(USER_AGENT).build();
-        executeRequestWithRetry(httpclient, request);
+        HttpResponse response = executeRequestWithRetry(env.getHttpClient(), request);
+        // Consume the response so that the connection is returned to the pool
+        EntityUtils.consume(response.getEntity());
+        int statusCode = response.getStatusLine().getStatusCode();
+        if (statusCode < 200 || statusCode >= 300) {
+            throw new IOException("Unexpected HTTP status " + statusCode + " when uploading part " + index);
+        }
     }
 
     /**
@@ -758,7 +1638,13 @@ public class DXFile extends DXDataObject {
      */
     public void upload(byte[] data) throws IOException {
         Preconditions.checkNotNull(data, "data may not be null");
-        try (OutputStream uploadOutputStream = this.getUploadStream()) {
+        if (data.length <= uploadChunkSize) {
+            // Data that fits in one part is sent straight from the array, without a part buffer
+            partUploadRequest(data, data.length, 1, null, getUploadThrottle(UploadOptions.get()));
+            return;
+        }
+        try (OutputStream uploadOutputStream = this.getUploadStream(UploadOptions.get().withExpectedLength(
+                data.length))) {
             IOUtils.write(data, uploadOutputStream);
         }
     }
@@ -782,4 +1668,103 @@ public class DXFile extends DXDataObject {
             IOUtils.copyLarge(data, uploadOutputStream);
         }
     }
+
+    /**
+     * Uploads data from the specified stream to the file, using the specified options.
+     *
+     * <p>
+     * The file must be in the "open" state. This method assumes exclusive access to the file: the
+     * file must have no parts uploaded before this call is made, and no other clients may upload
+     * data to the same file concurrently.
+     * </p>
+     *
+     * @param data stream containing data to be uploaded
+     * @param options options controlling how the data is uploaded
+     *
+     * @throws IOException if an error occurs while uploading the data
+     */
+    public void upload(InputStream data, UploadOptions options) throws IOException {
+        Preconditions.checkNotNull(data, "data may not be null");
+        Preconditions.checkNotNull(options, "options may not be null");
+        UploadPartPlanner planner = newUploadStreamPlanner(options);
+        TransferJournal journal = openUploadJournal(options, planner, options.getExpectedLength());
+        try (OutputStream uploadOutputStream = this.getUploadStream(options, planner, journal)) {
+            IOUtils.copyLarge(data, uploadOutputStream);
+        }
+        if (journal != null) {
+            journal.delete();
+        }
+    }
+
+    /**
+     * Uploads the contents of the specified local file to the file.
+     *
+     * <p>
+     * The file must be in the "open" state. This method assumes exclusive access to the file: the
+     * file must have no parts uploaded before this call is made, and no other clients may upload
+     * data to the same file concurrently.
+     * </p>
+     *
+     * @param path local file whose contents are uploaded
+     *
+     * @throws IOException if an error occurs while reading or uploading the data
+     */
+    public void uploadFromPath(Path path) throws IOException {
+        uploadFromPath(path, UploadOptions.get());
+    }
+
+    /**
+     * Uploads the contents of the specified local file to the file, using the specified options.
+     *
+     * <p>
+     * The file must be in the "open" state. This method assumes exclusive access to the file: the
+     * file must have no parts uploaded before this call is made, and no other clients may upload
+     * data to the same file concurrently. The local file must not be modified during the upload.
+     * </p>
+     *
+     * <p>
+     * Each part is read directly from its slice of the local file, both to compute its MD5 and to
+     * send it, so memory use does not depend on the size of the file or of the parts.
+     * </p>
+     *
+     * @param path local file whose contents are uploaded
+     * @param options options controlling how the data is uploaded
+     *
+     * @throws IOException if an error occurs while reading or uploading the data
+     */
+    public void uploadFromPath(Path path, UploadOptions options) throws IOException {
+        Preconditions.checkNotNull(path, "path may not be null");
+        Preconditions.checkNotNull(options, "options may not be null");
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            long length = channel.size();
+            // Parts are read from the file rather than buffered, so they may be as large as allowed
+            long partSize = new UploadPartPlanner(length, uploadChunkSize, UploadPartPlanner.MAX_PART_SIZE,
+                    UploadPartPlanner.MAX_NUM_PARTS).getPartSize(1);
+            final TransferJournal journal = openUploadJournal(options, UploadPartPlanner.fixedPartSize(partSize),
+                    length);
+            final BandwidthThrottle throttle = getUploadThrottle(options);
+            new ChannelUploader(channel, length, partSize, new ChannelUploader.SliceUploader() {
+                @Override
+                public void uploadPart(int index, HttpEntity data, long size, String md5) throws IOException {
+                    partUploadRequest(data, size, md5, index, journal, throttle);
+                }
+            }).upload(options.getParallelism(), newTransfer(options.getPriority()));
+            if (journal != null) {
+                journal.delete();
+            }
+        }
+    }
+
+    /**
+     * Opens the journal specified in the options, if any, resuming the upload it records if that
+     * upload used the same part sizes and expected length.
+     */
+    private TransferJournal openUploadJournal(UploadOptions options, UploadPartPlanner planner, long expectedLength)
+            throws IOException {
+        if (options.getJournal() == null) {
+            return null;
+        }
+        return TransferJournal.open(options.getJournal(), "upload " + getId(),
+                planner + " length=" + expectedLength, true);
+    }
 }
@@ -0,0 +1,400 @@
+// Copyright (C) 2013-2016 DNAnexus, Inc.
+//
+// This file is part of dx-toolkit (DNAnexus platform client libraries).
+//
+// Licensed under the Apache License, Version 2.0 (the "License"); you may
+// not use this file except in compliance with the License. You may obtain a
+// copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+// WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+// License for the specific language governing permissions and limitations
+// under the License.
+package com.dnanexus;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonInclude.Include;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.google.common.base.Preconditions;
+import com.google.common.base.Supplier;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.Lists;
+
+/**
+ * Uploads many (typically small) files to a project, overlapping the work for different files.
+ *
+ * <p>
+ * Uploading a file takes several round trips: {@code /file/new}, {@code /file-xxxx/upload}, the
+ * upload itself, and {@code /file-xxxx/close}, after which {@link DXFile#closeAndWait()} polls
+ * until the file is closed. For small files the round trips dominate, so uploading files one at a
+ * time is slow. A bulk uploader runs up to {@code parallelism} files through these steps at once,
+ * closes each file without waiting for it, and then confirms that all the files have closed with
+ * batched {@code /system/describeDataObjects} calls.
+ * </p>
+ *
+ * <p>
+ * A failure uploading one file doesn't affect the others: {@link #upload(List)} returns a
+ * {@link Result} for every entry, with either the closed file or the error that stopped it.
+ * </p>
+ *
+ * <p>
+ * Example:
+ * </p>
+ *
+ * <pre>
+ * List&lt;Result&gt; results = DXFileBulkUploader.create(project, 16).upload(ImmutableList.of(
+ *         Entry.of("a.txt", "/data", bytesA), Entry.of("b.txt", "/data", pathB)));
+ * </pre>
+ */
+public class DXFileBulkUploader {
+
+    /**
+     * Maximum number of files described per {@code /system/describeDataObjects} call.
+     */
+    static final int MAX_DESCRIBE_BATCH = 1000;
+    // Interval between checks for files that are still closing, which doubles up to the maximum
+    private static final long INITIAL_POLL_MILLIS = 250;
+    private static final long MAX_POLL_MILLIS = 2000;
+
+    /**
+     * A file to be uploaded: its name, folder, and contents.
+     */
+    public static class Entry {
+        /**
+         * Returns an entry whose contents are the specified bytes.
+         *
+         * @param name name of the file
+         * @param folder folder in which to create the file (and any missing parents), or null for
+         *        the root folder
+         * @param data contents of the file
+         *
+         * @return new entry
+         */
+        public static Entry of(String name, String folder, byte[] data) {
+            return new Entry(name, folder, Preconditions.checkNotNull(data, "data may not be null"), null);
+        }
+
+        /**
+         * Returns an entry whose contents are read from the specified local file.
+         *
+         * @param name name of the file
+         * @param folder folder in which to create the file (and any missing parents), or null for
+         *        the root folder
+         * @param path local file whose contents are uploaded
+         *
+         * @return new entry
+         */
+        public static Entry of(String name, String folder, Path path) {
+            return new Entry(name, folder, null, Preconditions.checkNotNull(path, "path may not be null"));
+        }
+
+        private final String name;
+        private final String folder;
+        private final byte[] data;
+        private final Path path;
+
+        private Entry(String name, String folder, byte[] data, Path path) {
+            this.name = Preconditions.checkNotNull(name, "name may not be null");
+            this.folder = folder;
+            this.data = data;
+            this.path = path;
+        }
+
+        /**
+         * Returns the folder in which the file is created.
+         *
+         * @return folder, or null for the root folder
+         */
+        public String getFolder() {
+            return folder;
+        }
+
+        /**
+         * Returns the name of the file.
+         *
+         * @return name
+         */
+        public String getName() {
+            return name;
+        }
+    }
+
+    /**
+     * Outcome of uploading one entry.
+     */
+    public static class Result {
+        private final Entry entry;
+        private volatile DXFile file;
+        private volatile Throwable error;
+
+        private Result(Entry entry) {
+            this.entry = entry;
+        }
+
+        /**
+         * Returns the entry that was uploaded.
+         *
+         * @return entry
+         */
+        public Entry getEntry() {
+            return entry;
+        }
+
+        /**
+         * Returns the error that stopped the upload.
+         *
+         * @return error, or null if the file was uploaded and closed
+         */
+        public Throwable getError() {
+            return error;
+        }
+
+        /**
+         * Returns the file created for the entry. If the upload failed after the file was created,
+         * the file is returned as well (and may be left open).
+         *
+         * @return file, or null if the file could not be created
+         */
+        public DXFile getFile() {
+            return file;
+        }
+
+        /**
+         * Returns whether the file was uploaded and closed.
+         *
+         * @return true if the upload succeeded
+         */
+        public boolean isSuccessful() {
+            return error == null;
+        }
+    }
+
+    /**
+     * Request to /system/describeDataObjects.
+     */
+    @JsonInclude(Include.NON_NULL)
+    private static class DescribeDataObjectsRequest {
+        @JsonProperty
+        private final List<String> objects;
+        @JsonProperty
+        private final Map<String, DXDataObject.DescribeOptions> classDescribeOptions;
+
+        private DescribeDataObjectsRequest(List<String> objects) {
+            this.objects = objects;
+            this.classDescribeOptions = ImmutableMap.of("file",
+                    DXDataObject.DescribeOptions.get().withCustomFields("state"));
+        }
+    }
+
+    /**
+     * Response from /system/describeDataObjects.
+     */
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    private static class DescribeDataObjectsResponse {
+        @JsonProperty
+        private List<DescribeResult> results;
+    }
+
+    /**
+     * Result for one object in the response from /system/describeDataObjects, which has no
+     * describe if the object could not be described.
+     */
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    private static class DescribeResult {
+        @JsonProperty
+        private StateDescribe describe;
+    }
+
+    /**
+     * The part of a describe hash that holds the state.
+     */
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    private static class StateDescribe {
+        @JsonProperty
+        private DataObjectState state;
+    }
+
+    /**
+     * Creates a bulk uploader for the specified project using the default environment.
+     *
+     * @param project project or container in which to create the files
+     * @param parallelism maximum number of files being uploaded at once
+     *
+     * @return new uploader
+     */
+    public static DXFileBulkUploader create(DXContainer project, int parallelism) {
+        return createWithEnvironment(project, parallelism, DXEnvironment.create());
+    }
+
+    /**
+     * Creates a bulk uploader for the specified project using the specified environment.
+     *
+     * @param project project or container in which to create the files
+     * @param parallelism maximum number of files being uploaded at once
+     * @param env environment with which to make requests
+     *
+     * @return new uploader
+     */
+    public static DXFileBulkUploader createWithEnvironment(DXContainer project, int parallelism,
+            DXEnvironment env) {
+        return new DXFileBulkUploader(project, parallelism, env);
+    }
+
+    private final DXContainer project;
+    private final int parallelism;
+    private final DXEnvironment env;
+
+    private DXFileBulkUploader(DXContainer project, int parallelism, DXEnvironment env) {
+        Preconditions.checkArgument(parallelism > 0, "parallelism must be positive");
+        this.project = Preconditions.checkNotNull(project, "project may not be null");
+        this.parallelism = parallelism;
+        this.env = Preconditions.checkNotNull(env, "env may not be null");
+    }
+
+    /**
+     * Uploads the specified entries, returning once every file has closed or failed.
+     *
+     * @param entries files to upload
+     *
+     * @return results, in the same order as the entries
+     *
+     * @throws InterruptedException if the calling thread is interrupted while waiting for files to
+     *         close (the uploads themselves are not interrupted)
+     */
+    public List<Result> upload(List<Entry> entries) throws InterruptedException {
+        final List<Result> results = Lists.newArrayList();
+        for (Entry entry : entries) {
+            results.add(new Result(Preconditions.checkNotNull(entry, "entries may not contain null")));
+        }
+        if (results.isEmpty()) {
+            return results;
+        }
+        final AtomicInteger nextResult = new AtomicInteger();
+        try {
+            // The uploads use threads of their own rather than the environment's transfer
+            // scheduler: each file's own upload may be scheduled there, and must not wait behind
+            // these workers.
+            TransferWorkers.run(Math.min(parallelism, results.size()), "dxjava-bulk-upload-%d", null, 0,
+                    new Supplier<TransferWorkers.Worker>() {
+                        @Override
+                        public TransferWorkers.Worker get() {
+                            return new TransferWorkers.Worker() {
+                                @Override
+                                public boolean transferNext() {
+                                    int index = nextResult.getAndIncrement();
+                                    if (index >= results.size()) {
+                                        return false;
+                                    }
+                                    uploadAndClose(results.get(index));
+                                    return true;
+                                }
+                            };
+                        }
+                    });
+        } catch (IOException e) {
+            // Workers record failures in the results rather than throwing them
+            throw new AssertionError(e);
+        }
+        waitUntilClosed(results);
+        return results;
+    }
+
+    /**
+     * Creates, uploads, and closes (without waiting) the file for an entry, recording any failure
+     * in its result.
+     */
+    private void uploadAndClose(Result result) {
+        Entry entry = result.entry;
+        try {
+            DXFile.Builder builder = DXFile.newFileWithEnvironment(env).setProject(project).setName(entry.name);
+            if (entry.folder != null) {
+                builder.setFolder(entry.folder, true);
+            }
+            result.file = builder.build();
+            if (entry.data != null) {
+                result.file.upload(entry.data);
+            } else {
+                result.file.uploadFromPath(entry.path);
+            }
+            result.file.close();
+        } catch (Exception e) {
+            result.error = e;
+        }
+    }
+
+    /**
+     * Polls the states of the files that were closed, in batches, until all of them are closed or
+     * abandoned.
+     */
+    private void waitUntilClosed(List<Result> results) throws InterruptedException {
+        List<Result> closing = Lists.newArrayList();
+        for (Result result : results) {
+            if (result.error == null) {
+                closing.add(result);
+            }
+        }
+        long pollMillis = INITIAL_POLL_MILLIS;
+        while (true) {
+            List<Result> stillClosing = Lists.newArrayList();
+            for (List<Result> batch : Lists.partition(closing, MAX_DESCRIBE_BATCH)) {
+                stillClosing.addAll(checkClosed(batch));
+            }
+            if (stillClosing.isEmpty()) {
+                return;
+            }
+            closing = stillClosing;
+            TimeUnit.MILLISECONDS.sleep(pollMillis);
+            pollMillis = Math.min(2 * pollMillis, MAX_POLL_MILLIS);
+        }
+    }
+
+    /**
+     * Describes a batch of files, recording an error for those that were abandoned or could not be
+     * described.
+     *
+     * @return the files that are still closing
+     */
+    private List<Result> checkClosed(List<Result> batch) {
+        List<String> ids = Lists.newArrayList();
+        for (Result result : batch) {
+            ids.add(result.file.getId());
+        }
+        List<DescribeResult> describes;
+        try {
+            describes = DXAPI.systemDescribeDataObjects(new DescribeDataObjectsRequest(ids),
+                    DescribeDataObjectsResponse.class, env).results;
+            Preconditions.checkState(describes != null && describes.size() == ids.size(),
+                    "Expected one describe result per file");
+        } catch (RuntimeException e) {
+            for (Result result : batch) {
+                result.error = e;
+            }
+            return ImmutableList.of();
+        }
+        List<Result> stillClosing = Lists.newArrayList();
+        for (int i = 0; i < batch.size(); ++i) {
+            Result result = batch.get(i);
+            StateDescribe describe = describes.get(i).describe;
+            if (describe == null || describe.state == null) {
+                result.error = new IllegalStateException("data object " + ids.get(i) + " could not be described");
+            } else if (describe.state == DataObjectState.ABANDONED) {
+                result.error = new IllegalStateException("data object " + ids.get(i) + " has been abandoned");
+            } else if (describe.state != DataObjectState.CLOSED) {
+                stillClosing.add(result);
+            }
+        }
+        return stillClosing;
+    }
+}
@@ -0,0 +1,407 @@
+// Copyright (C) 2013-2016 DNAnexus, Inc.
+//
+// This file is part of dx-toolkit (DNAnexus platform client libraries).
+//
+// Licensed under the Apache License, Version 2.0 (the "License"); you may
+// not use this file except in compliance with the License. You may obtain a
+// copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+// WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+// License for the specific language governing permissions and limitations
+// under the License.
+package com.dnanexus;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.nio.file.attribute.FileTime;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.base.Preconditions;
+import com.google.common.collect.Lists;
+
+/**
+ * A local, size-bounded cache of the contents of closed files, shared by all the processes that
+ * use the same directory.
+ *
+ * <p>
+ * Closed files never change, so their contents can be reused across downloads, jobs, and JVMs. A
+ * cache is used by passing it to {@link DXFile.DownloadOptions#withCache}; downloads of closed
+ * files then read the blocks they need from the cache and store the blocks they fetch in it.
+ * </p>
+ *
+ * <p>
+ * Files are cached in blocks of {@link #BLOCK_SIZE} bytes, stored as
+ * {@code <directory>/<file ID>/<offset of the block>}. Each block is written to a temporary file
+ * and renamed into place, so a crash never leaves a partial block behind. When the cache grows
+ * beyond its maximum size, the least recently used blocks are deleted; eviction holds a lock on
+ * {@code <directory>/.lock}, so that processes sharing the cache evict one at a time.
+ * </p>
+ *
+ * <p>
+ * This class is thread-safe.
+ * </p>
+ */
+public class DXFileCache {
+
+    /**
+     * Size of the cached blocks of a file (the last block of a file may be shorter).
+     */
+    public static final int BLOCK_SIZE = 1024 * 1024;
+
+    // After exceeding the maximum size, the cache is shrunk to this fraction of it, so that it is
+    // not scanned again on every write
+    private static final double EVICTION_TARGET = 0.9;
+    // Number of blocks written between scans that pick up blocks written by other processes
+    private static final int WRITES_BETWEEN_SCANS = 256;
+    // Age after which leftover temporary files (from crashed writers) are deleted
+    private static final long STALE_TEMP_FILE_MILLIS = 60 * 60 * 1000L;
+    private static final String TEMP_FILE_SUFFIX = ".tmp";
+    // Size of the buffer through which blocks are copied when they cannot be transferred directly
+    private static final int COPY_BUFFER_SIZE = 64 * 1024;
+
+    // File locks are held per JVM, so threads of this JVM take turns before locking the file
+    private static final Object JVM_LOCK = new Object();
+
+    /**
+     * Opens (creating it if necessary) a cache in the specified directory. Blocks beyond the
+     * maximum size are evicted immediately.
+     *
+     * @param directory directory in which to store cached blocks
+     * @param maxBytes maximum total size of the cached blocks
+     *
+     * @return cache
+     *
+     * @throws IOException if the directory cannot be created or read
+     */
+    public static DXFileCache open(Path directory, long maxBytes) throws IOException {
+        Preconditions.checkNotNull(directory, "directory may not be null");
+        Preconditions.checkArgument(maxBytes > 0, "maxBytes must be positive");
+        Files.createDirectories(directory);
+        DXFileCache cache = new DXFileCache(directory, maxBytes);
+        cache.evict();
+        return cache;
+    }
+
+    private final Path directory;
+    private final long maxBytes;
+    // Size of the cache as of the last scan, plus what this process has written since
+    private final AtomicLong approximateBytes = new AtomicLong();
+    private final AtomicInteger writesSinceScan = new AtomicInteger();
+
+    private DXFileCache(Path directory, long maxBytes) {
+        this.directory = directory;
+        this.maxBytes = maxBytes;
+    }
+
+    /**
+     * Returns the directory in which blocks are stored.
+     *
+     * @return cache directory
+     */
+    public Path getDirectory() {
+        return directory;
+    }
+
+    /**
+     * Returns the maximum total size of the cached blocks.
+     *
+     * @return maximum size in bytes
+     */
+    public long getMaxBytes() {
+        return maxBytes;
+    }
+
+    /**
+     * Reads part of a cached block into an array.
+     *
+     * @param fileId ID of the file
+     * @param blockStart offset of the block in the file
+     * @param blockLength expected length of the block
+     * @param offset offset within the block of the first byte to read
+     * @param b array into which the bytes are read
+     * @param off position in {@code b} of the first byte
+     * @param len number of bytes to read
+     *
+     * @return false if the block is not cached
+     *
+     * @throws IOException if the block cannot be read
+     */
+    boolean read(String fileId, long blockStart, int blockLength, int offset, byte[] b, int off, int len)
+            throws IOException {
+        try (FileChannel block = openBlock(fileId, blockStart, blockLength)) {
+            if (block == null) {
+                return false;
+            }
+            ByteBuffer buffer = ByteBuffer.wrap(b, off, len);
+            long position = offset;
+            while (buffer.hasRemaining()) {
+                int n = block.read(buffer, position);
+                if (n == -1) {
+                    return false;
+                }
+                position += n;
+            }
+            return true;
+        }
+    }
+
+    /**
+     * Writes part of a cached block to a channel.
+     *
+     * @param fileId ID of the file
+     * @param blockStart offset of the block in the file
+     * @param blockLength expected length of the block
+     * @param offset offset within the block of the first byte to write
+     * @param len number of bytes to write
+     * @param channel channel to which the bytes are written
+     * @param position position in {@code channel} of the first byte
+     *
+     * @return false if the block is not cached
+     *
+     * @throws IOException if the block cannot be read or the channel cannot be written
+     */
+    boolean transferTo(String fileId, long blockStart, int blockLength, int offset, int len, FileChannel channel,
+            long position) throws IOException {
+        try (FileChannel block = openBlock(fileId, blockStart, blockLength)) {
+            if (block == null) {
+                return false;
+            }
+            block.position(offset);
+            long numWritten = 0;
+            while (numWritten < len) {
+                long n = channel.transferFrom(block, position + numWritten, len - numWritten);
+                if (n == 0) {
+                    break;
+                }
+                numWritten += n;
+            }
+            // transferFrom writes nothing past the end of the channel (or of the block), so the
+            // rest, if any, is copied through a buffer
+            ByteBuffer buffer = null;
+            while (numWritten < len) {
+                if (buffer == null) {
+                    buffer = ByteBuffer.allocate((int) Math.min(len - numWritten, COPY_BUFFER_SIZE));
+                }
+                buffer.clear();
+                buffer.limit((int) Math.min(buffer.capacity(), len - numWritten));
+                if (block.read(buffer, offset + numWritten) == -1) {
+                    return false;
+                }
+                buffer.flip();
+                while (buffer.hasRemaining()) {
+                    numWritten += channel.write(buffer, position + numWritten);
+                }
+            }
+            return true;
+        }
+    }
+
+    /**
+     * Stores a block, replacing any existing copy atomically.
+     *
+     * @param fileId ID of the file
+     * @param blockStart offset of the block in the file
+     * @param b array containing the block
+     * @param off position in {@code b} of the first byte of the block
+     * @param len length of the block
+     *
+     * @throws IOException if the block cannot be written
+     */
+    void write(String fileId, long blockStart, byte[] b, int off, int len) throws IOException {
+        Path temp = createTempBlock(fileId, blockStart);
+        try {
+            try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.WRITE)) {
+                ByteBuffer buffer = ByteBuffer.wrap(b, off, len);
+                while (buffer.hasRemaining()) {
+                    channel.write(buffer);
+                }
+                channel.force(false);
+            }
+            commitBlock(temp, fileId, blockStart, len);
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    /**
+     * Stores a block read from a channel, replacing any existing copy atomically.
+     *
+     * @param fileId ID of the file
+     * @param blockStart offset of the block in the file
+     * @param source readable channel containing the block
+     * @param position position in {@code source} of the first byte of the block
+     * @param len length of the block
+     *
+     * @throws IOException if the block cannot be read or written
+     */
+    void write(String fileId, long blockStart, FileChannel source, long position, int len) throws IOException {
+        Path temp = createTempBlock(fileId, blockStart);
+        try {
+            try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.WRITE)) {
+                long numWritten = 0;
+                while (numWritten < len) {
+                    long n = source.transferTo(position + numWritten, len - numWritten, channel);
+                    if (n == 0) {
+                        throw new IOException("The channel ends before the end of the block");
+                    }
+                    numWritten += n;
+                }
+                channel.force(false);
+            }
+            commitBlock(temp, fileId, blockStart, len);
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    private Path createTempBlock(String fileId, long blockStart) throws IOException {
+        Path fileDirectory = directory.resolve(fileId);
+        Files.createDirectories(fileDirectory);
+        return Files.createTempFile(fileDirectory, "." + blockStart + ".", TEMP_FILE_SUFFIX);
+    }
+
+    /**
+     * Moves a fully written temporary file into place as a block, evicting blocks if needed.
+     */
+    private void commitBlock(Path temp, String fileId, long blockStart, int len) throws IOException {
+        Files.move(temp, directory.resolve(fileId).resolve(Long.toString(blockStart)), StandardCopyOption.ATOMIC_MOVE,
+                StandardCopyOption.REPLACE_EXISTING);
+        if (approximateBytes.addAndGet(len) > maxBytes
+                || writesSinceScan.incrementAndGet() >= WRITES_BETWEEN_SCANS) {
+            evict();
+        }
+    }
+
+    /**
+     * Opens a cached block and marks it as recently used.
+     *
+     * @return the block, or null if it is not cached (or cannot be opened, or has an unexpected
+     *         length)
+     */
+    private FileChannel openBlock(String fileId, long blockStart, int blockLength) throws IOException {
+        Path path = directory.resolve(fileId).resolve(Long.toString(blockStart));
+        FileChannel block;
+        try {
+            block = FileChannel.open(path, StandardOpenOption.READ);
+        } catch (IOException e) {
+            // Most likely not cached; in any case, the block will be fetched again
+            return null;
+        }
+        if (block.size() != blockLength) {
+            block.close();
+            return null;
+        }
+        try {
+            Files.setLastModifiedTime(path, FileTime.fromMillis(System.currentTimeMillis()));
+        } catch (NoSuchFileException e) {
+            // Evicted by another process meanwhile, but still readable through the open channel
+        }
+        return block;
+    }
+
+    /**
+     * Scans the cache and, if it is larger than its maximum size, deletes the least recently used
+     * blocks until it is comfortably below it.
+     *
+     * @return size of the cache after eviction
+     */
+    @VisibleForTesting
+    long evict() throws IOException {
+        synchronized (JVM_LOCK) {
+            try (FileChannel lockChannel = FileChannel.open(directory.resolve(".lock"), StandardOpenOption.CREATE,
+                    StandardOpenOption.WRITE)) {
+                // Released when the channel is closed
+                lockChannel.lock();
+                List<Block> blocks = scan();
+                long totalBytes = 0;
+                for (Block block : blocks) {
+                    totalBytes += block.size;
+                }
+                if (totalBytes > maxBytes) {
+                    Collections.sort(blocks, new Comparator<Block>() {
+                        @Override
+                        public int compare(Block a, Block b) {
+                            return Long.compare(a.lastUsed, b.lastUsed);
+                        }
+                    });
+                    long targetBytes = (long) (maxBytes * EVICTION_TARGET);
+                    for (Block block : blocks) {
+                        if (totalBytes <= targetBytes) {
+                            break;
+                        }
+                        Files.deleteIfExists(block.path);
+                        totalBytes -= block.size;
+                    }
+                }
+                approximateBytes.set(totalBytes);
+                writesSinceScan.set(0);
+                return totalBytes;
+            }
+        }
+    }
+
+    /**
+     * A cached block found by a scan.
+     */
+    private static class Block {
+        private final Path path;
+        private final long size;
+        private final long lastUsed;
+
+        private Block(Path path, BasicFileAttributes attributes) {
+            this.path = path;
+            this.size = attributes.size();
+            this.lastUsed = attributes.lastModifiedTime().toMillis();
+        }
+    }
+
+    /**
+     * Lists the cached blocks, deleting stale temporary files along the way.
+     */
+    private List<Block> scan() throws IOException {
+        List<Block> blocks = Lists.newArrayList();
+        long now = System.currentTimeMillis();
+        try (DirectoryStream<Path> fileDirectories = Files.newDirectoryStream(directory)) {
+            for (Path fileDirectory : fileDirectories) {
+                if (!Files.isDirectory(fileDirectory)) {
+                    continue;
+                }
+                try (DirectoryStream<Path> paths = Files.newDirectoryStream(fileDirectory)) {
+                    for (Path path : paths) {
+                        BasicFileAttributes attributes;
+                        try {
+                            attributes = Files.readAttributes(path, BasicFileAttributes.class);
+                        } catch (NoSuchFileException e) {
+                            continue;
+                        }
+                        if (path.getFileName().toString().endsWith(TEMP_FILE_SUFFIX)) {
+                            if (now - attributes.lastModifiedTime().toMillis() > STALE_TEMP_FILE_MILLIS) {
+                                Files.deleteIfExists(path);
+                            }
+                            continue;
+                        }
+                        blocks.add(new Block(path, attributes));
+                    }
+                }
+            }
+        }
+        return blocks;
+    }
+}
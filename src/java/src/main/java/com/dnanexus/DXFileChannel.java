@@ -0,0 +1,212 @@
+// Copyright (C) 2013-2016 DNAnexus, Inc.
+//
+// This file is part of dx-toolkit (DNAnexus platform client libraries).
+//
+// Licensed under the Apache License, Version 2.0 (the "License"); you may
+// not use this file except in compliance with the License. You may obtain a
+// copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+// WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+// License for the specific language governing permissions and limitations
+// under the License.
+package com.dnanexus;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.ClosedChannelException;
+import java.nio.channels.NonWritableChannelException;
+import java.nio.channels.SeekableByteChannel;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.base.Preconditions;
+
+/**
+ * A read-only {@link SeekableByteChannel} over a remote file, for random access to small regions of
+ * it (e.g. lookups through an index).
+ *
+ * <p>
+ * The file is fetched in fixed-size blocks, which are kept in an LRU cache, so repeated reads of
+ * nearby bytes cost one request per new block rather than one per read. The blocks needed by a read
+ * that are not cached are fetched together, with one ranged request per run of adjacent missing
+ * blocks. A single read covers at most as many blocks as the cache holds, and may therefore return
+ * fewer bytes than requested.
+ * </p>
+ *
+ * <p>
+ * This class is thread-safe, although concurrent reads are served one at a time.
+ * </p>
+ */
+class DXFileChannel implements SeekableByteChannel {
+
+    private final RangeFetcher fetcher;
+    private final long size;
+    private final int blockSize;
+    private final int maxCachedBlocks;
+    // Blocks by index, least recently used first. The last block of the file may be short.
+    private final LinkedHashMap<Long, byte[]> cache;
+
+    private long position;
+    private boolean open = true;
+    private long numFetches;
+
+    /**
+     * Creates a channel over a file of the specified size.
+     *
+     * @param fetcher source of the file's bytes
+     * @param size size of the file
+     * @param blockSize size of each cached block
+     * @param maxCachedBlocks maximum number of cached blocks
+     */
+    DXFileChannel(RangeFetcher fetcher, long size, int blockSize, final int maxCachedBlocks) {
+        Preconditions.checkArgument(size >= 0, "size may not be negative");
+        Preconditions.checkArgument(blockSize > 0, "blockSize must be positive");
+        Preconditions.checkArgument(maxCachedBlocks > 0, "maxCachedBlocks must be positive");
+        this.fetcher = Preconditions.checkNotNull(fetcher);
+        this.size = size;
+        this.blockSize = blockSize;
+        this.maxCachedBlocks = maxCachedBlocks;
+        this.cache = new LinkedHashMap<Long, byte[]>(16, 0.75f, true) {
+            private static final long serialVersionUID = 1L;
+
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Long, byte[]> eldest) {
+                return size() > maxCachedBlocks;
+            }
+        };
+    }
+
+    @Override
+    public synchronized void close() {
+        open = false;
+        cache.clear();
+    }
+
+    @Override
+    public synchronized boolean isOpen() {
+        return open;
+    }
+
+    /**
+     * Returns the number of ranged requests made so far.
+     *
+     * @return number of requests
+     */
+    @VisibleForTesting
+    synchronized long getNumFetches() {
+        return numFetches;
+    }
+
+    @Override
+    public synchronized long position() throws IOException {
+        checkOpen();
+        return position;
+    }
+
+    @Override
+    public synchronized SeekableByteChannel position(long newPosition) throws IOException {
+        Preconditions.checkArgument(newPosition >= 0, "position may not be negative");
+        checkOpen();
+        position = newPosition;
+        return this;
+    }
+
+    @Override
+    public synchronized int read(ByteBuffer dst) throws IOException {
+        checkOpen();
+        if (position >= size) {
+            return -1;
+        }
+        if (!dst.hasRemaining()) {
+            return 0;
+        }
+        long readEnd = Math.min(size, position + dst.remaining());
+        long firstBlock = position / blockSize;
+        long lastBlock = Math.min((readEnd - 1) / blockSize, firstBlock + maxCachedBlocks - 1);
+        fetchMissingBlocks(firstBlock, lastBlock);
+
+        int numRead = 0;
+        for (long i = firstBlock; i <= lastBlock && position < readEnd; ++i) {
+            byte[] block = cache.get(i);
+            int offset = (int) (position - i * blockSize);
+            int length = (int) Math.min(block.length - offset, readEnd - position);
+            dst.put(block, offset, length);
+            position += length;
+            numRead += length;
+        }
+        return numRead;
+    }
+
+    @Override
+    public synchronized long size() throws IOException {
+        checkOpen();
+        return size;
+    }
+
+    @Override
+    public SeekableByteChannel truncate(long size) {
+        throw new NonWritableChannelException();
+    }
+
+    @Override
+    public int write(ByteBuffer src) {
+        throw new NonWritableChannelException();
+    }
+
+    private void checkOpen() throws ClosedChannelException {
+        if (!open) {
+            throw new ClosedChannelException();
+        }
+    }
+
+    /**
+     * Fetches the uncached blocks in the specified range of blocks, with one request per run of
+     * adjacent missing blocks.
+     */
+    private void fetchMissingBlocks(long firstBlock, long lastBlock) throws IOException {
+        // Mark the cached blocks as recently used first, so that adding the missing ones (no more
+        // than the cache holds in all) cannot evict them
+        for (long i = firstBlock; i <= lastBlock; ++i) {
+            cache.get(i);
+        }
+        // Each request must fit in an array
+        long maxBlocksPerRequest = Math.max(1, Integer.MAX_VALUE / blockSize);
+        long i = firstBlock;
+        while (i <= lastBlock) {
+            if (cache.containsKey(i)) {
+                ++i;
+                continue;
+            }
+            long runEnd = i + 1;
+            while (runEnd <= lastBlock && runEnd - i < maxBlocksPerRequest && !cache.containsKey(runEnd)) {
+                ++runEnd;
+            }
+            fetchBlocks(i, runEnd);
+            i = runEnd;
+        }
+    }
+
+    /**
+     * Fetches blocks {@code firstBlock} (inclusive) to {@code endBlock} (exclusive) with a single
+     * request and adds them to the cache.
+     */
+    private void fetchBlocks(long firstBlock, long endBlock) throws IOException {
+        long start = firstBlock * blockSize;
+        long end = Math.min(size, endBlock * blockSize);
+        byte[] data = new byte[(int) (end - start)];
+        fetcher.fetch(start, end, data, 0);
+        ++numFetches;
+        for (long i = firstBlock; i < endBlock; ++i) {
+            int offset = (int) ((i - firstBlock) * blockSize);
+            int length = Math.min(blockSize, data.length - offset);
+            byte[] block = new byte[length];
+            System.arraycopy(data, offset, block, 0, length);
+            cache.put(i, block);
+        }
+    }
+}
@@ -16,32 +16,70 @@
 
 package com.dnanexus;
 
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
 
 import com.dnanexus.DXHTTPRequest.RetryStrategy;
 import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonInclude.Include;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonDeserializer;
 import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
 import com.google.common.annotations.VisibleForTesting;
 import com.google.common.base.Preconditions;
+import com.google.common.base.Supplier;
+import com.google.common.base.Throwables;
 import com.google.common.collect.ImmutableList;
+import com.google.common.collect.Lists;
+import com.google.common.collect.Maps;
+import com.google.common.util.concurrent.FutureCallback;
+import com.google.common.util.concurrent.Futures;
+import com.google.common.util.concurrent.ListenableFuture;
 
 /**
  * A GenomicTable (tabular storage supporting queries by genomic coordinates).
  *
  * <p>
- * Note that these Java bindings do not supply any high-level way to upload or download data to or
- * from a GTable. Please use the command-line tools <code>dx import</code> and
+ * Rows can be added to a GTable with a {@link RowWriter} (see {@link #openRowWriter()}), and read
+ * with a {@link RowReader} (see {@link #rows(long, long)}) or in parallel (see
+ * {@link #scan(ScanOptions, BatchCallback)}). Rows can also be looked up through an index (see
+ * {@link GTableIndex} and {@link #query(GTableQuery)}). For other ways to import and export data,
+ * please use the command-line tools <code>dx import</code> and
  * <code>dx export</code>, or see the <a
  * href="https://wiki.dnanexus.com/API-Specification-v1.0.0/GenomicTables">API documentation for
- * GTables</a>. Also, indices are not supported at this time.
+ * GTables</a>.
  * </p>
  */
 public class DXGTable extends DXDataObject {
 
+    // Upper bound on the rows requested in one page, whatever their size
+    private static final int MAX_PAGE_ROWS = 1000000;
+
+    private static final String ROW_ID_COLUMN = "__id__";
+
     /**
      * Builder class for creating a new {@code DXGTable} object. To obtain an instance, call
      * {@link DXGTable#newGTable(List)}.
@@ -49,6 +87,8 @@ public class DXGTable extends DXDataObject {
     public static class Builder extends DXDataObject.Builder<Builder, DXGTable> {
 
         List<ColumnSpecification> columns;
+        List<GTableIndex> indices;
+        DXGTable initializeFrom;
 
         private Builder(List<? extends ColumnSpecification> columns) {
             super();
@@ -60,6 +100,26 @@ public class DXGTable extends DXDataObject {
             this.columns = ImmutableList.copyOf(columns);
         }
 
+        /**
+         * Adds an index to the newly created GTable.
+         *
+         * @param index index over the GTable's columns
+         *
+         * @return the same {@code Builder} object
+         *
+         * @throws IllegalArgumentException if the index refers to columns that are missing or of
+         *         the wrong type
+         */
+        public Builder addIndex(GTableIndex index) {
+            Preconditions.checkNotNull(index, "index may not be null");
+            index.checkColumns(columns);
+            if (this.indices == null) {
+                this.indices = Lists.newArrayList();
+            }
+            this.indices.add(index);
+            return getThisInstance();
+        }
+
         /**
          * Creates the GTable.
          *
@@ -93,7 +153,23 @@ public class DXGTable extends DXDataObject {
             return this;
         }
 
-        // TODO: initializeFrom
+        /**
+         * Uses the specified existing GTable as a template for the newly created one: the metadata
+         * (such as the name, details, and indices) not set on this builder is copied from it.
+         *
+         * @param gtable GTable to copy metadata from, which must have been obtained with its
+         *        project
+         *
+         * @return the same {@code Builder} object
+         */
+        public Builder initializeFrom(DXGTable gtable) {
+            Preconditions.checkState(this.initializeFrom == null, "Cannot call initializeFrom more than once");
+            Preconditions.checkNotNull(gtable, "gtable may not be null");
+            Preconditions.checkArgument(gtable.getProject() != null,
+                    "The GTable to initialize from must have a project");
+            this.initializeFrom = gtable;
+            return getThisInstance();
+        }
 
     }
 
@@ -107,6 +183,8 @@ public class DXGTable extends DXDataObject {
         private Long size;
         @JsonProperty
         private Long length; // May be null if table is not closing or closed
+        @JsonProperty
+        private List<GTableIndex> indices;
 
         private Describe() {
             super();
@@ -135,6 +213,17 @@ public class DXGTable extends DXDataObject {
             return ImmutableList.copyOf(this.columns);
         }
 
+        /**
+         * Returns the indices of the GTable.
+         *
+         * @return List of indices, which is empty if the GTable has none
+         */
+        public List<GTableIndex> getIndices() {
+            Preconditions.checkState(this.indices != null,
+                    "indices is not available because it was not retrieved with the describe call");
+            return ImmutableList.copyOf(this.indices);
+        }
+
         /**
          * Returns the number of rows in the table.
          *
@@ -148,15 +237,879 @@ public class DXGTable extends DXDataObject {
         }
     }
 
+    /**
+     * Receives the pages of rows read by {@link DXGTable#scan(ScanOptions, BatchCallback)} and
+     * {@link DXGTable#scanInOrder(ScanOptions, BatchCallback)}.
+     */
+    public interface BatchCallback {
+        /**
+         * Processes a page of rows.
+         *
+         * @param batch rows of the page, which the callback may keep
+         *
+         * @throws IOException to stop the scan, which then throws this exception
+         */
+        void processBatch(GTableBatch batch) throws IOException;
+    }
+
+    /**
+     * Reads the rows of a GTable, one page (a {@code /gtable-xxxx/get} request) at a time, while
+     * the request for the next page is already in flight. To obtain an instance, call
+     * {@link DXGTable#rows(long, long)} or {@link DXGTable#query(GTableQuery)}.
+     *
+     * <p>
+     * Each page is returned as a {@link GTableBatch}, which is filled in straight from the JSON
+     * token stream of the response. As soon as a page arrives, the reader requests the next one,
+     * and then hands out the page that arrived; so at most two pages (the current one and the next)
+     * are held at any time. The number of rows requested in each page is adjusted after every page
+     * so that the responses are about {@link ReadOptions#getTargetPageBytes()} bytes long.
+     * </p>
+     *
+     * <p>
+     * The batches hold the requested columns; by default, the row ID (the {@code __id__} column)
+     * followed by all the other columns. The GTable must be closed. This class is not thread-safe.
+     * </p>
+     */
+    public static class RowReader implements Iterator<GTableBatch>, Closeable {
+
+        private final DXGTable gtable;
+        private final long end;
+        private final List<String> columns;
+        private final GTableQuery query;
+        private final int targetPageBytes;
+        private final List<ColumnSpecification> schema;
+        // Parses responses into batches with the above schema
+        private final ObjectReader pageReader;
+        // Number of rows to request per page
+        private final AtomicInteger pageRows;
+
+        // Request for the next page (whose body is parsed by the caller, off the client's I/O
+        // thread), or null if there are no more pages
+        private ListenableFuture<byte[]> pending;
+        // Rows the page in flight was sized for, and the limit requested (less at the end)
+        private int pendingRows;
+        private int pendingLimit;
+        private GTableBatch current;
+
+        private RowReader(DXGTable gtable, long start, long end, ReadOptions options,
+                List<ColumnSpecification> schema) {
+            this(gtable, start, end, null, options, schema, new AtomicInteger(options.getInitialPageRows()));
+        }
+
+        /**
+         * Creates a reader whose page size starts from, and is recorded in, {@code pageRows}, so
+         * that the readers of the ranges of a scan share what they learn about the row size.
+         */
+        private RowReader(DXGTable gtable, long start, long end, GTableQuery query, ReadOptions options,
+                List<ColumnSpecification> schema, AtomicInteger pageRows) {
+            Preconditions.checkArgument(start >= 0, "start may not be negative");
+            Preconditions.checkArgument(start <= end, "start may not be larger than end");
+            this.gtable = gtable;
+            this.end = end;
+            this.columns = options.getColumns();
+            this.query = query;
+            this.targetPageBytes = options.getTargetPageBytes();
+            this.schema = schema;
+            this.pageReader = DXHTTPRequest.getReader(GTableGetResponse.class)
+                    .withAttribute(GTableGetResponse.SCHEMA_ATTRIBUTE, schema);
+            this.pageRows = pageRows;
+            if (start < end) {
+                requestPage(start, pageRows.get());
+            }
+        }
+
+        /**
+         * Abandons the page in flight, if any.
+         */
+        @Override
+        public void close() {
+            if (pending != null) {
+                pending.cancel(true);
+                pending = null;
+            }
+            current = null;
+        }
+
+        /**
+         * Returns the columns of the batches returned by the reader.
+         *
+         * @return schema of the batches
+         */
+        public List<ColumnSpecification> getSchema() {
+            return schema;
+        }
+
+        /**
+         * Returns whether there are more rows, waiting for the next page if necessary.
+         *
+         * @throws DXAPIException if the next page cannot be fetched
+         */
+        @Override
+        public boolean hasNext() {
+            while (current == null) {
+                if (pending == null) {
+                    return false;
+                }
+                nextPage();
+            }
+            return true;
+        }
+
+        /**
+         * Returns the next page of rows, waiting for it if necessary. Pages are never empty.
+         *
+         * @return the rows of the next page
+         *
+         * @throws DXAPIException if the next page cannot be fetched
+         */
+        @Override
+        public GTableBatch next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            GTableBatch batch = current;
+            current = null;
+            return batch;
+        }
+
+        @Override
+        public void remove() {
+            throw new UnsupportedOperationException();
+        }
+
+        /**
+         * Waits for the page in flight, requests the one after it, and makes the former current
+         * (unless it is empty).
+         */
+        private void nextPage() {
+            byte[] response;
+            try {
+                response = pending.get();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new RuntimeException("Interrupted while waiting for the rows of " + gtable.getId(), e);
+            } catch (ExecutionException e) {
+                close();
+                Throwables.propagateIfPossible(e.getCause());
+                throw new RuntimeException(e.getCause());
+            }
+            pending = null;
+            GTableGetResponse page = DXHTTPRequest.parseResponse(response, GTableGetResponse.class, pageReader);
+            if (page.data.size() == pendingLimit) {
+                // Only full pages tell how many rows fit in a page
+                pageRows.set(nextPageRows(pendingRows, page.data.size(), page.numBytes));
+            }
+            if (page.next != null && page.next < end) {
+                requestPage(page.next, pageRows.get());
+            }
+            if (page.data.size() > 0) {
+                current = page.data;
+            }
+        }
+
+        /**
+         * Chooses the number of rows to request next, so that the response is about
+         * {@code targetPageBytes} long given the size of the last one. The page grows at most
+         * fourfold per page, so that a few small rows at the start don't lead to a huge request.
+         */
+        private int nextPageRows(int lastPageRows, int lastRows, long lastBytes) {
+            if (lastBytes <= 0) {
+                return lastPageRows;
+            }
+            long rows = targetPageBytes * (long) lastRows / lastBytes;
+            return (int) Math.max(1, Math.min(Math.min(rows, 4L * lastPageRows), MAX_PAGE_ROWS));
+        }
+
+        private void requestPage(long starting, int rows) {
+            int limit = (int) Math.min(rows, end - starting);
+            pending = new DXHTTPRequest(gtable.env).requestAsyncUnparsed("/" + gtable.getId() + "/get",
+                    new GTableGetRequest(starting, limit, columns, query), RetryStrategy.SAFE_TO_RETRY);
+            pendingRows = rows;
+            pendingLimit = limit;
+        }
+    }
+
+    /**
+     * Writes rows to a GTable from any number of threads, sending them in parts of up to
+     * {@link WriteOptions#getRowsPerPart()} rows. To obtain an instance, call
+     * {@link DXGTable#openRowWriter(WriteOptions)}.
+     *
+     * <p>
+     * Each thread that adds rows fills a part of its own, so threads never wait for each other
+     * while adding rows. A full part is given the next part index (allocated atomically, after the
+     * first unused index reported by {@code /gtable-xxxx/nextPart} when the writer was opened) and
+     * sent by one of the writer's workers, while the thread goes on filling its next part. Up to
+     * {@link WriteOptions#getParallelism()} parts are sent at once; a thread that fills a part
+     * while that many are in flight waits until one of them has been sent.
+     * </p>
+     *
+     * <p>
+     * {@link #close()} sends the partly filled parts of all threads and waits for all parts to be
+     * sent; it must be called once all calls to {@code addRow} have returned. Rows added by
+     * different threads (or in different parts) may be stored in any order relative to each other.
+     * If a part cannot be sent, subsequent calls to {@code addRow} and {@code close} throw the
+     * first failure. The writer assumes that nothing else adds rows to the GTable while it is open,
+     * and does not close the GTable.
+     * </p>
+     */
+    public static class RowWriter implements Closeable {
+
+        /**
+         * Rows added by one thread that have not been sent yet, or null once the writer has taken
+         * them in {@code close}. It holds no reference to the writer, so that a thread that
+         * outlives the writer does not keep it reachable through its thread-local value.
+         */
+        private static class PartBuffer {
+            private GTableBatch rows;
+
+            private PartBuffer(GTableBatch rows) {
+                this.rows = rows;
+            }
+        }
+
+        private final DXGTable gtable;
+        private final List<ColumnSpecification> schema;
+        private final int rowsPerPart;
+        private final int parallelism;
+        private final TransferScheduler.Transfer transfer;
+        private final AtomicInteger nextPart;
+        // One permit per part that may be in flight
+        private final Semaphore inFlight;
+        private final AtomicReference<Throwable> failure = new AtomicReference<Throwable>();
+
+        private final ThreadLocal<PartBuffer> threadBuffer = new ThreadLocal<PartBuffer>() {
+            @Override
+            protected PartBuffer initialValue() {
+                PartBuffer buffer = new PartBuffer(newPart());
+                synchronized (buffers) {
+                    buffers.add(buffer);
+                }
+                return buffer;
+            }
+        };
+        // Buffers of all the threads that have added rows, guarded by itself
+        private final List<PartBuffer> buffers = Lists.newArrayList();
+        private volatile boolean closed;
+
+        private RowWriter(DXGTable gtable, List<ColumnSpecification> schema, int firstPart, WriteOptions options) {
+            this.gtable = gtable;
+            this.schema = schema;
+            this.rowsPerPart = options.getRowsPerPart();
+            this.parallelism = options.getParallelism();
+            this.nextPart = new AtomicInteger(firstPart);
+            this.inFlight = new Semaphore(parallelism);
+            this.transfer = gtable.env.getTransferScheduler().newTransfer(0);
+        }
+
+        /**
+         * Adds a row to the GTable.
+         *
+         * @param values values of the row's columns, in the order of the GTable's columns
+         *
+         * @throws IOException if the writer has been closed or a part could not be sent
+         */
+        public void addRow(List<?> values) throws IOException {
+            addRow(values.toArray());
+        }
+
+        /**
+         * Adds a row to the GTable.
+         *
+         * @param values values of the row's columns, in the order of the GTable's columns
+         *
+         * @throws IOException if the writer has been closed or a part could not be sent
+         */
+        public void addRow(Object... values) throws IOException {
+            if (closed) {
+                throw new IOException("Writer closed");
+            }
+            checkFailure();
+            PartBuffer buffer = threadBuffer.get();
+            GTableBatch full = null;
+            // Only close() contends for this lock, to take the rows of threads that are done
+            synchronized (buffer) {
+                if (buffer.rows == null) {
+                    // close() has taken this thread's rows
+                    threadBuffer.remove();
+                    throw new IOException("Writer closed");
+                }
+                buffer.rows.addRow(values);
+                if (buffer.rows.size() >= rowsPerPart) {
+                    full = buffer.rows;
+                    buffer.rows = newPart();
+                }
+            }
+            if (full != null) {
+                sendPart(full);
+            }
+        }
+
+        /**
+         * Adds the rows of a batch to the GTable, as a part of their own. The batch must not be
+         * modified until the writer is closed.
+         *
+         * @param batch rows to add, whose schema must be the GTable's columns (without the row ID)
+         *
+         * @throws IOException if the writer has been closed or a part could not be sent
+         */
+        public void addRows(GTableBatch batch) throws IOException {
+            Preconditions.checkArgument(batch.getSchema().equals(schema), "Expected a batch with columns %s",
+                    schema);
+            if (closed) {
+                throw new IOException("Writer closed");
+            }
+            checkFailure();
+            if (batch.size() > 0) {
+                sendPart(batch);
+            }
+        }
+
+        /**
+         * Returns the columns of the rows, in the order in which their values are given.
+         *
+         * @return the GTable's columns, without the row ID
+         */
+        public List<ColumnSpecification> getSchema() {
+            return schema;
+        }
+
+        /**
+         * Sends the rows that have not been sent yet and waits for all parts to be sent.
+         *
+         * @throws IOException the first failure of any part
+         */
+        @Override
+        public void close() throws IOException {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            try {
+                // Only the closing thread's value can be removed here; those of other threads hold
+                // no rows once taken below, and go away with the writer's ThreadLocal
+                threadBuffer.remove();
+                List<PartBuffer> allBuffers;
+                synchronized (buffers) {
+                    allBuffers = Lists.newArrayList(buffers);
+                    buffers.clear();
+                }
+                for (PartBuffer buffer : allBuffers) {
+                    GTableBatch rows;
+                    synchronized (buffer) {
+                        rows = buffer.rows;
+                        buffer.rows = null;
+                    }
+                    if (rows != null && rows.size() > 0 && failure.get() == null) {
+                        sendPart(rows);
+                    }
+                }
+                try {
+                    inFlight.acquire(parallelism);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new InterruptedIOException("Interrupted while waiting for parts to be sent");
+                }
+            } finally {
+                transfer.close();
+            }
+            checkFailure();
+        }
+
+        private void checkFailure() throws IOException {
+            Throwable t = failure.get();
+            if (t == null) {
+                return;
+            }
+            if (t instanceof IOException) {
+                throw (IOException) t;
+            }
+            if (t instanceof RuntimeException) {
+                throw (RuntimeException) t;
+            }
+            if (t instanceof Error) {
+                throw (Error) t;
+            }
+            throw new IOException(t);
+        }
+
+        /**
+         * Returns an empty part with room for {@code rowsPerPart} rows.
+         */
+        private GTableBatch newPart() {
+            return GTableBatch.create(schema, rowsPerPart);
+        }
+
+        /**
+         * Hands a part to a worker, blocking while {@code parallelism} parts are in flight.
+         */
+        private void sendPart(final GTableBatch rows) throws IOException {
+            try {
+                inFlight.acquire();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new InterruptedIOException("Interrupted while waiting for parts to be sent");
+            }
+            final int part = nextPart.getAndIncrement();
+            ListenableFuture<Void> sent;
+            try {
+                sent = transfer.submit(new Callable<Void>() {
+                    @Override
+                    public Void call() {
+                        if (failure.get() == null) {
+                            DXAPI.gtableAddRows(gtable.getId(), new GTableAddRowsRequest(rows, part),
+                                    JsonNode.class, gtable.env);
+                        }
+                        return null;
+                    }
+                }, 0);
+            } catch (RejectedExecutionException e) {
+                inFlight.release();
+                failure.compareAndSet(null, e);
+                throw new IOException("Could not send part " + part, e);
+            }
+            // Runs also if the task is cancelled because the scheduler is shut down
+            Futures.addCallback(sent, new FutureCallback<Void>() {
+                @Override
+                public void onSuccess(Void result) {
+                    inFlight.release();
+                }
+
+                @Override
+                public void onFailure(Throwable t) {
+                    failure.compareAndSet(null, t);
+                    inFlight.release();
+                }
+            });
+            checkFailure();
+        }
+    }
+
+    /**
+     * Configuration options for reading rows from a GTable (see
+     * {@link DXGTable#rows(long, long, ReadOptions)}).
+     *
+     * <p>
+     * Example:
+     * </p>
+     *
+     * <pre>
+     * ReadOptions.get()
+     *         .withColumns(ImmutableList.of(&quot;chr&quot;, &quot;lo&quot;, &quot;hi&quot;))
+     *         .withTargetPageBytes(4 &lt;&lt; 20)
+     * </pre>
+     */
+    public static class ReadOptions {
+        /**
+         * Returns a default instance of {@code ReadOptions}, which reads all columns in pages of
+         * about 8 MB, starting with a page of 1,000 rows.
+         *
+         * @return a newly initialized {@code ReadOptions} object
+         */
+        public static ReadOptions get() {
+            return new ReadOptions();
+        }
+
+        private final List<String> columns;
+        private final int targetPageBytes;
+        private final int initialPageRows;
+
+        private ReadOptions() {
+            this(null, 8 * 1024 * 1024, 1000);
+        }
+
+        private ReadOptions(List<String> columns, int targetPageBytes, int initialPageRows) {
+            this.columns = columns;
+            this.targetPageBytes = targetPageBytes;
+            this.initialPageRows = initialPageRows;
+        }
+
+        /**
+         * Returns the names of the columns to read, or null if all columns are read.
+         *
+         * @return column names, or null
+         */
+        public List<String> getColumns() {
+            return columns;
+        }
+
+        /**
+         * Returns the number of rows requested in the first page.
+         *
+         * @return rows in the first page
+         */
+        public int getInitialPageRows() {
+            return initialPageRows;
+        }
+
+        /**
+         * Returns the size that responses are aimed at.
+         *
+         * @return target page size in bytes
+         */
+        public int getTargetPageBytes() {
+            return targetPageBytes;
+        }
+
+        /**
+         * Returns a {@code ReadOptions} that behaves like the current one, except that only the
+         * specified columns are read (include {@code "__id__"} to get the row IDs).
+         *
+         * @param columns names of the columns to read, in the order in which they are returned
+         *
+         * @return a new {@code ReadOptions} object
+         */
+        public ReadOptions withColumns(List<String> columns) {
+            return new ReadOptions(ImmutableList.copyOf(columns), this.targetPageBytes, this.initialPageRows);
+        }
+
+        /**
+         * Returns a {@code ReadOptions} that behaves like the current one, except that the first
+         * page has the specified number of rows.
+         *
+         * @param initialPageRows number of rows in the first page
+         *
+         * @return a new {@code ReadOptions} object
+         */
+        public ReadOptions withInitialPageRows(int initialPageRows) {
+            Preconditions.checkArgument(initialPageRows > 0, "initialPageRows must be positive");
+            return new ReadOptions(this.columns, this.targetPageBytes, initialPageRows);
+        }
+
+        /**
+         * Returns a {@code ReadOptions} that behaves like the current one, except that the number
+         * of rows in each page is chosen so that the responses are about the specified size. Larger
+         * pages need fewer requests but more memory: a reader holds up to two pages.
+         *
+         * @param targetPageBytes target page size in bytes
+         *
+         * @return a new {@code ReadOptions} object
+         */
+        public ReadOptions withTargetPageBytes(int targetPageBytes) {
+            Preconditions.checkArgument(targetPageBytes > 0, "targetPageBytes must be positive");
+            return new ReadOptions(this.columns, targetPageBytes, this.initialPageRows);
+        }
+    }
+
+    /**
+     * Configuration options for scanning all rows of a GTable (see
+     * {@link DXGTable#scan(ScanOptions, BatchCallback)} and
+     * {@link DXGTable#scanInOrder(ScanOptions, BatchCallback)}).
+     *
+     * <p>
+     * Example:
+     * </p>
+     *
+     * <pre>
+     * ScanOptions.get().withParallelism(8).withPartitionRows(500000)
+     * </pre>
+     */
+    public static class ScanOptions {
+        /**
+         * Returns a default instance of {@code ScanOptions}, which reads 4 ranges of rows at a time
+         * with the default {@link ReadOptions}. Unless set, the size of the ranges is chosen so
+         * that there are at least 4 per worker, with at most 100,000 rows each.
+         *
+         * @return a newly initialized {@code ScanOptions} object
+         */
+        public static ScanOptions get() {
+            return new ScanOptions();
+        }
+
+        private static final long MAX_DEFAULT_PARTITION_ROWS = 100000;
+
+        private final int parallelism;
+        private final long partitionRows;
+        private final ReadOptions readOptions;
+
+        private ScanOptions() {
+            this(4, 0, ReadOptions.get());
+        }
+
+        private ScanOptions(int parallelism, long partitionRows, ReadOptions readOptions) {
+            this.parallelism = parallelism;
+            this.partitionRows = partitionRows;
+            this.readOptions = readOptions;
+        }
+
+        /**
+         * Returns the number of ranges read concurrently.
+         *
+         * @return number of workers
+         */
+        public int getParallelism() {
+            return parallelism;
+        }
+
+        /**
+         * Returns the number of rows in each range, or 0 if it is chosen from the number of rows.
+         *
+         * @return rows per range, or 0
+         */
+        public long getPartitionRows() {
+            return partitionRows;
+        }
+
+        /**
+         * Returns the options used to read each range.
+         *
+         * @return read options
+         */
+        public ReadOptions getReadOptions() {
+            return readOptions;
+        }
+
+        /**
+         * Returns a {@code ScanOptions} that behaves like the current one, except that up to the
+         * specified number of ranges are read concurrently.
+         *
+         * @param parallelism number of workers
+         *
+         * @return a new {@code ScanOptions} object
+         */
+        public ScanOptions withParallelism(int parallelism) {
+            Preconditions.checkArgument(parallelism > 0, "parallelism must be positive");
+            return new ScanOptions(parallelism, this.partitionRows, this.readOptions);
+        }
+
+        /**
+         * Returns a {@code ScanOptions} that behaves like the current one, except that the rows
+         * are split into ranges of the specified number of rows.
+         *
+         * @param partitionRows rows per range
+         *
+         * @return a new {@code ScanOptions} object
+         */
+        public ScanOptions withPartitionRows(long partitionRows) {
+            Preconditions.checkArgument(partitionRows > 0, "partitionRows must be positive");
+            return new ScanOptions(this.parallelism, partitionRows, this.readOptions);
+        }
+
+        /**
+         * Returns a {@code ScanOptions} that behaves like the current one, except that each range
+         * is read with the specified options (for example, to read only some columns).
+         *
+         * @param readOptions read options
+         *
+         * @return a new {@code ScanOptions} object
+         */
+        public ScanOptions withReadOptions(ReadOptions readOptions) {
+            return new ScanOptions(this.parallelism, this.partitionRows,
+                    Preconditions.checkNotNull(readOptions, "readOptions may not be null"));
+        }
+
+        /**
+         * Returns the number of rows in each range when scanning a table with the specified
+         * number of rows.
+         */
+        private long getPartitionRows(long numRows) {
+            if (partitionRows > 0) {
+                return partitionRows;
+            }
+            long perWorker = (numRows + 4L * parallelism - 1) / (4L * parallelism);
+            return Math.max(1, Math.min(perWorker, MAX_DEFAULT_PARTITION_ROWS));
+        }
+    }
+
+    /**
+     * Configuration options for writing rows to a GTable (see
+     * {@link DXGTable#openRowWriter(WriteOptions)}).
+     *
+     * <p>
+     * Example:
+     * </p>
+     *
+     * <pre>
+     * WriteOptions.get().withParallelism(4).withRowsPerPart(50000)
+     * </pre>
+     */
+    public static class WriteOptions {
+        /**
+         * Returns a default instance of {@code WriteOptions}, which sends parts of 10,000 rows, up
+         * to 4 at a time.
+         *
+         * @return a newly initialized {@code WriteOptions} object
+         */
+        public static WriteOptions get() {
+            return new WriteOptions();
+        }
+
+        private final int parallelism;
+        private final int rowsPerPart;
+
+        private WriteOptions() {
+            this(4, 10000);
+        }
+
+        private WriteOptions(int parallelism, int rowsPerPart) {
+            this.parallelism = parallelism;
+            this.rowsPerPart = rowsPerPart;
+        }
+
+        /**
+         * Returns the maximum number of parts sent concurrently.
+         *
+         * @return number of parts in flight
+         */
+        public int getParallelism() {
+            return parallelism;
+        }
+
+        /**
+         * Returns the number of rows in each part.
+         *
+         * @return rows per part
+         */
+        public int getRowsPerPart() {
+            return rowsPerPart;
+        }
+
+        /**
+         * Returns a {@code WriteOptions} that behaves like the current one, except that up to the
+         * specified number of parts are sent concurrently.
+         *
+         * @param parallelism maximum number of parts in flight
+         *
+         * @return a new {@code WriteOptions} object
+         */
+        public WriteOptions withParallelism(int parallelism) {
+            Preconditions.checkArgument(parallelism > 0, "parallelism must be positive");
+            return new WriteOptions(parallelism, this.rowsPerPart);
+        }
+
+        /**
+         * Returns a {@code WriteOptions} that behaves like the current one, except that each thread
+         * sends its rows in parts of the specified number of rows. Larger parts need fewer
+         * requests but more memory: a writer holds up to
+         * {@code (number of threads + parallelism)} parts.
+         *
+         * @param rowsPerPart number of rows in each part
+         *
+         * @return a new {@code WriteOptions} object
+         */
+        public WriteOptions withRowsPerPart(int rowsPerPart) {
+            Preconditions.checkArgument(rowsPerPart > 0, "rowsPerPart must be positive");
+            return new WriteOptions(this.parallelism, rowsPerPart);
+        }
+    }
+
+    /**
+     * Request to /gtable-xxxx/get.
+     */
+    @JsonInclude(Include.NON_NULL)
+    private static class GTableGetRequest {
+        @JsonProperty
+        private final long starting;
+        @JsonProperty
+        private final int limit;
+        @JsonProperty
+        private final List<String> columns;
+        @JsonProperty
+        private final GTableQuery query;
+
+        private GTableGetRequest(long starting, int limit, List<String> columns, GTableQuery query) {
+            this.starting = starting;
+            this.limit = limit;
+            this.columns = columns;
+            this.query = query;
+        }
+    }
+
+    /**
+     * Response from /gtable-xxxx/get, whose rows are read straight into a {@link GTableBatch} with
+     * the schema given in the reader's {@link #SCHEMA_ATTRIBUTE} attribute.
+     */
+    @JsonDeserialize(using = GTableGetResponse.Deserializer.class)
+    private static class GTableGetResponse {
+        private static final String SCHEMA_ATTRIBUTE = "gtableSchema";
+
+        private static class Deserializer extends JsonDeserializer<GTableGetResponse> {
+            @Override
+            public GTableGetResponse deserialize(JsonParser parser, DeserializationContext context)
+                    throws IOException {
+                @SuppressWarnings("unchecked")
+                List<ColumnSpecification> schema =
+                        (List<ColumnSpecification>) context.getAttribute(SCHEMA_ATTRIBUTE);
+                if (parser.getCurrentToken() != JsonToken.START_OBJECT) {
+                    throw context.mappingException(GTableGetResponse.class);
+                }
+                GTableGetResponse response = new GTableGetResponse();
+                response.data = GTableBatch.create(schema);
+                while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                    String field = parser.getCurrentName();
+                    JsonToken value = parser.nextToken();
+                    if (field.equals("next")) {
+                        response.next = value == JsonToken.VALUE_NULL ? null : parser.getLongValue();
+                    } else if (field.equals("data")) {
+                        response.data.readRows(parser);
+                    } else {
+                        parser.skipChildren();
+                    }
+                }
+                // Unknown (-1) if the response is parsed from a tree
+                response.numBytes = parser.getCurrentLocation().getByteOffset();
+                return response;
+            }
+        }
+
+        private Long next;
+        private GTableBatch data;
+        private long numBytes;
+    }
+
+    /**
+     * Request to /gtable-xxxx/addRows.
+     */
+    @JsonInclude(Include.NON_NULL)
+    private static class GTableAddRowsRequest {
+        @JsonProperty
+        private final GTableBatch data;
+        @JsonProperty
+        private final int part;
+
+        private GTableAddRowsRequest(GTableBatch data, int part) {
+            this.data = data;
+            this.part = part;
+        }
+    }
+
+    /**
+     * Response from /gtable-xxxx/nextPart.
+     */
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    private static class GTableNextPartResponse {
+        @JsonProperty
+        private int part;
+    }
+
     @JsonInclude(Include.NON_NULL)
     private static class GTableNewRequest extends DataObjectNewRequest {
         @JsonProperty
         private final List<ColumnSpecification> columns;
+        @JsonProperty
+        private final List<GTableIndex> indices;
+        @JsonProperty
+        private final InitializeFrom initializeFrom;
 
         public GTableNewRequest(Builder builder) {
             super(builder);
             this.columns = builder.columns;
-            // TODO: indices
+            this.indices = builder.indices;
+            this.initializeFrom = builder.initializeFrom == null ? null : new InitializeFrom(builder.initializeFrom);
+        }
+    }
+
+    /**
+     * Template GTable in a /gtable/new request.
+     */
+    private static class InitializeFrom {
+        @JsonProperty
+        private final String id;
+        @JsonProperty
+        private final String project;
+
+        private InitializeFrom(DXGTable gtable) {
+            this.id = gtable.getId();
+            this.project = gtable.getProject().getId();
         }
     }
 
@@ -297,6 +1250,257 @@ public class DXGTable extends DXDataObject {
         return DXJSON.safeTreeToValue(this.cachedDescribe, Describe.class);
     }
 
-    // TODO: addRows and get
+    /**
+     * Opens a writer that adds rows to the GTable, which must be open.
+     *
+     * @return a new writer
+     */
+    public RowWriter openRowWriter() {
+        return openRowWriter(WriteOptions.get());
+    }
+
+    /**
+     * Opens a writer that adds rows to the GTable, which must be open, using the specified
+     * options.
+     *
+     * @param options options controlling how the rows are written
+     *
+     * @return a new writer
+     */
+    public RowWriter openRowWriter(WriteOptions options) {
+        Preconditions.checkNotNull(options, "options may not be null");
+        List<ColumnSpecification> schema = Lists.newArrayList();
+        for (ColumnSpecification column : describe(DescribeOptions.get().withCustomFields("columns")).getColumns()) {
+            // The row ID column is filled in by the platform
+            if (!column.getName().equals(ROW_ID_COLUMN)) {
+                schema.add(column);
+            }
+        }
+        int firstPart = DXAPI.gtableNextPart(getId(), GTableNextPartResponse.class, env).part;
+        return new RowWriter(this, ImmutableList.copyOf(schema), firstPart, options);
+    }
+
+    /**
+     * Returns the columns returned by {@code /gtable-xxxx/get} for the specified column names (or
+     * all columns, if null), given the columns of the GTable.
+     */
+    private List<ColumnSpecification> getReadSchema(List<ColumnSpecification> tableColumns,
+            List<String> columnNames) {
+        Map<String, ColumnSpecification> byName = Maps.newLinkedHashMap();
+        for (ColumnSpecification column : tableColumns) {
+            byName.put(column.getName(), column);
+        }
+        // The row ID is always an integer, whatever type name the API gives it
+        byName.put(ROW_ID_COLUMN, ColumnSpecification.getInstance(ROW_ID_COLUMN, ColumnType.INT64));
+        if (columnNames == null) {
+            return ImmutableList.copyOf(byName.values());
+        }
+        ImmutableList.Builder<ColumnSpecification> schema = ImmutableList.builder();
+        for (String name : columnNames) {
+            ColumnSpecification column = byName.get(name);
+            Preconditions.checkArgument(column != null, "%s has no column named %s", getId(), name);
+            schema.add(column);
+        }
+        return schema.build();
+    }
+
+    /**
+     * Returns a reader over the rows of the GTable with IDs from {@code start} (inclusive) to
+     * {@code end} (exclusive). The GTable must be closed.
+     *
+     * @param start ID of the first row to read
+     * @param end ID after the last row to read; may exceed the number of rows
+     *
+     * @return a new reader
+     */
+    public RowReader rows(long start, long end) {
+        return rows(start, end, ReadOptions.get());
+    }
+
+    /**
+     * Returns a reader over the rows of the GTable with IDs from {@code start} (inclusive) to
+     * {@code end} (exclusive), using the specified options. The GTable must be closed.
+     *
+     * @param start ID of the first row to read
+     * @param end ID after the last row to read; may exceed the number of rows
+     * @param options options controlling how the rows are read
+     *
+     * @return a new reader
+     */
+    public RowReader rows(long start, long end, ReadOptions options) {
+        Preconditions.checkNotNull(options, "options may not be null");
+        List<ColumnSpecification> columns = describe(DescribeOptions.get().withCustomFields("columns")).getColumns();
+        return new RowReader(this, start, end, options, getReadSchema(columns, options.getColumns()));
+    }
+
+    /**
+     * Returns a reader over the rows of the GTable selected by a query on one of its indices. The
+     * GTable must be closed.
+     *
+     * @param query query on an index of the GTable
+     *
+     * @return a new reader
+     */
+    public RowReader query(GTableQuery query) {
+        return query(query, ReadOptions.get());
+    }
+
+    /**
+     * Returns a reader over the rows of the GTable selected by a query on one of its indices, using
+     * the specified options. The GTable must be closed.
+     *
+     * <p>
+     * The platform uses the index to find the matching rows, so the cost of a query depends on the
+     * number of rows it returns rather than on the size of the GTable. The rows are returned in the
+     * order of the index, a page at a time as with {@link #rows(long, long, ReadOptions)}.
+     * </p>
+     *
+     * @param query query on an index of the GTable
+     * @param options options controlling how the rows are read
+     *
+     * @return a new reader
+     */
+    public RowReader query(GTableQuery query, ReadOptions options) {
+        Preconditions.checkNotNull(query, "query may not be null");
+        Preconditions.checkNotNull(options, "options may not be null");
+        List<ColumnSpecification> columns = describe(DescribeOptions.get().withCustomFields("columns")).getColumns();
+        return new RowReader(this, 0, Long.MAX_VALUE, query, options, getReadSchema(columns, options.getColumns()),
+                new AtomicInteger(options.getInitialPageRows()));
+    }
+
+    /**
+     * Reads all rows of the GTable, splitting them into ranges of row IDs that are read
+     * concurrently, and passes each page of rows to the callback as soon as it arrives. The
+     * callback is called from up to {@link ScanOptions#getParallelism()} threads at once, with the
+     * pages in no particular order (the rows within a page are in ID order). The GTable must be
+     * closed.
+     *
+     * <p>
+     * If the callback or a request fails, the other ranges are abandoned and the first failure is
+     * thrown once the pages already being processed are done.
+     * </p>
+     *
+     * @param options options controlling how the rows are read
+     * @param callback receiver of the pages, which must be thread-safe
+     *
+     * @throws IOException the first failure of the callback or of a request
+     */
+    public void scan(final ScanOptions options, final BatchCallback callback) throws IOException {
+        Preconditions.checkNotNull(options, "options may not be null");
+        Preconditions.checkNotNull(callback, "callback may not be null");
+        Describe describe = describe(DescribeOptions.get().withCustomFields(ImmutableList.of("columns", "length")));
+        final long numRows = describe.getNumRows();
+        final long partitionRows = options.getPartitionRows(numRows);
+        final List<ColumnSpecification> schema =
+                getReadSchema(describe.getColumns(), options.getReadOptions().getColumns());
+        final AtomicLong nextStart = new AtomicLong();
+        final AtomicBoolean failed = new AtomicBoolean();
+        final AtomicInteger pageRows = new AtomicInteger(options.getReadOptions().getInitialPageRows());
+        TransferWorkers.run(options.getParallelism(), "dxjava-gtable-scan-%d", null, 0,
+                new Supplier<TransferWorkers.Worker>() {
+                    @Override
+                    public TransferWorkers.Worker get() {
+                        return new TransferWorkers.Worker() {
+                            private RowReader reader;
+
+                            @Override
+                            public boolean transferNext() throws IOException {
+                                try {
+                                    while (reader == null || !reader.hasNext()) {
+                                        long start = nextStart.getAndAdd(partitionRows);
+                                        if (failed.get() || start >= numRows) {
+                                            return false;
+                                        }
+                                        reader = new RowReader(DXGTable.this, start,
+                                                Math.min(numRows, start + partitionRows),
+                                                null, options.getReadOptions(), schema, pageRows);
+                                    }
+                                    if (failed.get()) {
+                                        reader.close();
+                                        return false;
+                                    }
+                                    callback.processBatch(reader.next());
+                                    return true;
+                                } catch (IOException | RuntimeException | Error e) {
+                                    failed.set(true);
+                                    if (reader != null) {
+                                        reader.close();
+                                    }
+                                    throw e;
+                                }
+                            }
+                        };
+                    }
+                });
+    }
+
+    /**
+     * Reads all rows of the GTable, splitting them into ranges of row IDs that are read
+     * concurrently, and passes the pages of rows to the callback in row ID order, from the calling
+     * thread. Up to {@link ScanOptions#getParallelism()} ranges are read ahead of the one being
+     * processed, and each of them is held in full until its turn comes, so the scan holds up to
+     * about {@code (parallelism + 1)} ranges. The GTable must be closed.
+     *
+     * @param options options controlling how the rows are read
+     * @param callback receiver of the pages
+     *
+     * @throws IOException the first failure of the callback or of a request
+     */
+    public void scanInOrder(ScanOptions options, BatchCallback callback) throws IOException {
+        Preconditions.checkNotNull(options, "options may not be null");
+        Preconditions.checkNotNull(callback, "callback may not be null");
+        Describe describe = describe(DescribeOptions.get().withCustomFields(ImmutableList.of("columns", "length")));
+        long numRows = describe.getNumRows();
+        long partitionRows = options.getPartitionRows(numRows);
+        final List<ColumnSpecification> schema =
+                getReadSchema(describe.getColumns(), options.getReadOptions().getColumns());
+        final ReadOptions readOptions = options.getReadOptions();
+        final AtomicInteger pageRows = new AtomicInteger(readOptions.getInitialPageRows());
+        TransferScheduler.Transfer transfer =
+                TransferScheduler.newPrivateTransfer(options.getParallelism(), "dxjava-gtable-scan-%d");
+        // Ranges being read (or read and waiting for their turn), in row ID order
+        Deque<Future<List<GTableBatch>>> pending = new ArrayDeque<Future<List<GTableBatch>>>();
+        try {
+            long nextStart = 0;
+            while (nextStart < numRows || !pending.isEmpty()) {
+                while (pending.size() < options.getParallelism() && nextStart < numRows) {
+                    final long start = nextStart;
+                    final long end = Math.min(numRows, start + partitionRows);
+                    pending.addLast(transfer.submit(new Callable<List<GTableBatch>>() {
+                        @Override
+                        public List<GTableBatch> call() {
+                            RowReader reader =
+                                    new RowReader(DXGTable.this, start, end, null, readOptions, schema, pageRows);
+                            try {
+                                return Lists.newArrayList(reader);
+                            } finally {
+                                // Abandons the page in flight if the range fails or is cancelled
+                                reader.close();
+                            }
+                        }
+                    }, 0));
+                    nextStart = end;
+                }
+                List<GTableBatch> partition;
+                try {
+                    partition = pending.pollFirst().get();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new InterruptedIOException("Interrupted while waiting for the rows of " + getId());
+                } catch (ExecutionException e) {
+                    Throwables.propagateIfPossible(e.getCause(), IOException.class);
+                    throw new IOException(e.getCause());
+                }
+                for (GTableBatch batch : partition) {
+                    callback.processBatch(batch);
+                }
+            }
+        } finally {
+            for (Future<List<GTableBatch>> future : pending) {
+                future.cancel(true);
+            }
+            transfer.close();
+        }
+    }
 
 }
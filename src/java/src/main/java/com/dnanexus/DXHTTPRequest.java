@@ -16,8 +16,16 @@
 
 package com.dnanexus;
 
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
 import java.nio.charset.Charset;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
 
 import org.apache.http.Header;
 import org.apache.http.HttpEntity;
@@ -25,31 +33,119 @@ import org.apache.http.HttpResponse;
 import org.apache.http.HttpStatus;
 import org.apache.http.client.HttpClient;
 import org.apache.http.client.methods.HttpPost;
+import org.apache.http.concurrent.FutureCallback;
+import org.apache.http.entity.AbstractHttpEntity;
+import org.apache.http.entity.ByteArrayEntity;
 import org.apache.http.entity.StringEntity;
-import org.apache.http.impl.client.HttpClientBuilder;
+import org.apache.http.nio.client.HttpAsyncClient;
 import org.apache.http.util.EntityUtils;
 
 import com.dnanexus.exceptions.DXAPIException;
 import com.dnanexus.exceptions.DXHTTPException;
 import com.dnanexus.exceptions.InternalErrorException;
 import com.dnanexus.exceptions.ServiceUnavailableException;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.MappingJsonFactory;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.base.Function;
+import com.google.common.io.ByteStreams;
+import com.google.common.io.CountingInputStream;
+import com.google.common.util.concurrent.Futures;
+import com.google.common.util.concurrent.ListenableFuture;
+import com.google.common.util.concurrent.SettableFuture;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
 
 /**
  * Class for making a raw DNAnexus API call via HTTP.
  */
 public class DXHTTPRequest {
     /**
-     * Holds either the raw text of a response or a parsed JSON version of it.
+     * Holds either the raw bytes of a response or a version of it parsed from JSON (either a
+     * {@link JsonNode} or an object deserialized directly from the response).
      */
     private static class ParsedResponse {
-        public final String responseText;
-        public final JsonNode responseJson;
+        public final byte[] responseBytes;
+        public final Object responseValue;
 
-        public ParsedResponse(String responseText, JsonNode responseJson) {
-            this.responseText = responseText;
-            this.responseJson = responseJson;
+        public ParsedResponse(byte[] responseBytes, Object responseValue) {
+            this.responseBytes = responseBytes;
+            this.responseValue = responseValue;
+        }
+
+        public String getResponseText() {
+            return new String(responseBytes, UTF_8);
+        }
+    }
+
+    /**
+     * Thrown (internally) when the server returns a 5xx error other than 503. Such requests may be
+     * retried regardless of the retry strategy.
+     */
+    @SuppressWarnings("serial")
+    private static class ServerErrorException extends IOException {
+        public ServerErrorException(String message) {
+            super(message);
+        }
+    }
+
+    /**
+     * Request entity that serializes a JSON payload directly to the connection's output stream
+     * rather than first rendering it to a String. The length is not known in advance, so the
+     * request is sent with chunked transfer encoding.
+     */
+    @VisibleForTesting
+    static class JsonEntity extends AbstractHttpEntity {
+        private final Object value;
+        private final ObjectWriter writer;
+
+        public JsonEntity(Object value) {
+            this.value = value;
+            this.writer = getWriter(value.getClass());
+            setContentType("application/json");
+            setChunked(true);
+        }
+
+        @Override
+        public InputStream getContent() throws IOException {
+            // Only used by clients that cannot write the entity to a stream themselves (e.g. the
+            // non-blocking client).
+            return new ByteArrayInputStream(writer.writeValueAsBytes(value));
+        }
+
+        @Override
+        public long getContentLength() {
+            return -1;
+        }
+
+        @Override
+        public boolean isRepeatable() {
+            return true;
+        }
+
+        @Override
+        public boolean isStreaming() {
+            return false;
+        }
+
+        @Override
+        public void writeTo(OutputStream outstream) throws IOException {
+            JsonGenerator generator = JSON_FACTORY.createGenerator(outstream);
+            try {
+                writer.writeValue(generator, value);
+            } catch (JsonProcessingException e) {
+                // The payload can't be serialized; this is not a transient I/O problem, so don't
+                // let it be retried.
+                throw new IllegalArgumentException("Request payload could not be serialized", e);
+            }
+            // Flushes the generator without closing the underlying stream
+            generator.close();
         }
     }
 
@@ -93,13 +189,37 @@ public class DXHTTPRequest {
 
     private final HttpClient httpclient;
 
+    private final DXEnvironment env;
+
     private final boolean disableRetry;
 
     private static final int NUM_RETRIES = 6;
 
     private static final DXEnvironment defaultEnv = DXEnvironment.create();
 
-    private static final String USER_AGENT = DXUserAgent.getUserAgent();
+    private static final Charset UTF_8 = Charset.forName("UTF-8");
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    // Readers and writers are immutable and thread-safe, and caching them per class avoids looking
+    // up (de)serializers on every call.
+    private static final ConcurrentMap<Class<?>, ObjectReader> READERS = new ConcurrentHashMap<Class<?>, ObjectReader>();
+    private static final ConcurrentMap<Class<?>, ObjectWriter> WRITERS = new ConcurrentHashMap<Class<?>, ObjectWriter>();
+
+    private static final ObjectReader JSON_TREE_READER = MAPPER.reader(JsonNode.class);
+
+    // Streams passed to parsers and generators belong to the HTTP client, so Jackson must not close
+    // them.
+    private static final JsonFactory JSON_FACTORY = new MappingJsonFactory(MAPPER)
+            .disable(JsonParser.Feature.AUTO_CLOSE_SOURCE)
+            .disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+
+    /**
+     * Timer on which asynchronous requests schedule their retries.
+     */
+    private static final ScheduledExecutorService RETRY_TIMER = Executors
+            .newSingleThreadScheduledExecutor(new ThreadFactoryBuilder().setDaemon(true)
+                    .setNameFormat("dxjava-retry-timer-%d").build());
 
     private static String errorMessage(String method, String resource, String errorString,
             int retryWait, int nextRetryNum, int maxRetries) {
@@ -120,12 +240,18 @@ public class DXHTTPRequest {
 
     /**
      * Construct the DXHTTPRequest using the given DXEnvironment.
+     *
+     * <p>
+     * Requests made through the same DXEnvironment share a pool of persistent connections, so
+     * constructing a DXHTTPRequest is cheap and does not open a new connection.
+     * </p>
      */
     public DXHTTPRequest(DXEnvironment env) {
         this.securityContext = env.getSecurityContextJson();
         this.apiserver = env.getApiserverPath();
         this.disableRetry = env.isRetryDisabled();
-        this.httpclient = HttpClientBuilder.create().setUserAgent(USER_AGENT).build();
+        this.httpclient = env.getHttpClient();
+        this.env = env;
     }
 
     /**
@@ -160,8 +286,7 @@ public class DXHTTPRequest {
      *         response (includes HTTP protocol errors).
      */
     public JsonNode request(String resource, JsonNode data, RetryStrategy retryStrategy) {
-        String dataAsString = data.toString();
-        return requestImpl(resource, dataAsString, true, retryStrategy).responseJson;
+        return (JsonNode) requestImpl(resource, new JsonEntity(data), JSON_TREE_READER, retryStrategy).responseValue;
     }
 
     /**
@@ -196,26 +321,170 @@ public class DXHTTPRequest {
      *         response (includes HTTP protocol errors).
      */
     public String request(String resource, String data, RetryStrategy retryStrategy) {
-        return requestImpl(resource, data, false, retryStrategy).responseText;
+        return requestImpl(resource, new StringEntity(data, UTF_8), null, retryStrategy).getResponseText();
     }
 
     /**
-     * Issues a request against the specified resource and returns either the text of the response
-     * or the parsed JSON of the response (depending on whether parseResponse is set).
+     * Issues a request against the specified resource, serializing the input object directly to the
+     * request and deserializing the response directly to an object of the specified class, without
+     * building intermediate JSON trees.
+     *
+     * @param resource Name of resource, e.g. "/file-XXXX/describe"
+     * @param inputObject Request payload (a Jackson-serializable object)
+     * @param outputClass Jackson-deserializable class to deserialize the response to
+     * @param retryStrategy Indicates whether the request is idempotent and can be retried
+     *
+     * @return response deserialized from JSON
      *
      * @throws DXAPIException If the server returns a complete response with an HTTP status code
      *         other than 200 (OK).
      * @throws DXHTTPException If an error occurs while making the HTTP request or obtaining the
      *         response (includes HTTP protocol errors).
-     * @throws InternalError If the server returns an HTTP status code 500 and the environment
-     *         specifies that retries are disabled.
-     * @throws ServiceUnavailableException If the server returns an HTTP status code 503 and
-     *         indicates that the client should retry the request at a later time, and the
-     *         environment specifies that retries are disabled.
      */
-    private ParsedResponse requestImpl(String resource, String data, boolean parseResponse,
+    <T> T request(String resource, Object inputObject, Class<T> outputClass,
+            RetryStrategy retryStrategy) {
+        return outputClass.cast(requestImpl(resource, new JsonEntity(inputObject),
+                getReader(outputClass), retryStrategy).responseValue);
+    }
+
+    /**
+     * Issues a request against the specified resource without blocking the calling thread, and
+     * returns a future for the result as a JSON object.
+     *
+     * <p>
+     * The request is sent with a non-blocking HTTP client shared by all requests made through the
+     * same {@link DXEnvironment}. Retries follow the same policy as
+     * {@link #request(String, JsonNode, RetryStrategy)}, but the backoff between attempts is
+     * scheduled on a timer rather than slept on a thread, so a large number of requests can be in
+     * flight at once.
+     * </p>
+     *
+     * <p>
+     * If the request fails, the future fails with the exception that the blocking variant would
+     * have thrown ({@link DXAPIException}, {@link DXHTTPException}, etc.).
+     * </p>
+     *
+     * @param resource Name of resource, e.g. "/file-XXXX/describe"
+     * @param data Request payload (to be converted to JSON)
+     * @param retryStrategy Indicates whether the request is idempotent and can be retried
+     *
+     * @return future that completes with the response parsed from JSON
+     */
+    public ListenableFuture<JsonNode> requestAsync(String resource, JsonNode data,
+            RetryStrategy retryStrategy) {
+        return Futures.transform(
+                requestAsyncImpl(resource, new JsonEntity(data), JSON_TREE_READER, retryStrategy),
+                new Function<ParsedResponse, JsonNode>() {
+                    @Override
+                    public JsonNode apply(ParsedResponse response) {
+                        return (JsonNode) response.responseValue;
+                    }
+                });
+    }
+
+    /**
+     * Issues a request against the specified resource without blocking the calling thread,
+     * serializing the input object directly to the request and deserializing the response directly
+     * to an object of the specified class.
+     *
+     * @param resource Name of resource, e.g. "/file-XXXX/describe"
+     * @param inputObject Request payload (a Jackson-serializable object)
+     * @param outputClass Jackson-deserializable class to deserialize the response to
+     * @param retryStrategy Indicates whether the request is idempotent and can be retried
+     *
+     * @return future that completes with the response deserialized from JSON
+     *
+     * @see #requestAsync(String, JsonNode, RetryStrategy)
+     */
+    <T> ListenableFuture<T> requestAsync(String resource, Object inputObject,
+            final Class<T> outputClass, RetryStrategy retryStrategy) {
+        return Futures.transform(
+                requestAsyncImpl(resource, new JsonEntity(inputObject), getReader(outputClass),
+                        retryStrategy), new Function<ParsedResponse, T>() {
+                    @Override
+                    public T apply(ParsedResponse response) {
+                        return outputClass.cast(response.responseValue);
+                    }
+                });
+    }
+
+    /**
+     * Issues a request against the specified resource without blocking the calling thread, and
+     * returns a future for the raw bytes of the response, checked against its Content-Length but
+     * not parsed. The future is completed on the non-blocking client's I/O dispatcher thread, so
+     * callers with large responses can parse them with {@link #parseResponse} on a thread of their
+     * own rather than stall the other requests served by that thread.
+     *
+     * @param resource Name of resource, e.g. "/file-XXXX/describe"
+     * @param inputObject Request payload (a Jackson-serializable object)
+     * @param retryStrategy Indicates whether the request is idempotent and can be retried
+     *
+     * @return future that completes with the body of the response
+     *
+     * @see #requestAsync(String, JsonNode, RetryStrategy)
+     */
+    ListenableFuture<byte[]> requestAsyncUnparsed(String resource, Object inputObject,
             RetryStrategy retryStrategy) {
+        return Futures.transform(
+                requestAsyncImpl(resource, new JsonEntity(inputObject), null, retryStrategy),
+                new Function<ParsedResponse, byte[]>() {
+                    @Override
+                    public byte[] apply(ParsedResponse response) {
+                        return response.responseBytes;
+                    }
+                });
+    }
 
+    /**
+     * Deserializes a response obtained with {@link #requestAsyncUnparsed} with the specified
+     * reader.
+     *
+     * @param response body of the response
+     * @param outputClass class of the objects produced by {@code reader}
+     * @param reader reader that deserializes the response
+     *
+     * @return the deserialized response
+     *
+     * @throws RuntimeException if the response cannot be parsed
+     */
+    static <T> T parseResponse(byte[] response, Class<T> outputClass, ObjectReader reader) {
+        try {
+            return outputClass.cast(parseResponseValue(new ByteArrayEntity(response), reader));
+        } catch (IOException e) {
+            // The whole response is in memory, so it cannot be truncated
+            throw new RuntimeException(e);
+        }
+    }
+
+    /**
+     * Issues a request against the specified resource without blocking the calling thread, and
+     * returns a future for the result as a String.
+     *
+     * @param resource Name of resource, e.g. "/file-XXXX/describe"
+     * @param data Request payload (String to be sent verbatim)
+     * @param retryStrategy Indicates whether the request is idempotent and can be retried
+     *
+     * @return future that completes with the text of the response
+     *
+     * @see #requestAsync(String, JsonNode, RetryStrategy)
+     */
+    public ListenableFuture<String> requestAsync(String resource, String data,
+            RetryStrategy retryStrategy) {
+        return Futures.transform(
+                requestAsyncImpl(resource, new StringEntity(data, UTF_8), null, retryStrategy),
+                new Function<ParsedResponse, String>() {
+                    @Override
+                    public String apply(ParsedResponse response) {
+                        return response.getResponseText();
+                    }
+                });
+    }
+
+    /**
+     * Returns a new POST request to the specified resource carrying the specified payload and the
+     * authorization header.
+     */
+    private HttpPost buildPost(String resource, HttpEntity data) {
         HttpPost request = new HttpPost(apiserver + resource);
 
         if (securityContext == null || securityContext.isNull()) {
@@ -223,10 +492,213 @@ public class DXHTTPRequest {
         }
 
         request.setHeader("Content-Type", "application/json");
-        request.setHeader("Connection", "close");
         request.setHeader("Authorization", securityContext.get("auth_token_type").textValue() + " "
                 + securityContext.get("auth_token").textValue());
-        request.setEntity(new StringEntity(data, Charset.forName("UTF-8")));
+        request.setEntity(data);
+        return request;
+    }
+
+    /**
+     * Interprets the server's response to a single attempt of a request. Returns the response if
+     * the request succeeded, and otherwise throws an exception that indicates whether the request
+     * may be retried.
+     *
+     * @throws ServerErrorException If the server returned a 5xx error (other than 503) and
+     *         retries are enabled; the request may be retried regardless of the retry strategy.
+     * @throws ServiceUnavailableException If the server returned 503 Service Unavailable.
+     * @throws IOException If the response could not be read in full; the request may be retried if
+     *         the retry strategy permits it.
+     * @throws DXAPIException If the server returned an error that should not be retried.
+     */
+    private ParsedResponse processResponse(HttpResponse response, String resource,
+            ObjectReader responseReader, int attempts) throws IOException {
+        int statusCode = response.getStatusLine().getStatusCode();
+        HttpEntity entity = response.getEntity();
+
+        if (statusCode == HttpStatus.SC_OK) {
+            // 200 OK
+            if (responseReader != null) {
+                return new ParsedResponse(null, parseResponseValue(entity, responseReader));
+            }
+            byte[] value = EntityUtils.toByteArray(entity);
+            int realLength = value.length;
+            if (entity.getContentLength() >= 0 && realLength != entity.getContentLength()) {
+                // Content length mismatch. Retry is possible (if the route permits it).
+                throw new IOException("Received response of " + realLength
+                        + " bytes but Content-Length was " + entity.getContentLength());
+            }
+            return new ParsedResponse(value, null);
+        } else if (statusCode < 500) {
+            // 4xx errors should be considered not recoverable.
+            String responseStr = EntityUtils.toString(entity);
+            String errorType = null;
+            String errorMessage = responseStr;
+            try {
+                JsonNode responseJson = DXJSON.parseJson(responseStr);
+                JsonNode errorField = responseJson.get("error");
+                if (errorField != null) {
+                    JsonNode typeField = errorField.get("type");
+                    if (typeField != null) {
+                        errorType = typeField.asText();
+                    }
+                    JsonNode messageField = errorField.get("message");
+                    if (messageField != null) {
+                        errorMessage = messageField.asText();
+                    }
+                }
+            } catch (IOException e) {
+                // Just fall back to reproducing the entire response
+                // body.
+            }
+
+            throw DXAPIException.getInstance(errorType, errorMessage, statusCode);
+        } else {
+            // Propagate 500 error to caller
+            if (this.disableRetry && statusCode != 503) {
+                System.err.println("POST " + resource + ": " + statusCode + " Internal Server Error, try "
+                        + String.valueOf(attempts + 1) + "/" + NUM_RETRIES);
+                EntityUtils.consume(entity);
+                throw new InternalErrorException("Internal Server Error", statusCode);
+            }
+            if (statusCode == 503) {
+                int retryAfterSeconds = 60;
+                Header retryAfterHeader = response.getFirstHeader("retry-after");
+                // Consume the response to avoid leaking resources
+                EntityUtils.consume(entity);
+                if (retryAfterHeader != null) {
+                    try {
+                        retryAfterSeconds = Integer.parseInt(retryAfterHeader.getValue());
+                    } catch (NumberFormatException e) {
+                        // Just fall back to the default
+                    }
+                }
+                throw new ServiceUnavailableException("503 Service Unavailable", statusCode, retryAfterSeconds);
+            }
+            // If retries enabled, 500 InternalError should get retried unconditionally
+            throw new ServerErrorException(EntityUtils.toString(entity));
+        }
+    }
+
+    /**
+     * Returns a (cached) reader that deserializes JSON to the specified class.
+     */
+    @VisibleForTesting
+    static ObjectReader getReader(Class<?> valueType) {
+        if (valueType == JsonNode.class) {
+            return JSON_TREE_READER;
+        }
+        ObjectReader reader = READERS.get(valueType);
+        if (reader == null) {
+            reader = MAPPER.reader(valueType);
+            READERS.putIfAbsent(valueType, reader);
+        }
+        return reader;
+    }
+
+    /**
+     * Returns a (cached) writer that serializes objects of the specified class to JSON.
+     */
+    private static ObjectWriter getWriter(Class<?> valueType) {
+        ObjectWriter writer = WRITERS.get(valueType);
+        if (writer == null) {
+            writer = MAPPER.writerFor(valueType);
+            WRITERS.putIfAbsent(valueType, writer);
+        }
+        return writer;
+    }
+
+    /**
+     * Parses the JSON body of a 200 OK response incrementally from the entity's stream, without
+     * first buffering the raw bytes, using the specified reader. The body is read to the end and
+     * its length is compared with the Content-Length header, so a truncated response can still be
+     * retried.
+     *
+     * @throws IOException If the response was truncated or could not be read in full (the request
+     *         may be retried if the route permits it).
+     */
+    @VisibleForTesting
+    static Object parseResponseValue(HttpEntity entity, ObjectReader reader)
+            throws IOException {
+        long contentLength = entity.getContentLength();
+        CountingInputStream content = new CountingInputStream(entity.getContent());
+        try {
+            Object responseValue = null;
+            JsonProcessingException parseError = null;
+            try {
+                JsonParser parser = JSON_FACTORY.createParser(content);
+                if (reader == JSON_TREE_READER || contentLength < 0) {
+                    // Without a Content-Length we can't tell a truncated response from one that
+                    // doesn't match the output class, so parse the tree first and only bind it
+                    // once we know the JSON is complete.
+                    JsonNode tree = parser.readValueAsTree();
+                    responseValue = (reader == JSON_TREE_READER) ? tree : bindTree(tree, reader);
+                } else {
+                    responseValue = reader.readValue(parser);
+                }
+            } catch (JsonProcessingException e) {
+                parseError = e;
+            }
+
+            // Read (and count) whatever the parser left unread so that we can detect a
+            // Content-Length mismatch and so that the connection can be reused.
+            ByteStreams.copy(content, ByteStreams.nullOutputStream());
+            long realLength = content.getCount();
+            if (contentLength >= 0 && realLength != contentLength) {
+                // Content length mismatch. Retry is possible (if the route permits it).
+                throw new IOException("Received response of " + realLength
+                        + " bytes but Content-Length was " + contentLength);
+            }
+
+            if (parseError != null) {
+                if (contentLength < 0) {
+                    // content-length was not provided, and the JSON could not be parsed. Retry (if
+                    // the route permits it) since this is probably just a streaming request that
+                    // encountered a transient error.
+                    throw new IOException(
+                            "Content-length was not provided and the response JSON could not be parsed.");
+                }
+                // This is probably a real problem (the request is complete but doesn't parse), so
+                // avoid masking it as an IOException (which is rethrown as DXHTTPException below).
+                // If it comes up frequently we can revisit how these should be handled.
+                throw new RuntimeException("Request is of the correct length but is unparseable",
+                        parseError);
+            }
+            return responseValue;
+        } finally {
+            content.close();
+        }
+    }
+
+    /**
+     * Deserializes a complete JSON tree with the specified reader, rethrowing any failure as an
+     * unchecked exception (as {@link DXJSON#safeTreeToValue} does).
+     */
+    private static Object bindTree(JsonNode tree, ObjectReader reader) {
+        try {
+            return reader.readValue(tree);
+        } catch (IOException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    /**
+     * Issues a request against the specified resource and returns either the text of the response
+     * or the response parsed with {@code responseReader} (if it is not null).
+     *
+     * @throws DXAPIException If the server returns a complete response with an HTTP status code
+     *         other than 200 (OK).
+     * @throws DXHTTPException If an error occurs while making the HTTP request or obtaining the
+     *         response (includes HTTP protocol errors).
+     * @throws InternalError If the server returns an HTTP status code 500 and the environment
+     *         specifies that retries are disabled.
+     * @throws ServiceUnavailableException If the server returns an HTTP status code 503 and
+     *         indicates that the client should retry the request at a later time, and the
+     *         environment specifies that retries are disabled.
+     */
+    private ParsedResponse requestImpl(String resource, HttpEntity data, ObjectReader responseReader,
+            RetryStrategy retryStrategy) {
+
+        HttpPost request = buildPost(resource, data);
 
         // Retry with exponential backoff
         int timeoutSeconds = 1;
@@ -239,12 +711,6 @@ public class DXHTTPRequest {
             // out of retries, so we can check at the bottom of the loop instead of the top.
             assert NUM_RETRIES > 0;
 
-            // By default, our conservative strategy is to retry if the route permits it. Later we
-            // may update this to unconditionally retry if we can definitely determine that the
-            // server never saw the request.
-            boolean retryRequest = (retryStrategy == RetryStrategy.SAFE_TO_RETRY);
-            int retryAfterSeconds = 60;
-
             try {
                 // In this block, any IOException will cause the request to be retried (up to a
                 // total of NUM_RETRIES retries). RuntimeException (including DXAPIException)
@@ -256,98 +722,9 @@ public class DXHTTPRequest {
                 HttpResponse response = httpclient.execute(request);
 
                 statusCode = response.getStatusLine().getStatusCode();
-                HttpEntity entity = response.getEntity();
-
-                if (statusCode == null) {
-                    throw new DXHTTPException();
-                } else if (statusCode == HttpStatus.SC_OK) {
-                    // 200 OK
-                    byte[] value = EntityUtils.toByteArray(entity);
-                    int realLength = value.length;
-                    if (entity.getContentLength() >= 0 && realLength != entity.getContentLength()) {
-                        // Content length mismatch. Retry is possible (if the route permits it).
-                        throw new IOException("Received response of " + realLength
-                                + " bytes but Content-Length was " + entity.getContentLength());
-                    } else if (parseResponse) {
-                        JsonNode responseJson = null;
-                        try {
-                            responseJson = DXJSON.parseJson(new String(value, "UTF-8"));
-                        } catch (JsonProcessingException e) {
-                            if (entity.getContentLength() < 0) {
-                                // content-length was not provided, and the JSON could not be
-                                // parsed. Retry (if the route permits it) since this is probably
-                                // just a streaming request that encountered a transient error.
-                                throw new IOException(
-                                        "Content-length was not provided and the response JSON could not be parsed.");
-                            }
-                            // This is probably a real problem (the request
-                            // is complete but doesn't parse), so avoid
-                            // masking it as an IOException (which is
-                            // rethrown as DXHTTPException below). If it
-                            // comes up frequently we can revisit how these
-                            // should be handled.
-                            throw new RuntimeException(
-                                    "Request is of the correct length but is unparseable", e);
-                        } catch (IOException e) {
-                            // TODO: characterize what kinds of errors
-                            // DXJSON.parseJson can emit, determine how we can
-                            // get here and what to do about it.
-                            throw new RuntimeException(e);
-                        }
-                        return new ParsedResponse(null, responseJson);
-                    } else {
-                        return new ParsedResponse(new String(value, Charset.forName("UTF-8")), null);
-                    }
-                } else if (statusCode < 500) {
-                    // 4xx errors should be considered not recoverable.
-                    String responseStr = EntityUtils.toString(entity);
-                    String errorType = null;
-                    String errorMessage = responseStr;
-                    try {
-                        JsonNode responseJson = DXJSON.parseJson(responseStr);
-                        JsonNode errorField = responseJson.get("error");
-                        if (errorField != null) {
-                            JsonNode typeField = errorField.get("type");
-                            if (typeField != null) {
-                                errorType = typeField.asText();
-                            }
-                            JsonNode messageField = errorField.get("message");
-                            if (messageField != null) {
-                                errorMessage = messageField.asText();
-                            }
-                        }
-                    } catch (IOException e) {
-                        // Just fall back to reproducing the entire response
-                        // body.
-                    }
-
-                    throw DXAPIException.getInstance(errorType, errorMessage, statusCode);
-                } else {
-                    // Propagate 500 error to caller
-                    if (this.disableRetry && statusCode != 503) {
-                        System.err.println("POST " + resource + ": " + statusCode + " Internal Server Error, try "
-                                + String.valueOf(attempts + 1) + "/" + NUM_RETRIES);
-                        throw new InternalErrorException("Internal Server Error", statusCode);
-                    }
-                    // If retries enabled, 500 InternalError should get retried unconditionally
-                    retryRequest = true;
-                    if (statusCode == 503) {
-                        Header retryAfterHeader = response.getFirstHeader("retry-after");
-                        // Consume the response to avoid leaking resources
-                        EntityUtils.consume(entity);
-                        if (retryAfterHeader != null) {
-                            try {
-                                retryAfterSeconds = Integer.parseInt(retryAfterHeader.getValue());
-                            } catch (NumberFormatException e) {
-                                // Just fall back to the default
-                            }
-                        }
-                        throw new ServiceUnavailableException("503 Service Unavailable", statusCode, retryAfterSeconds);
-                    }
-                    throw new IOException(EntityUtils.toString(entity));
-                }
+                return processResponse(response, resource, responseReader, attempts);
             } catch (ServiceUnavailableException e) {
-                int secondsToWait = retryAfterSeconds;
+                int secondsToWait = e.getSecondsToWaitForRetry();
 
                 if (this.disableRetry) {
                     System.err.println("POST " + resource + ": 503 Service Unavailable, suggested wait "
@@ -367,18 +744,12 @@ public class DXHTTPRequest {
                 // the response.
                 System.err.println(errorMessage("POST", resource, e.toString(), timeoutSeconds,
                         attempts + 1, NUM_RETRIES));
-                if (attempts == NUM_RETRIES || !retryRequest) {
-                    if (statusCode == null) {
-                        throw new DXHTTPException();
-                    }
-                    throw new InternalErrorException("Maximum number of retries reached, or unsafe to retry",
-                            statusCode);
+                RuntimeException failure = checkRetriesRemaining(e, retryStrategy, statusCode, attempts);
+                if (failure != null) {
+                    throw failure;
                 }
             }
 
-            assert attempts < NUM_RETRIES;
-            assert retryRequest;
-
             attempts++;
 
             // The number of failed attempts is now no more than NUM_RETRIES, and the total number
@@ -390,4 +761,136 @@ public class DXHTTPRequest {
             timeoutSeconds *= 2;
         }
     }
+
+    /**
+     * Determines whether a request that failed with the specified exception may be retried.
+     *
+     * @return {@code null} if the request should be retried, or the exception to report to the
+     *         caller otherwise
+     */
+    private static RuntimeException checkRetriesRemaining(IOException e, RetryStrategy retryStrategy,
+            Integer statusCode, int attempts) {
+        // By default, our conservative strategy is to retry if the route permits it. Later we may
+        // update this to unconditionally retry if we can definitely determine that the server never
+        // saw the request. 5xx errors are retried unconditionally.
+        boolean retryRequest = (retryStrategy == RetryStrategy.SAFE_TO_RETRY)
+                || (e instanceof ServerErrorException);
+        if (attempts == NUM_RETRIES || !retryRequest) {
+            if (statusCode == null) {
+                return new DXHTTPException();
+            }
+            return new InternalErrorException("Maximum number of retries reached, or unsafe to retry",
+                    statusCode);
+        }
+        assert attempts < NUM_RETRIES;
+        return null;
+    }
+
+    /**
+     * Issues a request against the specified resource using the non-blocking client and returns a
+     * future for either the text of the response or the response parsed with
+     * {@code responseReader}.
+     */
+    private ListenableFuture<ParsedResponse> requestAsyncImpl(String resource, HttpEntity data,
+            ObjectReader responseReader, RetryStrategy retryStrategy) {
+        SettableFuture<ParsedResponse> result = SettableFuture.create();
+        try {
+            new AsyncAttempt(resource, buildPost(resource, data), responseReader, retryStrategy,
+                    result).execute();
+        } catch (RuntimeException e) {
+            result.setException(e);
+        }
+        return result;
+    }
+
+    /**
+     * Drives a single asynchronous request through its attempts, following the same retry policy
+     * as {@link DXHTTPRequest#requestImpl}. Each attempt is executed by the non-blocking client,
+     * and backoff delays are scheduled on {@link DXHTTPRequest#RETRY_TIMER}.
+     */
+    private class AsyncAttempt implements FutureCallback<HttpResponse>, Runnable {
+        private final String resource;
+        private final HttpPost request;
+        private final ObjectReader responseReader;
+        private final RetryStrategy retryStrategy;
+        private final SettableFuture<ParsedResponse> result;
+
+        private int timeoutSeconds = 1;
+        private int attempts = 0;
+
+        private AsyncAttempt(String resource, HttpPost request, ObjectReader responseReader,
+                RetryStrategy retryStrategy, SettableFuture<ParsedResponse> result) {
+            this.resource = resource;
+            this.request = request;
+            this.responseReader = responseReader;
+            this.retryStrategy = retryStrategy;
+            this.result = result;
+        }
+
+        private void execute() {
+            if (!result.isDone()) {
+                HttpAsyncClient asyncHttpclient = env.getAsyncHttpClient();
+                asyncHttpclient.execute(request, this);
+            }
+        }
+
+        @Override
+        public void run() {
+            try {
+                execute();
+            } catch (RuntimeException e) {
+                result.setException(e);
+            }
+        }
+
+        @Override
+        public void completed(HttpResponse response) {
+            Integer statusCode = response.getStatusLine().getStatusCode();
+            try {
+                result.set(processResponse(response, resource, responseReader, attempts));
+            } catch (ServiceUnavailableException e) {
+                int secondsToWait = e.getSecondsToWaitForRetry();
+                if (disableRetry) {
+                    System.err.println("POST " + resource + ": 503 Service Unavailable, suggested wait "
+                            + secondsToWait + " seconds");
+                    result.setException(e);
+                    return;
+                }
+                System.err.println("POST " + resource + ": 503 Service Unavailable, waiting for "
+                        + Integer.toString(secondsToWait) + " seconds");
+                RETRY_TIMER.schedule(this, secondsToWait, TimeUnit.SECONDS);
+            } catch (IOException e) {
+                retryOrFail(e, statusCode);
+            } catch (RuntimeException e) {
+                result.setException(e);
+            }
+        }
+
+        @Override
+        public void failed(Exception ex) {
+            if (ex instanceof IOException) {
+                retryOrFail((IOException) ex, null);
+            } else {
+                result.setException(ex);
+            }
+        }
+
+        @Override
+        public void cancelled() {
+            result.cancel(false);
+        }
+
+        private void retryOrFail(IOException e, Integer statusCode) {
+            System.err.println(errorMessage("POST", resource, e.toString(), timeoutSeconds,
+                    attempts + 1, NUM_RETRIES));
+            RuntimeException failure = checkRetriesRemaining(e, retryStrategy, statusCode, attempts);
+            if (failure != null) {
+                result.setException(failure);
+                return;
+            }
+            attempts++;
+            RETRY_TIMER.schedule(this, timeoutSeconds, TimeUnit.SECONDS);
+            timeoutSeconds *= 2;
+        }
+    }
 }
@@ -0,0 +1,4 @@
+package com.dnanexus;
+class DXToolkitVersion {
+    public static final String TOOLKIT_VERSION = "0.0.0";
+}
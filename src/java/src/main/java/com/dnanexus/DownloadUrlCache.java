@@ -0,0 +1,141 @@
+// Copyright (C) 2013-2016 DNAnexus, Inc.
+//
+// This file is part of dx-toolkit (DNAnexus platform client libraries).
+//
+// Licensed under the Apache License, Version 2.0 (the "License"); you may
+// not use this file except in compliance with the License. You may obtain a
+// copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+// WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+// License for the specific language governing permissions and limitations
+// under the License.
+package com.dnanexus;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.base.Preconditions;
+import com.google.common.base.Supplier;
+import com.google.common.base.Ticker;
+import com.google.common.collect.ImmutableMap;
+
+/**
+ * Holds a file's download URL (and the headers to send with it) for as long as the URL is valid,
+ * so that many downloads of the same file obtain it only once.
+ *
+ * <p>
+ * A URL is reused until shortly before it expires, or until a download reports that it was
+ * rejected ({@link #invalidate}), whichever comes first; the next caller then obtains a new one.
+ * This class is thread-safe, and concurrent callers that find the URL missing or expired wait for
+ * a single new one to be obtained.
+ * </p>
+ */
+class DownloadUrlCache {
+
+    /**
+     * A download URL and the headers to send with it.
+     */
+    static class DownloadUrl {
+        private final String url;
+        private final Map<String, String> headers;
+        private final Long validForMillis;
+
+        /**
+         * Creates a download URL.
+         *
+         * @param url URL returned by the /file-xxxx/download route
+         * @param headers headers returned by the /file-xxxx/download route, or null
+         * @param validForMillis time for which the URL remains valid, or null if it does not expire
+         */
+        DownloadUrl(String url, Map<String, String> headers, Long validForMillis) {
+            this.url = Preconditions.checkNotNull(url);
+            this.headers = headers == null ? ImmutableMap.<String, String>of() : ImmutableMap.copyOf(headers);
+            this.validForMillis = validForMillis;
+        }
+
+        Map<String, String> getHeaders() {
+            return headers;
+        }
+
+        String getUrl() {
+            return url;
+        }
+    }
+
+    /**
+     * Time before a URL expires at which it is no longer handed out, so that downloads started with
+     * it have time to complete.
+     */
+    @VisibleForTesting
+    static final long EXPIRY_MARGIN_MILLIS = 60 * 1000;
+
+    /**
+     * Returns a cache that always returns the specified URL.
+     *
+     * @param url URL that does not expire
+     *
+     * @return URL cache
+     */
+    static DownloadUrlCache of(final DownloadUrl url) {
+        Preconditions.checkNotNull(url);
+        return new DownloadUrlCache(new Supplier<DownloadUrl>() {
+            @Override
+            public DownloadUrl get() {
+                return url;
+            }
+        }, Ticker.systemTicker());
+    }
+
+    private final Supplier<DownloadUrl> loader;
+    private final Ticker ticker;
+
+    private DownloadUrl current;
+    // Value of the ticker after which the current URL is no longer used, if it expires
+    private long refreshAfterNanos;
+
+    /**
+     * Creates a cache of the URLs obtained from the specified loader.
+     *
+     * @param loader obtains a new download URL (e.g. by calling the /file-xxxx/download route)
+     * @param ticker source of the time used to expire URLs
+     */
+    DownloadUrlCache(Supplier<DownloadUrl> loader, Ticker ticker) {
+        this.loader = Preconditions.checkNotNull(loader);
+        this.ticker = Preconditions.checkNotNull(ticker);
+    }
+
+    /**
+     * Returns a valid download URL, obtaining a new one if necessary.
+     *
+     * @return download URL
+     */
+    synchronized DownloadUrl get() {
+        if (current == null || (current.validForMillis != null && ticker.read() - refreshAfterNanos >= 0)) {
+            DownloadUrl url = loader.get();
+            if (url.validForMillis != null) {
+                // URLs that are valid for less than the margin are reused for half their validity
+                long usableMillis = Math.max(url.validForMillis - EXPIRY_MARGIN_MILLIS, url.validForMillis / 2);
+                refreshAfterNanos = ticker.read() + TimeUnit.MILLISECONDS.toNanos(usableMillis);
+            }
+            current = url;
+        }
+        return current;
+    }
+
+    /**
+     * Discards the specified URL, e.g. because the server rejected it as expired, so that the next
+     * call to {@link #get} obtains a new one. Has no effect if a new URL has been obtained already.
+     *
+     * @param url URL that is no longer valid
+     */
+    synchronized void invalidate(DownloadUrl url) {
+        if (current == url) {
+            current = null;
+        }
+    }
+}
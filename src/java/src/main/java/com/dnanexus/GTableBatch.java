@@ -0,0 +1,673 @@
+// Copyright (C) 2013-2016 DNAnexus, Inc.
+//
+// This file is part of dx-toolkit (DNAnexus platform client libraries).
+//
+// Licensed under the Apache License, Version 2.0 (the "License"); you may
+// not use this file except in compliance with the License. You may obtain a
+// copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+// WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+// License for the specific language governing permissions and limitations
+// under the License.
+package com.dnanexus;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.json.UTF8JsonGenerator;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import com.google.common.base.Preconditions;
+import com.google.common.collect.ImmutableList;
+import com.google.common.primitives.Ints;
+
+/**
+ * A batch of GTable rows stored by column, with the values of each column in a primitive array.
+ *
+ * <p>
+ * The columns follow a schema of {@link ColumnSpecification}s. Columns of type
+ * {@link ColumnType#BOOLEAN} are stored as {@code boolean[]}; {@code UINT8}, {@code INT16},
+ * {@code UINT16}, and {@code INT32} as {@code int[]}; {@code UINT32} and {@code INT64} as
+ * {@code long[]}; {@code FLOAT} and {@code DOUBLE} as {@code double[]}. The strings of all
+ * {@code STRING} columns are stored UTF-8 encoded in one byte buffer shared by the batch, each
+ * column keeping the offset and length of its values. So a batch holds no object per cell, and a
+ * batch read from or written to the API is converted directly from or to the JSON token stream.
+ * </p>
+ *
+ * <p>
+ * Rows are added at the end, either with {@link #addRow(Object...)} or with {@link #appendRow()}
+ * followed by the {@code set} methods. This class is not thread-safe.
+ * </p>
+ */
+@JsonSerialize(using = GTableBatch.Serializer.class)
+public final class GTableBatch {
+
+    /**
+     * How the values of a column are stored.
+     */
+    private enum Kind {
+        BOOLEAN, INT, LONG, DOUBLE, STRING;
+
+        private static Kind of(ColumnType type) {
+            switch (type) {
+                case BOOLEAN:
+                    return BOOLEAN;
+                case UINT8:
+                case INT16:
+                case UINT16:
+                case INT32:
+                    return INT;
+                case UINT32:
+                case INT64:
+                    return LONG;
+                case FLOAT:
+                case DOUBLE:
+                    return DOUBLE;
+                case STRING:
+                    return STRING;
+                default:
+                    throw new IllegalArgumentException("Unsupported column type " + type);
+            }
+        }
+    }
+
+    /**
+     * Writes a batch as a JSON array of rows, each a JSON array of values, as expected by
+     * {@code /gtable-xxxx/addRows}.
+     */
+    static class Serializer extends JsonSerializer<GTableBatch> {
+        @Override
+        public void serialize(GTableBatch batch, JsonGenerator generator, SerializerProvider provider)
+                throws IOException {
+            batch.write(generator);
+        }
+    }
+
+    private static final int DEFAULT_CAPACITY = 16;
+
+    /**
+     * Returns an empty batch with the specified schema.
+     *
+     * @param schema columns of the rows
+     *
+     * @return new batch
+     */
+    public static GTableBatch create(List<? extends ColumnSpecification> schema) {
+        return create(schema, DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Returns an empty batch with the specified schema and room for the specified number of rows
+     * (more rows can still be added).
+     *
+     * @param schema columns of the rows
+     * @param capacity expected number of rows
+     *
+     * @return new batch
+     */
+    public static GTableBatch create(List<? extends ColumnSpecification> schema, int capacity) {
+        Preconditions.checkArgument(capacity >= 0, "capacity may not be negative");
+        return new GTableBatch(ImmutableList.copyOf(schema), capacity);
+    }
+
+    private final List<ColumnSpecification> schema;
+    private final Kind[] kinds;
+    // Values of each column, in the array matching its kind (the others are null). The values of a
+    // string column are the offsets and lengths of its strings in the shared buffer.
+    private final boolean[][] booleans;
+    private final int[][] ints;
+    private final long[][] longs;
+    private final double[][] doubles;
+    private final int[][] stringOffsets;
+    private final int[][] stringLengths;
+    private byte[] stringBytes = new byte[0];
+    private int stringBytesLength;
+    private int capacity;
+    private int size;
+
+    private GTableBatch(List<ColumnSpecification> schema, int capacity) {
+        int numColumns = schema.size();
+        this.schema = schema;
+        this.kinds = new Kind[numColumns];
+        this.booleans = new boolean[numColumns][];
+        this.ints = new int[numColumns][];
+        this.longs = new long[numColumns][];
+        this.doubles = new double[numColumns][];
+        this.stringOffsets = new int[numColumns][];
+        this.stringLengths = new int[numColumns][];
+        for (int column = 0; column < numColumns; ++column) {
+            kinds[column] = Kind.of(Preconditions.checkNotNull(schema.get(column).getType(),
+                    "Column %s has no type", schema.get(column).getName()));
+        }
+        resize(capacity);
+    }
+
+    /**
+     * Adds a row whose values are all false, zero, or empty, to be filled in with the {@code set}
+     * methods.
+     *
+     * @return index of the new row
+     */
+    public int appendRow() {
+        if (size == capacity) {
+            resize(Math.max(DEFAULT_CAPACITY, Ints.saturatedCast(2L * capacity)));
+        }
+        return size++;
+    }
+
+    /**
+     * Adds a row with the specified values: a {@link Boolean} for boolean columns, a {@link Number}
+     * for numeric ones, and a {@link String} (or any other object, which is converted with
+     * {@code toString}) for string ones.
+     *
+     * @param values values of the row, in the order of the schema
+     */
+    public void addRow(List<?> values) {
+        addRow(values.toArray());
+    }
+
+    /**
+     * Adds a row with the specified values: a {@link Boolean} for boolean columns, a {@link Number}
+     * for numeric ones, and a {@link String} (or any other object, which is converted with
+     * {@code toString}) for string ones.
+     *
+     * @param values values of the row, in the order of the schema
+     */
+    public void addRow(Object... values) {
+        Preconditions.checkArgument(values.length == kinds.length, "Expected %s values but got %s", kinds.length,
+                values.length);
+        for (int column = 0; column < values.length; ++column) {
+            Preconditions.checkNotNull(values[column], "Value of column %s may not be null",
+                    schema.get(column).getName());
+            checkValue(column, values[column]);
+        }
+        int row = appendRow();
+        for (int column = 0; column < values.length; ++column) {
+            Object value = values[column];
+            switch (kinds[column]) {
+                case BOOLEAN:
+                    booleans[column][row] = (Boolean) value;
+                    break;
+                case INT:
+                    ints[column][row] = Ints.checkedCast(((Number) value).longValue());
+                    break;
+                case LONG:
+                    longs[column][row] = ((Number) value).longValue();
+                    break;
+                case DOUBLE:
+                    doubles[column][row] = ((Number) value).doubleValue();
+                    break;
+                case STRING:
+                    setString(row, column, value.toString());
+                    break;
+            }
+        }
+    }
+
+    /**
+     * Removes all rows, keeping the allocated space.
+     */
+    public void clear() {
+        size = 0;
+        stringBytesLength = 0;
+    }
+
+    /**
+     * Returns the index of the column with the specified name.
+     *
+     * @param name column name
+     *
+     * @return index of the column in the schema
+     *
+     * @throws IllegalArgumentException if there is no such column
+     */
+    public int getColumnIndex(String name) {
+        for (int column = 0; column < schema.size(); ++column) {
+            if (schema.get(column).getName().equals(name)) {
+                return column;
+            }
+        }
+        throw new IllegalArgumentException("No column named " + name);
+    }
+
+    /**
+     * Returns the value of a boolean column.
+     *
+     * @param row row index
+     * @param column column index
+     *
+     * @return value
+     */
+    public boolean getBoolean(int row, int column) {
+        checkCell(row, column, Kind.BOOLEAN);
+        return booleans[column][row];
+    }
+
+    /**
+     * Returns the value of a numeric column, converted to a double if it is an integer.
+     *
+     * @param row row index
+     * @param column column index
+     *
+     * @return value
+     */
+    public double getDouble(int row, int column) {
+        Preconditions.checkElementIndex(row, size);
+        switch (kinds[column]) {
+            case INT:
+                return ints[column][row];
+            case LONG:
+                return longs[column][row];
+            case DOUBLE:
+                return doubles[column][row];
+            default:
+                throw wrongKind(column, "numeric");
+        }
+    }
+
+    /**
+     * Returns the value of a column of type {@code UINT8}, {@code INT16}, {@code UINT16}, or
+     * {@code INT32}.
+     *
+     * @param row row index
+     * @param column column index
+     *
+     * @return value
+     */
+    public int getInt(int row, int column) {
+        checkCell(row, column, Kind.INT);
+        return ints[column][row];
+    }
+
+    /**
+     * Returns the value of an integer column.
+     *
+     * @param row row index
+     * @param column column index
+     *
+     * @return value
+     */
+    public long getLong(int row, int column) {
+        Preconditions.checkElementIndex(row, size);
+        switch (kinds[column]) {
+            case INT:
+                return ints[column][row];
+            case LONG:
+                return longs[column][row];
+            default:
+                throw wrongKind(column, "integer");
+        }
+    }
+
+    /**
+     * Returns the number of columns.
+     *
+     * @return number of columns
+     */
+    public int getNumColumns() {
+        return schema.size();
+    }
+
+    /**
+     * Returns the columns of the rows.
+     *
+     * @return schema
+     */
+    public List<ColumnSpecification> getSchema() {
+        return schema;
+    }
+
+    /**
+     * Returns the value of a string column.
+     *
+     * @param row row index
+     * @param column column index
+     *
+     * @return value
+     */
+    public String getString(int row, int column) {
+        checkCell(row, column, Kind.STRING);
+        return new String(stringBytes, stringOffsets[column][row], stringLengths[column][row],
+                StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Returns the value of a cell as an object: a {@link Boolean}, {@link Integer}, {@link Long},
+     * {@link Double}, or {@link String}, depending on the type of the column.
+     *
+     * @param row row index
+     * @param column column index
+     *
+     * @return value
+     */
+    public Object getValue(int row, int column) {
+        switch (kinds[column]) {
+            case BOOLEAN:
+                return getBoolean(row, column);
+            case INT:
+                return getInt(row, column);
+            case LONG:
+                return getLong(row, column);
+            case DOUBLE:
+                return getDouble(row, column);
+            default:
+                return getString(row, column);
+        }
+    }
+
+    /**
+     * Sets the value of a boolean column.
+     *
+     * @param row row index
+     * @param column column index
+     * @param value new value
+     */
+    public void setBoolean(int row, int column, boolean value) {
+        checkCell(row, column, Kind.BOOLEAN);
+        booleans[column][row] = value;
+    }
+
+    /**
+     * Sets the value of a numeric column. The value is truncated if the column is an integer one.
+     *
+     * @param row row index
+     * @param column column index
+     * @param value new value
+     */
+    public void setDouble(int row, int column, double value) {
+        Preconditions.checkElementIndex(row, size);
+        switch (kinds[column]) {
+            case INT:
+                ints[column][row] = (int) value;
+                break;
+            case LONG:
+                longs[column][row] = (long) value;
+                break;
+            case DOUBLE:
+                doubles[column][row] = value;
+                break;
+            default:
+                throw wrongKind(column, "numeric");
+        }
+    }
+
+    /**
+     * Sets the value of a numeric column.
+     *
+     * @param row row index
+     * @param column column index
+     * @param value new value
+     */
+    public void setLong(int row, int column, long value) {
+        Preconditions.checkElementIndex(row, size);
+        switch (kinds[column]) {
+            case INT:
+                ints[column][row] = Ints.checkedCast(value);
+                break;
+            case LONG:
+                longs[column][row] = value;
+                break;
+            case DOUBLE:
+                doubles[column][row] = value;
+                break;
+            default:
+                throw wrongKind(column, "numeric");
+        }
+    }
+
+    /**
+     * Sets the value of a string column. The string is appended to the batch's string buffer; the
+     * space taken by the previous value is not reclaimed until the batch is cleared.
+     *
+     * @param row row index
+     * @param column column index
+     * @param value new value
+     */
+    public void setString(int row, int column, String value) {
+        checkCell(row, column, Kind.STRING);
+        byte[] encoded = value.getBytes(StandardCharsets.UTF_8);
+        ensureStringBytes(encoded.length);
+        System.arraycopy(encoded, 0, stringBytes, stringBytesLength, encoded.length);
+        stringOffsets[column][row] = stringBytesLength;
+        stringLengths[column][row] = encoded.length;
+        stringBytesLength += encoded.length;
+    }
+
+    /**
+     * Returns the number of rows.
+     *
+     * @return number of rows
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Appends the rows of a JSON array of rows (as returned by {@code /gtable-xxxx/get}) from the
+     * parser, which must be positioned at the start of the array. The values are read straight off
+     * the token stream into the column arrays.
+     *
+     * @param parser parser positioned at the {@code START_ARRAY} token of the rows
+     *
+     * @throws IOException if the JSON cannot be read or does not match the schema
+     */
+    void readRows(JsonParser parser) throws IOException {
+        if (parser.getCurrentToken() != JsonToken.START_ARRAY) {
+            throw new JsonMappingException("Expected an array of rows", parser.getCurrentLocation());
+        }
+        while (parser.nextToken() == JsonToken.START_ARRAY) {
+            int row = appendRow();
+            for (int column = 0; column < kinds.length; ++column) {
+                JsonToken token = parser.nextToken();
+                switch (kinds[column]) {
+                    case BOOLEAN:
+                        if (token != JsonToken.VALUE_TRUE && token != JsonToken.VALUE_FALSE) {
+                            throw unexpectedToken(parser, column);
+                        }
+                        booleans[column][row] = token == JsonToken.VALUE_TRUE;
+                        break;
+                    case INT:
+                        checkNumber(parser, column);
+                        ints[column][row] = parser.getIntValue();
+                        break;
+                    case LONG:
+                        checkNumber(parser, column);
+                        longs[column][row] = parser.getLongValue();
+                        break;
+                    case DOUBLE:
+                        checkNumber(parser, column);
+                        doubles[column][row] = parser.getDoubleValue();
+                        break;
+                    case STRING:
+                        if (token != JsonToken.VALUE_STRING) {
+                            throw unexpectedToken(parser, column);
+                        }
+                        appendString(row, column, parser.getTextCharacters(), parser.getTextOffset(),
+                                parser.getTextLength());
+                        break;
+                }
+            }
+            if (parser.nextToken() != JsonToken.END_ARRAY) {
+                throw new JsonMappingException("Row " + row + " has more values than columns",
+                        parser.getCurrentLocation());
+            }
+        }
+        if (parser.getCurrentToken() != JsonToken.END_ARRAY) {
+            throw new JsonMappingException("Expected a row", parser.getCurrentLocation());
+        }
+    }
+
+    /**
+     * Writes the rows as a JSON array of rows, each a JSON array of values, straight from the
+     * column arrays.
+     *
+     * @param generator generator to write to
+     *
+     * @throws IOException if the JSON cannot be written
+     */
+    void write(JsonGenerator generator) throws IOException {
+        // Only generators writing bytes take the UTF-8 strings as they are
+        boolean utf8 = generator instanceof UTF8JsonGenerator;
+        generator.writeStartArray();
+        for (int row = 0; row < size; ++row) {
+            generator.writeStartArray();
+            for (int column = 0; column < kinds.length; ++column) {
+                switch (kinds[column]) {
+                    case BOOLEAN:
+                        generator.writeBoolean(booleans[column][row]);
+                        break;
+                    case INT:
+                        generator.writeNumber(ints[column][row]);
+                        break;
+                    case LONG:
+                        generator.writeNumber(longs[column][row]);
+                        break;
+                    case DOUBLE:
+                        generator.writeNumber(doubles[column][row]);
+                        break;
+                    case STRING:
+                        if (utf8) {
+                            generator.writeUTF8String(stringBytes, stringOffsets[column][row],
+                                    stringLengths[column][row]);
+                        } else {
+                            generator.writeString(getString(row, column));
+                        }
+                        break;
+                }
+            }
+            generator.writeEndArray();
+        }
+        generator.writeEndArray();
+    }
+
+    /**
+     * Encodes a string given as characters into the shared buffer as UTF-8, without creating a
+     * {@code String}.
+     */
+    private void appendString(int row, int column, char[] chars, int offset, int length) {
+        // At most 3 bytes per UTF-16 code unit
+        ensureStringBytes(3 * length);
+        int start = stringBytesLength;
+        int pos = start;
+        byte[] out = stringBytes;
+        int end = offset + length;
+        for (int i = offset; i < end; ++i) {
+            char c = chars[i];
+            if (c < 0x80) {
+                out[pos++] = (byte) c;
+            } else if (c < 0x800) {
+                out[pos++] = (byte) (0xc0 | (c >> 6));
+                out[pos++] = (byte) (0x80 | (c & 0x3f));
+            } else if (Character.isHighSurrogate(c) && i + 1 < end && Character.isLowSurrogate(chars[i + 1])) {
+                int codePoint = Character.toCodePoint(c, chars[++i]);
+                out[pos++] = (byte) (0xf0 | (codePoint >> 18));
+                out[pos++] = (byte) (0x80 | ((codePoint >> 12) & 0x3f));
+                out[pos++] = (byte) (0x80 | ((codePoint >> 6) & 0x3f));
+                out[pos++] = (byte) (0x80 | (codePoint & 0x3f));
+            } else {
+                if (Character.isSurrogate(c)) {
+                    // Unpaired surrogate, which String#getBytes would also replace
+                    c = '?';
+                }
+                out[pos++] = (byte) (0xe0 | (c >> 12));
+                out[pos++] = (byte) (0x80 | ((c >> 6) & 0x3f));
+                out[pos++] = (byte) (0x80 | (c & 0x3f));
+            }
+        }
+        stringOffsets[column][row] = start;
+        stringLengths[column][row] = pos - start;
+        stringBytesLength = pos;
+    }
+
+    private void checkCell(int row, int column, Kind kind) {
+        Preconditions.checkElementIndex(row, size);
+        if (kinds[column] != kind) {
+            throw wrongKind(column, kind.name().toLowerCase());
+        }
+    }
+
+    private void checkNumber(JsonParser parser, int column) throws JsonMappingException {
+        JsonToken token = parser.getCurrentToken();
+        if (token != JsonToken.VALUE_NUMBER_INT && token != JsonToken.VALUE_NUMBER_FLOAT) {
+            throw unexpectedToken(parser, column);
+        }
+    }
+
+    private void checkValue(int column, Object value) {
+        boolean valid;
+        switch (kinds[column]) {
+            case BOOLEAN:
+                valid = value instanceof Boolean;
+                break;
+            case STRING:
+                valid = true;
+                break;
+            default:
+                valid = value instanceof Number;
+                break;
+        }
+        Preconditions.checkArgument(valid, "Value %s does not fit column %s of type %s", value,
+                schema.get(column).getName(), schema.get(column).getType());
+    }
+
+    private void ensureStringBytes(int numBytes) {
+        long needed = (long) stringBytesLength + numBytes;
+        if (needed > stringBytes.length) {
+            Preconditions.checkState(needed <= Integer.MAX_VALUE, "Batch strings exceed 2 GB");
+            stringBytes = Arrays.copyOf(stringBytes,
+                    (int) Math.min(Integer.MAX_VALUE, Math.max(needed, 2L * stringBytes.length)));
+        }
+    }
+
+    private void resize(int newCapacity) {
+        for (int column = 0; column < kinds.length; ++column) {
+            switch (kinds[column]) {
+                case BOOLEAN:
+                    booleans[column] = booleans[column] == null ? new boolean[newCapacity]
+                            : Arrays.copyOf(booleans[column], newCapacity);
+                    break;
+                case INT:
+                    ints[column] = ints[column] == null ? new int[newCapacity]
+                            : Arrays.copyOf(ints[column], newCapacity);
+                    break;
+                case LONG:
+                    longs[column] = longs[column] == null ? new long[newCapacity]
+                            : Arrays.copyOf(longs[column], newCapacity);
+                    break;
+                case DOUBLE:
+                    doubles[column] = doubles[column] == null ? new double[newCapacity]
+                            : Arrays.copyOf(doubles[column], newCapacity);
+                    break;
+                case STRING:
+                    stringOffsets[column] = stringOffsets[column] == null ? new int[newCapacity]
+                            : Arrays.copyOf(stringOffsets[column], newCapacity);
+                    stringLengths[column] = stringLengths[column] == null ? new int[newCapacity]
+                            : Arrays.copyOf(stringLengths[column], newCapacity);
+                    break;
+            }
+        }
+        capacity = newCapacity;
+    }
+
+    private JsonMappingException unexpectedToken(JsonParser parser, int column) {
+        return new JsonMappingException("Unexpected " + parser.getCurrentToken() + " in column "
+                + schema.get(column).getName() + " of type " + schema.get(column).getType(),
+                parser.getCurrentLocation());
+    }
+
+    private IllegalArgumentException wrongKind(int column, String kind) {
+        return new IllegalArgumentException("Column " + schema.get(column).getName() + " of type "
+                + schema.get(column).getType() + " does not hold " + kind + " values");
+    }
+}
@@ -0,0 +1,370 @@
+// Copyright (C) 2013-2016 DNAnexus, Inc.
+//
+// This file is part of dx-toolkit (DNAnexus platform client libraries).
+//
+// Licensed under the Apache License, Version 2.0 (the "License"); you may
+// not use this file except in compliance with the License. You may obtain a
+// copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+// WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+// License for the specific language governing permissions and limitations
+// under the License.
+package com.dnanexus;
+
+import java.util.List;
+import java.util.Map;
+
+import com.fasterxml.jackson.annotation.JsonAutoDetect;
+import com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility;
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonInclude.Include;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonValue;
+import com.google.common.base.Objects;
+import com.google.common.base.Preconditions;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableSet;
+import com.google.common.collect.Maps;
+
+/**
+ * An index of a GTable, which lets {@link DXGTable#query(GTableQuery)} find matching rows without
+ * reading the whole table. Indices are declared when the GTable is created (see
+ * {@link DXGTable.Builder#addIndex(GTableIndex)}).
+ *
+ * <p>
+ * A genomic range index covers a string column holding chromosome names and two integer columns
+ * holding the low and high coordinates of an interval, and answers {@link GTableQuery#overlap}
+ * and {@link GTableQuery#enclose} queries. A lexicographic index orders the rows by one or more
+ * columns, and answers {@link GTableQuery#lexicographic} queries.
+ * </p>
+ */
+// Only the fields are serialized; the getters present them differently
+@JsonAutoDetect(getterVisibility = Visibility.NONE, isGetterVisibility = Visibility.NONE)
+@JsonIgnoreProperties(ignoreUnknown = true)
+@JsonInclude(Include.NON_NULL)
+public class GTableIndex {
+
+    /**
+     * The kind of an index.
+     */
+    public enum Type {
+        /**
+         * Index over genomic intervals (chromosome, low, and high coordinates)
+         */
+        GENOMIC("genomic"),
+        /**
+         * Index ordering the rows by one or more columns
+         */
+        LEXICOGRAPHIC("lexicographic");
+
+        private static Map<String, Type> createMap;
+
+        static {
+            Map<String, Type> result = Maps.newHashMap();
+            for (Type type : Type.values()) {
+                result.put(type.getValue(), type);
+            }
+            createMap = ImmutableMap.copyOf(result);
+        }
+
+        @JsonCreator
+        private static Type create(String value) {
+            return createMap.get(value);
+        }
+
+        private String value;
+
+        private Type(String value) {
+            this.value = value;
+        }
+
+        @JsonValue
+        private String getValue() {
+            return this.value;
+        }
+    }
+
+    /**
+     * A column of a lexicographic index, with its sort order.
+     */
+    @JsonAutoDetect(getterVisibility = Visibility.NONE, isGetterVisibility = Visibility.NONE)
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    @JsonInclude(Include.NON_NULL)
+    public static class LexicographicColumn {
+        /**
+         * Returns a column sorted in ascending order.
+         *
+         * @param name column name
+         *
+         * @return index column
+         */
+        public static LexicographicColumn ascending(String name) {
+            return new LexicographicColumn(name, "asc", null);
+        }
+
+        /**
+         * Returns a column sorted in descending order.
+         *
+         * @param name column name
+         *
+         * @return index column
+         */
+        public static LexicographicColumn descending(String name) {
+            return new LexicographicColumn(name, "desc", null);
+        }
+
+        @JsonProperty
+        private String name;
+        @JsonProperty
+        private String order;
+        @JsonProperty
+        private Boolean caseSensitive;
+
+        private LexicographicColumn() {
+            // No-arg constructor for JSON deserialization.
+        }
+
+        private LexicographicColumn(String name, String order, Boolean caseSensitive) {
+            this.name = Preconditions.checkNotNull(name, "column name may not be null");
+            this.order = order;
+            this.caseSensitive = caseSensitive;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (this == obj) return true;
+            if (obj == null) return false;
+            if (getClass() != obj.getClass()) return false;
+            LexicographicColumn other = (LexicographicColumn) obj;
+            return Objects.equal(name, other.name) && Objects.equal(order, other.order)
+                    && Objects.equal(caseSensitive, other.caseSensitive);
+        }
+
+        /**
+         * Returns the column name.
+         *
+         * @return column name
+         */
+        public String getName() {
+            return name;
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hashCode(name, order, caseSensitive);
+        }
+
+        /**
+         * Returns whether the column is sorted in ascending order.
+         *
+         * @return true if ascending, false if descending
+         */
+        public boolean isAscending() {
+            return !"desc".equals(order);
+        }
+
+        /**
+         * Returns whether strings are compared case-sensitively, or null if the API's default
+         * (case-sensitive) applies.
+         *
+         * @return whether the column is case-sensitive, or null
+         */
+        public Boolean isCaseSensitive() {
+            return caseSensitive;
+        }
+
+        /**
+         * Returns a column that is the same as this one, except that strings are compared
+         * case-sensitively or not, as specified. Only valid for string columns.
+         *
+         * @param caseSensitive whether to compare strings case-sensitively
+         *
+         * @return index column
+         */
+        public LexicographicColumn withCaseSensitive(boolean caseSensitive) {
+            return new LexicographicColumn(name, order, caseSensitive);
+        }
+    }
+
+    private static final ImmutableSet<ColumnType> INTEGER_TYPES = ImmutableSet.of(ColumnType.UINT8,
+            ColumnType.INT16, ColumnType.UINT16, ColumnType.INT32, ColumnType.UINT32, ColumnType.INT64);
+
+    /**
+     * Returns a genomic range index named {@code "gri"} (the name the API tools use by default).
+     *
+     * @param chr name of the string column holding chromosome names
+     * @param lo name of the integer column holding the low coordinate of each interval
+     * @param hi name of the integer column holding the high coordinate of each interval
+     *
+     * @return index
+     */
+    public static GTableIndex genomicRange(String chr, String lo, String hi) {
+        return genomicRange("gri", chr, lo, hi);
+    }
+
+    /**
+     * Returns a genomic range index.
+     *
+     * @param name name of the index
+     * @param chr name of the string column holding chromosome names
+     * @param lo name of the integer column holding the low coordinate of each interval
+     * @param hi name of the integer column holding the high coordinate of each interval
+     *
+     * @return index
+     */
+    public static GTableIndex genomicRange(String name, String chr, String lo, String hi) {
+        return new GTableIndex(name, Type.GENOMIC, Preconditions.checkNotNull(chr, "chr may not be null"),
+                Preconditions.checkNotNull(lo, "lo may not be null"),
+                Preconditions.checkNotNull(hi, "hi may not be null"), null);
+    }
+
+    /**
+     * Returns a lexicographic index.
+     *
+     * @param name name of the index
+     * @param columns columns to order the rows by, most significant first
+     *
+     * @return index
+     */
+    public static GTableIndex lexicographic(String name, List<LexicographicColumn> columns) {
+        Preconditions.checkArgument(!columns.isEmpty(), "A lexicographic index needs at least one column");
+        return new GTableIndex(name, Type.LEXICOGRAPHIC, null, null, null, ImmutableList.copyOf(columns));
+    }
+
+    @JsonProperty
+    private String name;
+    @JsonProperty
+    private Type type;
+    @JsonProperty
+    private String chr;
+    @JsonProperty
+    private String lo;
+    @JsonProperty
+    private String hi;
+    @JsonProperty
+    private List<LexicographicColumn> columns;
+
+    private GTableIndex() {
+        // No-arg constructor for JSON deserialization.
+    }
+
+    private GTableIndex(String name, Type type, String chr, String lo, String hi,
+            List<LexicographicColumn> columns) {
+        this.name = Preconditions.checkNotNull(name, "index name may not be null");
+        this.type = type;
+        this.chr = chr;
+        this.lo = lo;
+        this.hi = hi;
+        this.columns = columns;
+    }
+
+    /**
+     * Checks that the columns the index refers to exist and have suitable types.
+     *
+     * @param tableColumns columns of the GTable
+     *
+     * @throws IllegalArgumentException if the index does not fit the columns
+     */
+    void checkColumns(List<ColumnSpecification> tableColumns) {
+        if (type == Type.GENOMIC) {
+            Preconditions.checkArgument(getColumnType(tableColumns, chr) == ColumnType.STRING,
+                    "Column %s of index %s must be a string column", chr, name);
+            for (String column : ImmutableList.of(lo, hi)) {
+                Preconditions.checkArgument(INTEGER_TYPES.contains(getColumnType(tableColumns, column)),
+                        "Column %s of index %s must be an integer column", column, name);
+            }
+        } else {
+            for (LexicographicColumn column : columns) {
+                ColumnType columnType = getColumnType(tableColumns, column.getName());
+                Preconditions.checkArgument(column.isCaseSensitive() == null || columnType == ColumnType.STRING,
+                        "Only string columns of index %s can be case-insensitive", name);
+            }
+        }
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) return true;
+        if (obj == null) return false;
+        if (getClass() != obj.getClass()) return false;
+        GTableIndex other = (GTableIndex) obj;
+        return Objects.equal(name, other.name) && type == other.type && Objects.equal(chr, other.chr)
+                && Objects.equal(lo, other.lo) && Objects.equal(hi, other.hi)
+                && Objects.equal(columns, other.columns);
+    }
+
+    /**
+     * Returns the name of the chromosome column of a genomic range index.
+     *
+     * @return column name, or null if this is not a genomic range index
+     */
+    public String getChrColumn() {
+        return chr;
+    }
+
+    /**
+     * Returns the columns of a lexicographic index.
+     *
+     * @return index columns, or null if this is not a lexicographic index
+     */
+    public List<LexicographicColumn> getColumns() {
+        return columns == null ? null : ImmutableList.copyOf(columns);
+    }
+
+    /**
+     * Returns the name of the high coordinate column of a genomic range index.
+     *
+     * @return column name, or null if this is not a genomic range index
+     */
+    public String getHiColumn() {
+        return hi;
+    }
+
+    /**
+     * Returns the name of the low coordinate column of a genomic range index.
+     *
+     * @return column name, or null if this is not a genomic range index
+     */
+    public String getLoColumn() {
+        return lo;
+    }
+
+    /**
+     * Returns the name of the index.
+     *
+     * @return index name
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Returns the kind of the index.
+     *
+     * @return index type, or null if it is of a kind these bindings do not know
+     */
+    public Type getType() {
+        return type;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hashCode(name, type, chr, lo, hi, columns);
+    }
+
+    private ColumnType getColumnType(List<ColumnSpecification> tableColumns, String column) {
+        for (ColumnSpecification spec : tableColumns) {
+            if (spec.getName().equals(column)) {
+                return spec.getType();
+            }
+        }
+        throw new IllegalArgumentException("Index " + name + " refers to unknown column " + column);
+    }
+}
@@ -0,0 +1,107 @@
+// Copyright (C) 2013-2016 DNAnexus, Inc.
+//
+// This file is part of dx-toolkit (DNAnexus platform client libraries).
+//
+// Licensed under the Apache License, Version 2.0 (the "License"); you may
+// not use this file except in compliance with the License. You may obtain a
+// copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+// WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+// License for the specific language governing permissions and limitations
+// under the License.
+package com.dnanexus;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.google.common.base.Preconditions;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+
+/**
+ * A query that selects the rows of a GTable through one of its indices (see {@link GTableIndex}),
+ * for use with {@link DXGTable#query(GTableQuery)}.
+ *
+ * <p>
+ * Example:
+ * </p>
+ *
+ * <pre>
+ * gtable.query(GTableQuery.overlap(&quot;gri&quot;, &quot;chr1&quot;, 10000, 20000))
+ * </pre>
+ */
+public class GTableQuery {
+
+    /**
+     * Returns a query for the rows whose intervals overlap the specified one, using a genomic range
+     * index.
+     *
+     * @param index name of the genomic range index
+     * @param chr chromosome name
+     * @param lo low coordinate of the interval
+     * @param hi high coordinate of the interval
+     *
+     * @return query
+     */
+    public static GTableQuery overlap(String index, String chr, long lo, long hi) {
+        return genomicRange(index, "overlap", chr, lo, hi);
+    }
+
+    /**
+     * Returns a query for the rows whose intervals lie within the specified one, using a genomic
+     * range index.
+     *
+     * @param index name of the genomic range index
+     * @param chr chromosome name
+     * @param lo low coordinate of the interval
+     * @param hi high coordinate of the interval
+     *
+     * @return query
+     */
+    public static GTableQuery enclose(String index, String chr, long lo, long hi) {
+        return genomicRange(index, "enclose", chr, lo, hi);
+    }
+
+    /**
+     * Returns a query using a lexicographic index, with the specified MongoDB-style conditions on
+     * its columns (for example <code>{"name": {"$gte": "a", "$lt": "b"}}</code>). See the <a
+     * href="https://wiki.dnanexus.com/API-Specification-v1.0.0/GenomicTables">API documentation
+     * for GTables</a> for the supported operators.
+     *
+     * @param index name of the lexicographic index
+     * @param parameters conditions on the indexed columns
+     *
+     * @return query
+     */
+    public static GTableQuery lexicographic(String index, JsonNode parameters) {
+        return new GTableQuery(index, Preconditions.checkNotNull(parameters, "parameters may not be null"));
+    }
+
+    private static GTableQuery genomicRange(String index, String mode, String chr, long lo, long hi) {
+        Preconditions.checkNotNull(chr, "chr may not be null");
+        Preconditions.checkArgument(lo <= hi, "lo may not be larger than hi");
+        return new GTableQuery(index, ImmutableMap.of("mode", mode, "coords", ImmutableList.of(chr, lo, hi)));
+    }
+
+    @JsonProperty
+    private final String index;
+    @JsonProperty
+    private final Object parameters;
+
+    private GTableQuery(String index, Object parameters) {
+        this.index = Preconditions.checkNotNull(index, "index may not be null");
+        this.parameters = parameters;
+    }
+
+    /**
+     * Returns the name of the index the query uses.
+     *
+     * @return index name
+     */
+    public String getIndex() {
+        return index;
+    }
+}
@@ -0,0 +1,304 @@
+// Copyright (C) 2013-2016 DNAnexus, Inc.
+//
+// This file is part of dx-toolkit (DNAnexus platform client libraries).
+//
+// Licensed under the Apache License, Version 2.0 (the "License"); you may
+// not use this file except in compliance with the License. You may obtain a
+// copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+// WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+// License for the specific language governing permissions and limitations
+// under the License.
+
+package com.dnanexus;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.util.Map;
+
+import org.apache.http.HttpEntity;
+import org.apache.http.HttpResponse;
+import org.apache.http.HttpStatus;
+import org.apache.http.client.HttpClient;
+import org.apache.http.client.methods.HttpGet;
+import org.apache.http.util.EntityUtils;
+
+import com.dnanexus.DownloadUrlCache.DownloadUrl;
+import com.google.common.base.Preconditions;
+
+/**
+ * Fetches byte ranges of a file from a (preauthenticated) download URL with HTTP GET requests.
+ *
+ * <p>
+ * Requests are made with the supplied (pooled) client; each response is consumed completely so its
+ * connection can be reused. Failed or short reads, server errors (5xx), and 408 and 429 responses
+ * are retried with exponential backoff; other unexpected statuses, such as 404, fail at once. A URL
+ * that the server rejects is replaced with a new one from the {@link DownloadUrlCache}. Ranges can
+ * be read into arrays ({@link #fetch}) or written straight to a file ({@link #transferTo}), at a
+ * rate limited by a {@link BandwidthThrottle}.
+ * </p>
+ */
+class HttpRangeFetcher implements ChannelRangeFetcher {
+
+    private static final int MAX_ATTEMPTS = 5;
+    // Not defined by HttpStatus
+    private static final int TOO_MANY_REQUESTS = 429;
+    // Largest read between checks for interruption, so that abandoned fetches stop promptly
+    private static final int READ_SIZE = 64 * 1024;
+
+    private final HttpClient httpclient;
+    private final DownloadUrlCache urls;
+    private final TransferStats stats;
+    private final BandwidthThrottle throttle;
+
+    /**
+     * Creates a fetcher for the specified URL.
+     *
+     * @param httpclient client with which to make requests
+     * @param url URL returned by the /file-xxxx/download route
+     * @param headers headers returned by the /file-xxxx/download route, or null
+     */
+    HttpRangeFetcher(HttpClient httpclient, String url, Map<String, String> headers) {
+        this(httpclient, DownloadUrlCache.of(new DownloadUrl(url, headers, null)));
+    }
+
+    /**
+     * Creates a fetcher for the URLs held by the specified cache. A URL that the server rejects
+     * with 403 Forbidden (e.g. because it has expired) is invalidated, and the request is retried
+     * right away with a new one.
+     *
+     * @param httpclient client with which to make requests
+     * @param urls source of the file's download URL
+     */
+    HttpRangeFetcher(HttpClient httpclient, DownloadUrlCache urls) {
+        this(httpclient, urls, null);
+    }
+
+    /**
+     * Creates a fetcher for the URLs held by the specified cache, which records each completed
+     * request in the specified stats.
+     *
+     * @param httpclient client with which to make requests
+     * @param urls source of the file's download URL
+     * @param stats statistics to update, or null
+     */
+    HttpRangeFetcher(HttpClient httpclient, DownloadUrlCache urls, TransferStats stats) {
+        this(httpclient, urls, stats, BandwidthThrottle.UNLIMITED);
+    }
+
+    /**
+     * Creates a fetcher for the URLs held by the specified cache, which records each completed
+     * request in the specified stats and receives data no faster than the specified throttle
+     * allows.
+     *
+     * @param httpclient client with which to make requests
+     * @param urls source of the file's download URL
+     * @param stats statistics to update, or null
+     * @param throttle limit on the rate at which data is received
+     */
+    HttpRangeFetcher(HttpClient httpclient, DownloadUrlCache urls, TransferStats stats, BandwidthThrottle throttle) {
+        this.httpclient = Preconditions.checkNotNull(httpclient);
+        this.urls = Preconditions.checkNotNull(urls);
+        this.stats = stats;
+        this.throttle = Preconditions.checkNotNull(throttle);
+    }
+
+    @Override
+    public void fetch(final long start, final long end, final byte[] buffer, final int offset) throws IOException {
+        checkRange(start, end);
+        Preconditions.checkArgument(offset >= 0 && end - start <= buffer.length - offset,
+                "Range does not fit in the buffer");
+        final int length = (int) (end - start);
+        if (length == 0) {
+            return;
+        }
+        executeWithRetry(start, end, new ContentReader() {
+            @Override
+            public void read(InputStream content) throws IOException {
+                int numRead = 0;
+                while (numRead < length) {
+                    checkInterrupted();
+                    int n = content.read(buffer, offset + numRead, Math.min(READ_SIZE, length - numRead));
+                    if (n == -1) {
+                        throw new EOFException("Received " + numRead + " bytes when downloading bytes " + start
+                                + "-" + (end - 1));
+                    }
+                    throttle.acquire(n);
+                    numRead += n;
+                }
+            }
+        });
+    }
+
+    @Override
+    public void transferTo(final long start, final long end, final FileChannel channel, final ByteBuffer buffer)
+            throws IOException {
+        checkRange(start, end);
+        if (start == end) {
+            return;
+        }
+        executeWithRetry(start, end, new ContentReader() {
+            @Override
+            public void read(InputStream content) throws IOException {
+                ReadableByteChannel source = Channels.newChannel(content);
+                long position = start;
+                while (position < end) {
+                    checkInterrupted();
+                    buffer.clear();
+                    buffer.limit((int) Math.min(buffer.capacity(), end - position));
+                    int n = source.read(buffer);
+                    if (n == -1) {
+                        throw new EOFException("Received " + (position - start) + " bytes when downloading bytes "
+                                + start + "-" + (end - 1));
+                    }
+                    throttle.acquire(n);
+                    buffer.flip();
+                    while (buffer.hasRemaining()) {
+                        position += channel.write(buffer, position);
+                    }
+                }
+            }
+        });
+    }
+
+    private static void checkRange(long start, long end) {
+        Preconditions.checkArgument(start <= end, "The start byte cannot be larger than the end byte");
+    }
+
+    /**
+     * Throws if the current thread has been interrupted (e.g. because the stream it was fetching
+     * for was closed), in which case the request is aborted rather than read to the end.
+     */
+    private static void checkInterrupted() throws InterruptedIOException {
+        if (Thread.currentThread().isInterrupted()) {
+            throw new InterruptedIOException("Download interrupted");
+        }
+    }
+
+    /**
+     * Consumer of the body of a successful range request, which must read exactly the requested
+     * number of bytes.
+     */
+    private interface ContentReader {
+        void read(InputStream content) throws IOException;
+    }
+
+    /**
+     * Thrown when the server rejects the download URL, which has then been invalidated.
+     */
+    private static class UrlRejectedException extends IOException {
+        private static final long serialVersionUID = 1L;
+
+        private UrlRejectedException(String message) {
+            super(message);
+        }
+    }
+
+    /**
+     * Thrown for an HTTP status that retrying the request would not change.
+     */
+    private static class NonRetryableStatusException extends IOException {
+        private static final long serialVersionUID = 1L;
+
+        private NonRetryableStatusException(String message) {
+            super(message);
+        }
+    }
+
+    private void executeWithRetry(long start, long end, ContentReader reader) throws IOException {
+        int timeoutSeconds = 1;
+        boolean urlRefreshed = false;
+        for (int attempt = 1;; ++attempt) {
+            try {
+                execute(start, end, reader);
+                return;
+            } catch (UrlRejectedException e) {
+                // The URL has most likely expired: retry once with a new one without waiting
+                if (!urlRefreshed) {
+                    urlRefreshed = true;
+                    --attempt;
+                    continue;
+                }
+                if (attempt >= MAX_ATTEMPTS) {
+                    throw e;
+                }
+                System.err.println("Error downloading bytes " + start + "-" + (end - 1) + " (" + e.getMessage()
+                        + "). Waiting " + timeoutSeconds + " second(s) before retrying...");
+            } catch (IOException e) {
+                if (e instanceof InterruptedIOException || e instanceof NonRetryableStatusException
+                        || attempt >= MAX_ATTEMPTS) {
+                    throw e;
+                }
+                System.err.println("Error downloading bytes " + start + "-" + (end - 1) + " (" + e.getMessage()
+                        + "). Waiting " + timeoutSeconds + " second(s) before retrying...");
+            }
+            try {
+                Thread.sleep(timeoutSeconds * 1000L);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new InterruptedIOException("Interrupted while waiting to retry download");
+            }
+            timeoutSeconds *= 2;
+        }
+    }
+
+    private void execute(long start, long end, ContentReader reader) throws IOException {
+        DownloadUrl url = urls.get();
+        HttpGet request = new HttpGet(url.getUrl());
+        for (Map.Entry<String, String> header : url.getHeaders().entrySet()) {
+            request.setHeader(header.getKey(), header.getValue());
+        }
+        request.setHeader("Range", "bytes=" + start + "-" + (end - 1));
+
+        long startNanos = System.nanoTime();
+        HttpResponse response = httpclient.execute(request);
+        long firstByteNanos = System.nanoTime() - startNanos;
+        HttpEntity entity = response.getEntity();
+        int statusCode = response.getStatusLine().getStatusCode();
+        if (statusCode == HttpStatus.SC_FORBIDDEN) {
+            EntityUtils.consumeQuietly(entity);
+            urls.invalidate(url);
+            throw new UrlRejectedException("Download URL rejected with HTTP status " + statusCode);
+        }
+        if (statusCode != HttpStatus.SC_PARTIAL_CONTENT && !(statusCode == HttpStatus.SC_OK && start == 0)) {
+            EntityUtils.consumeQuietly(entity);
+            String message = "Unexpected HTTP status " + statusCode + " when downloading " + url.getUrl();
+            if (statusCode >= HttpStatus.SC_INTERNAL_SERVER_ERROR || statusCode == HttpStatus.SC_REQUEST_TIMEOUT
+                    || statusCode == TOO_MANY_REQUESTS) {
+                throw new IOException(message);
+            }
+            throw new NonRetryableStatusException(message);
+        }
+        if (entity == null) {
+            throw new IOException("Empty response when downloading " + url.getUrl());
+        }
+
+        boolean complete = false;
+        try {
+            InputStream content = entity.getContent();
+            reader.read(content);
+            if (stats != null) {
+                stats.recordRequest(end - start, firstByteNanos, System.nanoTime() - startNanos);
+            }
+            // A 200 response to a request for a prefix of the file carries the whole file, whose
+            // remainder is not worth reading just to reuse the connection
+            complete = content.read() == -1;
+        } finally {
+            if (complete) {
+                EntityUtils.consumeQuietly(entity);
+            } else {
+                request.abort();
+            }
+        }
+    }
+}
@@ -0,0 +1,65 @@
+// Copyright (C) 2013-2016 DNAnexus, Inc.
+//
+// This file is part of dx-toolkit (DNAnexus platform client libraries).
+//
+// Licensed under the Apache License, Version 2.0 (the "License"); you may
+// not use this file except in compliance with the License. You may obtain a
+// copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+// WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+// License for the specific language governing permissions and limitations
+// under the License.
+
+package com.dnanexus;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+
+import com.google.common.base.Preconditions;
+import com.google.common.collect.Range;
+
+/**
+ * A {@link ChannelRangeFetcher} for resumable downloads, which records the ranges written to the
+ * channel in a {@link TransferJournal} and skips the ranges the journal already has.
+ *
+ * <p>
+ * Each range is synced to disk before it is recorded, so a recorded range survives a crash. Only
+ * the missing parts of a requested range are fetched, so a download can be resumed with different
+ * chunk sizes. Ranges fetched into memory with {@link #fetch} are neither looked up nor recorded.
+ * </p>
+ */
+class JournaledRangeFetcher implements ChannelRangeFetcher {
+
+    private final ChannelRangeFetcher upstream;
+    private final TransferJournal journal;
+
+    /**
+     * Creates a fetcher.
+     *
+     * @param upstream source of the ranges that are not in the journal
+     * @param journal journal of the ranges already written to the destination channel
+     */
+    JournaledRangeFetcher(ChannelRangeFetcher upstream, TransferJournal journal) {
+        this.upstream = Preconditions.checkNotNull(upstream);
+        this.journal = Preconditions.checkNotNull(journal);
+    }
+
+    @Override
+    public void fetch(long start, long end, byte[] buffer, int offset) throws IOException {
+        upstream.fetch(start, end, buffer, offset);
+    }
+
+    @Override
+    public void transferTo(long start, long end, FileChannel channel, ByteBuffer buffer) throws IOException {
+        for (Range<Long> missing : journal.getMissingRanges(start, end).asRanges()) {
+            upstream.transferTo(missing.lowerEndpoint(), missing.upperEndpoint(), channel, buffer);
+            channel.force(false);
+            journal.recordRange(missing.lowerEndpoint(), missing.upperEndpoint());
+        }
+    }
+}
@@ -0,0 +1,396 @@
+// Copyright (C) 2013-2016 DNAnexus, Inc.
+//
+// This file is part of dx-toolkit (DNAnexus platform client libraries).
+//
+// Licensed under the Apache License, Version 2.0 (the "License"); you may
+// not use this file except in compliance with the License. You may obtain a
+// copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+// WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+// License for the specific language governing permissions and limitations
+// under the License.
+package com.dnanexus;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import com.google.common.base.Preconditions;
+
+/**
+ * An {@link InputStream} over a byte range of a remote file that fetches up to {@code parallelism}
+ * chunks concurrently and returns their bytes in order.
+ *
+ * <p>
+ * Chunks are requested strictly in file order and at most {@code parallelism} of them are in
+ * flight or waiting to be read at any time, so the stream buffers at most about
+ * {@code (parallelism + 1)} chunks regardless of how far ahead the workers are. Chunk sizes follow
+ * a {@link ChunkSchedule}: either fixed, ramping up like {@link RampingRangeInputStream} (in which
+ * case the stream acts as a read-ahead version of it), or chosen by an {@link AdaptiveChunkSizer}
+ * (which then also sets the parallelism as the download proceeds). Chunk buffers come from a
+ * {@link BufferPool} and go back to it once they have been read.
+ * </p>
+ *
+ * <p>
+ * Unless the stream is given a {@link TransferScheduler.Transfer}, the worker threads belong to the
+ * stream; either way they are released when the stream is closed or reaches the end of the range.
+ * Each chunk's buffer is reserved from the transfer's byte budget before it is requested and stays
+ * reserved until the chunk has been read, so the stream reads ahead only as far as the budget
+ * allows (or its share of it, while other transfers also hold buffers). Closing the stream
+ * abandons the chunks still in flight. This class is not thread-safe.
+ * </p>
+ */
+class ParallelRangeInputStream extends InputStream {
+
+    /**
+     * Sizes of the successive chunks of a stream.
+     */
+    interface ChunkSchedule {
+        /**
+         * Returns the size of the specified chunk.
+         *
+         * @param chunkNumber index of the chunk within the stream, starting at 0
+         *
+         * @return chunk size in bytes, which must be positive
+         */
+        int getChunkSize(int chunkNumber);
+    }
+
+    /**
+     * Chunk in flight, with its length (which the last chunk's buffer doesn't tell) and the bytes
+     * reserved for its buffer.
+     */
+    private static class Chunk {
+        private Future<byte[]> data;
+        private final int length;
+        private final long reservation;
+        private final AtomicBoolean reserved = new AtomicBoolean(true);
+
+        private Chunk(int length, long reservation) {
+            this.length = length;
+            this.reservation = reservation;
+        }
+
+        /**
+         * Releases the chunk's reservation, unless it has already been released.
+         */
+        private void releaseReservation(TransferScheduler.Transfer transfer) {
+            if (reserved.compareAndSet(true, false)) {
+                transfer.releaseReservation(reservation);
+            }
+        }
+    }
+
+    /**
+     * Returns a schedule of equal-sized chunks.
+     *
+     * @param chunkSize size of every chunk
+     *
+     * @return chunk schedule
+     */
+    static ChunkSchedule fixedChunkSize(final int chunkSize) {
+        Preconditions.checkArgument(chunkSize > 0, "chunkSize must be positive");
+        return new ChunkSchedule() {
+            @Override
+            public int getChunkSize(int chunkNumber) {
+                return chunkSize;
+            }
+        };
+    }
+
+    private final RangeFetcher fetcher;
+    private final long end;
+    private final ChunkSchedule schedule;
+    private final int parallelism;
+    // Chooses the parallelism (up to the above) if it is adaptive, otherwise null
+    private final AdaptiveChunkSizer sizer;
+    private final TransferScheduler.Transfer transfer;
+
+    // Chunks in flight, in file order
+    private final Deque<Chunk> pending = new ArrayDeque<Chunk>();
+    // Start and number of the next chunk to be submitted
+    private long nextStart;
+    private int nextChunkNumber;
+
+    private Chunk currentChunk;
+    private byte[] current;
+    private int currentPosition;
+    private int currentLength;
+    private final byte[] singleByte = new byte[1];
+    private boolean closed;
+
+    /**
+     * Creates a stream over the specified range that fetches chunks of a fixed size.
+     *
+     * @param fetcher source of the file's bytes
+     * @param start first byte of the range (inclusive)
+     * @param end end of the range (exclusive)
+     * @param chunkSize size of each ranged request
+     * @param parallelism maximum number of concurrent ranged requests
+     */
+    ParallelRangeInputStream(RangeFetcher fetcher, long start, long end, int chunkSize, int parallelism) {
+        this(fetcher, start, end, fixedChunkSize(chunkSize), parallelism);
+    }
+
+    /**
+     * Creates a stream over the specified range.
+     *
+     * @param fetcher source of the file's bytes
+     * @param start first byte of the range (inclusive)
+     * @param end end of the range (exclusive)
+     * @param schedule sizes of the ranged requests
+     * @param parallelism maximum number of concurrent ranged requests
+     */
+    ParallelRangeInputStream(RangeFetcher fetcher, long start, long end, ChunkSchedule schedule, int parallelism) {
+        this(fetcher, start, end, schedule, parallelism, null);
+    }
+
+    /**
+     * Creates a stream over the specified range whose requests run on the workers of a
+     * {@link TransferScheduler}.
+     *
+     * @param fetcher source of the file's bytes
+     * @param start first byte of the range (inclusive)
+     * @param end end of the range (exclusive)
+     * @param schedule sizes of the ranged requests
+     * @param parallelism maximum number of concurrent ranged requests
+     * @param transfer transfer to run the requests on, which the stream closes when it is done, or
+     *        null to use threads of the stream's own
+     */
+    ParallelRangeInputStream(RangeFetcher fetcher, long start, long end, ChunkSchedule schedule, int parallelism,
+            TransferScheduler.Transfer transfer) {
+        this(fetcher, start, end, schedule, parallelism, null, transfer);
+    }
+
+    /**
+     * Creates a stream over the specified range whose chunk sizes and parallelism are chosen by the
+     * specified sizer.
+     *
+     * @param fetcher source of the file's bytes, which must record its requests in the stats the
+     *        sizer reads
+     * @param start first byte of the range (inclusive)
+     * @param end end of the range (exclusive)
+     * @param sizer chooser of the chunk sizes and parallelism
+     */
+    ParallelRangeInputStream(RangeFetcher fetcher, long start, long end, AdaptiveChunkSizer sizer) {
+        this(fetcher, start, end, sizer, null);
+    }
+
+    /**
+     * Creates a stream over the specified range whose chunk sizes and parallelism are chosen by the
+     * specified sizer and whose requests run on the workers of a {@link TransferScheduler}.
+     *
+     * @param fetcher source of the file's bytes, which must record its requests in the stats the
+     *        sizer reads
+     * @param start first byte of the range (inclusive)
+     * @param end end of the range (exclusive)
+     * @param sizer chooser of the chunk sizes and parallelism
+     * @param transfer transfer to run the requests on, which the stream closes when it is done, or
+     *        null to use threads of the stream's own
+     */
+    ParallelRangeInputStream(RangeFetcher fetcher, long start, long end, AdaptiveChunkSizer sizer,
+            TransferScheduler.Transfer transfer) {
+        this(fetcher, start, end, sizer, sizer.getMaxParallelism(), sizer, transfer);
+    }
+
+    private ParallelRangeInputStream(RangeFetcher fetcher, long start, long end, ChunkSchedule schedule,
+            int parallelism, AdaptiveChunkSizer sizer, TransferScheduler.Transfer transfer) {
+        Preconditions.checkArgument(start <= end, "The start byte cannot be larger than the end byte");
+        Preconditions.checkArgument(parallelism > 0, "parallelism must be positive");
+        this.fetcher = Preconditions.checkNotNull(fetcher);
+        this.schedule = Preconditions.checkNotNull(schedule);
+        this.end = end;
+        this.parallelism = parallelism;
+        this.sizer = sizer;
+        this.nextStart = start;
+        this.transfer = transfer != null ? transfer
+                : TransferScheduler.newPrivateTransfer(parallelism, "dxjava-download-%d");
+        fillWindow();
+    }
+
+    @Override
+    public int available() throws IOException {
+        return currentLength - currentPosition;
+    }
+
+    /**
+     * Closes the stream, abandoning any chunks still in flight. Their requests are aborted, and
+     * their buffers go back to the pool if they have already been fetched.
+     */
+    @Override
+    public void close() {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        for (Chunk chunk : pending) {
+            chunk.data.cancel(true);
+        }
+        transfer.close();
+        for (Chunk chunk : pending) {
+            releaseIfDone(chunk.data);
+            // Chunks that are still being fetched are abandoned along with their buffers
+            chunk.releaseReservation(transfer);
+        }
+        pending.clear();
+        releaseCurrent();
+    }
+
+    @Override
+    public int read() throws IOException {
+        int numBytesRead = read(singleByte, 0, 1);
+        if (numBytesRead == -1) {
+            return -1;
+        }
+        return singleByte[0] & 0xff;
+    }
+
+    @Override
+    public int read(byte[] b, int off, int len) throws IOException {
+        if (off < 0 || len < 0 || len > b.length - off) {
+            throw new IndexOutOfBoundsException();
+        }
+        if (closed) {
+            throw new IOException("Stream closed");
+        }
+        if (len == 0) {
+            return 0;
+        }
+        if (currentPosition == currentLength) {
+            if (!nextChunk()) {
+                return -1;
+            }
+        }
+        int numBytes = Math.min(len, currentLength - currentPosition);
+        System.arraycopy(current, currentPosition, b, off, numBytes);
+        currentPosition += numBytes;
+        return numBytes;
+    }
+
+    /**
+     * Submits chunk requests until {@code parallelism} (or as many as the sizer currently wants)
+     * are in flight, the range is exhausted, or the next chunk does not fit within the transfer's
+     * byte budget.
+     */
+    private void fillWindow() {
+        int window = sizer == null ? parallelism : Math.min(sizer.getParallelism(), parallelism);
+        while (pending.size() < window && nextStart < end) {
+            int chunkSize = schedule.getChunkSize(nextChunkNumber);
+            Preconditions.checkState(chunkSize > 0, "Chunk sizes must be positive");
+            BufferPool pool = BufferPool.forSize(chunkSize);
+            if (!transfer.tryReserve(pool.getBufferSize())) {
+                return;
+            }
+            submitChunk(chunkSize, pool);
+        }
+    }
+
+    /**
+     * Submits the request for the next chunk, whose buffer has been reserved.
+     */
+    private void submitChunk(int chunkSize, final BufferPool pool) {
+        ++nextChunkNumber;
+        final long chunkStart = nextStart;
+        final long chunkEnd = Math.min(end, chunkStart + chunkSize);
+        final Chunk chunk = new Chunk((int) (chunkEnd - chunkStart), pool.getBufferSize());
+        chunk.data = transfer.submit(new Callable<byte[]>() {
+            @Override
+            public byte[] call() throws IOException {
+                byte[] buffer = pool.acquire();
+                try {
+                    fetcher.fetch(chunkStart, chunkEnd, buffer, 0);
+                } catch (IOException | RuntimeException e) {
+                    pool.release(buffer);
+                    chunk.releaseReservation(transfer);
+                    throw e;
+                }
+                return buffer;
+            }
+        }, 0);
+        pending.addLast(chunk);
+        nextStart = chunkEnd;
+    }
+
+    /**
+     * Waits for the next chunk in file order and makes it current.
+     *
+     * @return false if there are no more chunks
+     */
+    private boolean nextChunk() throws IOException {
+        releaseCurrent();
+        if (pending.isEmpty() && nextStart < end) {
+            // The stream holds no chunks now, so this is granted even if other transfers (perhaps
+            // driven by this thread) take up the whole budget
+            int chunkSize = schedule.getChunkSize(nextChunkNumber);
+            Preconditions.checkState(chunkSize > 0, "Chunk sizes must be positive");
+            BufferPool pool = BufferPool.forSize(chunkSize);
+            transfer.reserve(pool.getBufferSize());
+            submitChunk(chunkSize, pool);
+        }
+        Chunk chunk = pending.pollFirst();
+        if (chunk == null) {
+            transfer.close();
+            return false;
+        }
+        try {
+            current = chunk.data.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            pending.addFirst(chunk);
+            throw new InterruptedIOException("Interrupted while waiting for download");
+        } catch (ExecutionException e) {
+            close();
+            Throwable cause = e.getCause();
+            if (cause instanceof IOException) {
+                throw (IOException) cause;
+            }
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            throw new IOException(cause);
+        }
+        currentChunk = chunk;
+        currentPosition = 0;
+        currentLength = chunk.length;
+        fillWindow();
+        return true;
+    }
+
+    private void releaseCurrent() {
+        if (current != null) {
+            BufferPool.forSize(current.length).release(current);
+        }
+        if (currentChunk != null) {
+            currentChunk.releaseReservation(transfer);
+        }
+        currentChunk = null;
+        current = null;
+        currentPosition = 0;
+        currentLength = 0;
+    }
+
+    private static void releaseIfDone(Future<byte[]> data) {
+        if (!data.isDone() || data.isCancelled()) {
+            return;
+        }
+        try {
+            byte[] buffer = data.get();
+            BufferPool.forSize(buffer.length).release(buffer);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException | CancellationException e) {
+            // Nothing to release
+        }
+    }
+}
@@ -0,0 +1,146 @@
+// Copyright (C) 2013-2016 DNAnexus, Inc.
+//
+// This file is part of dx-toolkit (DNAnexus platform client libraries).
+//
+// Licensed under the Apache License, Version 2.0 (the "License"); you may
+// not use this file except in compliance with the License. You may obtain a
+// copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+// WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+// License for the specific language governing permissions and limitations
+// under the License.
+
+package com.dnanexus;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+import com.google.common.base.Preconditions;
+import com.google.common.primitives.Ints;
+
+/**
+ * An {@link OutputStream} that splits the data written to it into parts and uploads each part, in
+ * the writing thread, as soon as it is full.
+ *
+ * <p>
+ * Data is copied once, into a part buffer taken from a {@link BufferPool}; the buffer is reused
+ * for every part of the same size and handed back when the part size changes or the stream is
+ * closed, so writing does not allocate per part or per byte. Part sizes are chosen by an
+ * {@link UploadPartPlanner}. {@code close} uploads the last part. This class is not thread-safe.
+ * </p>
+ */
+class PartOutputStream extends OutputStream {
+
+    private final PartUploader uploader;
+    private final UploadPartPlanner planner;
+
+    private byte[] part;
+    // Size of the current part, which its pooled buffer may exceed
+    private int partSize;
+    private int partLength;
+    private int nextIndex = 1;
+    private boolean closed;
+
+    /**
+     * Creates a stream that uploads parts through the specified uploader.
+     *
+     * @param uploader destination of the parts
+     * @param partSize size of each part (except the last)
+     */
+    PartOutputStream(PartUploader uploader, int partSize) {
+        this(uploader, UploadPartPlanner.fixedPartSize(partSize));
+    }
+
+    /**
+     * Creates a stream that uploads parts of the sizes chosen by the specified planner.
+     *
+     * @param uploader destination of the parts
+     * @param planner chooser of the part sizes, which must not exceed
+     *        {@link UploadPartPlanner#MAX_BUFFERED_PART_SIZE}
+     */
+    PartOutputStream(PartUploader uploader, UploadPartPlanner planner) {
+        this.uploader = Preconditions.checkNotNull(uploader);
+        this.planner = Preconditions.checkNotNull(planner);
+    }
+
+    /**
+     * Uploads the last part. The last part is uploaded even if it is empty when it is the only
+     * part, so that empty files get their (single, empty) part.
+     */
+    @Override
+    public void close() throws IOException {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        try {
+            if (partLength > 0 || nextIndex == 1) {
+                uploader.uploadPart(nextIndex++, part == null ? new byte[0] : part, partLength);
+            }
+        } finally {
+            releasePart();
+        }
+    }
+
+    @Override
+    public void write(byte[] b, int off, int len) throws IOException {
+        if (off < 0 || len < 0 || len > b.length - off) {
+            throw new IndexOutOfBoundsException();
+        }
+        checkOpen();
+        while (len > 0) {
+            acquirePart();
+            int numBytes = Math.min(len, partSize - partLength);
+            System.arraycopy(b, off, part, partLength, numBytes);
+            partLength += numBytes;
+            off += numBytes;
+            len -= numBytes;
+            uploadIfFull();
+        }
+    }
+
+    @Override
+    public void write(int b) throws IOException {
+        checkOpen();
+        acquirePart();
+        part[partLength++] = (byte) b;
+        uploadIfFull();
+    }
+
+    private void checkOpen() throws IOException {
+        if (closed) {
+            throw new IOException("Stream closed");
+        }
+    }
+
+    private void acquirePart() throws IOException {
+        if (part == null) {
+            if (nextIndex > planner.getMaxNumParts()) {
+                throw new IOException("The upload exceeds the maximum of " + planner.getMaxNumParts() + " parts");
+            }
+            partSize = Ints.checkedCast(planner.getPartSize(nextIndex));
+            part = BufferPool.forSize(partSize).acquire();
+        }
+    }
+
+    private void releasePart() {
+        if (part != null) {
+            BufferPool.forSize(part.length).release(part);
+        }
+        part = null;
+    }
+
+    private void uploadIfFull() throws IOException {
+        if (partLength == partSize) {
+            uploader.uploadPart(nextIndex++, part, partLength);
+            partLength = 0;
+            if (nextIndex > planner.getMaxNumParts() || planner.getPartSize(nextIndex) != partSize) {
+                releasePart();
+            }
+        }
+    }
+}
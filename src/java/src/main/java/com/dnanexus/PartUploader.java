@@ -0,0 +1,42 @@
+// Copyright (C) 2013-2016 DNAnexus, Inc.
+//
+// This file is part of dx-toolkit (DNAnexus platform client libraries).
+//
+// Licensed under the Apache License, Version 2.0 (the "License"); you may
+// not use this file except in compliance with the License. You may obtain a
+// copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+// WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+// License for the specific language governing permissions and limitations
+// under the License.
+
+package com.dnanexus;
+
+import java.io.IOException;
+
+/**
+ * Destination for the parts of a file being uploaded, used by the {@link DXFile} upload streams.
+ *
+ * <p>
+ * Implementations must be safe to call from multiple threads at once.
+ * </p>
+ */
+interface PartUploader {
+
+    /**
+     * Uploads one part of the file.
+     *
+     * @param index part index (starting at 1)
+     * @param data buffer holding the contents of the part, which may be reused by the caller as
+     *        soon as this method returns
+     * @param length number of bytes of {@code data} (starting at 0) that make up the part
+     *
+     * @throws IOException if the part cannot be uploaded
+     */
+    void uploadPart(int index, byte[] data, int length) throws IOException;
+
+}
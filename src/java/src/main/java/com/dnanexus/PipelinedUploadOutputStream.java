@@ -0,0 +1,266 @@
+// Copyright (C) 2013-2016 DNAnexus, Inc.
+//
+// This file is part of dx-toolkit (DNAnexus platform client libraries).
+//
+// Licensed under the Apache License, Version 2.0 (the "License"); you may
+// not use this file except in compliance with the License. You may obtain a
+// copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+// WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+// License for the specific language governing permissions and limitations
+// under the License.
+
+package com.dnanexus;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.io.OutputStream;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicReference;
+
+import com.google.common.base.Preconditions;
+import com.google.common.primitives.Ints;
+
+/**
+ * An {@link OutputStream} that splits the data written to it into parts and uploads up to
+ * {@code parallelism} of them concurrently.
+ *
+ * <p>
+ * Each full part is handed to a worker thread, which does all the work for that part (hashing,
+ * requesting the upload URL, and sending the data), while the writer goes on filling the next part.
+ * When {@code parallelism} parts are already in flight, {@code write} blocks until one of them
+ * finishes, so the stream holds at most about {@code (parallelism + 1)} parts. Part sizes are
+ * chosen by an {@link UploadPartPlanner}; part buffers come from a {@link BufferPool} and go back
+ * to it once their part is uploaded. Each buffer is reserved from the transfer's byte budget before
+ * it is filled, and stays reserved until it is back in the pool.
+ * </p>
+ *
+ * <p>
+ * If a part fails, subsequent calls to {@code write} and {@code close} throw the first failure.
+ * {@code close} uploads the last part and waits for all outstanding parts. This class is not
+ * thread-safe.
+ * </p>
+ */
+class PipelinedUploadOutputStream extends OutputStream {
+
+    private final PartUploader uploader;
+    private final UploadPartPlanner planner;
+    private final int parallelism;
+    private final TransferScheduler.Transfer transfer;
+    // One permit per part that may be in flight
+    private final Semaphore inFlight;
+    private final AtomicReference<Throwable> failure = new AtomicReference<Throwable>();
+
+    private byte[] part;
+    // Size of the current part, which its pooled buffer may exceed
+    private int partSize;
+    // Bytes reserved for the current part's buffer
+    private long partReservation;
+    private int partLength;
+    private int nextIndex = 1;
+    private boolean closed;
+
+    /**
+     * Creates a stream that uploads parts through the specified uploader.
+     *
+     * @param uploader destination of the parts
+     * @param partSize size of each part (except the last)
+     * @param parallelism maximum number of parts being uploaded at once
+     */
+    PipelinedUploadOutputStream(PartUploader uploader, int partSize, int parallelism) {
+        this(uploader, UploadPartPlanner.fixedPartSize(partSize), parallelism);
+    }
+
+    /**
+     * Creates a stream that uploads parts of the sizes chosen by the specified planner.
+     *
+     * @param uploader destination of the parts
+     * @param planner chooser of the part sizes, which must not exceed
+     *        {@link UploadPartPlanner#MAX_BUFFERED_PART_SIZE}
+     * @param parallelism maximum number of parts being uploaded at once
+     */
+    PipelinedUploadOutputStream(PartUploader uploader, UploadPartPlanner planner, int parallelism) {
+        this(uploader, planner, parallelism, null);
+    }
+
+    /**
+     * Creates a stream that uploads parts of the sizes chosen by the specified planner on the
+     * workers of a {@link TransferScheduler}.
+     *
+     * @param uploader destination of the parts
+     * @param planner chooser of the part sizes, which must not exceed
+     *        {@link UploadPartPlanner#MAX_BUFFERED_PART_SIZE}
+     * @param parallelism maximum number of parts being uploaded at once
+     * @param transfer transfer to run the uploads on, which the stream closes when it is closed, or
+     *        null to use threads of the stream's own
+     */
+    PipelinedUploadOutputStream(PartUploader uploader, UploadPartPlanner planner, int parallelism,
+            TransferScheduler.Transfer transfer) {
+        Preconditions.checkArgument(parallelism > 0, "parallelism must be positive");
+        this.uploader = Preconditions.checkNotNull(uploader);
+        this.planner = Preconditions.checkNotNull(planner);
+        this.parallelism = parallelism;
+        this.inFlight = new Semaphore(parallelism);
+        this.transfer = transfer != null ? transfer
+                : TransferScheduler.newPrivateTransfer(parallelism, "dxjava-upload-%d");
+    }
+
+    /**
+     * Uploads the last part, waits for all parts to finish uploading, and releases the worker
+     * threads.
+     *
+     * @throws IOException the first failure of any part
+     */
+    @Override
+    public void close() throws IOException {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        try {
+            // The last part is uploaded even if it is empty when it is the only part, so that empty
+            // files get their (single, empty) part.
+            if (failure.get() == null && (partLength > 0 || nextIndex == 1)) {
+                submitPart();
+            }
+            try {
+                inFlight.acquire(parallelism);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new InterruptedIOException("Interrupted while waiting for parts to be uploaded");
+            }
+        } finally {
+            if (part != null) {
+                BufferPool.forSize(part.length).release(part);
+                transfer.releaseReservation(partReservation);
+            }
+            part = null;
+            transfer.close();
+        }
+        checkFailure();
+    }
+
+    @Override
+    public void write(byte[] b, int off, int len) throws IOException {
+        if (off < 0 || len < 0 || len > b.length - off) {
+            throw new IndexOutOfBoundsException();
+        }
+        if (closed) {
+            throw new IOException("Stream closed");
+        }
+        checkFailure();
+        while (len > 0) {
+            acquirePart();
+            int numBytes = Math.min(len, partSize - partLength);
+            System.arraycopy(b, off, part, partLength, numBytes);
+            partLength += numBytes;
+            off += numBytes;
+            len -= numBytes;
+            if (partLength == partSize) {
+                submitPart();
+            }
+        }
+    }
+
+    @Override
+    public void write(int b) throws IOException {
+        if (closed) {
+            throw new IOException("Stream closed");
+        }
+        checkFailure();
+        acquirePart();
+        part[partLength++] = (byte) b;
+        if (partLength == partSize) {
+            submitPart();
+        }
+    }
+
+    private void acquirePart() throws IOException {
+        if (part == null) {
+            if (nextIndex > planner.getMaxNumParts()) {
+                throw new IOException("The upload exceeds the maximum of " + planner.getMaxNumParts() + " parts");
+            }
+            partSize = Ints.checkedCast(planner.getPartSize(nextIndex));
+            BufferPool pool = BufferPool.forSize(partSize);
+            try {
+                transfer.reserve(pool.getBufferSize());
+            } catch (RejectedExecutionException e) {
+                throw new IOException("The transfer has been closed", e);
+            }
+            partReservation = pool.getBufferSize();
+            part = pool.acquire();
+        }
+    }
+
+    private void checkFailure() throws IOException {
+        Throwable t = failure.get();
+        if (t == null) {
+            return;
+        }
+        if (t instanceof IOException) {
+            throw (IOException) t;
+        }
+        if (t instanceof RuntimeException) {
+            throw (RuntimeException) t;
+        }
+        if (t instanceof Error) {
+            throw (Error) t;
+        }
+        throw new IOException(t);
+    }
+
+    /**
+     * Hands the current part to a worker, blocking while {@code parallelism} parts are in flight.
+     */
+    private void submitPart() throws IOException {
+        final byte[] data = part == null ? new byte[0] : part;
+        final long reservation = part == null ? 0 : partReservation;
+        final int length = partLength;
+        final int index = nextIndex++;
+        part = null;
+        partLength = 0;
+        try {
+            inFlight.acquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            if (data.length > 0) {
+                BufferPool.forSize(data.length).release(data);
+            }
+            transfer.releaseReservation(reservation);
+            throw new InterruptedIOException("Interrupted while waiting for parts to be uploaded");
+        }
+        Runnable upload = new Runnable() {
+            @Override
+            public void run() {
+                try {
+                    if (failure.get() == null) {
+                        uploader.uploadPart(index, data, length);
+                    }
+                } catch (Throwable t) {
+                    failure.compareAndSet(null, t);
+                } finally {
+                    if (data.length > 0) {
+                        BufferPool.forSize(data.length).release(data);
+                    }
+                    transfer.releaseReservation(reservation);
+                    inFlight.release();
+                }
+            }
+        };
+        try {
+            // The part's buffer is already reserved
+            transfer.submit(Executors.callable(upload), 0);
+        } catch (RejectedExecutionException e) {
+            // The scheduler has been shut down; running the task now just releases the part
+            failure.compareAndSet(null, e);
+            upload.run();
+        }
+        checkFailure();
+    }
+}
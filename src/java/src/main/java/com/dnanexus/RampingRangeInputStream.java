@@ -0,0 +1,158 @@
+// Copyright (C) 2013-2016 DNAnexus, Inc.
+//
+// This file is part of dx-toolkit (DNAnexus platform client libraries).
+//
+// Licensed under the Apache License, Version 2.0 (the "License"); you may
+// not use this file except in compliance with the License. You may obtain a
+// copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+// WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+// License for the specific language governing permissions and limitations
+// under the License.
+
+package com.dnanexus;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+import com.google.common.base.Preconditions;
+
+/**
+ * An {@link InputStream} over a byte range of a remote file that fetches one chunk at a time,
+ * starting with small chunks (so that small reads return quickly) and ramping up the chunk size as
+ * more of the file is read.
+ *
+ * <p>
+ * Chunks are fetched into a buffer taken from a {@link BufferPool}, which is reused for every chunk
+ * that fits in it and handed back when the stream is closed or reaches the end of the range, so
+ * reading does not allocate per chunk or per byte. This class is not thread-safe.
+ * </p>
+ */
+class RampingRangeInputStream extends InputStream {
+
+    static final int MIN_CHUNK_SIZE = 64 * 1024;
+    static final int MAX_CHUNK_SIZE = 16 * 1024 * 1024;
+    // Number of chunks fetched at each chunk size
+    private static final int NUM_REQUESTS_BETWEEN_RAMP = 4;
+    // Ramp up factor for the chunk size
+    private static final int RAMP = 2;
+
+    private final RangeFetcher fetcher;
+    private final long end;
+    private long nextByteFromApi;
+    private int chunkNumber;
+
+    private BufferPool pool;
+    private byte[] buffer;
+    private int bufferPosition;
+    private int bufferLength;
+    private final byte[] singleByte = new byte[1];
+    private boolean closed;
+
+    /**
+     * Chunk sizes of the ramp: {@link #NUM_REQUESTS_BETWEEN_RAMP} chunks of each size, starting at
+     * {@link #MIN_CHUNK_SIZE} and growing by a factor of {@link #RAMP} up to
+     * {@link #MAX_CHUNK_SIZE}.
+     */
+    static final ParallelRangeInputStream.ChunkSchedule RAMP_SCHEDULE = new ParallelRangeInputStream.ChunkSchedule() {
+        @Override
+        public int getChunkSize(int chunkNumber) {
+            long chunkSize = MIN_CHUNK_SIZE;
+            for (int i = chunkNumber / NUM_REQUESTS_BETWEEN_RAMP; i > 0 && chunkSize < MAX_CHUNK_SIZE; --i) {
+                chunkSize *= RAMP;
+            }
+            return (int) Math.min(chunkSize, MAX_CHUNK_SIZE);
+        }
+    };
+
+    /**
+     * Creates a stream over the specified range.
+     *
+     * @param fetcher source of the file's bytes
+     * @param start first byte of the range (inclusive)
+     * @param end end of the range (exclusive)
+     */
+    RampingRangeInputStream(RangeFetcher fetcher, long start, long end) {
+        Preconditions.checkArgument(start <= end, "The start byte cannot be larger than the end byte");
+        this.fetcher = Preconditions.checkNotNull(fetcher);
+        this.nextByteFromApi = start;
+        this.end = end;
+    }
+
+    @Override
+    public int available() {
+        return bufferLength - bufferPosition;
+    }
+
+    @Override
+    public void close() {
+        closed = true;
+        releaseBuffer();
+    }
+
+    @Override
+    public int read() throws IOException {
+        int numBytesRead = read(singleByte, 0, 1);
+        if (numBytesRead == -1) {
+            return -1;
+        }
+        return singleByte[0] & 0xff;
+    }
+
+    @Override
+    public int read(byte[] b, int off, int numBytes) throws IOException {
+        if (off < 0 || numBytes < 0 || numBytes > b.length - off) {
+            throw new IndexOutOfBoundsException();
+        }
+        if (closed) {
+            throw new IOException("Stream closed");
+        }
+        if (numBytes == 0) {
+            return 0;
+        }
+
+        // Request more data to buffer
+        if (bufferPosition == bufferLength) {
+            if (nextByteFromApi >= end) {
+                releaseBuffer();
+                return -1;
+            }
+            fetchNextChunk();
+        }
+
+        int bytesToRead = Math.min(numBytes, bufferLength - bufferPosition);
+        System.arraycopy(buffer, bufferPosition, b, off, bytesToRead);
+        bufferPosition += bytesToRead;
+        return bytesToRead;
+    }
+
+    private void fetchNextChunk() throws IOException {
+        int chunkSize = RAMP_SCHEDULE.getChunkSize(chunkNumber++);
+        if (buffer == null || buffer.length < chunkSize) {
+            releaseBuffer();
+            pool = BufferPool.forSize(chunkSize);
+            buffer = pool.acquire();
+        }
+
+        long chunkEnd = Math.min(nextByteFromApi + chunkSize, end);
+        bufferPosition = 0;
+        bufferLength = 0;
+        fetcher.fetch(nextByteFromApi, chunkEnd, buffer, 0);
+        bufferLength = (int) (chunkEnd - nextByteFromApi);
+        nextByteFromApi = chunkEnd;
+    }
+
+    private void releaseBuffer() {
+        if (pool != null) {
+            pool.release(buffer);
+        }
+        pool = null;
+        buffer = null;
+        bufferPosition = 0;
+        bufferLength = 0;
+    }
+}
@@ -0,0 +1,42 @@
+// Copyright (C) 2013-2016 DNAnexus, Inc.
+//
+// This file is part of dx-toolkit (DNAnexus platform client libraries).
+//
+// Licensed under the Apache License, Version 2.0 (the "License"); you may
+// not use this file except in compliance with the License. You may obtain a
+// copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+// WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+// License for the specific language governing permissions and limitations
+// under the License.
+
+package com.dnanexus;
+
+import java.io.IOException;
+
+/**
+ * Source of byte ranges of a remote file, used by the {@link DXFile} download streams.
+ *
+ * <p>
+ * Implementations must be safe to call from multiple threads at once.
+ * </p>
+ */
+interface RangeFetcher {
+
+    /**
+     * Fetches the specified byte range into a buffer.
+     *
+     * @param start first byte of the range (inclusive)
+     * @param end end of the range (exclusive)
+     * @param buffer array into which exactly {@code end - start} bytes are read
+     * @param offset position in {@code buffer} of the first byte of the range
+     *
+     * @throws IOException if the range cannot be fetched
+     */
+    void fetch(long start, long end, byte[] buffer, int offset) throws IOException;
+
+}
@@ -0,0 +1,231 @@
+// Copyright (C) 2013-2016 DNAnexus, Inc.
+//
+// This file is part of dx-toolkit (DNAnexus platform client libraries).
+//
+// Licensed under the Apache License, Version 2.0 (the "License"); you may
+// not use this file except in compliance with the License. You may obtain a
+// copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+// WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+// License for the specific language governing permissions and limitations
+// under the License.
+
+package com.dnanexus;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.Map;
+
+import com.google.common.base.Preconditions;
+import com.google.common.collect.ImmutableRangeSet;
+import com.google.common.collect.Maps;
+import com.google.common.collect.Range;
+import com.google.common.collect.RangeSet;
+import com.google.common.collect.TreeRangeSet;
+
+/**
+ * An on-disk record of the work completed by a file transfer, so that a transfer that is
+ * interrupted can be restarted without redoing that work.
+ *
+ * <p>
+ * The journal is a text file whose first line identifies the transfer; each following line records
+ * either an uploaded part (its index and MD5) or a downloaded byte range. Records are appended and
+ * synced to disk one at a time, after the work they describe is durable, so a crash at any point
+ * leaves a journal that claims no more than what was done (a partially written last line is
+ * ignored). A journal that belongs to a different transfer is discarded when it is opened; one that
+ * belongs to the same transfer with a different layout cannot be opened.
+ * </p>
+ *
+ * <p>
+ * This class is thread-safe.
+ * </p>
+ */
+class TransferJournal {
+
+    private static final String MAGIC = "dxjava-transfer-journal 1";
+    private static final String PART = "part";
+    private static final String RANGE = "range";
+    private static final String LAYOUT = "layout";
+
+    /**
+     * Opens the journal at the specified path, resuming from it if it describes the same transfer
+     * and starting a new one otherwise.
+     *
+     * @param path location of the journal file
+     * @param transfer description of the transfer (a single line)
+     * @param resume whether the work recorded in an existing journal may be reused; if false, any
+     *        existing journal is replaced
+     *
+     * @return journal
+     *
+     * @throws IOException if the journal cannot be read or created
+     */
+    static TransferJournal open(Path path, String transfer, boolean resume) throws IOException {
+        Preconditions.checkArgument(!transfer.contains("\n"), "transfer may not span several lines");
+        return openWithHeader(path, MAGIC + " " + transfer, null, resume);
+    }
+
+    /**
+     * Opens the journal at the specified path, as {@link #open(Path, String, boolean)} does, for a
+     * transfer whose records are only meaningful with a particular layout (such as the sizes of the
+     * parts of an upload). A journal of the same transfer with a different layout is neither
+     * resumed nor discarded: the work it records, such as parts already uploaded, would be mixed
+     * with that of the new layout.
+     *
+     * @param path location of the journal file
+     * @param transfer description of the transfer (a single line)
+     * @param layout description of the layout (a single line)
+     * @param resume whether the work recorded in an existing journal may be reused; if false, any
+     *        existing journal is replaced
+     *
+     * @return journal
+     *
+     * @throws IOException if the journal cannot be read or created, or if it records the same
+     *         transfer with a different layout
+     */
+    static TransferJournal open(Path path, String transfer, String layout, boolean resume) throws IOException {
+        Preconditions.checkArgument(!transfer.contains("\n") && !layout.contains("\n"),
+                "transfer and layout may not span several lines");
+        String prefix = MAGIC + " " + transfer + " " + LAYOUT + " ";
+        return openWithHeader(path, prefix + layout, prefix, resume);
+    }
+
+    /**
+     * Opens the journal at the specified path, resuming from it if its first line is
+     * {@code header}. If {@code layoutPrefix} is not null, an existing journal whose first line
+     * starts with it but is different is rejected.
+     */
+    private static TransferJournal openWithHeader(Path path, String header, String layoutPrefix, boolean resume)
+            throws IOException {
+        TransferJournal journal = new TransferJournal(path);
+        if (resume) {
+            List<String> lines;
+            try {
+                lines = Files.readAllLines(path, StandardCharsets.UTF_8);
+            } catch (NoSuchFileException e) {
+                lines = null;
+            }
+            if (lines != null && !lines.isEmpty() && lines.get(0).equals(header)) {
+                for (String line : lines.subList(1, lines.size())) {
+                    journal.load(line);
+                }
+                return journal;
+            }
+            if (lines != null && !lines.isEmpty() && layoutPrefix != null && lines.get(0).startsWith(layoutPrefix)) {
+                throw new IOException("The journal " + path + " records the same transfer with a different layout ("
+                        + lines.get(0).substring(layoutPrefix.length()) + "), so it cannot be resumed with "
+                        + header.substring(layoutPrefix.length()));
+            }
+        }
+        Files.write(path, (header + "\n").getBytes(StandardCharsets.UTF_8));
+        return journal;
+    }
+
+    private final Path path;
+    private final Map<Integer, String> parts = Maps.newHashMap();
+    private final RangeSet<Long> ranges = TreeRangeSet.create();
+
+    private TransferJournal(Path path) {
+        this.path = path;
+    }
+
+    /**
+     * Applies one line of an existing journal, ignoring lines that are not complete records.
+     */
+    private void load(String line) {
+        String[] fields = line.split(" ");
+        try {
+            if (fields.length == 3 && fields[0].equals(PART) && fields[2].length() == 32) {
+                parts.put(Integer.parseInt(fields[1]), fields[2]);
+            } else if (fields.length == 3 && fields[0].equals(RANGE)) {
+                ranges.add(Range.closedOpen(Long.parseLong(fields[1]), Long.parseLong(fields[2])));
+            }
+        } catch (IllegalArgumentException e) {
+            // Truncated by a crash while it was being written
+        }
+    }
+
+    /**
+     * Deletes the journal, once the transfer is complete.
+     *
+     * @throws IOException if the journal cannot be deleted
+     */
+    void delete() throws IOException {
+        Files.deleteIfExists(path);
+    }
+
+    /**
+     * Returns the parts of the specified range that have not been recorded as downloaded.
+     *
+     * @param start first byte of the range (inclusive)
+     * @param end end of the range (exclusive)
+     *
+     * @return missing ranges, in order
+     */
+    synchronized RangeSet<Long> getMissingRanges(long start, long end) {
+        RangeSet<Long> missing = TreeRangeSet.create();
+        if (start < end) {
+            missing.add(Range.closedOpen(start, end));
+            missing.removeAll(ranges);
+        }
+        return ImmutableRangeSet.copyOf(missing);
+    }
+
+    /**
+     * Returns the MD5 of the specified part, if it has been recorded as uploaded.
+     *
+     * @param index part index
+     *
+     * @return MD5 as a hex string, or null if the part has not been uploaded
+     */
+    synchronized String getPartMd5(int index) {
+        return parts.get(index);
+    }
+
+    /**
+     * Records that a part has been uploaded.
+     *
+     * @param index part index
+     * @param md5 MD5 of the part as a hex string
+     *
+     * @throws IOException if the record cannot be written
+     */
+    synchronized void recordPart(int index, String md5) throws IOException {
+        append(PART + " " + index + " " + md5);
+        parts.put(index, md5);
+    }
+
+    /**
+     * Records that a byte range has been downloaded. The downloaded bytes must already be on disk.
+     *
+     * @param start first byte of the range (inclusive)
+     * @param end end of the range (exclusive)
+     *
+     * @throws IOException if the record cannot be written
+     */
+    synchronized void recordRange(long start, long end) throws IOException {
+        append(RANGE + " " + start + " " + end);
+        ranges.add(Range.closedOpen(start, end));
+    }
+
+    private void append(String record) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.WRITE, StandardOpenOption.APPEND)) {
+            ByteBuffer data = ByteBuffer.wrap((record + "\n").getBytes(StandardCharsets.UTF_8));
+            while (data.hasRemaining()) {
+                channel.write(data);
+            }
+            channel.force(false);
+        }
+    }
+}
@@ -0,0 +1,483 @@
+// Copyright (C) 2013-2016 DNAnexus, Inc.
+//
+// This file is part of dx-toolkit (DNAnexus platform client libraries).
+//
+// Licensed under the Apache License, Version 2.0 (the "License"); you may
+// not use this file except in compliance with the License. You may obtain a
+// copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+// WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+// License for the specific language governing permissions and limitations
+// under the License.
+package com.dnanexus;
+
+import java.io.InterruptedIOException;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.Callable;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.base.Preconditions;
+import com.google.common.collect.Lists;
+import com.google.common.collect.Ordering;
+import com.google.common.util.concurrent.ListenableFuture;
+import com.google.common.util.concurrent.ListenableFutureTask;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+
+/**
+ * A pool of worker threads shared by file transfers, which runs their chunks and parts under a
+ * common limit on the memory they buffer.
+ *
+ * <p>
+ * If every parallel transfer started threads of its own, many concurrent transfers would multiply
+ * both the number of threads and the memory buffered for their chunks. A scheduler runs the work of
+ * all the transfers made through the environments that use it on a fixed number of workers instead.
+ * Unless an environment is given a scheduler of its own with
+ * {@link DXEnvironment.Builder#setTransferScheduler(TransferScheduler)}, its transfers use the
+ * JVM-wide {@link #getDefault()} scheduler. A scheduler keeps the bytes they buffer within
+ * {@code maxBufferedBytes} (a single chunk larger than the limit is still allowed, alone). A part
+ * or chunk buffer counts against the limit from before it is allocated until it goes back to its
+ * {@link BufferPool}: a writer waits for room before it starts filling a part, and a download
+ * stream stops reading ahead while the chunks it has fetched but not yet returned take up the
+ * limit, or its share of the limit when other transfers also hold buffers. A transfer that holds
+ * no buffers can always get one, even beyond the limit, so that a thread that drives several
+ * transfers (copying a download to an upload, say) never waits for buffers that only it can
+ * release. Transfers take turns: the workers serve the transfers that have work queued in
+ * round-robin order, always preferring those of higher priority (see
+ * {@link DXFile.DownloadOptions#withPriority(int)} and
+ * {@link DXFile.UploadOptions#withPriority(int)}).
+ * </p>
+ *
+ * <p>
+ * Each transfer still bounds its own concurrency by its {@code parallelism} option (and cannot
+ * exceed the number of workers). The worker threads are daemon threads; they run until
+ * {@link #shutdown()} is called, or for the life of the JVM for the default scheduler.
+ * </p>
+ */
+public final class TransferScheduler {
+
+    /**
+     * Work queued by one transfer. Transfers are created by
+     * {@link TransferScheduler#newTransfer(int)} and must be closed once they are done.
+     */
+    final class Transfer implements AutoCloseable {
+        private final int priority;
+        private final boolean ownsScheduler;
+        // Tasks of this transfer not yet started, in submission order
+        private final Deque<Task<?>> queue = new ArrayDeque<Task<?>>();
+        // Bytes reserved by this transfer and not yet released
+        private long reservedBytes;
+        private boolean closed;
+
+        private Transfer(int priority, boolean ownsScheduler) {
+            this.priority = priority;
+            this.ownsScheduler = ownsScheduler;
+        }
+
+        /**
+         * Cancels the tasks of this transfer that have not started yet and rejects any further
+         * ones. Tasks already running are not interrupted. If the scheduler was created just for
+         * this transfer, it is shut down.
+         */
+        @Override
+        public void close() {
+            List<Task<?>> cancelled;
+            synchronized (TransferScheduler.this) {
+                closed = true;
+                cancelled = Lists.newArrayList(queue);
+                queue.clear();
+                Deque<Transfer> level = ready.get(priority);
+                if (level != null && level.remove(this) && level.isEmpty()) {
+                    ready.remove(priority);
+                }
+                // Reservations waiting on this transfer fail
+                TransferScheduler.this.notifyAll();
+            }
+            for (Task<?> task : cancelled) {
+                task.future.cancel(false);
+            }
+            if (ownsScheduler) {
+                shutdown();
+            }
+        }
+
+        /**
+         * Queues a task of this transfer.
+         *
+         * @param task task to run on one of the workers
+         * @param numBytes number of bytes the task buffers while it runs
+         *
+         * @return future result of the task
+         *
+         * @throws RejectedExecutionException if the transfer has been closed or the scheduler shut
+         *         down
+         */
+        <T> ListenableFuture<T> submit(Callable<T> task, long numBytes) {
+            Preconditions.checkArgument(numBytes >= 0, "numBytes may not be negative");
+            Task<T> queued = new Task<T>(task, numBytes);
+            synchronized (TransferScheduler.this) {
+                if (closed || shutdown) {
+                    throw new RejectedExecutionException("Transfer has been closed");
+                }
+                if (queue.isEmpty()) {
+                    Deque<Transfer> level = ready.get(priority);
+                    if (level == null) {
+                        level = new ArrayDeque<Transfer>();
+                        ready.put(priority, level);
+                    }
+                    level.addLast(this);
+                }
+                queue.addLast(queued);
+                TransferScheduler.this.notifyAll();
+            }
+            return queued.future;
+        }
+
+        /**
+         * Reserves part of the scheduler's byte budget for a buffer that lives longer than the task
+         * that fills or drains it, such as a part being filled by a writer or a chunk waiting to be
+         * read. Blocks until the bytes fit within the budget, unless this transfer holds no
+         * reservation: then the bytes are granted right away, even beyond the budget, since the
+         * reservations of other transfers may only be released by the thread that is calling this
+         * (for example, one that copies a download stream to an upload stream). The reservation
+         * must be released with {@link #releaseReservation(long)} once the buffer has gone back to
+         * its pool; tasks working on reserved buffers are submitted with 0 bytes.
+         *
+         * @param numBytes number of bytes to reserve
+         *
+         * @throws InterruptedIOException if interrupted while waiting
+         * @throws RejectedExecutionException if the transfer has been closed or the scheduler shut
+         *         down
+         */
+        void reserve(long numBytes) throws InterruptedIOException {
+            Preconditions.checkArgument(numBytes >= 0, "numBytes may not be negative");
+            synchronized (TransferScheduler.this) {
+                while (true) {
+                    checkOpen();
+                    if (reservedBytes == 0 || fits(numBytes)) {
+                        addReservation(numBytes);
+                        return;
+                    }
+                    try {
+                        TransferScheduler.this.wait();
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                        throw new InterruptedIOException("Interrupted while waiting for buffer space");
+                    }
+                }
+            }
+        }
+
+        /**
+         * Reserves part of the scheduler's byte budget, as {@link #reserve(long)} does, if the
+         * bytes fit within it right away and within this transfer's fair share of it: the budget
+         * divided by the number of transfers holding reservations. The first reservation of a
+         * transfer only has to fit within the budget. This is meant for optional buffers, such as
+         * chunks read ahead, so that one transfer cannot take the budget that others need.
+         *
+         * @param numBytes number of bytes to reserve
+         *
+         * @return whether the bytes were reserved
+         *
+         * @throws RejectedExecutionException if the transfer has been closed or the scheduler shut
+         *         down
+         */
+        boolean tryReserve(long numBytes) {
+            Preconditions.checkArgument(numBytes >= 0, "numBytes may not be negative");
+            synchronized (TransferScheduler.this) {
+                checkOpen();
+                if (!fits(numBytes)) {
+                    return false;
+                }
+                if (reservedBytes > 0 && numBytes > maxBufferedBytes / numReservingTransfers - reservedBytes) {
+                    return false;
+                }
+                addReservation(numBytes);
+                return true;
+            }
+        }
+
+        /**
+         * Releases bytes reserved with {@link #reserve(long)} or {@link #tryReserve(long)}. This
+         * may be called after the transfer has been closed.
+         *
+         * @param numBytes number of bytes to release
+         */
+        void releaseReservation(long numBytes) {
+            synchronized (TransferScheduler.this) {
+                addReservation(-numBytes);
+                TransferScheduler.this.notifyAll();
+            }
+        }
+
+        private void checkOpen() {
+            if (closed || shutdown) {
+                throw new RejectedExecutionException("Transfer has been closed");
+            }
+        }
+
+        private void addReservation(long numBytes) {
+            if (reservedBytes == 0 && numBytes > 0) {
+                ++numReservingTransfers;
+            }
+            reservedBytes += numBytes;
+            if (reservedBytes == 0 && numBytes < 0) {
+                --numReservingTransfers;
+            }
+            addBufferedBytes(numBytes);
+        }
+    }
+
+    /**
+     * A queued task with the number of bytes it buffers.
+     */
+    private static class Task<T> {
+        private final ListenableFutureTask<T> future;
+        private final long numBytes;
+
+        private Task(Callable<T> task, long numBytes) {
+            this.future = ListenableFutureTask.create(task);
+            this.numBytes = numBytes;
+        }
+    }
+
+    /**
+     * Number of worker threads of the default scheduler.
+     */
+    public static final int DEFAULT_NUM_WORKERS = 32;
+
+    /**
+     * Largest byte budget of the default scheduler (256 MiB); the budget is smaller if a quarter of
+     * the JVM's maximum heap is smaller.
+     */
+    public static final long DEFAULT_MAX_BUFFERED_BYTES = 256L * 1024 * 1024;
+
+    /**
+     * Holds the default scheduler, which is only created (and its workers started) on first use.
+     */
+    private static class DefaultHolder {
+        private static final TransferScheduler DEFAULT = new TransferScheduler(DEFAULT_NUM_WORKERS,
+                Math.min(DEFAULT_MAX_BUFFERED_BYTES, Runtime.getRuntime().maxMemory() / 4),
+                "dxjava-transfer-%d", true);
+    }
+
+    /**
+     * Returns the scheduler shared by the file transfers of all environments that have no
+     * scheduler of their own. It has {@value #DEFAULT_NUM_WORKERS} workers and a budget of
+     * {@value #DEFAULT_MAX_BUFFERED_BYTES} bytes (256 MiB), or a quarter of the maximum heap size
+     * if that is smaller. It cannot be shut down.
+     *
+     * @return the default scheduler
+     */
+    public static TransferScheduler getDefault() {
+        return DefaultHolder.DEFAULT;
+    }
+
+    /**
+     * Creates a scheduler and starts its workers.
+     *
+     * @param numWorkers number of worker threads, i.e. the maximum number of chunks and parts
+     *        transferred at once across all transfers
+     * @param maxBufferedBytes maximum total size of the chunks and parts being transferred at once
+     *
+     * @return new scheduler
+     */
+    public static TransferScheduler create(int numWorkers, long maxBufferedBytes) {
+        Preconditions.checkArgument(numWorkers > 0, "numWorkers must be positive");
+        Preconditions.checkArgument(maxBufferedBytes > 0, "maxBufferedBytes must be positive");
+        return new TransferScheduler(numWorkers, maxBufferedBytes, "dxjava-transfer-%d", false);
+    }
+
+    /**
+     * Creates a transfer on a scheduler of its own, for transfers made without a shared scheduler.
+     * The scheduler has no limit on buffered bytes and is shut down when the transfer is closed.
+     *
+     * @param numWorkers number of worker threads
+     * @param threadNameFormat name format for the worker threads, as for
+     *        {@link ThreadFactoryBuilder}
+     *
+     * @return new transfer
+     */
+    static Transfer newPrivateTransfer(int numWorkers, String threadNameFormat) {
+        Preconditions.checkArgument(numWorkers > 0, "numWorkers must be positive");
+        TransferScheduler scheduler = new TransferScheduler(numWorkers, Long.MAX_VALUE, threadNameFormat, false);
+        return scheduler.new Transfer(0, true);
+    }
+
+    private final int numWorkers;
+    private final long maxBufferedBytes;
+    private final boolean isDefault;
+
+    // Transfers that have tasks queued, highest priority first, each priority's transfers in the
+    // order in which they are served. All mutable state is guarded by this.
+    private final TreeMap<Integer, Deque<Transfer>> ready =
+            new TreeMap<Integer, Deque<Transfer>>(Ordering.<Integer>natural().reverse());
+    private long bufferedBytes;
+    private long peakBufferedBytes;
+    // Number of transfers holding reservations
+    private int numReservingTransfers;
+    private boolean shutdown;
+
+    private TransferScheduler(int numWorkers, long maxBufferedBytes, String threadNameFormat,
+            boolean isDefault) {
+        this.numWorkers = numWorkers;
+        this.maxBufferedBytes = maxBufferedBytes;
+        this.isDefault = isDefault;
+        ThreadFactory threadFactory = new ThreadFactoryBuilder().setDaemon(true)
+                .setNameFormat(threadNameFormat).build();
+        for (int i = 0; i < numWorkers; ++i) {
+            threadFactory.newThread(new Runnable() {
+                @Override
+                public void run() {
+                    runWorker();
+                }
+            }).start();
+        }
+    }
+
+    @VisibleForTesting
+    synchronized long getBufferedBytes() {
+        return bufferedBytes;
+    }
+
+    @VisibleForTesting
+    synchronized long getPeakBufferedBytes() {
+        return peakBufferedBytes;
+    }
+
+    /**
+     * Returns the maximum total size of the chunks and parts being transferred at once.
+     *
+     * @return maximum number of buffered bytes
+     */
+    public long getMaxBufferedBytes() {
+        return maxBufferedBytes;
+    }
+
+    /**
+     * Returns the number of worker threads.
+     *
+     * @return number of workers
+     */
+    public int getNumWorkers() {
+        return numWorkers;
+    }
+
+    /**
+     * Creates a transfer whose tasks run on this scheduler.
+     *
+     * @param priority priority of the transfer; the tasks of transfers with higher priority are
+     *        started first
+     *
+     * @return new transfer
+     */
+    Transfer newTransfer(int priority) {
+        return new Transfer(priority, false);
+    }
+
+    /**
+     * Stops the workers once their current tasks are done. Tasks that have not started yet are
+     * cancelled, and transfers submitting further tasks fail.
+     *
+     * @throws IllegalStateException if this is the default scheduler
+     */
+    public void shutdown() {
+        Preconditions.checkState(!isDefault, "The default scheduler cannot be shut down");
+        List<Task<?>> cancelled = Lists.newArrayList();
+        synchronized (this) {
+            shutdown = true;
+            for (Deque<Transfer> level : ready.values()) {
+                for (Transfer transfer : level) {
+                    cancelled.addAll(transfer.queue);
+                    transfer.queue.clear();
+                }
+            }
+            ready.clear();
+            notifyAll();
+        }
+        for (Task<?> task : cancelled) {
+            task.future.cancel(false);
+        }
+    }
+
+    /**
+     * Takes the next task to run off the queues, if it fits within the byte limit. Tasks are
+     * started strictly in turn: if the next one does not fit yet, nothing is started until enough
+     * of the running ones finish, so that large chunks are not starved by small ones.
+     *
+     * @return task to run, or null if there is none that can start now
+     */
+    private Task<?> nextTask() {
+        while (!ready.isEmpty()) {
+            Map.Entry<Integer, Deque<Transfer>> level = ready.firstEntry();
+            Transfer transfer = level.getValue().peekFirst();
+            Task<?> task = transfer.queue.peekFirst();
+            // Tasks working on reserved buffers (of 0 bytes) always fit
+            if (!task.future.isCancelled() && task.numBytes > 0 && !fits(task.numBytes)) {
+                return null;
+            }
+            transfer.queue.pollFirst();
+            level.getValue().pollFirst();
+            if (!transfer.queue.isEmpty()) {
+                level.getValue().addLast(transfer);
+            } else if (level.getValue().isEmpty()) {
+                ready.remove(level.getKey());
+            }
+            if (!task.future.isCancelled()) {
+                return task;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Returns whether the specified number of bytes can be buffered now: whether they fit within
+     * the budget, or nothing else is buffered.
+     */
+    private boolean fits(long numBytes) {
+        return bufferedBytes == 0 || numBytes <= maxBufferedBytes - bufferedBytes;
+    }
+
+    private void addBufferedBytes(long numBytes) {
+        bufferedBytes += numBytes;
+        peakBufferedBytes = Math.max(peakBufferedBytes, bufferedBytes);
+    }
+
+    private void runWorker() {
+        while (true) {
+            Task<?> task;
+            synchronized (this) {
+                while ((task = nextTask()) == null) {
+                    if (shutdown) {
+                        return;
+                    }
+                    try {
+                        wait();
+                    } catch (InterruptedException e) {
+                        // Workers only stop on shutdown
+                    }
+                }
+                addBufferedBytes(task.numBytes);
+            }
+            try {
+                task.future.run();
+            } finally {
+                // Clear any interrupt used to cancel the task, so that the next one doesn't see it
+                Thread.interrupted();
+                synchronized (this) {
+                    addBufferedBytes(-task.numBytes);
+                    notifyAll();
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,140 @@
+// Copyright (C) 2013-2016 DNAnexus, Inc.
+//
+// This file is part of dx-toolkit (DNAnexus platform client libraries).
+//
+// Licensed under the Apache License, Version 2.0 (the "License"); you may
+// not use this file except in compliance with the License. You may obtain a
+// copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+// WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+// License for the specific language governing permissions and limitations
+// under the License.
+package com.dnanexus;
+
+import java.util.concurrent.TimeUnit;
+
+import com.google.common.base.MoreObjects;
+
+/**
+ * Statistics on the ranged requests made by a transfer, and the chunk size and parallelism chosen
+ * for it when adaptive sizing is enabled (see {@link DXFile.DownloadOptions#withAdaptiveSizing}).
+ *
+ * <p>
+ * The throughput and time-to-first-byte figures are moving averages that favor the most recent
+ * requests. A {@code TransferStats} may be shared by several transfers, and may be read while they
+ * are in progress. This class is thread-safe.
+ * </p>
+ */
+public class TransferStats {
+
+    // Weight of each new sample in the moving averages
+    private static final double SMOOTHING = 0.3;
+
+    private long bytesTransferred;
+    private long numRequests;
+    // Bytes per second over a single connection, once the response has started to arrive
+    private double connectionThroughput;
+    private double timeToFirstByteNanos;
+    private int chunkSize;
+    private int parallelism;
+
+    /**
+     * Creates an empty {@code TransferStats}.
+     */
+    public TransferStats() {}
+
+    /**
+     * Returns the total number of bytes transferred.
+     *
+     * @return number of bytes
+     */
+    public synchronized long getBytesTransferred() {
+        return bytesTransferred;
+    }
+
+    /**
+     * Returns the most recent chunk size chosen by adaptive sizing.
+     *
+     * @return chunk size in bytes, or 0 if no size has been chosen
+     */
+    public synchronized int getChunkSize() {
+        return chunkSize;
+    }
+
+    /**
+     * Returns the average throughput of a single connection, not counting the time before the
+     * first byte of each response.
+     *
+     * @return throughput in bytes per second, or 0 if nothing has been transferred
+     */
+    public synchronized double getConnectionThroughput() {
+        return connectionThroughput;
+    }
+
+    /**
+     * Returns the number of completed ranged requests.
+     *
+     * @return number of requests
+     */
+    public synchronized long getNumRequests() {
+        return numRequests;
+    }
+
+    /**
+     * Returns the most recent number of concurrent requests chosen by adaptive sizing.
+     *
+     * @return parallelism, or 0 if none has been chosen
+     */
+    public synchronized int getParallelism() {
+        return parallelism;
+    }
+
+    /**
+     * Returns the average time from sending a request to receiving the start of its response.
+     *
+     * @return time to first byte in milliseconds, or 0 if nothing has been transferred
+     */
+    public synchronized double getTimeToFirstByteMillis() {
+        return timeToFirstByteNanos / TimeUnit.MILLISECONDS.toNanos(1);
+    }
+
+    /**
+     * Records a completed request.
+     *
+     * @param numBytes number of bytes transferred
+     * @param firstByteNanos time until the response started to arrive
+     * @param totalNanos time until the response was complete
+     */
+    synchronized void recordRequest(long numBytes, long firstByteNanos, long totalNanos) {
+        bytesTransferred += numBytes;
+        ++numRequests;
+        long transferNanos = Math.max(totalNanos - firstByteNanos, 1);
+        double throughput = numBytes * (double) TimeUnit.SECONDS.toNanos(1) / transferNanos;
+        connectionThroughput = numRequests == 1 ? throughput : average(connectionThroughput, throughput);
+        timeToFirstByteNanos = numRequests == 1 ? firstByteNanos : average(timeToFirstByteNanos, firstByteNanos);
+    }
+
+    /**
+     * Records the chunk size and parallelism chosen by adaptive sizing.
+     */
+    synchronized void recordDecision(int chunkSize, int parallelism) {
+        this.chunkSize = chunkSize;
+        this.parallelism = parallelism;
+    }
+
+    private static double average(double average, double sample) {
+        return (1 - SMOOTHING) * average + SMOOTHING * sample;
+    }
+
+    @Override
+    public synchronized String toString() {
+        return MoreObjects.toStringHelper(this).add("bytesTransferred", bytesTransferred)
+                .add("numRequests", numRequests).add("connectionThroughput", connectionThroughput)
+                .add("timeToFirstByteMillis", getTimeToFirstByteMillis()).add("chunkSize", chunkSize)
+                .add("parallelism", parallelism).toString();
+    }
+}
@@ -0,0 +1,232 @@
+// Copyright (C) 2013-2016 DNAnexus, Inc.
+//
+// This file is part of dx-toolkit (DNAnexus platform client libraries).
+//
+// Licensed under the Apache License, Version 2.0 (the "License"); you may
+// not use this file except in compliance with the License. You may obtain a
+// copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+// WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+// License for the specific language governing permissions and limitations
+// under the License.
+
+package com.dnanexus;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicReference;
+
+import com.google.common.base.Preconditions;
+import com.google.common.base.Supplier;
+import com.google.common.collect.Lists;
+import com.google.common.util.concurrent.FutureCallback;
+import com.google.common.util.concurrent.Futures;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+
+/**
+ * Runs the workers of a file transfer in parallel and waits for them.
+ */
+final class TransferWorkers {
+
+    /**
+     * A worker of a transfer that transfers one unit of work (a chunk or a part) per call, so that
+     * a {@link TransferScheduler} can interleave it with the work of other transfers.
+     */
+    interface Worker {
+        /**
+         * Transfers the next unit of work.
+         *
+         * @return false if there was nothing left to transfer (or another worker has failed)
+         */
+        boolean transferNext() throws IOException;
+    }
+
+    /**
+     * Runs {@code numWorkers} workers concurrently and waits for all of them to finish. Without a
+     * transfer, each worker gets a thread of its own (or just the calling thread, if there is only
+     * one). With a transfer, each unit of work is a separate task of that transfer, submitted when
+     * the worker's previous unit is done; the transfer is closed before returning.
+     *
+     * @param numWorkers number of concurrent workers
+     * @param threadNameFormat name format for the worker threads when there is no transfer
+     * @param transfer transfer to run the work on, or null
+     * @param bytesPerUnit number of bytes each unit of work buffers
+     * @param workers supplier of the workers, called once per worker
+     *
+     * @throws IOException the first error thrown by any worker
+     */
+    static void run(int numWorkers, String threadNameFormat, TransferScheduler.Transfer transfer,
+            long bytesPerUnit, final Supplier<? extends Worker> workers) throws IOException {
+        if (transfer == null) {
+            run(numWorkers, threadNameFormat, new Callable<Void>() {
+                @Override
+                public Void call() throws IOException {
+                    Worker worker = workers.get();
+                    while (worker.transferNext()) {
+                        // Keep going
+                    }
+                    return null;
+                }
+            });
+            return;
+        }
+        Preconditions.checkArgument(numWorkers > 0, "numWorkers must be positive");
+        try {
+            CountDownLatch done = new CountDownLatch(numWorkers);
+            AtomicReference<Throwable> failure = new AtomicReference<Throwable>();
+            for (int i = 0; i < numWorkers; ++i) {
+                new ScheduledWorker(workers.get(), transfer, bytesPerUnit, done, failure).submit();
+            }
+            done.await();
+            Throwable firstFailure = failure.get();
+            if (firstFailure instanceof IOException) {
+                throw (IOException) firstFailure;
+            }
+            if (firstFailure instanceof RuntimeException) {
+                throw (RuntimeException) firstFailure;
+            }
+            if (firstFailure instanceof Error) {
+                throw (Error) firstFailure;
+            }
+            if (firstFailure != null) {
+                throw new IOException(firstFailure);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while waiting for transfer");
+        } finally {
+            transfer.close();
+        }
+    }
+
+    /**
+     * Submits the units of work of one worker to a transfer one at a time, counting down a latch
+     * once the worker is finished.
+     */
+    private static class ScheduledWorker implements Callable<Boolean>, FutureCallback<Boolean> {
+        private final Worker worker;
+        private final TransferScheduler.Transfer transfer;
+        private final long bytesPerUnit;
+        private final CountDownLatch done;
+        private final AtomicReference<Throwable> failure;
+
+        private ScheduledWorker(Worker worker, TransferScheduler.Transfer transfer, long bytesPerUnit,
+                CountDownLatch done, AtomicReference<Throwable> failure) {
+            this.worker = worker;
+            this.transfer = transfer;
+            this.bytesPerUnit = bytesPerUnit;
+            this.done = done;
+            this.failure = failure;
+        }
+
+        @Override
+        public Boolean call() throws IOException {
+            return failure.get() == null && worker.transferNext();
+        }
+
+        @Override
+        public void onFailure(Throwable t) {
+            failure.compareAndSet(null, t);
+            done.countDown();
+        }
+
+        @Override
+        public void onSuccess(Boolean more) {
+            if (more) {
+                submit();
+            } else {
+                done.countDown();
+            }
+        }
+
+        private void submit() {
+            try {
+                Futures.addCallback(transfer.submit(this, bytesPerUnit), this);
+            } catch (RejectedExecutionException e) {
+                onFailure(e);
+            }
+        }
+    }
+
+    /**
+     * Runs {@code numWorkers} copies of the specified worker concurrently (or just one, in the
+     * calling thread) and waits for all of them to finish.
+     *
+     * <p>
+     * Workers are not interrupted when one of them fails, since interrupting a thread blocked in a
+     * {@link java.nio.channels.FileChannel} operation closes the channel; workers that share work
+     * should stop on their own once another has failed.
+     * </p>
+     *
+     * @param numWorkers number of concurrent workers
+     * @param threadNameFormat name format for the worker threads, as for
+     *        {@link ThreadFactoryBuilder}
+     * @param worker worker to run
+     *
+     * @throws IOException the first error thrown by any worker
+     */
+    static void run(int numWorkers, String threadNameFormat, Callable<Void> worker) throws IOException {
+        Preconditions.checkArgument(numWorkers > 0, "numWorkers must be positive");
+        if (numWorkers == 1) {
+            try {
+                worker.call();
+            } catch (IOException | RuntimeException e) {
+                throw e;
+            } catch (Exception e) {
+                throw new IOException(e);
+            }
+            return;
+        }
+
+        ExecutorService executor = Executors.newFixedThreadPool(numWorkers,
+                new ThreadFactoryBuilder().setDaemon(true).setNameFormat(threadNameFormat).build());
+        try {
+            List<Future<Void>> futures = Lists.newArrayList();
+            for (int i = 0; i < numWorkers; ++i) {
+                futures.add(executor.submit(worker));
+            }
+            Throwable firstFailure = null;
+            for (Future<Void> future : futures) {
+                try {
+                    future.get();
+                } catch (ExecutionException e) {
+                    if (firstFailure == null) {
+                        firstFailure = e.getCause();
+                    }
+                }
+            }
+            if (firstFailure instanceof IOException) {
+                throw (IOException) firstFailure;
+            }
+            if (firstFailure instanceof RuntimeException) {
+                throw (RuntimeException) firstFailure;
+            }
+            if (firstFailure instanceof Error) {
+                throw (Error) firstFailure;
+            }
+            if (firstFailure != null) {
+                throw new IOException(firstFailure);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while waiting for transfer");
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    private TransferWorkers() {
+    }
+}
@@ -0,0 +1,194 @@
+// Copyright (C) 2013-2016 DNAnexus, Inc.
+//
+// This file is part of dx-toolkit (DNAnexus platform client libraries).
+//
+// Licensed under the Apache License, Version 2.0 (the "License"); you may
+// not use this file except in compliance with the License. You may obtain a
+// copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+// WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+// License for the specific language governing permissions and limitations
+// under the License.
+
+package com.dnanexus;
+
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.base.Preconditions;
+
+/**
+ * Chooses the sizes of the parts of a file upload so that the file fits within the platform's
+ * limits on the size and number of parts.
+ *
+ * <p>
+ * When the length of the upload is known or estimated, parts are as large as the preferred part
+ * size, or larger if that is needed to upload the whole length in at most {@code maxNumParts}
+ * parts. An upload shorter than the preferred part size uses a single part of about its length
+ * (but at least {@link #MIN_PART_SIZE}, when the preferred size allows it). Beyond the expected
+ * length (or from the start, when the length is unknown), part sizes grow geometrically: they
+ * double {@value #GROWTH_STEPS} times over the parts that remain, up to {@code maxPartSize}, so
+ * that an upload of any length up to {@link #getMaxLength()} fits while small uploads still use
+ * small parts.
+ * </p>
+ *
+ * <p>
+ * This class is immutable.
+ * </p>
+ */
+class UploadPartPlanner {
+
+    /**
+     * Smallest size the platform allows for a part other than the last one.
+     */
+    static final long MIN_PART_SIZE = 5L * 1024 * 1024;
+    /**
+     * Largest size the platform allows for a part.
+     */
+    static final long MAX_PART_SIZE = 5L * 1024 * 1024 * 1024;
+    /**
+     * Largest part size used when parts are buffered in memory (it also has to fit in an array).
+     */
+    static final long MAX_BUFFERED_PART_SIZE = 1024 * 1024 * 1024;
+    /**
+     * Largest number of parts the platform allows in a file.
+     */
+    static final int MAX_NUM_PARTS = 10000;
+
+    // Number of times part sizes double over the part budget left after the expected length
+    @VisibleForTesting
+    static final int GROWTH_STEPS = 16;
+    // Part sizes chosen for the expected length are rounded up to a multiple of this
+    private static final long PART_SIZE_GRANULARITY = 1024 * 1024;
+
+    /**
+     * Returns a planner whose parts all have the same size, without a limit on their number.
+     *
+     * @param partSize size of every part
+     *
+     * @return planner
+     */
+    static UploadPartPlanner fixedPartSize(long partSize) {
+        return new UploadPartPlanner(-1, partSize, partSize, Integer.MAX_VALUE);
+    }
+
+    private final long basePartSize;
+    private final long maxPartSize;
+    private final int maxNumParts;
+    // Number of parts of basePartSize that cover the expected length
+    private final int numPlannedParts;
+    // Number of parts between doublings of the part size after those
+    private final int growthInterval;
+
+    /**
+     * Creates a planner.
+     *
+     * @param expectedLength known or estimated length of the upload, or -1 if unknown
+     * @param preferredPartSize size of the parts of uploads small enough to use it
+     * @param maxPartSize largest part size
+     * @param maxNumParts largest number of parts
+     *
+     * @throws IllegalArgumentException if the expected length cannot be uploaded within the limits
+     */
+    UploadPartPlanner(long expectedLength, long preferredPartSize, long maxPartSize, int maxNumParts) {
+        Preconditions.checkArgument(expectedLength >= -1, "expectedLength may not be negative");
+        Preconditions.checkArgument(preferredPartSize > 0, "preferredPartSize must be positive");
+        Preconditions.checkArgument(maxPartSize >= preferredPartSize,
+                "maxPartSize may not be smaller than preferredPartSize");
+        Preconditions.checkArgument(maxNumParts > 0, "maxNumParts must be positive");
+        this.maxPartSize = maxPartSize;
+        this.maxNumParts = maxNumParts;
+        if (expectedLength == -1) {
+            this.basePartSize = preferredPartSize;
+            this.numPlannedParts = 0;
+        } else {
+            long partSize = preferredPartSize;
+            if (expectedLength < partSize) {
+                // A part no larger than the upload, but not so small that writing more than
+                // expected would leave a part below the platform's minimum before the last one
+                partSize = Math.max(expectedLength, Math.min(MIN_PART_SIZE, partSize));
+            } else if (divideRoundingUp(expectedLength, partSize) > maxNumParts) {
+                partSize = divideRoundingUp(expectedLength, maxNumParts);
+                partSize = Math.min(divideRoundingUp(partSize, PART_SIZE_GRANULARITY) * PART_SIZE_GRANULARITY,
+                        maxPartSize);
+            }
+            long numParts = Math.max(1, divideRoundingUp(expectedLength, partSize));
+            Preconditions.checkArgument(numParts <= maxNumParts, "An upload of %s bytes does not fit in %s parts "
+                    + "of at most %s bytes", expectedLength, maxNumParts, maxPartSize);
+            this.basePartSize = partSize;
+            this.numPlannedParts = (int) numParts;
+        }
+        this.growthInterval = Math.max(1, (maxNumParts - numPlannedParts) / GROWTH_STEPS);
+    }
+
+    private static long divideRoundingUp(long dividend, long divisor) {
+        return (dividend + divisor - 1) / divisor;
+    }
+
+    /**
+     * Returns the largest number of parts of an upload.
+     *
+     * @return number of parts
+     */
+    int getMaxNumParts() {
+        return maxNumParts;
+    }
+
+    /**
+     * Returns the largest number of bytes that can be uploaded with the planned part sizes.
+     *
+     * @return length in bytes, or {@code Long.MAX_VALUE} if it does not fit in a long
+     */
+    long getMaxLength() {
+        long length = 0;
+        for (int index = 1; index <= maxNumParts; ++index) {
+            long partSize = getPartSize(index);
+            if (length > Long.MAX_VALUE - partSize) {
+                return Long.MAX_VALUE;
+            }
+            length += partSize;
+            if (partSize == maxPartSize) {
+                long remainingParts = maxNumParts - index;
+                if (remainingParts > (Long.MAX_VALUE - length) / maxPartSize) {
+                    return Long.MAX_VALUE;
+                }
+                return length + remainingParts * maxPartSize;
+            }
+        }
+        return length;
+    }
+
+    /**
+     * Returns the size of the specified part (which is also the size of the last part of the
+     * upload, if the data ends within it).
+     *
+     * @param index part index, starting at 1
+     *
+     * @return part size in bytes
+     */
+    long getPartSize(int index) {
+        Preconditions.checkArgument(index >= 1 && index <= maxNumParts, "Part index out of range: %s", index);
+        if (index <= numPlannedParts) {
+            return basePartSize;
+        }
+        int numDoublings = (index - numPlannedParts - 1) / growthInterval;
+        if (numDoublings >= Long.numberOfLeadingZeros(basePartSize) - 1) {
+            return maxPartSize;
+        }
+        return Math.min(basePartSize << numDoublings, maxPartSize);
+    }
+
+    /**
+     * Returns a one-line description of the part sizes. Planners with the same description choose
+     * the same size for every part.
+     *
+     * @return description of the planned part sizes
+     */
+    @Override
+    public String toString() {
+        return "parts=" + basePartSize + "x" + numPlannedParts + " growth=" + growthInterval + " max=" + maxPartSize
+                + "x" + maxNumParts;
+    }
+}
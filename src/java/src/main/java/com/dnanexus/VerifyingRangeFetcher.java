@@ -0,0 +1,400 @@
+// Copyright (C) 2013-2016 DNAnexus, Inc.
+//
+// This file is part of dx-toolkit (DNAnexus platform client libraries).
+//
+// Licensed under the Apache License, Version 2.0 (the "License"); you may
+// not use this file except in compliance with the License. You may obtain a
+// copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+// WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+// License for the specific language governing permissions and limitations
+// under the License.
+
+package com.dnanexus;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.security.MessageDigest;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+import org.apache.commons.codec.binary.Hex;
+import org.apache.commons.codec.digest.DigestUtils;
+
+import com.google.common.base.Preconditions;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.Maps;
+import com.google.common.primitives.Ints;
+
+/**
+ * A {@link ChannelRangeFetcher} that checks every part of a file it fetches against the part's MD5
+ * (as reported by describe), and fetches a part again from the origin if it does not match.
+ *
+ * <p>
+ * Requested ranges must either consist of whole parts or be consecutive pieces of a single part,
+ * which is the case when downloads are chunked with {@link PartChecksums#toChunkSchedule(int)}.
+ * Whole parts fetched into arrays are hashed where they lie; ranges written to a channel are hashed
+ * right after they have been written, while they are still in the page cache. A part that does not
+ * match is fetched again from the origin, bypassing any cache or journal between it and this
+ * fetcher, up to {@value #MAX_REFETCHES} times.
+ * </p>
+ *
+ * <p>
+ * The pieces of a part larger than a chunk are fetched concurrently like any other chunks, and are
+ * then hashed into the part's digest in order as they arrive, so a part is never held in memory as
+ * a whole. Once its last piece has been hashed, a part written to a channel is fetched again if it
+ * does not match; a part fetched into arrays cannot be, as its earlier pieces have already been
+ * handed out, so the fetch fails instead.
+ * </p>
+ */
+class VerifyingRangeFetcher implements ChannelRangeFetcher {
+
+    static final int MAX_REFETCHES = 3;
+
+    /**
+     * Boundaries and MD5s of the parts of a closed file.
+     */
+    static class PartChecksums {
+        // Start of each part, followed by the size of the file
+        private final long[] starts;
+        private final List<String> md5s;
+
+        /**
+         * Creates a table of parts.
+         *
+         * @param sizes sizes of the parts, in order
+         * @param md5s MD5s of the parts as hex strings, in order
+         */
+        PartChecksums(List<Long> sizes, List<String> md5s) {
+            Preconditions.checkArgument(sizes.size() == md5s.size(), "Every part needs a size and an MD5");
+            this.starts = new long[sizes.size() + 1];
+            for (int i = 0; i < sizes.size(); ++i) {
+                Preconditions.checkArgument(sizes.get(i) >= 0, "Part sizes may not be negative");
+                starts[i + 1] = starts[i] + sizes.get(i);
+            }
+            this.md5s = ImmutableList.copyOf(md5s);
+        }
+
+        /**
+         * Returns the size of the file.
+         *
+         * @return size in bytes
+         */
+        long getSize() {
+            return starts[starts.length - 1];
+        }
+
+        /**
+         * Returns a schedule of chunks for a download starting at the first byte of the file. Each
+         * (non-empty) part of the file is one chunk, except that parts larger than
+         * {@code maxChunkSize} are split into pieces of that size (the last one possibly smaller).
+         *
+         * @param maxChunkSize maximum size of a chunk
+         *
+         * @return chunk schedule
+         */
+        ParallelRangeInputStream.ChunkSchedule toChunkSchedule(int maxChunkSize) {
+            Preconditions.checkArgument(maxChunkSize > 0, "maxChunkSize must be positive");
+            long numChunks = 0;
+            for (int i = 0; i + 1 < starts.length; ++i) {
+                numChunks += (starts[i + 1] - starts[i] + maxChunkSize - 1) / maxChunkSize;
+            }
+            final int[] chunkSizes = new int[Ints.checkedCast(numChunks)];
+            int chunk = 0;
+            for (int i = 0; i + 1 < starts.length; ++i) {
+                for (long pieceStart = starts[i]; pieceStart < starts[i + 1]; pieceStart += maxChunkSize) {
+                    chunkSizes[chunk++] = (int) Math.min(maxChunkSize, starts[i + 1] - pieceStart);
+                }
+            }
+            return new ParallelRangeInputStream.ChunkSchedule() {
+                @Override
+                public int getChunkSize(int chunkNumber) {
+                    // An empty file has no chunks, but the schedule may still be consulted
+                    if (chunkSizes.length == 0) {
+                        return 1;
+                    }
+                    return chunkSizes[Math.min(chunkNumber, chunkSizes.length - 1)];
+                }
+            };
+        }
+
+        /**
+         * Returns the index (0-based) of the first part that starts at or after the specified
+         * offset.
+         */
+        private int firstPartFrom(long offset) {
+            int i = Arrays.binarySearch(starts, offset);
+            if (i < 0) {
+                return -i - 1;
+            }
+            // Skip empty parts that start at the same offset
+            while (i > 0 && starts[i - 1] == offset) {
+                --i;
+            }
+            return i;
+        }
+
+        /**
+         * Returns the index (0-based) of the part that contains the specified offset, or -1 if it
+         * is outside the file.
+         */
+        private int partContaining(long offset) {
+            int i = Arrays.binarySearch(starts, offset);
+            if (i < 0) {
+                i = -i - 2;
+            }
+            // Skip empty parts that end at the offset
+            while (i + 1 < starts.length && starts[i + 1] <= offset) {
+                ++i;
+            }
+            return i >= 0 && i + 1 < starts.length ? i : -1;
+        }
+    }
+
+    /**
+     * Digest of the pieces of a part hashed so far.
+     */
+    private static class PartDigest {
+        private final MessageDigest digest = DigestUtils.getMd5Digest();
+        // End of the pieces hashed so far
+        private long hashedTo;
+        // Whether a piece of the part failed, so that the part can no longer be hashed
+        private boolean failed;
+
+        private PartDigest(long start) {
+            this.hashedTo = start;
+        }
+    }
+
+    /**
+     * Adds a fetched piece of a part to the part's digest.
+     */
+    private interface PieceHasher {
+        void update(MessageDigest digest) throws IOException;
+    }
+
+    private final ChannelRangeFetcher fetcher;
+    private final ChannelRangeFetcher origin;
+    private final PartChecksums parts;
+    // Parts of which some pieces have been fetched, by index. Guarded by this.
+    private final Map<Integer, PartDigest> partDigests = Maps.newHashMap();
+
+    /**
+     * Creates a fetcher.
+     *
+     * @param fetcher source of the file's bytes
+     * @param origin source from which parts that fail verification are fetched again; may be the
+     *        same as {@code fetcher}
+     * @param parts parts of the file
+     */
+    VerifyingRangeFetcher(ChannelRangeFetcher fetcher, ChannelRangeFetcher origin, PartChecksums parts) {
+        this.fetcher = Preconditions.checkNotNull(fetcher);
+        this.origin = Preconditions.checkNotNull(origin);
+        this.parts = Preconditions.checkNotNull(parts);
+    }
+
+    @Override
+    public void fetch(long start, long end, final byte[] buffer, final int offset) throws IOException {
+        int first = wholePartsFrom(start, end);
+        if (first == -1) {
+            int part = checkPiece(start, end);
+            try {
+                fetcher.fetch(start, end, buffer, offset);
+            } catch (IOException | RuntimeException e) {
+                pieceFailed(part);
+                throw e;
+            }
+            final int length = (int) (end - start);
+            if (!hashPiece(part, start, end, new PieceHasher() {
+                @Override
+                public void update(MessageDigest digest) {
+                    digest.update(buffer, offset, length);
+                }
+            })) {
+                throw new IOException("MD5 of part " + (part + 1) + " does not match");
+            }
+            return;
+        }
+        fetcher.fetch(start, end, buffer, offset);
+        for (int i = first; i + 1 < parts.starts.length && parts.starts[i + 1] <= end; ++i) {
+            long partStart = parts.starts[i];
+            long partEnd = parts.starts[i + 1];
+            int partOffset = (int) (offset + partStart - start);
+            for (int attempt = 0; !md5Hex(buffer, partOffset, partEnd - partStart).equals(parts.md5s.get(i));
+                    ++attempt) {
+                checkRefetch(i, attempt);
+                origin.fetch(partStart, partEnd, buffer, partOffset);
+            }
+        }
+    }
+
+    @Override
+    public void transferTo(final long start, final long end, final FileChannel channel, final ByteBuffer buffer)
+            throws IOException {
+        int first = wholePartsFrom(start, end);
+        if (first == -1) {
+            int part = checkPiece(start, end);
+            try {
+                fetcher.transferTo(start, end, channel, buffer);
+            } catch (IOException | RuntimeException e) {
+                pieceFailed(part);
+                throw e;
+            }
+            if (!hashPiece(part, start, end, new PieceHasher() {
+                @Override
+                public void update(MessageDigest digest) throws IOException {
+                    updateDigest(digest, channel, start, end - start, buffer);
+                }
+            })) {
+                verifyPart(part, channel, buffer, true);
+            }
+            return;
+        }
+        fetcher.transferTo(start, end, channel, buffer);
+        for (int i = first; i + 1 < parts.starts.length && parts.starts[i + 1] <= end; ++i) {
+            verifyPart(i, channel, buffer, false);
+        }
+    }
+
+    /**
+     * Checks a part that has been written to the channel, fetching it again from the origin while
+     * it does not match.
+     *
+     * @param mismatched whether the part is already known not to match
+     */
+    private void verifyPart(int part, FileChannel channel, ByteBuffer buffer, boolean mismatched)
+            throws IOException {
+        long partStart = parts.starts[part];
+        long partEnd = parts.starts[part + 1];
+        for (int attempt = 0; mismatched
+                || !ChannelUploader.md5Hex(channel, partStart, partEnd - partStart, buffer).equals(
+                        parts.md5s.get(part)); ++attempt) {
+            mismatched = false;
+            checkRefetch(part, attempt);
+            origin.transferTo(partStart, partEnd, channel, buffer);
+        }
+    }
+
+    /**
+     * Returns the first part in the range if it consists of whole parts, or -1 if it doesn't.
+     */
+    private int wholePartsFrom(long start, long end) {
+        Preconditions.checkArgument(start <= end, "The start byte cannot be larger than the end byte");
+        int first = parts.firstPartFrom(start);
+        if (first < parts.starts.length && parts.starts[first] == start
+                && Arrays.binarySearch(parts.starts, end) >= 0) {
+            return first;
+        }
+        return -1;
+    }
+
+    /**
+     * Checks that the range lies within a single part, returning that part.
+     */
+    private int checkPiece(long start, long end) {
+        int part = parts.partContaining(start);
+        Preconditions.checkArgument(part != -1 && end <= parts.starts[part + 1],
+                "Only whole parts or pieces of a single part can be verified");
+        return part;
+    }
+
+    /**
+     * Adds a fetched piece to the digest of its part, once all the earlier pieces of the part have
+     * been added.
+     *
+     * @return false if the piece is the last one of the part and the part does not match
+     *
+     * @throws IOException if an earlier piece failed, or the piece cannot be read
+     */
+    private boolean hashPiece(int part, long start, long end, PieceHasher hasher) throws IOException {
+        PartDigest partDigest;
+        synchronized (this) {
+            partDigest = getPartDigest(part);
+            // Earlier pieces were claimed (and are being fetched) before this one
+            while (!partDigest.failed && partDigest.hashedTo != start) {
+                try {
+                    wait();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    partDigest.failed = true;
+                    notifyAll();
+                    throw new InterruptedIOException("Interrupted while verifying part " + (part + 1));
+                }
+            }
+            if (partDigest.failed) {
+                throw new IOException("Part " + (part + 1) + " cannot be verified, as another of its pieces failed");
+            }
+        }
+        // Only the piece that starts where the digest ends gets here, so the digest is not shared
+        try {
+            hasher.update(partDigest.digest);
+        } catch (IOException | RuntimeException e) {
+            pieceFailed(part);
+            throw e;
+        }
+        synchronized (this) {
+            partDigest.hashedTo = end;
+            notifyAll();
+            if (end < parts.starts[part + 1]) {
+                return true;
+            }
+            partDigests.remove(part);
+        }
+        return Hex.encodeHexString(partDigest.digest.digest()).equals(parts.md5s.get(part));
+    }
+
+    /**
+     * Records that a piece of the part failed, so that its later pieces stop waiting to be hashed.
+     */
+    private synchronized void pieceFailed(int part) {
+        getPartDigest(part).failed = true;
+        notifyAll();
+    }
+
+    private PartDigest getPartDigest(int part) {
+        PartDigest partDigest = partDigests.get(part);
+        if (partDigest == null) {
+            partDigest = new PartDigest(parts.starts[part]);
+            partDigests.put(part, partDigest);
+        }
+        return partDigest;
+    }
+
+    private static void checkRefetch(int part, int attempt) throws IOException {
+        if (attempt >= MAX_REFETCHES) {
+            throw new IOException("MD5 of part " + (part + 1) + " does not match after " + MAX_REFETCHES
+                    + " attempts to download it again");
+        }
+        System.err.println("MD5 of part " + (part + 1) + " does not match. Downloading it again...");
+    }
+
+    private static String md5Hex(byte[] data, int offset, long length) {
+        MessageDigest digest = DigestUtils.getMd5Digest();
+        digest.update(data, offset, (int) length);
+        return Hex.encodeHexString(digest.digest());
+    }
+
+    private static void updateDigest(MessageDigest digest, FileChannel channel, long position, long length,
+            ByteBuffer buffer) throws IOException {
+        long offset = 0;
+        while (offset < length) {
+            buffer.clear();
+            buffer.limit((int) Math.min(buffer.capacity(), length - offset));
+            int n = channel.read(buffer, position + offset);
+            if (n == -1) {
+                throw new EOFException("File ended while verifying it; was it truncated?");
+            }
+            buffer.flip();
+            digest.update(buffer);
+            offset += n;
+        }
+    }
+}
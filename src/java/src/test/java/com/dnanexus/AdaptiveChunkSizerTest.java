@@ -0,0 +1,125 @@
+// Copyright (C) 2013-2016 DNAnexus, Inc.
+//
+// This file is part of dx-toolkit (DNAnexus platform client libraries).
+//
+// Licensed under the Apache License, Version 2.0 (the "License"); you may
+// not use this file except in compliance with the License. You may obtain a
+// copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+// WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+// License for the specific language governing permissions and limitations
+// under the License.
+
+package com.dnanexus;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import com.google.common.base.Ticker;
+import com.google.common.collect.Lists;
+
+public class AdaptiveChunkSizerTest {
+
+    private static class FakeTicker extends Ticker {
+        private final AtomicLong nanos = new AtomicLong();
+
+        @Override
+        public long read() {
+            return nanos.get();
+        }
+
+        private void advance(long time, TimeUnit unit) {
+            nanos.addAndGet(unit.toNanos(time));
+        }
+    }
+
+    private static final int MB = 1024 * 1024;
+
+    /**
+     * Records a request that took the specified time to first byte and ran at the specified
+     * throughput after that.
+     */
+    private static void record(TransferStats stats, long numBytes, long firstByteMillis, double bytesPerSecond) {
+        long firstByteNanos = TimeUnit.MILLISECONDS.toNanos(firstByteMillis);
+        long transferNanos = (long) (numBytes / bytesPerSecond * TimeUnit.SECONDS.toNanos(1));
+        stats.recordRequest(numBytes, firstByteNanos, firstByteNanos + transferNanos);
+    }
+
+    @Test
+    public void testStats() {
+        TransferStats stats = new TransferStats();
+        Assert.assertEquals(0, stats.getNumRequests());
+        Assert.assertEquals(0.0, stats.getConnectionThroughput(), 0.0);
+        record(stats, MB, 100, 10 * MB);
+        Assert.assertEquals(1, stats.getNumRequests());
+        Assert.assertEquals(MB, stats.getBytesTransferred());
+        Assert.assertEquals(10.0 * MB, stats.getConnectionThroughput(), 1.0);
+        Assert.assertEquals(100.0, stats.getTimeToFirstByteMillis(), 0.001);
+        // Later requests move the averages towards them
+        record(stats, MB, 200, 20 * MB);
+        Assert.assertEquals(2 * MB, stats.getBytesTransferred());
+        Assert.assertEquals(13.0 * MB, stats.getConnectionThroughput(), 1.0);
+        Assert.assertEquals(130.0, stats.getTimeToFirstByteMillis(), 0.001);
+    }
+
+    @Test
+    public void testChunkSize() {
+        TransferStats stats = new TransferStats();
+        AdaptiveChunkSizer sizer = new AdaptiveChunkSizer(stats, 16 * MB, 1, new FakeTicker());
+        Assert.assertEquals(AdaptiveChunkSizer.MIN_CHUNK_SIZE, sizer.getChunkSize(0));
+        Assert.assertEquals(AdaptiveChunkSizer.MIN_CHUNK_SIZE, stats.getChunkSize());
+        Assert.assertEquals(1, stats.getParallelism());
+
+        // 8 x 10 MB/s x 20ms = 1.6 MB, rounded down to a power of two
+        record(stats, 64 * 1024, 20, 10 * MB);
+        Assert.assertEquals(MB, sizer.getChunkSize(1));
+        Assert.assertEquals(MB, stats.getChunkSize());
+
+        // Capped at the maximum
+        TransferStats slowStats = new TransferStats();
+        AdaptiveChunkSizer capped = new AdaptiveChunkSizer(slowStats, 3 * MB, 1, new FakeTicker());
+        record(slowStats, 64 * 1024, 500, 100 * MB);
+        Assert.assertEquals(2 * MB, capped.getChunkSize(1));
+
+        // Never below the minimum, unless the maximum is smaller
+        TransferStats fastStats = new TransferStats();
+        AdaptiveChunkSizer floored = new AdaptiveChunkSizer(fastStats, 16 * MB, 1, new FakeTicker());
+        record(fastStats, 64 * 1024, 1, MB);
+        Assert.assertEquals(AdaptiveChunkSizer.MIN_CHUNK_SIZE, floored.getChunkSize(1));
+        Assert.assertEquals(1000, new AdaptiveChunkSizer(new TransferStats(), 1000, 1, new FakeTicker())
+                .getChunkSize(0));
+    }
+
+    @Test
+    public void testParallelism() {
+        TransferStats stats = new TransferStats();
+        FakeTicker ticker = new FakeTicker();
+        AdaptiveChunkSizer sizer = new AdaptiveChunkSizer(stats, 16 * MB, 8, ticker);
+        List<Integer> parallelisms = Lists.newArrayList(sizer.getParallelism());
+        // Aggregate throughput of each round, in MB/s: more connections help until the fourth
+        // round, after which it drops
+        int[] roundThroughputs = {10, 20, 40, 42, 30};
+        for (int roundThroughput : roundThroughputs) {
+            int parallelism = sizer.getParallelism();
+            for (int i = 0; i < parallelism; ++i) {
+                record(stats, MB, 10, 10 * MB);
+            }
+            ticker.advance(parallelism * 1000 / roundThroughput, TimeUnit.MILLISECONDS);
+            parallelisms.add(sizer.getParallelism());
+        }
+        Assert.assertEquals(Arrays.asList(1, 2, 4, 8, 8, 7), parallelisms);
+        Assert.assertEquals(7, stats.getParallelism());
+
+        // Bounded by the maximum
+        Assert.assertEquals(8, sizer.getMaxParallelism());
+    }
+}
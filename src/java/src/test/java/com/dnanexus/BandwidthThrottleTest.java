@@ -0,0 +1,74 @@
+// Copyright (C) 2013-2016 DNAnexus, Inc.
+//
+// This file is part of dx-toolkit (DNAnexus platform client libraries).
+//
+// Licensed under the Apache License, Version 2.0 (the "License"); you may
+// not use this file except in compliance with the License. You may obtain a
+// copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+// WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+// License for the specific language governing permissions and limitations
+// under the License.
+
+package com.dnanexus;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.http.HttpEntity;
+import org.apache.http.entity.ByteArrayEntity;
+import org.junit.Assert;
+import org.junit.Test;
+
+import com.google.common.base.Stopwatch;
+import com.google.common.util.concurrent.RateLimiter;
+
+public class BandwidthThrottleTest {
+
+    @Test
+    public void testUnlimited() {
+        Assert.assertSame(BandwidthThrottle.UNLIMITED, BandwidthThrottle.of());
+        Assert.assertSame(BandwidthThrottle.UNLIMITED, BandwidthThrottle.of(null, BandwidthThrottle.newRateLimiter(0)));
+        Assert.assertFalse(BandwidthThrottle.UNLIMITED.isLimited());
+        HttpEntity entity = new ByteArrayEntity(new byte[10]);
+        Assert.assertSame(entity, BandwidthThrottle.UNLIMITED.throttle(entity));
+    }
+
+    @Test
+    public void testAcquire() {
+        RateLimiter shared = RateLimiter.create(1000 * 1000);
+        RateLimiter own = RateLimiter.create(4 * 1000 * 1000);
+        BandwidthThrottle throttle = BandwidthThrottle.of(shared, own);
+        Assert.assertTrue(throttle.isLimited());
+        Stopwatch stopwatch = Stopwatch.createStarted();
+        for (int i = 0; i < 5; ++i) {
+            throttle.acquire(100 * 1000);
+        }
+        // The first acquire is free; the other four wait for the slowest bucket
+        long elapsed = stopwatch.elapsed(TimeUnit.MILLISECONDS);
+        Assert.assertTrue("Elapsed " + elapsed + " ms", elapsed >= 350 && elapsed < 2000);
+    }
+
+    @Test
+    public void testThrottledEntity() throws IOException {
+        byte[] data = new byte[5 * BandwidthThrottle.SLICE_SIZE + 17];
+        new Random().nextBytes(data);
+        BandwidthThrottle throttle = BandwidthThrottle.of(RateLimiter.create(1024 * 1024));
+        HttpEntity entity = throttle.throttle(new ByteArrayEntity(data));
+        Assert.assertTrue(entity.isRepeatable());
+        Assert.assertEquals(data.length, entity.getContentLength());
+        Stopwatch stopwatch = Stopwatch.createStarted();
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        entity.writeTo(out);
+        Assert.assertArrayEquals(data, out.toByteArray());
+        // Five slices wait for the ones before them: at least 5 * 64 KiB at 1 MiB/s
+        long elapsed = stopwatch.elapsed(TimeUnit.MILLISECONDS);
+        Assert.assertTrue("Elapsed " + elapsed + " ms", elapsed >= 250 && elapsed < 2000);
+    }
+}
@@ -0,0 +1,101 @@
+// Copyright (C) 2013-2016 DNAnexus, Inc.
+//
+// This file is part of dx-toolkit (DNAnexus platform client libraries).
+//
+// Licensed under the Apache License, Version 2.0 (the "License"); you may
+// not use this file except in compliance with the License. You may obtain a
+// copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+// WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+// License for the specific language governing permissions and limitations
+// under the License.
+package com.dnanexus;
+
+import java.util.List;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import com.google.common.collect.Lists;
+
+public class BufferPoolTest {
+
+    @Test
+    public void testReuse() {
+        BufferPool pool = BufferPool.forSize(12345);
+        Assert.assertSame(pool, BufferPool.forSize(12345));
+        // Sizes are rounded up to the next power of two
+        Assert.assertEquals(16384, pool.getBufferSize());
+        Assert.assertSame(pool, BufferPool.forSize(16384));
+        Assert.assertEquals(BufferPool.MIN_POOLED_BUFFER_SIZE, BufferPool.forSize(1).getBufferSize());
+
+        byte[] first = pool.acquire();
+        byte[] second = pool.acquire();
+        Assert.assertNotSame(first, second);
+        Assert.assertEquals(16384, first.length);
+        pool.release(first);
+        Assert.assertSame(first, BufferPool.forSize(first.length).acquire());
+
+        // Buffers of the wrong size are not pooled
+        int numFree = pool.getNumFree();
+        pool.release(new byte[12345]);
+        pool.release(null);
+        Assert.assertEquals(numFree, pool.getNumFree());
+    }
+
+    @Test
+    public void testLargeBuffersNotPooled() {
+        int bufferSize = BufferPool.MAX_POOLED_BUFFER_SIZE + 1;
+        BufferPool pool = BufferPool.forSize(bufferSize);
+        Assert.assertEquals(bufferSize, pool.getBufferSize());
+        byte[] buffer = pool.acquire();
+        Assert.assertEquals(bufferSize, buffer.length);
+        long retainedBytes = BufferPool.getTotalRetainedBytes();
+        BufferPool.forSize(buffer.length).release(buffer);
+        Assert.assertEquals(0, pool.getNumFree());
+        Assert.assertEquals(retainedBytes, BufferPool.getTotalRetainedBytes());
+        Assert.assertNotSame(buffer, BufferPool.forSize(bufferSize).acquire());
+    }
+
+    @Test
+    public void testTotalRetentionBounded() {
+        // Each of these pools would retain 64 MiB on its own
+        List<BufferPool> pools = Lists.newArrayList();
+        for (int bufferSize = BufferPool.MAX_POOLED_BUFFER_SIZE; pools.size() < 6; bufferSize /= 2) {
+            pools.add(BufferPool.forSize(bufferSize));
+        }
+        try {
+            for (BufferPool pool : pools) {
+                for (int i = 0; i < BufferPool.MAX_RETAINED_BYTES / pool.getBufferSize(); ++i) {
+                    pool.release(new byte[pool.getBufferSize()]);
+                    Assert.assertTrue(BufferPool.getTotalRetainedBytes() <= BufferPool.MAX_TOTAL_RETAINED_BYTES);
+                }
+            }
+            Assert.assertTrue(BufferPool.getTotalRetainedBytes() > BufferPool.MAX_TOTAL_RETAINED_BYTES
+                    - BufferPool.MAX_POOLED_BUFFER_SIZE);
+        } finally {
+            for (BufferPool pool : pools) {
+                while (pool.getNumFree() > 0) {
+                    pool.acquire();
+                }
+            }
+        }
+    }
+
+    @Test
+    public void testRetentionBounded() {
+        int bufferSize = BufferPool.MAX_RETAINED_BYTES / 2;
+        BufferPool pool = BufferPool.forSize(bufferSize);
+        for (int i = 0; i < 5; ++i) {
+            pool.release(new byte[bufferSize]);
+        }
+        Assert.assertEquals(BufferPool.MIN_RETAINED_BUFFERS, pool.getNumFree());
+        while (pool.getNumFree() > 0) {
+            pool.acquire();
+        }
+    }
+}
@@ -0,0 +1,140 @@
+// Copyright (C) 2013-2016 DNAnexus, Inc.
+//
+// This file is part of dx-toolkit (DNAnexus platform client libraries).
+//
+// Licensed under the Apache License, Version 2.0 (the "License"); you may
+// not use this file except in compliance with the License. You may obtain a
+// copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+// WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+// License for the specific language governing permissions and limitations
+// under the License.
+package com.dnanexus;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import com.dnanexus.TestRangeFetchers.ArrayRangeFetcher;
+import com.google.common.base.Supplier;
+import com.google.common.base.Suppliers;
+import com.google.common.collect.ImmutableList;
+
+public class CachingRangeFetcherTest {
+
+    private static final int BLOCK = DXFileCache.BLOCK_SIZE;
+    private static final String FILE_ID = "file-000000000000000000000001";
+
+    @Rule
+    public TemporaryFolder tempFolder = new TemporaryFolder();
+
+    private byte[] data;
+    private DXFileCache cache;
+
+    @Before
+    public void setUp() throws IOException {
+        data = TestRangeFetchers.randomBytes(3 * BLOCK + 100);
+        cache = DXFileCache.open(tempFolder.getRoot().toPath(), 100 * BLOCK);
+    }
+
+    private CachingRangeFetcher newFetcher(ArrayRangeFetcher upstream) {
+        return new CachingRangeFetcher(cache, FILE_ID, data.length, Suppliers.ofInstance(upstream));
+    }
+
+    private byte[] fetch(RangeFetcher fetcher, long start, long end) throws IOException {
+        byte[] buffer = new byte[(int) (end - start) + 2];
+        fetcher.fetch(start, end, buffer, 1);
+        return Arrays.copyOfRange(buffer, 1, buffer.length - 1);
+    }
+
+    @Test
+    public void testFetchThroughCache() throws IOException {
+        ArrayRangeFetcher upstream = new ArrayRangeFetcher(data);
+        CachingRangeFetcher fetcher = newFetcher(upstream);
+
+        // A partly requested block is fetched whole
+        Assert.assertArrayEquals(Arrays.copyOfRange(data, 10, 20), fetch(fetcher, 10, 20));
+        Assert.assertEquals(ImmutableList.of(ImmutableList.of(0L, (long) BLOCK)), upstream.requests);
+        Assert.assertArrayEquals(Arrays.copyOfRange(data, 100, BLOCK), fetch(fetcher, 100, BLOCK));
+        Assert.assertEquals(1, upstream.requests.size());
+
+        // Whole missing blocks after a cached one are fetched together; the short last block is
+        // whole too
+        Assert.assertArrayEquals(data, fetch(fetcher, 0, data.length));
+        Assert.assertEquals(ImmutableList.of(ImmutableList.of(0L, (long) BLOCK),
+                ImmutableList.of((long) BLOCK, (long) data.length)), upstream.requests);
+
+        // Another fetcher over the same cache makes no requests, and never obtains its upstream
+        CachingRangeFetcher cached = new CachingRangeFetcher(cache, FILE_ID, data.length,
+                new Supplier<ChannelRangeFetcher>() {
+                    @Override
+                    public ChannelRangeFetcher get() {
+                        throw new AssertionError("Unexpected request");
+                    }
+                });
+        Assert.assertArrayEquals(Arrays.copyOfRange(data, BLOCK - 5, 2 * BLOCK + 5),
+                fetch(cached, BLOCK - 5, 2 * BLOCK + 5));
+        Assert.assertArrayEquals(data, fetch(cached, 0, data.length));
+    }
+
+    @Test
+    public void testTransferTo() throws IOException {
+        ArrayRangeFetcher upstream = new ArrayRangeFetcher(data);
+        CachingRangeFetcher fetcher = newFetcher(upstream);
+        fetch(fetcher, BLOCK, BLOCK + 1);
+
+        Path path = tempFolder.newFile().toPath();
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            ByteBuffer buffer = ByteBuffer.allocate(1024);
+            fetcher.transferTo(0, 2 * BLOCK + 10, channel, buffer);
+            fetcher.transferTo(2 * BLOCK + 10, data.length, channel, buffer);
+        }
+        Assert.assertArrayEquals(data, Files.readAllBytes(path));
+        // Block 1 was already cached, and block 2 is fetched only once although it is split
+        // between the two calls
+        Assert.assertEquals(ImmutableList.of(ImmutableList.of((long) BLOCK, 2L * BLOCK),
+                ImmutableList.of(0L, (long) BLOCK), ImmutableList.of(2L * BLOCK, 3L * BLOCK),
+                ImmutableList.of(3L * BLOCK, (long) data.length)), upstream.requests);
+        Assert.assertEquals(data.length, cache.evict());
+
+        // Whole missing blocks are transferred together, then served from the cache
+        upstream.requests.clear();
+        CachingRangeFetcher other = new CachingRangeFetcher(cache, "file-000000000000000000000002", data.length,
+                Suppliers.ofInstance(upstream));
+        Path otherPath = tempFolder.newFile().toPath();
+        try (FileChannel channel = FileChannel.open(otherPath, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            ByteBuffer buffer = ByteBuffer.allocate(1024);
+            other.transferTo(10, data.length, channel, buffer);
+            other.transferTo(0, data.length, channel, buffer);
+        }
+        Assert.assertArrayEquals(data, Files.readAllBytes(otherPath));
+        Assert.assertEquals(ImmutableList.of(ImmutableList.of(0L, (long) BLOCK),
+                ImmutableList.of((long) BLOCK, (long) data.length)), upstream.requests);
+        Assert.assertEquals(2L * data.length, cache.evict());
+    }
+
+    @Test
+    public void testUnwritableCache() throws IOException {
+        ArrayRangeFetcher upstream = new ArrayRangeFetcher(data);
+        CachingRangeFetcher fetcher = newFetcher(upstream);
+        // A file where the file's directory should be makes every write fail
+        Files.write(tempFolder.getRoot().toPath().resolve(FILE_ID), new byte[1]);
+        Assert.assertArrayEquals(data, fetch(fetcher, 0, data.length));
+        Assert.assertArrayEquals(data, fetch(fetcher, 0, data.length));
+        Assert.assertEquals(2, upstream.requests.size());
+    }
+}
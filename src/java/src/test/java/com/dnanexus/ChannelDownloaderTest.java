@@ -0,0 +1,158 @@
+// Copyright (C) 2013-2016 DNAnexus, Inc.
+//
+// This file is part of dx-toolkit (DNAnexus platform client libraries).
+//
+// Licensed under the Apache License, Version 2.0 (the "License"); you may
+// not use this file except in compliance with the License. You may obtain a
+// copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+// WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+// License for the specific language governing permissions and limitations
+// under the License.
+
+package com.dnanexus;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.InetAddress;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.apache.http.HttpException;
+import org.apache.http.HttpRequest;
+import org.apache.http.HttpResponse;
+import org.apache.http.HttpStatus;
+import org.apache.http.entity.ByteArrayEntity;
+import org.apache.http.impl.bootstrap.HttpServer;
+import org.apache.http.impl.bootstrap.ServerBootstrap;
+import org.apache.http.impl.client.CloseableHttpClient;
+import org.apache.http.impl.client.HttpClients;
+import org.apache.http.protocol.HttpContext;
+import org.apache.http.protocol.HttpRequestHandler;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import com.google.common.base.Stopwatch;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.util.concurrent.RateLimiter;
+
+public class ChannelDownloaderTest {
+
+    /**
+     * Serves byte ranges of an in-memory file, truncating the first response if asked to.
+     */
+    private static class RangeHandler implements HttpRequestHandler {
+        private final byte[] data;
+        private final AtomicInteger truncateNext = new AtomicInteger();
+
+        private RangeHandler(byte[] data) {
+            this.data = data;
+        }
+
+        @Override
+        public void handle(HttpRequest request, HttpResponse response, HttpContext context)
+                throws HttpException, IOException {
+            Assert.assertEquals("yes", request.getFirstHeader("X-Test-Header").getValue());
+            String[] range = request.getFirstHeader("Range").getValue().substring("bytes=".length()).split("-");
+            int start = Integer.parseInt(range[0]);
+            int end = Math.min(Integer.parseInt(range[1]) + 1, data.length);
+            if (truncateNext.getAndDecrement() > 0) {
+                end = start + (end - start) / 2;
+            }
+            response.setStatusCode(HttpStatus.SC_PARTIAL_CONTENT);
+            response.setEntity(new ByteArrayEntity(Arrays.copyOfRange(data, start, end)));
+        }
+    }
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    private byte[] data;
+    private RangeHandler handler;
+    private HttpServer server;
+    private CloseableHttpClient httpclient;
+    private HttpRangeFetcher fetcher;
+
+    @Before
+    public void setUp() throws IOException {
+        data = new byte[3 * 1024 * 1024 + 17];
+        new Random().nextBytes(data);
+        handler = new RangeHandler(data);
+        server = ServerBootstrap.bootstrap().setLocalAddress(InetAddress.getLoopbackAddress())
+                .registerHandler("*", handler).create();
+        server.start();
+        httpclient = HttpClients.createDefault();
+        fetcher = new HttpRangeFetcher(httpclient, "http://127.0.0.1:" + server.getLocalPort() + "/data",
+                ImmutableMap.of("X-Test-Header", "yes"));
+    }
+
+    @After
+    public void tearDown() throws IOException {
+        httpclient.close();
+        server.shutdown(1, TimeUnit.SECONDS);
+    }
+
+    private byte[] download(long start, long end, int chunkSize, int parallelism) throws IOException {
+        File file = folder.newFile();
+        try (FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.WRITE)) {
+            new ChannelDownloader(fetcher, channel, start, end, chunkSize).download(parallelism);
+        }
+        byte[] written = Files.readAllBytes(file.toPath());
+        return Arrays.copyOfRange(written, (int) start, written.length);
+    }
+
+    @Test
+    public void testDownload() throws IOException {
+        Assert.assertArrayEquals(data, download(0, data.length, 1024 * 1024, 1));
+        Assert.assertArrayEquals(data, download(0, data.length, 1024 * 1024, 4));
+        Assert.assertArrayEquals(data, download(0, data.length, 100000, 16));
+        Assert.assertArrayEquals(Arrays.copyOfRange(data, 12345, 2000000), download(12345, 2000000, 65536, 3));
+        Assert.assertEquals(0, download(0, 0, 1024, 4).length);
+    }
+
+    @Test
+    public void testFetch() throws IOException {
+        byte[] buffer = new byte[200000];
+        fetcher.fetch(100, 200000, buffer, 100);
+        Assert.assertArrayEquals(Arrays.copyOfRange(data, 100, 200000), Arrays.copyOfRange(buffer, 100, 200000));
+        fetcher.fetch(5, 5, buffer, 0);
+    }
+
+    @Test
+    public void testThrottled() throws IOException {
+        HttpRangeFetcher throttled = new HttpRangeFetcher(httpclient, DownloadUrlCache.of(
+                new DownloadUrlCache.DownloadUrl("http://127.0.0.1:" + server.getLocalPort() + "/data",
+                        ImmutableMap.of("X-Test-Header", "yes"), null)),
+                null, BandwidthThrottle.of(RateLimiter.create(4 * 1024 * 1024)));
+        byte[] buffer = new byte[data.length];
+        Stopwatch stopwatch = Stopwatch.createStarted();
+        throttled.fetch(0, data.length, buffer, 0);
+        Assert.assertArrayEquals(data, buffer);
+        // About 3 MiB at 4 MiB/s, less the first read, which is not delayed
+        long elapsed = stopwatch.elapsed(TimeUnit.MILLISECONDS);
+        Assert.assertTrue("Elapsed " + elapsed + " ms", elapsed >= 500);
+    }
+
+    @Test
+    public void testShortResponseRetried() throws IOException {
+        handler.truncateNext.set(1);
+        byte[] buffer = new byte[1000];
+        fetcher.fetch(0, 1000, buffer, 0);
+        Assert.assertArrayEquals(Arrays.copyOfRange(data, 0, 1000), buffer);
+        handler.truncateNext.set(1);
+        Assert.assertArrayEquals(data, download(0, data.length, data.length, 1));
+    }
+}
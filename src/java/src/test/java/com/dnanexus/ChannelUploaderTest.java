@@ -0,0 +1,138 @@
+// Copyright (C) 2013-2016 DNAnexus, Inc.
+//
+// This file is part of dx-toolkit (DNAnexus platform client libraries).
+//
+// Licensed under the Apache License, Version 2.0 (the "License"); you may
+// not use this file except in compliance with the License. You may obtain a
+// copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+// WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+// License for the specific language governing permissions and limitations
+// under the License.
+
+package com.dnanexus;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ConcurrentSkipListMap;
+
+import org.apache.commons.codec.digest.DigestUtils;
+import org.apache.commons.io.IOUtils;
+import org.apache.http.HttpEntity;
+import org.junit.Assert;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class ChannelUploaderTest {
+
+    /**
+     * Collects uploaded parts in memory, checking each one against its declared size and MD5.
+     */
+    private static class MapSliceUploader implements ChannelUploader.SliceUploader {
+        private final Map<Integer, byte[]> parts = new ConcurrentSkipListMap<Integer, byte[]>();
+        private volatile int failIndex = -1;
+        private volatile long partMillis;
+
+        @Override
+        public void uploadPart(int index, HttpEntity data, long size, String md5) throws IOException {
+            if (index == failIndex) {
+                throw new IOException("Injected failure in part " + index);
+            }
+            try {
+                Thread.sleep(partMillis);
+            } catch (InterruptedException e) {
+                throw new IOException(e);
+            }
+            Assert.assertTrue(data.isRepeatable());
+            Assert.assertEquals(size, data.getContentLength());
+            ByteArrayOutputStream written = new ByteArrayOutputStream();
+            data.writeTo(written);
+            byte[] contents = IOUtils.toByteArray(data.getContent());
+            Assert.assertArrayEquals(written.toByteArray(), contents);
+            Assert.assertEquals(size, contents.length);
+            Assert.assertEquals(DigestUtils.md5Hex(contents), md5);
+            Assert.assertNull(parts.put(index, contents));
+        }
+
+        private byte[] assemble() throws IOException {
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            int expectedIndex = 1;
+            for (Map.Entry<Integer, byte[]> part : parts.entrySet()) {
+                Assert.assertEquals(expectedIndex++, part.getKey().intValue());
+                out.write(part.getValue());
+            }
+            return out.toByteArray();
+        }
+    }
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    private Path writeRandomFile(int size) throws IOException {
+        byte[] data = new byte[size];
+        new Random().nextBytes(data);
+        return Files.write(folder.newFile().toPath(), data);
+    }
+
+    @Test
+    public void testUpload() throws IOException {
+        int partSize = 300 * 1024;
+        int[] sizes = {0, 1, partSize, partSize + 1, 5 * partSize - 7};
+        for (int size : sizes) {
+            for (int parallelism : new int[] {1, 4}) {
+                Path path = writeRandomFile(size);
+                MapSliceUploader uploader = new MapSliceUploader();
+                try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+                    new ChannelUploader(channel, channel.size(), partSize, uploader).upload(parallelism);
+                }
+                Assert.assertArrayEquals(Files.readAllBytes(path), uploader.assemble());
+                Assert.assertEquals(Math.max(1, (size + partSize - 1) / partSize), uploader.parts.size());
+            }
+        }
+    }
+
+    @Test
+    public void testScheduledUpload() throws IOException {
+        TransferScheduler scheduler = TransferScheduler.create(2, 1024 * 1024);
+        try {
+            Path path = writeRandomFile(1000 * 1000);
+            MapSliceUploader uploader = new MapSliceUploader();
+            try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+                new ChannelUploader(channel, channel.size(), 300 * 1024, uploader).upload(4,
+                        scheduler.newTransfer(0));
+            }
+            Assert.assertArrayEquals(Files.readAllBytes(path), uploader.assemble());
+        } finally {
+            scheduler.shutdown();
+        }
+    }
+
+    @Test
+    public void testFailure() throws IOException {
+        Path path = writeRandomFile(10000);
+        MapSliceUploader uploader = new MapSliceUploader();
+        uploader.failIndex = 3;
+        // Successful parts take a while, so that the failure is seen before the other worker has
+        // uploaded the remaining parts
+        uploader.partMillis = 50;
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            new ChannelUploader(channel, channel.size(), 1000, uploader).upload(2);
+            Assert.fail("Expected upload to fail");
+        } catch (IOException e) {
+            Assert.assertEquals("Injected failure in part 3", e.getMessage());
+        }
+        // Workers stop claiming parts once one has failed
+        Assert.assertTrue(uploader.parts.size() < 9);
+    }
+}
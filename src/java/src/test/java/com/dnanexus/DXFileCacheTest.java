@@ -0,0 +1,146 @@
+// Copyright (C) 2013-2016 DNAnexus, Inc.
+//
+// This file is part of dx-toolkit (DNAnexus platform client libraries).
+//
+// Licensed under the Apache License, Version 2.0 (the "License"); you may
+// not use this file except in compliance with the License. You may obtain a
+// copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+// WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+// License for the specific language governing permissions and limitations
+// under the License.
+package com.dnanexus;
+
+import java.io.IOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.junit.Assert;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import com.google.common.collect.Lists;
+
+public class DXFileCacheTest {
+
+    private static final String FILE_ID = "file-000000000000000000000001";
+
+    @Rule
+    public TemporaryFolder tempFolder = new TemporaryFolder();
+
+    @Test
+    public void testReadWrite() throws IOException {
+        DXFileCache cache = DXFileCache.open(tempFolder.getRoot().toPath(), 1 << 20);
+        byte[] block = TestRangeFetchers.randomBytes(1000);
+        byte[] buffer = new byte[100];
+        Assert.assertFalse(cache.read(FILE_ID, 0, 1000, 0, buffer, 0, 100));
+
+        cache.write(FILE_ID, 0, block, 0, block.length);
+        Assert.assertTrue(cache.read(FILE_ID, 0, 1000, 250, buffer, 0, 100));
+        Assert.assertArrayEquals(Arrays.copyOfRange(block, 250, 350), buffer);
+        // A block of an unexpected length is not used
+        Assert.assertFalse(cache.read(FILE_ID, 0, 999, 0, buffer, 0, 100));
+        Assert.assertFalse(cache.read(FILE_ID, 1000, 1000, 0, buffer, 0, 100));
+
+        // Visible to another instance on the same directory, e.g. in another process
+        DXFileCache other = DXFileCache.open(tempFolder.getRoot().toPath(), 1 << 20);
+        Assert.assertTrue(other.read(FILE_ID, 0, 1000, 0, buffer, 0, 100));
+        Assert.assertArrayEquals(Arrays.copyOf(block, 100), buffer);
+
+        // No temporary files are left behind
+        try (DirectoryStream<Path> paths = Files.newDirectoryStream(
+                tempFolder.getRoot().toPath().resolve(FILE_ID))) {
+            for (Path path : paths) {
+                Assert.assertEquals("0", path.getFileName().toString());
+            }
+        }
+    }
+
+    @Test
+    public void testEviction() throws IOException {
+        Path directory = tempFolder.getRoot().toPath();
+        DXFileCache cache = DXFileCache.open(directory, 10000);
+        byte[] block = TestRangeFetchers.randomBytes(1000);
+        for (int i = 0; i < 10; ++i) {
+            cache.write(FILE_ID, i * 1000, block, 0, block.length);
+            Files.setLastModifiedTime(directory.resolve(FILE_ID).resolve(Integer.toString(i * 1000)),
+                    FileTime.fromMillis(1000000L * (i + 1)));
+        }
+        Assert.assertEquals(10000, cache.evict());
+
+        // Reading marks the block as recently used
+        byte[] buffer = new byte[1];
+        Assert.assertTrue(cache.read(FILE_ID, 0, 1000, 0, buffer, 0, 1));
+        // Exceeding the maximum evicts the least recently used blocks, down to 90% of it
+        cache.write("file-000000000000000000000002", 0, block, 0, block.length);
+        Assert.assertEquals(9000, cache.evict());
+        Assert.assertTrue(cache.read(FILE_ID, 0, 1000, 0, buffer, 0, 1));
+        Assert.assertFalse(cache.read(FILE_ID, 1000, 1000, 0, buffer, 0, 1));
+        Assert.assertFalse(cache.read(FILE_ID, 2000, 1000, 0, buffer, 0, 1));
+        Assert.assertTrue(cache.read(FILE_ID, 3000, 1000, 0, buffer, 0, 1));
+
+        // Opening a cache with a smaller maximum evicts right away
+        Assert.assertEquals(4000, DXFileCache.open(directory, 5000).evict());
+    }
+
+    @Test
+    public void testStaleTemporaryFiles() throws IOException {
+        Path directory = tempFolder.getRoot().toPath();
+        Path fileDirectory = Files.createDirectories(directory.resolve(FILE_ID));
+        Path stale = Files.write(fileDirectory.resolve(".0.123.tmp"), new byte[10]);
+        Files.setLastModifiedTime(stale, FileTime.fromMillis(0));
+        Path recent = Files.write(fileDirectory.resolve(".0.456.tmp"), new byte[10]);
+        Assert.assertEquals(0, DXFileCache.open(directory, 1000).evict());
+        Assert.assertFalse(Files.exists(stale));
+        Assert.assertTrue(Files.exists(recent));
+    }
+
+    @Test
+    public void testConcurrentWriters() throws Exception {
+        final Path directory = tempFolder.getRoot().toPath();
+        final byte[] block = TestRangeFetchers.randomBytes(1000);
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<Void>> futures = Lists.newArrayList();
+            for (int t = 0; t < 4; ++t) {
+                futures.add(executor.submit(new Callable<Void>() {
+                    @Override
+                    public Void call() throws IOException {
+                        // Separate instances, sharing the directory like separate processes
+                        DXFileCache cache = DXFileCache.open(directory, 20000);
+                        for (int i = 0; i < 100; ++i) {
+                            cache.write(FILE_ID, (i % 50) * 1000, block, 0, block.length);
+                        }
+                        return null;
+                    }
+                }));
+            }
+            for (Future<Void> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdown();
+        }
+        DXFileCache cache = DXFileCache.open(directory, 20000);
+        Assert.assertTrue(cache.evict() <= 20000);
+        byte[] buffer = new byte[1000];
+        for (int i = 0; i < 50; ++i) {
+            if (cache.read(FILE_ID, i * 1000, 1000, 0, buffer, 0, 1000)) {
+                Assert.assertArrayEquals(block, buffer);
+            }
+        }
+    }
+}
@@ -0,0 +1,137 @@
+// Copyright (C) 2013-2016 DNAnexus, Inc.
+//
+// This file is part of dx-toolkit (DNAnexus platform client libraries).
+//
+// Licensed under the Apache License, Version 2.0 (the "License"); you may
+// not use this file except in compliance with the License. You may obtain a
+// copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+// WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+// License for the specific language governing permissions and limitations
+// under the License.
+package com.dnanexus;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.ClosedChannelException;
+import java.nio.channels.NonWritableChannelException;
+import java.nio.channels.SeekableByteChannel;
+import java.util.Arrays;
+import java.util.Random;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import com.dnanexus.TestRangeFetchers.ArrayRangeFetcher;
+import com.google.common.collect.ImmutableList;
+
+public class DXFileChannelTest {
+
+    private static byte[] read(SeekableByteChannel channel, long position, int length) throws IOException {
+        channel.position(position);
+        ByteBuffer buffer = ByteBuffer.allocate(length);
+        while (buffer.hasRemaining() && channel.read(buffer) != -1) {
+            // Keep reading
+        }
+        return Arrays.copyOf(buffer.array(), buffer.position());
+    }
+
+    @Test
+    public void testRandomReads() throws IOException {
+        byte[] data = TestRangeFetchers.randomBytes(100000);
+        Random random = new Random();
+        try (SeekableByteChannel channel = new DXFileChannel(new ArrayRangeFetcher(data), data.length, 1000, 10)) {
+            Assert.assertEquals(data.length, channel.size());
+            for (int i = 0; i < 1000; ++i) {
+                int start = random.nextInt(data.length);
+                int length = random.nextInt(5000);
+                byte[] expected = Arrays.copyOfRange(data, start, Math.min(data.length, start + length));
+                Assert.assertArrayEquals(expected, read(channel, start, length));
+                Assert.assertEquals(start + expected.length, channel.position());
+            }
+        }
+    }
+
+    @Test
+    public void testCachedBlocks() throws IOException {
+        byte[] data = TestRangeFetchers.randomBytes(10000);
+        ArrayRangeFetcher fetcher = new ArrayRangeFetcher(data);
+        DXFileChannel channel = new DXFileChannel(fetcher, data.length, 1000, 8);
+        // Small reads within a block cost one request
+        for (int i = 0; i < 100; ++i) {
+            Assert.assertArrayEquals(Arrays.copyOfRange(data, 2000 + i, 2010 + i), read(channel, 2000 + i, 10));
+        }
+        Assert.assertEquals(ImmutableList.of(ImmutableList.of(2000L, 3000L)), fetcher.requests);
+        // Adjacent missing blocks are fetched together, around the cached one
+        Assert.assertArrayEquals(Arrays.copyOfRange(data, 500, 4500), read(channel, 500, 4000));
+        Assert.assertEquals(ImmutableList.of(ImmutableList.of(2000L, 3000L), ImmutableList.of(0L, 2000L),
+                ImmutableList.of(3000L, 5000L)), fetcher.requests);
+        Assert.assertEquals(3, channel.getNumFetches());
+        channel.close();
+    }
+
+    @Test
+    public void testEviction() throws IOException {
+        byte[] data = TestRangeFetchers.randomBytes(10000);
+        ArrayRangeFetcher fetcher = new ArrayRangeFetcher(data);
+        DXFileChannel channel = new DXFileChannel(fetcher, data.length, 1000, 2);
+        read(channel, 0, 1);
+        read(channel, 1000, 1);
+        // Block 0 is the most recently used, so reading block 2 evicts block 1
+        read(channel, 0, 1);
+        read(channel, 2000, 1);
+        Assert.assertEquals(3, channel.getNumFetches());
+        read(channel, 0, 1);
+        Assert.assertEquals(3, channel.getNumFetches());
+        read(channel, 1000, 1);
+        Assert.assertEquals(4, channel.getNumFetches());
+        channel.close();
+    }
+
+    @Test
+    public void testLongReadLimitedByCache() throws IOException {
+        byte[] data = TestRangeFetchers.randomBytes(10000);
+        SeekableByteChannel channel = new DXFileChannel(new ArrayRangeFetcher(data), data.length, 1000, 3);
+        ByteBuffer buffer = ByteBuffer.allocate(data.length);
+        channel.position(500);
+        // One read covers at most three blocks
+        Assert.assertEquals(2500, channel.read(buffer));
+        Assert.assertArrayEquals(Arrays.copyOfRange(data, 500, data.length), read(channel, 500, data.length));
+        channel.close();
+    }
+
+    @Test
+    public void testEndOfFile() throws IOException {
+        byte[] data = TestRangeFetchers.randomBytes(2500);
+        SeekableByteChannel channel = new DXFileChannel(new ArrayRangeFetcher(data), data.length, 1000, 4);
+        Assert.assertArrayEquals(Arrays.copyOfRange(data, 2400, 2500), read(channel, 2400, 1000));
+        Assert.assertEquals(-1, channel.read(ByteBuffer.allocate(1)));
+        channel.position(10000);
+        Assert.assertEquals(-1, channel.read(ByteBuffer.allocate(1)));
+        Assert.assertEquals(0, read(new DXFileChannel(new ArrayRangeFetcher(new byte[0]), 0, 1000, 4), 0, 10).length);
+        channel.close();
+    }
+
+    @Test
+    public void testReadOnlyAndClosed() throws IOException {
+        SeekableByteChannel channel = new DXFileChannel(new ArrayRangeFetcher(new byte[10]), 10, 1000, 4);
+        try {
+            channel.write(ByteBuffer.allocate(1));
+            Assert.fail("Expected write to be rejected");
+        } catch (NonWritableChannelException e) {
+            // Expected
+        }
+        channel.close();
+        Assert.assertFalse(channel.isOpen());
+        try {
+            channel.read(ByteBuffer.allocate(1));
+            Assert.fail("Expected read after close to fail");
+        } catch (ClosedChannelException e) {
+            // Expected
+        }
+    }
+}
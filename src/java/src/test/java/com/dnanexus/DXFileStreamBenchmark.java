@@ -0,0 +1,250 @@
+// Copyright (C) 2013-2016 DNAnexus, Inc.
+//
+// This file is part of dx-toolkit (DNAnexus platform client libraries).
+//
+// Licensed under the Apache License, Version 2.0 (the "License"); you may
+// not use this file except in compliance with the License. You may obtain a
+// copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+// WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+// License for the specific language governing permissions and limitations
+// under the License.
+package com.dnanexus;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.Arrays;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.commons.io.IOUtils;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Compares the buffering done by the {@link DXFile} upload and download streams before and after
+ * they were moved onto pooled part buffers, with the network replaced by in-memory parts, so that
+ * only the copying and allocation are measured.
+ *
+ * <p>
+ * The "legacy" benchmarks replicate the former FileApiOutputStream (which copied each part out of
+ * a ByteArrayOutputStream with toByteArray and Arrays.copyOfRange) and FileApiInputStream (which
+ * allocated a new array per chunk and per single-byte read).
+ * </p>
+ *
+ * <p>
+ * This is not run as part of the unit tests. To run it (the gc profiler reports the allocation
+ * rate per operation and the GC count):
+ * </p>
+ *
+ * <pre>
+ * mvn test-compile dependency:build-classpath -Dmdep.outputFile=cp.txt
+ * java -cp target/test-classes:target/classes:$(cat cp.txt) com.dnanexus.DXFileStreamBenchmark
+ * </pre>
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xmx512m"})
+public class DXFileStreamBenchmark {
+
+    private static final int FILE_SIZE = 64 * 1024 * 1024;
+    private static final int PART_SIZE = 16 * 1024 * 1024;
+    private static final int WRITE_SIZE = 64 * 1024;
+    private static final int SINGLE_BYTE_READS = 1024 * 1024;
+
+    /**
+     * The former FileApiOutputStream, uploading to a blackhole.
+     */
+    private static class LegacyOutputStream extends OutputStream {
+        private final Blackhole blackhole;
+        private int index = 1;
+        private ByteArrayOutputStream unwrittenBytes = new ByteArrayOutputStream();
+
+        private LegacyOutputStream(Blackhole blackhole) {
+            this.blackhole = blackhole;
+        }
+
+        @Override
+        public void close() {
+            blackhole.consume(unwrittenBytes.toByteArray());
+            unwrittenBytes = new ByteArrayOutputStream();
+        }
+
+        @Override
+        public void write(byte[] b, int off, int numBytes) throws IOException {
+            unwrittenBytes.write(b, off, numBytes);
+            if (unwrittenBytes.size() >= PART_SIZE) {
+                byte[] bytesToWrite = unwrittenBytes.toByteArray();
+                int chunkStart = 0;
+                while (bytesToWrite.length - chunkStart >= PART_SIZE) {
+                    blackhole.consume(Arrays.copyOfRange(bytesToWrite, chunkStart, chunkStart + PART_SIZE));
+                    blackhole.consume(index);
+                    chunkStart += PART_SIZE;
+                    index++;
+                }
+                unwrittenBytes = new ByteArrayOutputStream();
+                IOUtils.write(Arrays.copyOfRange(bytesToWrite, chunkStart, bytesToWrite.length), unwrittenBytes);
+            }
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            write(new byte[] {(byte) b}, 0, 1);
+        }
+    }
+
+    /**
+     * The former FileApiInputStream (without the ramp, which doesn't affect the allocation per
+     * byte), reading from an in-memory file.
+     */
+    private static class LegacyInputStream extends InputStream {
+        private final byte[] file;
+        private long nextByteFromApi;
+        private ByteArrayInputStream unreadBytes;
+
+        private LegacyInputStream(byte[] file) {
+            this.file = file;
+        }
+
+        @Override
+        public int read() throws IOException {
+            byte[] b = new byte[1];
+            int numBytesRead = read(b, 0, 1);
+            if (numBytesRead != -1) {
+                return b[0];
+            }
+            return -1;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int numBytes) throws IOException {
+            if (nextByteFromApi >= file.length) {
+                return -1;
+            }
+            long endRange = Math.min(nextByteFromApi + PART_SIZE, file.length);
+            if (unreadBytes == null || unreadBytes.available() == 0) {
+                // The former partDownloadRequest returned a new array per chunk
+                unreadBytes = new ByteArrayInputStream(Arrays.copyOfRange(file, (int) nextByteFromApi,
+                        (int) endRange));
+            }
+            int bytesRead = unreadBytes.read(b, off, Math.min(numBytes, unreadBytes.available()));
+            if (unreadBytes.available() == 0) {
+                nextByteFromApi = endRange;
+            }
+            return bytesRead;
+        }
+    }
+
+    private byte[] file;
+    private byte[] writeBuffer;
+    private final byte[] readBuffer = new byte[WRITE_SIZE];
+    private RangeFetcher fetcher;
+
+    /**
+     * Runs the benchmarks with the gc profiler.
+     */
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder().include(DXFileStreamBenchmark.class.getSimpleName())
+                .addProfiler(GCProfiler.class).build()).run();
+    }
+
+    @Setup
+    public void setUp() {
+        file = new byte[FILE_SIZE];
+        new Random().nextBytes(file);
+        writeBuffer = Arrays.copyOf(file, WRITE_SIZE);
+        fetcher = new RangeFetcher() {
+            @Override
+            public void fetch(long start, long end, byte[] buffer, int offset) {
+                System.arraycopy(file, (int) start, buffer, offset, (int) (end - start));
+            }
+        };
+    }
+
+    private void writeFile(OutputStream os) throws IOException {
+        for (int written = 0; written < FILE_SIZE; written += WRITE_SIZE) {
+            os.write(writeBuffer, 0, WRITE_SIZE);
+        }
+        os.close();
+    }
+
+    private static long readFile(InputStream is, byte[] buffer) throws IOException {
+        long total = 0;
+        int n;
+        while ((n = is.read(buffer, 0, buffer.length)) != -1) {
+            total += n;
+        }
+        return total;
+    }
+
+    private static long readSingleBytes(InputStream is) throws IOException {
+        long sum = 0;
+        for (int i = 0; i < SINGLE_BYTE_READS; ++i) {
+            sum += is.read();
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public void uploadLegacy(Blackhole blackhole) throws IOException {
+        writeFile(new LegacyOutputStream(blackhole));
+    }
+
+    @Benchmark
+    public void uploadPooled(final Blackhole blackhole) throws IOException {
+        writeFile(new PartOutputStream(new PartUploader() {
+            @Override
+            public void uploadPart(int index, byte[] data, int length) {
+                blackhole.consume(data);
+                blackhole.consume(index);
+            }
+        }, PART_SIZE));
+    }
+
+    @Benchmark
+    public long downloadLegacy() throws IOException {
+        return readFile(new LegacyInputStream(file), readBuffer);
+    }
+
+    @Benchmark
+    public long downloadPooled() throws IOException {
+        try (InputStream is = new RampingRangeInputStream(fetcher, 0, FILE_SIZE)) {
+            return readFile(is, readBuffer);
+        }
+    }
+
+    @Benchmark
+    public long readSingleBytesLegacy() throws IOException {
+        return readSingleBytes(new LegacyInputStream(file));
+    }
+
+    @Benchmark
+    public long readSingleBytesPooled() throws IOException {
+        try (InputStream is = new RampingRangeInputStream(fetcher, 0, FILE_SIZE)) {
+            return readSingleBytes(is);
+        }
+    }
+}
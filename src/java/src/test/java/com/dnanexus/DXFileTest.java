@@ -21,6 +21,13 @@ import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
+import java.io.SequenceInputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.SeekableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
 import java.util.Random;
 
 import org.apache.commons.io.IOUtils;
@@ -30,13 +37,17 @@ import org.junit.Before;
 import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.ExpectedException;
+import org.junit.rules.TemporaryFolder;
 
 import com.dnanexus.DXDataObject.DescribeOptions;
 import com.dnanexus.DXFile.Builder;
 import com.dnanexus.DXFile.Describe;
+import com.dnanexus.DXFile.DownloadOptions;
+import com.dnanexus.DXFile.UploadOptions;
 import com.dnanexus.exceptions.InvalidStateException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.google.common.collect.ImmutableList;
+import com.google.common.collect.Lists;
 
 public class DXFileTest {
 
@@ -47,6 +58,9 @@ public class DXFileTest {
     @Rule
     public ExpectedException thrown = ExpectedException.none();
 
+    @Rule
+    public TemporaryFolder tempFolder = new TemporaryFolder();
+
     @Before
     public void setUp() {
         testProject = DXProject.newProject().setName("DXFileTest").build();
@@ -240,6 +254,89 @@ public class DXFileTest {
         Assert.assertEquals(-1, bytesRead);
     }
 
+    @Test
+    public void testDownloadParallel() throws IOException {
+        byte[] uploadBytes = new byte[5 * 1024 * 1024 + 1];
+        new Random().nextBytes(uploadBytes);
+
+        DXFile f = DXFile.newFile().setProject(testProject).build();
+        f.upload(uploadBytes);
+        f.closeAndWait();
+
+        DownloadOptions options = DownloadOptions.get().withParallelism(4).withChunkSize(1024 * 1024);
+        ByteArrayOutputStream os = new ByteArrayOutputStream();
+        f.downloadToOutputStream(os, options);
+        Assert.assertArrayEquals(uploadBytes, os.toByteArray());
+
+        // Range not aligned to chunk boundaries
+        try (InputStream is = f.getDownloadStream(1000, 3 * 1024 * 1024 + 17, options)) {
+            Assert.assertArrayEquals(Arrays.copyOfRange(uploadBytes, 1000, 3 * 1024 * 1024 + 17),
+                    IOUtils.toByteArray(is));
+        }
+    }
+
+    @Test
+    public void testDownloadToPath() throws IOException {
+        byte[] uploadBytes = new byte[5 * 1024 * 1024 + 1];
+        new Random().nextBytes(uploadBytes);
+
+        DXFile f = DXFile.newFile().setProject(testProject).build();
+        f.upload(uploadBytes);
+        f.closeAndWait();
+
+        // Overwrites (and truncates) an existing file
+        Path path = tempFolder.newFile().toPath();
+        Files.write(path, new byte[6 * 1024 * 1024]);
+        f.downloadToPath(path);
+        Assert.assertArrayEquals(uploadBytes, Files.readAllBytes(path));
+
+        path = tempFolder.getRoot().toPath().resolve("parallel");
+        f.downloadToPath(path, DownloadOptions.get().withParallelism(4).withChunkSize(1024 * 1024));
+        Assert.assertArrayEquals(uploadBytes, Files.readAllBytes(path));
+    }
+
+    @Test
+    public void testDownloadVerified() throws IOException {
+        byte[] uploadBytes = new byte[11 * 1024 * 1024 + 5];
+        new Random().nextBytes(uploadBytes);
+
+        DXFile f = DXFile.newFile().setProject(testProject).build();
+        f.uploadChunkSize = 5 * 1024 * 1024;
+        f.upload(uploadBytes);
+        f.closeAndWait();
+
+        DownloadOptions options = DownloadOptions.get().withChecksumVerification(true).withParallelism(2);
+        Path path = tempFolder.getRoot().toPath().resolve("verified");
+        f.downloadToPath(path, options);
+        Assert.assertArrayEquals(uploadBytes, Files.readAllBytes(path));
+        Assert.assertArrayEquals(uploadBytes, IOUtils.toByteArray(f.getDownloadStream(options)));
+
+        thrown.expect(IllegalArgumentException.class);
+        f.getDownloadStream(1, 100, options);
+    }
+
+    @Test
+    public void testOpenChannel() throws IOException {
+        byte[] uploadBytes = new byte[1024 * 1024 + 1];
+        new Random().nextBytes(uploadBytes);
+
+        DXFile f = DXFile.newFile().setProject(testProject).build();
+        f.upload(uploadBytes);
+        f.closeAndWait();
+
+        try (SeekableByteChannel channel = f.openChannel(DownloadOptions.get().withBlockSize(4096))) {
+            Assert.assertEquals(uploadBytes.length, channel.size());
+            for (int start : new int[] {1000000, 5, 524288, 1048570}) {
+                ByteBuffer buffer = ByteBuffer.allocate(100);
+                channel.position(start);
+                int length = channel.read(buffer);
+                Assert.assertEquals(Math.min(100, uploadBytes.length - start), length);
+                Assert.assertArrayEquals(Arrays.copyOfRange(uploadBytes, start, start + length),
+                        Arrays.copyOf(buffer.array(), length));
+            }
+        }
+    }
+
     @Test
     public void testGetInstance() {
         DXFile file = DXFile.getInstance("file-000000000000000000000000");
@@ -290,6 +387,70 @@ public class DXFileTest {
         Assert.assertArrayEquals(uploadBytes, downloadBytes);
     }
 
+    @Test
+    public void testUploadFromPath() throws IOException {
+        byte[] uploadBytes = new byte[11 * 1024 * 1024 + 5];
+        new Random().nextBytes(uploadBytes);
+        Path path = Files.write(tempFolder.newFile().toPath(), uploadBytes);
+
+        DXFile f = DXFile.newFile().setProject(testProject).build();
+        f.uploadChunkSize = 5 * 1024 * 1024;
+        f.uploadFromPath(path);
+        f.closeAndWait();
+        Assert.assertArrayEquals(uploadBytes, f.downloadBytes());
+
+        f = DXFile.newFile().setProject(testProject).build();
+        f.uploadChunkSize = 5 * 1024 * 1024;
+        f.uploadFromPath(path, UploadOptions.get().withParallelism(3));
+        f.closeAndWait();
+        Assert.assertArrayEquals(uploadBytes, f.downloadBytes());
+    }
+
+    @Test
+    public void testUploadFromPathResumed() throws IOException {
+        final byte[] uploadBytes = new byte[11 * 1024 * 1024 + 5];
+        new Random().nextBytes(uploadBytes);
+        Path path = Files.write(tempFolder.newFile().toPath(), uploadBytes);
+        Path journal = tempFolder.getRoot().toPath().resolve("journal");
+
+        DXFile f = DXFile.newFile().setProject(testProject).build();
+        f.uploadChunkSize = 5 * 1024 * 1024;
+        // An upload that fails after its first part
+        InputStream failingStream = new SequenceInputStream(new ByteArrayInputStream(uploadBytes, 0,
+                6 * 1024 * 1024), new InputStream() {
+            @Override
+            public int read() throws IOException {
+                throw new IOException("Injected failure");
+            }
+        });
+        try {
+            f.upload(failingStream, UploadOptions.get().withJournal(journal));
+            Assert.fail("Expected upload to fail");
+        } catch (IOException e) {
+            Assert.assertEquals("Injected failure", e.getMessage());
+        }
+        Assert.assertTrue(Files.exists(journal));
+
+        f.uploadFromPath(path, UploadOptions.get().withJournal(journal));
+        Assert.assertFalse(Files.exists(journal));
+        f.closeAndWait();
+        Assert.assertArrayEquals(uploadBytes, f.downloadBytes());
+    }
+
+    @Test
+    public void testUploadParallel() throws IOException {
+        byte[] uploadBytes = new byte[21 * 1024 * 1024 + 3];
+        new Random().nextBytes(uploadBytes);
+
+        DXFile f = DXFile.newFile().setProject(testProject).build();
+        // Max chunk size 5mb, so that there are several parts in flight
+        f.uploadChunkSize = 5 * 1024 * 1024;
+        f.upload(new ByteArrayInputStream(uploadBytes), UploadOptions.get().withParallelism(3));
+        f.closeAndWait();
+
+        Assert.assertArrayEquals(uploadBytes, f.downloadBytes());
+    }
+
     @Test
     public void testUploadChunks() throws IOException {
         // Upload bytes
@@ -326,6 +487,34 @@ public class DXFileTest {
         Assert.assertArrayEquals(uploadBytes, downloadBytes);
     }
 
+    @Test
+    public void testUploadBulk() throws IOException, InterruptedException {
+        List<DXFileBulkUploader.Entry> entries = Lists.newArrayList();
+        for (int i = 0; i < 20; ++i) {
+            entries.add(DXFileBulkUploader.Entry.of("file" + i, "/bulk", ("contents " + i).getBytes()));
+        }
+        Path path = Files.write(tempFolder.newFile().toPath(), "from path".getBytes());
+        entries.add(DXFileBulkUploader.Entry.of("path", null, path));
+        entries.add(DXFileBulkUploader.Entry.of("missing", null, path.resolveSibling("missing")));
+
+        List<DXFileBulkUploader.Result> results = DXFileBulkUploader.create(testProject, 4).upload(entries);
+        Assert.assertEquals(entries.size(), results.size());
+        for (int i = 0; i < 20; ++i) {
+            DXFileBulkUploader.Result result = results.get(i);
+            Assert.assertTrue(result.isSuccessful());
+            Assert.assertSame(entries.get(i), result.getEntry());
+            Describe describe = result.getFile().describe();
+            Assert.assertEquals(DataObjectState.CLOSED, describe.getState());
+            Assert.assertEquals("/bulk", describe.getFolder());
+            Assert.assertEquals("file" + i, describe.getName());
+            Assert.assertArrayEquals(("contents " + i).getBytes(), result.getFile().downloadBytes());
+        }
+        Assert.assertArrayEquals("from path".getBytes(), results.get(20).getFile().downloadBytes());
+        DXFileBulkUploader.Result failed = results.get(21);
+        Assert.assertFalse(failed.isSuccessful());
+        Assert.assertTrue(failed.getError() instanceof IOException);
+    }
+
     @Test
     public void testUploadDownloadBinary() throws IOException {
         String uploadData = Integer.toBinaryString(12345678);
@@ -17,6 +17,10 @@
 package com.dnanexus;
 
 import java.io.IOException;
+import java.util.BitSet;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
 
 import org.junit.After;
 import org.junit.Assert;
@@ -26,6 +30,7 @@ import org.junit.Test;
 import com.dnanexus.DXDataObject.DescribeOptions;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.google.common.collect.ImmutableList;
+import com.google.common.collect.Lists;
 
 public class DXGTableTest {
 
@@ -208,4 +213,200 @@ public class DXGTableTest {
         // Retrieving the columns is tested in testCreateGTableSimple
     }
 
+    @Test
+    public void testRowWriter() throws Exception {
+        DXGTable gtable = DXGTable
+                .newGTable(ImmutableList.of(ColumnSpecification.getInstance("name", ColumnType.STRING),
+                        ColumnSpecification.getInstance("count", ColumnType.INT64)))
+                .setProject(testProject).build();
+
+        final DXGTable.RowWriter writer =
+                gtable.openRowWriter(DXGTable.WriteOptions.get().withParallelism(3).withRowsPerPart(100));
+        final int numThreads = 4;
+        final int rowsPerThread = 1234;
+        List<Thread> threads = Lists.newArrayList();
+        final AtomicReference<Throwable> failure = new AtomicReference<Throwable>();
+        for (int i = 0; i < numThreads; ++i) {
+            final int thread = i;
+            threads.add(new Thread() {
+                @Override
+                public void run() {
+                    try {
+                        for (int j = 0; j < rowsPerThread; ++j) {
+                            writer.addRow("row-" + thread + "-" + j, j);
+                        }
+                    } catch (Throwable t) {
+                        failure.set(t);
+                    }
+                }
+            });
+        }
+        for (Thread thread : threads) {
+            thread.start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        Assert.assertNull(failure.get());
+        writer.close();
+
+        try {
+            writer.addRow("late", 0);
+            Assert.fail("Expected adding a row to a closed writer to fail");
+        } catch (IOException e) {
+            // Expected
+        }
+
+        gtable.closeAndWait();
+        Assert.assertEquals(numThreads * rowsPerThread, gtable.describe().getNumRows());
+    }
+
+    @Test
+    public void testRowReader() throws IOException {
+        DXGTable gtable = DXGTable
+                .newGTable(ImmutableList.of(ColumnSpecification.getInstance("name", ColumnType.STRING),
+                        ColumnSpecification.getInstance("count", ColumnType.INT64)))
+                .setProject(testProject).build();
+        int numRows = 5000;
+        try (DXGTable.RowWriter writer = gtable.openRowWriter()) {
+            for (int i = 0; i < numRows / 2; ++i) {
+                writer.addRow("row-" + i, i);
+            }
+            // The rest as a batch of their own
+            GTableBatch batch = GTableBatch.create(writer.getSchema());
+            for (int i = numRows / 2; i < numRows; ++i) {
+                int row = batch.appendRow();
+                batch.setString(row, 0, "row-" + i);
+                batch.setLong(row, 1, i);
+            }
+            writer.addRows(batch);
+        }
+        gtable.closeAndWait();
+
+        // Small pages, so that the reader goes through many of them
+        DXGTable.RowReader reader = gtable.rows(0, numRows + 10,
+                DXGTable.ReadOptions.get().withInitialPageRows(10).withTargetPageBytes(2000));
+        int count = 0;
+        int numPages = 0;
+        while (reader.hasNext()) {
+            GTableBatch page = reader.next();
+            for (int i = 0; i < page.size(); ++i) {
+                Assert.assertEquals(count, page.getLong(i, 0));
+                Assert.assertEquals("row-" + count, page.getString(i, 1));
+                Assert.assertEquals(count, page.getLong(i, 2));
+                ++count;
+            }
+            ++numPages;
+        }
+        Assert.assertEquals(numRows, count);
+        Assert.assertTrue(numPages > 1);
+
+        reader = gtable.rows(100, 200, DXGTable.ReadOptions.get().withColumns(ImmutableList.of("count")));
+        count = 100;
+        while (reader.hasNext()) {
+            GTableBatch page = reader.next();
+            for (int i = 0; i < page.size(); ++i) {
+                Assert.assertEquals(count++, page.getLong(i, 0));
+            }
+        }
+        Assert.assertEquals(200, count);
+
+        Assert.assertFalse(gtable.rows(10, 10).hasNext());
+    }
+
+    @Test
+    public void testScan() throws IOException {
+        DXGTable gtable = DXGTable
+                .newGTable(ImmutableList.of(ColumnSpecification.getInstance("count", ColumnType.INT64)))
+                .setProject(testProject).build();
+        final int numRows = 10007;
+        try (DXGTable.RowWriter writer = gtable.openRowWriter()) {
+            for (int i = 0; i < numRows; ++i) {
+                writer.addRow(i);
+            }
+        }
+        gtable.closeAndWait();
+
+        DXGTable.ScanOptions options = DXGTable.ScanOptions.get().withParallelism(3).withPartitionRows(1000)
+                .withReadOptions(DXGTable.ReadOptions.get().withInitialPageRows(100));
+
+        final BitSet seen = new BitSet();
+        gtable.scan(options, new DXGTable.BatchCallback() {
+            @Override
+            public void processBatch(GTableBatch batch) {
+                synchronized (seen) {
+                    for (int i = 0; i < batch.size(); ++i) {
+                        int id = (int) batch.getLong(i, 0);
+                        Assert.assertFalse(seen.get(id));
+                        Assert.assertEquals(id, batch.getLong(i, 1));
+                        seen.set(id);
+                    }
+                }
+            }
+        });
+        Assert.assertEquals(numRows, seen.cardinality());
+
+        final AtomicLong nextId = new AtomicLong();
+        gtable.scanInOrder(options, new DXGTable.BatchCallback() {
+            @Override
+            public void processBatch(GTableBatch batch) {
+                for (int i = 0; i < batch.size(); ++i) {
+                    Assert.assertEquals(nextId.getAndIncrement(), batch.getLong(i, 0));
+                }
+            }
+        });
+        Assert.assertEquals(numRows, nextId.get());
+
+        try {
+            gtable.scanInOrder(options, new DXGTable.BatchCallback() {
+                @Override
+                public void processBatch(GTableBatch batch) throws IOException {
+                    throw new IOException("Injected failure");
+                }
+            });
+            Assert.fail("Expected the scan to fail");
+        } catch (IOException e) {
+            Assert.assertEquals("Injected failure", e.getMessage());
+        }
+    }
+
+    @Test
+    public void testQuery() throws IOException {
+        DXGTable gtable = DXGTable
+                .newGTable(ImmutableList.of(ColumnSpecification.getInstance("chr", ColumnType.STRING),
+                        ColumnSpecification.getInstance("lo", ColumnType.INT32),
+                        ColumnSpecification.getInstance("hi", ColumnType.INT32)))
+                .addIndex(GTableIndex.genomicRange("chr", "lo", "hi")).setProject(testProject).build();
+        int numRows = 2000;
+        try (DXGTable.RowWriter writer = gtable.openRowWriter()) {
+            for (int i = 0; i < numRows; ++i) {
+                writer.addRow(i % 2 == 0 ? "chr1" : "chr2", i * 10, i * 10 + 25);
+            }
+        }
+        gtable.closeAndWait();
+        Assert.assertEquals(ImmutableList.of(GTableIndex.genomicRange("chr", "lo", "hi")),
+                gtable.describe().getIndices());
+
+        // Intervals are half-open; even rows are on chr1
+        Assert.assertEquals(ImmutableList.of(80L, 100L, 120L, 140L, 160L, 180L),
+                queryStarts(gtable, GTableQuery.overlap("gri", "chr1", 100, 200)));
+        Assert.assertEquals(ImmutableList.of(100L, 120L, 140L, 160L),
+                queryStarts(gtable, GTableQuery.enclose("gri", "chr1", 100, 200)));
+        Assert.assertEquals(ImmutableList.of(),
+                queryStarts(gtable, GTableQuery.overlap("gri", "chr3", 0, 100000)));
+    }
+
+    private static List<Long> queryStarts(DXGTable gtable, GTableQuery query) {
+        List<Long> starts = Lists.newArrayList();
+        DXGTable.RowReader reader = gtable.query(query,
+                DXGTable.ReadOptions.get().withColumns(ImmutableList.of("lo")));
+        while (reader.hasNext()) {
+            GTableBatch page = reader.next();
+            for (int i = 0; i < page.size(); ++i) {
+                starts.add(page.getLong(i, 0));
+            }
+        }
+        return starts;
+    }
+
 }
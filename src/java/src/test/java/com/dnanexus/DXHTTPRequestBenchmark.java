@@ -0,0 +1,171 @@
+// Copyright (C) 2013-2016 DNAnexus, Inc.
+//
+// This file is part of dx-toolkit (DNAnexus platform client libraries).
+//
+//   Licensed under the Apache License, Version 2.0 (the "License"); you may
+//   not use this file except in compliance with the License. You may obtain a
+//   copy of the License at
+//
+//       http://www.apache.org/licenses/LICENSE-2.0
+//
+//   Unless required by applicable law or agreed to in writing, software
+//   distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+//   WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+//   License for the specific language governing permissions and limitations
+//   under the License.
+
+package com.dnanexus;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.http.entity.BasicHttpEntity;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.Lists;
+
+/**
+ * Compares the per-call cost of the JSON (de)serialization done by the typed DXAPI wrappers: the
+ * former path through intermediate JSON trees and Strings, and the direct POJO-to-stream path used
+ * by {@link DXHTTPRequest} now.
+ *
+ * <p>
+ * This is not run as part of the unit tests. To run it (the gc profiler reports the allocation
+ * rate per operation):
+ * </p>
+ *
+ * <pre>
+ * mvn test-compile dependency:build-classpath -Dmdep.outputFile=cp.txt
+ * java -cp target/test-classes:target/classes:$(cat cp.txt) com.dnanexus.DXHTTPRequestBenchmark
+ * </pre>
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DXHTTPRequestBenchmark {
+
+    private static class FindRequest {
+        @JsonProperty
+        private final Map<String, Object> scope = ImmutableMap.<String, Object>of("project",
+                "project-000011112222333344445555", "folder", "/reads", "recurse", true);
+        @JsonProperty
+        private final Map<String, Object> describe = ImmutableMap.<String, Object>of("fields",
+                ImmutableMap.of("name", true, "size", true, "tags", true, "properties", true));
+        @JsonProperty
+        private final int limit = 1000;
+    }
+
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    private static class FindResponse {
+        @JsonIgnoreProperties(ignoreUnknown = true)
+        private static class Entry {
+            @JsonProperty
+            private String id;
+            @JsonProperty
+            private String project;
+            @JsonProperty
+            private Describe describe;
+        }
+
+        @JsonIgnoreProperties(ignoreUnknown = true)
+        private static class Describe {
+            @JsonProperty
+            private String name;
+            @JsonProperty
+            private long size;
+            @JsonProperty
+            private List<String> tags;
+            @JsonProperty
+            private Map<String, String> properties;
+        }
+
+        @JsonProperty
+        private List<Entry> results;
+        @JsonProperty
+        private Object next;
+    }
+
+    private static final ObjectMapper mapper = new ObjectMapper();
+
+    private final FindRequest input = new FindRequest();
+    private final ByteArrayOutputStream requestBuffer = new ByteArrayOutputStream(64 * 1024);
+    private byte[] responseBytes;
+
+    /**
+     * Runs the benchmarks with the gc profiler.
+     */
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder().include(DXHTTPRequestBenchmark.class.getSimpleName())
+                .addProfiler(GCProfiler.class).build()).run();
+    }
+
+    @Setup
+    public void setUp() throws IOException {
+        List<Map<String, Object>> results = Lists.newArrayList();
+        for (int i = 0; i < 1000; ++i) {
+            results.add(ImmutableMap.<String, Object>of(
+                    "id", String.format("file-%024d", i),
+                    "project", "project-000011112222333344445555",
+                    "describe", ImmutableMap.of(
+                            "name", "sample_" + i + ".bam",
+                            "size", 1000000L * i,
+                            "tags", ImmutableList.of("aligned", "sorted"),
+                            "properties", ImmutableMap.of("sample", "NA" + i, "lane", "1"))));
+        }
+        responseBytes = mapper.writeValueAsBytes(ImmutableMap.of("results", results));
+    }
+
+    /**
+     * The previous typed wrapper path: POJO to tree to String to bytes, and bytes to String to tree
+     * to POJO.
+     */
+    @Benchmark
+    public FindResponse treeRoundTrip() throws IOException {
+        byte[] requestBytes = mapper.valueToTree(input).toString().getBytes("UTF-8");
+        requestBuffer.reset();
+        requestBuffer.write(requestBytes);
+        return DXJSON.safeTreeToValue(DXJSON.parseJson(new String(responseBytes, "UTF-8")),
+                FindResponse.class);
+    }
+
+    /**
+     * The direct path: POJO serialized straight to the request stream, and the response stream
+     * deserialized straight to a POJO with a cached reader.
+     */
+    @Benchmark
+    public FindResponse directRoundTrip() throws IOException {
+        requestBuffer.reset();
+        new DXHTTPRequest.JsonEntity(input).writeTo(requestBuffer);
+        BasicHttpEntity response = new BasicHttpEntity();
+        response.setContent(new ByteArrayInputStream(responseBytes));
+        response.setContentLength(responseBytes.length);
+        ObjectReader reader = DXHTTPRequest.getReader(FindResponse.class);
+        return (FindResponse) DXHTTPRequest.parseResponseValue(response, reader);
+    }
+}
@@ -42,6 +42,8 @@ import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.google.common.collect.Lists;
+import com.google.common.util.concurrent.Futures;
+import com.google.common.util.concurrent.ListenableFuture;
 
 /**
  * Tests for DXHTTPRequest and DXEnvironment.
@@ -131,6 +133,37 @@ public class DXHTTPRequestTest {
         }
     }
 
+    /**
+     * Tests basic use of the asynchronous API.
+     */
+    @Test
+    public void testDXAPIAsync() throws IOException, InterruptedException {
+        DXHTTPRequest c = new DXHTTPRequest();
+        List<ListenableFuture<JsonNode>> futures = Lists.newArrayList();
+        for (int i = 0; i < 20; ++i) {
+            futures.add(c.requestAsync("/system/findDataObjects", DXJSON.parseJson("{}"),
+                    RetryStrategy.SAFE_TO_RETRY));
+        }
+        try {
+            for (JsonNode responseJson : Futures.allAsList(futures).get()) {
+                Assert.assertTrue(responseJson.isObject());
+            }
+        } catch (ExecutionException e) {
+            throw new RuntimeException(e.getCause());
+        }
+
+        // Errors are reported through the future
+        DXEnvironment env = DXEnvironment.Builder.fromDefaults().setBearerToken("BOGUS").build();
+        try {
+            new DXHTTPRequest(env).requestAsync("/system/findDataObjects", DXJSON.parseJson("{}"),
+                    RetryStrategy.SAFE_TO_RETRY).get();
+            Assert.fail("Expected findDataObjects to fail with InvalidAuthentication");
+        } catch (ExecutionException e) {
+            Assert.assertTrue(e.getCause() instanceof InvalidAuthenticationException);
+            Assert.assertEquals(401, ((InvalidAuthenticationException) e.getCause()).getStatusCode());
+        }
+    }
+
     /**
      * Tests use of the API with a custom environment.
      *
@@ -191,6 +224,45 @@ public class DXHTTPRequestTest {
                         .put("auth_token", "abcdef").build(),
                 envWithDifferentToken.getSecurityContextJson());
 
+        // Connection pool limits are carried over to derived environments
+        DXEnvironment envWithPoolLimits =
+                DXEnvironment.Builder.fromEnvironment(env).setMaxConnectionsPerRoute(7)
+                        .setMaxConnectionsTotal(11).build();
+        DXEnvironment envFromPoolLimits =
+                DXEnvironment.Builder.fromEnvironment(envWithPoolLimits).build();
+        Assert.assertEquals(7, envFromPoolLimits.getMaxConnectionsPerRoute());
+        Assert.assertEquals(11, envFromPoolLimits.getMaxConnectionsTotal());
+        Assert.assertEquals(11, envFromPoolLimits.getConnectionPoolStats().getMax());
+        Assert.assertEquals(0, envFromPoolLimits.getConnectionPoolStats().getLeased());
+
+        // Environments with the same connection limits share a connection pool
+        Assert.assertSame(envWithPoolLimits.getHttpClient(), envFromPoolLimits.getHttpClient());
+        Assert.assertSame(DXEnvironment.create().getHttpClient(), DXEnvironment.create().getHttpClient());
+        Assert.assertNotSame(env.getHttpClient(), envFromPoolLimits.getHttpClient());
+        Assert.assertSame(DXEnvironment.create().getAsyncHttpClient(), DXEnvironment.create().getAsyncHttpClient());
+
+        // Derived environments share the bandwidth limits unless they change them
+        DXEnvironment limited = DXEnvironment.Builder.fromEnvironment(env).setMaxDownloadBytesPerSecond(1000)
+                .setMaxUploadBytesPerSecond(2000).build();
+        DXEnvironment derived = DXEnvironment.Builder.fromEnvironment(limited).setBearerToken("abcdef")
+                .setMaxDownloadBytesPerSecond(1000).build();
+        Assert.assertSame(limited.getDownloadRateLimiter(), derived.getDownloadRateLimiter());
+        Assert.assertSame(limited.getUploadRateLimiter(), derived.getUploadRateLimiter());
+        DXEnvironment changed = DXEnvironment.Builder.fromEnvironment(limited).setMaxUploadBytesPerSecond(3000)
+                .build();
+        Assert.assertSame(limited.getDownloadRateLimiter(), changed.getDownloadRateLimiter());
+        Assert.assertNotSame(limited.getUploadRateLimiter(), changed.getUploadRateLimiter());
+        Assert.assertEquals(3000, changed.getMaxUploadBytesPerSecond());
+        Assert.assertNotSame(limited.getDownloadRateLimiter(),
+                DXEnvironment.Builder.fromEnvironment(env).setMaxDownloadBytesPerSecond(1000).build()
+                        .getDownloadRateLimiter());
+
+        try {
+            DXEnvironment.Builder.fromEnvironment(env).setMaxConnectionsPerRoute(0);
+            Assert.fail("Expected setting a non-positive pool limit to fail");
+        } catch (IllegalArgumentException e) {
+            // Expected
+        }
     }
 
     /**
@@ -0,0 +1,137 @@
+// Copyright (C) 2013-2016 DNAnexus, Inc.
+//
+// This file is part of dx-toolkit (DNAnexus platform client libraries).
+//
+// Licensed under the Apache License, Version 2.0 (the "License"); you may
+// not use this file except in compliance with the License. You may obtain a
+// copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+// WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+// License for the specific language governing permissions and limitations
+// under the License.
+package com.dnanexus;
+
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import com.dnanexus.DownloadUrlCache.DownloadUrl;
+import com.google.common.base.Supplier;
+import com.google.common.base.Ticker;
+import com.google.common.collect.Lists;
+
+public class DownloadUrlCacheTest {
+
+    private static class FakeTicker extends Ticker {
+        private final AtomicLong nanos = new AtomicLong();
+
+        @Override
+        public long read() {
+            return nanos.get();
+        }
+
+        private void advance(long time, TimeUnit unit) {
+            nanos.addAndGet(unit.toNanos(time));
+        }
+    }
+
+    /**
+     * Returns URLs numbered in the order in which they are requested.
+     */
+    private static class CountingLoader implements Supplier<DownloadUrl> {
+        private final AtomicInteger numLoads = new AtomicInteger();
+        private final Long validForMillis;
+
+        private CountingLoader(Long validForMillis) {
+            this.validForMillis = validForMillis;
+        }
+
+        @Override
+        public DownloadUrl get() {
+            return new DownloadUrl("https://dl/" + numLoads.incrementAndGet(), null, validForMillis);
+        }
+    }
+
+    @Test
+    public void testExpiry() {
+        FakeTicker ticker = new FakeTicker();
+        CountingLoader loader = new CountingLoader(TimeUnit.HOURS.toMillis(1));
+        DownloadUrlCache cache = new DownloadUrlCache(loader, ticker);
+        Assert.assertEquals(0, loader.numLoads.get());
+
+        DownloadUrl url = cache.get();
+        Assert.assertEquals("https://dl/1", url.getUrl());
+        Assert.assertTrue(url.getHeaders().isEmpty());
+        ticker.advance(TimeUnit.HOURS.toMillis(1) - DownloadUrlCache.EXPIRY_MARGIN_MILLIS - 1, TimeUnit.MILLISECONDS);
+        Assert.assertSame(url, cache.get());
+        // Replaced shortly before it expires
+        ticker.advance(1, TimeUnit.MILLISECONDS);
+        Assert.assertEquals("https://dl/2", cache.get().getUrl());
+        Assert.assertEquals(2, loader.numLoads.get());
+    }
+
+    @Test
+    public void testShortValidity() {
+        FakeTicker ticker = new FakeTicker();
+        DownloadUrlCache cache = new DownloadUrlCache(new CountingLoader(10000L), ticker);
+        Assert.assertEquals("https://dl/1", cache.get().getUrl());
+        ticker.advance(4999, TimeUnit.MILLISECONDS);
+        Assert.assertEquals("https://dl/1", cache.get().getUrl());
+        ticker.advance(1, TimeUnit.MILLISECONDS);
+        Assert.assertEquals("https://dl/2", cache.get().getUrl());
+    }
+
+    @Test
+    public void testInvalidate() {
+        FakeTicker ticker = new FakeTicker();
+        CountingLoader loader = new CountingLoader(null);
+        DownloadUrlCache cache = new DownloadUrlCache(loader, ticker);
+        DownloadUrl first = cache.get();
+        ticker.advance(1000, TimeUnit.DAYS);
+        Assert.assertSame(first, cache.get());
+
+        cache.invalidate(first);
+        DownloadUrl second = cache.get();
+        Assert.assertEquals("https://dl/2", second.getUrl());
+        // A URL that was already replaced does not invalidate its replacement
+        cache.invalidate(first);
+        Assert.assertSame(second, cache.get());
+        Assert.assertEquals(2, loader.numLoads.get());
+    }
+
+    @Test
+    public void testConcurrentCallersShareOneUrl() throws Exception {
+        CountingLoader loader = new CountingLoader(TimeUnit.HOURS.toMillis(1));
+        final DownloadUrlCache cache = new DownloadUrlCache(loader, Ticker.systemTicker());
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<DownloadUrl>> futures = Lists.newArrayList();
+            for (int i = 0; i < 100; ++i) {
+                futures.add(executor.submit(new Callable<DownloadUrl>() {
+                    @Override
+                    public DownloadUrl call() {
+                        return cache.get();
+                    }
+                }));
+            }
+            for (Future<DownloadUrl> future : futures) {
+                Assert.assertEquals("https://dl/1", future.get().getUrl());
+            }
+        } finally {
+            executor.shutdown();
+        }
+        Assert.assertEquals(1, loader.numLoads.get());
+    }
+}
@@ -0,0 +1,136 @@
+// Copyright (C) 2013-2016 DNAnexus, Inc.
+//
+// This file is part of dx-toolkit (DNAnexus platform client libraries).
+//
+// Licensed under the Apache License, Version 2.0 (the "License"); you may
+// not use this file except in compliance with the License. You may obtain a
+// copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+// WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+// License for the specific language governing permissions and limitations
+// under the License.
+
+package com.dnanexus;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.google.common.collect.ImmutableList;
+
+public class GTableBatchTest {
+
+    private static final ObjectMapper mapper = new ObjectMapper();
+
+    private static final List<ColumnSpecification> SCHEMA = ImmutableList.of(
+            ColumnSpecification.getInstance("name", ColumnType.STRING),
+            ColumnSpecification.getInstance("flag", ColumnType.BOOLEAN),
+            ColumnSpecification.getInstance("small", ColumnType.INT32),
+            ColumnSpecification.getInstance("large", ColumnType.INT64),
+            ColumnSpecification.getInstance("value", ColumnType.DOUBLE),
+            ColumnSpecification.getInstance("other", ColumnType.STRING));
+
+    private static GTableBatch read(String json) throws IOException {
+        GTableBatch batch = GTableBatch.create(SCHEMA, 1);
+        JsonParser parser = mapper.getFactory().createParser(json);
+        parser.nextToken();
+        batch.readRows(parser);
+        return batch;
+    }
+
+    @Test
+    public void testAddAndGet() {
+        GTableBatch batch = GTableBatch.create(SCHEMA, 1);
+        batch.addRow("a", true, 1, 1L << 40, 0.5, "x");
+        int row = batch.appendRow();
+        batch.setString(row, 0, "b");
+        batch.setLong(row, 2, -7);
+        batch.setLong(row, 3, 42);
+        batch.setDouble(row, 4, 2.25);
+
+        Assert.assertEquals(2, batch.size());
+        Assert.assertEquals("a", batch.getString(0, 0));
+        Assert.assertTrue(batch.getBoolean(0, 1));
+        Assert.assertEquals(1, batch.getInt(0, 2));
+        Assert.assertEquals(1L << 40, batch.getLong(0, 3));
+        Assert.assertEquals(0.5, batch.getDouble(0, 4), 0);
+        Assert.assertEquals("b", batch.getString(1, 0));
+        Assert.assertFalse(batch.getBoolean(1, 1));
+        Assert.assertEquals(-7L, batch.getLong(1, 2));
+        Assert.assertEquals(42.0, batch.getDouble(1, 3), 0);
+        Assert.assertEquals("", batch.getString(1, 5));
+        Assert.assertEquals(3, batch.getColumnIndex("large"));
+
+        try {
+            batch.getInt(0, 3);
+            Assert.fail("Expected reading an INT64 column as an int to fail");
+        } catch (IllegalArgumentException e) {
+            // Expected
+        }
+        try {
+            batch.addRow("c", 1, 1, 1L, 1.0, "y");
+            Assert.fail("Expected a number in a boolean column to be rejected");
+        } catch (IllegalArgumentException e) {
+            // Expected
+        }
+        Assert.assertEquals(2, batch.size());
+
+        batch.clear();
+        Assert.assertEquals(0, batch.size());
+    }
+
+    @Test
+    public void testJsonRoundTrip() throws IOException {
+        GTableBatch batch = GTableBatch.create(SCHEMA);
+        String unicode = "caf\u00e9 \ud83d\ude00 \"quoted\" \\ \n";
+        for (int i = 0; i < 100; ++i) {
+            batch.addRow(unicode + i, i % 2 == 0, -i, i * 1000000007L, i / 3.0, "");
+        }
+        // Written both by a generator that copies the UTF-8 bytes as they are and by one that
+        // encodes the characters
+        String json = new String(mapper.writeValueAsBytes(batch), StandardCharsets.UTF_8);
+        Assert.assertEquals(json, mapper.writeValueAsString(batch));
+        Assert.assertEquals(mapper.readTree(json).get(0), mapper.readTree(
+                mapper.writeValueAsString(ImmutableList.of(unicode + 0, true, 0, 0, 0.0, ""))));
+
+        GTableBatch parsed = read(json);
+        Assert.assertEquals(100, parsed.size());
+        for (int i = 0; i < 100; ++i) {
+            for (int column = 0; column < SCHEMA.size(); ++column) {
+                Assert.assertEquals(batch.getValue(i, column), parsed.getValue(i, column));
+            }
+        }
+        Assert.assertEquals(json, mapper.writeValueAsString(parsed));
+
+        Assert.assertEquals(0, read("[]").size());
+    }
+
+    @Test
+    public void testReadMismatchedRows() throws IOException {
+        String[] invalid = {
+                "[[\"a\", true, 1, 2, 3.0]]",
+                "[[\"a\", true, 1, 2, 3.0, \"b\", 7]]",
+                "[[\"a\", 1, 1, 2, 3.0, \"b\"]]",
+                "[[\"a\", true, \"1\", 2, 3.0, \"b\"]]",
+                "[[1, true, 1, 2, 3.0, \"b\"]]",
+                "{}"};
+        for (String json : invalid) {
+            try {
+                read(json);
+                Assert.fail("Expected " + json + " to be rejected");
+            } catch (JsonMappingException e) {
+                // Expected
+            }
+        }
+    }
+}
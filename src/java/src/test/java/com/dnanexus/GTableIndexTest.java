@@ -0,0 +1,104 @@
+// Copyright (C) 2013-2016 DNAnexus, Inc.
+//
+// This file is part of dx-toolkit (DNAnexus platform client libraries).
+//
+// Licensed under the Apache License, Version 2.0 (the "License"); you may
+// not use this file except in compliance with the License. You may obtain a
+// copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+// WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+// License for the specific language governing permissions and limitations
+// under the License.
+
+package com.dnanexus;
+
+import java.io.IOException;
+import java.util.List;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.google.common.collect.ImmutableList;
+
+public class GTableIndexTest {
+
+    private static final ObjectMapper mapper = new ObjectMapper();
+
+    private static final List<ColumnSpecification> COLUMNS = ImmutableList.of(
+            ColumnSpecification.getInstance("chr", ColumnType.STRING),
+            ColumnSpecification.getInstance("lo", ColumnType.INT32),
+            ColumnSpecification.getInstance("hi", ColumnType.INT64),
+            ColumnSpecification.getInstance("score", ColumnType.DOUBLE));
+
+    @Test
+    public void testCreateGTableWithIndicesSerialization() throws IOException {
+        Assert.assertEquals(DXJSON.parseJson("{\"project\": \"project-000011112222333344445555\", "
+                + "\"columns\": [{\"name\": \"chr\", \"type\": \"string\"}, {\"name\": \"lo\", \"type\": \"int32\"}, "
+                + "{\"name\": \"hi\", \"type\": \"int64\"}, {\"name\": \"score\", \"type\": \"double\"}], "
+                + "\"indices\": [{\"name\": \"gri\", \"type\": \"genomic\", \"chr\": \"chr\", \"lo\": \"lo\", \"hi\": \"hi\"}, "
+                + "{\"name\": \"byScore\", \"type\": \"lexicographic\", \"columns\": "
+                + "[{\"name\": \"score\", \"order\": \"desc\"}, {\"name\": \"chr\", \"order\": \"asc\", \"caseSensitive\": false}]}], "
+                + "\"initializeFrom\": {\"id\": \"gtable-000000000000000000000000\", \"project\": \"project-000011112222333344445555\"}}"),
+                DXGTable.newGTable(COLUMNS)
+                        .setProject(DXProject.getInstance("project-000011112222333344445555"))
+                        .addIndex(GTableIndex.genomicRange("chr", "lo", "hi"))
+                        .addIndex(GTableIndex.lexicographic("byScore", ImmutableList.of(
+                                GTableIndex.LexicographicColumn.descending("score"),
+                                GTableIndex.LexicographicColumn.ascending("chr").withCaseSensitive(false))))
+                        .initializeFrom(DXGTable.getInstance("gtable-000000000000000000000000",
+                                DXProject.getInstance("project-000011112222333344445555")))
+                        .buildRequestHash());
+    }
+
+    @Test
+    public void testDeserialization() throws IOException {
+        GTableIndex index = mapper.readValue("{\"name\": \"byScore\", \"type\": \"lexicographic\", "
+                + "\"columns\": [{\"name\": \"score\", \"order\": \"desc\"}]}", GTableIndex.class);
+        Assert.assertEquals(GTableIndex.Type.LEXICOGRAPHIC, index.getType());
+        Assert.assertEquals("byScore", index.getName());
+        Assert.assertFalse(index.getColumns().get(0).isAscending());
+        Assert.assertEquals(GTableIndex.lexicographic("byScore",
+                ImmutableList.of(GTableIndex.LexicographicColumn.descending("score"))), index);
+
+        GTableIndex genomic = GTableIndex.genomicRange("chr", "lo", "hi");
+        Assert.assertEquals(genomic, mapper.readValue(mapper.writeValueAsString(genomic), GTableIndex.class));
+        Assert.assertEquals("lo", genomic.getLoColumn());
+    }
+
+    @Test
+    public void testInvalidIndices() {
+        List<GTableIndex> invalid = ImmutableList.of(
+                GTableIndex.genomicRange("lo", "chr", "hi"),
+                GTableIndex.genomicRange("chr", "lo", "score"),
+                GTableIndex.genomicRange("chr", "lo", "missing"),
+                GTableIndex.lexicographic("bad", ImmutableList.of(
+                        GTableIndex.LexicographicColumn.ascending("score").withCaseSensitive(false))));
+        for (GTableIndex index : invalid) {
+            try {
+                DXGTable.newGTable(COLUMNS).addIndex(index);
+                Assert.fail("Expected index " + mapper.valueToTree(index) + " to be rejected");
+            } catch (IllegalArgumentException e) {
+                // Expected
+            }
+        }
+    }
+
+    @Test
+    public void testQuerySerialization() throws IOException {
+        Assert.assertEquals(DXJSON.parseJson("{\"index\": \"gri\", \"parameters\": "
+                + "{\"mode\": \"overlap\", \"coords\": [\"chr1\", 100, 200]}}"),
+                mapper.valueToTree(GTableQuery.overlap("gri", "chr1", 100, 200)));
+        Assert.assertEquals(DXJSON.parseJson("{\"index\": \"gri\", \"parameters\": "
+                + "{\"mode\": \"enclose\", \"coords\": [\"chr1\", 100, 200]}}"),
+                mapper.valueToTree(GTableQuery.enclose("gri", "chr1", 100, 200)));
+        Assert.assertEquals(DXJSON.parseJson("{\"index\": \"byScore\", \"parameters\": "
+                + "{\"score\": {\"$gte\": 0.5}}}"),
+                mapper.valueToTree(GTableQuery.lexicographic("byScore",
+                        DXJSON.parseJson("{\"score\": {\"$gte\": 0.5}}"))));
+    }
+}
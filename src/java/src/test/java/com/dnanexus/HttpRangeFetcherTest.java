@@ -0,0 +1,169 @@
+// Copyright (C) 2013-2016 DNAnexus, Inc.
+//
+// This file is part of dx-toolkit (DNAnexus platform client libraries).
+//
+// Licensed under the Apache License, Version 2.0 (the "License"); you may
+// not use this file except in compliance with the License. You may obtain a
+// copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+// WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+// License for the specific language governing permissions and limitations
+// under the License.
+package com.dnanexus;
+
+import java.io.IOException;
+import java.net.InetAddress;
+import java.util.Arrays;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.apache.http.HttpException;
+import org.apache.http.HttpRequest;
+import org.apache.http.HttpResponse;
+import org.apache.http.HttpStatus;
+import org.apache.http.entity.ByteArrayEntity;
+import org.apache.http.impl.bootstrap.HttpServer;
+import org.apache.http.impl.bootstrap.ServerBootstrap;
+import org.apache.http.impl.client.CloseableHttpClient;
+import org.apache.http.impl.client.HttpClients;
+import org.apache.http.protocol.HttpContext;
+import org.apache.http.protocol.HttpRequestHandler;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.dnanexus.DownloadUrlCache.DownloadUrl;
+import com.google.common.base.Supplier;
+import com.google.common.base.Ticker;
+
+public class HttpRangeFetcherTest {
+
+    /**
+     * Serves byte ranges of an in-memory file to requests for the currently valid token only, and
+     * rejects all others as expired. A set number of requests can be failed with another status.
+     */
+    private static class TokenHandler implements HttpRequestHandler {
+        private final byte[] data;
+        private final AtomicInteger validToken = new AtomicInteger(1);
+        private final AtomicInteger numRequests = new AtomicInteger();
+        private final AtomicInteger numFailures = new AtomicInteger();
+        private volatile int failureStatus;
+
+        private TokenHandler(byte[] data) {
+            this.data = data;
+        }
+
+        @Override
+        public void handle(HttpRequest request, HttpResponse response, HttpContext context)
+                throws HttpException, IOException {
+            numRequests.incrementAndGet();
+            if (numFailures.getAndDecrement() > 0) {
+                response.setStatusCode(failureStatus);
+                return;
+            }
+            if (!request.getRequestLine().getUri().equals("/data/" + validToken.get())) {
+                response.setStatusCode(HttpStatus.SC_FORBIDDEN);
+                return;
+            }
+            String[] range = request.getFirstHeader("Range").getValue().substring("bytes=".length()).split("-");
+            int start = Integer.parseInt(range[0]);
+            int end = Integer.parseInt(range[1]) + 1;
+            response.setStatusCode(HttpStatus.SC_PARTIAL_CONTENT);
+            response.setEntity(new ByteArrayEntity(Arrays.copyOfRange(data, start, end)));
+        }
+    }
+
+    private byte[] data;
+    private TokenHandler handler;
+    private HttpServer server;
+    private CloseableHttpClient httpclient;
+    private final AtomicInteger numLoads = new AtomicInteger();
+
+    @Before
+    public void setUp() throws IOException {
+        data = new byte[100000];
+        new Random().nextBytes(data);
+        handler = new TokenHandler(data);
+        server = ServerBootstrap.bootstrap().setLocalAddress(InetAddress.getLoopbackAddress())
+                .registerHandler("*", handler).create();
+        server.start();
+        httpclient = HttpClients.createDefault();
+    }
+
+    @After
+    public void tearDown() throws IOException {
+        httpclient.close();
+        server.shutdown(1, TimeUnit.SECONDS);
+    }
+
+    private HttpRangeFetcher newFetcher() {
+        return new HttpRangeFetcher(httpclient, new DownloadUrlCache(new Supplier<DownloadUrl>() {
+            @Override
+            public DownloadUrl get() {
+                // Each URL obtained carries the token that is valid at the time
+                numLoads.incrementAndGet();
+                return new DownloadUrl("http://127.0.0.1:" + server.getLocalPort() + "/data/"
+                        + handler.validToken.get(), null, TimeUnit.DAYS.toMillis(1));
+            }
+        }, Ticker.systemTicker()));
+    }
+
+    @Test
+    public void testFetchReusesUrl() throws IOException {
+        HttpRangeFetcher fetcher = newFetcher();
+        byte[] buffer = new byte[1000];
+        for (int i = 0; i < 10; ++i) {
+            fetcher.fetch(i * 1000, (i + 1) * 1000, buffer, 0);
+            Assert.assertArrayEquals(Arrays.copyOfRange(data, i * 1000, (i + 1) * 1000), buffer);
+        }
+        Assert.assertEquals(1, numLoads.get());
+        Assert.assertEquals(10, handler.numRequests.get());
+    }
+
+    @Test
+    public void testRejectedUrlRefreshed() throws IOException {
+        HttpRangeFetcher fetcher = newFetcher();
+        byte[] buffer = new byte[1000];
+        fetcher.fetch(0, 1000, buffer, 0);
+
+        // The URL expires early: the request is retried at once with a new URL
+        handler.validToken.incrementAndGet();
+        long startTime = System.nanoTime();
+        fetcher.fetch(5000, 6000, buffer, 0);
+        Assert.assertTrue(System.nanoTime() - startTime < TimeUnit.MILLISECONDS.toNanos(900));
+        Assert.assertArrayEquals(Arrays.copyOfRange(data, 5000, 6000), buffer);
+        Assert.assertEquals(2, numLoads.get());
+        Assert.assertEquals(3, handler.numRequests.get());
+    }
+
+    @Test
+    public void testServerErrorRetried() throws IOException {
+        HttpRangeFetcher fetcher = newFetcher();
+        handler.failureStatus = HttpStatus.SC_SERVICE_UNAVAILABLE;
+        handler.numFailures.set(1);
+        byte[] buffer = new byte[1000];
+        fetcher.fetch(1000, 2000, buffer, 0);
+        Assert.assertArrayEquals(Arrays.copyOfRange(data, 1000, 2000), buffer);
+        Assert.assertEquals(2, handler.numRequests.get());
+    }
+
+    @Test
+    public void testClientErrorNotRetried() {
+        HttpRangeFetcher fetcher = newFetcher();
+        handler.failureStatus = HttpStatus.SC_NOT_FOUND;
+        handler.numFailures.set(Integer.MAX_VALUE);
+        try {
+            fetcher.fetch(1000, 2000, new byte[1000], 0);
+            Assert.fail("Expected the fetch to fail");
+        } catch (IOException e) {
+            Assert.assertTrue(e.getMessage().contains("404"));
+        }
+        Assert.assertEquals(1, handler.numRequests.get());
+    }
+}
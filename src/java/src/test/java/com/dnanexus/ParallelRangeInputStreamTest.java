@@ -0,0 +1,352 @@
+// Copyright (C) 2013-2016 DNAnexus, Inc.
+//
+// This file is part of dx-toolkit (DNAnexus platform client libraries).
+//
+// Licensed under the Apache License, Version 2.0 (the "License"); you may
+// not use this file except in compliance with the License. You may obtain a
+// copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+// WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+// License for the specific language governing permissions and limitations
+// under the License.
+
+package com.dnanexus;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.apache.commons.io.IOUtils;
+import org.junit.Assert;
+import org.junit.Test;
+
+import com.dnanexus.TestRangeFetchers.ArrayRangeFetcher;
+import com.google.common.base.Ticker;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.Lists;
+
+public class ParallelRangeInputStreamTest {
+
+    /**
+     * Serves ranges of an in-memory array, in a random order of completion, and records how many
+     * requests were started and how many were running at once.
+     */
+    private static class ConcurrentArrayFetcher extends ArrayRangeFetcher {
+        private final Random random = new Random();
+        private final AtomicInteger started = new AtomicInteger();
+        private final AtomicInteger running = new AtomicInteger();
+        private final AtomicInteger maxRunning = new AtomicInteger();
+        private volatile long failAt = -1;
+
+        private ConcurrentArrayFetcher(byte[] data) {
+            super(data);
+        }
+
+        @Override
+        public void fetch(long start, long end, byte[] buffer, int offset) throws IOException {
+            started.incrementAndGet();
+            int nowRunning = running.incrementAndGet();
+            while (true) {
+                int max = maxRunning.get();
+                if (nowRunning <= max || maxRunning.compareAndSet(max, nowRunning)) {
+                    break;
+                }
+            }
+            try {
+                if (end - start > 100) {
+                    Thread.sleep(random.nextInt(5));
+                }
+                if (start == failAt) {
+                    throw new IOException("Injected failure");
+                }
+                super.fetch(start, end, buffer, offset);
+            } catch (InterruptedException e) {
+                throw new IOException(e);
+            } finally {
+                running.decrementAndGet();
+            }
+        }
+    }
+
+    @Test
+    public void testReadInOrder() throws IOException {
+        byte[] data = TestRangeFetchers.randomBytes(100000);
+        ConcurrentArrayFetcher fetcher = new ConcurrentArrayFetcher(data);
+        int[][] configurations = {{1000, 1}, {1000, 4}, {4096, 16}, {99999, 2}, {100000, 3},
+                {1 << 20, 8}};
+        for (int[] configuration : configurations) {
+            try (InputStream is = new ParallelRangeInputStream(fetcher, 0, data.length, configuration[0],
+                    configuration[1])) {
+                Assert.assertArrayEquals(data, IOUtils.toByteArray(is));
+            }
+            try (InputStream is = new ParallelRangeInputStream(fetcher, 12345, 67890, configuration[0],
+                    configuration[1])) {
+                Assert.assertArrayEquals(Arrays.copyOfRange(data, 12345, 67890), IOUtils.toByteArray(is));
+            }
+        }
+    }
+
+    @Test
+    public void testReadSingleBytes() throws IOException {
+        byte[] data = TestRangeFetchers.randomBytes(3000);
+        try (InputStream is = new ParallelRangeInputStream(new ConcurrentArrayFetcher(data), 0, data.length, 1, 1)) {
+            Assert.assertArrayEquals(data, IOUtils.toByteArray(is));
+        }
+        try (InputStream is = new ParallelRangeInputStream(new ConcurrentArrayFetcher(data), 0, data.length, 7, 3)) {
+            for (byte b : data) {
+                Assert.assertEquals(b & 0xff, is.read());
+            }
+            Assert.assertEquals(-1, is.read());
+            Assert.assertEquals(-1, is.read(new byte[10], 0, 10));
+        }
+    }
+
+    @Test
+    public void testEmptyRange() throws IOException {
+        ConcurrentArrayFetcher fetcher = new ConcurrentArrayFetcher(new byte[10]);
+        try (InputStream is = new ParallelRangeInputStream(fetcher, 5, 5, 1024, 4)) {
+            Assert.assertEquals(-1, is.read());
+        }
+        Assert.assertEquals(0, fetcher.started.get());
+    }
+
+    @Test
+    public void testBoundedReadAhead() throws IOException, InterruptedException {
+        int chunkSize = 1000;
+        int parallelism = 4;
+        byte[] data = TestRangeFetchers.randomBytes(50 * chunkSize);
+        ConcurrentArrayFetcher fetcher = new ConcurrentArrayFetcher(data);
+        byte[] chunk = new byte[chunkSize];
+        try (InputStream is = new ParallelRangeInputStream(fetcher, 0, data.length, chunkSize, parallelism)) {
+            for (int i = 1; i <= 50; ++i) {
+                Assert.assertEquals(chunkSize, IOUtils.read(is, chunk));
+                Assert.assertArrayEquals(Arrays.copyOfRange(data, (i - 1) * chunkSize, i * chunkSize), chunk);
+                // Give the workers a chance to run ahead as far as they are allowed to
+                Thread.sleep(10);
+                Assert.assertTrue(fetcher.started.get() <= i + parallelism);
+            }
+        }
+        Assert.assertTrue(fetcher.maxRunning.get() <= parallelism);
+        Assert.assertTrue(fetcher.maxRunning.get() > 1);
+        Assert.assertEquals(50, fetcher.started.get());
+    }
+
+    @Test
+    public void testByteBudgetWithSlowReader() throws IOException, InterruptedException {
+        int chunkSize = 8192;
+        byte[] data = TestRangeFetchers.randomBytes(40 * chunkSize);
+        ConcurrentArrayFetcher fetcher = new ConcurrentArrayFetcher(data);
+        TransferScheduler scheduler = TransferScheduler.create(8, 3 * chunkSize);
+        try {
+            byte[] chunk = new byte[chunkSize];
+            try (InputStream is = new ParallelRangeInputStream(fetcher, 0, data.length,
+                    ParallelRangeInputStream.fixedChunkSize(chunkSize), 8, scheduler.newTransfer(0))) {
+                for (int i = 1; i <= 40; ++i) {
+                    // Give the workers a chance to run ahead as far as the budget allows: chunks
+                    // that have been fetched but not read still count against it
+                    Thread.sleep(5);
+                    Assert.assertTrue(fetcher.started.get() <= i + 2);
+                    Assert.assertEquals(chunkSize, IOUtils.read(is, chunk));
+                    Assert.assertArrayEquals(Arrays.copyOfRange(data, (i - 1) * chunkSize, i * chunkSize), chunk);
+                }
+            }
+            Assert.assertEquals(3 * chunkSize, scheduler.getPeakBufferedBytes());
+            Assert.assertEquals(0, scheduler.getBufferedBytes());
+        } finally {
+            scheduler.shutdown();
+        }
+
+        // A chunk larger than the whole budget is still fetched, one at a time
+        scheduler = TransferScheduler.create(2, 100);
+        try {
+            try (InputStream is = new ParallelRangeInputStream(fetcher, 0, data.length,
+                    ParallelRangeInputStream.fixedChunkSize(chunkSize), 4, scheduler.newTransfer(0))) {
+                Assert.assertArrayEquals(data, IOUtils.toByteArray(is));
+            }
+            Assert.assertEquals(chunkSize, scheduler.getPeakBufferedBytes());
+            Assert.assertEquals(0, scheduler.getBufferedBytes());
+        } finally {
+            scheduler.shutdown();
+        }
+    }
+
+    @Test(timeout = 20000)
+    public void testSharedBudgetOnOneThread() throws IOException {
+        final int chunkSize = 8192;
+        byte[] data1 = TestRangeFetchers.randomBytes(20 * chunkSize);
+        byte[] data2 = TestRangeFetchers.randomBytes(20 * chunkSize);
+        TransferScheduler scheduler = TransferScheduler.create(8, 4 * chunkSize);
+        try {
+            // Two streams read in lockstep: the first one's read-ahead takes up the whole budget,
+            // which only reading it (on the same thread) can free
+            byte[] chunk1 = new byte[chunkSize];
+            byte[] chunk2 = new byte[chunkSize];
+            try (InputStream is1 = new ParallelRangeInputStream(new ConcurrentArrayFetcher(data1), 0, data1.length,
+                    ParallelRangeInputStream.fixedChunkSize(chunkSize), 8, scheduler.newTransfer(0));
+                    InputStream is2 = new ParallelRangeInputStream(new ConcurrentArrayFetcher(data2), 0, data2.length,
+                            ParallelRangeInputStream.fixedChunkSize(chunkSize), 8, scheduler.newTransfer(0))) {
+                for (int i = 0; i < 20; ++i) {
+                    Assert.assertEquals(chunkSize, IOUtils.read(is1, chunk1));
+                    Assert.assertEquals(chunkSize, IOUtils.read(is2, chunk2));
+                    Assert.assertArrayEquals(Arrays.copyOfRange(data1, i * chunkSize, (i + 1) * chunkSize), chunk1);
+                    Assert.assertArrayEquals(Arrays.copyOfRange(data2, i * chunkSize, (i + 1) * chunkSize), chunk2);
+                }
+            }
+            Assert.assertEquals(0, scheduler.getBufferedBytes());
+
+            // A download copied to an upload on the same scheduler
+            final byte[] uploaded = new byte[data1.length];
+            PartUploader uploader = new PartUploader() {
+                @Override
+                public void uploadPart(int index, byte[] data, int length) {
+                    System.arraycopy(data, 0, uploaded, (index - 1) * 2 * chunkSize, length);
+                }
+            };
+            try (InputStream is = new ParallelRangeInputStream(new ConcurrentArrayFetcher(data1), 0, data1.length,
+                    ParallelRangeInputStream.fixedChunkSize(chunkSize), 8, scheduler.newTransfer(0));
+                    OutputStream os = new PipelinedUploadOutputStream(uploader,
+                            UploadPartPlanner.fixedPartSize(2 * chunkSize), 4, scheduler.newTransfer(0))) {
+                IOUtils.copy(is, os);
+            }
+            Assert.assertArrayEquals(data1, uploaded);
+            Assert.assertEquals(0, scheduler.getBufferedBytes());
+        } finally {
+            scheduler.shutdown();
+        }
+    }
+
+    @Test
+    public void testRampingReadAhead() throws IOException {
+        int kb = 1024;
+        byte[] data = TestRangeFetchers.randomBytes(3 * kb * kb);
+        ConcurrentArrayFetcher fetcher = new ConcurrentArrayFetcher(data);
+        try (InputStream is = new ParallelRangeInputStream(fetcher, 0, data.length,
+                RampingRangeInputStream.RAMP_SCHEDULE, 3)) {
+            Assert.assertArrayEquals(data, IOUtils.toByteArray(is));
+        }
+        // Same chunks as a RampingRangeInputStream would request, the last one truncated
+        List<Integer> expected = Lists.newArrayList();
+        for (int chunkSize : ImmutableList.of(64 * kb, 128 * kb, 256 * kb)) {
+            for (int i = 0; i < 4; ++i) {
+                expected.add(chunkSize);
+            }
+        }
+        expected.add(512 * kb);
+        expected.add(512 * kb);
+        expected.add(256 * kb);
+        Assert.assertEquals(expected, fetcher.requestSizes());
+        Assert.assertTrue(fetcher.maxRunning.get() <= 3);
+    }
+
+    @Test
+    public void testAdaptiveSizing() throws IOException {
+        int kb = 1024;
+        byte[] data = TestRangeFetchers.randomBytes(8 * kb * kb);
+        final ConcurrentArrayFetcher fetcher = new ConcurrentArrayFetcher(data);
+        final TransferStats stats = new TransferStats();
+        // Every request appears to take 10ms to start and then run at 10 MB/s, for which the
+        // target chunk size is 8 x 10 MB/s x 10ms, rounded down to 512K
+        RangeFetcher timedFetcher = new RangeFetcher() {
+            @Override
+            public void fetch(long start, long end, byte[] buffer, int offset) throws IOException {
+                fetcher.fetch(start, end, buffer, offset);
+                long firstByteNanos = TimeUnit.MILLISECONDS.toNanos(10);
+                stats.recordRequest(end - start, firstByteNanos, firstByteNanos + (end - start) * 100);
+            }
+        };
+        AdaptiveChunkSizer sizer = new AdaptiveChunkSizer(stats, 4 * kb * kb, 4, Ticker.systemTicker());
+        try (InputStream is = new ParallelRangeInputStream(timedFetcher, 0, data.length, sizer)) {
+            Assert.assertArrayEquals(data, IOUtils.toByteArray(is));
+        }
+        List<Integer> sizes = fetcher.requestSizes();
+        Assert.assertEquals(64 * kb, sizes.get(0).intValue());
+        Assert.assertEquals(512 * kb, sizes.get(sizes.size() - 2).intValue());
+        Assert.assertEquals(512 * kb, stats.getChunkSize());
+        Assert.assertTrue(fetcher.maxRunning.get() <= 4);
+    }
+
+    @Test
+    public void testCloseAbandonsReadAhead() throws IOException, InterruptedException {
+        final int chunkSize = 777;
+        final CountDownLatch started = new CountDownLatch(3);
+        final CountDownLatch interrupted = new CountDownLatch(3);
+        RangeFetcher blockingFetcher = new RangeFetcher() {
+            @Override
+            public void fetch(long start, long end, byte[] buffer, int offset) throws IOException {
+                started.countDown();
+                try {
+                    Thread.sleep(60000);
+                } catch (InterruptedException e) {
+                    interrupted.countDown();
+                    throw new IOException(e);
+                }
+            }
+        };
+        // The pool is shared with other buffers of similar sizes, so start from an empty one
+        BufferPool pool = BufferPool.forSize(chunkSize);
+        while (pool.getNumFree() > 0) {
+            pool.acquire();
+        }
+        InputStream is = new ParallelRangeInputStream(blockingFetcher, 0, 100 * chunkSize,
+                ParallelRangeInputStream.fixedChunkSize(chunkSize), 3);
+        Assert.assertTrue(started.await(10, TimeUnit.SECONDS));
+        is.close();
+        Assert.assertTrue(interrupted.await(10, TimeUnit.SECONDS));
+        // The buffers of the abandoned chunks go back to the pool
+        for (int i = 0; i < 100 && pool.getNumFree() < 3; ++i) {
+            Thread.sleep(10);
+        }
+        Assert.assertEquals(3, pool.getNumFree());
+        try {
+            is.read();
+            Assert.fail("Expected read after close to fail");
+        } catch (IOException e) {
+            // Expected
+        }
+    }
+
+    @Test
+    public void testFetchFailure() throws IOException {
+        byte[] data = TestRangeFetchers.randomBytes(10000);
+        ConcurrentArrayFetcher fetcher = new ConcurrentArrayFetcher(data);
+        fetcher.failAt = 5000;
+        InputStream is = new ParallelRangeInputStream(fetcher, 0, data.length, 1000, 4);
+        byte[] prefix = new byte[5000];
+        Assert.assertEquals(5000, IOUtils.read(is, prefix));
+        Assert.assertArrayEquals(Arrays.copyOf(data, 5000), prefix);
+        try {
+            is.read();
+            Assert.fail("Expected read to fail");
+        } catch (IOException e) {
+            Assert.assertEquals("Injected failure", e.getMessage());
+        }
+        is.close();
+    }
+
+    @Test
+    public void testInvalidArguments() {
+        ConcurrentArrayFetcher fetcher = new ConcurrentArrayFetcher(new byte[10]);
+        try {
+            new ParallelRangeInputStream(fetcher, 5, 4, 1024, 4);
+            Assert.fail("Expected a reversed range to be rejected");
+        } catch (IllegalArgumentException e) {
+            // Expected
+        }
+        try {
+            new ParallelRangeInputStream(fetcher, 0, 10, 1024, 0);
+            Assert.fail("Expected zero parallelism to be rejected");
+        } catch (IllegalArgumentException e) {
+            // Expected
+        }
+    }
+}
@@ -0,0 +1,120 @@
+// Copyright (C) 2013-2016 DNAnexus, Inc.
+//
+// This file is part of dx-toolkit (DNAnexus platform client libraries).
+//
+// Licensed under the Apache License, Version 2.0 (the "License"); you may
+// not use this file except in compliance with the License. You may obtain a
+// copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+// WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+// License for the specific language governing permissions and limitations
+// under the License.
+package com.dnanexus;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import com.google.common.collect.Lists;
+
+public class PartOutputStreamTest {
+
+    /**
+     * Collects uploaded parts in memory, in upload order.
+     */
+    private static class ListPartUploader implements PartUploader {
+        private final List<byte[]> parts = Lists.newArrayList();
+
+        @Override
+        public void uploadPart(int index, byte[] data, int length) {
+            Assert.assertEquals(parts.size() + 1, index);
+            parts.add(Arrays.copyOf(data, length));
+        }
+
+        private byte[] assemble() throws IOException {
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            for (byte[] part : parts) {
+                out.write(part);
+            }
+            return out.toByteArray();
+        }
+    }
+
+    @Test
+    public void testParts() throws IOException {
+        int partSize = 1000;
+        for (int size : new int[] {0, 1, 999, 1000, 1001, 5432}) {
+            byte[] data = new byte[size];
+            new Random().nextBytes(data);
+            ListPartUploader uploader = new ListPartUploader();
+            OutputStream os = new PartOutputStream(uploader, partSize);
+            // Mix of single-byte and array writes
+            int off = 0;
+            while (off < size) {
+                if (off % 7 == 0) {
+                    os.write(data[off++]);
+                } else {
+                    int len = Math.min(size - off, 345);
+                    os.write(data, off, len);
+                    off += len;
+                }
+            }
+            os.close();
+            // Closing again uploads nothing
+            os.close();
+
+            Assert.assertArrayEquals(data, uploader.assemble());
+            Assert.assertEquals(Math.max(1, (size + partSize - 1) / partSize), uploader.parts.size());
+        }
+    }
+
+    @Test
+    public void testPlannedParts() throws IOException {
+        // Parts of 100 bytes, doubling every 2 parts up to 400
+        UploadPartPlanner planner = new UploadPartPlanner(-1, 100, 400, 32);
+        byte[] data = new byte[2000];
+        new Random().nextBytes(data);
+        ListPartUploader uploader = new ListPartUploader();
+        try (OutputStream os = new PartOutputStream(uploader, planner)) {
+            os.write(data, 0, 1500);
+        }
+        Assert.assertArrayEquals(Arrays.copyOf(data, 1500), uploader.assemble());
+        List<Integer> sizes = Lists.newArrayList();
+        for (byte[] part : uploader.parts) {
+            sizes.add(part.length);
+        }
+        Assert.assertEquals(Arrays.asList(100, 100, 200, 200, 400, 400, 100), sizes);
+
+        // At most 3 parts
+        OutputStream os = new PartOutputStream(new ListPartUploader(), new UploadPartPlanner(-1, 100, 100, 3));
+        os.write(data, 0, 300);
+        try {
+            os.write(data, 300, 1);
+            Assert.fail("Expected an upload with too many parts to fail");
+        } catch (IOException e) {
+            // Expected
+        }
+    }
+
+    @Test
+    public void testWriteAfterClose() throws IOException {
+        OutputStream os = new PartOutputStream(new ListPartUploader(), 1000);
+        os.close();
+        try {
+            os.write(1);
+            Assert.fail("Expected write after close to fail");
+        } catch (IOException e) {
+            // Expected
+        }
+    }
+}
@@ -0,0 +1,194 @@
+// Copyright (C) 2013-2016 DNAnexus, Inc.
+//
+// This file is part of dx-toolkit (DNAnexus platform client libraries).
+//
+// Licensed under the Apache License, Version 2.0 (the "License"); you may
+// not use this file except in compliance with the License. You may obtain a
+// copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+// WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+// License for the specific language governing permissions and limitations
+// under the License.
+
+package com.dnanexus;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.apache.commons.io.IOUtils;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class PipelinedUploadOutputStreamTest {
+
+    /**
+     * Collects uploaded parts in memory and records how many uploads ran at once.
+     */
+    private static class MapPartUploader implements PartUploader {
+        private final Map<Integer, byte[]> parts = new ConcurrentSkipListMap<Integer, byte[]>();
+        private final Random random = new Random();
+        private final AtomicInteger started = new AtomicInteger();
+        private final AtomicInteger running = new AtomicInteger();
+        private final AtomicInteger maxRunning = new AtomicInteger();
+        private volatile CountDownLatch gate = new CountDownLatch(0);
+        private volatile int failIndex = -1;
+
+        @Override
+        public void uploadPart(int index, byte[] data, int length) throws IOException {
+            started.incrementAndGet();
+            int nowRunning = running.incrementAndGet();
+            while (true) {
+                int max = maxRunning.get();
+                if (nowRunning <= max || maxRunning.compareAndSet(max, nowRunning)) {
+                    break;
+                }
+            }
+            try {
+                gate.await();
+                Thread.sleep(random.nextInt(5));
+                if (index == failIndex) {
+                    throw new IOException("Injected failure in part " + index);
+                }
+                // The buffer is reused once the part has been uploaded
+                Assert.assertNull(parts.put(index, Arrays.copyOf(data, length)));
+            } catch (InterruptedException e) {
+                throw new IOException(e);
+            } finally {
+                running.decrementAndGet();
+            }
+        }
+
+        private byte[] assemble() throws IOException {
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            int expectedIndex = 1;
+            for (Map.Entry<Integer, byte[]> part : parts.entrySet()) {
+                Assert.assertEquals(expectedIndex++, part.getKey().intValue());
+                out.write(part.getValue());
+            }
+            return out.toByteArray();
+        }
+    }
+
+    @Test
+    public void testPartsUploaded() throws IOException {
+        int partSize = 1000;
+        int[] sizes = {0, 1, 999, 1000, 1001, 5000, 12345};
+        for (int size : sizes) {
+            byte[] data = TestRangeFetchers.randomBytes(size);
+            MapPartUploader uploader = new MapPartUploader();
+            try (OutputStream os = new PipelinedUploadOutputStream(uploader, partSize, 3)) {
+                // Write in pieces that don't line up with the parts
+                int off = 0;
+                while (off < data.length) {
+                    int len = Math.min(data.length - off, 333);
+                    os.write(data, off, len);
+                    off += len;
+                }
+            }
+            Assert.assertArrayEquals(data, uploader.assemble());
+            Assert.assertEquals(Math.max(1, (size + partSize - 1) / partSize), uploader.parts.size());
+            for (byte[] part : uploader.parts.values()) {
+                Assert.assertTrue(part.length <= partSize);
+            }
+            Assert.assertTrue(uploader.maxRunning.get() <= 3);
+        }
+    }
+
+    @Test
+    public void testBackpressure() throws Exception {
+        final int partSize = 100;
+        final int parallelism = 2;
+        final MapPartUploader uploader = new MapPartUploader();
+        uploader.gate = new CountDownLatch(1);
+        final byte[] data = TestRangeFetchers.randomBytes(10 * partSize);
+        final OutputStream os = new PipelinedUploadOutputStream(uploader, partSize, parallelism);
+        Thread writer = new Thread() {
+            @Override
+            public void run() {
+                try {
+                    os.write(data);
+                    os.close();
+                } catch (IOException e) {
+                    throw new RuntimeException(e);
+                }
+            }
+        };
+        writer.start();
+        writer.join(200);
+        // The writer is stuck behind the uploads in flight
+        Assert.assertTrue(writer.isAlive());
+        Assert.assertEquals(parallelism, uploader.started.get());
+
+        uploader.gate.countDown();
+        writer.join(10000);
+        Assert.assertFalse(writer.isAlive());
+        Assert.assertArrayEquals(data, uploader.assemble());
+    }
+
+    @Test
+    public void testByteBudgetWithSlowUploads() throws IOException {
+        int partSize = 8192;
+        byte[] data = TestRangeFetchers.randomBytes(30 * partSize + 17);
+        MapPartUploader uploader = new MapPartUploader();
+        TransferScheduler scheduler = TransferScheduler.create(8, 3 * partSize);
+        try {
+            // The part being filled and the parts being uploaded share the budget, so no more than
+            // three parts are buffered at once although eight may be in flight
+            try (OutputStream os = new PipelinedUploadOutputStream(uploader,
+                    UploadPartPlanner.fixedPartSize(partSize), 8, scheduler.newTransfer(0))) {
+                os.write(data);
+            }
+            Assert.assertArrayEquals(data, uploader.assemble());
+            Assert.assertEquals(3 * partSize, scheduler.getPeakBufferedBytes());
+            Assert.assertEquals(0, scheduler.getBufferedBytes());
+            Assert.assertTrue(uploader.maxRunning.get() <= 3);
+        } finally {
+            scheduler.shutdown();
+        }
+    }
+
+    @Test
+    public void testFailure() throws IOException {
+        MapPartUploader uploader = new MapPartUploader();
+        uploader.failIndex = 2;
+        OutputStream os = new PipelinedUploadOutputStream(uploader, 100, 4);
+        try {
+            // The failure may already be seen by the write, if part 2 fails before it returns
+            os.write(TestRangeFetchers.randomBytes(250));
+            os.close();
+            Assert.fail("Expected close to fail");
+        } catch (IOException e) {
+            Assert.assertEquals("Injected failure in part 2", e.getMessage());
+        } finally {
+            // Stops the stream's threads if the write failed before close was reached
+            IOUtils.closeQuietly(os);
+        }
+
+        // Writes after a failure fail too
+        uploader = new MapPartUploader();
+        uploader.failIndex = 1;
+        os = new PipelinedUploadOutputStream(uploader, 100, 1);
+        try {
+            for (int i = 0; i < 100; ++i) {
+                os.write(TestRangeFetchers.randomBytes(100));
+            }
+            Assert.fail("Expected write to fail");
+        } catch (IOException e) {
+            Assert.assertEquals("Injected failure in part 1", e.getMessage());
+        } finally {
+            IOUtils.closeQuietly(os);
+        }
+        Assert.assertTrue(uploader.started.get() < 100);
+    }
+}
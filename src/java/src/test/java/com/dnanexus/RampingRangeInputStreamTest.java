@@ -0,0 +1,88 @@
+// Copyright (C) 2013-2016 DNAnexus, Inc.
+//
+// This file is part of dx-toolkit (DNAnexus platform client libraries).
+//
+// Licensed under the Apache License, Version 2.0 (the "License"); you may
+// not use this file except in compliance with the License. You may obtain a
+// copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+// WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+// License for the specific language governing permissions and limitations
+// under the License.
+package com.dnanexus;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Arrays;
+
+import org.apache.commons.io.IOUtils;
+import org.junit.Assert;
+import org.junit.Test;
+
+import com.dnanexus.TestRangeFetchers.ArrayRangeFetcher;
+
+public class RampingRangeInputStreamTest {
+
+    @Test
+    public void testRamp() throws IOException {
+        int min = RampingRangeInputStream.MIN_CHUNK_SIZE;
+        byte[] data = TestRangeFetchers.randomBytes(4 * min + 4 * 2 * min + 3 * 4 * min + 5);
+        ArrayRangeFetcher fetcher = new ArrayRangeFetcher(data);
+        try (InputStream is = new RampingRangeInputStream(fetcher, 0, data.length)) {
+            Assert.assertArrayEquals(data, IOUtils.toByteArray(is));
+        }
+        Assert.assertEquals(Arrays.asList(min, min, min, min, 2 * min, 2 * min, 2 * min, 2 * min, 4 * min,
+                4 * min, 4 * min, 5), fetcher.requestSizes());
+    }
+
+    @Test
+    public void testRampSchedule() {
+        int min = RampingRangeInputStream.MIN_CHUNK_SIZE;
+        ParallelRangeInputStream.ChunkSchedule schedule = RampingRangeInputStream.RAMP_SCHEDULE;
+        Assert.assertEquals(min, schedule.getChunkSize(0));
+        Assert.assertEquals(min, schedule.getChunkSize(3));
+        Assert.assertEquals(2 * min, schedule.getChunkSize(4));
+        Assert.assertEquals(RampingRangeInputStream.MAX_CHUNK_SIZE, schedule.getChunkSize(1000));
+        Assert.assertEquals(RampingRangeInputStream.MAX_CHUNK_SIZE, schedule.getChunkSize(Integer.MAX_VALUE));
+    }
+
+    @Test
+    public void testRange() throws IOException {
+        byte[] data = TestRangeFetchers.randomBytes(1000000);
+        ArrayRangeFetcher fetcher = new ArrayRangeFetcher(data);
+        try (InputStream is = new RampingRangeInputStream(fetcher, 100, 500000)) {
+            Assert.assertArrayEquals(Arrays.copyOfRange(data, 100, 500000), IOUtils.toByteArray(is));
+        }
+        // Nothing past the end of the range is requested
+        int total = 0;
+        for (int size : fetcher.requestSizes()) {
+            total += size;
+        }
+        Assert.assertEquals(500000 - 100, total);
+    }
+
+    @Test
+    public void testReadSingleBytes() throws IOException {
+        byte[] data = TestRangeFetchers.randomBytes(100000);
+        try (InputStream is = new RampingRangeInputStream(new ArrayRangeFetcher(data), 0, data.length)) {
+            for (byte b : data) {
+                Assert.assertEquals(b & 0xff, is.read());
+            }
+            Assert.assertEquals(-1, is.read());
+        }
+    }
+
+    @Test
+    public void testEmptyRange() throws IOException {
+        ArrayRangeFetcher fetcher = new ArrayRangeFetcher(new byte[10]);
+        try (InputStream is = new RampingRangeInputStream(fetcher, 10, 10)) {
+            Assert.assertEquals(-1, is.read());
+            Assert.assertEquals(0, is.read(new byte[10], 0, 0));
+        }
+        Assert.assertTrue(fetcher.requests.isEmpty());
+    }
+}
@@ -0,0 +1,97 @@
+// Copyright (C) 2013-2016 DNAnexus, Inc.
+//
+// This file is part of dx-toolkit (DNAnexus platform client libraries).
+//
+// Licensed under the Apache License, Version 2.0 (the "License"); you may
+// not use this file except in compliance with the License. You may obtain a
+// copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+// WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+// License for the specific language governing permissions and limitations
+// under the License.
+
+package com.dnanexus;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.Lists;
+
+/**
+ * Test data and in-memory range fetchers shared by the download tests.
+ */
+final class TestRangeFetchers {
+
+    private TestRangeFetchers() {
+    }
+
+    /**
+     * Serves ranges of an in-memory array and records the ranges requested. Subclasses add delays,
+     * failures, or corruption by overriding {@link #fetch}, through which {@link #transferTo} is
+     * served too.
+     */
+    static class ArrayRangeFetcher implements ChannelRangeFetcher {
+        final byte[] data;
+        // Ranges requested, as [start, end] pairs, in the order in which they were served
+        final List<List<Long>> requests = Collections.synchronizedList(Lists.<List<Long>>newArrayList());
+
+        ArrayRangeFetcher(byte[] data) {
+            this.data = data;
+        }
+
+        @Override
+        public void fetch(long start, long end, byte[] buffer, int offset) throws IOException {
+            requests.add(ImmutableList.of(start, end));
+            System.arraycopy(data, (int) start, buffer, offset, (int) (end - start));
+        }
+
+        @Override
+        public void transferTo(long start, long end, FileChannel channel, ByteBuffer buffer) throws IOException {
+            byte[] range = new byte[(int) (end - start)];
+            fetch(start, end, range, 0);
+            ByteBuffer src = ByteBuffer.wrap(range);
+            long position = start;
+            while (src.hasRemaining()) {
+                position += channel.write(src, position);
+            }
+        }
+
+        /**
+         * Returns the sizes of the ranges requested, in the order of their starts (which does not
+         * depend on the order in which concurrent requests were served).
+         */
+        List<Integer> requestSizes() {
+            List<List<Long>> sorted;
+            synchronized (requests) {
+                sorted = Lists.newArrayList(requests);
+            }
+            Collections.sort(sorted, new Comparator<List<Long>>() {
+                @Override
+                public int compare(List<Long> a, List<Long> b) {
+                    return Long.compare(a.get(0), b.get(0));
+                }
+            });
+            List<Integer> sizes = Lists.newArrayList();
+            for (List<Long> request : sorted) {
+                sizes.add((int) (request.get(1) - request.get(0)));
+            }
+            return sizes;
+        }
+    }
+
+    static byte[] randomBytes(int size) {
+        byte[] data = new byte[size];
+        new Random().nextBytes(data);
+        return data;
+    }
+}
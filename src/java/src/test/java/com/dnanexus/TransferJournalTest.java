@@ -0,0 +1,165 @@
+// Copyright (C) 2013-2016 DNAnexus, Inc.
+//
+// This file is part of dx-toolkit (DNAnexus platform client libraries).
+//
+// Licensed under the Apache License, Version 2.0 (the "License"); you may
+// not use this file except in compliance with the License. You may obtain a
+// copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+// WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+// License for the specific language governing permissions and limitations
+// under the License.
+
+package com.dnanexus;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+import org.junit.Assert;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import com.dnanexus.TestRangeFetchers.ArrayRangeFetcher;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.Range;
+
+public class TransferJournalTest {
+
+    /**
+     * Serves ranges of an in-memory array, failing once a set number of ranges have been served.
+     */
+    private static class FailingFetcher extends ArrayRangeFetcher {
+        private int failAfter = Integer.MAX_VALUE;
+
+        private FailingFetcher(byte[] data) {
+            super(data);
+        }
+
+        @Override
+        public synchronized void transferTo(long start, long end, FileChannel channel, ByteBuffer buffer)
+                throws IOException {
+            if (requests.size() == failAfter) {
+                throw new IOException("Injected failure");
+            }
+            super.transferTo(start, end, channel, buffer);
+        }
+    }
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    @Test
+    public void testResume() throws IOException {
+        Path path = folder.getRoot().toPath().resolve("journal");
+        TransferJournal journal = TransferJournal.open(path, "upload file-1", true);
+        Assert.assertNull(journal.getPartMd5(1));
+        journal.recordPart(1, "0123456789abcdef0123456789abcdef");
+        journal.recordPart(3, "fedcba9876543210fedcba9876543210");
+        journal.recordRange(0, 100);
+        journal.recordRange(200, 300);
+
+        TransferJournal resumed = TransferJournal.open(path, "upload file-1", true);
+        Assert.assertEquals("0123456789abcdef0123456789abcdef", resumed.getPartMd5(1));
+        Assert.assertNull(resumed.getPartMd5(2));
+        Assert.assertEquals("fedcba9876543210fedcba9876543210", resumed.getPartMd5(3));
+        Assert.assertEquals(ImmutableList.of(Range.closedOpen(100L, 200L), Range.closedOpen(300L, 400L)),
+                ImmutableList.copyOf(resumed.getMissingRanges(50, 400).asRanges()));
+        Assert.assertTrue(resumed.getMissingRanges(0, 100).isEmpty());
+
+        // A journal of another transfer, or one that may not be resumed, starts over
+        Assert.assertNull(TransferJournal.open(path, "upload file-2", true).getPartMd5(1));
+        journal = TransferJournal.open(path, "upload file-2", true);
+        journal.recordPart(1, "0123456789abcdef0123456789abcdef");
+        Assert.assertNull(TransferJournal.open(path, "upload file-2", false).getPartMd5(1));
+
+        journal.delete();
+        Assert.assertFalse(Files.exists(path));
+    }
+
+    @Test
+    public void testLayout() throws IOException {
+        Path path = folder.getRoot().toPath().resolve("journal");
+        String layout = UploadPartPlanner.fixedPartSize(1000) + " length=5000";
+        TransferJournal.open(path, "upload file-1", layout, true).recordPart(1, "0123456789abcdef0123456789abcdef");
+        Assert.assertEquals("0123456789abcdef0123456789abcdef",
+                TransferJournal.open(path, "upload file-1", layout, true).getPartMd5(1));
+
+        // The same transfer with other part sizes, or another expected length, may not be resumed
+        for (String otherLayout : ImmutableList.of(UploadPartPlanner.fixedPartSize(2000) + " length=5000",
+                UploadPartPlanner.fixedPartSize(1000) + " length=6000")) {
+            try {
+                TransferJournal.open(path, "upload file-1", otherLayout, true);
+                Assert.fail("Expected the journal to be rejected");
+            } catch (IOException e) {
+                // Expected
+            }
+        }
+        Assert.assertEquals("0123456789abcdef0123456789abcdef",
+                TransferJournal.open(path, "upload file-1", layout, true).getPartMd5(1));
+
+        // A journal of another transfer, or one that may not be resumed, starts over
+        Assert.assertNull(TransferJournal.open(path, "upload file-2", layout, true).getPartMd5(1));
+        TransferJournal.open(path, "upload file-1", layout, true).recordPart(1, "0123456789abcdef0123456789abcdef");
+        String otherLayout = UploadPartPlanner.fixedPartSize(2000) + " length=5000";
+        Assert.assertNull(TransferJournal.open(path, "upload file-1", otherLayout, false).getPartMd5(1));
+        Assert.assertNull(TransferJournal.open(path, "upload file-1", otherLayout, true).getPartMd5(1));
+    }
+
+    @Test
+    public void testTornRecords() throws IOException {
+        Path path = folder.getRoot().toPath().resolve("journal");
+        TransferJournal journal = TransferJournal.open(path, "download file-1 1000", true);
+        journal.recordRange(0, 100);
+        journal.recordPart(1, "0123456789abcdef0123456789abcdef");
+        // Records cut short by a crash, followed by records appended after resuming
+        Files.write(path, "range 100 2".getBytes(StandardCharsets.UTF_8), StandardOpenOption.APPEND);
+        TransferJournal.open(path, "download file-1 1000", true).recordRange(500, 600);
+        Files.write(path, "part 2 0123".getBytes(StandardCharsets.UTF_8), StandardOpenOption.APPEND);
+
+        TransferJournal resumed = TransferJournal.open(path, "download file-1 1000", true);
+        Assert.assertEquals(ImmutableList.of(Range.closedOpen(100L, 1000L)),
+                ImmutableList.copyOf(resumed.getMissingRanges(0, 1000).asRanges()));
+        Assert.assertEquals("0123456789abcdef0123456789abcdef", resumed.getPartMd5(1));
+        Assert.assertNull(resumed.getPartMd5(2));
+    }
+
+    @Test
+    public void testResumedDownload() throws IOException {
+        byte[] data = TestRangeFetchers.randomBytes(10000);
+        FailingFetcher upstream = new FailingFetcher(data);
+        upstream.failAfter = 4;
+        Path journalPath = folder.getRoot().toPath().resolve("journal");
+        File file = folder.newFile();
+        try (FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.WRITE)) {
+            TransferJournal journal = TransferJournal.open(journalPath, "download", true);
+            new ChannelDownloader(new JournaledRangeFetcher(upstream, journal), channel, 0, data.length, 1000)
+                    .download(1);
+            Assert.fail("Expected the download to fail");
+        } catch (IOException e) {
+            Assert.assertEquals("Injected failure", e.getMessage());
+        }
+
+        // Resuming with different chunks fetches only what is missing
+        upstream.requests.clear();
+        upstream.failAfter = Integer.MAX_VALUE;
+        try (FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.WRITE)) {
+            TransferJournal journal = TransferJournal.open(journalPath, "download", true);
+            new ChannelDownloader(new JournaledRangeFetcher(upstream, journal), channel, 0, data.length, 3000)
+                    .download(1);
+        }
+        Assert.assertArrayEquals(data, Files.readAllBytes(file.toPath()));
+        Assert.assertEquals(ImmutableList.of(ImmutableList.of(4000L, 6000L), ImmutableList.of(6000L, 9000L),
+                ImmutableList.of(9000L, 10000L)), upstream.requests);
+    }
+}
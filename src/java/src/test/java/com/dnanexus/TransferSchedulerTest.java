@@ -0,0 +1,248 @@
+// Copyright (C) 2013-2016 DNAnexus, Inc.
+//
+// This file is part of dx-toolkit (DNAnexus platform client libraries).
+//
+// Licensed under the Apache License, Version 2.0 (the "License"); you may
+// not use this file except in compliance with the License. You may obtain a
+// copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+// WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+// License for the specific language governing permissions and limitations
+// under the License.
+
+package com.dnanexus;
+
+import java.io.IOException;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.google.common.base.Supplier;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.Lists;
+
+public class TransferSchedulerTest {
+
+    private TransferScheduler scheduler;
+    private final List<String> order = Collections.synchronizedList(Lists.<String>newArrayList());
+
+    @Before
+    public void setUp() {
+        scheduler = TransferScheduler.create(1, 100);
+    }
+
+    @After
+    public void tearDown() {
+        scheduler.shutdown();
+    }
+
+    /**
+     * Occupies the scheduler's only worker until the returned latch is counted down.
+     */
+    private CountDownLatch blockWorker() throws InterruptedException {
+        final CountDownLatch started = new CountDownLatch(1);
+        final CountDownLatch release = new CountDownLatch(1);
+        scheduler.newTransfer(Integer.MAX_VALUE).submit(new Callable<Void>() {
+            @Override
+            public Void call() throws InterruptedException {
+                started.countDown();
+                release.await();
+                return null;
+            }
+        }, 0);
+        started.await();
+        return release;
+    }
+
+    private Future<String> submit(TransferScheduler.Transfer transfer, final String name, long numBytes) {
+        return transfer.submit(new Callable<String>() {
+            @Override
+            public String call() {
+                order.add(name);
+                return name;
+            }
+        }, numBytes);
+    }
+
+    @Test
+    public void testRoundRobin() throws Exception {
+        CountDownLatch release = blockWorker();
+        TransferScheduler.Transfer a = scheduler.newTransfer(0);
+        TransferScheduler.Transfer b = scheduler.newTransfer(0);
+        submit(a, "a1", 0);
+        submit(a, "a2", 0);
+        Future<String> last = submit(a, "a3", 0);
+        submit(b, "b1", 0);
+        submit(b, "b2", 0);
+        release.countDown();
+        Assert.assertEquals("a3", last.get());
+        Assert.assertEquals(ImmutableList.of("a1", "b1", "a2", "b2", "a3"), order);
+    }
+
+    @Test
+    public void testPriority() throws Exception {
+        CountDownLatch release = blockWorker();
+        TransferScheduler.Transfer low = scheduler.newTransfer(-1);
+        TransferScheduler.Transfer normal = scheduler.newTransfer(0);
+        TransferScheduler.Transfer high = scheduler.newTransfer(5);
+        Future<String> last = submit(low, "low", 0);
+        submit(normal, "normal1", 0);
+        submit(high, "high", 0);
+        submit(normal, "normal2", 0);
+        release.countDown();
+        Assert.assertEquals("low", last.get());
+        Assert.assertEquals(ImmutableList.of("high", "normal1", "normal2", "low"), order);
+    }
+
+    @Test
+    public void testByteBudget() throws Exception {
+        scheduler.shutdown();
+        scheduler = TransferScheduler.create(4, 100);
+        final AtomicInteger running = new AtomicInteger();
+        final AtomicInteger maxRunning = new AtomicInteger();
+        Callable<Void> task = new Callable<Void>() {
+            @Override
+            public Void call() throws InterruptedException {
+                int n = running.incrementAndGet();
+                synchronized (maxRunning) {
+                    maxRunning.set(Math.max(maxRunning.get(), n));
+                }
+                Thread.sleep(20);
+                running.decrementAndGet();
+                return null;
+            }
+        };
+        List<Future<Void>> futures = Lists.newArrayList();
+        for (int i = 0; i < 8; ++i) {
+            futures.add(scheduler.newTransfer(0).submit(task, 40));
+        }
+        // Larger than the whole budget, so it runs alone
+        futures.add(scheduler.newTransfer(0).submit(task, 1000));
+        for (Future<Void> future : futures) {
+            future.get();
+        }
+        Assert.assertEquals(2, maxRunning.get());
+    }
+
+    @Test
+    public void testReservations() throws Exception {
+        TransferScheduler.Transfer a = scheduler.newTransfer(0);
+        TransferScheduler.Transfer b = scheduler.newTransfer(0);
+        // Alone, a transfer may reserve the whole budget
+        Assert.assertTrue(a.tryReserve(40));
+        Assert.assertTrue(a.tryReserve(40));
+        Assert.assertFalse(a.tryReserve(40));
+        // One that holds nothing gets its bytes even beyond the budget
+        b.reserve(40);
+        Assert.assertEquals(120, scheduler.getBufferedBytes());
+        a.releaseReservation(80);
+        // Now each may only read ahead up to its share (half the budget)
+        Assert.assertTrue(a.tryReserve(40));
+        Assert.assertFalse(a.tryReserve(20));
+        Assert.assertTrue(b.tryReserve(10));
+        a.releaseReservation(40);
+        b.releaseReservation(50);
+        Assert.assertEquals(0, scheduler.getBufferedBytes());
+    }
+
+    @Test
+    public void testDefault() throws Exception {
+        TransferScheduler scheduler = TransferScheduler.getDefault();
+        Assert.assertSame(scheduler, TransferScheduler.getDefault());
+        Assert.assertEquals(TransferScheduler.DEFAULT_NUM_WORKERS, scheduler.getNumWorkers());
+        Assert.assertTrue(scheduler.getMaxBufferedBytes() <= TransferScheduler.DEFAULT_MAX_BUFFERED_BYTES);
+        // Environments without a scheduler of their own use it
+        Assert.assertSame(scheduler, DXEnvironment.create().getTransferScheduler());
+        try {
+            scheduler.shutdown();
+            Assert.fail("Expected the default scheduler to refuse to shut down");
+        } catch (IllegalStateException e) {
+            // Expected
+        }
+        Assert.assertEquals("ok", submit(scheduler.newTransfer(0), "ok", 0).get());
+    }
+
+    @Test
+    public void testClose() throws Exception {
+        CountDownLatch release = blockWorker();
+        TransferScheduler.Transfer a = scheduler.newTransfer(0);
+        TransferScheduler.Transfer b = scheduler.newTransfer(0);
+        Future<String> cancelled = submit(a, "a1", 0);
+        Future<String> other = submit(b, "b1", 0);
+        a.close();
+        Assert.assertTrue(cancelled.isCancelled());
+        try {
+            submit(a, "a2", 0);
+            Assert.fail("Expected closed transfer to reject tasks");
+        } catch (RejectedExecutionException e) {
+            // Expected
+        }
+        release.countDown();
+        Assert.assertEquals("b1", other.get());
+        Assert.assertEquals(ImmutableList.of("b1"), order);
+        try {
+            cancelled.get();
+            Assert.fail("Expected task to be cancelled");
+        } catch (CancellationException e) {
+            // Expected
+        }
+    }
+
+    @Test
+    public void testWorkers() throws IOException, ExecutionException, InterruptedException {
+        scheduler.shutdown();
+        scheduler = TransferScheduler.create(3, 100);
+        final AtomicInteger remaining = new AtomicInteger(50);
+        final AtomicInteger transferred = new AtomicInteger();
+        TransferWorkers.run(4, "unused-%d", scheduler.newTransfer(0), 10, new Supplier<TransferWorkers.Worker>() {
+            @Override
+            public TransferWorkers.Worker get() {
+                return new TransferWorkers.Worker() {
+                    @Override
+                    public boolean transferNext() {
+                        if (remaining.getAndDecrement() <= 0) {
+                            return false;
+                        }
+                        transferred.incrementAndGet();
+                        return true;
+                    }
+                };
+            }
+        });
+        Assert.assertEquals(50, transferred.get());
+
+        try {
+            TransferWorkers.run(2, "unused-%d", scheduler.newTransfer(0), 10, new Supplier<TransferWorkers.Worker>() {
+                @Override
+                public TransferWorkers.Worker get() {
+                    return new TransferWorkers.Worker() {
+                        @Override
+                        public boolean transferNext() throws IOException {
+                            throw new IOException("Injected failure");
+                        }
+                    };
+                }
+            });
+            Assert.fail("Expected transfer to fail");
+        } catch (IOException e) {
+            Assert.assertEquals("Injected failure", e.getMessage());
+        }
+        // The workers are still usable
+        Assert.assertEquals("ok", submit(scheduler.newTransfer(0), "ok", 0).get());
+    }
+}
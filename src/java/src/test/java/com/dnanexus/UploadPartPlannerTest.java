@@ -0,0 +1,111 @@
+// Copyright (C) 2013-2016 DNAnexus, Inc.
+//
+// This file is part of dx-toolkit (DNAnexus platform client libraries).
+//
+// Licensed under the Apache License, Version 2.0 (the "License"); you may
+// not use this file except in compliance with the License. You may obtain a
+// copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+// WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+// License for the specific language governing permissions and limitations
+// under the License.
+
+package com.dnanexus;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+public class UploadPartPlannerTest {
+
+    private static final long MB = 1024 * 1024;
+    private static final long GB = 1024 * MB;
+
+    private static UploadPartPlanner platformPlanner(long expectedLength, long maxPartSize) {
+        return new UploadPartPlanner(expectedLength, 16 * MB, maxPartSize, UploadPartPlanner.MAX_NUM_PARTS);
+    }
+
+    @Test
+    public void testKnownLength() {
+        // Files shorter than the preferred part size use a part of their length, but no smaller
+        // than the platform minimum
+        Assert.assertEquals(UploadPartPlanner.MIN_PART_SIZE, platformPlanner(0, UploadPartPlanner.MAX_PART_SIZE)
+                .getPartSize(1));
+        Assert.assertEquals(UploadPartPlanner.MIN_PART_SIZE, platformPlanner(1, UploadPartPlanner.MAX_PART_SIZE)
+                .getPartSize(1));
+        Assert.assertEquals(10 * MB + 1, platformPlanner(10 * MB + 1, UploadPartPlanner.MAX_PART_SIZE)
+                .getPartSize(1));
+        // ... unless the preferred part size is smaller than that
+        Assert.assertEquals(MB, new UploadPartPlanner(1000, MB, 16 * MB, 100).getPartSize(1));
+        // Larger ones use the preferred part size
+        for (long length : new long[] {16 * MB, 16 * MB + 1, 100 * GB}) {
+            UploadPartPlanner planner = platformPlanner(length, UploadPartPlanner.MAX_PART_SIZE);
+            Assert.assertEquals(16 * MB, planner.getPartSize(1));
+            Assert.assertEquals(16 * MB, planner.getPartSize((int) Math.max(1, (length + 16 * MB - 1) / (16 * MB))));
+        }
+        // Very large ones get larger parts (rounded up to a whole number of MB), so that they fit
+        UploadPartPlanner planner = platformPlanner(500 * GB, UploadPartPlanner.MAX_PART_SIZE);
+        Assert.assertEquals(52 * MB, planner.getPartSize(1));
+        Assert.assertEquals(52 * MB, planner.getPartSize(9847));
+        Assert.assertTrue(9847 * 52 * MB >= 500 * GB);
+        Assert.assertTrue(planner.getMaxLength() >= 500 * GB);
+
+        // The largest file that fits
+        long maxLength = UploadPartPlanner.MAX_NUM_PARTS * UploadPartPlanner.MAX_PART_SIZE;
+        Assert.assertEquals(UploadPartPlanner.MAX_PART_SIZE, platformPlanner(maxLength,
+                UploadPartPlanner.MAX_PART_SIZE).getPartSize(1));
+        try {
+            platformPlanner(maxLength + 1, UploadPartPlanner.MAX_PART_SIZE);
+            Assert.fail("Expected a file that is too large to be rejected");
+        } catch (IllegalArgumentException e) {
+            // Expected
+        }
+    }
+
+    @Test
+    public void testUnknownLength() {
+        UploadPartPlanner planner = platformPlanner(-1, UploadPartPlanner.MAX_BUFFERED_PART_SIZE);
+        int growthInterval = UploadPartPlanner.MAX_NUM_PARTS / UploadPartPlanner.GROWTH_STEPS;
+        Assert.assertEquals(16 * MB, planner.getPartSize(1));
+        Assert.assertEquals(16 * MB, planner.getPartSize(growthInterval));
+        Assert.assertEquals(32 * MB, planner.getPartSize(growthInterval + 1));
+        Assert.assertEquals(64 * MB, planner.getPartSize(2 * growthInterval + 1));
+        Assert.assertEquals(UploadPartPlanner.MAX_BUFFERED_PART_SIZE, planner.getPartSize(
+                UploadPartPlanner.MAX_NUM_PARTS));
+        // Sizes never shrink
+        for (int index = 2; index <= UploadPartPlanner.MAX_NUM_PARTS; ++index) {
+            Assert.assertTrue(planner.getPartSize(index) >= planner.getPartSize(index - 1));
+        }
+        // A stream far larger than 500 GB fits
+        Assert.assertTrue(planner.getMaxLength() > 5000 * GB);
+        try {
+            planner.getPartSize(UploadPartPlanner.MAX_NUM_PARTS + 1);
+            Assert.fail("Expected a part beyond the limit to be rejected");
+        } catch (IllegalArgumentException e) {
+            // Expected
+        }
+    }
+
+    @Test
+    public void testEstimatedLength() {
+        // Parts beyond those planned for the estimate grow, starting from the planned size
+        UploadPartPlanner planner = new UploadPartPlanner(10 * MB, MB, 16 * MB, 1002);
+        Assert.assertEquals(MB, planner.getPartSize(10));
+        Assert.assertEquals(MB, planner.getPartSize(10 + 62));
+        Assert.assertEquals(2 * MB, planner.getPartSize(10 + 62 + 1));
+        Assert.assertEquals(16 * MB, planner.getPartSize(1002));
+        Assert.assertEquals(62 * (1 + 2 + 4 + 8) * MB + (1002 - 10 - 4 * 62) * 16 * MB + 10 * MB,
+                planner.getMaxLength());
+    }
+
+    @Test
+    public void testFixedPartSize() {
+        UploadPartPlanner planner = UploadPartPlanner.fixedPartSize(1000);
+        Assert.assertEquals(1000, planner.getPartSize(1));
+        Assert.assertEquals(1000, planner.getPartSize(Integer.MAX_VALUE));
+        Assert.assertEquals(Integer.MAX_VALUE * 1000L, planner.getMaxLength());
+    }
+}
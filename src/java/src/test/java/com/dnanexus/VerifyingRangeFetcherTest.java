@@ -0,0 +1,234 @@
+// Copyright (C) 2013-2016 DNAnexus, Inc.
+//
+// This file is part of dx-toolkit (DNAnexus platform client libraries).
+//
+// Licensed under the Apache License, Version 2.0 (the "License"); you may
+// not use this file except in compliance with the License. You may obtain a
+// copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+// WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+// License for the specific language governing permissions and limitations
+// under the License.
+
+package com.dnanexus;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.apache.commons.codec.digest.DigestUtils;
+import org.apache.commons.io.IOUtils;
+import org.junit.Assert;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import com.dnanexus.TestRangeFetchers.ArrayRangeFetcher;
+import com.dnanexus.VerifyingRangeFetcher.PartChecksums;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.Lists;
+
+public class VerifyingRangeFetcherTest {
+
+    /**
+     * Serves ranges of an in-memory array, flipping a byte of the response to a request for the
+     * corrupt range as many times as asked to.
+     */
+    private static class CorruptingFetcher extends ArrayRangeFetcher {
+        private volatile long corruptStart = -1;
+        private final AtomicInteger numCorruptions = new AtomicInteger();
+
+        private CorruptingFetcher(byte[] data) {
+            super(data);
+        }
+
+        @Override
+        public void fetch(long start, long end, byte[] buffer, int offset) throws IOException {
+            super.fetch(start, end, buffer, offset);
+            if (start <= corruptStart && corruptStart < end && numCorruptions.getAndDecrement() > 0) {
+                buffer[offset + (int) (corruptStart - start)] ^= 1;
+            }
+        }
+    }
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    private static PartChecksums partsOf(byte[] data, int... sizes) {
+        List<Long> partSizes = Lists.newArrayList();
+        List<String> md5s = Lists.newArrayList();
+        int start = 0;
+        for (int size : sizes) {
+            partSizes.add((long) size);
+            md5s.add(DigestUtils.md5Hex(Arrays.copyOfRange(data, start, start + size)));
+            start += size;
+        }
+        return new PartChecksums(partSizes, md5s);
+    }
+
+    @Test
+    public void testStreamRefetchesCorruptPart() throws IOException {
+        byte[] data = TestRangeFetchers.randomBytes(10000);
+        PartChecksums parts = partsOf(data, 4000, 4000, 2000);
+        CorruptingFetcher fetcher = new CorruptingFetcher(data);
+        fetcher.corruptStart = 5000;
+        fetcher.numCorruptions.set(2);
+        CorruptingFetcher origin = new CorruptingFetcher(data);
+        try (InputStream is = new ParallelRangeInputStream(new VerifyingRangeFetcher(fetcher, origin, parts), 0,
+                data.length, parts.toChunkSchedule(4000), 2)) {
+            Assert.assertArrayEquals(data, IOUtils.toByteArray(is));
+        }
+        // Only the corrupt part is fetched again, and from the origin
+        Assert.assertEquals(3, fetcher.requests.size());
+        Assert.assertEquals(1, origin.requests.size());
+    }
+
+    @Test
+    public void testChannelRefetchesCorruptPart() throws IOException {
+        byte[] data = TestRangeFetchers.randomBytes(10000);
+        PartChecksums parts = partsOf(data, 3000, 3000, 3000, 1000);
+        CorruptingFetcher fetcher = new CorruptingFetcher(data);
+        fetcher.corruptStart = 9999;
+        fetcher.numCorruptions.set(3);
+        File file = folder.newFile();
+        try (FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.READ,
+                StandardOpenOption.WRITE)) {
+            // The fetcher is its own origin, and is corrupt for the first refetches too
+            new ChannelDownloader(new VerifyingRangeFetcher(fetcher, fetcher, parts), channel, 0, data.length,
+                    parts.toChunkSchedule(3000)).download(3);
+        }
+        Assert.assertArrayEquals(data, Files.readAllBytes(file.toPath()));
+        Assert.assertEquals(4 + 3, fetcher.requests.size());
+    }
+
+    @Test
+    public void testPersistentCorruption() throws IOException {
+        byte[] data = TestRangeFetchers.randomBytes(1000);
+        PartChecksums parts = partsOf(data, 500, 500);
+        CorruptingFetcher fetcher = new CorruptingFetcher(data);
+        fetcher.corruptStart = 700;
+        fetcher.numCorruptions.set(Integer.MAX_VALUE);
+        try {
+            new VerifyingRangeFetcher(fetcher, fetcher, parts).fetch(0, 1000, new byte[1000], 0);
+            Assert.fail("Expected verification to fail");
+        } catch (IOException e) {
+            Assert.assertTrue(e.getMessage().startsWith("MD5 of part 2 does not match"));
+        }
+        Assert.assertEquals(1 + VerifyingRangeFetcher.MAX_REFETCHES, fetcher.requests.size());
+    }
+
+    @Test
+    public void testWholePartsOnly() throws IOException {
+        byte[] data = TestRangeFetchers.randomBytes(1000);
+        VerifyingRangeFetcher fetcher = new VerifyingRangeFetcher(new CorruptingFetcher(data),
+                new CorruptingFetcher(data), partsOf(data, 500, 500));
+        fetcher.fetch(500, 1000, new byte[500], 0);
+        fetcher.fetch(1000, 1000, new byte[0], 0);
+        try {
+            fetcher.fetch(0, 600, new byte[600], 0);
+            Assert.fail("Expected a range that ends within a later part to be rejected");
+        } catch (IllegalArgumentException e) {
+            // Expected
+        }
+    }
+
+    @Test
+    public void testChunkSchedule() {
+        byte[] data = TestRangeFetchers.randomBytes(1000);
+        // Empty parts (such as the only part of an empty file) have no chunks
+        ParallelRangeInputStream.ChunkSchedule schedule = partsOf(data, 0, 300, 700, 0).toChunkSchedule(1000);
+        Assert.assertEquals(ImmutableList.of(300, 700), ImmutableList.of(schedule.getChunkSize(0),
+                schedule.getChunkSize(1)));
+        Assert.assertEquals(1000, partsOf(data, 300, 700).getSize());
+        Assert.assertEquals(1, partsOf(data, 0).toChunkSchedule(1000).getChunkSize(0));
+
+        // Parts larger than a chunk are split into pieces
+        schedule = partsOf(data, 300, 700).toChunkSchedule(250);
+        List<Integer> sizes = Lists.newArrayList();
+        for (int i = 0; i < 5; ++i) {
+            sizes.add(schedule.getChunkSize(i));
+        }
+        Assert.assertEquals(ImmutableList.of(250, 50, 250, 250, 200), sizes);
+    }
+
+    @Test
+    public void testStreamVerifiesSplitParts() throws IOException {
+        byte[] data = TestRangeFetchers.randomBytes(10000);
+        PartChecksums parts = partsOf(data, 4000, 4000, 2000);
+        CorruptingFetcher fetcher = new CorruptingFetcher(data);
+        try (InputStream is = new ParallelRangeInputStream(new VerifyingRangeFetcher(fetcher, fetcher, parts), 0,
+                data.length, parts.toChunkSchedule(300), 4)) {
+            Assert.assertArrayEquals(data, IOUtils.toByteArray(is));
+        }
+        Assert.assertEquals(14 + 14 + 7, fetcher.requests.size());
+
+        // The first pieces of a split part have already been read by the time it is found not to
+        // match, so the stream fails
+        fetcher.corruptStart = 5000;
+        fetcher.numCorruptions.set(1);
+        try (InputStream is = new ParallelRangeInputStream(new VerifyingRangeFetcher(fetcher, fetcher, parts), 0,
+                data.length, parts.toChunkSchedule(300), 4)) {
+            IOUtils.toByteArray(is);
+            Assert.fail("Expected verification to fail");
+        } catch (IOException e) {
+            Assert.assertEquals("MD5 of part 2 does not match", e.getMessage());
+        }
+    }
+
+    @Test
+    public void testChannelRefetchesCorruptSplitPart() throws IOException {
+        byte[] data = TestRangeFetchers.randomBytes(10000);
+        PartChecksums parts = partsOf(data, 4000, 4000, 2000);
+        CorruptingFetcher fetcher = new CorruptingFetcher(data);
+        fetcher.corruptStart = 5000;
+        fetcher.numCorruptions.set(1);
+        CorruptingFetcher origin = new CorruptingFetcher(data);
+        File file = folder.newFile();
+        try (FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.READ,
+                StandardOpenOption.WRITE)) {
+            new ChannelDownloader(new VerifyingRangeFetcher(fetcher, origin, parts), channel, 0, data.length,
+                    parts.toChunkSchedule(700)).download(4);
+        }
+        Assert.assertArrayEquals(data, Files.readAllBytes(file.toPath()));
+        // The corrupt part is fetched again as a whole
+        Assert.assertEquals(6 + 6 + 3, fetcher.requests.size());
+        Assert.assertEquals(1, origin.requests.size());
+    }
+
+    @Test
+    public void testFailedPieceFailsLaterPieces() throws IOException {
+        byte[] data = TestRangeFetchers.randomBytes(1000);
+        VerifyingRangeFetcher fetcher = new VerifyingRangeFetcher(new CorruptingFetcher(data) {
+            @Override
+            public void fetch(long start, long end, byte[] buffer, int offset) throws IOException {
+                if (start == 0) {
+                    throw new IllegalStateException("Injected failure");
+                }
+                super.fetch(start, end, buffer, offset);
+            }
+        }, new CorruptingFetcher(data), partsOf(data, 1000));
+        try {
+            fetcher.fetch(0, 500, new byte[500], 0);
+            Assert.fail("Expected fetch to fail");
+        } catch (IllegalStateException e) {
+            Assert.assertEquals("Injected failure", e.getMessage());
+        }
+        // The second piece no longer waits for the first one
+        try {
+            fetcher.fetch(500, 1000, new byte[500], 0);
+            Assert.fail("Expected verification to fail");
+        } catch (IOException e) {
+            Assert.assertTrue(e.getMessage().startsWith("Part 1 cannot be verified"));
+        }
+    }
+}